@@ -61,6 +61,11 @@ dependencies {
     // Optional JSON matching support for instance conformance
     // Users who want JsonMatcher need to add this dependency to their project
     compileOnly("com.flipkart.zjsonpatch:zjsonpatch:0.4.16")
+
+    // JUnit Platform Launcher - for the spec preloading listener, which the launcher
+    // discovers via META-INF/services; always present when tests are run
+    compileOnly("org.junit.platform:junit-platform-launcher")
+
     implementation("org.apache.logging.log4j:log4j-api:2.25.3")
     runtimeOnly("org.apache.logging.log4j:log4j-core:2.25.3")
     // Bridge SLF4J to Log4j2 (some dependencies use SLF4J)
@@ -75,7 +80,7 @@ dependencies {
     testImplementation("com.tngtech.archunit:archunit-junit5:1.4.1")
     testImplementation("com.fasterxml.jackson.core:jackson-databind:2.21.0")
     testImplementation("com.flipkart.zjsonpatch:zjsonpatch:0.4.16")
-    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    testImplementation("org.junit.platform:junit-platform-launcher")
 }
 
 tasks.test {
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.io.TempDir
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
 import org.junit.jupiter.api.Assertions.assertTrue
 
 @DisplayName("PUnit Gradle Plugin")
@@ -74,6 +75,152 @@ class PunitPluginFunctionalTest {
             assertTrue(result.output.contains("experiment - Runs experiments"))
             assertTrue(result.output.contains("exp - Shorthand for 'experiment' task"))
         }
+
+        @Test
+        @DisplayName("operatingCharacteristics task is registered")
+        fun operatingCharacteristicsTaskRegistered() {
+            buildFile.writeText(buildFileWithPlugin())
+
+            val result = runner("tasks", "--all").build()
+
+            assertTrue(result.output.contains("operatingCharacteristics - Simulates false positive/negative rates"))
+        }
+
+        @Test
+        @DisplayName("shard tasks are registered when testShards is set")
+        fun shardTasksRegistered() {
+            buildFile.writeText(buildFileWithPlugin("""
+                punit {
+                    testShards.set(3)
+                }
+            """.trimIndent()))
+
+            val result = runner("tasks", "--all").build()
+
+            assertTrue(result.output.contains("planTestShards - Assigns test classes to 3 shards"))
+            assertTrue(result.output.contains("testShard3 - Runs shard 3 of 3 of the test suite"))
+            assertTrue(result.output.contains("testSharded - Runs all 3 test shards"))
+        }
+
+        @Test
+        @DisplayName("shard count defaults to the test task's maxParallelForks")
+        fun shardCountDefaultsToMaxParallelForks() {
+            buildFile.writeText(buildFileWithPlugin("""
+                tasks.test {
+                    maxParallelForks = 3
+                }
+            """.trimIndent()))
+
+            val result = runner("tasks", "--all").build()
+
+            assertTrue(result.output.contains("testSharded - Runs all 3 test shards"))
+        }
+
+        @Test
+        @DisplayName("shard tasks run the test task's suite with its settings")
+        fun shardTasksCopyTestConfiguration() {
+            buildFile.writeText(buildFileWithPlugin("""
+                punit {
+                    testShards.set(2)
+                }
+
+                tasks.test {
+                    maxHeapSize = "321m"
+                    environment("SHARD_ENV", "inherited")
+                    exclude("**/legacy/**")
+                    filter {
+                        excludeTestsMatching("*Slow*")
+                    }
+                    useJUnitPlatform {
+                        excludeTags("flaky")
+                    }
+                }
+
+                tasks.register("printShard") {
+                    doLast {
+                        val shard = tasks.getByName("testShard1") as Test
+                        val options = shard.options as org.gradle.api.tasks.testing.junitplatform.JUnitPlatformOptions
+                        println("heap=" + shard.maxHeapSize)
+                        println("env=" + shard.environment["SHARD_ENV"])
+                        println("excludes=" + shard.excludes)
+                        println("filter=" + shard.filter.excludePatterns)
+                        println("tags=" + options.excludeTags.sorted())
+                    }
+                }
+            """.trimIndent()))
+
+            val result = runner("printShard").build()
+
+            assertTrue(result.output.contains("heap=321m"))
+            assertTrue(result.output.contains("env=inherited"))
+            assertTrue(result.output.contains("**/legacy/**"))
+            assertTrue(result.output.contains("filter=[*Slow*]"))
+            assertTrue(result.output.contains("tags=[flaky, punit-experiment]"))
+        }
+
+        @Test
+        @DisplayName("testSharded warns when its shards will run one after another")
+        fun warnsWhenShardsRunSerially() {
+            buildFile.writeText(buildFileWithPlugin("""
+                punit {
+                    testShards.set(2)
+                }
+            """.trimIndent()))
+
+            val result = runner("testSharded", "--dry-run").build()
+
+            assertTrue(result.output.contains("testSharded will run its 2 shards one after another"))
+        }
+
+        @Test
+        @DisplayName("testSharded does not warn with the configuration cache")
+        fun noWarningWithConfigurationCache() {
+            buildFile.writeText(buildFileWithPlugin("""
+                punit {
+                    testShards.set(2)
+                }
+            """.trimIndent()))
+
+            val result = runner("testSharded", "--dry-run", "--configuration-cache").build()
+
+            assertFalse(result.output.contains("one after another"))
+        }
+
+        @Test
+        @DisplayName("shard tasks are not registered by default")
+        fun shardTasksNotRegisteredByDefault() {
+            buildFile.writeText(buildFileWithPlugin())
+
+            val result = runner("tasks", "--all").build()
+
+            assertFalse(result.output.contains("testSharded"))
+        }
+
+        @Test
+        @DisplayName("MEASURE shard tasks are registered with -Ppunit.measureShards")
+        fun measureShardTasksRegistered() {
+            buildFile.writeText(buildFileWithPlugin())
+
+            val result = runner("tasks", "--all", "-Ppunit.measureShards=2").build()
+
+            assertTrue(result.output.contains("experimentShard2 - Runs shard 2 of 2 of each MEASURE experiment"))
+            assertTrue(result.output.contains("mergeMeasureShards - Merges the partial baselines"))
+            assertTrue(result.output.contains("experimentSharded - Runs each MEASURE experiment in 2 worker processes"))
+            assertFalse(result.output.contains("experimentShard3"))
+        }
+
+        @Test
+        @DisplayName("malformed shard counts fail with the property name and value")
+        fun malformedShardCountsRejected() {
+            buildFile.writeText(buildFileWithPlugin())
+
+            val shards = runner("tasks", "-Ppunit.shards=four").buildAndFail()
+            val measureShards = runner("tasks", "-Ppunit.measureShards=-2").buildAndFail()
+
+            assertTrue(shards.output.contains("Property 'punit.shards' must be a non-negative integer, but was 'four'"))
+            assertTrue(measureShards.output.contains(
+                "Property 'punit.measureShards' must be a non-negative integer, but was '-2'"))
+        }
     }
 
     @Nested
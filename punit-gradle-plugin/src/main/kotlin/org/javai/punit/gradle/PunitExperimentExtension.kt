@@ -12,6 +12,9 @@ import org.gradle.api.provider.Property
  *     optimizationsDir.set("src/test/resources/punit/optimizations")
  *     configureTestTask.set(true)
  *     excludeTestSubjects.set(true)
+ *     skipUpToDateMeasures.set(true)
+ *     testShards.set(4)
+ *     measureShards.set(4)
  * }
  * ```
  */
@@ -31,4 +34,26 @@ abstract class PunitExperimentExtension {
 
     /** Whether to exclude testsubjects directories from test and experiment tasks. Default: `true` */
     abstract val excludeTestSubjects: Property<Boolean>
+
+    /**
+     * Whether the experiment tasks skip MEASURE experiments whose baseline is current: same
+     * footprint and covariates, enough samples, and not near expiry. `-Prerun` measures
+     * them anyway. Default: `true`
+     */
+    abstract val skipUpToDateMeasures: Property<Boolean>
+
+    /**
+     * Number of cost-balanced shards to split the test suite into, each run by its own
+     * `testShardN` task. Values below 2 register no shard tasks. Overridden by
+     * `-Ppunit.shards=N`. Default: the `test` task's `maxParallelForks`
+     */
+    abstract val testShards: Property<Int>
+
+    /**
+     * Number of worker processes that MEASURE experiments are split across by the
+     * `experimentSharded` task, each run by its own `experimentShardN` task and merged by
+     * `mergeMeasureShards`. Values below 2 register no shard tasks. Overridden by
+     * `-Ppunit.measureShards=N`. Default: `0`
+     */
+    abstract val measureShards: Property<Int>
 }
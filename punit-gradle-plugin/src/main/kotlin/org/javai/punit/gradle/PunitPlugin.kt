@@ -1,13 +1,21 @@
 package org.javai.punit.gradle
 
 import org.gradle.api.Action
+import org.gradle.api.GradleException
 import org.gradle.api.Plugin
 import org.gradle.api.Project
 import org.gradle.api.Task
+import org.gradle.api.configuration.BuildFeatures
 import org.gradle.api.plugins.JavaPluginExtension
+import org.gradle.api.tasks.Delete
+import org.gradle.api.tasks.JavaExec
+import org.gradle.api.tasks.TaskProvider
 import org.gradle.api.tasks.testing.Test
+import org.gradle.api.tasks.testing.junitplatform.JUnitPlatformOptions
 import org.gradle.api.tasks.testing.logging.TestExceptionFormat
 import org.gradle.api.tasks.testing.logging.TestLogEvent
+import org.gradle.process.JavaForkOptions
+import javax.inject.Inject
 
 /**
  * Gradle plugin that configures PUnit probabilistic testing tasks.
@@ -15,17 +23,29 @@ import org.gradle.api.tasks.testing.logging.TestLogEvent
  * Applies to any project using PUnit:
  * - Configures the `test` task to exclude experiment-tagged tests
  * - Registers `experiment` and `exp` tasks for running experiments
+ * - Registers an `operatingCharacteristics` task that simulates each test's error rates
+ * - Optionally splits the test suite into cost-balanced `testShardN` tasks
+ * - Optionally runs MEASURE experiments in `experimentShardN` worker processes and merges them
+ * - Skips MEASURE experiments whose baseline is up to date, unless `-Prerun` is given
  * - Forwards `punit.*` system properties and supports `-Prun=` filter syntax
  */
-class PunitPlugin : Plugin<Project> {
+abstract class PunitPlugin @Inject constructor(
+    private val buildFeatures: BuildFeatures
+) : Plugin<Project> {
 
     override fun apply(project: Project) {
+        val shardsProperty = shardCountProperty(project, "punit.shards")
         val extension = project.extensions.create("punit", PunitExperimentExtension::class.java).apply {
             specsDir.convention("src/test/resources/punit/specs")
             explorationsDir.convention("src/test/resources/punit/explorations")
             optimizationsDir.convention("src/test/resources/punit/optimizations")
             configureTestTask.convention(true)
             excludeTestSubjects.convention(true)
+            skipUpToDateMeasures.convention(true)
+            testShards.convention(project.provider {
+                shardsProperty ?: project.tasks.withType(Test::class.java).findByName("test")?.maxParallelForks ?: 0
+            })
+            measureShards.convention(shardCountProperty(project, "punit.measureShards") ?: 0)
         }
 
         project.afterEvaluate {
@@ -37,9 +57,32 @@ class PunitPlugin : Plugin<Project> {
                 "Runs experiments (mode determined from @Experiment annotation)")
             registerExperimentTask(project, extension, "exp",
                 "Shorthand for 'experiment' task")
+            registerOperatingCharacteristicsTask(project)
+
+            val shards = extension.testShards.get()
+            if (shards > 1) {
+                registerShardTasks(project, extension, shards)
+            }
+
+            val measureShards = extension.measureShards.get()
+            if (measureShards > 1) {
+                registerMeasureShardTasks(project, extension, measureShards)
+            }
         }
     }
 
+    /**
+     * Reads a shard count given with `-P<name>=N`, or null if the property is not set.
+     */
+    private fun shardCountProperty(project: Project, name: String): Int? {
+        val value = project.findProperty(name)?.toString() ?: return null
+        val count = value.trim().toIntOrNull()
+        if (count == null || count < 0) {
+            throw GradleException("Property '$name' must be a non-negative integer, but was '$value'")
+        }
+        return count
+    }
+
     private fun configureTestTask(project: Project, extension: PunitExperimentExtension) {
         project.tasks.withType(Test::class.java).named("test").configure {
             useJUnitPlatform {
@@ -59,9 +102,11 @@ class PunitPlugin : Plugin<Project> {
         project: Project,
         extension: PunitExperimentExtension,
         taskName: String,
-        taskDescription: String
-    ) {
-        project.tasks.register(taskName, Test::class.java).configure {
+        taskDescription: String,
+        reportOutputs: Boolean = true
+    ): TaskProvider<Test> {
+        val task = project.tasks.register(taskName, Test::class.java)
+        task.configure {
             description = taskDescription
             group = "verification"
 
@@ -104,6 +149,10 @@ class PunitPlugin : Plugin<Project> {
             // Deactivate @Disabled so experiments can run
             systemProperty("junit.jupiter.conditions.deactivate", "org.junit.*DisabledCondition")
 
+            // MEASURE experiments whose baseline is current are reported as up to date, unless -Prerun
+            val skipUpToDate = extension.skipUpToDateMeasures.get() && !project.hasProperty("rerun")
+            systemProperty("punit.measure.skipUpToDate", skipUpToDate.toString())
+
             ignoreFailures = true
 
             if (extension.excludeTestSubjects.get()) {
@@ -115,6 +164,10 @@ class PunitPlugin : Plugin<Project> {
             forwardPunitSystemProperties(this)
             applyRunFilter(project, this)
 
+            if (!reportOutputs) {
+                return@configure
+            }
+
             // Track start time to detect which directories received output
             var startTime = 0L
             doFirst {
@@ -152,9 +205,227 @@ class PunitPlugin : Plugin<Project> {
                 }
             }
         }
+        return task
+    }
+
+    private fun registerOperatingCharacteristicsTask(project: Project) {
+        project.tasks.register("operatingCharacteristics", JavaExec::class.java).configure {
+            description = "Simulates false positive/negative rates and expected samples of each probabilistic test"
+            group = "verification"
+
+            val testSourceSet = project.extensions
+                .getByType(JavaPluginExtension::class.java)
+                .sourceSets.getByName("test")
+
+            classpath = testSourceSet.runtimeClasspath
+            mainClass.set("org.javai.punit.ptest.simulation.OperatingCharacteristicsCli")
+
+            // -Pruns=, -Pdegradation= and -Pseed= are passed through to the simulator
+            val options = listOf("runs", "degradation", "seed")
+                .mapNotNull { name -> (project.findProperty(name) as String?)?.let { listOf("--$name", it) } }
+                .flatten()
+            args(options)
+            args(testSourceSet.output.classesDirs.files.map { it.absolutePath })
+
+            dependsOn("compileTestJava", "processTestResources")
+
+            forwardPunitSystemProperties(this)
+        }
+    }
+
+    /**
+     * Gradle gives test classes to forks in discovery order, so one slow fork can hold
+     * all the expensive tests. Instead, `planTestShards` estimates each class's cost from
+     * its annotations and baseline specs and bin-packs the classes into shards; each
+     * `testShardN` task runs the `test` task's suite, as configured on `test`, with a
+     * discovery filter that keeps only its shard. Each shard is one fork, so the shards
+     * take the place of `maxParallelForks`. Gradle runs tasks of one project concurrently
+     * only with the configuration cache; without it the shards run one after another,
+     * and `testSharded` warns. The shards can also be spread across CI jobs.
+     */
+    private fun registerShardTasks(project: Project, extension: PunitExperimentExtension, shards: Int) {
+        val testSourceSet = project.extensions
+            .getByType(JavaPluginExtension::class.java)
+            .sourceSets.getByName("test")
+        val planFile = project.layout.buildDirectory.file("punit/shard-plan.txt").get().asFile
+
+        val plan = project.tasks.register("planTestShards", JavaExec::class.java)
+        plan.configure {
+            description = "Assigns test classes to $shards shards, balanced by estimated cost"
+            group = "verification"
+
+            classpath = testSourceSet.runtimeClasspath
+            mainClass.set("org.javai.punit.ptest.shard.ShardPlanCli")
+            args("--shards", shards.toString(), "--output", planFile.absolutePath)
+            (project.findProperty("defaultSampleMs") as String?)?.let { args("--default-sample-ms", it) }
+            if (extension.excludeTestSubjects.get()) {
+                args("--exclude-package", "testsubjects")
+            }
+            args(testSourceSet.output.classesDirs.files.map { it.absolutePath })
+
+            inputs.files(testSourceSet.runtimeClasspath)
+            outputs.file(planFile)
+
+            dependsOn("compileTestJava", "processTestResources")
+
+            forwardPunitSystemProperties(this)
+        }
+
+        val test = project.tasks.withType(Test::class.java).getByName("test")
+        val shardTasks = (1..shards).map { index ->
+            project.tasks.register("testShard$index", Test::class.java).apply {
+                configure {
+                    description = "Runs shard $index of $shards of the test suite"
+                    group = "verification"
+
+                    copyTestConfiguration(test, this)
+                    useJUnitPlatform {
+                        excludeTags("punit-experiment")
+                    }
+
+                    if (extension.excludeTestSubjects.get()) {
+                        exclude("**/testsubjects/**")
+                    }
+
+                    systemProperty("punit.shard.plan", planFile.absolutePath)
+                    systemProperty("punit.shard.index", index.toString())
+                    inputs.file(planFile)
+
+                    dependsOn(plan)
+
+                    forwardPunitSystemProperties(this)
+                    applyRunFilter(project, this)
+                }
+            }
+        }
+
+        val sharded = project.tasks.register("testSharded")
+        sharded.configure {
+            description = "Runs all $shards test shards"
+            group = "verification"
+            dependsOn(shardTasks)
+        }
+
+        if (!buildFeatures.configurationCache.active.get()) {
+            project.gradle.taskGraph.whenReady {
+                if (hasTask(sharded.get())) {
+                    project.logger.warn("testSharded will run its $shards shards one after another, because " +
+                        "Gradle runs tasks of one project in parallel only with the configuration cache. " +
+                        "Run with --configuration-cache to run them concurrently.")
+                }
+            }
+        }
+    }
+
+    /**
+     * Gives a shard task the suite and fork settings of the `test` task, so a sharded run
+     * executes the same tests in the same way. `maxParallelForks` is not copied: the
+     * shards replace the forks.
+     */
+    private fun copyTestConfiguration(from: Test, to: Test) {
+        to.testClassesDirs = from.testClassesDirs
+        to.classpath = from.classpath
+        to.setIncludes(from.includes)
+        to.setExcludes(from.excludes)
+        from.filter.includePatterns.forEach { to.filter.includeTestsMatching(it) }
+        from.filter.excludePatterns.forEach { to.filter.excludeTestsMatching(it) }
+        to.filter.isFailOnNoMatchingTests = from.filter.isFailOnNoMatchingTests
+
+        val options = from.options
+        if (options is JUnitPlatformOptions) {
+            to.useJUnitPlatform {
+                includeTags(*options.includeTags.toTypedArray())
+                excludeTags(*options.excludeTags.toTypedArray())
+                includeEngines(*options.includeEngines.toTypedArray())
+                excludeEngines(*options.excludeEngines.toTypedArray())
+            }
+        }
+
+        to.javaLauncher.set(from.javaLauncher)
+        to.jvmArgs(from.jvmArgs ?: emptyList<String>())
+        to.jvmArgumentProviders.addAll(from.jvmArgumentProviders)
+        to.systemProperties(from.systemProperties)
+        to.environment(from.environment)
+        to.minHeapSize = from.minHeapSize
+        to.maxHeapSize = from.maxHeapSize
+        to.enableAssertions = from.enableAssertions
+        to.defaultCharacterEncoding = from.defaultCharacterEncoding
+        to.workingDir = from.workingDir
+        to.forkEvery = from.forkEvery
+        to.ignoreFailures = from.ignoreFailures
+        to.failFast = from.failFast
+
+        to.testLogging.events = from.testLogging.events
+        to.testLogging.exceptionFormat = from.testLogging.exceptionFormat
+        to.testLogging.showExceptions = from.testLogging.showExceptions
+        to.testLogging.showCauses = from.testLogging.showCauses
+        to.testLogging.showStackTraces = from.testLogging.showStackTraces
+        to.testLogging.showStandardStreams = from.testLogging.showStandardStreams
+    }
+
+    /**
+     * A MEASURE experiment with thousands of paced samples is bound by the rate limit
+     * and latency of one process. Each `experimentShardN` task runs the MEASURE
+     * experiments with `-Dpunit.measure.shard=N/K`: the worker runs its block of the
+     * sample numbers with its share of the `@Pacing` limits, and writes a partial
+     * baseline to the shard directory. `mergeMeasureShards` then combines the partials
+     * into the specs. The shard tasks can also run as separate CI jobs, as long as
+     * their shard directories are gathered before merging.
+     */
+    private fun registerMeasureShardTasks(project: Project, extension: PunitExperimentExtension, shards: Int) {
+        val testSourceSet = project.extensions
+            .getByType(JavaPluginExtension::class.java)
+            .sourceSets.getByName("test")
+        val shardDir = project.layout.buildDirectory.dir("punit/measure-shards").get().asFile
+
+        val clean = project.tasks.register("cleanMeasureShards", Delete::class.java)
+        clean.configure {
+            description = "Deletes partial baselines left by earlier sharded MEASURE runs"
+            group = "verification"
+            delete(shardDir)
+        }
+
+        val shardTasks = (1..shards).map { index ->
+            registerExperimentTask(project, extension, "experimentShard$index",
+                "Runs shard $index of $shards of each MEASURE experiment", reportOutputs = false).apply {
+                configure {
+                    // Only MEASURE experiments are split; the others would run once per shard
+                    useJUnitPlatform {
+                        includeTags = mutableSetOf("punit-measure")
+                    }
+                    reports {
+                        html.outputLocation.set(project.layout.buildDirectory.dir("reports/experiment-shard$index"))
+                        junitXml.outputLocation.set(project.layout.buildDirectory.dir("experiment-results/shard$index"))
+                    }
+
+                    systemProperty("punit.measure.shard", "$index/$shards")
+                    systemProperty("punit.measure.shardDir", shardDir.absolutePath)
+
+                    mustRunAfter(clean)
+                }
+            }
+        }
+
+        val merge = project.tasks.register("mergeMeasureShards", JavaExec::class.java)
+        merge.configure {
+            description = "Merges the partial baselines of the MEASURE shards into specs"
+            group = "verification"
+
+            classpath = testSourceSet.runtimeClasspath
+            mainClass.set("org.javai.punit.experiment.measure.MeasureShardMergeCli")
+            args("--shard-dir", shardDir.absolutePath, "--specs-dir", project.file(extension.specsDir.get()).absolutePath)
+
+            mustRunAfter(shardTasks)
+        }
+
+        project.tasks.register("experimentSharded").configure {
+            description = "Runs each MEASURE experiment in $shards worker processes and merges their baselines"
+            group = "verification"
+            dependsOn(clean, shardTasks, merge)
+        }
     }
 
-    private fun forwardPunitSystemProperties(task: Test) {
+    private fun forwardPunitSystemProperties(task: JavaForkOptions) {
         System.getProperties()
             .filter { (k, _) -> k.toString().startsWith("punit.") }
             .forEach { (k, v) -> task.systemProperty(k.toString(), v.toString()) }
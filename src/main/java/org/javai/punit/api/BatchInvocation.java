@@ -0,0 +1,61 @@
+package org.javai.punit.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the batch method of a use case.
+ *
+ * <p>Many LLM and ML serving providers offer batch endpoints that are cheaper and
+ * faster than the same number of single calls. A use case exposes such an endpoint
+ * through a method that takes a list of inputs and returns one
+ * {@link org.javai.punit.contract.UseCaseOutcome} per input, in the same order.
+ *
+ * <p>When a {@link ProbabilisticTest} or {@link MeasureExperiment} declares a
+ * {@code batchSize} and an {@link InputSource}, PUnit groups the inputs of the next
+ * {@code batchSize} samples into one call to this method, then hands each sample its
+ * own outcome through a {@code UseCaseOutcome} parameter.
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * @UseCase
+ * public class ShoppingUseCase {
+ *
+ *     @BatchInvocation(maxBatchSize = 20)
+ *     public List<UseCaseOutcome<String>> translateAll(List<String> instructions) {
+ *         return UseCaseOutcome
+ *             .withContract(CONTRACT)
+ *             .inputs(instructions)
+ *             .executeBatch(llm::chatBatch)
+ *             .attribute("tokensUsed", llm.getLastTokensUsed())
+ *             .build();
+ *     }
+ * }
+ *
+ * @MeasureExperiment(useCase = ShoppingUseCase.class, samples = 1000, batchSize = 20)
+ * @InputSource("instructions")
+ * void measure(String instruction, UseCaseOutcome<String> outcome, OutcomeCaptor captor) {
+ *     captor.record(outcome);
+ * }
+ * }</pre>
+ *
+ * <p>A use case may declare at most one batch method.
+ *
+ * @see org.javai.punit.contract.UseCaseOutcome.BatchMetadataBuilder
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BatchInvocation {
+
+    /**
+     * Largest batch the provider accepts.
+     *
+     * <p>Caps the {@code batchSize} requested by a test or experiment.
+     * 0 = no provider limit. Default: 0.
+     *
+     * @return the maximum batch size, or 0 for no limit
+     */
+    int maxBatchSize() default 0;
+}
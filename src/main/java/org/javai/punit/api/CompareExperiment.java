@@ -0,0 +1,146 @@
+package org.javai.punit.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.javai.punit.experiment.engine.ExperimentExtension;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Marks a method as a COMPARE experiment that runs a baseline and a candidate
+ * configuration of a use case side by side and decides which is better.
+ *
+ * <p>The {@link FactorSource} must supply exactly two configurations: the first is
+ * the baseline, the second the candidate. Each pair runs both configurations, one
+ * after the other, on the same input. After every few pairs the paired outcomes are
+ * tested (exact McNemar test), and the experiment stops as soon as the candidate is
+ * shown to be better or worse — or, when a {@link #margin()} is set, equivalent
+ * within that margin.
+ *
+ * <h2>When to Use COMPARE</h2>
+ * <ul>
+ *   <li>To decide whether a model upgrade or prompt change is an improvement</li>
+ *   <li>Instead of two MEASURE experiments whose specs are compared by hand</li>
+ * </ul>
+ *
+ * <p>Running both arms on the same input removes input difficulty from the comparison,
+ * so a difference is usually established with far fewer samples than two independent
+ * measurements would need.
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * @CompareExperiment(useCase = ShoppingUseCase.class, samples = 400, margin = 0.02)
+ * @FactorSource("upgrade")
+ * @InputSource("queries")
+ * void compareModels(ShoppingUseCase useCase, String query, OutcomeCaptor captor) {
+ *     captor.record(useCase.searchProducts(query));
+ * }
+ *
+ * static Stream<FactorArguments> upgrade() {
+ *     return FactorArguments.configurations()
+ *         .names("model")
+ *         .values("gpt-4o")         // baseline
+ *         .values("gpt-4.1")        // candidate
+ *         .stream();
+ * }
+ * }</pre>
+ *
+ * <h2>Output</h2>
+ * <p>Produces a comparison report at:
+ * {@code src/test/resources/punit/comparisons/{UseCaseId}/{experimentId}_YYYYMMDD_HHMMSS.yaml}
+ *
+ * @see ExploreExperiment
+ * @see FactorSource
+ * @see InputSource
+ * @see OutcomeCaptor
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@TestTemplate
+@ExtendWith(ExperimentExtension.class)
+@Tag("punit-experiment")
+public @interface CompareExperiment {
+
+    /**
+     * The use case class to execute.
+     *
+     * <p>The use case instance is obtained from a {@link UseCaseProvider} registered
+     * as a JUnit extension. The provider receives each arm's factor values before
+     * the use case is resolved.
+     *
+     * @return the use case class
+     */
+    Class<?> useCase() default Void.class;
+
+    /**
+     * Maximum number of pairs to run.
+     *
+     * <p>Each pair runs two samples, one per arm. The experiment usually stops earlier,
+     * once a verdict is reached.
+     *
+     * <p>Default: 0 (uses mode default of 500).
+     *
+     * @return the maximum number of pairs
+     */
+    int samples() default 0;
+
+    /**
+     * Equivalence margin on the difference in pass rates.
+     *
+     * <p>When positive, the experiment also stops once the difference is shown to lie
+     * within ±margin. 0 = test for a difference only. Default: 0.
+     *
+     * @return the equivalence margin (0 to 1)
+     */
+    double margin() default 0.0;
+
+    /**
+     * Overall confidence level of the verdict.
+     *
+     * <p>The error rate (1 − confidence) is shared across the interim looks.
+     * Default: 0.95.
+     *
+     * @return the confidence level
+     */
+    double confidence() default 0.95;
+
+    /**
+     * Maximum wall-clock time budget in milliseconds.
+     *
+     * <p>0 = unlimited. Default: 0.
+     *
+     * @return the time budget in milliseconds
+     */
+    long timeBudgetMs() default 0;
+
+    /**
+     * Maximum token budget across both arms.
+     *
+     * <p>0 = unlimited. Default: 0.
+     *
+     * @return the token budget
+     */
+    long tokenBudget() default 0;
+
+    /**
+     * Maximum wall-clock time in milliseconds for a single sample.
+     *
+     * <p>A sample that exceeds this limit is interrupted and recorded as a failure.
+     * 0 = no per-sample limit. Default: 0.
+     *
+     * @return the per-sample timeout in milliseconds
+     */
+    long sampleTimeoutMs() default 0;
+
+    /**
+     * Unique identifier for this experiment.
+     *
+     * <p>Used as part of output file naming.
+     *
+     * @return the experiment ID
+     */
+    String experimentId() default "";
+}
@@ -25,6 +25,7 @@ package org.javai.punit.api;
  * @see MeasureExperiment
  * @see ExploreExperiment
  * @see OptimizeExperiment
+ * @see CompareExperiment
  * @see FactorSource
  */
 public enum ExperimentMode {
@@ -130,7 +131,26 @@ public enum ExperimentMode {
      *
      * @see org.javai.punit.api.OptimizeExperiment
      */
-    OPTIMIZE(20);
+    OPTIMIZE(20),
+
+    /**
+     * COMPARE decides whether a candidate configuration is better than a baseline.
+     *
+     * <p>Use {@link CompareExperiment} when you want to:
+     * <ul>
+     *   <li>Decide whether a model upgrade or prompt change is an improvement</li>
+     *   <li>Show that a cheaper configuration is as good as the current one</li>
+     * </ul>
+     *
+     * <h3>Typical Configuration</h3>
+     * <ul>
+     *   <li><b>Max pairs:</b> 500 (default); usually stops much earlier</li>
+     *   <li><b>Output:</b> Comparison report in {@code src/test/resources/punit/comparisons/}</li>
+     * </ul>
+     *
+     * @see org.javai.punit.api.CompareExperiment
+     */
+    COMPARE(500);
 
     /**
      * The default number of samples for this mode when not explicitly specified.
@@ -0,0 +1,31 @@
+package org.javai.punit.api;
+
+/**
+ * The order in which a {@link ProbabilisticTest} uses the inputs of its {@link InputSource}.
+ *
+ * <p>Samples still cycle through every input, so the ordering changes which inputs
+ * run first (and, when samples is not a multiple of the input count, which inputs
+ * receive the remainder) but not how often each input is used.
+ */
+public enum InputOrder {
+
+    /**
+     * Inputs are used in the order the source declares them.
+     */
+    DECLARED,
+
+    /**
+     * Inputs with the highest historical failure rate are used first.
+     *
+     * <p>Per-input pass/fail counts are kept in an input history file, keyed by a
+     * hash of each input's content. MEASURE experiments always contribute to the
+     * history of their use case; tests using this order contribute their own runs.
+     * Inputs without history are treated as a coin flip, so new inputs run before
+     * inputs that have reliably passed.
+     *
+     * <p>Because early termination by impossibility fires once enough failures have
+     * been seen, a regressing build fails after fewer samples. A healthy build still
+     * runs every input, so its verdict is not affected.
+     */
+    FAILURES_FIRST
+}
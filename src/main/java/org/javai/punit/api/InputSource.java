@@ -64,6 +64,25 @@ import java.lang.annotation.Target;
  *   <li>Remainders are distributed to early inputs</li>
  * </ul>
  *
+ * <h2>Stratified Sampling</h2>
+ * <p>When input difficulty varies widely, a {@link ProbabilisticTest} can treat groups
+ * of inputs as strata instead of one population:
+ * <pre>{@code
+ * record TranslationInput(String category, String instruction) {}
+ *
+ * @ProbabilisticTest(samples = 300, minPassRate = 0.9)
+ * @InputSource(value = "goldenInputs", stratumKey = "category")
+ * void translate(ShoppingBasketUseCase useCase, TranslationInput input) { ... }
+ * }</pre>
+ * <p>Each stratum is weighted by its share of the inputs. Samples are allocated
+ * adaptively, giving more samples to strata whose outcome is least certain, and the
+ * verdict uses the stratified pass-rate estimate.
+ *
+ * <h2>Failure-First Ordering</h2>
+ * <p>With {@code order = InputOrder.FAILURES_FIRST}, a {@link ProbabilisticTest} runs the
+ * inputs that failed most often in previous runs first, so a regression is detected
+ * (and the test terminated early) after fewer samples. See {@link InputOrder}.
+ *
  * @see MeasureExperiment
  * @see ExploreExperiment
  * @see ProbabilisticTest
@@ -102,4 +121,35 @@ public @interface InputSource {
      * @return the classpath resource path, or empty string if using method source
      */
     String file() default "";
+
+    /**
+     * Enables stratified sampling with one stratum per input.
+     *
+     * <p>Implied when {@link #stratumKey()} is set. Supported by
+     * {@link ProbabilisticTest} only.
+     *
+     * @return true to sample inputs by stratum
+     */
+    boolean stratified() default false;
+
+    /**
+     * Groups inputs into strata by the named property of each input.
+     *
+     * <p>The property is read from a record component, a no-argument method
+     * (either {@code key()} or {@code getKey()}), a field, or a {@code Map} entry.
+     * Inputs with equal values share a stratum.
+     *
+     * @return the property name, or empty for no grouping
+     */
+    String stratumKey() default "";
+
+    /**
+     * The order in which inputs are used.
+     *
+     * <p>Supported by {@link ProbabilisticTest} only; cannot be combined with
+     * stratified sampling, which chooses inputs itself.
+     *
+     * @return the input order
+     */
+    InputOrder order() default InputOrder.DECLARED;
 }
@@ -51,6 +51,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 @TestTemplate
 @ExtendWith(ExperimentExtension.class)
 @Tag("punit-experiment")
+@Tag("punit-measure")
 public @interface MeasureExperiment {
 
     /**
@@ -97,6 +98,29 @@ public @interface MeasureExperiment {
      */
     long tokenBudget() default 0;
 
+    /**
+     * Maximum wall-clock time in milliseconds for a single sample.
+     *
+     * <p>A sample that exceeds this limit is interrupted and recorded as a
+     * failure in the {@code timeout} category; the experiment continues.
+     * 0 = no per-sample limit. Default: 0.
+     *
+     * @return the per-sample timeout in milliseconds
+     */
+    long sampleTimeoutMs() default 0;
+
+    /**
+     * Number of consecutive samples to send to the use case's batch endpoint in one call.
+     *
+     * <p>Requires the use case to declare a {@link BatchInvocation @BatchInvocation}
+     * method and the experiment method to declare an {@link InputSource @InputSource}.
+     * Each sample receives its own outcome through a {@code UseCaseOutcome} parameter.
+     * 0 = no batching. Default: 0.
+     *
+     * @return the batch size, or 0 for one call per sample
+     */
+    int batchSize() default 0;
+
     /**
      * Unique identifier for this experiment.
      *
@@ -126,4 +150,24 @@ public @interface MeasureExperiment {
      * @return validity period in days, or 0 for no expiration
      */
     int expiresInDays() default 0;
+
+    /**
+     * Whether to add this run's samples to the existing baseline instead of replacing it.
+     *
+     * <p>When true, the experiment runs {@link #samples()} additional samples and merges
+     * them into the existing baseline with the same footprint and covariate profile:
+     * counts, failure distribution, postcondition counts and cost figures are summed
+     * and the statistics recomputed. The spec records each merged run under
+     * {@code accumulatedRuns}. If no compatible baseline exists, a new one is written.
+     *
+     * <p>To tighten a 1,000-sample baseline to 5,000 samples, run with
+     * {@code samples = 4000, append = true}.
+     *
+     * <p>Can be overridden with {@code -Dpunit.measure.append=true|false}.
+     *
+     * <p><b>Default: false</b>
+     *
+     * @return true to accumulate into the existing baseline
+     */
+    boolean append() default false;
 }
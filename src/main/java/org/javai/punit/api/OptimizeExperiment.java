@@ -276,6 +276,17 @@ public @interface OptimizeExperiment {
      */
     long tokenBudget() default 0;
 
+    /**
+     * Maximum wall-clock time in milliseconds for a single sample.
+     *
+     * <p>A sample that exceeds this limit is interrupted and recorded as a
+     * failure in the {@code timeout} category; the experiment continues.
+     * 0 = no per-sample limit. Default: 0.
+     *
+     * @return the per-sample timeout in milliseconds
+     */
+    long sampleTimeoutMs() default 0;
+
     /**
      * Unique identifier for this experiment.
      *
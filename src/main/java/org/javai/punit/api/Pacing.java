@@ -82,6 +82,22 @@ import java.lang.annotation.Target;
  * ) { ... }
  * }</pre>
  *
+ * <h2>Shared Pools</h2>
+ * <p>By default, pacing constraints apply to a single test method. When several
+ * tests or experiments call the same endpoint, their individual limits add up.
+ * Naming a {@link #pool()} makes every member draw from one JVM-wide limiter,
+ * so the provider sees the pool's rate rather than the sum of the members':
+ *
+ * <pre>{@code
+ * @ProbabilisticTest(samples = 100)
+ * @Pacing(pool = "openai-gpt4", maxRequestsPerMinute = 60)
+ * void classifiesIntent() { ... }
+ *
+ * @MeasureExperiment(useCase = ShoppingUseCase.class)
+ * @Pacing(pool = "openai-gpt4", maxRequestsPerMinute = 60)
+ * void measureBaseline(OutcomeCaptor captor) { ... }
+ * }</pre>
+ *
  * <h3>Time budget and pacing interaction:</h3>
  * <p>If the total pacing delay would exceed the configured time budget,
  * a warning is logged at experiment start. The experiment proceeds but
@@ -166,5 +182,24 @@ public @interface Pacing {
      * @return the minimum delay in milliseconds, or 0 for no delay
      */
     long minMsPerSample() default 0;
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // SHARED POOL
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Name of a shared pacing pool.
+     * Empty = pacing applies to this method only (default).
+     *
+     * <p>All tests and experiments naming the same pool share a single limiter.
+     * The pool's interval is the most restrictive interval declared by any of
+     * its members, and it applies to the combined request stream.
+     *
+     * <p>Pools are JVM-wide. To extend a pool across Gradle forks, set
+     * {@code punit.pacing.poolDir} to a directory shared by the forks.
+     *
+     * @return the pool name, or empty for method-local pacing
+     */
+    String pool() default "";
 }
 
@@ -221,6 +221,26 @@ public @interface ProbabilisticTest {
      */
     long timeBudgetMs() default 0;
 
+    /**
+     * Maximum wall-clock time in milliseconds for a single sample.
+     * 0 = no per-sample limit. Default: 0.
+     *
+     * <p>When set, each sample runs under a watchdog. A sample that exceeds the
+     * limit is interrupted and counted as a failed sample (failure category
+     * {@code timeout}); the test then continues with the next sample. This keeps
+     * a single hung call from consuming the whole {@link #timeBudgetMs()}.
+     *
+     * <p>Cancellation is cooperative: the sample thread is interrupted, which
+     * unblocks sleeps, blocking I/O and most HTTP clients. Timeouts are never
+     * subject to {@link #onException()}.
+     *
+     * <p>Can be overridden with {@code -Dpunit.sampleTimeoutMs} or
+     * {@code PUNIT_SAMPLE_TIMEOUT_MS}.
+     *
+     * @return the per-sample timeout in milliseconds, or 0 for none
+     */
+    long sampleTimeoutMs() default 0;
+
     /**
      * Token charge per sample invocation (static mode).
      * Must be ≥ 0. Default: 0 (no static token charging).
@@ -356,6 +376,25 @@ public @interface ProbabilisticTest {
      */
     Class<?> useCase() default Void.class;
 
+    // ═══════════════════════════════════════════════════════════════════════════
+    // BATCH INVOCATION
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Number of consecutive samples to send to the use case's batch endpoint in one call.
+     * 0 = no batching. Default: 0.
+     *
+     * <p>Requires {@link #useCase()} to declare a
+     * {@link BatchInvocation @BatchInvocation} method and the test method to declare an
+     * {@link InputSource @InputSource}. The inputs of each group of {@code batchSize}
+     * samples are sent in one call, and each sample receives its own outcome through a
+     * {@code UseCaseOutcome} parameter. The size is capped by the use case's
+     * {@link BatchInvocation#maxBatchSize()}.
+     *
+     * @return the batch size, or 0 for one call per sample
+     */
+    int batchSize() default 0;
+
     // ═══════════════════════════════════════════════════════════════════════════
     // INTENT DECLARATION
     // ═══════════════════════════════════════════════════════════════════════════
@@ -2,7 +2,9 @@ package org.javai.punit.contract;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +58,19 @@ import org.javai.punit.contract.match.VerificationMatcher.MatchResult;
  * }
  * }</pre>
  *
+ * <h2>Batch Execution</h2>
+ * <p>For services with a batch endpoint, one call can produce an outcome per input:
+ * <pre>{@code
+ * return UseCaseOutcome
+ *     .withContract(CONTRACT)
+ *     .inputs(instructions)
+ *     .executeBatch(llm::chatBatch)
+ *     .attribute("tokensUsed", llm.getLastTokensUsed())
+ *     .build();
+ * }</pre>
+ * <p>Each outcome's execution time is the batch time divided by the batch size, and
+ * attributed metadata is split evenly across the items.
+ *
  * @param result the raw result from the service
  * @param executionTime the duration of the service execution
  * @param metadata arbitrary key-value metadata (e.g., token counts)
@@ -333,6 +348,169 @@ public record UseCaseOutcome<R>(
         public ExecuteBuilder<I, R> input(I input) {
             return new ExecuteBuilder<>(contract, input);
         }
+
+        /**
+         * Provides a batch of inputs to a service with a batch endpoint.
+         *
+         * @param inputs the input values, in order
+         * @return a builder for executing the batch
+         * @throws IllegalArgumentException if inputs is empty
+         */
+        public BatchExecuteBuilder<I, R> inputs(List<I> inputs) {
+            Objects.requireNonNull(inputs, "inputs must not be null");
+            if (inputs.isEmpty()) {
+                throw new IllegalArgumentException("inputs must not be empty");
+            }
+            return new BatchExecuteBuilder<>(contract, List.copyOf(inputs));
+        }
+    }
+
+    /**
+     * Builder stage for executing a batch of inputs in one service call.
+     *
+     * @param <I> the input type
+     * @param <R> the result type
+     */
+    public static final class BatchExecuteBuilder<I, R> {
+
+        private final ServiceContract<I, R> contract;
+        private final List<I> inputs;
+
+        private BatchExecuteBuilder(ServiceContract<I, R> contract, List<I> inputs) {
+            this.contract = contract;
+            this.inputs = inputs;
+        }
+
+        /**
+         * Executes the batch function and captures timing.
+         *
+         * <p>The function must return exactly one result per input, in input order.
+         * The batch execution time is divided evenly across the items.
+         *
+         * @param function the batch service function to execute
+         * @return a builder for adding metadata and building the outcomes
+         * @throws IllegalStateException if the function returns the wrong number of results
+         */
+        public BatchMetadataBuilder<R> executeBatch(Function<List<I>, List<R>> function) {
+            Objects.requireNonNull(function, "function must not be null");
+
+            Instant start = Instant.now();
+            List<R> results = function.apply(inputs);
+            Duration batchTime = Duration.between(start, Instant.now());
+
+            if (results == null || results.size() != inputs.size()) {
+                throw new IllegalStateException("Batch function returned "
+                        + (results == null ? "null" : results.size() + " results")
+                        + " for " + inputs.size() + " inputs");
+            }
+            return new BatchMetadataBuilder<>(contract, results, batchTime, start);
+        }
+    }
+
+    /**
+     * Builder stage for adding metadata to, and building, the outcomes of a batch.
+     *
+     * @param <R> the result type
+     */
+    public static final class BatchMetadataBuilder<R> {
+
+        /**
+         * Metadata key recording how many items shared the service call.
+         */
+        public static final String BATCH_SIZE_KEY = "batchSize";
+
+        private final ServiceContract<?, R> contract;
+        private final List<R> results;
+        private final Duration batchTime;
+        private final Instant timestamp;
+        private final Map<String, Object> sharedMetadata = new LinkedHashMap<>();
+        private final Map<String, Long> attributedMetadata = new LinkedHashMap<>();
+        private final List<BiConsumer<R, MetadataBuilder<R>>> extractors = new ArrayList<>();
+
+        private BatchMetadataBuilder(ServiceContract<?, R> contract, List<R> results,
+                                     Duration batchTime, Instant timestamp) {
+            this.contract = contract;
+            this.results = results;
+            this.batchTime = batchTime;
+            this.timestamp = timestamp;
+        }
+
+        /**
+         * Adds metadata copied unchanged to every outcome in the batch.
+         *
+         * @param key the metadata key
+         * @param value the metadata value
+         * @return this builder
+         */
+        public BatchMetadataBuilder<R> meta(String key, Object value) {
+            Objects.requireNonNull(key, "key must not be null");
+            sharedMetadata.put(key, value);
+            return this;
+        }
+
+        /**
+         * Adds a batch-level total that is split across the outcomes.
+         *
+         * <p>Use this for quantities reported once per batch call, such as token
+         * counts. The total is divided evenly; any remainder goes to the earliest items,
+         * so the per-item values always sum to the total.
+         *
+         * @param key the metadata key
+         * @param total the batch-level total (must be &gt;= 0)
+         * @return this builder
+         * @throws IllegalArgumentException if total is negative
+         */
+        public BatchMetadataBuilder<R> attribute(String key, long total) {
+            Objects.requireNonNull(key, "key must not be null");
+            if (total < 0) {
+                throw new IllegalArgumentException("total must be >= 0, but was " + total);
+            }
+            attributedMetadata.put(key, total);
+            return this;
+        }
+
+        /**
+         * Extracts per-item metadata from each result.
+         *
+         * @param extractor a function receiving each result and its outcome's metadata builder
+         * @return this builder
+         */
+        public BatchMetadataBuilder<R> withResult(BiConsumer<R, MetadataBuilder<R>> extractor) {
+            Objects.requireNonNull(extractor, "extractor must not be null");
+            extractors.add(extractor);
+            return this;
+        }
+
+        /**
+         * Builds one outcome per input, in input order.
+         *
+         * @return the immutable outcomes
+         */
+        public List<UseCaseOutcome<R>> build() {
+            int size = results.size();
+            Duration perItem = batchTime.dividedBy(size);
+            List<UseCaseOutcome<R>> outcomes = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                R result = results.get(i);
+                MetadataBuilder<R> item = new MetadataBuilder<>(contract, result, perItem, timestamp);
+                sharedMetadata.forEach(item::meta);
+                for (Map.Entry<String, Long> entry : attributedMetadata.entrySet()) {
+                    item.meta(entry.getKey(), share(entry.getValue(), size, i));
+                }
+                item.meta(BATCH_SIZE_KEY, size);
+                for (BiConsumer<R, MetadataBuilder<R>> extractor : extractors) {
+                    extractor.accept(result, item);
+                }
+                outcomes.add(item.build());
+            }
+            return List.copyOf(outcomes);
+        }
+
+        private static long share(long total, int size, int index) {
+            long base = total / size;
+            return index < total % size ? base + 1 : base;
+        }
     }
 
     /**
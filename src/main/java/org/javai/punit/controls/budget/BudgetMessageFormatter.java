@@ -31,35 +31,65 @@ public class BudgetMessageFormatter {
         switch (reason) {
             case SUITE_TIME_BUDGET_EXHAUSTED:
                 return suiteBudget != null
-                        ? String.format("Suite time budget exhausted: %dms elapsed >= %dms budget",
-                                suiteBudget.getElapsedMs(), suiteBudget.getTimeBudgetMs())
+                        ? timeMessage("Suite", suiteBudget.getElapsedMs(), suiteBudget.getTimeBudgetMs(),
+                                suiteBudget.getSampleCosts())
                         : reason.getDescription();
             case SUITE_TOKEN_BUDGET_EXHAUSTED:
                 return suiteBudget != null
-                        ? String.format("Suite token budget exhausted: %d tokens >= %d budget",
-                                suiteBudget.getTokensConsumed(), suiteBudget.getTokenBudget())
+                        ? tokenMessage("Suite", suiteBudget.getTokensConsumed(), suiteBudget.getTokenBudget(),
+                                suiteBudget.getSampleCosts().projectedTokens())
                         : reason.getDescription();
             case CLASS_TIME_BUDGET_EXHAUSTED:
                 return classBudget != null
-                        ? String.format("Class time budget exhausted: %dms elapsed >= %dms budget",
-                                classBudget.getElapsedMs(), classBudget.getTimeBudgetMs())
+                        ? timeMessage("Class", classBudget.getElapsedMs(), classBudget.getTimeBudgetMs(),
+                                classBudget.getSampleCosts())
                         : reason.getDescription();
             case CLASS_TOKEN_BUDGET_EXHAUSTED:
                 return classBudget != null
-                        ? String.format("Class token budget exhausted: %d tokens >= %d budget",
-                                classBudget.getTokensConsumed(), classBudget.getTokenBudget())
+                        ? tokenMessage("Class", classBudget.getTokensConsumed(), classBudget.getTokenBudget(),
+                                classBudget.getSampleCosts().projectedTokens())
                         : reason.getDescription();
             case METHOD_TIME_BUDGET_EXHAUSTED:
-                return String.format("Method time budget exhausted: %dms elapsed >= %dms budget",
-                        methodBudget.getElapsedMs(), methodBudget.getTimeBudgetMs());
+                return timeMessage("Method", methodBudget.getElapsedMs(), methodBudget.getTimeBudgetMs(),
+                        methodBudget.getSampleCosts());
             case METHOD_TOKEN_BUDGET_EXHAUSTED:
-                return String.format("Method token budget exhausted: %d tokens >= %d budget",
-                        methodBudget.getTokensConsumed(), methodBudget.getTokenBudget());
+                SampleCostStatistics costs = methodBudget.getSampleCosts();
+                long projected = costs.hasObservations()
+                        ? costs.projectedTokens()
+                        : methodBudget.getStaticTokenCharge();
+                return tokenMessage("Method", methodBudget.getTokensConsumed(), methodBudget.getTokenBudget(),
+                        projected);
             default:
                 return reason.getDescription();
         }
     }
 
+    /**
+     * Describes an exhausted time budget. If the budget has not yet been reached, the
+     * termination was a forecast and the message shows the projected next sample.
+     */
+    private String timeMessage(String scope, long elapsedMs, long budgetMs, SampleCostStatistics costs) {
+        if (elapsedMs >= budgetMs || !costs.hasObservations()) {
+            return String.format("%s time budget exhausted: %dms elapsed >= %dms budget",
+                    scope, elapsedMs, budgetMs);
+        }
+        return String.format("%s time budget exhausted: %dms elapsed + ~%dms projected for next sample > %dms budget",
+                scope, elapsedMs, costs.projectedTimeMs(), budgetMs);
+    }
+
+    /**
+     * Describes an exhausted token budget. If the budget has not yet been reached, the
+     * termination was a forecast and the message shows the projected next sample.
+     */
+    private String tokenMessage(String scope, long consumed, long budget, long projected) {
+        if (consumed >= budget || projected <= 0) {
+            return String.format("%s token budget exhausted: %d tokens >= %d budget",
+                    scope, consumed, budget);
+        }
+        return String.format("%s token budget exhausted: %d tokens + ~%d projected for next sample > %d budget",
+                scope, consumed, projected, budget);
+    }
+
     /**
      * Builds a failure message for budget exhaustion scenarios.
      *
@@ -3,6 +3,7 @@ package org.javai.punit.controls.budget;
 import java.util.Optional;
 import org.javai.punit.api.BudgetExhaustedBehavior;
 import org.javai.punit.model.TerminationReason;
+import org.javai.punit.reporting.jfr.BudgetCheckEvent;
 
 /**
  * Coordinates budget checking across suite, class, and method scopes.
@@ -19,11 +20,40 @@ import org.javai.punit.model.TerminationReason;
  * <p>Budget checks follow precedence order: suite → class → method.
  * The first exhausted budget triggers termination.
  *
+ * <p>Under {@link BudgetPolicy#FORECAST}, the pre-sample check at each scope also
+ * refuses a sample whose projected cost would exceed that scope's remaining budget.
+ *
+ * <p>Each check is recorded as a {@link BudgetCheckEvent} in flight recordings.
+ *
  * <p>Public to allow access from strategy implementations.
  */
 public class BudgetOrchestrator {
 
     private final BudgetMessageFormatter messageFormatter = new BudgetMessageFormatter();
+    private final BudgetPolicy policy;
+
+    /**
+     * Creates an orchestrator using the policy configured for the run.
+     */
+    public BudgetOrchestrator() {
+        this(BudgetPolicy.resolve());
+    }
+
+    /**
+     * Creates an orchestrator with the given policy.
+     *
+     * @param policy the budget policy
+     */
+    public BudgetOrchestrator(BudgetPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * @return the budget policy in effect
+     */
+    public BudgetPolicy getPolicy() {
+        return policy;
+    }
 
     /**
      * Result of a budget check operation.
@@ -58,6 +88,9 @@ public class BudgetOrchestrator {
      *   <li>Method-level token budget (pre-sample check)</li>
      * </ol>
      *
+     * <p>Under {@link BudgetPolicy#FORECAST}, each scope's forecast is checked
+     * after its own time and token budgets.
+     *
      * @param suiteBudget the suite-level budget monitor (may be null)
      * @param classBudget the class-level budget monitor (may be null)
      * @param methodBudget the method-level budget monitor
@@ -67,6 +100,16 @@ public class BudgetOrchestrator {
             SharedBudgetMonitor suiteBudget,
             SharedBudgetMonitor classBudget,
             CostBudgetMonitor methodBudget) {
+        BudgetCheckEvent event = BudgetCheckEvent.start();
+        BudgetCheckResult result = evaluateBeforeSample(suiteBudget, classBudget, methodBudget);
+        complete(event, BudgetCheckEvent.BEFORE_SAMPLE, methodBudget, result);
+        return result;
+    }
+
+    private BudgetCheckResult evaluateBeforeSample(
+            SharedBudgetMonitor suiteBudget,
+            SharedBudgetMonitor classBudget,
+            CostBudgetMonitor methodBudget) {
 
         // 1. Suite-level budgets
         if (suiteBudget != null) {
@@ -75,6 +118,11 @@ public class BudgetOrchestrator {
 
             reason = suiteBudget.checkTokenBudget();
             if (reason.isPresent()) return BudgetCheckResult.exhausted(reason.get());
+
+            if (policy == BudgetPolicy.FORECAST) {
+                reason = suiteBudget.checkForecast();
+                if (reason.isPresent()) return BudgetCheckResult.exhausted(reason.get());
+            }
         }
 
         // 2. Class-level budgets
@@ -84,6 +132,11 @@ public class BudgetOrchestrator {
 
             reason = classBudget.checkTokenBudget();
             if (reason.isPresent()) return BudgetCheckResult.exhausted(reason.get());
+
+            if (policy == BudgetPolicy.FORECAST) {
+                reason = classBudget.checkForecast();
+                if (reason.isPresent()) return BudgetCheckResult.exhausted(reason.get());
+            }
         }
 
         // 3. Method-level budgets
@@ -93,6 +146,11 @@ public class BudgetOrchestrator {
         reason = methodBudget.checkTokenBudgetBeforeSample();
         if (reason.isPresent()) return BudgetCheckResult.exhausted(reason.get());
 
+        if (policy == BudgetPolicy.FORECAST) {
+            reason = methodBudget.checkForecastBeforeSample();
+            if (reason.isPresent()) return BudgetCheckResult.exhausted(reason.get());
+        }
+
         return BudgetCheckResult.ok();
     }
 
@@ -111,6 +169,16 @@ public class BudgetOrchestrator {
             SharedBudgetMonitor suiteBudget,
             SharedBudgetMonitor classBudget,
             CostBudgetMonitor methodBudget) {
+        BudgetCheckEvent event = BudgetCheckEvent.start();
+        BudgetCheckResult result = evaluateAfterSample(suiteBudget, classBudget, methodBudget);
+        complete(event, BudgetCheckEvent.AFTER_SAMPLE, methodBudget, result);
+        return result;
+    }
+
+    private BudgetCheckResult evaluateAfterSample(
+            SharedBudgetMonitor suiteBudget,
+            SharedBudgetMonitor classBudget,
+            CostBudgetMonitor methodBudget) {
 
         // Check in order: suite → class → method
         if (suiteBudget != null) {
@@ -129,6 +197,15 @@ public class BudgetOrchestrator {
         return BudgetCheckResult.ok();
     }
 
+    private void complete(BudgetCheckEvent event, String phase, CostBudgetMonitor methodBudget,
+            BudgetCheckResult result) {
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.complete(phase, policy.name(), methodBudget.getElapsedMs(), methodBudget.getTokensConsumed(),
+                result.terminationReason().map(TerminationReason::name).orElse(null));
+    }
+
     /**
      * Records tokens and propagates consumption to all active scopes.
      *
@@ -174,6 +251,33 @@ public class BudgetOrchestrator {
         return sampleTokens;
     }
 
+    /**
+     * Records a completed sample's cost in the forecasting statistics of all active scopes.
+     *
+     * <p>Called under every policy, so the projections are available for reporting.
+     *
+     * @param sampleTokens the tokens consumed by the sample
+     * @param sampleTimeMs the sample's execution time in milliseconds
+     * @param methodBudget the method-level budget monitor
+     * @param classBudget the class-level budget monitor (may be null)
+     * @param suiteBudget the suite-level budget monitor (may be null)
+     */
+    public void recordSampleCost(
+            long sampleTokens,
+            long sampleTimeMs,
+            CostBudgetMonitor methodBudget,
+            SharedBudgetMonitor classBudget,
+            SharedBudgetMonitor suiteBudget) {
+
+        methodBudget.recordSampleCost(sampleTokens, sampleTimeMs);
+        if (classBudget != null) {
+            classBudget.recordSampleCost(sampleTokens, sampleTimeMs);
+        }
+        if (suiteBudget != null) {
+            suiteBudget.recordSampleCost(sampleTokens, sampleTimeMs);
+        }
+    }
+
     /**
      * Determines the budget exhaustion behavior based on the scope that triggered it.
      *
@@ -0,0 +1,67 @@
+package org.javai.punit.controls.budget;
+
+/**
+ * When budget checks stop a run.
+ *
+ * <p>The policy is configured for the whole run via:
+ * <ul>
+ *   <li>{@code punit.budget.policy} - {@code REACTIVE} (default) or {@code FORECAST}</li>
+ * </ul>
+ *
+ * @see BudgetOrchestrator
+ */
+public enum BudgetPolicy {
+
+    /**
+     * Stop once a budget has been reached. In dynamic token mode the sample that
+     * crosses the limit has already run, so the budget can be overrun by up to
+     * one sample's cost.
+     */
+    REACTIVE,
+
+    /**
+     * Additionally refuse to start a sample whose projected cost would exceed the
+     * remaining budget at any scope. The projection is the tail estimate of the
+     * costs observed so far (see {@link SampleCostStatistics}).
+     */
+    FORECAST;
+
+    public static final String PROP_BUDGET_POLICY = "punit.budget.policy";
+    public static final String ENV_BUDGET_POLICY = "PUNIT_BUDGET_POLICY";
+
+    /**
+     * Resolves the policy from system property, then environment variable.
+     *
+     * @return the configured policy, or {@link #REACTIVE} if none is configured
+     * @throws IllegalArgumentException if the configured value is not a policy name
+     */
+    public static BudgetPolicy resolve() {
+        String value = System.getProperty(PROP_BUDGET_POLICY);
+        String source = "system property " + PROP_BUDGET_POLICY;
+        if (value == null || value.isBlank()) {
+            value = System.getenv(ENV_BUDGET_POLICY);
+            source = "environment variable " + ENV_BUDGET_POLICY;
+        }
+        if (value == null || value.isBlank()) {
+            return REACTIVE;
+        }
+        return parse(value, source);
+    }
+
+    /**
+     * Parses a policy name, ignoring case and surrounding whitespace.
+     *
+     * @param value the configured value
+     * @param source where the value came from, for the error message
+     * @return the policy
+     * @throws IllegalArgumentException if the value is not a policy name
+     */
+    static BudgetPolicy parse(String value, String source) {
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value for " + source + ": " + value
+                    + " (expected REACTIVE or FORECAST)");
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.javai.punit.model.TerminationReason;
  *   <li>Wall-clock time elapsed since test start</li>
  *   <li>Token consumption (static or dynamic mode)</li>
  *   <li>Budget exhaustion conditions</li>
+ *   <li>The running distribution of per-sample costs, used for forecasting</li>
  * </ul>
  * 
  * <p>Budget checks can be performed before or after sample execution depending
@@ -20,6 +21,9 @@ import org.javai.punit.model.TerminationReason;
  *   <li><strong>Static mode</strong>: Pre-sample check if next sample would exceed budget</li>
  *   <li><strong>Dynamic mode</strong>: Post-sample check after tokens are recorded</li>
  * </ul>
+ *
+ * <p>Under {@link BudgetPolicy#FORECAST}, {@link #checkForecastBeforeSample()} also
+ * refuses a sample whose projected cost would exceed the remaining budget.
  */
 public class CostBudgetMonitor {
 
@@ -42,6 +46,7 @@ public class CostBudgetMonitor {
     private final BudgetExhaustedBehavior onBudgetExhausted;
 
     private final long startTimeMs;
+    private final SampleCostStatistics sampleCosts = new SampleCostStatistics();
     private long tokensConsumed = 0;
 
     /**
@@ -132,6 +137,45 @@ public class CostBudgetMonitor {
         return Optional.empty();
     }
 
+    /**
+     * Records the cost of a completed sample for forecasting.
+     *
+     * @param sampleTokens tokens consumed by the sample
+     * @param sampleTimeMs execution time of the sample in milliseconds
+     */
+    public void recordSampleCost(long sampleTokens, long sampleTimeMs) {
+        sampleCosts.record(sampleTokens, sampleTimeMs);
+    }
+
+    /**
+     * Checks whether the next sample's projected cost would exceed the remaining
+     * time or token budget. This is a pre-sample check.
+     *
+     * <p>No forecast is made until at least one sample has been recorded.
+     *
+     * @return termination reason if the projection exceeds a budget, empty otherwise
+     */
+    public Optional<TerminationReason> checkForecastBeforeSample() {
+        if (!sampleCosts.hasObservations()) {
+            return Optional.empty();
+        }
+        if (timeBudgetMs > 0 && getElapsedMs() + sampleCosts.projectedTimeMs() > timeBudgetMs) {
+            return Optional.of(TerminationReason.METHOD_TIME_BUDGET_EXHAUSTED);
+        }
+        if (tokenMode != TokenMode.NONE && tokenBudget > 0
+                && tokensConsumed + sampleCosts.projectedTokens() > tokenBudget) {
+            return Optional.of(TerminationReason.METHOD_TOKEN_BUDGET_EXHAUSTED);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return the running distribution of per-sample costs
+     */
+    public SampleCostStatistics getSampleCosts() {
+        return sampleCosts;
+    }
+
     /**
      * @return elapsed time in milliseconds since monitor creation
      */
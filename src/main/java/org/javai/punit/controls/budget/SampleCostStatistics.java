@@ -0,0 +1,106 @@
+package org.javai.punit.controls.budget;
+
+/**
+ * Running distribution of per-sample token and time costs.
+ *
+ * <p>Mean and variance are maintained incrementally (Welford's algorithm), so
+ * recording a sample is O(1) regardless of how many samples have run.
+ *
+ * <h2>Tail Estimate</h2>
+ * <p>The projected cost of the next sample is the mean plus {@value #TAIL_SIGMAS}
+ * standard deviations (roughly the 98th percentile for a normal distribution).
+ * Forecasting against this tail estimate rather than the mean means a budget is
+ * rarely overrun by a single expensive sample, at the price of occasionally stopping
+ * one sample early.
+ *
+ * <h2>Thread Safety</h2>
+ * <p>All methods are synchronized, so one instance can be shared by concurrently
+ * running test methods (as class- and suite-level monitors are).
+ */
+public class SampleCostStatistics {
+
+    /**
+     * Number of standard deviations above the mean used for the tail estimate.
+     */
+    public static final double TAIL_SIGMAS = 2.0;
+
+    private final Dimension tokens = new Dimension();
+    private final Dimension timeMs = new Dimension();
+    private long count;
+
+    /**
+     * Records the cost of one completed sample.
+     *
+     * @param sampleTokens tokens consumed by the sample
+     * @param sampleTimeMs execution time of the sample in milliseconds
+     */
+    public synchronized void record(long sampleTokens, long sampleTimeMs) {
+        count++;
+        tokens.add(Math.max(0, sampleTokens), count);
+        timeMs.add(Math.max(0, sampleTimeMs), count);
+    }
+
+    /**
+     * @return the number of samples recorded
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * @return true if at least one sample has been recorded
+     */
+    public synchronized boolean hasObservations() {
+        return count > 0;
+    }
+
+    /**
+     * @return the mean tokens per sample (0 if nothing recorded)
+     */
+    public synchronized double getMeanTokens() {
+        return tokens.mean;
+    }
+
+    /**
+     * @return the mean execution time per sample in milliseconds (0 if nothing recorded)
+     */
+    public synchronized double getMeanTimeMs() {
+        return timeMs.mean;
+    }
+
+    /**
+     * @return the tail estimate of the next sample's token cost (0 if nothing recorded)
+     */
+    public synchronized long projectedTokens() {
+        return tokens.tail(count);
+    }
+
+    /**
+     * @return the tail estimate of the next sample's execution time in ms (0 if nothing recorded)
+     */
+    public synchronized long projectedTimeMs() {
+        return timeMs.tail(count);
+    }
+
+    /**
+     * Mean and sum of squared deviations for one cost dimension.
+     */
+    private static final class Dimension {
+        private double mean;
+        private double m2;
+
+        void add(long value, long n) {
+            double delta = value - mean;
+            mean += delta / n;
+            m2 += delta * (value - mean);
+        }
+
+        long tail(long n) {
+            if (n == 0) {
+                return 0;
+            }
+            double stdDev = n > 1 ? Math.sqrt(m2 / (n - 1)) : 0.0;
+            return (long) Math.ceil(mean + TAIL_SIGMAS * stdDev);
+        }
+    }
+}
@@ -11,6 +11,10 @@ import org.javai.punit.model.TerminationReason;
  * <p>Unlike {@link CostBudgetMonitor} which is per-method and not thread-safe,
  * this class uses atomic operations to safely track consumption from multiple
  * concurrent test methods.
+ *
+ * <p>It also keeps the running distribution of per-sample costs across all
+ * contributing methods, used by {@link #checkForecast()} under
+ * {@link BudgetPolicy#FORECAST}.
  * 
  * <h2>Usage</h2>
  * <ul>
@@ -34,6 +38,7 @@ public class SharedBudgetMonitor {
     private final BudgetExhaustedBehavior onBudgetExhausted;
     private final long startTimeMs;
     private final AtomicLong tokensConsumed = new AtomicLong(0);
+    private final SampleCostStatistics sampleCosts = new SampleCostStatistics();
 
     /**
      * Creates a new shared budget monitor.
@@ -86,6 +91,46 @@ public class SharedBudgetMonitor {
         return tokensConsumed.addAndGet(tokens);
     }
 
+    /**
+     * Records the cost of a completed sample for forecasting.
+     *
+     * <p>Token consumption itself is tracked by {@link #addTokens(long)}.
+     *
+     * @param sampleTokens tokens consumed by the sample
+     * @param sampleTimeMs execution time of the sample in milliseconds
+     */
+    public void recordSampleCost(long sampleTokens, long sampleTimeMs) {
+        sampleCosts.record(sampleTokens, sampleTimeMs);
+    }
+
+    /**
+     * Checks whether the next sample's projected cost would exceed the remaining
+     * time or token budget.
+     *
+     * <p>No forecast is made until at least one sample has been recorded.
+     *
+     * @return termination reason if the projection exceeds a budget, empty otherwise
+     */
+    public Optional<TerminationReason> checkForecast() {
+        if (!sampleCosts.hasObservations()) {
+            return Optional.empty();
+        }
+        if (timeBudgetMs > 0 && getElapsedMs() + sampleCosts.projectedTimeMs() > timeBudgetMs) {
+            return Optional.of(getTimeBudgetExhaustedReason());
+        }
+        if (tokenBudget > 0 && tokensConsumed.get() + sampleCosts.projectedTokens() > tokenBudget) {
+            return Optional.of(getTokenBudgetExhaustedReason());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return the running distribution of per-sample costs
+     */
+    public SampleCostStatistics getSampleCosts() {
+        return sampleCosts;
+    }
+
     /**
      * @return elapsed time in milliseconds since monitor creation
      */
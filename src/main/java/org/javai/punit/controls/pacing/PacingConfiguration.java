@@ -17,6 +17,11 @@ import java.time.Instant;
  *   <li>{@code estimatedDurationMs} — how long execution will take</li>
  *   <li>{@code effectiveRps} — the effective requests per second</li>
  * </ul>
+ *
+ * <h2>Shared Pool</h2>
+ * <p>When {@code pool} is set, the delay between samples is enforced by the
+ * named {@link PacingPool} rather than per method, so all members of the pool
+ * share one request stream.
  */
 public record PacingConfiguration(
         // Raw constraints
@@ -30,9 +35,25 @@ public record PacingConfiguration(
         long effectiveMinDelayMs,
         int effectiveConcurrency,
         long estimatedDurationMs,
-        double effectiveRps
+        double effectiveRps,
+
+        // Shared limiter (null = method-local pacing)
+        String pool
 ) {
 
+    /**
+     * Creates a method-local configuration (no shared pool).
+     */
+    public PacingConfiguration(double maxRequestsPerSecond, double maxRequestsPerMinute,
+                               double maxRequestsPerHour, int maxConcurrentRequests,
+                               long minMsPerSample, long effectiveMinDelayMs,
+                               int effectiveConcurrency, long estimatedDurationMs,
+                               double effectiveRps) {
+        this(maxRequestsPerSecond, maxRequestsPerMinute, maxRequestsPerHour,
+                maxConcurrentRequests, minMsPerSample, effectiveMinDelayMs,
+                effectiveConcurrency, estimatedDurationMs, effectiveRps, null);
+    }
+
     /**
      * Creates a "no pacing" configuration for when no constraints are specified.
      *
@@ -42,11 +63,50 @@ public record PacingConfiguration(
         return new PacingConfiguration(0, 0, 0, 0, 0, 0, 1, 0, Double.MAX_VALUE);
     }
 
+    /**
+     * Returns a copy of this configuration bound to the named shared pool.
+     *
+     * @param poolName the pool name (null or blank = method-local pacing)
+     * @return the configuration with the pool applied
+     */
+    public PacingConfiguration withPool(String poolName) {
+        String normalized = poolName == null || poolName.isBlank() ? null : poolName.trim();
+        return new PacingConfiguration(
+                maxRequestsPerSecond, maxRequestsPerMinute, maxRequestsPerHour,
+                maxConcurrentRequests, minMsPerSample, effectiveMinDelayMs,
+                effectiveConcurrency, estimatedDurationMs, effectiveRps, normalized);
+    }
+
+    /**
+     * Returns a copy of this configuration planned for a different sample count.
+     *
+     * <p>Only the estimated duration depends on the sample count; the delays and
+     * rate limits are unchanged.
+     *
+     * @param samples the number of samples to execute
+     * @return the configuration with its estimated duration recomputed
+     */
+    public PacingConfiguration withSamples(int samples) {
+        long duration = new PacingCalculator().computeEstimatedDuration(samples, effectiveRps, 0);
+        return new PacingConfiguration(
+                maxRequestsPerSecond, maxRequestsPerMinute, maxRequestsPerHour,
+                maxConcurrentRequests, minMsPerSample, effectiveMinDelayMs,
+                effectiveConcurrency, duration, effectiveRps, pool);
+    }
+
+    /**
+     * Returns true if this configuration draws from a shared pool.
+     */
+    public boolean hasPool() {
+        return pool != null;
+    }
+
     /**
      * Returns true if any pacing constraint is configured.
      */
     public boolean hasPacing() {
-        return maxRequestsPerSecond > 0
+        return hasPool()
+                || maxRequestsPerSecond > 0
                 || maxRequestsPerMinute > 0
                 || maxRequestsPerHour > 0
                 || maxConcurrentRequests > 1
@@ -0,0 +1,326 @@
+package org.javai.punit.controls.pacing;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A named rate limiter shared by every test and experiment that declares
+ * {@code @Pacing(pool = "...")} with the same name.
+ *
+ * <p>The pool hands out time slots one interval apart. Each member calls
+ * {@link #acquire()} before a sample and sleeps until its reserved slot,
+ * so the combined request stream of all members never exceeds the pool's rate.
+ * It calls {@link #release()} when the sample has finished.
+ *
+ * <h2>Interval</h2>
+ * <p>Each member registers the delay computed from its own constraints. The pool
+ * interval is the <b>most restrictive</b> of these (highest delay wins), matching
+ * the composition rule for constraints on a single method.
+ *
+ * <h2>Concurrency</h2>
+ * <p>Members that declare {@code maxConcurrentRequests} also limit how many samples
+ * of the pool may be in flight at once, across all members in this JVM. The limit is
+ * the <b>lowest</b> declared by any member, so no member exceeds its own limit.
+ *
+ * <h2>Cross-Fork Pools</h2>
+ * <p>When created with a slot file, the last slot handed out and the pool interval
+ * are stored in that file and updated under an exclusive file lock, so JVMs sharing
+ * the file (e.g. Gradle forks) share the same limiter. The stored interval is the
+ * most restrictive registered in any of these JVMs, so a JVM whose members declare a
+ * looser rate still spaces its slots for the strictest member elsewhere. Utilisation
+ * figures cover this JVM only.
+ *
+ * <h2>Thread Safety</h2>
+ * <p>Slot reservation is synchronized; sleeping happens outside the lock so
+ * members waiting for later slots do not block each other's reservations.
+ * Concurrency permits are guarded by a separate lock.
+ *
+ * @see PacingPoolRegistry
+ */
+public class PacingPool {
+
+    private static final Logger logger = LogManager.getLogger(PacingPool.class);
+
+    private final String name;
+    private final Path slotFile;
+    private final Set<String> members = ConcurrentHashMap.newKeySet();
+    private final AtomicLong acquisitions = new AtomicLong(0);
+    private final AtomicLong totalWaitMs = new AtomicLong(0);
+
+    private final AtomicLong firstAcquireMs = new AtomicLong(0);
+    private final AtomicLong lastAcquireMs = new AtomicLong(0);
+    private final Object concurrencyLock = new Object();
+
+    private volatile long intervalMs;
+    private int maxConcurrent;
+    private int inFlight;
+    private long nextSlotMs;
+    private boolean slotFileFailed;
+
+    /**
+     * Creates a pool limited to this JVM.
+     *
+     * @param name the pool name
+     */
+    public PacingPool(String name) {
+        this(name, null);
+    }
+
+    /**
+     * Creates a pool whose slots are coordinated through a file.
+     *
+     * @param name the pool name
+     * @param slotFile the shared slot file, or null for a JVM-local pool
+     */
+    public PacingPool(String name, Path slotFile) {
+        this.name = name;
+        this.slotFile = slotFile;
+    }
+
+    /**
+     * Registers a member and its required minimum delay.
+     *
+     * @param member a display name for the member (e.g. {@code Class.method})
+     * @param minDelayMs the member's own effective minimum delay
+     */
+    public void register(String member, long minDelayMs) {
+        register(member, minDelayMs, 0);
+    }
+
+    /**
+     * Registers a member, its required minimum delay and its concurrency limit.
+     *
+     * @param member a display name for the member (e.g. {@code Class.method})
+     * @param minDelayMs the member's own effective minimum delay
+     * @param maxConcurrentRequests the member's own concurrency limit (0 = unlimited)
+     */
+    public void register(String member, long minDelayMs, int maxConcurrentRequests) {
+        synchronized (this) {
+            members.add(member);
+            intervalMs = Math.max(intervalMs, Math.max(0, minDelayMs));
+        }
+        if (maxConcurrentRequests > 0) {
+            synchronized (concurrencyLock) {
+                maxConcurrent = maxConcurrent == 0
+                        ? maxConcurrentRequests
+                        : Math.min(maxConcurrent, maxConcurrentRequests);
+            }
+        }
+    }
+
+    /**
+     * Waits for a free concurrency permit, then reserves the next slot and sleeps
+     * until it is reached.
+     *
+     * <p>Every call that returns must be followed by {@link #release()} once the
+     * sample has finished. A call that throws holds no permit and must not be
+     * released.
+     *
+     * @return the time spent waiting in milliseconds
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public long acquire() throws InterruptedException {
+        long permitWaitMs = enter();
+        try {
+            long now = System.currentTimeMillis();
+            long slot = reserveSlot(now);
+            long waitMs = Math.max(0, slot - now) + permitWaitMs;
+
+            acquisitions.incrementAndGet();
+            totalWaitMs.addAndGet(waitMs);
+            firstAcquireMs.compareAndSet(0, slot);
+            lastAcquireMs.accumulateAndGet(slot, Math::max);
+
+            if (slot > now) {
+                Thread.sleep(slot - now);
+            }
+            return waitMs;
+        } catch (InterruptedException | RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the concurrency permit taken by {@link #acquire()}.
+     */
+    public void release() {
+        synchronized (concurrencyLock) {
+            if (inFlight > 0) {
+                inFlight--;
+            }
+            concurrencyLock.notifyAll();
+        }
+    }
+
+    /**
+     * @return the pool's concurrency limit (0 = unlimited)
+     */
+    public int getMaxConcurrentRequests() {
+        synchronized (concurrencyLock) {
+            return maxConcurrent;
+        }
+    }
+
+    /**
+     * @return the number of concurrency permits currently held
+     */
+    int inFlight() {
+        synchronized (concurrencyLock) {
+            return inFlight;
+        }
+    }
+
+    /**
+     * Takes a concurrency permit, waiting while the pool is at its limit.
+     *
+     * @return the time spent waiting for the permit in milliseconds
+     */
+    private long enter() throws InterruptedException {
+        synchronized (concurrencyLock) {
+            long start = 0;
+            while (maxConcurrent > 0 && inFlight >= maxConcurrent) {
+                if (start == 0) {
+                    start = System.currentTimeMillis();
+                }
+                concurrencyLock.wait();
+            }
+            inFlight++;
+            return start == 0 ? 0 : System.currentTimeMillis() - start;
+        }
+    }
+
+    private synchronized long reserveSlot(long now) {
+        if (slotFile != null && !slotFileFailed) {
+            try {
+                return reserveSlotInFile(now);
+            } catch (IOException e) {
+                slotFileFailed = true;
+                logger.warn("Pacing pool '{}' could not use slot file {} ({}); "
+                        + "falling back to a JVM-local limiter", name, slotFile, e.getMessage());
+            }
+        }
+        long slot = Math.max(now, nextSlotMs);
+        nextSlotMs = slot + intervalMs;
+        return slot;
+    }
+
+    private long reserveSlotInFile(long now) throws IOException {
+        try (FileChannel channel = FileChannel.open(slotFile,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+
+            // Layout: the last slot handed out, then the pool interval
+            ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES);
+            long storedLastSlot = 0;
+            long storedIntervalMs = 0;
+            if (channel.size() >= buffer.capacity()) {
+                channel.read(buffer, 0);
+                buffer.flip();
+                storedLastSlot = buffer.getLong();
+                storedIntervalMs = buffer.getLong();
+            }
+
+            long interval = Math.max(storedIntervalMs, intervalMs);
+            long storedNextSlot = storedLastSlot == 0 ? 0 : storedLastSlot + interval;
+            long slot = Math.max(now, Math.max(storedNextSlot, nextSlotMs));
+            nextSlotMs = slot + interval;
+
+            buffer.clear();
+            buffer.putLong(slot).putLong(interval).flip();
+            channel.write(buffer, 0);
+            return slot;
+        }
+    }
+
+    /**
+     * @return the pool name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the current pool interval in milliseconds
+     */
+    public long getIntervalMs() {
+        return intervalMs;
+    }
+
+    /**
+     * @return true if the pool is coordinated across JVMs through a slot file
+     */
+    public boolean isCrossProcess() {
+        return slotFile != null;
+    }
+
+    /**
+     * Captures the pool's current utilisation.
+     *
+     * @return an immutable snapshot
+     */
+    public Utilisation snapshot() {
+        long first = firstAcquireMs.get();
+        long activeMs = first == 0 ? 0 : Math.max(0, lastAcquireMs.get() - first);
+        return new Utilisation(name, List.copyOf(new TreeSet<>(members)), intervalMs,
+                acquisitions.get(), totalWaitMs.get(), activeMs, isCrossProcess());
+    }
+
+    /**
+     * Point-in-time utilisation of a pool.
+     *
+     * @param name the pool name
+     * @param members the members registered so far
+     * @param intervalMs the pool interval
+     * @param acquisitions the number of slots handed out in this JVM
+     * @param totalWaitMs the combined time members spent waiting for slots
+     * @param activeMs the span between the first and last slot handed out
+     * @param crossProcess whether the pool is shared across JVMs
+     */
+    public record Utilisation(
+            String name,
+            List<String> members,
+            long intervalMs,
+            long acquisitions,
+            long totalWaitMs,
+            long activeMs,
+            boolean crossProcess
+    ) {
+
+        /**
+         * @return the pool's maximum rate in requests per second, or 0 if unlimited
+         */
+        public double limitRps() {
+            return intervalMs > 0 ? 1000.0 / intervalMs : 0;
+        }
+
+        /**
+         * @return the observed rate in requests per second, or 0 if too few slots were used
+         */
+        public double observedRps() {
+            if (acquisitions < 2 || activeMs <= 0) {
+                return 0;
+            }
+            return (acquisitions - 1) * 1000.0 / activeMs;
+        }
+
+        /**
+         * @return observed rate as a fraction of the pool limit (0 if unlimited)
+         */
+        public double utilisation() {
+            double limit = limitRps();
+            return limit > 0 ? Math.min(1.0, observedRps() / limit) : 0;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.javai.punit.controls.pacing;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * JVM-wide registry of named {@link PacingPool}s.
+ *
+ * <p>Pools are created lazily the first time a test or experiment names them,
+ * and are shared by every subsequent member with the same name.
+ *
+ * <p>Cross-fork coordination is configured via:
+ * <ul>
+ *   <li>{@code punit.pacing.poolDir} - Directory for pool slot files shared across JVMs</li>
+ * </ul>
+ *
+ * @see PacingPool
+ */
+public final class PacingPoolRegistry {
+
+    public static final String PROP_POOL_DIR = "punit.pacing.poolDir";
+    public static final String ENV_POOL_DIR = "PUNIT_PACING_POOL_DIR";
+
+    private static final ConcurrentMap<String, PacingPool> POOLS = new ConcurrentHashMap<>();
+
+    private PacingPoolRegistry() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Gets the named pool, creating it if necessary.
+     *
+     * @param name the pool name
+     * @return the shared pool
+     */
+    public static PacingPool pool(String name) {
+        return POOLS.computeIfAbsent(name, n -> new PacingPool(n, resolveSlotFile(n)));
+    }
+
+    /**
+     * Gets the named pool if it exists.
+     *
+     * @param name the pool name
+     * @return the pool, or empty if no member has registered it
+     */
+    public static Optional<PacingPool> find(String name) {
+        return Optional.ofNullable(POOLS.get(name));
+    }
+
+    /**
+     * @return all pools created so far
+     */
+    public static Collection<PacingPool> pools() {
+        return List.copyOf(POOLS.values());
+    }
+
+    /**
+     * Resets the registry. Used for testing.
+     *
+     * <p><strong>Warning:</strong> This method is intended for testing only.
+     */
+    public static void reset() {
+        POOLS.clear();
+    }
+
+    private static Path resolveSlotFile(String poolName) {
+        String dir = System.getProperty(PROP_POOL_DIR);
+        if (dir == null || dir.isBlank()) {
+            dir = System.getenv(ENV_POOL_DIR);
+        }
+        if (dir == null || dir.isBlank()) {
+            return null;
+        }
+        try {
+            Path directory = Path.of(dir.trim());
+            Files.createDirectories(directory);
+            return directory.resolve(poolName.replaceAll("[^A-Za-z0-9._-]", "_") + ".pacing");
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -15,9 +15,12 @@ import org.javai.punit.reporting.PUnitReporter;
  *   <li>Configured pacing constraints</li>
  *   <li>Computed execution plan</li>
  *   <li>Estimated duration and completion time</li>
+ *   <li>Projected token cost, when it can be known in advance</li>
  *   <li>Feasibility warnings if constraints conflict</li>
  * </ul>
  *
+ * <p>For shared pools it also reports per-pool utilisation once a member finishes.
+ *
  * <p>All output is delegated to {@link PUnitReporter} for consistent formatting.
  */
 public class PacingReporter {
@@ -49,7 +52,26 @@ public class PacingReporter {
      * @param startTime the execution start time
      */
     public void printPreFlightReport(String testName, int samples, PacingConfiguration pacing, Instant startTime) {
+        printPreFlightReport(testName, samples, pacing, startTime, 0, 0);
+    }
+
+    /**
+     * Prints a pre-flight report including the projected token cost of the run.
+     *
+     * <p>Without pacing, only the projected token cost is reported, and nothing is
+     * printed if it is unknown.
+     *
+     * @param testName the name of the test or experiment
+     * @param samples the number of samples to execute
+     * @param pacing the pacing configuration
+     * @param startTime the execution start time
+     * @param projectedTokens the projected total tokens for all samples (0 if unknown)
+     * @param tokenBudget the token budget the projection is compared against (0 = unlimited)
+     */
+    public void printPreFlightReport(String testName, int samples, PacingConfiguration pacing, Instant startTime,
+                                     long projectedTokens, long tokenBudget) {
         if (!pacing.hasPacing()) {
+            printBudgetProjection(testName, samples, projectedTokens, tokenBudget);
             return;
         }
 
@@ -75,6 +97,9 @@ public class PacingReporter {
         } else if (pacing.effectiveMinDelayMs() > 0) {
             sb.append("  • Min delay/sample: ").append(pacing.effectiveMinDelayMs()).append("ms (").append(delaySource(pacing)).append(")\n");
         }
+        if (pacing.hasPool()) {
+            sb.append("  • Shared pool: ").append(pacing.pool()).append(poolMembership(pacing.pool())).append("\n");
+        }
 
         sb.append("\nCOMPUTED PLAN\n");
         if (pacing.isConcurrent()) {
@@ -90,8 +115,17 @@ public class PacingReporter {
                 sb.append("  ").append(PUnitReporter.labelValueLn("Inter-request delay:", pacing.effectiveMinDelayMs() + "ms"));
             }
         }
+        if (pacing.hasPool()) {
+            PacingPoolRegistry.find(pacing.pool()).ifPresent(pool ->
+                    sb.append("  ").append(PUnitReporter.labelValueLn("Pool interval:",
+                            pool.getIntervalMs() + "ms (shared by all pool members)")));
+        }
         sb.append("  ").append(PUnitReporter.labelValueLn("Effective throughput:", formattedThroughput(pacing)));
         sb.append("  ").append(PUnitReporter.labelValueLn("Estimated duration:", formattedDuration(pacing)));
+        if (projectedTokens > 0) {
+            sb.append("  ").append(PUnitReporter.labelValueLn("Projected tokens:",
+                    formattedProjectedTokens(projectedTokens, tokenBudget)));
+        }
 
         Instant completionTime = pacing.estimatedCompletionTime(startTime);
         sb.append("  ").append(PUnitReporter.labelValueLn("Estimated completion:", formatTime(completionTime)));
@@ -136,6 +170,65 @@ public class PacingReporter {
         }
     }
 
+    /**
+     * Prints the utilisation of a shared pacing pool.
+     *
+     * @param utilisation the pool utilisation snapshot
+     */
+    public void printPoolUtilisation(PacingPool.Utilisation utilisation) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(utilisation.name());
+        if (utilisation.crossProcess()) {
+            sb.append(" (shared across JVMs; figures cover this JVM)");
+        }
+        sb.append("\n\n");
+        sb.append(PUnitReporter.labelValueLn("Members:", String.valueOf(utilisation.members().size())));
+        for (String member : utilisation.members()) {
+            sb.append("  • ").append(member).append("\n");
+        }
+        sb.append(PUnitReporter.labelValueLn("Pool interval:", utilisation.intervalMs() + "ms"));
+        sb.append(PUnitReporter.labelValueLn("Samples paced:", String.valueOf(utilisation.acquisitions())));
+        sb.append(PUnitReporter.labelValueLn("Time waiting:", DurationFormat.execution(utilisation.totalWaitMs())));
+        if (utilisation.limitRps() > 0) {
+            sb.append(PUnitReporter.labelValueLn("Pool limit:",
+                    String.format("%.1f samples/min", utilisation.limitRps() * 60)));
+            sb.append(PUnitReporter.labelValue("Utilisation:",
+                    String.format("%.1f samples/min (%.0f%%)",
+                            utilisation.observedRps() * 60, utilisation.utilisation() * 100)));
+        } else {
+            sb.append(PUnitReporter.labelValue("Pool limit:", "unlimited"));
+        }
+
+        reporter.reportInfo("PACING POOL", sb.toString());
+    }
+
+    private void printBudgetProjection(String testName, int samples, long projectedTokens, long tokenBudget) {
+        if (projectedTokens <= 0) {
+            return;
+        }
+        String body = testName + "\n\n"
+                + PUnitReporter.labelValueLn("Samples:", String.valueOf(samples))
+                + PUnitReporter.labelValue("Projected tokens:", formattedProjectedTokens(projectedTokens, tokenBudget));
+        reporter.reportInfo("EXECUTION PLAN", body);
+    }
+
+    private String formattedProjectedTokens(long projectedTokens, long tokenBudget) {
+        String projection = String.format("%,d", projectedTokens);
+        if (tokenBudget > 0 && projectedTokens > tokenBudget) {
+            return projection + String.format(" (exceeds token budget of %,d)", tokenBudget);
+        }
+        return projection;
+    }
+
+    private String poolMembership(String poolName) {
+        return PacingPoolRegistry.find(poolName)
+                .map(pool -> {
+                    int members = pool.snapshot().members().size();
+                    return " (" + members + (members == 1 ? " member)" : " members)");
+                })
+                .orElse("");
+    }
+
     /**
      * Formats a number, removing unnecessary decimal places.
      */
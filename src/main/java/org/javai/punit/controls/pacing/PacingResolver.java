@@ -28,6 +28,7 @@ public class PacingResolver {
     public static final String PROP_MAX_RPH = "punit.pacing.maxRph";
     public static final String PROP_MAX_CONCURRENT = "punit.pacing.maxConcurrent";
     public static final String PROP_MIN_MS_PER_SAMPLE = "punit.pacing.minMsPerSample";
+    public static final String PROP_POOL = "punit.pacing.pool";
 
     // Environment variable names
     public static final String ENV_MAX_RPS = "PUNIT_PACING_MAX_RPS";
@@ -35,6 +36,7 @@ public class PacingResolver {
     public static final String ENV_MAX_RPH = "PUNIT_PACING_MAX_RPH";
     public static final String ENV_MAX_CONCURRENT = "PUNIT_PACING_MAX_CONCURRENT";
     public static final String ENV_MIN_MS_PER_SAMPLE = "PUNIT_PACING_MIN_MS_PER_SAMPLE";
+    public static final String ENV_POOL = "PUNIT_PACING_POOL";
 
     private final PacingCalculator calculator;
 
@@ -98,6 +100,8 @@ public class PacingResolver {
                 pacing != null ? pacing.maxConcurrentRequests() : 0, 0);
         long minMsPerSample = resolveLong(PROP_MIN_MS_PER_SAMPLE, ENV_MIN_MS_PER_SAMPLE,
                 pacing != null ? pacing.minMsPerSample() : 0, 0);
+        String pool = resolveString(PROP_POOL, ENV_POOL,
+                pacing != null ? pacing.pool() : "");
 
         // Validate constraints
         validateConstraints(maxRps, maxRpm, maxRph, maxConcurrent, minMsPerSample);
@@ -111,7 +115,7 @@ public class PacingResolver {
                 maxConcurrent,
                 minMsPerSample,
                 estimatedLatencyMs
-        );
+        ).withPool(pool);
     }
 
     /**
@@ -219,6 +223,23 @@ public class PacingResolver {
         return annotationValue;
     }
 
+    /**
+     * Resolves a string value with precedence: system prop > env var > annotation.
+     */
+    private String resolveString(String sysProp, String envVar, String annotationValue) {
+        String sysPropValue = System.getProperty(sysProp);
+        if (sysPropValue != null && !sysPropValue.isBlank()) {
+            return sysPropValue.trim();
+        }
+
+        String envValue = getEnvironmentVariable(envVar);
+        if (envValue != null && !envValue.isBlank()) {
+            return envValue.trim();
+        }
+
+        return annotationValue;
+    }
+
     /**
      * Gets an environment variable. Extracted for testability.
      */
@@ -11,6 +11,8 @@
  *   <li>{@link PacingResolver} - Resolves pacing from annotations and system properties</li>
  *   <li>{@link PacingCalculator} - Computes required delays based on configuration</li>
  *   <li>{@link PacingReporter} - Reports pacing events for observability</li>
+ *   <li>{@link PacingPool} - Named limiter shared by tests and experiments in the same pool</li>
+ *   <li>{@link PacingPoolRegistry} - JVM-wide registry of shared pacing pools</li>
  * </ul>
  *
  * <p>Pacing can be configured via:
@@ -0,0 +1,44 @@
+package org.javai.punit.controls.timeout;
+
+/**
+ * Thrown when a sample does not complete within its per-sample deadline.
+ *
+ * <p>Timeouts are recorded as sample failures under the {@link #FAILURE_CATEGORY}
+ * category; they never abort the run.
+ */
+public class SampleTimeoutException extends RuntimeException {
+
+    /**
+     * Failure category under which timed-out samples are recorded.
+     */
+    public static final String FAILURE_CATEGORY = "timeout";
+
+    private final long timeoutMs;
+    private final long elapsedMs;
+
+    /**
+     * Creates a new timeout exception.
+     *
+     * @param timeoutMs the deadline that was exceeded
+     * @param elapsedMs how long the sample body ran before it returned
+     */
+    public SampleTimeoutException(long timeoutMs, long elapsedMs) {
+        super("Sample exceeded its timeout of " + timeoutMs + "ms (returned after " + elapsedMs + "ms)");
+        this.timeoutMs = timeoutMs;
+        this.elapsedMs = elapsedMs;
+    }
+
+    /**
+     * @return the deadline that was exceeded, in milliseconds
+     */
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    /**
+     * @return how long the sample body ran before it returned, in milliseconds
+     */
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+}
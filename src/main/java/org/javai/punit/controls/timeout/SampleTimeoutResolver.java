@@ -0,0 +1,61 @@
+package org.javai.punit.controls.timeout;
+
+/**
+ * Resolves the effective per-sample timeout.
+ *
+ * <h2>Precedence (highest to lowest)</h2>
+ * <ol>
+ *   <li>System property {@code punit.sampleTimeoutMs}</li>
+ *   <li>Environment variable {@code PUNIT_SAMPLE_TIMEOUT_MS}</li>
+ *   <li>Annotation value ({@code sampleTimeoutMs})</li>
+ *   <li>Framework default (0 = no timeout)</li>
+ * </ol>
+ */
+public class SampleTimeoutResolver {
+
+    public static final String PROP_SAMPLE_TIMEOUT_MS = "punit.sampleTimeoutMs";
+    public static final String ENV_SAMPLE_TIMEOUT_MS = "PUNIT_SAMPLE_TIMEOUT_MS";
+    public static final long DEFAULT_SAMPLE_TIMEOUT_MS = 0;
+
+    /**
+     * Resolves the per-sample timeout.
+     *
+     * @param annotationValue the value declared on the annotation
+     * @param contextName name used in error messages
+     * @return the effective timeout in milliseconds (0 = no timeout)
+     * @throws IllegalArgumentException if an override is not a number or the result is negative
+     */
+    public long resolve(long annotationValue, String contextName) {
+        long timeoutMs = annotationValue;
+
+        String sysPropValue = System.getProperty(PROP_SAMPLE_TIMEOUT_MS);
+        String envValue = getEnvironmentVariable(ENV_SAMPLE_TIMEOUT_MS);
+        if (sysPropValue != null && !sysPropValue.isBlank()) {
+            timeoutMs = parse(sysPropValue, "system property " + PROP_SAMPLE_TIMEOUT_MS);
+        } else if (envValue != null && !envValue.isBlank()) {
+            timeoutMs = parse(envValue, "environment variable " + ENV_SAMPLE_TIMEOUT_MS);
+        }
+
+        if (timeoutMs < 0) {
+            throw new IllegalArgumentException(
+                    "Invalid configuration for " + contextName +
+                    ": sampleTimeoutMs must be >= 0, but was " + timeoutMs);
+        }
+        return timeoutMs;
+    }
+
+    private long parse(String value, String source) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + source + ": " + value);
+        }
+    }
+
+    /**
+     * Gets an environment variable. Protected to allow testing.
+     */
+    protected String getEnvironmentVariable(String name) {
+        return System.getenv(name);
+    }
+}
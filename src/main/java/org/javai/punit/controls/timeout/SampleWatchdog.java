@@ -0,0 +1,205 @@
+package org.javai.punit.controls.timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Runs a sample body under a per-sample deadline.
+ *
+ * <p>The body runs on the calling thread, so MDC, tracing context and any other
+ * thread-bound state set up by JUnit or the use case carry over to it. A shared
+ * timer interrupts the calling thread when the deadline passes (cooperative
+ * cancellation: blocking I/O, {@code Thread.sleep} and most HTTP clients respond
+ * to interruption) and closes any resources the body registered with
+ * {@link #closeOnTimeout(AutoCloseable)}, which unblocks calls that do not respond
+ * to interruption. Once the body has returned, a {@link SampleTimeoutException} is
+ * thrown so the caller can record the sample as a timeout and continue the run.
+ *
+ * <p>A body that ignores both the interrupt and the closed resources cannot be
+ * stopped: the run waits for it, and a warning is logged. The next sample never
+ * starts while a previous one is still running.
+ *
+ * <p>A timeout of 0 or less disables the watchdog: the body runs with no overhead.
+ */
+public class SampleWatchdog {
+
+    private static final Logger logger = LogManager.getLogger(SampleWatchdog.class);
+
+    /**
+     * How long an interrupted body may take to unwind before a warning is logged.
+     */
+    static final long CANCELLATION_GRACE_MS = 100;
+
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().name("punit-sample-watchdog").daemon(true).unstarted(runnable));
+
+    private static final ThreadLocal<Guard> CURRENT = new ThreadLocal<>();
+
+    private final long timeoutMs;
+
+    /**
+     * A sample body, typically {@code invocation::proceed}.
+     */
+    @FunctionalInterface
+    public interface SampleBody {
+        void run() throws Throwable;
+    }
+
+    /**
+     * Creates a watchdog with the given per-sample deadline.
+     *
+     * @param timeoutMs the deadline in milliseconds, or 0 for no deadline
+     */
+    public SampleWatchdog(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * @return true if a deadline is enforced
+     */
+    public boolean isEnabled() {
+        return timeoutMs > 0;
+    }
+
+    /**
+     * @return the per-sample deadline in milliseconds (0 if disabled)
+     */
+    public long getTimeoutMs() {
+        return Math.max(0, timeoutMs);
+    }
+
+    /**
+     * Registers a resource to close if the current sample exceeds its deadline.
+     *
+     * <p>Use this for connections or streams whose blocking calls do not respond to
+     * interruption. Outside a sample with a deadline, this does nothing.
+     *
+     * @param resource the resource to close on timeout
+     */
+    public static void closeOnTimeout(AutoCloseable resource) {
+        Guard guard = CURRENT.get();
+        if (guard != null && resource != null) {
+            guard.register(resource);
+        }
+    }
+
+    /**
+     * Runs the body, enforcing the deadline if one is configured.
+     *
+     * @param body the sample body
+     * @throws SampleTimeoutException if the body did not complete within the deadline
+     * @throws Throwable anything thrown by the body itself within the deadline
+     */
+    public void run(SampleBody body) throws Throwable {
+        if (!isEnabled()) {
+            body.run();
+            return;
+        }
+
+        Guard guard = new Guard(Thread.currentThread());
+        Guard enclosing = CURRENT.get();
+        CURRENT.set(guard);
+        long start = System.nanoTime();
+        ScheduledFuture<?> expiry = TIMER.schedule(guard::expire, timeoutMs, TimeUnit.MILLISECONDS);
+        Throwable failure = null;
+        try {
+            body.run();
+        } catch (Throwable t) {
+            failure = t;
+        } finally {
+            expiry.cancel(false);
+            if (enclosing != null) {
+                CURRENT.set(enclosing);
+            } else {
+                CURRENT.remove();
+            }
+        }
+
+        if (guard.finish()) {
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (elapsedMs > timeoutMs + CANCELLATION_GRACE_MS) {
+                logger.warn("Sample did not respond to interruption after a {}ms timeout; "
+                        + "the run waited {}ms for it to return", timeoutMs, elapsedMs);
+            }
+            SampleTimeoutException timeout = new SampleTimeoutException(timeoutMs, elapsedMs);
+            if (failure != null) {
+                timeout.initCause(failure);
+            }
+            throw timeout;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * The deadline of one running sample.
+     *
+     * <p>Expiry and completion are decided under the guard's lock, so the interrupt
+     * is either delivered while the body is running or not at all, and is cleared
+     * before the calling thread moves on.
+     */
+    private static final class Guard {
+
+        private final Thread thread;
+        private final List<AutoCloseable> resources = new ArrayList<>();
+        private boolean finished;
+        private boolean expired;
+
+        Guard(Thread thread) {
+            this.thread = thread;
+        }
+
+        void register(AutoCloseable resource) {
+            synchronized (this) {
+                if (!expired) {
+                    resources.add(resource);
+                    return;
+                }
+            }
+            close(resource);
+        }
+
+        void expire() {
+            List<AutoCloseable> toClose;
+            synchronized (this) {
+                if (finished) {
+                    return;
+                }
+                expired = true;
+                thread.interrupt();
+                toClose = List.copyOf(resources);
+                resources.clear();
+            }
+            toClose.forEach(Guard::close);
+        }
+
+        /**
+         * Marks the sample finished.
+         *
+         * @return true if the deadline passed while it was running
+         */
+        synchronized boolean finish() {
+            finished = true;
+            if (expired) {
+                // The interrupt was ours; do not let it leak into the next sample
+                Thread.interrupted();
+            }
+            return expired;
+        }
+
+        private static void close(AutoCloseable resource) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                logger.debug("Failed to close {} after a sample timeout: {}", resource, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+/**
+ * Per-sample timeout controls for tests and experiments.
+ *
+ * <p>A hung call in one sample would otherwise stall the whole run until the
+ * time budget is next checked between samples. The watchdog bounds each sample
+ * individually so the run can record the timeout and move on.
+ *
+ * <p>Key components:
+ * <ul>
+ *   <li>{@link SampleWatchdog} - Runs a sample body under a deadline, interrupting it and closing its registered resources on expiry</li>
+ *   <li>{@link SampleTimeoutException} - Signals that a sample exceeded its deadline</li>
+ *   <li>{@link SampleTimeoutResolver} - Resolves the deadline from annotations and system properties</li>
+ * </ul>
+ *
+ * <p>The per-sample timeout can be configured via:
+ * <ul>
+ *   <li>The {@code sampleTimeoutMs} attribute of {@link org.javai.punit.api.ProbabilisticTest}
+ *       and the experiment annotations</li>
+ *   <li>System property {@code punit.sampleTimeoutMs}</li>
+ *   <li>Environment variable {@code PUNIT_SAMPLE_TIMEOUT_MS}</li>
+ * </ul>
+ */
+package org.javai.punit.controls.timeout;
@@ -0,0 +1,48 @@
+package org.javai.punit.experiment.compare;
+
+import org.javai.punit.api.ExperimentMode;
+import org.javai.punit.experiment.engine.ExperimentConfig;
+
+/**
+ * Configuration for @CompareExperiment.
+ *
+ * <p>COMPARE mode runs a baseline and a candidate configuration on the same inputs
+ * and stops once a paired test establishes a difference (or equivalence within
+ * the margin).
+ *
+ * @param useCaseClass the use case class to test
+ * @param useCaseId resolved use case identifier
+ * @param samples maximum number of pairs (0 = mode default)
+ * @param margin equivalence margin on the pass-rate difference (0 = no equivalence test)
+ * @param confidence overall confidence level of the verdict
+ * @param timeBudgetMs time budget in milliseconds (0 = unlimited)
+ * @param tokenBudget token budget (0 = unlimited)
+ * @param sampleTimeoutMs per-sample deadline in milliseconds (0 = none)
+ * @param experimentId experiment identifier for output naming
+ */
+public record CompareConfig(
+        Class<?> useCaseClass,
+        String useCaseId,
+        int samples,
+        double margin,
+        double confidence,
+        long timeBudgetMs,
+        long tokenBudget,
+        long sampleTimeoutMs,
+        String experimentId
+) implements ExperimentConfig {
+
+    @Override
+    public ExperimentMode mode() {
+        return ExperimentMode.COMPARE;
+    }
+
+    /**
+     * Returns the effective maximum number of pairs, using the mode default if not specified.
+     *
+     * @return the effective maximum number of pairs
+     */
+    public int effectivePairs() {
+        return mode().getEffectiveSampleSize(samples);
+    }
+}
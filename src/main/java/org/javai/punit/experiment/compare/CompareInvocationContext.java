@@ -0,0 +1,54 @@
+package org.javai.punit.experiment.compare;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.javai.punit.api.OutcomeCaptor;
+import org.javai.punit.experiment.engine.input.InputParameterResolver;
+import org.javai.punit.experiment.engine.shared.CaptorParameterResolver;
+import org.javai.punit.experiment.engine.shared.FactorInfo;
+import org.javai.punit.experiment.engine.shared.FactorParameterResolver;
+import org.javai.punit.experiment.engine.shared.FactorValuesInitializer;
+import org.javai.punit.experiment.engine.shared.FactorValuesResolver;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+
+/**
+ * Invocation context for @CompareExperiment.
+ *
+ * <p>Each invocation runs one arm (baseline or candidate) of one pair. Both arms
+ * of a pair receive the same input.
+ */
+public record CompareInvocationContext(
+        int pair,
+        int maxPairs,
+        String arm,
+        String armConfigName,
+        String useCaseId,
+        Object[] factorValues,
+        List<FactorInfo> factorInfos,
+        Object inputValue,
+        Class<?> inputType,
+        OutcomeCaptor captor
+) implements TestTemplateInvocationContext {
+
+    @Override
+    public String getDisplayName(int invocationIndex) {
+        return String.format("[%s] pair %d/%d %s (%s)",
+                useCaseId, pair, maxPairs, arm, armConfigName);
+    }
+
+    @Override
+    public List<Extension> getAdditionalExtensions() {
+        List<Extension> extensions = new ArrayList<>();
+        // IMPORTANT: FactorValuesInitializer must be first to set factor values
+        // on UseCaseProvider BEFORE any parameter resolution happens
+        extensions.add(new FactorValuesInitializer(factorValues, factorInfos));
+        extensions.add(new CaptorParameterResolver(captor, arm, pair, factorValues));
+        extensions.add(new FactorParameterResolver(factorValues, factorInfos));
+        extensions.add(new FactorValuesResolver(factorValues, factorInfos));
+        if (inputType != null) {
+            extensions.add(new InputParameterResolver(inputValue, inputType));
+        }
+        return extensions;
+    }
+}
@@ -0,0 +1,125 @@
+package org.javai.punit.experiment.compare;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.javai.punit.experiment.engine.ExperimentResultAggregator;
+import org.javai.punit.experiment.engine.YamlBuilder;
+import org.javai.punit.experiment.engine.output.OutputUtilities;
+import org.javai.punit.experiment.engine.output.OutputUtilities.OutputHeader;
+import org.javai.punit.statistics.PairedComparisonEvaluator;
+import org.javai.punit.statistics.PairedComparisonEvaluator.PairedCounts;
+import org.javai.punit.statistics.PairedComparisonEvaluator.PairedDecision;
+
+/**
+ * Writes the comparison report for @CompareExperiment.
+ *
+ * <h2>Output Structure</h2>
+ * <pre>
+ * schemaVersion: punit-compare-1
+ * useCaseId: ...
+ * comparison:
+ *   maxPairs: 500
+ *   confidence: 0.95
+ *   margin: 0.02
+ *   lookInterval: 50
+ * baseline:
+ *   factors: ...
+ *   observed: 0.8800
+ * candidate: ...
+ * pairs:
+ *   total: 150
+ *   bothPassed: 120
+ *   baselineOnly: 3
+ *   candidateOnly: 17
+ *   bothFailed: 10
+ * result:
+ *   verdict: CANDIDATE_BETTER
+ *   difference: 0.0933
+ *   pValue: 0.0026
+ * </pre>
+ */
+class CompareOutputWriter {
+
+    /**
+     * Writes the comparison report to the specified path in YAML format.
+     */
+    void write(CompareConfig config, ComparisonState state,
+               String experimentClass, String experimentMethod, Path path) throws IOException {
+        Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(path, toYaml(config, state, experimentClass, experimentMethod),
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Converts the comparison to YAML format.
+     */
+    String toYaml(CompareConfig config, ComparisonState state,
+                  String experimentClass, String experimentMethod) {
+        YamlBuilder builder = YamlBuilder.create();
+
+        OutputUtilities.writeHeader(builder, OutputHeader.forComparison(
+                config.useCaseId(), config.experimentId(), state.startTime(),
+                experimentClass, experimentMethod));
+
+        PairedComparisonEvaluator evaluator = state.evaluator();
+        builder.startObject("comparison")
+            .field("maxPairs", evaluator.maxPairs())
+            .field("confidence", config.confidence(), "%.4f")
+            .field("margin", evaluator.margin(), "%.4f")
+            .field("lookInterval", evaluator.lookInterval())
+            .field("looks", evaluator.looks())
+            .endObject();
+
+        writeArm(builder, "baseline", state.baselineFactors(), state.baseline());
+        writeArm(builder, "candidate", state.candidateFactors(), state.candidate());
+
+        PairedCounts counts = state.counts();
+        builder.startObject("pairs")
+            .field("total", counts.pairs())
+            .field("bothPassed", counts.bothPassed())
+            .field("baselineOnly", counts.baselineOnly())
+            .field("candidateOnly", counts.candidateOnly())
+            .field("bothFailed", counts.bothFailed())
+            .endObject();
+
+        PairedDecision decision = state.decision();
+        if (decision != null) {
+            builder.startObject("result")
+                .field("verdict", decision.verdict().name())
+                .field("difference", counts.difference(), "%.4f")
+                .formattedInlineArray("differenceInterval", "%.4f",
+                        decision.lowerBound(), decision.upperBound())
+                .field("pValue", decision.pValue(), "%.6f")
+                .field("perLookAlpha", decision.perLookAlpha(), "%.6f")
+                .field("stoppedEarly", counts.pairs() < evaluator.maxPairs())
+                .endObject();
+        }
+
+        if (state.terminationReason() != null) {
+            builder.startObject("termination")
+                .field("reason", state.terminationReason())
+                .fieldIfPresent("details", state.terminationDetails())
+                .endObject();
+        }
+
+        return OutputUtilities.appendFingerprint(builder.build());
+    }
+
+    private void writeArm(YamlBuilder builder, String key, Map<String, Object> factors,
+                          ExperimentResultAggregator aggregator) {
+        builder.startObject(key);
+        if (!factors.isEmpty()) {
+            builder.objectField("factors", factors);
+        }
+        builder.field("samples", aggregator.getSamplesExecuted())
+            .field("successes", aggregator.getSuccesses())
+            .field("observed", aggregator.getObservedSuccessRate(), "%.4f")
+            .endObject();
+    }
+}
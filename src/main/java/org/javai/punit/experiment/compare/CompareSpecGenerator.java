@@ -0,0 +1,116 @@
+package org.javai.punit.experiment.compare;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import org.javai.punit.reporting.PUnitReporter;
+import org.javai.punit.reporting.RateFormat;
+import org.javai.punit.statistics.PairedComparisonEvaluator.PairedCounts;
+import org.javai.punit.statistics.PairedComparisonEvaluator.PairedDecision;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Generates comparison reports for @CompareExperiment.
+ *
+ * <p>Output directory: {@code src/test/resources/punit/comparisons/{useCaseId}/}
+ * <p>Filename pattern: {@code {experimentId}_YYYYMMDD_HHMMSS.yaml}
+ *
+ * <p>Delegates YAML generation to {@link CompareOutputWriter}.
+ */
+class CompareSpecGenerator {
+
+    private static final String DEFAULT_OUTPUT_DIR = "src/test/resources/punit/comparisons";
+    private static final DateTimeFormatter TIMESTAMP_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss").withZone(ZoneId.systemDefault());
+
+    private final CompareOutputWriter writer = new CompareOutputWriter();
+    private final PUnitReporter reporter = new PUnitReporter();
+
+    /**
+     * Writes the comparison report, publishes its result and prints a summary.
+     */
+    void generateSpec(ExtensionContext context, CompareConfig config, ComparisonState state) {
+        publishFinalReport(context, state);
+        try {
+            Path outputPath = resolveOutputPath(config, state);
+            writer.write(config, state,
+                    context.getTestClass().map(Class::getName).orElse(null),
+                    context.getTestMethod().map(Method::getName).orElse(null),
+                    outputPath);
+            context.publishReportEntry("punit.comparison.outputPath", outputPath.toString());
+            printCompletionSummary(config, state, outputPath);
+        } catch (IOException e) {
+            context.publishReportEntry("punit.comparison.error", e.getMessage());
+        }
+    }
+
+    private Path resolveOutputPath(CompareConfig config, ComparisonState state) throws IOException {
+        String outputDirOverride = System.getProperty("punit.comparisons.outputDir");
+        if (outputDirOverride == null || outputDirOverride.isEmpty()) {
+            outputDirOverride = System.getenv("PUNIT_COMPARISONS_OUTPUT_DIR");
+        }
+        Path baseDir;
+        if (outputDirOverride != null && !outputDirOverride.isEmpty()) {
+            baseDir = Paths.get(outputDirOverride);
+        } else {
+            baseDir = Paths.get(DEFAULT_OUTPUT_DIR);
+        }
+
+        Path useCaseDir = baseDir.resolve(sanitizeForFilename(config.useCaseId()));
+        Files.createDirectories(useCaseDir);
+
+        String experimentId = config.experimentId();
+        if (experimentId == null || experimentId.isEmpty()) {
+            experimentId = "comparison";
+        }
+        String timestamp = TIMESTAMP_FORMAT.format(state.startTime());
+        return useCaseDir.resolve(sanitizeForFilename(experimentId) + "_" + timestamp + ".yaml");
+    }
+
+    private void publishFinalReport(ExtensionContext context, ComparisonState state) {
+        PairedCounts counts = state.counts();
+        PairedDecision decision = state.decision();
+        context.publishReportEntry("punit.experiment.complete", "true");
+        context.publishReportEntry("punit.mode", "COMPARE");
+        context.publishReportEntry("punit.comparison.verdict", decision.verdict().name());
+        context.publishReportEntry("punit.comparison.pairs", String.valueOf(counts.pairs()));
+        context.publishReportEntry("punit.comparison.baselineRate", String.format("%.4f", counts.baselineRate()));
+        context.publishReportEntry("punit.comparison.candidateRate", String.format("%.4f", counts.candidateRate()));
+        context.publishReportEntry("punit.comparison.pValue", String.format("%.6f", decision.pValue()));
+        if (state.terminationReason() != null) {
+            context.publishReportEntry("punit.terminationReason", state.terminationReason());
+        }
+    }
+
+    private void printCompletionSummary(CompareConfig config, ComparisonState state, Path outputPath) {
+        PairedCounts counts = state.counts();
+        PairedDecision decision = state.decision();
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(config.useCaseId()).append("\n\n");
+        sb.append(PUnitReporter.labelValueLn("Verdict:", decision.verdict().name()));
+        sb.append(PUnitReporter.labelValueLn("Pairs:",
+                counts.pairs() + " of " + state.evaluator().maxPairs()));
+        sb.append(PUnitReporter.labelValueLn("Baseline:", RateFormat.format(counts.baselineRate())));
+        sb.append(PUnitReporter.labelValueLn("Candidate:", RateFormat.format(counts.candidateRate())));
+        sb.append(PUnitReporter.labelValueLn("Discordant:",
+                counts.baselineOnly() + " baseline only, " + counts.candidateOnly() + " candidate only"));
+        sb.append(PUnitReporter.labelValueLn("p-value:", String.format("%.4f", decision.pValue())));
+        if (state.terminationDetails() != null) {
+            sb.append(PUnitReporter.labelValueLn("Terminated:", state.terminationDetails()));
+        }
+        sb.append("\n");
+        sb.append(PUnitReporter.labelValueLn("Output:", outputPath.toString()));
+
+        reporter.reportInfo("COMPARISON COMPLETE", sb.toString());
+    }
+
+    private String sanitizeForFilename(String input) {
+        if (input == null) return "unnamed";
+        return input.replaceAll("[^a-zA-Z0-9_-]", "-");
+    }
+}
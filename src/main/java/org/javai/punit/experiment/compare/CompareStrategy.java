@@ -0,0 +1,278 @@
+package org.javai.punit.experiment.compare;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.javai.punit.api.CompareExperiment;
+import org.javai.punit.api.ExperimentMode;
+import org.javai.punit.api.FactorArguments;
+import org.javai.punit.api.FactorSource;
+import org.javai.punit.api.InputOrder;
+import org.javai.punit.api.InputSource;
+import org.javai.punit.api.OutcomeCaptor;
+import org.javai.punit.api.UseCaseProvider;
+import org.javai.punit.experiment.engine.ExperimentConfig;
+import org.javai.punit.experiment.engine.ExperimentModeStrategy;
+import org.javai.punit.experiment.engine.ExperimentProgressReporter;
+import org.javai.punit.experiment.engine.ExperimentResultAggregator;
+import org.javai.punit.experiment.engine.input.InputParameterDetector;
+import org.javai.punit.experiment.engine.input.InputSourceResolver;
+import org.javai.punit.experiment.engine.shared.FactorInfo;
+import org.javai.punit.experiment.engine.shared.FactorResolver;
+import org.javai.punit.experiment.engine.shared.ResultRecorder;
+import org.javai.punit.statistics.PairedComparisonEvaluator;
+import org.javai.punit.statistics.PairedComparisonEvaluator.PairedDecision;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+
+/**
+ * Strategy for handling @CompareExperiment.
+ *
+ * <p>COMPARE mode runs a baseline and a candidate configuration in interleaved pairs
+ * on the same inputs. After every {@link PairedComparisonEvaluator#lookInterval()}
+ * pairs the paired outcomes are evaluated, and the experiment stops as soon as a
+ * difference (or equivalence within the margin) is established.
+ */
+public class CompareStrategy implements ExperimentModeStrategy {
+
+    static final String BASELINE = "baseline";
+    static final String CANDIDATE = "candidate";
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create("org.javai.punit.experiment");
+
+    @Override
+    public boolean supports(Method testMethod) {
+        return testMethod.isAnnotationPresent(CompareExperiment.class);
+    }
+
+    @Override
+    public ExperimentConfig parseConfig(Method testMethod) {
+        CompareExperiment annotation = testMethod.getAnnotation(CompareExperiment.class);
+        if (annotation == null) {
+            throw new ExtensionConfigurationException(
+                    "Method must be annotated with @CompareExperiment");
+        }
+        if (annotation.margin() < 0.0 || annotation.margin() >= 1.0) {
+            throw new ExtensionConfigurationException(
+                    "@CompareExperiment margin must be in [0, 1), got: " + annotation.margin());
+        }
+        if (annotation.confidence() <= 0.0 || annotation.confidence() >= 1.0) {
+            throw new ExtensionConfigurationException(
+                    "@CompareExperiment confidence must be in (0, 1), got: " + annotation.confidence());
+        }
+
+        Class<?> useCaseClass = annotation.useCase();
+        String useCaseId = UseCaseProvider.resolveId(useCaseClass);
+
+        return new CompareConfig(
+                useCaseClass,
+                useCaseId,
+                annotation.samples(),
+                annotation.margin(),
+                annotation.confidence(),
+                annotation.timeBudgetMs(),
+                annotation.tokenBudget(),
+                annotation.sampleTimeoutMs(),
+                annotation.experimentId()
+        );
+    }
+
+    @Override
+    public Stream<TestTemplateInvocationContext> provideInvocationContexts(
+            ExperimentConfig config,
+            ExtensionContext context,
+            ExtensionContext.Store store) {
+
+        CompareConfig compareConfig = (CompareConfig) config;
+        int maxPairs = compareConfig.effectivePairs();
+        String useCaseId = compareConfig.useCaseId();
+        Method testMethod = context.getRequiredTestMethod();
+
+        // Resolve the two arms: first configuration is the baseline, second the candidate
+        FactorSource factorSource = testMethod.getAnnotation(FactorSource.class);
+        if (factorSource == null) {
+            throw new ExtensionConfigurationException(
+                    "@CompareExperiment requires a @FactorSource supplying the baseline " +
+                    "and candidate configurations");
+        }
+        List<FactorArguments> argsList = FactorResolver.resolveFactorArguments(
+                testMethod, factorSource, compareConfig.useCaseClass());
+        if (argsList.size() != 2) {
+            throw new ExtensionConfigurationException(
+                    "@CompareExperiment factor source '" + factorSource.value() +
+                    "' must supply exactly 2 configurations (baseline, candidate), got " + argsList.size());
+        }
+        List<FactorInfo> factorInfos = FactorResolver.extractFactorInfos(testMethod, factorSource, argsList);
+        Object[] baselineValues = argsList.get(0).get();
+        Object[] candidateValues = argsList.get(1).get();
+        String baselineName = FactorResolver.buildConfigName(factorInfos, baselineValues);
+        String candidateName = FactorResolver.buildConfigName(factorInfos, candidateValues);
+
+        // Inputs are optional; when present, pairs cycle through them
+        List<Object> inputs = resolveInputs(testMethod, context.getRequiredTestClass());
+        Class<?> inputType = inputs.isEmpty() ? null : InputParameterDetector.findInputParameterType(testMethod);
+
+        PairedComparisonEvaluator evaluator = new PairedComparisonEvaluator(
+                compareConfig.confidence(), compareConfig.margin(), maxPairs);
+        ComparisonState state = new ComparisonState(
+                evaluator,
+                toFactorMap(factorInfos, baselineValues),
+                toFactorMap(factorInfos, candidateValues),
+                new ExperimentResultAggregator(useCaseId + "/" + BASELINE, maxPairs),
+                new ExperimentResultAggregator(useCaseId + "/" + CANDIDATE, maxPairs));
+
+        AtomicBoolean terminated = new AtomicBoolean(false);
+        store.put("mode", ExperimentMode.COMPARE);
+        store.put("factorInfos", factorInfos);
+        store.put("comparisonState", state);
+        store.put("terminated", terminated);
+
+        // Each pair yields the baseline then the candidate; pairs stop once a verdict is reached
+        return Stream.iterate(1, i -> i + 1)
+                .limit(maxPairs)
+                .takeWhile(i -> !terminated.get())
+                .flatMap(pair -> {
+                    Object inputValue = inputs.isEmpty() ? null : inputs.get((pair - 1) % inputs.size());
+                    return Stream.of(
+                            new CompareInvocationContext(pair, maxPairs, BASELINE, baselineName, useCaseId,
+                                    baselineValues, factorInfos, inputValue, inputType, new OutcomeCaptor()),
+                            new CompareInvocationContext(pair, maxPairs, CANDIDATE, candidateName, useCaseId,
+                                    candidateValues, factorInfos, inputValue, inputType, new OutcomeCaptor()));
+                });
+    }
+
+    private List<Object> resolveInputs(Method testMethod, Class<?> testClass) {
+        InputSource inputSource = testMethod.getAnnotation(InputSource.class);
+        if (inputSource == null) {
+            return List.of();
+        }
+        if (inputSource.stratified() || !inputSource.stratumKey().isEmpty()) {
+            throw new ExtensionConfigurationException(
+                    "Stratified @InputSource sampling is supported for @ProbabilisticTest only, " +
+                    "not in %s experiments".formatted(ExperimentMode.COMPARE));
+        }
+        if (inputSource.order() != InputOrder.DECLARED) {
+            throw new ExtensionConfigurationException(
+                    "@InputSource order is supported for @ProbabilisticTest only, " +
+                    "not in %s experiments".formatted(ExperimentMode.COMPARE));
+        }
+        Class<?> inputType = InputParameterDetector.findInputParameterType(testMethod);
+        List<Object> inputs = new InputSourceResolver().resolve(inputSource, testClass, inputType);
+        if (inputs.isEmpty()) {
+            throw new ExtensionConfigurationException(
+                    "@InputSource resolved to empty list");
+        }
+        return inputs;
+    }
+
+    private static Map<String, Object> toFactorMap(List<FactorInfo> factorInfos, Object[] values) {
+        Map<String, Object> factors = new LinkedHashMap<>();
+        for (int i = 0; i < factorInfos.size() && i < values.length; i++) {
+            factors.put(factorInfos.get(i).name(), values[i]);
+        }
+        return factors;
+    }
+
+    @Override
+    public void intercept(
+            InvocationInterceptor.Invocation<Void> invocation,
+            ReflectiveInvocationContext<Method> invocationContext,
+            ExtensionContext extensionContext,
+            ExtensionContext.Store store) throws Throwable {
+
+        CompareConfig config = (CompareConfig) store.get("config", ExperimentConfig.class);
+        ComparisonState state = store.get("comparisonState", ComparisonState.class);
+        AtomicBoolean terminated = store.get("terminated", AtomicBoolean.class);
+
+        // The second arm of a pair still arrives after a budget stop; skip it
+        if (terminated.get()) {
+            invocation.skip();
+            return;
+        }
+
+        ExtensionContext.Store invocationStore = extensionContext.getStore(NAMESPACE);
+        OutcomeCaptor captor = invocationStore.get("captor", OutcomeCaptor.class);
+        String arm = invocationStore.get("configName", String.class);
+        if (arm == null) {
+            throw new ExtensionConfigurationException(
+                    "@CompareExperiment methods must declare an OutcomeCaptor parameter");
+        }
+        boolean isBaseline = BASELINE.equals(arm);
+
+        // Budgets are checked before a pair starts, so every counted pair is complete
+        if (isBaseline && budgetExhausted(config, state, store)) {
+            terminated.set(true);
+            invocation.skip();
+            finish(extensionContext, config, state, state.evaluator().evaluate(state.counts()));
+            return;
+        }
+
+        ExperimentResultAggregator aggregator = isBaseline ? state.baseline() : state.candidate();
+        int successesBefore = aggregator.getSuccesses();
+        try {
+            invocation.proceed();
+            ResultRecorder.recordResult(captor, aggregator);
+        } catch (Throwable e) {
+            aggregator.recordException(e);
+        }
+        boolean passed = aggregator.getSuccesses() > successesBefore;
+
+        if (isBaseline) {
+            state.recordBaseline(passed);
+            return;
+        }
+
+        int pairs = state.recordCandidate(passed);
+        PairedComparisonEvaluator evaluator = state.evaluator();
+        ExperimentProgressReporter.reportProgressWithConfig(
+                extensionContext, ExperimentMode.COMPARE.name(), CANDIDATE,
+                pairs, evaluator.maxPairs(), aggregator.getObservedSuccessRate());
+
+        if (evaluator.isLook(pairs)) {
+            PairedDecision decision = evaluator.evaluate(state.counts());
+            state.setDecision(decision);
+            if (decision.stop()) {
+                terminated.set(true);
+                finish(extensionContext, config, state, decision);
+            }
+        }
+    }
+
+    private boolean budgetExhausted(CompareConfig config, ComparisonState state, ExtensionContext.Store store) {
+        Long startTimeMs = store.get("startTimeMs", Long.class);
+        if (config.timeBudgetMs() > 0 && startTimeMs != null
+                && System.currentTimeMillis() - startTimeMs >= config.timeBudgetMs()) {
+            state.setTerminated("TIME_BUDGET_EXHAUSTED",
+                    "Time budget of " + config.timeBudgetMs() + "ms exceeded");
+            return true;
+        }
+        long tokens = state.baseline().getTotalTokens() + state.candidate().getTotalTokens();
+        if (config.tokenBudget() > 0 && tokens >= config.tokenBudget()) {
+            state.setTerminated("TOKEN_BUDGET_EXHAUSTED",
+                    "Token budget of " + config.tokenBudget() + " exceeded");
+            return true;
+        }
+        return false;
+    }
+
+    private void finish(ExtensionContext context, CompareConfig config,
+                        ComparisonState state, PairedDecision decision) {
+        state.setDecision(decision);
+        state.baseline().setCompleted();
+        state.candidate().setCompleted();
+        new CompareSpecGenerator().generateSpec(context, config, state);
+    }
+
+    @Override
+    public int computeTotalSamples(ExperimentConfig config, Method testMethod) {
+        // Upper bound: two samples per pair
+        return 2 * ((CompareConfig) config).effectivePairs();
+    }
+}
@@ -0,0 +1,123 @@
+package org.javai.punit.experiment.compare;
+
+import java.time.Instant;
+import java.util.Map;
+import org.javai.punit.experiment.engine.ExperimentResultAggregator;
+import org.javai.punit.statistics.PairedComparisonEvaluator;
+import org.javai.punit.statistics.PairedComparisonEvaluator.PairedCounts;
+import org.javai.punit.statistics.PairedComparisonEvaluator.PairedDecision;
+
+/**
+ * Mutable state of a running @CompareExperiment.
+ *
+ * <p>Arms run sequentially: the baseline's outcome is held until the candidate of
+ * the same pair completes, then the pair is tallied.
+ */
+class ComparisonState {
+
+    private final PairedComparisonEvaluator evaluator;
+    private final Map<String, Object> baselineFactors;
+    private final Map<String, Object> candidateFactors;
+    private final ExperimentResultAggregator baseline;
+    private final ExperimentResultAggregator candidate;
+    private final Instant startTime = Instant.now();
+
+    private Boolean pendingBaseline;
+    private int bothPassed;
+    private int baselineOnly;
+    private int candidateOnly;
+    private int bothFailed;
+    private PairedDecision decision;
+    private String terminationReason;
+    private String terminationDetails;
+
+    ComparisonState(PairedComparisonEvaluator evaluator,
+                    Map<String, Object> baselineFactors,
+                    Map<String, Object> candidateFactors,
+                    ExperimentResultAggregator baseline,
+                    ExperimentResultAggregator candidate) {
+        this.evaluator = evaluator;
+        this.baselineFactors = baselineFactors;
+        this.candidateFactors = candidateFactors;
+        this.baseline = baseline;
+        this.candidate = candidate;
+    }
+
+    synchronized void recordBaseline(boolean passed) {
+        pendingBaseline = passed;
+    }
+
+    /**
+     * Completes the pending pair with the candidate's outcome.
+     *
+     * @param candidatePassed whether the candidate passed
+     * @return the number of completed pairs
+     */
+    synchronized int recordCandidate(boolean candidatePassed) {
+        boolean baselinePassed = pendingBaseline != null && pendingBaseline;
+        pendingBaseline = null;
+        if (baselinePassed && candidatePassed) {
+            bothPassed++;
+        } else if (baselinePassed) {
+            baselineOnly++;
+        } else if (candidatePassed) {
+            candidateOnly++;
+        } else {
+            bothFailed++;
+        }
+        return pairs();
+    }
+
+    synchronized PairedCounts counts() {
+        return new PairedCounts(bothPassed, baselineOnly, candidateOnly, bothFailed);
+    }
+
+    synchronized int pairs() {
+        return bothPassed + baselineOnly + candidateOnly + bothFailed;
+    }
+
+    synchronized void setDecision(PairedDecision decision) {
+        this.decision = decision;
+    }
+
+    synchronized PairedDecision decision() {
+        return decision;
+    }
+
+    synchronized void setTerminated(String reason, String details) {
+        this.terminationReason = reason;
+        this.terminationDetails = details;
+    }
+
+    synchronized String terminationReason() {
+        return terminationReason;
+    }
+
+    synchronized String terminationDetails() {
+        return terminationDetails;
+    }
+
+    PairedComparisonEvaluator evaluator() {
+        return evaluator;
+    }
+
+    Map<String, Object> baselineFactors() {
+        return baselineFactors;
+    }
+
+    Map<String, Object> candidateFactors() {
+        return candidateFactors;
+    }
+
+    ExperimentResultAggregator baseline() {
+        return baseline;
+    }
+
+    ExperimentResultAggregator candidate() {
+        return candidate;
+    }
+
+    Instant startTime() {
+        return startTime;
+    }
+}
@@ -2,11 +2,13 @@ package org.javai.punit.experiment.engine;
 
 import java.lang.reflect.Method;
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.javai.punit.api.UseCaseContext;
 import org.javai.punit.experiment.model.EmpiricalBaseline;
 import org.javai.punit.experiment.model.EmpiricalBaseline.CostSummary;
 import org.javai.punit.experiment.model.EmpiricalBaseline.ExecutionSummary;
+import org.javai.punit.experiment.model.EmpiricalBaseline.PostconditionCounts;
 import org.javai.punit.experiment.model.EmpiricalBaseline.StatisticsSummary;
 import org.javai.punit.model.CovariateProfile;
 import org.javai.punit.model.ExpirationPolicy;
@@ -109,7 +111,9 @@ public class EmpiricalBaselineGenerator {
             aggregator.getElapsedMs(),
             aggregator.getAvgTimePerSampleMs(),
             aggregator.getTotalTokens(),
-            aggregator.getAvgTokensPerSample()
+            aggregator.getAvgTokensPerSample(),
+            aggregator.getUseCaseTimeMs(),
+            aggregator.getPacingWaitMs()
         );
         
         EmpiricalBaseline.Builder builder = EmpiricalBaseline.builder()
@@ -127,6 +131,15 @@ public class EmpiricalBaselineGenerator {
             builder.experimentMethod(experimentMethod.getName());
         }
         
+        // Keep postcondition counts so the baseline can later be accumulated
+        if (aggregator.hasPostconditionStats()) {
+            Map<String, PostconditionCounts> postconditionCounts = new LinkedHashMap<>();
+            aggregator.getPostconditionAggregator().getPostconditionStats().forEach((description, stats) ->
+                postconditionCounts.put(description,
+                    new PostconditionCounts(stats.getPassed(), stats.getFailed(), stats.getSkipped())));
+            builder.postconditionCounts(postconditionCounts);
+        }
+
         // Add result projections (EXPLORE mode only)
         if (aggregator.hasResultProjections()) {
             builder.resultProjections(aggregator.getResultProjections());
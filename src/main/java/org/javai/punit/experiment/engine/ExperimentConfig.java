@@ -1,6 +1,7 @@
 package org.javai.punit.experiment.engine;
 
 import org.javai.punit.api.ExperimentMode;
+import org.javai.punit.experiment.compare.CompareConfig;
 import org.javai.punit.experiment.explore.ExploreConfig;
 import org.javai.punit.experiment.measure.MeasureConfig;
 import org.javai.punit.experiment.optimize.OptimizeConfig;
@@ -15,18 +16,19 @@ import org.javai.punit.experiment.optimize.OptimizeConfig;
  *   <li>{@link MeasureConfig} - Configuration for @MeasureExperiment</li>
  *   <li>{@link ExploreConfig} - Configuration for @ExploreExperiment</li>
  *   <li>{@link OptimizeConfig} - Configuration for @OptimizeExperiment</li>
+ *   <li>{@link CompareConfig} - Configuration for @CompareExperiment</li>
  * </ul>
  *
  * <p>Note: This interface is not sealed because Java requires sealed interfaces
  * and their permitted implementations to be in the same package (without JPMS modules).
- * The implementations are nonetheless restricted to the three mode packages.
+ * The implementations are nonetheless restricted to the mode packages.
  */
 public interface ExperimentConfig {
 
     /**
      * The experiment mode.
      *
-     * @return the mode (MEASURE, EXPLORE, or OPTIMIZE)
+     * @return the mode (MEASURE, EXPLORE, OPTIMIZE, or COMPARE)
      */
     ExperimentMode mode();
 
@@ -65,6 +67,16 @@ public interface ExperimentConfig {
      */
     long tokenBudget();
 
+    /**
+     * Per-sample deadline in milliseconds, as declared on the annotation.
+     *
+     * <p>0 means no deadline. May be overridden at run time with
+     * {@code -Dpunit.sampleTimeoutMs}.
+     *
+     * @return the per-sample timeout in milliseconds
+     */
+    long sampleTimeoutMs();
+
     /**
      * Experiment identifier for output naming.
      *
@@ -3,14 +3,36 @@ package org.javai.punit.experiment.engine;
 import java.lang.reflect.Method;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.javai.punit.controls.pacing.PacingConfiguration;
+import org.javai.punit.controls.pacing.PacingPool;
+import org.javai.punit.controls.pacing.PacingPoolRegistry;
 import org.javai.punit.controls.pacing.PacingReporter;
 import org.javai.punit.controls.pacing.PacingResolver;
+import org.javai.punit.controls.timeout.SampleTimeoutResolver;
+import org.javai.punit.controls.timeout.SampleWatchdog;
+import org.javai.punit.experiment.compare.CompareStrategy;
+import org.javai.punit.experiment.engine.batch.BatchOutcomeParameterResolver;
+import org.javai.punit.experiment.engine.output.OutputPipeline;
 import org.javai.punit.experiment.explore.ExploreStrategy;
 import org.javai.punit.experiment.measure.MeasureStrategy;
 import org.javai.punit.experiment.optimize.OptimizeStrategy;
+import org.javai.punit.reporting.PhaseTimings;
+import org.javai.punit.reporting.PhaseTimings.Phase;
+import org.javai.punit.reporting.SampleTimer;
+import org.javai.punit.reporting.jfr.PacingWaitEvent;
+import org.javai.punit.reporting.jfr.SampleEvent;
+import org.javai.punit.reporting.metrics.MetricsRegistry;
+import org.javai.punit.reporting.stream.RunEvent;
+import org.javai.punit.reporting.stream.RunStream;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.InvocationInterceptor;
@@ -22,12 +44,14 @@ import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
  * JUnit 5 extension that coordinates experiment execution.
  *
  * <p>This class is intentionally thin - it detects which mode annotation is present,
- * delegates to the corresponding strategy, and manages shared infrastructure (pacing).
+ * delegates to the corresponding strategy, and manages shared infrastructure (pacing,
+ * per-sample timeouts).
  * Mode-specific logic lives in the strategy implementations:
  * <ul>
  *   <li>{@link MeasureStrategy} - Handles @MeasureExperiment</li>
  *   <li>{@link ExploreStrategy} - Handles @ExploreExperiment</li>
  *   <li>{@link OptimizeStrategy} - Handles @OptimizeExperiment</li>
+ *   <li>{@link CompareStrategy} - Handles @CompareExperiment</li>
  * </ul>
  *
  * <h2>Architecture</h2>
@@ -41,15 +65,18 @@ import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
  * </ol>
  */
 public class ExperimentExtension implements TestTemplateInvocationContextProvider,
-        InvocationInterceptor {
+        InvocationInterceptor, ExecutionCondition {
 
     private static final ExtensionContext.Namespace NAMESPACE =
             ExtensionContext.Namespace.create("org.javai.punit.experiment");
 
+    private static final Logger logger = LogManager.getLogger(ExperimentExtension.class);
+
     private static final List<ExperimentModeStrategy> STRATEGIES = List.of(
             new MeasureStrategy(),
             new ExploreStrategy(),
-            new OptimizeStrategy()
+            new OptimizeStrategy(),
+            new CompareStrategy()
     );
 
     @Override
@@ -59,15 +86,39 @@ public class ExperimentExtension implements TestTemplateInvocationContextProvide
                 .orElse(false);
     }
 
+    /**
+     * Skips an experiment whose strategy reports it as up to date.
+     *
+     * <p>Evaluated once for the experiment method; its samples are never disabled here.
+     */
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        Optional<Method> testMethod = context.getTestMethod();
+        boolean isSample = context.getParent().flatMap(ExtensionContext::getTestMethod).isPresent();
+        if (testMethod.isEmpty() || isSample || !supportsTestTemplate(context)) {
+            return ConditionEvaluationResult.enabled("not an experiment");
+        }
+        ExperimentModeStrategy strategy = findStrategy(testMethod.get());
+        ExperimentConfig config = strategy.parseConfig(testMethod.get());
+        return strategy.upToDate(config, context)
+                .map(reason -> {
+                    logger.info("{} {}: {}", config.mode(), testMethod.get().getName(), reason);
+                    return ConditionEvaluationResult.disabled(config.mode() + " " + reason);
+                })
+                .orElseGet(() -> ConditionEvaluationResult.enabled("not up to date"));
+    }
+
     @Override
     public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(
             ExtensionContext context) {
 
+        long setupStart = System.nanoTime();
         Method testMethod = context.getRequiredTestMethod();
         ExperimentModeStrategy strategy = findStrategy(testMethod);
 
         ExtensionContext.Store store = context.getStore(NAMESPACE);
         ExperimentConfig config = strategy.parseConfig(testMethod);
+        PhaseTimings phaseTimings = new PhaseTimings();
 
         // Store shared state
         store.put("strategy", strategy);
@@ -76,12 +127,29 @@ public class ExperimentExtension implements TestTemplateInvocationContextProvide
         store.put("startTimeMs", System.currentTimeMillis());
         store.put("useCaseId", config.useCaseId());
         store.put("useCaseClass", config.useCaseClass());
+        store.put("phaseTimings", phaseTimings);
+
+        // Output files are written in the background; wait for them when the experiment ends
+        store.put("outputFlush", (AutoCloseable) () -> OutputPipeline.shared().flush());
 
         // Setup pacing (shared infrastructure)
         int totalSamples = strategy.computeTotalSamples(config, testMethod);
-        setupPacing(testMethod, totalSamples, config, store);
+        store.put("totalSamples", totalSamples);
+        setupPacing(strategy, testMethod, totalSamples, config, store);
+
+        RunStream runStream = RunStream.shared();
+        if (runStream.isEnabled()) {
+            runStream.emit(new RunEvent.Started(Instant.now(), config.mode().name(),
+                    context.getRequiredTestClass().getName(), testMethod.getName(), totalSamples, Double.NaN));
+            store.put("runStreamFinish", (AutoCloseable) () -> emitFinished(runStream, context, store));
+        }
+
+        // Setup per-sample timeout (shared infrastructure)
+        setupSampleTimeout(testMethod, config, store);
 
-        return strategy.provideInvocationContexts(config, context, store);
+        Stream<TestTemplateInvocationContext> invocations = strategy.provideInvocationContexts(config, context, store);
+        phaseTimings.addSince(Phase.SETUP, setupStart);
+        return invocations;
     }
 
     @Override
@@ -95,11 +163,186 @@ public class ExperimentExtension implements TestTemplateInvocationContextProvide
         ExtensionContext.Store store = parentContext.getStore(NAMESPACE);
 
         ExperimentModeStrategy strategy = store.get("strategy", ExperimentModeStrategy.class);
+        SampleTimer timer = SampleTimer.start(store.getOrComputeIfAbsent("phaseTimings",
+                key -> new PhaseTimings(), PhaseTimings.class));
 
         // Apply pacing delay (shared infrastructure)
-        applyPacingDelay(store);
+        long pacingStart = System.nanoTime();
+        PacingPool pacingPool = applyPacingDelay(store);
+        long pacingNanos = System.nanoTime() - pacingStart;
+        timer.add(Phase.PACING, pacingNanos);
+        MetricsRegistry metrics = MetricsRegistry.shared();
+        PacingConfiguration pacing = store.get("pacing", PacingConfiguration.class);
+        if (metrics.isEnabled() && pacing != null && pacing.hasPacing()) {
+            ExperimentConfig config = store.get("config", ExperimentConfig.class);
+            metrics.recordPacingWait(config.mode().name(), config.useCaseId(), pacingNanos);
+        }
+
+        // Run the sample under the per-sample watchdog (shared infrastructure).
+        // A timeout surfaces to the strategy as a SampleTimeoutException, which it
+        // records like any other sample failure.
+        // A failed batch call is rethrown from the sample body in the same way.
+        SampleWatchdog watchdog = store.get("sampleWatchdog", SampleWatchdog.class);
+        Invocation<Void> guarded = timer.timeUseCase(
+                BatchOutcomeParameterResolver.guard(invocation, extensionContext));
+        Invocation<Void> sample = guarded;
+        if (watchdog != null && watchdog.isEnabled()) {
+            sample = () -> {
+                watchdog.run(guarded::proceed);
+                return null;
+            };
+        }
+
+        try {
+            SampleEvent sampleEvent = SampleEvent.start();
+            RunStream runStream = RunStream.shared();
+            if (sampleEvent.isEnabled() || runStream.isEnabled() || metrics.isEnabled()) {
+                interceptObserved(sampleEvent, runStream, metrics, strategy, sample, invocationContext,
+                        extensionContext, store);
+            } else {
+                strategy.intercept(sample, invocationContext, extensionContext, store);
+            }
+        } finally {
+            if (pacingPool != null) {
+                pacingPool.release();
+            }
+            // Whatever this sample's time was not spent on is the strategy's own work
+            timer.finish();
+        }
+    }
+
+    /**
+     * Runs a sample while a flight recording is capturing sample events, or the
+     * run stream or metrics registry is enabled.
+     *
+     * <p>Where the experiment has a single aggregator (MEASURE and EXPLORE without
+     * factors) the sample's outcome and tokens are read from it. Otherwise the outcome
+     * is whether the sample body threw.
+     */
+    private void interceptObserved(
+            SampleEvent event,
+            RunStream runStream,
+            MetricsRegistry metrics,
+            ExperimentModeStrategy strategy,
+            Invocation<Void> sample,
+            ReflectiveInvocationContext<Method> invocationContext,
+            ExtensionContext extensionContext,
+            ExtensionContext.Store store) throws Throwable {
+
+        ExperimentResultAggregator aggregator = store.get("aggregator", ExperimentResultAggregator.class);
+        int successesBefore = aggregator != null ? aggregator.getSuccesses() : 0;
+        int failuresBefore = aggregator != null ? aggregator.getFailures() : 0;
+        long tokensBefore = aggregator != null ? aggregator.getTotalTokens() : 0;
+        int sampleIndex = store.getOrComputeIfAbsent("sampleEventCounter",
+                key -> new AtomicInteger(), AtomicInteger.class).incrementAndGet();
+
+        AtomicReference<String> bodyOutcome = new AtomicReference<>(SampleEvent.NOT_RECORDED);
+        long[] bodyNanos = new long[1];
+        Invocation<Void> observed = new Invocation<>() {
+            @Override
+            public Void proceed() throws Throwable {
+                long start = System.nanoTime();
+                try {
+                    Void result = sample.proceed();
+                    bodyOutcome.set(SampleEvent.SUCCESS);
+                    return result;
+                } catch (Throwable t) {
+                    bodyOutcome.set(SampleEvent.FAILURE);
+                    throw t;
+                } finally {
+                    bodyNanos[0] = System.nanoTime() - start;
+                }
+            }
+
+            @Override
+            public void skip() {
+                sample.skip();
+            }
+        };
+
+        try {
+            strategy.intercept(observed, invocationContext, extensionContext, store);
+        } finally {
+            String outcome = bodyOutcome.get();
+            long tokens = 0;
+            if (aggregator != null) {
+                outcome = SampleEvent.outcome(aggregator.getSuccesses() - successesBefore,
+                        aggregator.getFailures() - failuresBefore);
+                tokens = aggregator.getTotalTokens() - tokensBefore;
+            }
+            ExperimentConfig config = store.get("config", ExperimentConfig.class);
+            if (event.isEnabled()) {
+                event.complete(config.mode().name(), extensionContext.getRequiredTestClass(),
+                        extensionContext.getRequiredTestMethod().getName(), sampleIndex, outcome, tokens);
+            }
+            if (runStream.isEnabled()) {
+                SampleCounts counts = sampleCounts(store, aggregator, outcome);
+                runStream.emit(new RunEvent.Sample(Instant.now(), config.mode().name(),
+                        extensionContext.getRequiredTestClass().getName(),
+                        extensionContext.getRequiredTestMethod().getName(), sampleIndex, outcome,
+                        counts.successes(), counts.failures(), totalSamples(store),
+                        TimeUnit.NANOSECONDS.toMillis(bodyNanos[0]), tokens,
+                        aggregator != null ? aggregator.getTotalTokens() : 0, elapsedMs(store)));
+            }
+            if (metrics.isEnabled()) {
+                Boolean succeeded = SampleEvent.SUCCESS.equals(outcome) ? Boolean.TRUE
+                        : SampleEvent.FAILURE.equals(outcome) ? Boolean.FALSE : null;
+                metrics.recordSample(config.mode().name(), config.useCaseId(), succeeded, bodyNanos[0], tokens);
+            }
+        }
+    }
+
+    /**
+     * Success and failure counts of an experiment so far.
+     */
+    private record SampleCounts(int successes, int failures) {
+    }
+
+    /**
+     * Returns the counts of an experiment, from its aggregator if it has a single one,
+     * otherwise from whether the sample bodies threw.
+     */
+    private static SampleCounts sampleCounts(ExtensionContext.Store store,
+            ExperimentResultAggregator aggregator, String outcome) {
+        if (aggregator != null) {
+            return new SampleCounts(aggregator.getSuccesses(), aggregator.getFailures());
+        }
+        AtomicInteger successes = store.getOrComputeIfAbsent("streamSuccesses",
+                key -> new AtomicInteger(), AtomicInteger.class);
+        AtomicInteger failures = store.getOrComputeIfAbsent("streamFailures",
+                key -> new AtomicInteger(), AtomicInteger.class);
+        if (outcome != null) {
+            if (SampleEvent.SUCCESS.equals(outcome)) {
+                successes.incrementAndGet();
+            } else if (SampleEvent.FAILURE.equals(outcome)) {
+                failures.incrementAndGet();
+            }
+        }
+        return new SampleCounts(successes.get(), failures.get());
+    }
+
+    /**
+     * Writes the finish of an experiment to the run stream.
+     */
+    private static void emitFinished(RunStream runStream, ExtensionContext context, ExtensionContext.Store store) {
+        ExperimentConfig config = store.get("config", ExperimentConfig.class);
+        ExperimentResultAggregator aggregator = store.get("aggregator", ExperimentResultAggregator.class);
+        SampleCounts counts = sampleCounts(store, aggregator, null);
+        runStream.emit(new RunEvent.Finished(Instant.now(), config.mode().name(),
+                context.getRequiredTestClass().getName(), context.getRequiredTestMethod().getName(),
+                null, counts.successes(), counts.failures(), totalSamples(store), elapsedMs(store),
+                aggregator != null ? aggregator.getTotalTokens() : 0,
+                aggregator != null ? aggregator.getTerminationReason() : null));
+    }
+
+    private static int totalSamples(ExtensionContext.Store store) {
+        Integer totalSamples = store.get("totalSamples", Integer.class);
+        return totalSamples != null ? totalSamples : 0;
+    }
 
-        strategy.intercept(invocation, invocationContext, extensionContext, store);
+    private static long elapsedMs(ExtensionContext.Store store) {
+        Long startTimeMs = store.get("startTimeMs", Long.class);
+        return startTimeMs != null ? System.currentTimeMillis() - startTimeMs : 0;
     }
 
     /**
@@ -112,63 +355,110 @@ public class ExperimentExtension implements TestTemplateInvocationContextProvide
                 .orElseThrow(() -> new ExtensionConfigurationException(
                         "No strategy found for method: " + testMethod.getName() +
                                 ". Method must be annotated with @MeasureExperiment, " +
-                                "@ExploreExperiment, or @OptimizeExperiment."));
+                                "@ExploreExperiment, @OptimizeExperiment, or @CompareExperiment."));
     }
 
     /**
      * Sets up pacing configuration from @Pacing annotation.
      */
-    private void setupPacing(Method testMethod, int totalSamples,
+    private void setupPacing(ExperimentModeStrategy strategy, Method testMethod, int totalSamples,
                              ExperimentConfig config, ExtensionContext.Store store) {
 
         PacingResolver resolver = new PacingResolver();
-        PacingConfiguration pacing = resolver.resolve(testMethod, totalSamples);
+        PacingConfiguration pacing = strategy.pacing(config, resolver.resolve(testMethod, totalSamples));
         store.put("pacing", pacing);
         store.put("globalSampleCounter", new AtomicInteger(0));
 
+        String testName = testMethod.getDeclaringClass().getSimpleName() + "." + testMethod.getName();
+        PacingReporter pacingReporter = new PacingReporter();
+
+        // Join the shared pool; its utilisation is reported when the experiment's context closes
+        if (pacing.hasPool()) {
+            PacingPool pool = PacingPoolRegistry.pool(pacing.pool());
+            pool.register(testName, pacing.effectiveMinDelayMs(), pacing.maxConcurrentRequests());
+            store.put("pacingPoolReport",
+                    (AutoCloseable) () -> pacingReporter.printPoolUtilisation(pool.snapshot()));
+        }
+
         // Report pacing configuration if enabled
         if (pacing.hasPacing()) {
-            String testName = testMethod.getDeclaringClass().getSimpleName() + "." + testMethod.getName();
-            PacingReporter pacingReporter = new PacingReporter();
             pacingReporter.printPreFlightReport(testName, totalSamples, pacing, Instant.now());
             pacingReporter.printFeasibilityWarning(pacing, config.timeBudgetMs(), totalSamples);
         }
     }
 
+    /**
+     * Sets up the per-sample watchdog from the annotation and any run-time override.
+     */
+    private void setupSampleTimeout(Method testMethod, ExperimentConfig config,
+                                    ExtensionContext.Store store) {
+        long sampleTimeoutMs;
+        try {
+            sampleTimeoutMs = new SampleTimeoutResolver().resolve(
+                    config.sampleTimeoutMs(), testMethod.getName());
+        } catch (IllegalArgumentException e) {
+            throw new ExtensionConfigurationException(e.getMessage(), e);
+        }
+        store.put("sampleWatchdog", new SampleWatchdog(sampleTimeoutMs));
+    }
+
     /**
      * Applies pacing delay between samples.
      *
      * <p>Uses a global sample counter to ensure continuous pacing across all samples,
-     * including across configuration boundaries in @ExploreExperiment.
+     * including across configuration boundaries in @ExploreExperiment. Experiments
+     * in a shared pool take their slots from the pool instead.
+     *
+     * @return the pool whose concurrency permit the sample holds, to be released when
+     *         the sample finishes; null if the experiment is not in a pool or its wait
+     *         was interrupted
      */
-    private void applyPacingDelay(ExtensionContext.Store store) {
+    private PacingPool applyPacingDelay(ExtensionContext.Store store) {
         PacingConfiguration pacing = store.get("pacing", PacingConfiguration.class);
         if (pacing == null || !pacing.hasPacing()) {
-            return;
+            return null;
+        }
+
+        if (pacing.hasPool()) {
+            PacingPool pool = PacingPoolRegistry.pool(pacing.pool());
+            PacingWaitEvent event = PacingWaitEvent.start();
+            try {
+                pool.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // The interrupted wait took no permit, so there is nothing to release
+                return null;
+            } finally {
+                event.complete(pacing.pool(), pacing.effectiveMinDelayMs());
+            }
+            return pool;
         }
 
         AtomicInteger globalSampleCounter = store.get("globalSampleCounter", AtomicInteger.class);
         if (globalSampleCounter == null) {
-            return;
+            return null;
         }
 
         int globalSample = globalSampleCounter.incrementAndGet();
 
         // Skip delay for first sample
         if (globalSample <= 1) {
-            return;
+            return null;
         }
 
         long delayMs = pacing.effectiveMinDelayMs();
         if (delayMs <= 0) {
-            return;
+            return null;
         }
 
+        PacingWaitEvent event = PacingWaitEvent.start();
         try {
             Thread.sleep(delayMs);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             // Don't fail the experiment, just continue
         }
+        event.complete(null, delayMs);
+        return null;
     }
 }
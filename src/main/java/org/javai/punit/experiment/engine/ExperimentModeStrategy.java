@@ -1,7 +1,9 @@
 package org.javai.punit.experiment.engine;
 
 import java.lang.reflect.Method;
+import java.util.Optional;
 import java.util.stream.Stream;
+import org.javai.punit.controls.pacing.PacingConfiguration;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
@@ -10,7 +12,7 @@ import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
 /**
  * Strategy interface for handling a specific experiment mode.
  *
- * <p>Each experiment mode (MEASURE, EXPLORE, OPTIMIZE) provides an implementation
+ * <p>Each experiment mode (MEASURE, EXPLORE, OPTIMIZE, COMPARE) provides an implementation
  * that encapsulates all mode-specific behavior:
  * <ul>
  *   <li>Parsing its annotation into a configuration</li>
@@ -28,6 +30,7 @@ import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
  *   <li>{@code MeasureStrategy} - Handles @MeasureExperiment</li>
  *   <li>{@code ExploreStrategy} - Handles @ExploreExperiment</li>
  *   <li>{@code OptimizeStrategy} - Handles @OptimizeExperiment</li>
+ *   <li>{@code CompareStrategy} - Handles @CompareExperiment</li>
  * </ul>
  */
 public interface ExperimentModeStrategy {
@@ -104,4 +107,32 @@ public interface ExperimentModeStrategy {
      * @return estimated total samples
      */
     int computeTotalSamples(ExperimentConfig config, Method testMethod);
+
+    /**
+     * Adjust the pacing resolved from the method's {@code @Pacing} annotation.
+     *
+     * <p>Called once, before samples execute. By default, the resolved pacing is used
+     * as it is.
+     *
+     * @param config the parsed configuration
+     * @param pacing the pacing resolved for the experiment
+     * @return the pacing to apply in this process
+     */
+    default PacingConfiguration pacing(ExperimentConfig config, PacingConfiguration pacing) {
+        return pacing;
+    }
+
+    /**
+     * Check whether running the experiment would only reproduce its existing output.
+     *
+     * <p>An up-to-date experiment is skipped, with the returned reason. By default,
+     * experiments always run.
+     *
+     * @param config the parsed configuration
+     * @param context the JUnit extension context of the experiment method
+     * @return why the experiment is up to date, or empty if it has to run
+     */
+    default Optional<String> upToDate(ExperimentConfig config, ExtensionContext context) {
+        return Optional.empty();
+    }
 }
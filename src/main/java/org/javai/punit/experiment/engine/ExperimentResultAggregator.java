@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.Objects;
 import org.javai.punit.contract.PostconditionResult;
 import org.javai.punit.contract.UseCaseOutcome;
+import org.javai.punit.controls.timeout.SampleTimeoutException;
 import org.javai.punit.experiment.model.ResultProjection;
 import org.javai.punit.spec.criteria.PostconditionAggregator;
 
@@ -17,7 +18,7 @@ import org.javai.punit.spec.criteria.PostconditionAggregator;
  * <p>This aggregator is designed for experiments which:
  * <ul>
  *   <li>Collect {@link UseCaseOutcome} instances</li>
- *   <li>Track failure modes by category</li>
+ *   <li>Track failure modes by category (including per-sample timeouts)</li>
  *   <li>Compute statistical summaries</li>
  *   <li>Track token consumption</li>
  * </ul>
@@ -31,7 +32,10 @@ public class ExperimentResultAggregator {
 
     private int successes = 0;
     private int failures = 0;
+    private int timeouts = 0;
     private long totalTokens = 0;
+    private long useCaseTimeMs = 0;
+    private long pacingWaitMs = 0;
     private final Map<String, Integer> failureDistribution = new LinkedHashMap<>();
     private final List<UseCaseOutcome<?>> outcomes = new ArrayList<>();
     private final List<ResultProjection> resultProjections = new ArrayList<>();
@@ -90,9 +94,16 @@ public class ExperimentResultAggregator {
     /**
      * Records a failure from an exception (no outcome available).
      *
+     * <p>A {@link SampleTimeoutException} is recorded under the
+     * {@value SampleTimeoutException#FAILURE_CATEGORY} category.
+     *
      * @param exception the exception that caused the failure
      */
     public void recordException(Throwable exception) {
+        if (exception instanceof SampleTimeoutException) {
+            recordTimeout();
+            return;
+        }
         failures++;
         String category = exception != null
             ? exception.getClass().getSimpleName()
@@ -101,6 +112,16 @@ public class ExperimentResultAggregator {
         updateLastSampleTime();
     }
 
+    /**
+     * Records a sample that exceeded the per-sample timeout.
+     */
+    public void recordTimeout() {
+        failures++;
+        timeouts++;
+        failureDistribution.merge(SampleTimeoutException.FAILURE_CATEGORY, 1, Integer::sum);
+        updateLastSampleTime();
+    }
+
     /**
      * Updates the last sample completion timestamp.
      */
@@ -257,6 +278,29 @@ public class ExperimentResultAggregator {
         return getElapsedMs() / executed;
     }
 
+    /**
+     * Records how much of the experiment's time went to the use case and to pacing waits.
+     *
+     * @param useCaseTimeMs time spent in sample bodies
+     * @param pacingWaitMs time spent waiting for pacing
+     */
+    public void setPhaseTimes(long useCaseTimeMs, long pacingWaitMs) {
+        this.useCaseTimeMs = useCaseTimeMs;
+        this.pacingWaitMs = pacingWaitMs;
+    }
+
+    public long getUseCaseTimeMs() {
+        return useCaseTimeMs;
+    }
+
+    public long getPacingWaitMs() {
+        return pacingWaitMs;
+    }
+
+    public int getTimeouts() {
+        return timeouts;
+    }
+
     public Map<String, Integer> getFailureDistribution() {
         return Collections.unmodifiableMap(failureDistribution);
     }
@@ -1,10 +1,13 @@
 package org.javai.punit.experiment.engine;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
 
@@ -33,6 +36,10 @@ import org.yaml.snakeyaml.Yaml;
  *     .endObject()
  *     .build();
  * }</pre>
+ *
+ * <p>A builder created with {@link #streaming(Appendable)} writes each entry to its
+ * target as soon as it is added instead of holding the document in memory, producing
+ * the same text that {@link #build()} would.
  */
 public class YamlBuilder {
 
@@ -45,14 +52,24 @@ public class YamlBuilder {
     private final Yaml yaml;
     private int rawLineCounter = 0;
 
-    private YamlBuilder() {
+    // Streaming mode: target and open contexts; null/unused when building a tree
+    private final Appendable out;
+    private final Deque<StreamContext> streamStack = new ArrayDeque<>();
+    private final StringBuilder pending = new StringBuilder();
+    private boolean contentStarted;
+    private boolean hasComments;
+    private boolean commentsEndWithBlankLine;
+
+    private YamlBuilder(Appendable out) {
         this.options = new DumperOptions();
         options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
         options.setPrettyFlow(true);
         options.setIndent(2);
         options.setWidth(120);
         this.yaml = new Yaml(options);
+        this.out = out;
         contextStack.push(root);
+        streamStack.push(StreamContext.map(0));
     }
 
     /**
@@ -61,7 +78,21 @@ public class YamlBuilder {
      * @return a new builder
      */
     public static YamlBuilder create() {
-        return new YamlBuilder();
+        return new YamlBuilder(null);
+    }
+
+    /**
+     * Creates a builder that writes the document to a target as it is built.
+     *
+     * <p>Entries are written in call order, so each key must be added once and header
+     * comments must precede all content. Call {@link #finish()} once the document is
+     * complete. Failures of the target are thrown as {@link UncheckedIOException}.
+     *
+     * @param out the target to write to
+     * @return a new streaming builder
+     */
+    public static YamlBuilder streaming(Appendable out) {
+        return new YamlBuilder(Objects.requireNonNull(out, "out must not be null"));
     }
 
     /**
@@ -73,8 +104,7 @@ public class YamlBuilder {
      * @return this builder
      */
     public YamlBuilder comment(String text) {
-        comments.append("# ").append(text).append("\n");
-        return this;
+        return appendComment("# " + text + "\n");
     }
 
     /**
@@ -83,8 +113,7 @@ public class YamlBuilder {
      * @return this builder
      */
     public YamlBuilder blankLine() {
-        comments.append("\n");
-        return this;
+        return appendComment("\n");
     }
 
     /**
@@ -95,7 +124,7 @@ public class YamlBuilder {
      * @return this builder
      */
     public YamlBuilder field(String key, String value) {
-        currentMap().put(key, value);
+        put(key, value);
         return this;
     }
 
@@ -107,7 +136,7 @@ public class YamlBuilder {
      * @return this builder
      */
     public YamlBuilder field(String key, int value) {
-        currentMap().put(key, value);
+        put(key, value);
         return this;
     }
 
@@ -119,7 +148,7 @@ public class YamlBuilder {
      * @return this builder
      */
     public YamlBuilder field(String key, long value) {
-        currentMap().put(key, value);
+        put(key, value);
         return this;
     }
 
@@ -132,7 +161,7 @@ public class YamlBuilder {
      * @return this builder
      */
     public YamlBuilder field(String key, double value, String format) {
-        currentMap().put(key, new FormattedDouble(value, format));
+        put(key, new FormattedDouble(value, format));
         return this;
     }
 
@@ -144,7 +173,7 @@ public class YamlBuilder {
      * @return this builder
      */
     public YamlBuilder field(String key, double value) {
-        currentMap().put(key, value);
+        put(key, value);
         return this;
     }
 
@@ -156,7 +185,7 @@ public class YamlBuilder {
      * @return this builder
      */
     public YamlBuilder field(String key, boolean value) {
-        currentMap().put(key, value);
+        put(key, value);
         return this;
     }
 
@@ -168,7 +197,7 @@ public class YamlBuilder {
      * @return this builder
      */
     public YamlBuilder field(String key, Object value) {
-        currentMap().put(key, value);
+        put(key, value);
         return this;
     }
 
@@ -181,7 +210,7 @@ public class YamlBuilder {
      */
     public YamlBuilder fieldIfPresent(String key, Object value) {
         if (value != null) {
-            currentMap().put(key, value);
+            put(key, value);
         }
         return this;
     }
@@ -195,7 +224,7 @@ public class YamlBuilder {
      */
     public YamlBuilder fieldIfNotEmpty(String key, String value) {
         if (value != null && !value.isEmpty()) {
-            currentMap().put(key, value);
+            put(key, value);
         }
         return this;
     }
@@ -208,7 +237,7 @@ public class YamlBuilder {
      * @return this builder
      */
     public YamlBuilder inlineArray(String key, Object... values) {
-        currentMap().put(key, new InlineArray(List.of(values)));
+        put(key, new InlineArray(List.of(values)));
         return this;
     }
 
@@ -225,7 +254,7 @@ public class YamlBuilder {
         for (int i = 0; i < values.length; i++) {
             formatted[i] = new FormattedDouble(values[i], format);
         }
-        currentMap().put(key, new InlineArray(List.of(formatted)));
+        put(key, new InlineArray(List.of(formatted)));
         return this;
     }
 
@@ -236,8 +265,16 @@ public class YamlBuilder {
      * @return this builder
      */
     public YamlBuilder startObject(String key) {
+        if (out != null) {
+            StreamContext parent = currentStreamMap();
+            emitKey(parent, key);
+            pending.append("\n");
+            flushPending();
+            streamStack.push(StreamContext.map(parent.indent + 1));
+            return this;
+        }
         Map<String, Object> nested = new LinkedHashMap<>();
-        currentMap().put(key, nested);
+        put(key, nested);
         contextStack.push(nested);
         keyStack.push(key);
         return this;
@@ -250,6 +287,10 @@ public class YamlBuilder {
      * @throws IllegalStateException if not currently in an object context
      */
     public YamlBuilder endObject() {
+        if (out != null) {
+            popStream("Cannot end object: not in nested context");
+            return this;
+        }
         if (contextStack.size() <= 1) {
             throw new IllegalStateException("Cannot end object: not in nested context");
         }
@@ -265,8 +306,16 @@ public class YamlBuilder {
      * @return this builder
      */
     public YamlBuilder startList(String key) {
+        if (out != null) {
+            StreamContext parent = currentStreamMap();
+            emitKey(parent, key);
+            pending.append("\n");
+            flushPending();
+            streamStack.push(StreamContext.list(parent.indent));
+            return this;
+        }
         java.util.List<Object> list = new java.util.ArrayList<>();
-        currentMap().put(key, list);
+        put(key, list);
         contextStack.push(list);
         keyStack.push(key);
         return this;
@@ -279,6 +328,10 @@ public class YamlBuilder {
      * @throws IllegalStateException if not currently in a list context
      */
     public YamlBuilder endList() {
+        if (out != null) {
+            popStream("Cannot end list: not in list context");
+            return this;
+        }
         if (contextStack.size() <= 1) {
             throw new IllegalStateException("Cannot end list: not in list context");
         }
@@ -296,6 +349,12 @@ public class YamlBuilder {
      */
     @SuppressWarnings("unchecked")
     public YamlBuilder listItem(Object value) {
+        if (out != null) {
+            StreamContext list = currentStreamList();
+            appendListItem(pending, value, list.indent);
+            flushPending();
+            return this;
+        }
         Object current = contextStack.peek();
         if (!(current instanceof java.util.List)) {
             throw new IllegalStateException("Cannot add list item: not in list context");
@@ -312,6 +371,13 @@ public class YamlBuilder {
      */
     @SuppressWarnings("unchecked")
     public YamlBuilder startListItem() {
+        if (out != null) {
+            StreamContext list = currentStreamList();
+            pending.append("  ".repeat(list.indent + 1)).append("-");
+            flushPending();
+            streamStack.push(StreamContext.listItem(list.indent + 2));
+            return this;
+        }
         Object current = contextStack.peek();
         if (!(current instanceof java.util.List)) {
             throw new IllegalStateException("Cannot add list item: not in list context");
@@ -329,6 +395,10 @@ public class YamlBuilder {
      * @return this builder
      */
     public YamlBuilder endListItem() {
+        if (out != null) {
+            popStream("Cannot end list item: not in nested context");
+            return this;
+        }
         if (contextStack.size() <= 1) {
             throw new IllegalStateException("Cannot end list item: not in nested context");
         }
@@ -345,7 +415,7 @@ public class YamlBuilder {
      * @return this builder
      */
     public YamlBuilder objectField(String key, Map<String, Object> map) {
-        currentMap().put(key, map);
+        put(key, map);
         return this;
     }
 
@@ -357,7 +427,7 @@ public class YamlBuilder {
      * @return this builder
      */
     public YamlBuilder blockScalar(String key, String text) {
-        currentMap().put(key, new BlockScalar(text));
+        put(key, new BlockScalar(text));
         return this;
     }
 
@@ -373,7 +443,7 @@ public class YamlBuilder {
      */
     public YamlBuilder rawLine(String text) {
         String syntheticKey = "\0raw:" + (rawLineCounter++);
-        currentMap().put(syntheticKey, new RawLine(text));
+        put(syntheticKey, new RawLine(text));
         return this;
     }
 
@@ -383,6 +453,9 @@ public class YamlBuilder {
      * @return the complete YAML document
      */
     public String build() {
+        if (out != null) {
+            throw new IllegalStateException("A streaming builder writes to its target; call finish()");
+        }
         StringBuilder result = new StringBuilder();
 
         // Prepend comments
@@ -399,6 +472,99 @@ public class YamlBuilder {
         return result.toString();
     }
 
+    /**
+     * Completes a document written by a {@linkplain #streaming(Appendable) streaming}
+     * builder.
+     *
+     * <p>Writes the separator after the header comments if no content followed them.
+     * The target is not flushed or closed.
+     *
+     * @throws IllegalStateException if this builder is not streaming
+     */
+    public void finish() {
+        if (out == null) {
+            throw new IllegalStateException("Only a streaming builder can be finished; call build()");
+        }
+        startContent();
+    }
+
+    private YamlBuilder put(String key, Object value) {
+        if (out == null) {
+            currentMap().put(key, value);
+            return this;
+        }
+        StreamContext context = currentStreamMap();
+        appendEntry(pending, key, value, context.indent, context.first);
+        context.first = false;
+        flushPending();
+        return this;
+    }
+
+    private YamlBuilder appendComment(String text) {
+        if (out != null) {
+            if (contentStarted) {
+                throw new IllegalStateException("Comments must precede all content in a streaming builder");
+            }
+            commentsEndWithBlankLine = text.endsWith("\n\n") || (text.equals("\n") && hasComments);
+            hasComments = true;
+            write(text);
+            return this;
+        }
+        comments.append(text);
+        return this;
+    }
+
+    private void startContent() {
+        if (!contentStarted) {
+            contentStarted = true;
+            if (hasComments && !commentsEndWithBlankLine) {
+                write("\n");
+            }
+        }
+    }
+
+    private void emitKey(StreamContext context, String key) {
+        appendKey(pending, key, context.indent, context.first);
+        context.first = false;
+    }
+
+    private void flushPending() {
+        startContent();
+        write(pending);
+        pending.setLength(0);
+    }
+
+    private void write(CharSequence text) {
+        try {
+            out.append(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private StreamContext currentStreamMap() {
+        StreamContext context = streamStack.peek();
+        if (context.list) {
+            throw new IllegalStateException("Current context is not a map");
+        }
+        return context;
+    }
+
+    private StreamContext currentStreamList() {
+        StreamContext context = streamStack.peek();
+        if (!context.list) {
+            throw new IllegalStateException("Cannot add list item: not in list context");
+        }
+        return context;
+    }
+
+    private void popStream(String message) {
+        if (streamStack.size() <= 1) {
+            throw new IllegalStateException(message);
+        }
+        streamStack.pop();
+    }
+
     @SuppressWarnings("unchecked")
     private Map<String, Object> currentMap() {
         Object current = contextStack.peek();
@@ -410,22 +576,27 @@ public class YamlBuilder {
 
     private String serializeMap(Map<String, Object> map, int indent) {
         StringBuilder sb = new StringBuilder();
-        String prefix = "  ".repeat(indent);
-
         for (Map.Entry<String, Object> entry : map.entrySet()) {
-            String key = entry.getKey();
-            Object value = entry.getValue();
-
-            if (value instanceof RawLine rl) {
-                sb.append(rl.text()).append("\n");
-                continue;
-            }
+            appendEntry(sb, entry.getKey(), entry.getValue(), indent, false);
+        }
+        return sb.toString();
+    }
 
-            sb.append(prefix).append(key).append(":");
-            appendValue(sb, value, indent, key);
+    /**
+     * Appends one map entry. The first entry of a map within a list continues the
+     * line holding its dash.
+     */
+    private void appendEntry(StringBuilder sb, String key, Object value, int indent, boolean afterDash) {
+        if (value instanceof RawLine rl) {
+            sb.append(rl.text()).append("\n");
+            return;
         }
+        appendKey(sb, key, indent, afterDash);
+        appendValue(sb, value, indent, key);
+    }
 
-        return sb.toString();
+    private void appendKey(StringBuilder sb, String key, int indent, boolean afterDash) {
+        sb.append(afterDash ? " " : "  ".repeat(indent)).append(key).append(":");
     }
 
     @SuppressWarnings("unchecked")
@@ -459,26 +630,7 @@ public class YamlBuilder {
         } else if (value instanceof java.util.List<?> list) {
             sb.append("\n");
             for (Object item : list) {
-                if (item instanceof Map) {
-                    sb.append(nextPrefix).append("-");
-                    // For map items in a list, serialize inline with the dash
-                    Map<String, Object> mapItem = (Map<String, Object>) item;
-                    boolean first = true;
-                    for (Map.Entry<String, Object> e : mapItem.entrySet()) {
-                        if (first) {
-                            sb.append(" ").append(e.getKey()).append(":");
-                            appendValue(sb, e.getValue(), indent + 2, e.getKey());
-                            first = false;
-                        } else {
-                            sb.append("  ".repeat(indent + 2)).append(e.getKey()).append(":");
-                            appendValue(sb, e.getValue(), indent + 2, e.getKey());
-                        }
-                    }
-                } else {
-                    sb.append(nextPrefix).append("- ");
-                    appendScalar(sb, item);
-                    sb.append("\n");
-                }
+                appendListItem(sb, item, indent);
             }
         } else if (value instanceof String s) {
             sb.append(" ");
@@ -489,6 +641,24 @@ public class YamlBuilder {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private void appendListItem(StringBuilder sb, Object item, int indent) {
+        String nextPrefix = "  ".repeat(indent + 1);
+        if (item instanceof Map) {
+            sb.append(nextPrefix).append("-");
+            // For map items in a list, serialize inline with the dash
+            boolean first = true;
+            for (Map.Entry<String, Object> e : ((Map<String, Object>) item).entrySet()) {
+                appendEntry(sb, e.getKey(), e.getValue(), indent + 2, first);
+                first = false;
+            }
+        } else {
+            sb.append(nextPrefix).append("- ");
+            appendScalar(sb, item);
+            sb.append("\n");
+        }
+    }
+
     private void appendScalar(StringBuilder sb, Object value) {
         if (value instanceof String s) {
             if (needsQuoting(s)) {
@@ -536,4 +706,32 @@ public class YamlBuilder {
     private record BlockScalar(String text) {}
 
     private record RawLine(String text) {}
+
+    /**
+     * An open map or list of a streaming builder. For a map, {@code indent} is the
+     * indentation of its keys; for a list, that of the key owning it.
+     */
+    private static final class StreamContext {
+        final int indent;
+        final boolean list;
+        boolean first;
+
+        private StreamContext(int indent, boolean list, boolean first) {
+            this.indent = indent;
+            this.list = list;
+            this.first = first;
+        }
+
+        static StreamContext map(int indent) {
+            return new StreamContext(indent, false, false);
+        }
+
+        static StreamContext listItem(int indent) {
+            return new StreamContext(indent, false, true);
+        }
+
+        static StreamContext list(int indent) {
+            return new StreamContext(indent, true, false);
+        }
+    }
 }
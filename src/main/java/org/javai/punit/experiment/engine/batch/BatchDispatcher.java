@@ -0,0 +1,206 @@
+package org.javai.punit.experiment.engine.batch;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import org.javai.punit.api.BatchInvocation;
+import org.javai.punit.contract.UseCaseOutcome;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+
+/**
+ * Groups consecutive samples into calls to a use case's batch method.
+ *
+ * <p>Samples are divided into windows of {@link #getBatchSize()} consecutive sample
+ * numbers. The first sample of a window to ask for its outcome triggers one call to
+ * the {@link BatchInvocation} method with the planned inputs of every sample in the
+ * window; later samples in the window are served from that call's results.
+ *
+ * <p>If the batch call fails, every sample in the window receives the failure, so
+ * the samples are still counted individually.
+ *
+ * <p>Samples execute sequentially, so only the current window is retained.
+ */
+public class BatchDispatcher {
+
+    private final Class<?> useCaseClass;
+    private final Method batchMethod;
+    private final List<Object> inputs;
+    private final int batchSize;
+    private final int totalSamples;
+
+    private int currentWindow = -1;
+    private List<?> currentOutcomes = List.of();
+    private Throwable currentFailure;
+    private int batchesDispatched;
+
+    BatchDispatcher(Class<?> useCaseClass, Method batchMethod, List<Object> inputs,
+                    int batchSize, int totalSamples) {
+        this.useCaseClass = useCaseClass;
+        this.batchMethod = batchMethod;
+        this.inputs = List.copyOf(inputs);
+        this.batchSize = batchSize;
+        this.totalSamples = totalSamples;
+    }
+
+    /**
+     * Creates a dispatcher for the given use case and planned inputs.
+     *
+     * <p>Sample {@code n} (1-based) is planned to use input {@code (n - 1) % inputs.size()},
+     * matching the cycling used by {@code @InputSource}.
+     *
+     * @param useCaseClass the use case class declaring the batch method
+     * @param requestedBatchSize the batch size requested by the test or experiment
+     * @param inputs the resolved input source values
+     * @param totalSamples the number of samples planned
+     * @return the dispatcher
+     * @throws ExtensionConfigurationException if the use case has no valid batch method
+     */
+    public static BatchDispatcher create(Class<?> useCaseClass, int requestedBatchSize,
+                                         List<Object> inputs, int totalSamples) {
+        if (useCaseClass == null || useCaseClass == Void.class) {
+            throw new ExtensionConfigurationException(
+                    "batchSize requires a use case class declaring a @BatchInvocation method");
+        }
+        if (inputs.isEmpty()) {
+            throw new ExtensionConfigurationException("batchSize requires a non-empty @InputSource");
+        }
+
+        Method batchMethod = findBatchMethod(useCaseClass);
+        int maxBatchSize = batchMethod.getAnnotation(BatchInvocation.class).maxBatchSize();
+        int batchSize = maxBatchSize > 0 ? Math.min(requestedBatchSize, maxBatchSize) : requestedBatchSize;
+
+        return new BatchDispatcher(useCaseClass, batchMethod, inputs, batchSize, totalSamples);
+    }
+
+    /**
+     * Finds the single {@link BatchInvocation} method declared by a use case.
+     *
+     * @param useCaseClass the use case class
+     * @return the batch method
+     * @throws ExtensionConfigurationException if there is not exactly one valid batch method
+     */
+    static Method findBatchMethod(Class<?> useCaseClass) {
+        List<Method> candidates = Arrays.stream(useCaseClass.getDeclaredMethods())
+                .filter(m -> m.isAnnotationPresent(BatchInvocation.class))
+                .toList();
+
+        if (candidates.size() != 1) {
+            throw new ExtensionConfigurationException(
+                    "batchSize requires exactly one @BatchInvocation method on " +
+                    useCaseClass.getSimpleName() + ", but found " + candidates.size());
+        }
+
+        Method method = candidates.get(0);
+        if (method.getParameterCount() != 1
+                || !List.class.isAssignableFrom(method.getParameterTypes()[0])
+                || !List.class.isAssignableFrom(method.getReturnType())) {
+            throw new ExtensionConfigurationException(
+                    "@BatchInvocation method " + useCaseClass.getSimpleName() + "." + method.getName() +
+                    " must take a single List of inputs and return a List of UseCaseOutcome");
+        }
+        method.setAccessible(true);
+        return method;
+    }
+
+    /**
+     * Returns the outcome for a sample, dispatching its window's batch call if needed.
+     *
+     * @param sampleNumber the 1-based sample number
+     * @param useCase supplies the use case instance if a batch call is needed
+     * @return the sample's slot: its outcome, or the failure of its batch call
+     */
+    public synchronized Slot slotFor(int sampleNumber, Supplier<Object> useCase) {
+        int window = (sampleNumber - 1) / batchSize;
+        if (window != currentWindow) {
+            dispatch(window, useCase);
+        }
+        if (currentFailure != null) {
+            return Slot.ofFailure(currentFailure);
+        }
+        return Slot.ofOutcome((UseCaseOutcome<?>) currentOutcomes.get((sampleNumber - 1) % batchSize));
+    }
+
+    private void dispatch(int window, Supplier<Object> useCase) {
+        currentWindow = window;
+        currentOutcomes = List.of();
+        currentFailure = null;
+
+        int first = window * batchSize + 1;
+        int last = Math.min(totalSamples, first + batchSize - 1);
+        List<Object> batchInputs = new ArrayList<>(last - first + 1);
+        for (int sample = first; sample <= last; sample++) {
+            batchInputs.add(inputs.get((sample - 1) % inputs.size()));
+        }
+
+        batchesDispatched++;
+        try {
+            Object result = batchMethod.invoke(useCase.get(), batchInputs);
+            currentOutcomes = validate(result, batchInputs.size());
+        } catch (InvocationTargetException e) {
+            currentFailure = e.getCause() != null ? e.getCause() : e;
+        } catch (Exception e) {
+            currentFailure = e;
+        }
+    }
+
+    private List<?> validate(Object result, int expectedSize) {
+        if (!(result instanceof List<?> outcomes) || outcomes.size() != expectedSize) {
+            throw new IllegalStateException("@BatchInvocation method " + useCaseClass.getSimpleName() + "." +
+                    batchMethod.getName() + " returned " +
+                    (result instanceof List<?> list ? list.size() + " outcomes" : String.valueOf(result)) +
+                    " for " + expectedSize + " inputs");
+        }
+        for (Object outcome : outcomes) {
+            if (!(outcome instanceof UseCaseOutcome<?>)) {
+                throw new IllegalStateException("@BatchInvocation method " + useCaseClass.getSimpleName() + "." +
+                        batchMethod.getName() + " must return UseCaseOutcome elements");
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * @return the use case class declaring the batch method
+     */
+    public Class<?> getUseCaseClass() {
+        return useCaseClass;
+    }
+
+    /**
+     * @return the effective batch size (the requested size capped by the use case's maximum)
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the number of batch calls made so far
+     */
+    public synchronized int getBatchesDispatched() {
+        return batchesDispatched;
+    }
+
+    /**
+     * A sample's share of a batch call.
+     *
+     * @param outcome the sample's outcome, or null if the batch call failed
+     * @param failure the batch call's failure, or null if it succeeded
+     */
+    public record Slot(UseCaseOutcome<?> outcome, Throwable failure) {
+
+        static Slot ofOutcome(UseCaseOutcome<?> outcome) {
+            return new Slot(outcome, null);
+        }
+
+        static Slot ofFailure(Throwable failure) {
+            return new Slot(null, failure);
+        }
+
+        public boolean isFailure() {
+            return failure != null;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.javai.punit.experiment.engine.batch;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import org.javai.punit.api.UseCaseProvider;
+import org.javai.punit.contract.UseCaseOutcome;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * Parameter resolver that injects a sample's {@link UseCaseOutcome} from its batch call.
+ *
+ * <p>The use case instance for a batch call comes from the test instance's
+ * {@link UseCaseProvider} when the use case is registered there, otherwise from the
+ * use case's no-argument constructor.
+ *
+ * <p>Parameters are resolved before the sample is intercepted, so a failed batch
+ * call cannot be thrown from here without bypassing the aggregator. Instead the
+ * failure is stashed in the invocation's store and {@link #guard} rethrows it from
+ * the sample body, where it is recorded like any other sample failure.
+ */
+public class BatchOutcomeParameterResolver implements ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(BatchOutcomeParameterResolver.class);
+    private static final String FAILURE_KEY = "batchFailure";
+
+    private final BatchDispatcher dispatcher;
+    private final int sampleNumber;
+
+    public BatchOutcomeParameterResolver(BatchDispatcher dispatcher, int sampleNumber) {
+        this.dispatcher = dispatcher;
+        this.sampleNumber = sampleNumber;
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext,
+                                     ExtensionContext extensionContext)
+            throws ParameterResolutionException {
+        return parameterContext.getParameter().getType() == UseCaseOutcome.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext,
+                                   ExtensionContext extensionContext)
+            throws ParameterResolutionException {
+        BatchDispatcher.Slot slot = dispatcher.slotFor(sampleNumber,
+                () -> resolveUseCase(dispatcher.getUseCaseClass(), extensionContext));
+        if (slot.isFailure()) {
+            extensionContext.getStore(NAMESPACE).put(FAILURE_KEY, slot.failure());
+            return null;
+        }
+        return slot.outcome();
+    }
+
+    /**
+     * Returns an invocation that fails with the batch failure, if this sample's batch call failed.
+     *
+     * @param invocation the sample invocation
+     * @param extensionContext the invocation's extension context
+     * @return the original invocation, or one that skips the method and throws the batch failure
+     */
+    public static Invocation<Void> guard(Invocation<Void> invocation, ExtensionContext extensionContext) {
+        Throwable failure = extensionContext.getStore(NAMESPACE).get(FAILURE_KEY, Throwable.class);
+        if (failure == null) {
+            return invocation;
+        }
+        return () -> {
+            invocation.skip();
+            throw failure;
+        };
+    }
+
+    private static Object resolveUseCase(Class<?> useCaseClass, ExtensionContext extensionContext) {
+        Object testInstance = extensionContext.getTestInstance().orElse(null);
+        for (Class<?> type = testInstance != null ? testInstance.getClass() : null;
+             type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!UseCaseProvider.class.isAssignableFrom(field.getType())) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    UseCaseProvider provider = (UseCaseProvider) field.get(testInstance);
+                    if (provider != null && provider.isRegistered(useCaseClass)) {
+                        return provider.getInstance(useCaseClass);
+                    }
+                } catch (IllegalAccessException e) {
+                    // Continue searching
+                }
+            }
+        }
+
+        try {
+            Constructor<?> constructor = useCaseClass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot obtain an instance of " + useCaseClass.getName() +
+                    " for batch invocation. Register it with a UseCaseProvider " +
+                    "or give it a no-argument constructor.", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+/**
+ * Batched use case invocation for experiments and probabilistic tests.
+ *
+ * <p>When a {@code @MeasureExperiment} or {@code @ProbabilisticTest} declares a
+ * {@code batchSize} alongside an {@link org.javai.punit.api.InputSource}, the inputs of
+ * the next {@code batchSize} samples are sent to the use case's
+ * {@link org.javai.punit.api.BatchInvocation} method in one call. Each sample then
+ * receives its own {@link org.javai.punit.contract.UseCaseOutcome} and is aggregated
+ * exactly as an individually executed sample would be.
+ *
+ * <h2>Key Classes</h2>
+ * <ul>
+ *   <li>{@link org.javai.punit.experiment.engine.batch.BatchDispatcher} — Groups samples into batch calls</li>
+ *   <li>{@link org.javai.punit.experiment.engine.batch.BatchOutcomeParameterResolver} — Injects each sample's outcome</li>
+ * </ul>
+ *
+ * @see org.javai.punit.api.BatchInvocation
+ */
+package org.javai.punit.experiment.engine.batch;
@@ -0,0 +1,282 @@
+package org.javai.punit.experiment.engine.input;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Persistent per-input pass/fail counts for one use case or test.
+ *
+ * <p>Inputs are identified by {@link #hashInput(Object) a hash of their content}, so
+ * counts survive reordering of the input source and are shared by every test and
+ * experiment that uses the same history id.
+ *
+ * <h2>Storage</h2>
+ * <p>Each history is a small text file, one line per input:
+ * <pre>
+ *   # punit input history: shopping.product.search
+ *   3f9c2a7b10d4e655 42 50
+ * </pre>
+ * giving the input hash, successes and trials. Counts recorded during a run are
+ * merged into the file under an exclusive file lock when the run ends, so parallel
+ * forks sharing a history do not lose each other's updates.
+ *
+ * <p>The directory is configured via:
+ * <ul>
+ *   <li>{@code punit.inputHistory.dir} - defaults to {@value #DEFAULT_DIR}</li>
+ * </ul>
+ */
+public class InputOutcomeHistory {
+
+    private static final Logger logger = LogManager.getLogger(InputOutcomeHistory.class);
+
+    public static final String PROP_HISTORY_DIR = "punit.inputHistory.dir";
+    public static final String ENV_HISTORY_DIR = "PUNIT_INPUT_HISTORY_DIR";
+    public static final String DEFAULT_DIR = "build/punit/input-history";
+
+    private static final ObjectMapper CANONICAL_MAPPER = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .build();
+
+    private final String historyId;
+    private final Path file;
+    private final Map<String, Counts> stored;
+    private final Map<String, Counts> recorded = new LinkedHashMap<>();
+
+    private InputOutcomeHistory(String historyId, Path file, Map<String, Counts> stored) {
+        this.historyId = historyId;
+        this.file = file;
+        this.stored = stored;
+    }
+
+    /**
+     * Loads the history with the given id from the configured directory.
+     *
+     * @param historyId the use case id, or test identifier
+     * @return the history (empty if no file exists yet)
+     */
+    public static InputOutcomeHistory load(String historyId) {
+        return load(resolveDirectory(), historyId);
+    }
+
+    /**
+     * Loads the history with the given id from a directory.
+     *
+     * <p>A missing or unreadable file yields an empty history.
+     *
+     * @param directory the history directory
+     * @param historyId the use case id, or test identifier
+     * @return the history
+     */
+    public static InputOutcomeHistory load(Path directory, String historyId) {
+        Path file = directory.resolve(historyId.replaceAll("[^A-Za-z0-9._-]", "_") + ".history");
+        Map<String, Counts> stored = new LinkedHashMap<>();
+        if (Files.isRegularFile(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                parse(reader, stored);
+            } catch (IOException e) {
+                logger.warn("Could not read input history {} ({}); ignoring it", file, e.getMessage());
+                stored.clear();
+            }
+        }
+        return new InputOutcomeHistory(historyId, file, stored);
+    }
+
+    /**
+     * Computes a stable hash of an input's content.
+     *
+     * <p>The input is serialised to JSON with properties and map entries sorted, so
+     * records, beans, maps and strings with equal content hash equally across runs.
+     * Inputs that cannot be serialised fall back to {@code toString()}.
+     *
+     * @param input the input value
+     * @return a 16-character hexadecimal hash
+     */
+    public static String hashInput(Object input) {
+        String canonical;
+        try {
+            canonical = CANONICAL_MAPPER.writeValueAsString(input);
+        } catch (Exception e) {
+            canonical = String.valueOf(input);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Records the outcome of one sample of an input.
+     *
+     * @param inputHash the input's hash
+     * @param success whether the sample passed
+     */
+    public synchronized void record(String inputHash, boolean success) {
+        recorded.computeIfAbsent(inputHash, h -> new Counts()).add(success ? 1 : 0, 1);
+    }
+
+    /**
+     * Returns the smoothed failure rate of an input, (failures+1)/(trials+2).
+     *
+     * <p>Inputs without history have a rate of 0.5.
+     *
+     * @param inputHash the input's hash
+     * @return the smoothed failure rate
+     */
+    public synchronized double failureRate(String inputHash) {
+        long successes = 0;
+        long trials = 0;
+        for (Map<String, Counts> source : List.of(stored, recorded)) {
+            Counts counts = source.get(inputHash);
+            if (counts != null) {
+                successes += counts.successes;
+                trials += counts.trials;
+            }
+        }
+        return (trials - successes + 1.0) / (trials + 2.0);
+    }
+
+    /**
+     * Returns the input positions ordered by descending failure rate.
+     *
+     * <p>The sort is stable: inputs with equal rates keep their declared order.
+     *
+     * @param inputHashes the hashes of the inputs, in declared order
+     * @return the input positions, most failure-prone first
+     */
+    public List<Integer> failuresFirst(List<String> inputHashes) {
+        double[] rates = new double[inputHashes.size()];
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < inputHashes.size(); i++) {
+            rates[i] = failureRate(inputHashes.get(i));
+            order.add(i);
+        }
+        order.sort(Comparator.comparingDouble((Integer i) -> rates[i]).reversed());
+        return order;
+    }
+
+    /**
+     * @return true if any outcome has been recorded since the history was loaded
+     */
+    public synchronized boolean hasRecordedOutcomes() {
+        return !recorded.isEmpty();
+    }
+
+    /**
+     * Merges the outcomes recorded since loading into the history file.
+     *
+     * <p>Failures to write are logged and otherwise ignored: the history only
+     * influences ordering, never verdicts.
+     */
+    public synchronized void save() {
+        if (recorded.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+
+                // Re-read under the lock to pick up updates from other forks
+                Map<String, Counts> merged = new LinkedHashMap<>();
+                parse(new BufferedReader(new InputStreamReader(
+                        Channels.newInputStream(channel.position(0)), StandardCharsets.UTF_8)), merged);
+                recorded.forEach((hash, counts) ->
+                        merged.computeIfAbsent(hash, h -> new Counts()).add(counts.successes, counts.trials));
+
+                StringBuilder content = new StringBuilder("# punit input history: ")
+                        .append(historyId).append('\n');
+                merged.forEach((hash, counts) -> content.append(hash).append(' ')
+                        .append(counts.successes).append(' ').append(counts.trials).append('\n'));
+
+                channel.truncate(0);
+                channel.write(ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8)), 0);
+
+                stored.clear();
+                stored.putAll(merged);
+                recorded.clear();
+            }
+        } catch (IOException e) {
+            logger.warn("Could not write input history {} ({})", file, e.getMessage());
+        }
+    }
+
+    /**
+     * @return the history file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    private static void parse(BufferedReader reader, Map<String, Counts> into) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\\s+");
+            if (parts.length != 3) {
+                continue;
+            }
+            try {
+                into.computeIfAbsent(parts[0], h -> new Counts())
+                        .add(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            } catch (NumberFormatException e) {
+                // Skip malformed lines
+            }
+        }
+    }
+
+    private static Path resolveDirectory() {
+        String dir = System.getProperty(PROP_HISTORY_DIR);
+        if (dir == null || dir.isBlank()) {
+            dir = System.getenv(ENV_HISTORY_DIR);
+        }
+        if (dir == null || dir.isBlank()) {
+            dir = DEFAULT_DIR;
+        }
+        return Path.of(dir.trim());
+    }
+
+    /**
+     * Mutable success and trial counts for one input.
+     */
+    private static final class Counts {
+        private long successes;
+        private long trials;
+
+        void add(long successes, long trials) {
+            this.successes += successes;
+            this.trials += trials;
+        }
+    }
+}
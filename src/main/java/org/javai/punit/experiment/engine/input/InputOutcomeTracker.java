@@ -0,0 +1,97 @@
+package org.javai.punit.experiment.engine.input;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Attributes sample outcomes to inputs and records them in an {@link InputOutcomeHistory}.
+ *
+ * <p>Samples run sequentially: {@link #beginSample(int)} is called when a sample is
+ * created and {@link #recordOutcome(boolean)} when it completes, before the next one
+ * is created.
+ *
+ * <p>The tracker is stored in the test's extension context store; closing it (when
+ * the test's context closes) saves the history.
+ */
+public class InputOutcomeTracker implements AutoCloseable {
+
+    private final InputOutcomeHistory history;
+    private final List<String> inputHashes;
+    private int pending = -1;
+
+    private InputOutcomeTracker(InputOutcomeHistory history, List<String> inputHashes) {
+        this.history = history;
+        this.inputHashes = inputHashes;
+    }
+
+    /**
+     * Creates a tracker for the given inputs.
+     *
+     * @param history the history to record into
+     * @param inputs the inputs, in the order samples will index them
+     * @return the tracker
+     */
+    public static InputOutcomeTracker create(InputOutcomeHistory history, List<Object> inputs) {
+        List<String> hashes = new ArrayList<>(inputs.size());
+        for (Object input : inputs) {
+            hashes.add(InputOutcomeHistory.hashInput(input));
+        }
+        return new InputOutcomeTracker(history, hashes);
+    }
+
+    /**
+     * Reorders inputs so those with the highest historical failure rate come first.
+     *
+     * @param history the history to consult
+     * @param inputs the inputs in declared order
+     * @return the reordered inputs
+     */
+    public static List<Object> failuresFirst(InputOutcomeHistory history, List<Object> inputs) {
+        List<String> hashes = new ArrayList<>(inputs.size());
+        for (Object input : inputs) {
+            hashes.add(InputOutcomeHistory.hashInput(input));
+        }
+        List<Object> ordered = new ArrayList<>(inputs.size());
+        for (int index : history.failuresFirst(hashes)) {
+            ordered.add(inputs.get(index));
+        }
+        return ordered;
+    }
+
+    /**
+     * Notes the input used by the sample about to run.
+     *
+     * @param inputIndex the input's position in the tracker's input list
+     */
+    public synchronized void beginSample(int inputIndex) {
+        pending = inputIndex;
+    }
+
+    /**
+     * Records the outcome of the sample most recently begun.
+     *
+     * @param success whether the sample passed
+     */
+    public synchronized void recordOutcome(boolean success) {
+        if (pending < 0) {
+            return;
+        }
+        history.record(inputHashes.get(pending), success);
+        pending = -1;
+    }
+
+    /**
+     * @return the history outcomes are recorded into
+     */
+    public InputOutcomeHistory getHistory() {
+        return history;
+    }
+
+    /**
+     * Saves the recorded outcomes.
+     */
+    @Override
+    public void close() {
+        history.save();
+    }
+}
@@ -7,6 +7,7 @@ import org.javai.punit.api.Factor;
 import org.javai.punit.api.Input;
 import org.javai.punit.api.OutcomeCaptor;
 import org.javai.punit.api.TokenChargeRecorder;
+import org.javai.punit.contract.UseCaseOutcome;
 import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 
 /**
@@ -24,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtensionConfigurationException;
  *   <li>{@link Factor @Factor}-annotated parameters - handled by FactorParameterResolver</li>
  *   <li>UseCase types - handled by UseCaseProvider (detected by naming convention)</li>
  *   <li>{@link TokenChargeRecorder} - handled by TokenChargeRecorderParameterResolver</li>
+ *   <li>{@link UseCaseOutcome} - handled by BatchOutcomeParameterResolver</li>
  * </ul>
  */
 public final class InputParameterDetector {
@@ -116,6 +118,11 @@ public final class InputParameterDetector {
             return true;
         }
 
+        // Skip UseCaseOutcome - handled by BatchOutcomeParameterResolver
+        if (type == UseCaseOutcome.class) {
+            return true;
+        }
+
         return false;
     }
 }
@@ -12,6 +12,8 @@
  * <ul>
  *   <li>{@link org.javai.punit.experiment.engine.input.InputSourceResolver} — Main resolver</li>
  *   <li>{@link org.javai.punit.experiment.engine.input.InputSourceException} — Resolution errors</li>
+ *   <li>{@link org.javai.punit.experiment.engine.input.InputOutcomeHistory} — Persistent per-input pass/fail counts</li>
+ *   <li>{@link org.javai.punit.experiment.engine.input.InputOutcomeTracker} — Attributes sample outcomes to inputs</li>
  * </ul>
  *
  * @see org.javai.punit.api.InputSource
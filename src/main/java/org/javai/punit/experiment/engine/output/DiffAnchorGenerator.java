@@ -1,6 +1,6 @@
 package org.javai.punit.experiment.engine.output;
 
-import java.util.Random;
+import java.util.HexFormat;
 
 /**
  * Generates deterministic anchor values for diff-aligned sample blocks.
@@ -17,15 +17,21 @@ public final class DiffAnchorGenerator {
 
     private static final long SEED = 42L;
 
+    // java.util.Random's linear congruential generator
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
     private DiffAnchorGenerator() {}
 
     /**
      * Returns the anchor string for the given sample index.
      *
-     * <p>Uses {@link java.util.Random} seeded at {@code 42L}, advanced to
-     * position {@code sampleIndex} by generating and discarding intermediate
-     * values. The anchor is the lower 32 bits of the {@code nextLong()} call,
-     * formatted as 8-character zero-padded lowercase hex.
+     * <p>The anchor is the lower 32 bits of the {@code nextLong()} call number
+     * {@code sampleIndex} (zero-based) of a {@link java.util.Random} seeded at
+     * {@code 42L}, formatted as 8-character zero-padded lowercase hex. Rather than
+     * replaying the generator, its state is advanced directly to that call, taking
+     * O(log sampleIndex) time.
      *
      * @param sampleIndex the zero-based sample index
      * @return 8-character lowercase hex string (e.g. "a3b1799d")
@@ -35,12 +41,29 @@ public final class DiffAnchorGenerator {
         if (sampleIndex < 0) {
             throw new IllegalArgumentException("sampleIndex must be non-negative");
         }
-        Random rng = new Random(SEED);
-        for (int i = 0; i < sampleIndex; i++) {
-            rng.nextLong();
+        // Each nextLong() draws twice; its lower 32 bits are those of the second draw
+        long state = advance((SEED ^ MULTIPLIER) & MASK, 2L * sampleIndex + 2);
+        return HexFormat.of().toHexDigits((int) (state >>> 16));
+    }
+
+    /**
+     * Returns the generator state after {@code steps} steps from {@code state},
+     * composing the step function with itself by repeated squaring.
+     */
+    private static long advance(long state, long steps) {
+        long multiplier = 1;
+        long addend = 0;
+        long stepMultiplier = MULTIPLIER;
+        long stepAddend = ADDEND;
+        for (long remaining = steps; remaining > 0; remaining >>>= 1) {
+            if ((remaining & 1) != 0) {
+                multiplier = (multiplier * stepMultiplier) & MASK;
+                addend = (addend * stepMultiplier + stepAddend) & MASK;
+            }
+            stepAddend = ((stepMultiplier + 1) * stepAddend) & MASK;
+            stepMultiplier = (stepMultiplier * stepMultiplier) & MASK;
         }
-        long value = rng.nextLong();
-        return String.format("%08x", (int) value);
+        return (state * multiplier + addend) & MASK;
     }
 
     /**
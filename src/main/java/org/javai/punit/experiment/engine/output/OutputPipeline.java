@@ -0,0 +1,193 @@
+package org.javai.punit.experiment.engine.output;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.javai.punit.reporting.PUnitReporter;
+
+/**
+ * Writes experiment output files in the background.
+ *
+ * <p>Rendering and writing a spec, exploration or optimization file used to happen on
+ * the JUnit thread when an experiment (or an EXPLORE configuration) finished, stalling
+ * the next one. Output writers now {@link #submit submit} the write instead and return
+ * immediately:
+ * <ul>
+ *   <li>Each output directory has a single writer thread, so files in a directory are
+ *       written in submission order and one directory's writes never interleave.</li>
+ *   <li>At most {@value #DEFAULT_CAPACITY} writes (configurable with
+ *       {@code -Dpunit.output.queueCapacity}) may be outstanding; further submissions
+ *       wait for a slot, bounding the memory held by queued baselines.</li>
+ *   <li>{@link #flush()} waits for every write submitted before it. The experiment
+ *       extension flushes when each experiment ends, so its files exist once the
+ *       experiment is reported complete.</li>
+ * </ul>
+ *
+ * <p>A failed write is reported on the console; it does not fail the experiment,
+ * matching the behaviour of synchronous writes. Tasks are expected to write their
+ * files atomically (see {@link OutputUtilities#replaceAtomically}) so that a reader
+ * never sees a partly written file.
+ *
+ * <p>Set {@code -Dpunit.output.async=false} to write on the submitting thread.
+ */
+public final class OutputPipeline {
+
+    /** System property to disable background writing. */
+    public static final String PROP_ASYNC = "punit.output.async";
+
+    /** System property for the maximum number of outstanding writes. */
+    public static final String PROP_CAPACITY = "punit.output.queueCapacity";
+
+    static final int DEFAULT_CAPACITY = 16;
+
+    private static final Logger logger = LogManager.getLogger(OutputPipeline.class);
+
+    private static final OutputPipeline SHARED = new OutputPipeline(
+            resolveCapacity(), !"false".equalsIgnoreCase(System.getProperty(PROP_ASYNC)));
+
+    private final boolean async;
+    private final Semaphore slots;
+    private final Map<Path, ThreadPoolExecutor> lanes = new ConcurrentHashMap<>();
+    private final Set<CompletableFuture<Void>> pending = ConcurrentHashMap.newKeySet();
+    private final PUnitReporter reporter = new PUnitReporter();
+
+    /**
+     * Constructor for testing with a custom capacity and mode.
+     */
+    OutputPipeline(int capacity, boolean async) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.async = async;
+        this.slots = new Semaphore(capacity);
+    }
+
+    /**
+     * Returns the JVM-wide pipeline.
+     *
+     * @return the shared pipeline
+     */
+    public static OutputPipeline shared() {
+        return SHARED;
+    }
+
+    /**
+     * A write of one or more output files.
+     */
+    @FunctionalInterface
+    public interface OutputTask {
+
+        /**
+         * Writes the output.
+         *
+         * @throws IOException if writing fails
+         */
+        void write() throws IOException;
+    }
+
+    /**
+     * Submits a write to the writer thread of a directory.
+     *
+     * <p>Blocks while the pipeline is at capacity.
+     *
+     * @param directory the directory the task writes to
+     * @param task the write
+     * @return a future completing when the write has finished, exceptionally if it failed
+     */
+    public CompletableFuture<Void> submit(Path directory, OutputTask task) {
+        if (!async) {
+            return run(directory, task);
+        }
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return run(directory, task);
+        }
+        CompletableFuture<Void> future;
+        try {
+            future = CompletableFuture.runAsync(() -> {
+                CompletableFuture<Void> result = run(directory, task);
+                if (result.isCompletedExceptionally()) {
+                    result.join();
+                }
+            }, lane(directory));
+        } catch (RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+        pending.add(future);
+        future.whenComplete((ignored, failure) -> {
+            pending.remove(future);
+            slots.release();
+        });
+        return future;
+    }
+
+    /**
+     * Waits until every write submitted before this call has finished.
+     *
+     * <p>Failed writes have already been reported and are not rethrown.
+     */
+    public void flush() {
+        List<CompletableFuture<Void>> outstanding = List.copyOf(pending);
+        for (CompletableFuture<Void> future : outstanding) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                // Reported when the write failed
+            }
+        }
+    }
+
+    private CompletableFuture<Void> run(Path directory, OutputTask task) {
+        try {
+            task.write();
+            return CompletableFuture.completedFuture(null);
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Writing experiment output to {} failed", directory, e);
+            reporter.reportError("EXPERIMENT OUTPUT NOT WRITTEN",
+                    PUnitReporter.labelValueLn("Directory:", String.valueOf(directory))
+                            + PUnitReporter.labelValueLn("Error:", String.valueOf(e.getMessage())));
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private ThreadPoolExecutor lane(Path directory) {
+        Path key = directory.toAbsolutePath().normalize();
+        return lanes.computeIfAbsent(key, dir -> {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "punit-output-" + dir.getFileName());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        });
+    }
+
+    private static int resolveCapacity() {
+        String value = System.getProperty(PROP_CAPACITY);
+        if (value == null || value.isBlank()) {
+            return DEFAULT_CAPACITY;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            logger.warn("Ignoring invalid {}: {}", PROP_CAPACITY, value);
+            return DEFAULT_CAPACITY;
+        }
+    }
+}
@@ -1,12 +1,25 @@
 package org.javai.punit.experiment.engine.output;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.util.HexFormat;
+import java.util.function.Consumer;
 import org.javai.punit.experiment.engine.YamlBuilder;
+import org.javai.punit.reporting.jfr.SpecWriteEvent;
 
 /**
  * Shared utilities for experiment output writers.
@@ -15,6 +28,8 @@ import org.javai.punit.experiment.engine.YamlBuilder;
  * (MEASURE, EXPLORE, OPTIMIZE):
  * <ul>
  *   <li>Content fingerprint computation (SHA-256)</li>
+ *   <li>Streaming fingerprinted output to files</li>
+ *   <li>Atomic file replacement</li>
  *   <li>Header section writing</li>
  *   <li>ISO timestamp formatting</li>
  * </ul>
@@ -43,13 +58,8 @@ public final class OutputUtilities {
      * @return lowercase hex-encoded SHA-256 hash (64 characters)
      */
     public static String computeFingerprint(String content) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(content.getBytes(StandardCharsets.UTF_8));
-            return HexFormat.of().formatHex(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 not available", e);
-        }
+        byte[] hash = sha256().digest(content.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(hash);
     }
 
     /**
@@ -60,7 +70,106 @@ public final class OutputUtilities {
      */
     public static String appendFingerprint(String contentWithoutFingerprint) {
         String fingerprint = computeFingerprint(contentWithoutFingerprint);
-        return contentWithoutFingerprint + "contentFingerprint: " + fingerprint + "\n";
+        return contentWithoutFingerprint + fingerprintLine(fingerprint);
+    }
+
+    /**
+     * Writes a YAML document to a file as it is built, followed by its fingerprint line.
+     *
+     * <p>The document is written through a {@linkplain YamlBuilder#streaming(Appendable)
+     * streaming builder} and fingerprinted as its bytes pass to the file, so neither the
+     * document tree nor its text is held in memory. The file content is identical to
+     * {@link #appendFingerprint(String) appendFingerprint} applied to the text that
+     * {@link YamlBuilder#build()} produces for the same calls.
+     *
+     * @param path the file to write
+     * @param content adds the document's content to the builder
+     * @throws IOException if writing fails
+     */
+    public static void writeWithFingerprint(Path path, Consumer<YamlBuilder> content) throws IOException {
+        replaceAtomically(path, file -> writeFingerprinted(file, content));
+    }
+
+    private static void writeFingerprinted(Path file, Consumer<YamlBuilder> content) throws IOException {
+        MessageDigest digest = sha256();
+        try (DigestOutputStream digesting = new DigestOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file)), digest);
+             Writer writer = new BufferedWriter(new OutputStreamWriter(digesting, StandardCharsets.UTF_8))) {
+            YamlBuilder builder = YamlBuilder.streaming(writer);
+            try {
+                content.accept(builder);
+                builder.finish();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+            digesting.on(false);
+            writer.write(fingerprintLine(HexFormat.of().formatHex(digest.digest())));
+        }
+    }
+
+    /**
+     * Writes a file by writing a temporary file beside it and renaming that over it.
+     *
+     * <p>Readers see either the previous file or the complete new one, never a partly
+     * written file. If writing fails the temporary file is deleted and the previous
+     * file is left in place. The write is recorded as a {@link SpecWriteEvent} in
+     * flight recordings.
+     *
+     * @param path the file to write
+     * @param content writes the content to the file it is given
+     * @throws IOException if writing or renaming fails
+     */
+    public static void replaceAtomically(Path path, FileContent content) throws IOException {
+        Path target = path.toAbsolutePath();
+        SpecWriteEvent event = SpecWriteEvent.start();
+        long size = 0;
+        boolean succeeded = false;
+        Path temp = Files.createTempFile(target.getParent(), "." + target.getFileName(), ".tmp");
+        try {
+            content.writeTo(temp);
+            if (event.isEnabled()) {
+                size = Files.size(temp);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            succeeded = true;
+        } finally {
+            Files.deleteIfExists(temp);
+            if (event.isEnabled()) {
+                event.complete(target.toString(), size, succeeded);
+            }
+        }
+    }
+
+    /**
+     * Writes file content for {@link #replaceAtomically}.
+     */
+    @FunctionalInterface
+    public interface FileContent {
+
+        /**
+         * Writes the content to a file.
+         *
+         * @param file the file to write
+         * @throws IOException if writing fails
+         */
+        void writeTo(Path file) throws IOException;
+    }
+
+    private static String fingerprintLine(String fingerprint) {
+        return "contentFingerprint: " + fingerprint + "\n";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 not available", e);
+        }
     }
 
     /**
@@ -166,5 +275,27 @@ public final class OutputUtilities {
                 null
             );
         }
+
+        /**
+         * Creates a header for COMPARE report output.
+         */
+        public static OutputHeader forComparison(
+                String useCaseId,
+                String experimentId,
+                Instant generatedAt,
+                String experimentClass,
+                String experimentMethod) {
+            return new OutputHeader(
+                "Paired Comparison for " + useCaseId,
+                "Baseline and candidate run on the same inputs",
+                "Generated automatically by punit @CompareExperiment",
+                "punit-compare-1",
+                useCaseId,
+                experimentId,
+                generatedAt,
+                experimentClass,
+                experimentMethod
+            );
+        }
     }
 }
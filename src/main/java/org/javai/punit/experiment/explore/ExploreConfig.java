@@ -15,6 +15,7 @@ import org.javai.punit.experiment.engine.ExperimentConfig;
  * @param samplesPerConfig samples to run per factor configuration
  * @param timeBudgetMs time budget in milliseconds (0 = unlimited)
  * @param tokenBudget token budget (0 = unlimited)
+ * @param sampleTimeoutMs per-sample deadline in milliseconds (0 = none)
  * @param experimentId experiment identifier for output naming
  * @param expiresInDays baseline expiration in days (0 = no expiration tracking)
  */
@@ -24,6 +25,7 @@ public record ExploreConfig(
         int samplesPerConfig,
         long timeBudgetMs,
         long tokenBudget,
+        long sampleTimeoutMs,
         String experimentId,
         int expiresInDays
 ) implements ExperimentConfig {
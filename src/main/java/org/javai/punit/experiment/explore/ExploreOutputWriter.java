@@ -1,7 +1,6 @@
 package org.javai.punit.experiment.explore;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.format.DateTimeFormatter;
@@ -69,8 +68,7 @@ public class ExploreOutputWriter {
             Files.createDirectories(parent);
         }
 
-        String content = toYaml(baseline);
-        Files.writeString(path, content, StandardCharsets.UTF_8);
+        OutputUtilities.writeWithFingerprint(path, builder -> writeContent(builder, baseline));
     }
 
     /**
@@ -80,13 +78,12 @@ public class ExploreOutputWriter {
      * @return YAML string
      */
     public String toYaml(EmpiricalBaseline baseline) {
-        String contentWithoutFingerprint = buildYamlContent(baseline);
-        return OutputUtilities.appendFingerprint(contentWithoutFingerprint);
-    }
-
-    private String buildYamlContent(EmpiricalBaseline baseline) {
         YamlBuilder builder = YamlBuilder.create();
+        writeContent(builder, baseline);
+        return OutputUtilities.appendFingerprint(builder.build());
+    }
 
+    private void writeContent(YamlBuilder builder, EmpiricalBaseline baseline) {
         writeHeader(builder, baseline);
         writeCovariates(builder, baseline);
         writeExecution(builder, baseline);
@@ -96,8 +93,6 @@ public class ExploreOutputWriter {
         writeSuccessCriteria(builder, baseline);
         writeResultProjections(builder, baseline);
         writeExpiration(builder, baseline);
-
-        return builder.build();
     }
 
     private void writeHeader(YamlBuilder builder, EmpiricalBaseline baseline) {
@@ -8,6 +8,7 @@ import org.javai.punit.api.UseCaseContext;
 import org.javai.punit.experiment.engine.EmpiricalBaselineGenerator;
 import org.javai.punit.experiment.engine.ExperimentConfig;
 import org.javai.punit.experiment.engine.ExperimentResultAggregator;
+import org.javai.punit.experiment.engine.output.OutputPipeline;
 import org.javai.punit.experiment.model.DefaultUseCaseContext;
 import org.javai.punit.experiment.model.EmpiricalBaseline;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -55,7 +56,7 @@ public class ExploreSpecGenerator {
         try {
             Path outputPath = resolveOutputPath(useCaseId, configName);
             ExploreOutputWriter writer = new ExploreOutputWriter();
-            writer.write(baseline, outputPath);
+            OutputPipeline.shared().submit(outputPath.getParent(), () -> writer.write(baseline, outputPath));
 
             context.publishReportEntry("punit.spec.outputPath", outputPath.toString());
             context.publishReportEntry("punit.config.complete", configName);
@@ -12,6 +12,7 @@ import org.javai.punit.api.ExperimentMode;
 import org.javai.punit.api.ExploreExperiment;
 import org.javai.punit.api.FactorArguments;
 import org.javai.punit.api.FactorSource;
+import org.javai.punit.api.InputOrder;
 import org.javai.punit.api.InputSource;
 import org.javai.punit.api.OutcomeCaptor;
 import org.javai.punit.api.UseCaseProvider;
@@ -67,6 +68,7 @@ public class ExploreStrategy implements ExperimentModeStrategy {
                 annotation.samplesPerConfig(),
                 annotation.timeBudgetMs(),
                 annotation.tokenBudget(),
+                annotation.sampleTimeoutMs(),
                 annotation.experimentId(),
                 annotation.expiresInDays()
         );
@@ -171,6 +173,17 @@ public class ExploreStrategy implements ExperimentModeStrategy {
         // Determine input type from method parameters
         Class<?> inputType = findInputParameterType(testMethod);
 
+        if (inputSource.stratified() || !inputSource.stratumKey().isEmpty()) {
+            throw new ExtensionConfigurationException(
+                    "Stratified @InputSource sampling is supported for @ProbabilisticTest only, " +
+                    "not in %s experiments".formatted(ExperimentMode.EXPLORE));
+        }
+        if (inputSource.order() != InputOrder.DECLARED) {
+            throw new ExtensionConfigurationException(
+                    "@InputSource order is supported for @ProbabilisticTest only, " +
+                    "not in %s experiments".formatted(ExperimentMode.EXPLORE));
+        }
+
         // Resolve inputs
         InputSourceResolver resolver = new InputSourceResolver();
         List<Object> inputs = resolver.resolve(inputSource, testClass, inputType);
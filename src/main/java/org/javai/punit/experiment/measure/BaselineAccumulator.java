@@ -0,0 +1,362 @@
+package org.javai.punit.experiment.measure;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import org.javai.punit.experiment.model.EmpiricalBaseline;
+import org.javai.punit.experiment.model.EmpiricalBaseline.AccumulatedRun;
+import org.javai.punit.experiment.model.EmpiricalBaseline.CostSummary;
+import org.javai.punit.experiment.model.EmpiricalBaseline.ExecutionSummary;
+import org.javai.punit.experiment.model.EmpiricalBaseline.PostconditionCounts;
+import org.javai.punit.experiment.model.EmpiricalBaseline.StatisticsSummary;
+import org.javai.punit.experiment.model.ResultProjection;
+import org.javai.punit.model.CovariateProfile;
+import org.javai.punit.spec.baseline.BaselineRepository;
+import org.javai.punit.spec.baseline.BaselineSelectionTypes.BaselineCandidate;
+import org.javai.punit.spec.model.ExecutionSpecification;
+import org.javai.punit.spec.registry.SpecificationLoader;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+/**
+ * Accumulates a MEASURE run into an existing baseline.
+ *
+ * <p>A baseline is compatible with a run if it has the same use case, footprint and
+ * covariate profile, i.e. it was measured under the conditions the run's baseline
+ * describes. The merged baseline sums the two runs' counts, failure distributions,
+ * postcondition counts and cost figures, and recomputes the success rate, standard
+ * error and confidence interval from the merged counts. Everything else (header,
+ * covariates, termination, expiration) is taken from the new run.
+ *
+ * <p>Each merged run is recorded in the baseline's {@code accumulatedRuns}. A baseline
+ * written before accumulation existed contributes a single run entry.
+ *
+ * <p>Result projections of both runs are kept: the existing baseline's come first, and
+ * the new run's samples are numbered after the existing baseline's sample count.
+ *
+ * <p>Only baselines that pass integrity verification are considered, since
+ * candidates are loaded through {@link BaselineRepository}.
+ */
+public class BaselineAccumulator {
+
+    private final BaselineRepository repository;
+
+    /**
+     * Creates an accumulator over the baselines in a repository.
+     *
+     * @param repository the repository to search for compatible baselines
+     */
+    public BaselineAccumulator(BaselineRepository repository) {
+        this.repository = Objects.requireNonNull(repository, "repository must not be null");
+    }
+
+    /**
+     * The counts of an existing baseline, as read from its spec file.
+     */
+    record PriorBaseline(
+            Instant generatedAt,
+            int samplesPlanned,
+            int samplesExecuted,
+            int successes,
+            int failures,
+            Map<String, Integer> failureDistribution,
+            Map<String, PostconditionCounts> postconditionCounts,
+            long totalTimeMs,
+            long totalTokens,
+            long useCaseTimeMs,
+            long pacingWaitMs,
+            List<AccumulatedRun> accumulatedRuns,
+            List<ResultProjection> resultProjections
+    ) {
+
+        /**
+         * Returns these counts together with the baseline's result projections.
+         */
+        PriorBaseline withResultProjections(List<ResultProjection> projections) {
+            return new PriorBaseline(generatedAt, samplesPlanned, samplesExecuted, successes, failures,
+                    failureDistribution, postconditionCounts, totalTimeMs, totalTokens, useCaseTimeMs,
+                    pacingWaitMs, accumulatedRuns, List.copyOf(projections));
+        }
+    }
+
+    /**
+     * Finds the existing baseline a run's baseline can be merged into.
+     *
+     * <p>The run's own output file is considered alongside the repository's candidates,
+     * since the repository matches file names by sanitized use case id.
+     *
+     * @param run the baseline produced by the new run
+     * @param outputPath the file the run would otherwise be written to
+     * @return the path of the most recent compatible baseline, if any
+     */
+    public Optional<Path> findCompatible(EmpiricalBaseline run, Path outputPath) {
+        String footprint = run.hasFootprint() ? run.getFootprint() : "";
+        Map<String, String> profile = canonical(run.getCovariateProfile());
+
+        List<BaselineCandidate> candidates =
+                new ArrayList<>(repository.findCandidates(run.getUseCaseId(), run.hasFootprint() ? footprint : null));
+        String outputFilename = outputPath.getFileName().toString();
+        if (Files.isRegularFile(outputPath)
+                && candidates.stream().noneMatch(candidate -> candidate.filename().equals(outputFilename))) {
+            loadCandidate(outputPath).ifPresent(candidates::add);
+        }
+
+        return candidates.stream()
+                .filter(candidate -> footprint.equals(candidate.footprint()))
+                .filter(candidate -> profile.equals(canonical(candidate.covariateProfile())))
+                .max(Comparator.comparing(BaselineCandidate::generatedAt,
+                        Comparator.nullsFirst(Comparator.naturalOrder())))
+                .map(candidate -> candidate.filename().equals(outputFilename)
+                        ? outputPath
+                        : repository.getSpecsRoot().resolve(candidate.filename()));
+    }
+
+    /**
+     * Merges a run's baseline into the existing baseline stored at a path.
+     *
+     * @param run the baseline produced by the new run
+     * @param existing the spec file of the compatible baseline
+     * @return the accumulated baseline
+     * @throws IOException if the existing baseline cannot be read
+     */
+    public EmpiricalBaseline accumulate(EmpiricalBaseline run, Path existing) throws IOException {
+        PriorBaseline prior = read(Files.readString(existing, StandardCharsets.UTF_8));
+        return merge(prior.withResultProjections(ResultProjectionSidecar.load(existing)), run);
+    }
+
+    /**
+     * Reads the counts of an existing baseline from its YAML content.
+     */
+    @SuppressWarnings("unchecked")
+    static PriorBaseline read(String yaml) {
+        Map<String, Object> root = new Yaml(new SafeConstructor(new LoaderOptions())).load(yaml);
+        if (root == null) {
+            throw new IllegalArgumentException("Baseline is empty");
+        }
+        Map<String, Object> execution = section(root, "execution");
+        Map<String, Object> statistics = section(root, "statistics");
+        Map<String, Object> cost = section(root, "cost");
+
+        Map<String, Integer> failureDistribution = new LinkedHashMap<>();
+        section(statistics, "failureDistribution")
+                .forEach((category, count) -> failureDistribution.put(category, intValue(count)));
+
+        Map<String, PostconditionCounts> postconditionCounts = new LinkedHashMap<>();
+        for (Map<String, Object> entry : list(root, "postconditions")) {
+            postconditionCounts.put(String.valueOf(entry.get("description")), new PostconditionCounts(
+                    intValue(entry.get("passed")), intValue(entry.get("failed")), intValue(entry.get("skipped"))));
+        }
+
+        List<AccumulatedRun> runs = new ArrayList<>();
+        for (Map<String, Object> entry : list(root, "accumulatedRuns")) {
+            runs.add(new AccumulatedRun(
+                    instantValue(entry.get("generatedAt")),
+                    intValue(entry.get("samples")),
+                    intValue(entry.get("successes"))));
+        }
+
+        return new PriorBaseline(
+                instantValue(root.get("generatedAt")),
+                intValue(execution.get("samplesPlanned")),
+                intValue(execution.get("samplesExecuted")),
+                intValue(statistics.get("successes")),
+                intValue(statistics.get("failures")),
+                failureDistribution,
+                postconditionCounts,
+                longValue(cost.get("totalTimeMs")),
+                longValue(cost.get("totalTokens")),
+                longValue(cost.get("useCaseTimeMs")),
+                longValue(cost.get("pacingWaitMs")),
+                runs,
+                List.of());
+    }
+
+    /**
+     * Merges a run's baseline into the counts of an existing baseline.
+     */
+    static EmpiricalBaseline merge(PriorBaseline prior, EmpiricalBaseline run) {
+        StatisticsSummary runStats = run.getStatistics();
+        ExecutionSummary runExecution = run.getExecution();
+
+        Map<String, Integer> failureDistribution = new LinkedHashMap<>(prior.failureDistribution());
+        runStats.failureDistribution().forEach((category, count) -> failureDistribution.merge(category, count, Integer::sum));
+
+        Map<String, PostconditionCounts> postconditionCounts = new LinkedHashMap<>(prior.postconditionCounts());
+        run.getPostconditionCounts().forEach((description, counts) -> postconditionCounts.merge(description, counts,
+                BaselineAccumulator::add));
+
+        StatisticsSummary statistics = statistics(prior.successes() + runStats.successes(),
+                prior.failures() + runStats.failures(), failureDistribution, postconditionCounts);
+
+        ExecutionSummary execution = new ExecutionSummary(
+                prior.samplesPlanned() + runExecution.samplesPlanned(),
+                prior.samplesExecuted() + runExecution.samplesExecuted(),
+                runExecution.terminationReason(),
+                runExecution.terminationDetails());
+
+        CostSummary cost = cost(
+                prior.totalTimeMs() + run.getCost().totalTimeMs(),
+                prior.totalTokens() + run.getCost().totalTokens(),
+                prior.useCaseTimeMs() + run.getCost().useCaseTimeMs(),
+                prior.pacingWaitMs() + run.getCost().pacingWaitMs(),
+                statistics.successes() + statistics.failures());
+
+        List<AccumulatedRun> runs = new ArrayList<>(prior.accumulatedRuns());
+        if (runs.isEmpty()) {
+            runs.add(new AccumulatedRun(prior.generatedAt(), prior.samplesExecuted(), prior.successes()));
+        }
+        runs.add(new AccumulatedRun(run.getGeneratedAt(), runExecution.samplesExecuted(), runStats.successes()));
+
+        List<ResultProjection> projections = new ArrayList<>(prior.resultProjections());
+        for (ResultProjection projection : run.getResultProjections()) {
+            projections.add(renumber(projection, prior.samplesExecuted()));
+        }
+
+        return EmpiricalBaseline.builder()
+                .useCaseId(run.getUseCaseId())
+                .experimentId(run.getExperimentId())
+                .generatedAt(run.getGeneratedAt())
+                .experimentClass(run.getExperimentClass())
+                .experimentMethod(run.getExperimentMethod())
+                .context(run.getContext())
+                .execution(execution)
+                .statistics(statistics)
+                .cost(cost)
+                .successCriteriaDefinition(run.getUseCaseCriteria())
+                .expirationPolicy(run.getExpirationPolicy())
+                .footprint(run.getFootprint())
+                .covariateProfile(run.getCovariateProfile())
+                .postconditionCounts(postconditionCounts)
+                .accumulatedRuns(runs)
+                .resultProjections(projections)
+                .build();
+    }
+
+    /**
+     * Numbers a new run's projection after the samples of the existing baseline.
+     */
+    static ResultProjection renumber(ResultProjection projection, int offset) {
+        return new ResultProjection(projection.sampleIndex() + offset, projection.input(),
+                projection.postconditions(), projection.executionTimeMs(), projection.content(),
+                projection.failureDetail());
+    }
+
+    /**
+     * Computes the statistics of merged counts, as a single run with those counts would.
+     */
+    static StatisticsSummary statistics(int successes, int failures, Map<String, Integer> failureDistribution,
+                                        Map<String, PostconditionCounts> postconditionCounts) {
+        int executed = successes + failures;
+        double rate = executed == 0 ? 0.0 : (double) successes / executed;
+        double standardError = executed < 2 ? 0.0 : Math.sqrt(rate * (1 - rate) / executed);
+        double margin = 1.96 * standardError;
+
+        Map<String, Double> criteriaPassRates = new LinkedHashMap<>();
+        postconditionCounts.forEach((description, counts) -> criteriaPassRates.put(description, counts.passRate()));
+
+        return new StatisticsSummary(
+                rate,
+                standardError,
+                Math.max(0.0, rate - margin),
+                Math.min(1.0, rate + margin),
+                successes,
+                failures,
+                failureDistribution,
+                criteriaPassRates);
+    }
+
+    /**
+     * Computes the cost summary of merged totals.
+     */
+    static CostSummary cost(long totalTimeMs, long totalTokens, long useCaseTimeMs, long pacingWaitMs, int executed) {
+        return new CostSummary(
+                totalTimeMs,
+                executed == 0 ? 0 : totalTimeMs / executed,
+                totalTokens,
+                executed == 0 ? 0 : totalTokens / executed,
+                useCaseTimeMs,
+                pacingWaitMs);
+    }
+
+    /**
+     * Sums the outcome counts of one postcondition.
+     */
+    static PostconditionCounts add(PostconditionCounts a, PostconditionCounts b) {
+        return new PostconditionCounts(a.passed() + b.passed(), a.failed() + b.failed(), a.skipped() + b.skipped());
+    }
+
+    private static Optional<BaselineCandidate> loadCandidate(Path path) {
+        try {
+            ExecutionSpecification spec = SpecificationLoader.load(path);
+            return Optional.of(new BaselineCandidate(
+                    path.getFileName().toString(),
+                    spec.getFootprint() != null ? spec.getFootprint() : "",
+                    spec.getCovariateProfile() != null ? spec.getCovariateProfile() : CovariateProfile.empty(),
+                    spec.getGeneratedAt(),
+                    spec));
+        } catch (Exception e) {
+            // Not a loadable baseline; it is overwritten like any other stale output
+            return Optional.empty();
+        }
+    }
+
+    private static Map<String, String> canonical(CovariateProfile profile) {
+        Map<String, String> values = new LinkedHashMap<>();
+        if (profile != null) {
+            for (String key : profile.orderedKeys()) {
+                values.put(key, profile.get(key).toCanonicalString());
+            }
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> section(Map<String, Object> parent, String key) {
+        Object value = parent.get(key);
+        return value instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> list(Map<String, Object> parent, String key) {
+        Object value = parent.get(key);
+        if (!(value instanceof List<?> items)) {
+            return List.of();
+        }
+        List<Map<String, Object>> maps = new ArrayList<>();
+        for (Object item : items) {
+            if (item instanceof Map<?, ?> map) {
+                maps.add((Map<String, Object>) map);
+            }
+        }
+        return maps;
+    }
+
+    private static int intValue(Object value) {
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+
+    private static long longValue(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private static Instant instantValue(Object value) {
+        if (value instanceof Date date) {
+            return date.toInstant();
+        }
+        if (value != null) {
+            return Instant.parse(value.toString());
+        }
+        return null;
+    }
+}
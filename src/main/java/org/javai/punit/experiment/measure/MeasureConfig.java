@@ -14,8 +14,12 @@ import org.javai.punit.experiment.engine.ExperimentConfig;
  * @param samples number of samples to execute
  * @param timeBudgetMs time budget in milliseconds (0 = unlimited)
  * @param tokenBudget token budget (0 = unlimited)
+ * @param sampleTimeoutMs per-sample deadline in milliseconds (0 = none)
  * @param experimentId experiment identifier for output naming
  * @param expiresInDays baseline expiration in days (0 = no expiration tracking)
+ * @param batchSize samples per batch call (0 = no batching)
+ * @param append true to accumulate into the existing compatible baseline
+ * @param shard the share of the samples this process runs, or null to run them all
  */
 public record MeasureConfig(
         Class<?> useCaseClass,
@@ -23,8 +27,12 @@ public record MeasureConfig(
         int samples,
         long timeBudgetMs,
         long tokenBudget,
+        long sampleTimeoutMs,
         String experimentId,
-        int expiresInDays
+        int expiresInDays,
+        int batchSize,
+        boolean append,
+        MeasureShard shard
 ) implements ExperimentConfig {
 
     @Override
@@ -40,4 +48,43 @@ public record MeasureConfig(
     public int effectiveSamples() {
         return mode().getEffectiveSampleSize(samples);
     }
+
+    /**
+     * Returns the samples this process runs: all of them, or its shard's block.
+     *
+     * @return the first sample number and the number of samples to run
+     */
+    public MeasureShard.Slice slice() {
+        if (shard == null) {
+            return new MeasureShard.Slice(1, effectiveSamples());
+        }
+        return shard.slice(effectiveSamples(), batchSize);
+    }
+
+    /**
+     * Returns the token budget of this process.
+     *
+     * @return the token budget, or its shard's share of it (0 = unlimited)
+     */
+    public long effectiveTokenBudget() {
+        return shard == null ? tokenBudget : shard.tokenBudget(tokenBudget);
+    }
+
+    /**
+     * Returns true if this process runs one shard of the experiment.
+     *
+     * @return true if the experiment is sharded
+     */
+    public boolean isSharded() {
+        return shard != null;
+    }
+
+    /**
+     * Returns true if samples are sent to the use case's batch endpoint.
+     *
+     * @return true if batching is enabled
+     */
+    public boolean isBatched() {
+        return batchSize > 0;
+    }
 }
@@ -1,7 +1,6 @@
 package org.javai.punit.experiment.measure;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.format.DateTimeFormatter;
@@ -11,6 +10,9 @@ import org.javai.punit.experiment.engine.output.InferentialStatistics;
 import org.javai.punit.experiment.engine.output.OutputUtilities;
 import org.javai.punit.experiment.engine.output.OutputUtilities.OutputHeader;
 import org.javai.punit.experiment.model.EmpiricalBaseline;
+import org.javai.punit.experiment.model.EmpiricalBaseline.AccumulatedRun;
+import org.javai.punit.experiment.model.EmpiricalBaseline.CostSummary;
+import org.javai.punit.experiment.model.EmpiricalBaseline.PostconditionCounts;
 import org.javai.punit.experiment.model.ResultProjection;
 import org.javai.punit.model.CovariateProfile;
 import org.javai.punit.model.CovariateValue;
@@ -28,6 +30,8 @@ import org.javai.punit.model.ExpirationPolicy;
  *   <li><b>Requirements section</b> - derived minPassRate from CI lower bound</li>
  *   <li><b>Inferential statistics</b> - SE, CI meaningful with 1000+ samples</li>
  *   <li><b>Spec-driven test support</b> - output is consumed by SpecificationLoader</li>
+ *   <li><b>Projection sidecar</b> - result projections are stored beside the spec, see
+ *       {@link ResultProjectionSidecar}</li>
  * </ul>
  *
  * <h2>Output Structure</h2>
@@ -44,8 +48,10 @@ import org.javai.punit.model.ExpirationPolicy;
  *     confidenceInterval95: [0.8814, 0.9186]
  *   successes: 900
  *   failures: 100
- * cost: ...
- * resultProjection: ...
+ * postconditions: ...     # outcome counts per postcondition
+ * cost: ...              # includes the use case / pacing time split when measured
+ * resultProjection: ...   # reference to the projection sidecar
+ * accumulatedRuns: ...    # only for baselines accumulated across runs
  * </pre>
  *
  * @see org.javai.punit.experiment.explore.ExploreOutputWriter
@@ -57,6 +63,10 @@ public class MeasureOutputWriter {
     /**
      * Writes a measurement baseline to the specified path in YAML format.
      *
+     * <p>Result projections are written to a {@link ResultProjectionSidecar sidecar}
+     * that the spec references. A sidecar left by a previous baseline at the same path
+     * is removed if this baseline has no projections.
+     *
      * @param baseline the baseline to write
      * @param path the output path
      * @throws IOException if writing fails
@@ -70,34 +80,49 @@ public class MeasureOutputWriter {
             Files.createDirectories(parent);
         }
 
-        String content = toYaml(baseline);
-        Files.writeString(path, content, StandardCharsets.UTF_8);
+        Path sidecarPath = ResultProjectionSidecar.pathFor(path);
+        ResultProjectionSidecar.Reference sidecar;
+        if (baseline.hasResultProjections()) {
+            sidecar = ResultProjectionSidecar.write(baseline.getResultProjections(), sidecarPath);
+        } else {
+            sidecar = null;
+            Files.deleteIfExists(sidecarPath);
+        }
+
+        OutputUtilities.writeWithFingerprint(path, builder -> writeContent(builder, baseline, sidecar));
     }
 
     /**
      * Converts a baseline to YAML format for measurement output.
      *
+     * <p>The result is self-contained: result projections are written inline, as there
+     * is no file to place a sidecar beside.
+     *
      * @param baseline the baseline
      * @return YAML string
      */
     public String toYaml(EmpiricalBaseline baseline) {
-        String contentWithoutFingerprint = buildYamlContent(baseline);
-        return OutputUtilities.appendFingerprint(contentWithoutFingerprint);
-    }
-
-    private String buildYamlContent(EmpiricalBaseline baseline) {
         YamlBuilder builder = YamlBuilder.create();
+        writeContent(builder, baseline, null);
+        return OutputUtilities.appendFingerprint(builder.build());
+    }
 
+    private void writeContent(YamlBuilder builder, EmpiricalBaseline baseline,
+            ResultProjectionSidecar.Reference sidecar) {
         writeHeader(builder, baseline);
         writeCovariates(builder, baseline);
         writeExecution(builder, baseline);
         writeRequirementsAndStatistics(builder, baseline);
+        writePostconditions(builder, baseline);
         writeCost(builder, baseline);
         writeSuccessCriteria(builder, baseline);
-        writeResultProjections(builder, baseline);
+        if (sidecar != null) {
+            writeSidecarReference(builder, sidecar);
+        } else {
+            writeResultProjections(builder, baseline);
+        }
         writeExpiration(builder, baseline);
-
-        return builder.build();
+        writeAccumulatedRuns(builder, baseline);
     }
 
     private void writeHeader(YamlBuilder builder, EmpiricalBaseline baseline) {
@@ -161,13 +186,36 @@ public class MeasureOutputWriter {
         inferential.writeTo(builder);
     }
 
+    private void writePostconditions(YamlBuilder builder, EmpiricalBaseline baseline) {
+        if (!baseline.hasPostconditionCounts()) {
+            return;
+        }
+        builder.startList("postconditions");
+        for (var entry : baseline.getPostconditionCounts().entrySet()) {
+            PostconditionCounts counts = entry.getValue();
+            builder.startListItem()
+                .field("description", entry.getKey())
+                .field("passed", counts.passed())
+                .field("failed", counts.failed())
+                .field("skipped", counts.skipped())
+                .field("passRate", counts.passRate(), "%.4f")
+                .endListItem();
+        }
+        builder.endList();
+    }
+
     private void writeCost(YamlBuilder builder, EmpiricalBaseline baseline) {
+        CostSummary cost = baseline.getCost();
         builder.startObject("cost")
-            .field("totalTimeMs", baseline.getCost().totalTimeMs())
-            .field("avgTimePerSampleMs", baseline.getCost().avgTimePerSampleMs())
-            .field("totalTokens", baseline.getCost().totalTokens())
-            .field("avgTokensPerSample", baseline.getCost().avgTokensPerSample())
-            .endObject();
+            .field("totalTimeMs", cost.totalTimeMs())
+            .field("avgTimePerSampleMs", cost.avgTimePerSampleMs())
+            .field("totalTokens", cost.totalTokens())
+            .field("avgTokensPerSample", cost.avgTokensPerSample());
+        if (cost.hasPhaseTimes()) {
+            builder.field("useCaseTimeMs", cost.useCaseTimeMs())
+                .field("pacingWaitMs", cost.pacingWaitMs());
+        }
+        builder.endObject();
     }
 
     private void writeSuccessCriteria(YamlBuilder builder, EmpiricalBaseline baseline) {
@@ -190,6 +238,14 @@ public class MeasureOutputWriter {
         builder.endObject();
     }
 
+    private void writeSidecarReference(YamlBuilder builder, ResultProjectionSidecar.Reference sidecar) {
+        builder.startObject("resultProjection")
+            .field("sidecar", sidecar.file())
+            .field("sha256", sidecar.sha256())
+            .field("samples", sidecar.samples())
+            .endObject();
+    }
+
     private void writeResultProjection(YamlBuilder builder, ResultProjection projection) {
         String sampleKey = "sample[" + projection.sampleIndex() + "]";
         builder.startObject(sampleKey);
@@ -219,6 +275,21 @@ public class MeasureOutputWriter {
         builder.endObject();
     }
 
+    private void writeAccumulatedRuns(YamlBuilder builder, EmpiricalBaseline baseline) {
+        if (!baseline.isAccumulated()) {
+            return;
+        }
+        builder.startList("accumulatedRuns");
+        for (AccumulatedRun run : baseline.getAccumulatedRuns()) {
+            builder.startListItem()
+                .field("generatedAt", ISO_FORMATTER.format(run.generatedAt()))
+                .field("samples", run.samples())
+                .field("successes", run.successes())
+                .endListItem();
+        }
+        builder.endList();
+    }
+
     private void writeExpiration(YamlBuilder builder, EmpiricalBaseline baseline) {
         if (!baseline.hasExpirationPolicy()) {
             return;
@@ -0,0 +1,221 @@
+package org.javai.punit.experiment.measure;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.javai.punit.controls.pacing.PacingCalculator;
+import org.javai.punit.controls.pacing.PacingConfiguration;
+
+/**
+ * One worker's share of a MEASURE experiment that is split across processes.
+ *
+ * <p>A sharded run starts K worker processes with {@code -Dpunit.measure.shard=k/K}
+ * (or {@code PUNIT_MEASURE_SHARD}). Worker k runs the k-th contiguous block of the
+ * experiment's sample numbers, keeping their global numbering so that inputs and
+ * factors cycle exactly as in a single-process run. Batched experiments are split on
+ * batch boundaries, so every batch call is made by one worker with the same inputs.
+ *
+ * <p>Rate limits are shared out: each worker runs with 1/K of the requests per
+ * second, minute and hour, K times the minimum delay per sample and 1/K of the
+ * concurrency (at least one), so that together the workers stay within the
+ * {@code @Pacing} limits. The token budget is split evenly; the time budget applies
+ * to each worker as it is.
+ *
+ * <p>Instead of the spec, each worker writes its partial baseline to the shard
+ * directory ({@code -Dpunit.measure.shardDir}, default {@value #DEFAULT_DIRECTORY}) as
+ * {@code {spec name}.shard-k-of-K.yaml}. {@link MeasureShardMerger} combines the
+ * partials into the spec.
+ *
+ * @param index this worker's shard, from 1
+ * @param count the number of shards
+ */
+public record MeasureShard(int index, int count) {
+
+    /** System property selecting the shard, as {@code k/K}. */
+    public static final String PROP_SHARD = "punit.measure.shard";
+
+    /** Environment variable selecting the shard, as {@code k/K}. */
+    public static final String ENV_SHARD = "PUNIT_MEASURE_SHARD";
+
+    /** System property naming the directory partial baselines are written to. */
+    public static final String PROP_DIRECTORY = "punit.measure.shardDir";
+
+    /** Environment variable naming the directory partial baselines are written to. */
+    public static final String ENV_DIRECTORY = "PUNIT_MEASURE_SHARD_DIR";
+
+    /** Directory partial baselines are written to by default. */
+    public static final String DEFAULT_DIRECTORY = "build/punit/measure-shards";
+
+    private static final Pattern SHARD = Pattern.compile("\\s*(\\d+)\\s*/\\s*(\\d+)\\s*");
+
+    private static final Pattern PARTIAL_FILE = Pattern.compile("(.+)\\.shard-(\\d+)-of-(\\d+)\\.yaml");
+
+    public MeasureShard {
+        if (count < 1 || index < 1 || index > count) {
+            throw new IllegalArgumentException(
+                    "MEASURE shard must be k/K with 1 <= k <= K, got: " + index + "/" + count);
+        }
+    }
+
+    /**
+     * A contiguous block of sample numbers.
+     *
+     * @param firstSample the first sample number, from 1
+     * @param samples the number of samples
+     */
+    public record Slice(int firstSample, int samples) {
+
+        /**
+         * @return the last sample number of the block
+         */
+        public int lastSample() {
+            return firstSample + samples - 1;
+        }
+    }
+
+    /**
+     * Returns the shard this process runs.
+     *
+     * @return the shard from the system property or environment variable, or empty if
+     *         the experiment runs in a single process
+     * @throws IllegalArgumentException if the setting is not of the form {@code k/K}
+     */
+    public static Optional<MeasureShard> fromEnvironment() {
+        String value = System.getProperty(PROP_SHARD);
+        if (value == null || value.isBlank()) {
+            value = System.getenv(ENV_SHARD);
+        }
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(parse(value));
+    }
+
+    /**
+     * Parses a shard setting.
+     *
+     * @param value the setting, as {@code k/K}
+     * @return the shard
+     * @throws IllegalArgumentException if the value is not of the form {@code k/K}
+     */
+    public static MeasureShard parse(String value) {
+        Matcher matcher = SHARD.matcher(value);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException(PROP_SHARD + " must be of the form k/K, got: " + value);
+        }
+        return new MeasureShard(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+
+    /**
+     * Returns the directory partial baselines are written to and merged from.
+     *
+     * @return the configured directory, or {@value #DEFAULT_DIRECTORY}
+     */
+    public static Path directory() {
+        String value = System.getProperty(PROP_DIRECTORY);
+        if (value == null || value.isBlank()) {
+            value = System.getenv(ENV_DIRECTORY);
+        }
+        return Paths.get(value == null || value.isBlank() ? DEFAULT_DIRECTORY : value.trim());
+    }
+
+    /**
+     * Returns the samples this shard runs.
+     *
+     * <p>The samples are split into blocks of {@code blockSize}, and the blocks are
+     * spread as evenly as possible, earlier shards taking one more when they do not
+     * divide evenly.
+     *
+     * @param totalSamples the samples of the whole experiment
+     * @param blockSize the number of consecutive samples that must stay together
+     * @return this shard's samples; empty if there are fewer blocks than shards
+     */
+    public Slice slice(int totalSamples, int blockSize) {
+        int size = Math.max(1, blockSize);
+        int blocks = (totalSamples + size - 1) / size;
+        int base = blocks / count;
+        int extra = blocks % count;
+        int firstBlock = (index - 1) * base + Math.min(index - 1, extra);
+        int blockCount = base + (index <= extra ? 1 : 0);
+        int firstSample = firstBlock * size + 1;
+        int lastSample = Math.min(totalSamples, (firstBlock + blockCount) * size);
+        return new Slice(firstSample, Math.max(0, lastSample - firstSample + 1));
+    }
+
+    /**
+     * Returns this shard's share of a token budget.
+     *
+     * @param tokenBudget the experiment's token budget (0 = unlimited)
+     * @return the budget divided by the shard count, rounded up; 0 if unlimited
+     */
+    public long tokenBudget(long tokenBudget) {
+        return tokenBudget <= 0 ? tokenBudget : (tokenBudget + count - 1) / count;
+    }
+
+    /**
+     * Returns this shard's share of the experiment's pacing.
+     *
+     * @param pacing the pacing resolved for the whole experiment
+     * @param samples the number of samples this shard runs
+     * @return pacing with the rate limits divided and the minimum delay multiplied by
+     *         the shard count
+     */
+    public PacingConfiguration share(PacingConfiguration pacing, int samples) {
+        if (count == 1 || !pacing.hasPacing()) {
+            return pacing;
+        }
+        int concurrency = pacing.maxConcurrentRequests() > 1
+                ? Math.max(1, pacing.maxConcurrentRequests() / count)
+                : pacing.maxConcurrentRequests();
+        return new PacingCalculator().compute(
+                samples,
+                pacing.maxRequestsPerSecond() / count,
+                pacing.maxRequestsPerMinute() / count,
+                pacing.maxRequestsPerHour() / count,
+                concurrency,
+                pacing.minMsPerSample() * count,
+                0
+        ).withPool(pacing.pool());
+    }
+
+    /**
+     * Returns the file name of this shard's partial baseline.
+     *
+     * @param specFileName the file name of the spec the shards are merged into
+     * @return {@code {spec name}.shard-k-of-K.yaml}
+     */
+    public String partialFileName(String specFileName) {
+        String name = specFileName.endsWith(".yaml")
+                ? specFileName.substring(0, specFileName.length() - ".yaml".length())
+                : specFileName;
+        return name + ".shard-" + index + "-of-" + count + ".yaml";
+    }
+
+    /**
+     * Recognises the file name of a partial baseline.
+     *
+     * @param fileName a file name
+     * @return the shard that wrote it and the spec it belongs to, or empty if the
+     *         name is not that of a partial baseline
+     */
+    static Optional<Partial> parsePartialFileName(String fileName) {
+        Matcher matcher = PARTIAL_FILE.matcher(fileName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        int index = Integer.parseInt(matcher.group(2));
+        int count = Integer.parseInt(matcher.group(3));
+        if (count < 1 || index < 1 || index > count) {
+            return Optional.empty();
+        }
+        return Optional.of(new Partial(matcher.group(1) + ".yaml", new MeasureShard(index, count)));
+    }
+
+    /**
+     * The spec a partial baseline belongs to, and the shard that wrote it.
+     */
+    record Partial(String specFileName, MeasureShard shard) {
+    }
+}
@@ -0,0 +1,76 @@
+package org.javai.punit.experiment.measure;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.javai.punit.experiment.measure.MeasureShardMerger.MergedSpec;
+
+/**
+ * Command-line entry point that merges the partial baselines of sharded MEASURE runs.
+ *
+ * <pre>
+ * java org.javai.punit.experiment.measure.MeasureShardMergeCli \
+ *     [--shard-dir &lt;dir&gt;] [--specs-dir &lt;dir&gt;]
+ * </pre>
+ *
+ * <p>The directories default to {@code punit.measure.shardDir} and
+ * {@code punit.specs.outputDir}. The Gradle plugin's {@code mergeMeasureShards} task
+ * runs it after the {@code experimentShardN} tasks.
+ */
+public final class MeasureShardMergeCli {
+
+    private MeasureShardMergeCli() {
+    }
+
+    public static void main(String[] args) {
+        try {
+            run(args, System.out);
+        } catch (IllegalArgumentException e) {
+            System.err.println("error: " + e.getMessage());
+            System.err.println("usage: MeasureShardMergeCli [--shard-dir <dir>] [--specs-dir <dir>]");
+            System.exit(2);
+        } catch (IllegalStateException e) {
+            System.err.println("error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    static void run(String[] args, PrintStream out) {
+        Path shardDirectory = MeasureShard.directory();
+        Path specsDirectory = MeasureSpecGenerator.specsDirectory();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--shard-dir" -> shardDirectory = Path.of(value(args, ++i, "--shard-dir"));
+                case "--specs-dir" -> specsDirectory = Path.of(value(args, ++i, "--specs-dir"));
+                default -> throw new IllegalArgumentException("unknown argument: " + args[i]);
+            }
+        }
+
+        List<MergedSpec> merged;
+        try {
+            merged = new MeasureShardMerger(shardDirectory, specsDirectory).mergeAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to merge MEASURE shards in " + shardDirectory, e);
+        }
+        if (merged.isEmpty()) {
+            out.println("No MEASURE shards to merge in " + shardDirectory);
+            return;
+        }
+        for (MergedSpec spec : merged) {
+            out.printf("Merged %d shards into %s (%d samples, success rate %.4f, %s)%n",
+                    spec.shards(), spec.spec(),
+                    spec.baseline().getExecution().samplesExecuted(),
+                    spec.baseline().getStatistics().observedSuccessRate(),
+                    spec.baseline().getExecution().terminationReason());
+        }
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(option + " requires a value");
+        }
+        return args[index];
+    }
+}
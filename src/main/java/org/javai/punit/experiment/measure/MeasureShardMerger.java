@@ -0,0 +1,355 @@
+package org.javai.punit.experiment.measure;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.javai.punit.experiment.measure.BaselineAccumulator.PriorBaseline;
+import org.javai.punit.experiment.measure.MeasureShard.Partial;
+import org.javai.punit.experiment.model.EmpiricalBaseline;
+import org.javai.punit.experiment.model.EmpiricalBaseline.ExecutionSummary;
+import org.javai.punit.experiment.model.EmpiricalBaseline.PostconditionCounts;
+import org.javai.punit.experiment.model.EmpiricalBaseline.StatisticsSummary;
+import org.javai.punit.experiment.model.ResultProjection;
+import org.javai.punit.model.CovariateProfile;
+import org.javai.punit.model.ExpirationPolicy;
+import org.javai.punit.spec.model.ExecutionSpecification;
+import org.javai.punit.spec.registry.SpecificationLoader;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+/**
+ * Combines the partial baselines of a sharded MEASURE run into its spec.
+ *
+ * <p>Partials that measured the same use case and footprint are merged into one spec,
+ * in shard order, so the result does not depend on which worker finished first. The
+ * shards must have resolved the same covariates and been written by the same
+ * experiment; a spec's file name includes its covariates, so workers that resolved
+ * different covariates (a long run crossing a time-of-day boundary, say) are reported
+ * as such rather than as missing shards.
+ *
+ * <p>Counts, failure distributions, postcondition counts and cost figures are summed,
+ * and the success rate, standard error and confidence interval are recomputed from the
+ * merged counts, exactly as a single process that ran all the samples computes them.
+ * The header is taken from the first shard; the generation time and baseline end time
+ * are those of the last shard to finish. The run is {@code COMPLETED} if every shard
+ * completed; otherwise it takes the termination reason of the first shard that stopped
+ * early. The shards' result projections are concatenated in shard order; they need no
+ * renumbering, as each shard keeps the global numbering of its samples.
+ *
+ * <p>Every partial is read and every spec merged before anything is written: if any
+ * spec is missing a shard, or its partials are unreadable or inconsistent, nothing is
+ * written. The partials and their projection sidecars are deleted only once every spec
+ * has been written, so if a write fails the merge can simply be run again. Partials are
+ * loaded through {@link SpecificationLoader}, so their fingerprints are verified.
+ *
+ * @see MeasureShard
+ */
+public class MeasureShardMerger {
+
+    private final Path shardDirectory;
+    private final Path specsDirectory;
+
+    /**
+     * Creates a merger over the configured shard and specs directories.
+     */
+    public MeasureShardMerger() {
+        this(MeasureShard.directory(), MeasureSpecGenerator.specsDirectory());
+    }
+
+    /**
+     * Creates a merger over the given directories.
+     *
+     * @param shardDirectory the directory the workers wrote their partial baselines to
+     * @param specsDirectory the directory to write the merged specs to
+     */
+    public MeasureShardMerger(Path shardDirectory, Path specsDirectory) {
+        this.shardDirectory = Objects.requireNonNull(shardDirectory, "shardDirectory must not be null");
+        this.specsDirectory = Objects.requireNonNull(specsDirectory, "specsDirectory must not be null");
+    }
+
+    /**
+     * A spec written by merging shards.
+     *
+     * @param spec the spec file
+     * @param shards the number of shards merged
+     * @param baseline the merged baseline
+     */
+    public record MergedSpec(Path spec, int shards, EmpiricalBaseline baseline) {
+    }
+
+    /**
+     * Merges the partial baselines of every spec in the shard directory.
+     *
+     * @return the specs written, by file name; empty if there were no partials
+     * @throws IOException if a partial cannot be read or a spec cannot be written
+     * @throws IllegalStateException if a spec's partials are incomplete or inconsistent
+     */
+    public List<MergedSpec> mergeAll() throws IOException {
+        Map<Measurement, SpecPartials> partials = findPartials();
+        partials.forEach(this::checkComplete);
+
+        List<MergedSpec> merged = new ArrayList<>();
+        for (SpecPartials spec : partials.values()) {
+            List<ShardBaseline> shards = spec.shards().values().stream().map(ShardFile::baseline).toList();
+            String specFileName = spec.shards().get(1).specFileName();
+            merged.add(new MergedSpec(specsDirectory.resolve(specFileName), shards.size(), merge(shards)));
+        }
+
+        MeasureOutputWriter writer = new MeasureOutputWriter();
+        for (MergedSpec spec : merged) {
+            writer.write(spec.baseline(), spec.spec());
+        }
+        // Only now that every spec is written, so a failed write can be retried
+        for (SpecPartials spec : partials.values()) {
+            for (ShardFile shard : spec.shards().values()) {
+                Files.delete(shard.path());
+                Files.deleteIfExists(ResultProjectionSidecar.pathFor(shard.path()));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * The contents of one partial baseline.
+     */
+    record ShardBaseline(
+            MeasureShard shard,
+            String useCaseId,
+            String experimentId,
+            String experimentClass,
+            String experimentMethod,
+            Instant generatedAt,
+            String footprint,
+            CovariateProfile covariateProfile,
+            ExpirationPolicy expirationPolicy,
+            String successCriteria,
+            String terminationReason,
+            String terminationDetails,
+            PriorBaseline counts
+    ) {
+    }
+
+    /**
+     * Reads a partial baseline written by a shard, with its result projections.
+     */
+    static ShardBaseline read(Path partial) throws IOException {
+        MeasureShard shard = MeasureShard.parsePartialFileName(partial.getFileName().toString())
+                .map(Partial::shard)
+                .orElseThrow(() -> new IllegalArgumentException("Not a MEASURE shard file: " + partial));
+        ExecutionSpecification spec = SpecificationLoader.load(partial);
+        String yaml = Files.readString(partial, StandardCharsets.UTF_8);
+        Map<String, Object> root = new Yaml(new SafeConstructor(new LoaderOptions())).load(yaml);
+        Map<String, Object> execution = section(root, "execution");
+        return new ShardBaseline(
+                shard,
+                spec.getUseCaseId(),
+                string(root.get("experimentId")),
+                string(root.get("experimentClass")),
+                string(root.get("experimentMethod")),
+                spec.getGeneratedAt(),
+                spec.getFootprint(),
+                spec.getCovariateProfile(),
+                spec.hasExpirationPolicy() ? spec.getExpirationPolicy() : null,
+                string(section(root, "successCriteria").get("definition")),
+                string(execution.get("terminationReason")),
+                string(execution.get("terminationDetails")),
+                BaselineAccumulator.read(yaml).withResultProjections(ResultProjectionSidecar.load(partial)));
+    }
+
+    /**
+     * Merges the partial baselines of one spec, given in shard order.
+     */
+    static EmpiricalBaseline merge(List<ShardBaseline> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("No shards to merge");
+        }
+        ShardBaseline first = shards.get(0);
+        for (ShardBaseline shard : shards) {
+            if (!Objects.equals(first.useCaseId(), shard.useCaseId())
+                    || !Objects.equals(first.footprint(), shard.footprint())) {
+                throw new IllegalStateException("Shard " + label(shard.shard()) + " measured "
+                        + shard.useCaseId() + " [" + shard.footprint() + "], but shard " + label(first.shard())
+                        + " measured " + first.useCaseId() + " [" + first.footprint() + "]");
+            }
+            if (!Objects.equals(first.covariateProfile(), shard.covariateProfile())) {
+                throw new IllegalStateException("Shards of " + first.useCaseId() + " [" + first.footprint()
+                        + "] resolved different covariates: shard " + label(first.shard()) + " "
+                        + first.covariateProfile().asMap() + ", shard " + label(shard.shard()) + " "
+                        + shard.covariateProfile().asMap() + "; their samples cannot form one baseline, "
+                        + "so run the shards again under the same conditions");
+            }
+            if (!Objects.equals(first.experimentId(), shard.experimentId())) {
+                throw new IllegalStateException("Shards of " + first.useCaseId() + " [" + first.footprint()
+                        + "] were written by different experiments: shard " + label(first.shard()) + " by "
+                        + first.experimentId() + ", shard " + label(shard.shard()) + " by " + shard.experimentId());
+            }
+        }
+
+        int samplesPlanned = 0;
+        int samplesExecuted = 0;
+        int successes = 0;
+        int failures = 0;
+        long totalTimeMs = 0;
+        long totalTokens = 0;
+        long useCaseTimeMs = 0;
+        long pacingWaitMs = 0;
+        Map<String, Integer> failureDistribution = new LinkedHashMap<>();
+        Map<String, PostconditionCounts> postconditionCounts = new LinkedHashMap<>();
+        List<ResultProjection> resultProjections = new ArrayList<>();
+        ShardBaseline stopped = null;
+        for (ShardBaseline shard : shards) {
+            PriorBaseline counts = shard.counts();
+            samplesPlanned += counts.samplesPlanned();
+            samplesExecuted += counts.samplesExecuted();
+            successes += counts.successes();
+            failures += counts.failures();
+            totalTimeMs += counts.totalTimeMs();
+            totalTokens += counts.totalTokens();
+            useCaseTimeMs += counts.useCaseTimeMs();
+            pacingWaitMs += counts.pacingWaitMs();
+            counts.failureDistribution().forEach((category, count) ->
+                    failureDistribution.merge(category, count, Integer::sum));
+            counts.postconditionCounts().forEach((description, count) ->
+                    postconditionCounts.merge(description, count, BaselineAccumulator::add));
+            resultProjections.addAll(counts.resultProjections());
+            if (stopped == null && !"COMPLETED".equals(shard.terminationReason())) {
+                stopped = shard;
+            }
+        }
+
+        StatisticsSummary statistics =
+                BaselineAccumulator.statistics(successes, failures, failureDistribution, postconditionCounts);
+        ExecutionSummary execution = stopped == null
+                ? new ExecutionSummary(samplesPlanned, samplesExecuted, "COMPLETED", null)
+                : new ExecutionSummary(samplesPlanned, samplesExecuted, stopped.terminationReason(),
+                        "shard " + label(stopped.shard())
+                                + (stopped.terminationDetails() != null ? ": " + stopped.terminationDetails() : ""));
+        Instant generatedAt = shards.stream()
+                .map(ShardBaseline::generatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+
+        EmpiricalBaseline.Builder builder = EmpiricalBaseline.builder()
+                .useCaseId(first.useCaseId())
+                .experimentId(first.experimentId())
+                .generatedAt(generatedAt)
+                .experimentClass(first.experimentClass())
+                .experimentMethod(first.experimentMethod())
+                .execution(execution)
+                .statistics(statistics)
+                .cost(BaselineAccumulator.cost(totalTimeMs, totalTokens, useCaseTimeMs, pacingWaitMs,
+                        successes + failures))
+                .successCriteriaDefinition(first.successCriteria())
+                .footprint(first.footprint())
+                .covariateProfile(first.covariateProfile())
+                .postconditionCounts(postconditionCounts)
+                .resultProjections(resultProjections);
+
+        if (first.expirationPolicy() != null) {
+            Instant baselineEndTime = shards.stream()
+                    .map(ShardBaseline::expirationPolicy)
+                    .filter(Objects::nonNull)
+                    .map(ExpirationPolicy::baselineEndTime)
+                    .max(Comparator.naturalOrder())
+                    .orElse(first.expirationPolicy().baselineEndTime());
+            builder.expirationPolicy(first.expirationPolicy().expiresInDays(), baselineEndTime);
+        }
+        return builder.build();
+    }
+
+    /**
+     * What a sharded run measured: partials of the same use case and footprint belong
+     * to one spec, whatever covariates their file names carry.
+     */
+    private record Measurement(String useCaseId, String footprint) {
+
+        @Override
+        public String toString() {
+            return useCaseId + " [" + footprint + "]";
+        }
+    }
+
+    /**
+     * A partial baseline file and its contents.
+     */
+    private record ShardFile(Path path, String specFileName, ShardBaseline baseline) {
+    }
+
+    /**
+     * The partial baselines of one spec, by shard index.
+     */
+    private record SpecPartials(int count, Map<Integer, ShardFile> shards) {
+    }
+
+    private Map<Measurement, SpecPartials> findPartials() throws IOException {
+        Map<Measurement, SpecPartials> partials = new LinkedHashMap<>();
+        if (!Files.isDirectory(shardDirectory)) {
+            return partials;
+        }
+        try (Stream<Path> files = Files.list(shardDirectory)) {
+            for (Path file : files.sorted().toList()) {
+                Partial partial = MeasureShard.parsePartialFileName(file.getFileName().toString()).orElse(null);
+                if (partial == null || !Files.isRegularFile(file)) {
+                    continue;
+                }
+                ShardBaseline baseline = read(file);
+                Measurement measurement = new Measurement(baseline.useCaseId(), baseline.footprint());
+                int count = partial.shard().count();
+                SpecPartials spec = partials.computeIfAbsent(measurement,
+                        key -> new SpecPartials(count, new TreeMap<>()));
+                if (spec.count() != count) {
+                    throw new IllegalStateException("Shards of " + measurement
+                            + " were written by runs with " + spec.count() + " and " + count
+                            + " shards; delete " + shardDirectory + " and run the shards again");
+                }
+                ShardFile previous = spec.shards().put(partial.shard().index(),
+                        new ShardFile(file, partial.specFileName(), baseline));
+                if (previous != null) {
+                    throw new IllegalStateException("Shard " + label(partial.shard()) + " of " + measurement
+                            + " was written twice, as " + previous.path().getFileName() + " and "
+                            + file.getFileName() + "; delete " + shardDirectory + " and run the shards again");
+                }
+            }
+        }
+        return partials;
+    }
+
+    private void checkComplete(Measurement measurement, SpecPartials partials) {
+        List<Integer> missing = new ArrayList<>();
+        for (int index = 1; index <= partials.count(); index++) {
+            if (!partials.shards().containsKey(index)) {
+                missing.add(index);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Cannot merge " + measurement + ": shards " + missing + " of "
+                    + partials.count() + " are missing from " + shardDirectory);
+        }
+    }
+
+    private static String label(MeasureShard shard) {
+        return shard.index() + "/" + shard.count();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> section(Map<String, Object> parent, String key) {
+        Object value = parent == null ? null : parent.get(key);
+        return value instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of();
+    }
+
+    private static String string(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -11,11 +11,15 @@ import org.javai.punit.api.UseCaseProvider;
 import org.javai.punit.experiment.engine.EmpiricalBaselineGenerator;
 import org.javai.punit.experiment.engine.ExperimentConfig;
 import org.javai.punit.experiment.engine.ExperimentResultAggregator;
+import org.javai.punit.experiment.engine.output.OutputPipeline;
 import org.javai.punit.experiment.model.DefaultUseCaseContext;
 import org.javai.punit.experiment.model.EmpiricalBaseline;
 import org.javai.punit.model.CovariateDeclaration;
 import org.javai.punit.model.CovariateProfile;
+import org.javai.punit.reporting.PhaseTimings;
+import org.javai.punit.reporting.PhaseTimings.Phase;
 import org.javai.punit.spec.baseline.BaselineFileNamer;
+import org.javai.punit.spec.baseline.BaselineRepository;
 import org.javai.punit.spec.baseline.FootprintComputer;
 import org.javai.punit.spec.baseline.covariate.CovariateProfileResolver;
 import org.javai.punit.spec.baseline.covariate.DefaultCovariateResolutionContext;
@@ -27,6 +31,9 @@ import org.junit.jupiter.api.extension.ExtensionContext;
  *
  * <p>Output: {@code src/test/resources/punit/specs/{UseCaseName}-{footprint}[-{covHashes}].yaml}
  *
+ * <p>A process that runs one {@link MeasureShard shard} of the experiment writes a
+ * partial baseline to the shard directory instead.
+ *
  * <p>Each use case should have ONE measure experiment that establishes the production
  * baseline. The probabilistic test then uses the same factor source, ensuring the
  * test cycles through the same values as the baseline measurement.
@@ -91,6 +98,11 @@ public class MeasureSpecGenerator {
             }
         }
 
+        PhaseTimings phaseTimings = store.get("phaseTimings", PhaseTimings.class);
+        if (phaseTimings != null) {
+            aggregator.setPhaseTimes(phaseTimings.millis(Phase.USE_CASE), phaseTimings.millis(Phase.PACING));
+        }
+
         UseCaseContext useCaseContext = DefaultUseCaseContext.builder().build();
 
         EmpiricalBaselineGenerator generator = new EmpiricalBaselineGenerator();
@@ -107,8 +119,32 @@ public class MeasureSpecGenerator {
         // Write spec to file using measure-specific output format
         try {
             Path outputPath = resolveOutputPath(useCaseId, footprint, covariateProfile);
+            if (config.isSharded()) {
+                // Partial baseline, combined into the spec by MeasureShardMerger
+                MeasureShard shard = config.shard();
+                outputPath = MeasureShard.directory().resolve(
+                        shard.partialFileName(outputPath.getFileName().toString()));
+                context.publishReportEntry("punit.spec.shard", shard.index() + "/" + shard.count());
+            } else if (config.append()) {
+                // The baseline to grow may still be queued for writing
+                OutputPipeline.shared().flush();
+                BaselineAccumulator accumulator = new BaselineAccumulator(new BaselineRepository(outputPath.getParent()));
+                Optional<Path> existing = accumulator.findCompatible(baseline, outputPath);
+                if (existing.isPresent()) {
+                    baseline = accumulator.accumulate(baseline, existing.get());
+                    outputPath = existing.get();
+                    context.publishReportEntry("punit.spec.appendedTo", outputPath.getFileName().toString());
+                    context.publishReportEntry("punit.spec.accumulatedSamples",
+                            String.valueOf(baseline.getExecution().samplesExecuted()));
+                } else {
+                    context.publishReportEntry("punit.spec.append",
+                            "No compatible baseline found; writing a new baseline");
+                }
+            }
             MeasureOutputWriter writer = new MeasureOutputWriter();
-            writer.write(baseline, outputPath);
+            EmpiricalBaseline finalBaseline = baseline;
+            Path finalPath = outputPath;
+            OutputPipeline.shared().submit(outputPath.getParent(), () -> writer.write(finalBaseline, finalPath));
 
             context.publishReportEntry("punit.spec.outputPath", outputPath.toString());
         } catch (IOException e) {
@@ -116,34 +152,48 @@ public class MeasureSpecGenerator {
         }
 
         // Publish final report
-        publishFinalReport(context, aggregator);
+        publishFinalReport(context, aggregator, phaseTimings);
     }
 
     private Path resolveOutputPath(String useCaseId, String footprint, CovariateProfile covariateProfile)
             throws IOException {
+        Path baseDir = specsDirectory();
+        Files.createDirectories(baseDir);
+        return baseDir.resolve(specFileName(useCaseId, footprint, covariateProfile));
+    }
 
-        String filename;
-        if (footprint != null && !footprint.isEmpty()) {
-            BaselineFileNamer namer = new BaselineFileNamer();
-            CovariateProfile profile = covariateProfile != null ? covariateProfile : CovariateProfile.empty();
-            filename = namer.generateFilename(useCaseId, footprint, profile);
-        } else {
-            filename = useCaseId.replace('.', '-') + ".yaml";
-        }
-
+    /**
+     * Returns the directory MEASURE specs are written to.
+     *
+     * @return {@code punit.specs.outputDir}, or the default specs directory
+     */
+    static Path specsDirectory() {
         String outputDirOverride = System.getProperty("punit.specs.outputDir");
-        Path baseDir;
         if (outputDirOverride != null && !outputDirOverride.isEmpty()) {
-            baseDir = Paths.get(outputDirOverride);
-        } else {
-            baseDir = Paths.get(DEFAULT_SPECS_DIR);
+            return Paths.get(outputDirOverride);
         }
+        return Paths.get(DEFAULT_SPECS_DIR);
+    }
 
-        Files.createDirectories(baseDir);
-        return baseDir.resolve(filename);
+    /**
+     * Returns the file name of the spec for a use case, footprint and covariate profile.
+     *
+     * @param useCaseId the use case identifier
+     * @param footprint the footprint, or null if the use case declares no covariates
+     * @param covariateProfile the resolved covariates, or null
+     * @return the spec file name
+     */
+    static String specFileName(String useCaseId, String footprint, CovariateProfile covariateProfile) {
+        if (footprint != null && !footprint.isEmpty()) {
+            BaselineFileNamer namer = new BaselineFileNamer();
+            CovariateProfile profile = covariateProfile != null ? covariateProfile : CovariateProfile.empty();
+            return namer.generateFilename(useCaseId, footprint, profile);
+        }
+        return useCaseId.replace('.', '-') + ".yaml";
     }
 
-    private void publishFinalReport(ExtensionContext context, ExperimentResultAggregator aggregator) {
+    private void publishFinalReport(ExtensionContext context, ExperimentResultAggregator aggregator,
+            PhaseTimings phaseTimings) {
         context.publishReportEntry("punit.experiment.complete", "true");
         context.publishReportEntry("punit.useCaseId", aggregator.getUseCaseId());
         context.publishReportEntry("punit.samplesExecuted",
@@ -156,6 +206,9 @@ public class MeasureSpecGenerator {
                 aggregator.getTerminationReason());
         context.publishReportEntry("punit.elapsedMs",
                 String.valueOf(aggregator.getElapsedMs()));
+        if (phaseTimings != null) {
+            context.publishReportEntry(phaseTimings.reportEntries("punit.time"));
+        }
         context.publishReportEntry("punit.totalTokens",
                 String.valueOf(aggregator.getTotalTokens()));
     }
@@ -1,21 +1,28 @@
 package org.javai.punit.experiment.measure;
 
 import java.lang.reflect.Method;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.javai.punit.api.ExperimentMode;
 import org.javai.punit.api.FactorArguments;
 import org.javai.punit.api.FactorSource;
+import org.javai.punit.api.InputOrder;
 import org.javai.punit.api.InputSource;
 import org.javai.punit.api.MeasureExperiment;
 import org.javai.punit.api.OutcomeCaptor;
 import org.javai.punit.api.UseCaseProvider;
+import org.javai.punit.controls.pacing.PacingConfiguration;
 import org.javai.punit.experiment.engine.ExperimentConfig;
 import org.javai.punit.experiment.engine.ExperimentModeStrategy;
 import org.javai.punit.experiment.engine.ExperimentProgressReporter;
 import org.javai.punit.experiment.engine.ExperimentResultAggregator;
+import org.javai.punit.experiment.engine.batch.BatchDispatcher;
+import org.javai.punit.experiment.engine.input.InputOutcomeHistory;
+import org.javai.punit.experiment.engine.input.InputOutcomeTracker;
 import org.javai.punit.experiment.engine.input.InputParameterDetector;
 import org.javai.punit.experiment.engine.input.InputSourceResolver;
 import org.javai.punit.experiment.engine.shared.FactorInfo;
@@ -32,12 +39,18 @@ import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
  *
  * <p>MEASURE mode establishes reliable statistics for a single configuration
  * by running many samples (default 1000) and generating an empirical spec.
+ *
+ * <p>With {@code -Dpunit.measure.shard=k/K}, the process runs only its
+ * {@link MeasureShard shard} of the samples, paced at its share of the limits.
  */
 public class MeasureStrategy implements ExperimentModeStrategy {
 
     private static final ExtensionContext.Namespace NAMESPACE =
             ExtensionContext.Namespace.create("org.javai.punit.experiment");
 
+    /** System property that overrides {@link MeasureExperiment#append()}. */
+    public static final String PROP_APPEND = "punit.measure.append";
+
     @Override
     public boolean supports(Method testMethod) {
         return testMethod.isAnnotationPresent(MeasureExperiment.class);
@@ -54,15 +67,53 @@ public class MeasureStrategy implements ExperimentModeStrategy {
         Class<?> useCaseClass = annotation.useCase();
         String useCaseId = UseCaseProvider.resolveId(useCaseClass);
 
-        return new MeasureConfig(
+        MeasureConfig config = new MeasureConfig(
                 useCaseClass,
                 useCaseId,
                 annotation.samples(),
                 annotation.timeBudgetMs(),
                 annotation.tokenBudget(),
+                annotation.sampleTimeoutMs(),
                 annotation.experimentId(),
-                annotation.expiresInDays()
+                annotation.expiresInDays(),
+                annotation.batchSize(),
+                resolveAppend(annotation),
+                resolveShard()
         );
+        if (config.isSharded()) {
+            validateShard(config);
+        }
+        return config;
+    }
+
+    private static MeasureShard resolveShard() {
+        try {
+            return MeasureShard.fromEnvironment().orElse(null);
+        } catch (IllegalArgumentException e) {
+            throw new ExtensionConfigurationException(e.getMessage(), e);
+        }
+    }
+
+    private static void validateShard(MeasureConfig config) {
+        MeasureShard shard = config.shard();
+        if (config.append()) {
+            throw new ExtensionConfigurationException(
+                    "append cannot be combined with a sharded MEASURE run: merge the shards first, " +
+                    "then append in a single-process run");
+        }
+        if (config.slice().samples() == 0) {
+            throw new ExtensionConfigurationException(
+                    "MEASURE shard %d/%d has no samples: %d samples cannot be split into %d shards".formatted(
+                            shard.index(), shard.count(), config.effectiveSamples(), shard.count()));
+        }
+    }
+
+    private static boolean resolveAppend(MeasureExperiment annotation) {
+        String override = System.getProperty(PROP_APPEND);
+        if (override != null && !override.isBlank()) {
+            return Boolean.parseBoolean(override.trim());
+        }
+        return annotation.append();
     }
 
     @Override
@@ -74,10 +125,11 @@ public class MeasureStrategy implements ExperimentModeStrategy {
 
         MeasureConfig measureConfig = (MeasureConfig) config;
         int samples = measureConfig.effectiveSamples();
+        MeasureShard.Slice slice = measureConfig.slice();
         String useCaseId = measureConfig.useCaseId();
 
-        // Create aggregator
-        ExperimentResultAggregator aggregator = new ExperimentResultAggregator(useCaseId, samples);
+        // Create aggregator over the samples this process runs
+        ExperimentResultAggregator aggregator = new ExperimentResultAggregator(useCaseId, slice.samples());
         store.put("aggregator", aggregator);
 
         AtomicBoolean terminated = new AtomicBoolean(false);
@@ -93,7 +145,12 @@ public class MeasureStrategy implements ExperimentModeStrategy {
         if (inputSource != null) {
             return provideWithInputsInvocationContexts(
                     testMethod, inputSource, context.getRequiredTestClass(),
-                    samples, useCaseId, store, terminated);
+                    measureConfig, samples, slice, useCaseId, store, terminated);
+        }
+
+        if (measureConfig.isBatched()) {
+            throw new ExtensionConfigurationException(
+                    "batchSize requires @InputSource so that the inputs of each batch are known in advance");
         }
 
         // Check for @FactorSource annotation (legacy)
@@ -101,12 +158,11 @@ public class MeasureStrategy implements ExperimentModeStrategy {
         if (factorSource != null) {
             return provideWithFactorsInvocationContexts(
                     testMethod, factorSource, measureConfig.useCaseClass(),
-                    samples, useCaseId, store, terminated);
+                    samples, slice, useCaseId, store, terminated);
         }
 
         // No input or factor source - simple sample stream
-        return Stream.iterate(1, i -> i + 1)
-                .limit(samples)
+        return sampleNumbers(slice)
                 .takeWhile(i -> !terminated.get())
                 .map(i -> new MeasureInvocationContext(i, samples, useCaseId, new OutcomeCaptor()));
     }
@@ -115,7 +171,9 @@ public class MeasureStrategy implements ExperimentModeStrategy {
             Method testMethod,
             InputSource inputSource,
             Class<?> testClass,
+            MeasureConfig measureConfig,
             int samples,
+            MeasureShard.Slice slice,
             String useCaseId,
             ExtensionContext.Store store,
             AtomicBoolean terminated) {
@@ -123,6 +181,17 @@ public class MeasureStrategy implements ExperimentModeStrategy {
         // Determine input type from method parameters
         Class<?> inputType = findInputParameterType(testMethod);
 
+        if (inputSource.stratified() || !inputSource.stratumKey().isEmpty()) {
+            throw new ExtensionConfigurationException(
+                    "Stratified @InputSource sampling is supported for @ProbabilisticTest only, " +
+                    "not in %s experiments".formatted(ExperimentMode.MEASURE));
+        }
+        if (inputSource.order() != InputOrder.DECLARED) {
+            throw new ExtensionConfigurationException(
+                    "@InputSource order is supported for @ProbabilisticTest only, " +
+                    "not in %s experiments".formatted(ExperimentMode.MEASURE));
+        }
+
         // Resolve inputs
         InputSourceResolver resolver = new InputSourceResolver();
         List<Object> inputs = resolver.resolve(inputSource, testClass, inputType);
@@ -135,20 +204,38 @@ public class MeasureStrategy implements ExperimentModeStrategy {
         store.put("inputs", inputs);
         store.put("inputType", inputType);
 
+        // Record per-input outcomes for failure-first ordering of the use case's tests
+        InputOutcomeTracker outcomeTracker = InputOutcomeTracker.create(
+                InputOutcomeHistory.load(useCaseId), inputs);
+        store.put("inputOutcomeTracker", outcomeTracker);
+
+        // Group samples into batch calls if requested
+        BatchDispatcher batchDispatcher = measureConfig.isBatched()
+                ? BatchDispatcher.create(measureConfig.useCaseClass(), measureConfig.batchSize(), inputs, samples)
+                : null;
+
         // Generate sample stream with cycling inputs
         int totalInputs = inputs.size();
-        return Stream.iterate(1, i -> i + 1)
-                .limit(samples)
+        return sampleNumbers(slice)
                 .takeWhile(i -> !terminated.get())
                 .map(i -> {
                     int inputIndex = (i - 1) % totalInputs;
                     Object inputValue = inputs.get(inputIndex);
+                    outcomeTracker.beginSample(inputIndex);
                     return new MeasureWithInputsInvocationContext(
                             i, samples, useCaseId, new OutcomeCaptor(),
-                            inputValue, inputType, inputIndex, totalInputs);
+                            inputValue, inputType, inputIndex, totalInputs, batchDispatcher);
                 });
     }
 
+    /**
+     * Returns the sample numbers this process runs, numbered as in the whole experiment
+     * so that inputs and factors cycle the same way however the samples are sharded.
+     */
+    private static Stream<Integer> sampleNumbers(MeasureShard.Slice slice) {
+        return Stream.iterate(slice.firstSample(), i -> i + 1).limit(slice.samples());
+    }
+
     private Class<?> findInputParameterType(Method method) {
         return InputParameterDetector.findInputParameterType(method);
     }
@@ -159,6 +246,7 @@ public class MeasureStrategy implements ExperimentModeStrategy {
             FactorSource factorSource,
             Class<?> useCaseClass,
             int samples,
+            MeasureShard.Slice slice,
             String useCaseId,
             ExtensionContext.Store store,
             AtomicBoolean terminated) {
@@ -178,8 +266,7 @@ public class MeasureStrategy implements ExperimentModeStrategy {
         store.put("factorInfos", factorInfos);
 
         // Generate sample stream with cycling factors
-        return Stream.iterate(1, i -> i + 1)
-                .limit(samples)
+        return sampleNumbers(slice)
                 .takeWhile(i -> !terminated.get())
                 .map(i -> {
                     int factorIndex = (i - 1) % factorsList.size();
@@ -204,7 +291,8 @@ public class MeasureStrategy implements ExperimentModeStrategy {
         Long startTimeMs = store.get("startTimeMs", Long.class);
 
         int sample = currentSample.incrementAndGet();
-        int effectiveSamples = config.effectiveSamples();
+        int effectiveSamples = config.slice().samples();
+        long tokenBudget = config.effectiveTokenBudget();
 
         // Check time budget
         if (config.timeBudgetMs() > 0) {
@@ -220,10 +308,10 @@ public class MeasureStrategy implements ExperimentModeStrategy {
         }
 
         // Check token budget
-        if (config.tokenBudget() > 0 && aggregator.getTotalTokens() >= config.tokenBudget()) {
+        if (tokenBudget > 0 && aggregator.getTotalTokens() >= tokenBudget) {
             terminated.set(true);
             aggregator.setTerminated("TOKEN_BUDGET_EXHAUSTED",
-                    "Token budget of " + config.tokenBudget() + " exceeded");
+                    "Token budget of " + tokenBudget + " exceeded");
             invocation.skip();
             generateSpecIfNeeded(extensionContext, store);
             return;
@@ -233,6 +321,8 @@ public class MeasureStrategy implements ExperimentModeStrategy {
         ExtensionContext.Store invocationStore = extensionContext.getStore(NAMESPACE);
         OutcomeCaptor captor = invocationStore.get("captor", OutcomeCaptor.class);
 
+        int executedBefore = aggregator.getSamplesExecuted();
+        int successesBefore = aggregator.getSuccesses();
         try {
             invocation.proceed();
             ResultRecorder.recordResult(captor, aggregator);
@@ -240,6 +330,11 @@ public class MeasureStrategy implements ExperimentModeStrategy {
             aggregator.recordException(e);
         }
 
+        InputOutcomeTracker outcomeTracker = store.get("inputOutcomeTracker", InputOutcomeTracker.class);
+        if (outcomeTracker != null && aggregator.getSamplesExecuted() > executedBefore) {
+            outcomeTracker.recordOutcome(aggregator.getSuccesses() > successesBefore);
+        }
+
         // Report progress
         reportProgress(extensionContext, aggregator, sample, effectiveSamples);
 
@@ -255,7 +350,24 @@ public class MeasureStrategy implements ExperimentModeStrategy {
     @Override
     public int computeTotalSamples(ExperimentConfig config, Method testMethod) {
         MeasureConfig measureConfig = (MeasureConfig) config;
-        return measureConfig.effectiveSamples();
+        return measureConfig.slice().samples();
+    }
+
+    @Override
+    public PacingConfiguration pacing(ExperimentConfig config, PacingConfiguration pacing) {
+        MeasureConfig measureConfig = (MeasureConfig) config;
+        if (!measureConfig.isSharded()) {
+            return pacing;
+        }
+        return measureConfig.shard().share(pacing, measureConfig.slice().samples());
+    }
+
+    @Override
+    public Optional<String> upToDate(ExperimentConfig config, ExtensionContext context) {
+        if (!MeasureUpToDateCheck.isEnabled()) {
+            return Optional.empty();
+        }
+        return new MeasureUpToDateCheck().check((MeasureConfig) config, Instant.now());
     }
 
     private void reportProgress(ExtensionContext context, ExperimentResultAggregator aggregator,
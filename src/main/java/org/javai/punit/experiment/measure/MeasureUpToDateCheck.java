@@ -0,0 +1,147 @@
+package org.javai.punit.experiment.measure;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.javai.punit.model.CovariateDeclaration;
+import org.javai.punit.model.CovariateProfile;
+import org.javai.punit.model.ExpirationStatus;
+import org.javai.punit.spec.baseline.FootprintComputer;
+import org.javai.punit.spec.baseline.covariate.CovariateProfileResolver;
+import org.javai.punit.spec.baseline.covariate.DefaultCovariateResolutionContext;
+import org.javai.punit.spec.baseline.covariate.UseCaseCovariateExtractor;
+import org.javai.punit.spec.expiration.ExpirationEvaluator;
+import org.javai.punit.spec.model.ExecutionSpecification;
+import org.javai.punit.spec.registry.SpecificationLoader;
+
+/**
+ * Decides whether a MEASURE experiment would only reproduce the baseline it wrote last time.
+ *
+ * <p>A MEASURE run is up to date when the spec it would write already exists and
+ * <ul>
+ *   <li>was written for the same footprint (use case and covariate declaration) and the
+ *       covariate values that hold now, which together determine the spec's file name;</li>
+ *   <li>loads, with a valid fingerprint;</li>
+ *   <li>holds at least as many samples as the experiment now plans;</li>
+ *   <li>has not expired and is not near expiry, as judged by {@link ExpirationEvaluator}.</li>
+ * </ul>
+ *
+ * <p>Experiments that append to their baseline are never up to date. The check is off
+ * unless {@code -Dpunit.measure.skipUpToDate=true} (or {@code PUNIT_MEASURE_SKIP_UP_TO_DATE})
+ * is set; the Gradle plugin's {@code experiment} task sets it unless run with
+ * {@code -Prerun}. Anything the spec's file name does not capture, such as a changed
+ * input list, is not detected: re-run to pick it up.
+ */
+public final class MeasureUpToDateCheck {
+
+    /** System property that enables skipping up-to-date MEASURE experiments. */
+    public static final String PROP_SKIP_UP_TO_DATE = "punit.measure.skipUpToDate";
+
+    /** Environment variable that enables skipping up-to-date MEASURE experiments. */
+    public static final String ENV_SKIP_UP_TO_DATE = "PUNIT_MEASURE_SKIP_UP_TO_DATE";
+
+    private final Path specsDirectory;
+
+    /**
+     * Creates a check against the configured specs directory.
+     */
+    public MeasureUpToDateCheck() {
+        this(MeasureSpecGenerator.specsDirectory());
+    }
+
+    /**
+     * Constructor for testing with a custom specs directory.
+     *
+     * @param specsDirectory the directory MEASURE specs are written to
+     */
+    MeasureUpToDateCheck(Path specsDirectory) {
+        this.specsDirectory = specsDirectory;
+    }
+
+    /**
+     * Returns whether up-to-date MEASURE experiments are skipped.
+     *
+     * @return true if the system property or environment variable is {@code true}
+     */
+    public static boolean isEnabled() {
+        String value = System.getProperty(PROP_SKIP_UP_TO_DATE);
+        if (value == null || value.isBlank()) {
+            value = System.getenv(ENV_SKIP_UP_TO_DATE);
+        }
+        return value != null && Boolean.parseBoolean(value.trim());
+    }
+
+    /**
+     * Checks whether an experiment's existing baseline is current.
+     *
+     * @param config the experiment's configuration
+     * @param now the current time
+     * @return why the experiment is up to date, or empty if it has to run
+     */
+    public Optional<String> check(MeasureConfig config, Instant now) {
+        if (config.append()) {
+            return Optional.empty();
+        }
+        Path specPath;
+        try {
+            specPath = specsDirectory.resolve(specFileName(config, now));
+        } catch (RuntimeException e) {
+            // No use case instance exists yet; covariates that need one are left to the run
+            return Optional.empty();
+        }
+        if (!Files.isRegularFile(specPath)) {
+            return Optional.empty();
+        }
+
+        ExecutionSpecification spec;
+        try {
+            spec = SpecificationLoader.load(specPath);
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+        if (spec.getBaselineSamples() < config.effectiveSamples()) {
+            return Optional.empty();
+        }
+        ExpirationStatus expiration = ExpirationEvaluator.evaluateAt(spec, now);
+        if (expiration.requiresWarning()) {
+            return Optional.empty();
+        }
+        return Optional.of(describe(specPath, spec, expiration, now));
+    }
+
+    private static String specFileName(MeasureConfig config, Instant now) {
+        Class<?> useCaseClass = config.useCaseClass();
+        if (useCaseClass == null || useCaseClass == Void.class) {
+            return MeasureSpecGenerator.specFileName(config.useCaseId(), null, null);
+        }
+        CovariateDeclaration declaration = new UseCaseCovariateExtractor().extractDeclaration(useCaseClass);
+        if (declaration.isEmpty()) {
+            return MeasureSpecGenerator.specFileName(config.useCaseId(), null, null);
+        }
+        DefaultCovariateResolutionContext context = DefaultCovariateResolutionContext.builder()
+                .now(now)
+                .build();
+        CovariateProfile profile = new CovariateProfileResolver().resolve(declaration, context);
+        String footprint = new FootprintComputer().computeFootprint(config.useCaseId(), declaration);
+        return MeasureSpecGenerator.specFileName(config.useCaseId(), footprint, profile);
+    }
+
+    private static String describe(Path specPath, ExecutionSpecification spec,
+                                   ExpirationStatus expiration, Instant now) {
+        StringBuilder description = new StringBuilder()
+                .append("baseline ").append(specPath.getFileName())
+                .append(" is up to date (").append(spec.getBaselineSamples()).append(" samples");
+        if (spec.getGeneratedAt() != null) {
+            description.append(", measured ")
+                    .append(Duration.between(spec.getGeneratedAt(), now).toDays()).append(" days ago");
+        }
+        if (expiration instanceof ExpirationStatus.Valid valid) {
+            description.append(", expires in ").append(valid.remaining().toDays()).append(" days");
+        }
+        return description.append("); re-run with -Prerun or -D")
+                .append(PROP_SKIP_UP_TO_DATE).append("=false to measure again").toString();
+    }
+}
@@ -3,6 +3,8 @@ package org.javai.punit.experiment.measure;
 import java.util.ArrayList;
 import java.util.List;
 import org.javai.punit.api.OutcomeCaptor;
+import org.javai.punit.experiment.engine.batch.BatchDispatcher;
+import org.javai.punit.experiment.engine.batch.BatchOutcomeParameterResolver;
 import org.javai.punit.experiment.engine.input.InputParameterResolver;
 import org.javai.punit.experiment.engine.shared.CaptorParameterResolver;
 import org.junit.jupiter.api.extension.Extension;
@@ -13,6 +15,9 @@ import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
  *
  * <p>Provides input values that cycle through the input source entries.
  * With samples=1000 and 10 inputs, each input is used ~100 times.
+ *
+ * <p>When a batch dispatcher is present, the sample's outcome from its batch call
+ * is also injected.
  */
 public record MeasureWithInputsInvocationContext(
         int sampleNumber,
@@ -22,7 +27,8 @@ public record MeasureWithInputsInvocationContext(
         Object inputValue,
         Class<?> inputType,
         int inputIndex,
-        int totalInputs
+        int totalInputs,
+        BatchDispatcher batchDispatcher
 ) implements TestTemplateInvocationContext {
 
     @Override
@@ -37,6 +43,9 @@ public record MeasureWithInputsInvocationContext(
         List<Extension> extensions = new ArrayList<>();
         extensions.add(new CaptorParameterResolver(captor, null, sampleNumber));
         extensions.add(new InputParameterResolver(inputValue, inputType));
+        if (batchDispatcher != null) {
+            extensions.add(new BatchOutcomeParameterResolver(batchDispatcher, sampleNumber));
+        }
         return extensions;
     }
 
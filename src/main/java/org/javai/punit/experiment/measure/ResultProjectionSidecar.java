@@ -0,0 +1,216 @@
+package org.javai.punit.experiment.measure;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.javai.punit.experiment.engine.output.OutputUtilities;
+import org.javai.punit.experiment.model.ResultProjection;
+import org.javai.punit.spec.registry.SpecificationIntegrityException;
+import org.javai.punit.spec.registry.SpecificationLoader;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+/**
+ * Stores the result projections of a MEASURE baseline in a file beside its spec.
+ *
+ * <p>Projections hold the full content of sampled results and can make up most of a
+ * baseline, but baseline selection and probabilistic tests only need the spec's
+ * header and statistics. {@link MeasureOutputWriter} therefore writes them to a
+ * gzip-compressed JSON Lines file, one projection per line, named after the spec
+ * ({@code ShoppingUseCase.yaml} → {@code ShoppingUseCase.projections.jsonl.gz}).
+ * The spec references the file:
+ * <pre>
+ * resultProjection:
+ *   sidecar: ShoppingUseCase.projections.jsonl.gz
+ *   sha256: 5f0c...
+ *   samples: 1000
+ * </pre>
+ * The reference lies within the spec's fingerprinted content, and the hash covers
+ * the uncompressed sidecar content, so the projections are as tamper-evident as the
+ * spec itself.
+ *
+ * <p>Projections are read only when a tool asks for them through {@link #load(Path)}.
+ */
+public final class ResultProjectionSidecar {
+
+    /** Suffix replacing the spec file's extension to name its sidecar. */
+    public static final String SUFFIX = ".projections.jsonl.gz";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ResultProjectionSidecar() {
+    }
+
+    /**
+     * The spec's reference to its sidecar.
+     *
+     * @param file the sidecar's file name, relative to the spec's directory
+     * @param sha256 the SHA-256 hash of the uncompressed sidecar content
+     * @param samples the number of projections in the sidecar
+     */
+    public record Reference(String file, String sha256, int samples) {
+    }
+
+    /**
+     * Returns the sidecar path for a spec file.
+     *
+     * @param specPath the spec file
+     * @return the sidecar path beside it
+     */
+    public static Path pathFor(Path specPath) {
+        String name = specPath.getFileName().toString();
+        int extension = name.lastIndexOf('.');
+        String base = extension > 0 ? name.substring(0, extension) : name;
+        return specPath.resolveSibling(base + SUFFIX);
+    }
+
+    /**
+     * Writes projections to a sidecar file.
+     *
+     * @param projections the projections to store
+     * @param sidecarPath the sidecar file
+     * @return the reference to record in the spec
+     * @throws IOException if writing fails
+     */
+    public static Reference write(List<ResultProjection> projections, Path sidecarPath) throws IOException {
+        Objects.requireNonNull(projections, "projections must not be null");
+        MessageDigest digest = sha256();
+        OutputUtilities.replaceAtomically(sidecarPath, file -> {
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new DigestOutputStream(new GZIPOutputStream(Files.newOutputStream(file)), digest),
+                    StandardCharsets.UTF_8))) {
+                for (ResultProjection projection : projections) {
+                    writer.write(MAPPER.writeValueAsString(projection));
+                    writer.write('\n');
+                }
+            }
+        });
+        return new Reference(sidecarPath.getFileName().toString(),
+                HexFormat.of().formatHex(digest.digest()), projections.size());
+    }
+
+    /**
+     * Loads the result projections of a MEASURE spec.
+     *
+     * <p>The spec's integrity is verified first, then the sidecar is read and checked
+     * against the hash the spec records. Specs written before projections moved to
+     * sidecars have them inline, and these are read from the spec.
+     *
+     * @param specPath the spec file
+     * @return the projections, in sample order; empty if the spec has none
+     * @throws IOException if the spec or sidecar cannot be read
+     * @throws SpecificationIntegrityException if the spec or sidecar fails verification
+     */
+    public static List<ResultProjection> load(Path specPath) throws IOException {
+        SpecificationLoader.load(specPath);
+        Map<String, Object> section = resultProjectionSection(Files.readString(specPath, StandardCharsets.UTF_8));
+        if (section.isEmpty()) {
+            return List.of();
+        }
+        if (!section.containsKey("sidecar")) {
+            return readInline(section);
+        }
+        Reference reference = new Reference(
+                String.valueOf(section.get("sidecar")),
+                String.valueOf(section.get("sha256")),
+                section.get("samples") instanceof Number samples ? samples.intValue() : 0);
+        return read(specPath.resolveSibling(reference.file()), reference);
+    }
+
+    /**
+     * Reads a sidecar file and verifies it against a reference.
+     */
+    static List<ResultProjection> read(Path sidecarPath, Reference reference) throws IOException {
+        if (!Files.isRegularFile(sidecarPath)) {
+            throw new SpecificationIntegrityException("Result projection sidecar not found: " + sidecarPath);
+        }
+        MessageDigest digest = sha256();
+        List<ResultProjection> projections = new ArrayList<>(reference.samples());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new DigestInputStream(new GZIPInputStream(Files.newInputStream(sidecarPath)), digest),
+                StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    projections.add(MAPPER.readValue(line, ResultProjection.class));
+                }
+            }
+        }
+        String hash = HexFormat.of().formatHex(digest.digest());
+        if (!hash.equals(reference.sha256())) {
+            throw new SpecificationIntegrityException(
+                    "Result projection sidecar " + sidecarPath.getFileName() + " does not match its spec. " +
+                            "Expected: " + reference.sha256() + ", Found: " + hash);
+        }
+        return projections;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> resultProjectionSection(String yaml) {
+        Object root = new Yaml(new SafeConstructor(new LoaderOptions())).load(yaml);
+        if (root instanceof Map<?, ?> map && map.get("resultProjection") instanceof Map<?, ?> section) {
+            return (Map<String, Object>) section;
+        }
+        return Map.of();
+    }
+
+    private static List<ResultProjection> readInline(Map<String, Object> section) {
+        List<ResultProjection> projections = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : section.entrySet()) {
+            if (!(entry.getValue() instanceof Map<?, ?> sample)) {
+                continue;
+            }
+            String key = entry.getKey();
+            int index = Integer.parseInt(key.substring(key.indexOf('[') + 1, key.indexOf(']')));
+            Map<String, String> postconditions = new LinkedHashMap<>();
+            if (sample.get("postconditions") instanceof Map<?, ?> outcomes) {
+                outcomes.forEach((description, status) ->
+                        postconditions.put(String.valueOf(description), String.valueOf(status)));
+            }
+            projections.add(new ResultProjection(
+                    index,
+                    string(sample.get("input")),
+                    postconditions,
+                    sample.get("executionTimeMs") instanceof Number time ? time.longValue() : 0L,
+                    blockScalar(sample.get("content")),
+                    string(sample.get("failureDetail"))));
+        }
+        return projections;
+    }
+
+    private static String blockScalar(Object value) {
+        String content = string(value);
+        return content != null && content.endsWith("\n") ? content.substring(0, content.length() - 1) : content;
+    }
+
+    private static String string(Object value) {
+        return value != null ? String.valueOf(value) : null;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
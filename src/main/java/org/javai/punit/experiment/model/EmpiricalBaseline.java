@@ -40,6 +40,8 @@ public final class EmpiricalBaseline {
     private final ExpirationPolicy expirationPolicy;
     private final String footprint;
     private final CovariateProfile covariateProfile;
+    private final Map<String, PostconditionCounts> postconditionCounts;
+    private final List<AccumulatedRun> accumulatedRuns;
     
     private EmpiricalBaseline(Builder builder) {
         this.useCaseId = Objects.requireNonNull(builder.useCaseId, "useCaseId must not be null");
@@ -56,6 +58,8 @@ public final class EmpiricalBaseline {
         this.expirationPolicy = builder.expirationPolicy;
         this.footprint = builder.footprint;
         this.covariateProfile = builder.covariateProfile;
+        this.postconditionCounts = Collections.unmodifiableMap(new LinkedHashMap<>(builder.postconditionCounts));
+        this.accumulatedRuns = List.copyOf(builder.accumulatedRuns);
     }
     
     public static Builder builder() {
@@ -181,6 +185,47 @@ public final class EmpiricalBaseline {
         return covariateProfile != null && !covariateProfile.isEmpty();
     }
 
+    /**
+     * Returns the outcome counts of each postcondition, keyed by description.
+     *
+     * <p>Counts (rather than rates) are kept so that baselines can be accumulated
+     * across MEASURE runs.
+     *
+     * @return unmodifiable map of postcondition counts (empty if none were recorded)
+     */
+    public Map<String, PostconditionCounts> getPostconditionCounts() {
+        return postconditionCounts;
+    }
+
+    /**
+     * Returns true if postcondition counts were recorded.
+     *
+     * @return true if postcondition counts are present
+     */
+    public boolean hasPostconditionCounts() {
+        return !postconditionCounts.isEmpty();
+    }
+
+    /**
+     * Returns the MEASURE runs this baseline accumulates, oldest first.
+     *
+     * <p>Empty for a baseline produced by a single run.
+     *
+     * @return unmodifiable list of accumulated runs
+     */
+    public List<AccumulatedRun> getAccumulatedRuns() {
+        return accumulatedRuns;
+    }
+
+    /**
+     * Returns true if this baseline merges more than one MEASURE run.
+     *
+     * @return true if accumulated runs are present
+     */
+    public boolean isAccumulated() {
+        return !accumulatedRuns.isEmpty();
+    }
+
 	/**
 	 * Summary of experiment execution.
 	 */
@@ -232,8 +277,55 @@ public final class EmpiricalBaseline {
 
 	/**
 	 * Cost metrics from experiment execution.
+	 *
+	 * <p>{@code useCaseTimeMs} and {@code pacingWaitMs} split the total time into the
+	 * time spent calling the use case and the time spent waiting for pacing; both are
+	 * 0 when the split was not measured.
+	 */
+	public record CostSummary(long totalTimeMs, long avgTimePerSampleMs, long totalTokens, long avgTokensPerSample,
+			long useCaseTimeMs, long pacingWaitMs) {
+
+		/**
+		 * Creates a cost summary without a use case and pacing split.
+		 */
+		public CostSummary(long totalTimeMs, long avgTimePerSampleMs, long totalTokens, long avgTokensPerSample) {
+			this(totalTimeMs, avgTimePerSampleMs, totalTokens, avgTokensPerSample, 0, 0);
+		}
+
+		/**
+		 * Returns true if the use case and pacing split was measured.
+		 */
+		public boolean hasPhaseTimes() {
+			return useCaseTimeMs > 0 || pacingWaitMs > 0;
+		}
+	}
+
+	/**
+	 * Outcome counts of a single postcondition.
+	 *
+	 * @param passed samples where the postcondition held
+	 * @param failed samples where it did not
+	 * @param skipped samples where it could not be evaluated
 	 */
-	public record CostSummary(long totalTimeMs, long avgTimePerSampleMs, long totalTokens, long avgTokensPerSample) {
+	public record PostconditionCounts(int passed, int failed, int skipped) {
+
+		/**
+		 * Returns the pass rate over all recorded samples, or 0 if none were recorded.
+		 */
+		public double passRate() {
+			int total = passed + failed + skipped;
+			return total == 0 ? 0.0 : (double) passed / total;
+		}
+	}
+
+	/**
+	 * Provenance of one MEASURE run merged into an accumulated baseline.
+	 *
+	 * @param generatedAt when the run's baseline was generated
+	 * @param samples the samples the run executed
+	 * @param successes the successes the run observed
+	 */
+	public record AccumulatedRun(Instant generatedAt, int samples, int successes) {
 	}
     
     public static final class Builder {
@@ -251,6 +343,8 @@ public final class EmpiricalBaseline {
         private ExpirationPolicy expirationPolicy;
         private String footprint;
         private CovariateProfile covariateProfile;
+        private final Map<String, PostconditionCounts> postconditionCounts = new LinkedHashMap<>();
+        private final List<AccumulatedRun> accumulatedRuns = new ArrayList<>();
         
         private Builder() {}
         
@@ -386,6 +480,32 @@ public final class EmpiricalBaseline {
             return this;
         }
         
+        /**
+         * Sets the outcome counts of each postcondition.
+         *
+         * @param counts postcondition counts keyed by description
+         * @return this builder
+         */
+        public Builder postconditionCounts(Map<String, PostconditionCounts> counts) {
+            if (counts != null) {
+                this.postconditionCounts.putAll(counts);
+            }
+            return this;
+        }
+
+        /**
+         * Sets the MEASURE runs an accumulated baseline merges, oldest first.
+         *
+         * @param runs the accumulated runs
+         * @return this builder
+         */
+        public Builder accumulatedRuns(List<AccumulatedRun> runs) {
+            if (runs != null) {
+                this.accumulatedRuns.addAll(runs);
+            }
+            return this;
+        }
+
         public EmpiricalBaseline build() {
             return new EmpiricalBaseline(this);
         }
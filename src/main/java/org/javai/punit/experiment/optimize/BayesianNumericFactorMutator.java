@@ -0,0 +1,200 @@
+package org.javai.punit.experiment.optimize;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleFunction;
+import org.javai.punit.statistics.GaussianProcessRegression;
+import org.javai.punit.statistics.GaussianProcessRegression.Prediction;
+
+/**
+ * Mutator for numeric control factors (temperature, top_p, max tokens, retrieval k)
+ * that proposes the next value by Bayesian optimisation.
+ *
+ * <p>Every iteration costs {@code samplesPerIteration} real calls, so blind perturbation
+ * wastes them. Instead, this mutator fits a {@link GaussianProcessRegression} to the
+ * scores of the successful iterations in the history, over the factor's range, and
+ * proposes the candidate value with the largest expected improvement over the best
+ * score so far. The model trades off values near the best found against values it
+ * knows little about, and typically finds a good value in a handful of iterations.
+ *
+ * <p>Until two distinct values have been scored, the mutator proposes the candidate
+ * farthest from the values tried. Candidates are spread evenly over
+ * {@code [lower, upper]}; for integer factors they are the distinct rounded values.
+ * Failed iterations are ignored. For {@link OptimizationObjective#MINIMIZE MINIMIZE},
+ * scores are negated.
+ *
+ * <p>Use it directly with {@link OptimizationConfig.Builder#mutator}, or subclass it
+ * with a no-arg constructor for {@code @OptimizeExperiment(mutator = ...)}:
+ * <pre>{@code
+ * public class TemperatureMutator extends BayesianNumericFactorMutator<Double> {
+ *     public TemperatureMutator() {
+ *         super(0.0, 1.5, Double::valueOf);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <F> the numeric type of the control factor
+ */
+public class BayesianNumericFactorMutator<F extends Number> implements FactorMutator<F> {
+
+    /** Number of evenly spaced candidate values considered by default. */
+    public static final int DEFAULT_CANDIDATES = 201;
+
+    /**
+     * Margin ξ, as a fraction of the score range observed, by which a candidate must be
+     * expected to beat the best score; a little exploration keeps the search from
+     * re-proposing the best value while the model is still uncertain.
+     */
+    static final double EXPLORATION = 0.01;
+
+    private final double lower;
+    private final double upper;
+    private final Map<F, Double> candidates;
+
+    /**
+     * Creates a mutator over a range.
+     *
+     * @param lower the smallest value to propose
+     * @param upper the largest value to propose
+     * @param toFactor converts a value in the range to the factor type, e.g. by rounding
+     */
+    public BayesianNumericFactorMutator(double lower, double upper, DoubleFunction<F> toFactor) {
+        this(lower, upper, toFactor, DEFAULT_CANDIDATES);
+    }
+
+    /**
+     * Creates a mutator over a range with a given number of candidate values.
+     *
+     * @param lower the smallest value to propose
+     * @param upper the largest value to propose
+     * @param toFactor converts a value in the range to the factor type, e.g. by rounding
+     * @param candidates the number of evenly spaced candidate values, at least 2
+     */
+    public BayesianNumericFactorMutator(double lower, double upper, DoubleFunction<F> toFactor, int candidates) {
+        if (!(lower < upper)) {
+            throw new IllegalArgumentException("lower must be less than upper, got [" + lower + ", " + upper + "]");
+        }
+        if (candidates < 2) {
+            throw new IllegalArgumentException("candidates must be at least 2, got: " + candidates);
+        }
+        if (toFactor == null) {
+            throw new IllegalArgumentException("toFactor must not be null");
+        }
+        this.lower = lower;
+        this.upper = upper;
+        this.candidates = new LinkedHashMap<>();
+        for (int i = 0; i < candidates; i++) {
+            F value = toFactor.apply(lower + (upper - lower) * i / (candidates - 1));
+            this.candidates.putIfAbsent(value, scale(value.doubleValue()));
+        }
+    }
+
+    /**
+     * Creates a mutator for a {@code double} factor.
+     *
+     * @param lower the smallest value to propose
+     * @param upper the largest value to propose
+     * @return the mutator
+     */
+    public static BayesianNumericFactorMutator<Double> forDouble(double lower, double upper) {
+        return new BayesianNumericFactorMutator<>(lower, upper, Double::valueOf);
+    }
+
+    /**
+     * Creates a mutator for an {@code int} factor.
+     *
+     * @param lower the smallest value to propose
+     * @param upper the largest value to propose
+     * @return the mutator
+     */
+    public static BayesianNumericFactorMutator<Integer> forInteger(int lower, int upper) {
+        return new BayesianNumericFactorMutator<>(lower, upper, value -> (int) Math.round(value));
+    }
+
+    @Override
+    public F mutate(F currentValue, OptimizeHistory history) throws MutationException {
+        List<Double> inputs = new ArrayList<>();
+        List<Double> scores = new ArrayList<>();
+        boolean minimize = history.objective() == OptimizationObjective.MINIMIZE;
+        for (OptimizationRecord record : history.successfulIterations()) {
+            Object value = record.aggregate().controlFactorValue();
+            if (!(value instanceof Number number)) {
+                throw new MutationException("Control factor '" + history.controlFactorName()
+                        + "' is not numeric: " + value);
+            }
+            inputs.add(scale(number.doubleValue()));
+            scores.add(minimize ? -record.score() : record.score());
+        }
+        if (inputs.stream().distinct().count() < 2) {
+            if (currentValue != null) {
+                inputs.add(scale(currentValue.doubleValue()));
+            }
+            return farthestFrom(inputs);
+        }
+        return maximiseExpectedImprovement(inputs, scores);
+    }
+
+    @Override
+    public void validate(F value) throws MutationException {
+        if (value == null || value.doubleValue() < lower || value.doubleValue() > upper) {
+            throw new MutationException("Value " + value + " is outside [" + lower + ", " + upper + "]");
+        }
+    }
+
+    @Override
+    public String description() {
+        return "Gaussian-process expected improvement over [" + lower + ", " + upper + "]";
+    }
+
+    private F maximiseExpectedImprovement(List<Double> inputs, List<Double> scores) {
+        double[] x = inputs.stream().mapToDouble(Double::doubleValue).toArray();
+        double[] y = scores.stream().mapToDouble(Double::doubleValue).toArray();
+        GaussianProcessRegression model = GaussianProcessRegression.fit(x, y);
+
+        double best = Double.NEGATIVE_INFINITY;
+        double worst = Double.POSITIVE_INFINITY;
+        for (double score : y) {
+            best = Math.max(best, score);
+            worst = Math.min(worst, score);
+        }
+        double exploration = EXPLORATION * Math.max(best - worst, 1e-9);
+
+        F proposal = null;
+        double bestImprovement = -1;
+        double bestMean = Double.NEGATIVE_INFINITY;
+        for (Map.Entry<F, Double> candidate : candidates.entrySet()) {
+            Prediction prediction = model.predict(candidate.getValue());
+            double improvement = GaussianProcessRegression.expectedImprovement(prediction, best, exploration);
+            // When no candidate is expected to improve, settle on the best predicted value
+            if (improvement > bestImprovement
+                    || (improvement == bestImprovement && prediction.mean() > bestMean)) {
+                proposal = candidate.getKey();
+                bestImprovement = improvement;
+                bestMean = prediction.mean();
+            }
+        }
+        return proposal;
+    }
+
+    private F farthestFrom(List<Double> tried) {
+        F proposal = null;
+        double farthest = -1;
+        for (Map.Entry<F, Double> candidate : candidates.entrySet()) {
+            double distance = tried.stream()
+                    .mapToDouble(x -> Math.abs(x - candidate.getValue()))
+                    .min()
+                    .orElse(Double.MAX_VALUE);
+            if (distance > farthest) {
+                proposal = candidate.getKey();
+                farthest = distance;
+            }
+        }
+        return proposal;
+    }
+
+    private double scale(double value) {
+        return (value - lower) / (upper - lower);
+    }
+}
@@ -27,6 +27,7 @@ import org.javai.punit.experiment.engine.ExperimentConfig;
  * @param noImprovementWindow iterations without improvement before termination
  * @param timeBudgetMs time budget in milliseconds (0 = unlimited)
  * @param tokenBudget token budget (0 = unlimited)
+ * @param sampleTimeoutMs per-sample deadline in milliseconds (0 = none)
  * @param experimentId experiment identifier for output naming
  */
 public record OptimizeConfig(
@@ -43,6 +44,7 @@ public record OptimizeConfig(
         int noImprovementWindow,
         long timeBudgetMs,
         long tokenBudget,
+        long sampleTimeoutMs,
         String experimentId
 ) implements ExperimentConfig {
 
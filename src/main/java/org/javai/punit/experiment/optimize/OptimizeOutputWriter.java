@@ -70,7 +70,7 @@ public class OptimizeOutputWriter {
         }
 
         String content = toYaml(history);
-        Files.writeString(path, content, StandardCharsets.UTF_8);
+        OutputUtilities.replaceAtomically(path, file -> Files.writeString(file, content, StandardCharsets.UTF_8));
     }
 
     /**
@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import org.javai.punit.experiment.engine.output.OutputPipeline;
 import org.javai.punit.reporting.PUnitReporter;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
@@ -35,7 +36,7 @@ public class OptimizeSpecGenerator {
     public void generateSpec(ExtensionContext context, OptimizeHistory history) {
         try {
             Path outputPath = resolveOutputPath(history);
-            writer.write(history, outputPath);
+            OutputPipeline.shared().submit(outputPath.getParent(), () -> writer.write(history, outputPath));
 
             context.publishReportEntry("punit.optimization.outputPath", outputPath.toString());
             publishFinalReport(context, history);
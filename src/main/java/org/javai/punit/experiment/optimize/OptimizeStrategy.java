@@ -93,6 +93,7 @@ public class OptimizeStrategy implements ExperimentModeStrategy {
                 annotation.noImprovementWindow(),
                 annotation.timeBudgetMs(),
                 annotation.tokenBudget(),
+                annotation.sampleTimeoutMs(),
                 annotation.experimentId()
         );
     }
@@ -44,6 +44,9 @@ import org.javai.punit.statistics.transparent.TransparentStatsConfig;
  * @param contractRef reference to external contract document
  * @param intent the declared test intent (VERIFICATION or SMOKE)
  * @param resolvedConfidence the confidence level for feasibility evaluation
+ * @param sampleTimeoutMs per-sample deadline in milliseconds (0 for no deadline)
+ * @param useCaseClass the use case class ({@code Void.class} if none)
+ * @param batchSize samples per batch call (0 for no batching)
  */
 public record BernoulliTrialsConfig(
         int samples,
@@ -65,7 +68,10 @@ public record BernoulliTrialsConfig(
         ThresholdOrigin thresholdOrigin,
         String contractRef,
         TestIntent intent,
-        double resolvedConfidence
+        double resolvedConfidence,
+        long sampleTimeoutMs,
+        Class<?> useCaseClass,
+        int batchSize
 ) implements ProbabilisticTestConfig {
 
     /**
@@ -117,6 +123,20 @@ public record BernoulliTrialsConfig(
         return tokenBudget > 0;
     }
 
+    /**
+     * Returns true if a per-sample timeout is configured.
+     */
+    public boolean hasSampleTimeout() {
+        return sampleTimeoutMs > 0;
+    }
+
+    /**
+     * Returns true if samples are sent to the use case's batch endpoint.
+     */
+    public boolean isBatched() {
+        return batchSize > 0;
+    }
+
     /**
      * Creates a copy of this configuration with an updated minPassRate.
      *
@@ -128,7 +148,25 @@ public record BernoulliTrialsConfig(
                 tokenMode, onBudgetExhausted, onException, maxExampleFailures,
                 confidence, baselineRate, baselineSamples, specId,
                 pacing, transparentStats, thresholdOrigin, contractRef,
-                intent, resolvedConfidence
+                intent, resolvedConfidence, sampleTimeoutMs,
+                useCaseClass, batchSize
+        );
+    }
+
+    /**
+     * Creates a copy of this configuration with an updated sample count.
+     *
+     * <p>Used when the sample count is sized from a baseline by power analysis.
+     */
+    public BernoulliTrialsConfig withSamples(int newSamples) {
+        return new BernoulliTrialsConfig(
+                newSamples, minPassRate, appliedMultiplier, timeBudgetMs, tokenCharge, tokenBudget,
+                tokenMode, onBudgetExhausted, onException, maxExampleFailures,
+                confidence, baselineRate, baselineSamples, specId,
+                pacing != null ? pacing.withSamples(newSamples) : null,
+                transparentStats, thresholdOrigin, contractRef,
+                intent, resolvedConfidence, sampleTimeoutMs,
+                useCaseClass, batchSize
         );
     }
 
@@ -5,15 +5,20 @@ import java.lang.reflect.Parameter;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.javai.punit.api.BudgetExhaustedBehavior;
 import org.javai.punit.api.FactorSource;
 import org.javai.punit.api.HashableFactorSource;
+import org.javai.punit.api.InputOrder;
 import org.javai.punit.api.InputSource;
 import org.javai.punit.api.ProbabilisticTest;
 import org.javai.punit.api.TokenChargeRecorder;
+import org.javai.punit.api.UseCaseProvider;
+import org.javai.punit.experiment.engine.input.InputOutcomeHistory;
+import org.javai.punit.experiment.engine.input.InputOutcomeTracker;
 import org.javai.punit.experiment.engine.input.InputParameterDetector;
 import org.javai.punit.experiment.engine.input.InputSourceResolver;
 import org.javai.punit.controls.budget.BudgetOrchestrator;
@@ -22,6 +27,7 @@ import org.javai.punit.controls.budget.DefaultTokenChargeRecorder;
 import org.javai.punit.controls.pacing.PacingConfiguration;
 import org.javai.punit.controls.pacing.PacingResolver;
 import org.javai.punit.experiment.engine.FactorSourceAdapter;
+import org.javai.punit.experiment.engine.batch.BatchDispatcher;
 import org.javai.punit.model.TerminationReason;
 import org.javai.punit.ptest.engine.ConfigurationResolver;
 import org.javai.punit.ptest.engine.FactorConsistencyValidator;
@@ -55,6 +61,13 @@ public class BernoulliTrialsStrategy implements ProbabilisticTestStrategy {
 
     private static final Logger logger = LogManager.getLogger(BernoulliTrialsStrategy.class);
 
+    /**
+     * Store key of the {@link AtomicInteger} the invocation stream is bounded by.
+     *
+     * <p>A power-sized test lowers it once its baseline has been selected.
+     */
+    public static final String PLANNED_SAMPLES_KEY = "plannedSamples";
+
     private final PacingResolver pacingResolver;
     private final SampleExecutor sampleExecutor;
     private final BudgetOrchestrator budgetOrchestrator;
@@ -101,6 +114,12 @@ public class BernoulliTrialsStrategy implements ProbabilisticTestStrategy {
             throw new org.junit.jupiter.api.extension.ExtensionConfigurationException(e.getMessage(), e);
         }
 
+        if (annotation.batchSize() < 0) {
+            throw new org.junit.jupiter.api.extension.ExtensionConfigurationException(
+                    "Invalid configuration for " + testMethod.getName() +
+                    ": batchSize must be >= 0, but was " + annotation.batchSize());
+        }
+
         // Detect token charging mode
         boolean hasTokenRecorderParam = hasTokenChargeRecorderParameter(testMethod);
         CostBudgetMonitor.TokenMode tokenMode = determineTokenMode(resolved, hasTokenRecorderParam);
@@ -132,7 +151,10 @@ public class BernoulliTrialsStrategy implements ProbabilisticTestStrategy {
                 resolved.thresholdOrigin(),
                 resolved.contractRef(),
                 resolved.intent(),
-                resolved.resolvedConfidence()
+                resolved.resolvedConfidence(),
+                resolved.sampleTimeoutMs(),
+                annotation.useCase(),
+                annotation.batchSize()
         );
     }
 
@@ -162,54 +184,161 @@ public class BernoulliTrialsStrategy implements ProbabilisticTestStrategy {
         if (inputSource != null) {
             return provideWithInputsInvocationContexts(
                     testMethod, inputSource, context.getRequiredTestClass(),
-                    samples, store, terminated, tokenRecorder);
+                    bernoulliConfig, store, terminated, tokenRecorder);
+        }
+
+        if (bernoulliConfig.isBatched()) {
+            throw new org.junit.jupiter.api.extension.ExtensionConfigurationException(
+                    "batchSize requires @InputSource so that the inputs of each batch are known in advance");
         }
 
         AtomicBoolean terminatedFinal = terminated;
+        AtomicInteger planned = plannedSamples(store, samples);
         return Stream.iterate(1, i -> i + 1)
                 .limit(samples)
-                .takeWhile(i -> !terminatedFinal.get())
+                .takeWhile(i -> i <= planned.get() && !terminatedFinal.get())
                 .map(sampleIndex -> new ProbabilisticTestInvocationContext(
-                        sampleIndex, samples, tokenRecorder));
+                        sampleIndex, planned.get(), tokenRecorder));
     }
 
     private Stream<TestTemplateInvocationContext> provideWithInputsInvocationContexts(
             Method testMethod,
             InputSource inputSource,
             Class<?> testClass,
-            int samples,
+            BernoulliTrialsConfig config,
             ExtensionContext.Store store,
             AtomicBoolean terminated,
             DefaultTokenChargeRecorder tokenRecorder) {
 
+        int samples = config.samples();
+
         // Determine input type from method parameters
         Class<?> inputType = findInputParameterType(testMethod);
 
         // Resolve inputs
         InputSourceResolver resolver = new InputSourceResolver();
-        List<Object> inputs = resolver.resolve(inputSource, testClass, inputType);
+        List<Object> declaredInputs = resolver.resolve(inputSource, testClass, inputType);
 
-        if (inputs.isEmpty()) {
+        if (declaredInputs.isEmpty()) {
             throw new org.junit.jupiter.api.extension.ExtensionConfigurationException(
                     "@InputSource resolved to empty list");
         }
 
+        // Failure-first ordering: run historically failure-prone inputs first
+        boolean failuresFirst = inputSource.order() == InputOrder.FAILURES_FIRST;
+        if (failuresFirst && (inputSource.stratified() || !inputSource.stratumKey().isEmpty())) {
+            throw new org.junit.jupiter.api.extension.ExtensionConfigurationException(
+                    "@InputSource order = FAILURES_FIRST cannot be combined with stratified sampling, " +
+                    "which chooses the input of each sample itself");
+        }
+        InputOutcomeHistory history = failuresFirst
+                ? InputOutcomeHistory.load(historyId(config, testClass, testMethod))
+                : null;
+        List<Object> inputs = failuresFirst
+                ? InputOutcomeTracker.failuresFirst(history, declaredInputs)
+                : declaredInputs;
+        InputOutcomeTracker outcomeTracker = failuresFirst
+                ? InputOutcomeTracker.create(history, inputs)
+                : null;
+        if (outcomeTracker != null) {
+            store.put("inputOutcomeTracker", outcomeTracker);
+            SampleResultAggregator aggregator = store.get("aggregator", SampleResultAggregator.class);
+            if (aggregator != null) {
+                aggregator.setInputOutcomeTracker(outcomeTracker);
+            }
+        }
+
         store.put("inputs", inputs);
         store.put("inputType", inputType);
 
-        // Generate sample stream with cycling inputs
+        // Group samples into batch calls if requested
+        BatchDispatcher batchDispatcher = config.isBatched()
+                ? BatchDispatcher.create(config.useCaseClass(), config.batchSize(), inputs, samples)
+                : null;
+
         int totalInputs = inputs.size();
+        AtomicInteger planned = plannedSamples(store, samples);
+
+        // Stratified sampling: inputs are chosen adaptively as samples complete
+        StratifiedSampler stratifiedSampler = createStratifiedSampler(inputSource, inputs);
+        if (stratifiedSampler != null) {
+            if (batchDispatcher != null) {
+                throw new org.junit.jupiter.api.extension.ExtensionConfigurationException(
+                        "Stratified @InputSource sampling cannot be combined with batchSize, " +
+                        "because the inputs of a batch must be known before its samples run");
+            }
+            if (samples < stratifiedSampler.getMinimumSamples()) {
+                throw new org.junit.jupiter.api.extension.ExtensionConfigurationException(
+                        "Stratified @InputSource sampling needs at least " + StratifiedSampler.PILOT_SAMPLES +
+                        " samples per stratum: " + stratifiedSampler.getStrataCount() + " strata require " +
+                        "samples >= " + stratifiedSampler.getMinimumSamples() + ", but the test runs " + samples);
+            }
+            SampleResultAggregator aggregator = store.get("aggregator", SampleResultAggregator.class);
+            if (aggregator != null) {
+                aggregator.setStratifiedSampler(stratifiedSampler);
+            }
+            return Stream.iterate(1, i -> i + 1)
+                    .limit(samples)
+                    .takeWhile(i -> i <= planned.get() && !terminated.get())
+                    .map(i -> {
+                        int inputIndex = stratifiedSampler.nextInputIndex();
+                        return new ProbabilisticTestWithInputsInvocationContext(
+                                i, planned.get(), tokenRecorder, inputs.get(inputIndex), inputType,
+                                inputIndex, totalInputs, null);
+                    });
+        }
+
+        // Generate sample stream with cycling inputs
         return Stream.iterate(1, i -> i + 1)
                 .limit(samples)
-                .takeWhile(i -> !terminated.get())
+                .takeWhile(i -> i <= planned.get() && !terminated.get())
                 .map(i -> {
                     int inputIndex = (i - 1) % totalInputs;
                     Object inputValue = inputs.get(inputIndex);
+                    if (outcomeTracker != null) {
+                        outcomeTracker.beginSample(inputIndex);
+                    }
                     return new ProbabilisticTestWithInputsInvocationContext(
-                            i, samples, tokenRecorder, inputValue, inputType, inputIndex, totalInputs);
+                            i, planned.get(), tokenRecorder, inputValue, inputType, inputIndex, totalInputs,
+                            batchDispatcher);
                 });
     }
 
+    /**
+     * Returns the number of samples the stream may still run up to.
+     *
+     * <p>It starts at the configured count. A power-sized test lowers it once its
+     * baseline has been selected, which happens while the first sample runs.
+     */
+    private AtomicInteger plannedSamples(ExtensionContext.Store store, int samples) {
+        return store.getOrComputeIfAbsent(PLANNED_SAMPLES_KEY, k -> new AtomicInteger(samples), AtomicInteger.class);
+    }
+
+    /**
+     * Identifies the input history of a test: its use case if it has one, so that
+     * MEASURE runs of the use case contribute, otherwise the test method itself.
+     */
+    private String historyId(BernoulliTrialsConfig config, Class<?> testClass, Method testMethod) {
+        Class<?> useCaseClass = config.useCaseClass();
+        if (useCaseClass != null && useCaseClass != Void.class) {
+            return UseCaseProvider.resolveId(useCaseClass);
+        }
+        return testClass.getName() + "." + testMethod.getName();
+    }
+
+    /**
+     * Creates the stratified sampler requested by the input source, if any.
+     */
+    private StratifiedSampler createStratifiedSampler(InputSource inputSource, List<Object> inputs) {
+        if (!inputSource.stratumKey().isEmpty()) {
+            return StratifiedSampler.byKey(inputs, inputSource.stratumKey());
+        }
+        if (inputSource.stratified()) {
+            return StratifiedSampler.perInput(inputs);
+        }
+        return null;
+    }
+
     /**
      * Finds the input parameter type from method parameters.
      */
@@ -246,8 +375,10 @@ public class BernoulliTrialsStrategy implements ProbabilisticTestStrategy {
         }
 
         // Execute the sample
+        long sampleStartNanos = System.nanoTime();
         SampleExecutor.SampleResult sampleResult = sampleExecutor.execute(
-                invocation, aggregator, config.onException());
+                invocation, aggregator, config.onException(), config.sampleTimeoutMs());
+        long sampleTimeMs = (System.nanoTime() - sampleStartNanos) / 1_000_000;
 
         // Handle abort
         if (sampleResult.shouldAbort()) {
@@ -257,7 +388,7 @@ public class BernoulliTrialsStrategy implements ProbabilisticTestStrategy {
         }
 
         // Post-sample token recording
-        budgetOrchestrator.recordAndPropagateTokens(
+        long sampleTokens = budgetOrchestrator.recordAndPropagateTokens(
                 executionContext.tokenRecorder(),
                 executionContext.methodBudget(),
                 config.tokenMode(),
@@ -265,6 +396,14 @@ public class BernoulliTrialsStrategy implements ProbabilisticTestStrategy {
                 executionContext.classBudget(),
                 executionContext.suiteBudget());
 
+        // Feed the per-sample cost distribution used for budget forecasting
+        budgetOrchestrator.recordSampleCost(
+                sampleTokens,
+                sampleTimeMs,
+                executionContext.methodBudget(),
+                executionContext.classBudget(),
+                executionContext.suiteBudget());
+
         // Post-sample budget check
         BudgetOrchestrator.BudgetCheckResult postSampleCheck = budgetOrchestrator.checkAfterSample(
                 executionContext.suiteBudget(),
@@ -277,9 +416,11 @@ public class BernoulliTrialsStrategy implements ProbabilisticTestStrategy {
             return postSampleResult.get();
         }
 
-        // Check for early termination (impossibility or success guaranteed)
-        Optional<TerminationReason> earlyTermination = evaluator.shouldTerminate(
-                aggregator.getSuccesses(), aggregator.getSamplesExecuted());
+        // Check for early termination (impossibility or success guaranteed).
+        // These bounds count raw successes, which do not determine a stratified estimate.
+        Optional<TerminationReason> earlyTermination = aggregator.isStratified()
+                ? Optional.empty()
+                : evaluator.shouldTerminate(aggregator.getSuccesses(), aggregator.getSamplesExecuted());
 
         if (earlyTermination.isPresent()) {
             TerminationReason reason = earlyTermination.get();
@@ -344,7 +485,7 @@ public class BernoulliTrialsStrategy implements ProbabilisticTestStrategy {
         }
 
         BernoulliFailureMessages.StatisticalContext statisticalContext = bernoulliConfig.buildStatisticalContext(
-                aggregator.getObservedPassRate(),
+                aggregator.getEstimatedPassRate(),
                 aggregator.getSuccesses(),
                 aggregator.getSamplesExecuted()
         );
@@ -15,14 +15,17 @@ public class FinalVerdictDecider {
 	 * Determines whether the test passes based on aggregated results.
 	 *
 	 * <p>The test passes if and only if:
-	 * {@code observedPassRate >= minPassRate}
+	 * {@code estimatedPassRate >= minPassRate}
+	 *
+	 * <p>The estimated pass rate is the observed pass rate, or the stratified
+	 * estimate when inputs are sampled by stratum.
 	 *
 	 * @param aggregator the aggregated sample results
 	 * @param minPassRate the minimum required pass rate (0.0 to 1.0)
 	 * @return true if the test passes, false otherwise
 	 */
 	public boolean isPassing(SampleResultAggregator aggregator, double minPassRate) {
-		return aggregator.getObservedPassRate() >= minPassRate;
+		return aggregator.getEstimatedPassRate() >= minPassRate;
 	}
 
 	/**
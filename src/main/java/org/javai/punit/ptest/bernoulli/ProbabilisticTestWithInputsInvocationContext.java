@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.List;
 import org.javai.punit.api.TokenChargeRecorder;
 import org.javai.punit.controls.budget.DefaultTokenChargeRecorder;
+import org.javai.punit.experiment.engine.batch.BatchDispatcher;
+import org.javai.punit.experiment.engine.batch.BatchOutcomeParameterResolver;
 import org.javai.punit.experiment.engine.input.InputParameterResolver;
 import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -16,6 +18,9 @@ import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
  *
  * <p>Provides input values that cycle through the input source entries.
  * With samples=100 and 10 inputs, each input is used 10 times.
+ *
+ * <p>When a batch dispatcher is present, the sample's outcome from its batch call
+ * is also injected.
  */
 public record ProbabilisticTestWithInputsInvocationContext(
         int sampleNumber,
@@ -24,7 +29,8 @@ public record ProbabilisticTestWithInputsInvocationContext(
         Object inputValue,
         Class<?> inputType,
         int inputIndex,
-        int totalInputs
+        int totalInputs,
+        BatchDispatcher batchDispatcher
 ) implements TestTemplateInvocationContext {
 
     @Override
@@ -38,6 +44,9 @@ public record ProbabilisticTestWithInputsInvocationContext(
     public List<Extension> getAdditionalExtensions() {
         List<Extension> extensions = new ArrayList<>();
         extensions.add(new InputParameterResolver(inputValue, inputType));
+        if (batchDispatcher != null) {
+            extensions.add(new BatchOutcomeParameterResolver(batchDispatcher, sampleNumber));
+        }
         if (tokenRecorder != null) {
             extensions.add(new TokenRecorderResolver(tokenRecorder));
         }
@@ -4,7 +4,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import org.javai.punit.experiment.engine.input.InputOutcomeTracker;
 import org.javai.punit.model.TerminationReason;
+import org.javai.punit.statistics.StatisticalDefaults;
+import org.javai.punit.statistics.StratifiedProportionEstimator;
 
 /**
  * Accumulates results from individual sample executions of a probabilistic test.
@@ -14,6 +17,7 @@ import org.javai.punit.model.TerminationReason;
  *   <li>Total number of samples executed</li>
  *   <li>Number of successful samples</li>
  *   <li>Number of failed samples</li>
+ *   <li>Number of failed samples that exceeded the per-sample timeout</li>
  *   <li>Example failure causes (up to a configurable maximum)</li>
  *   <li>Elapsed time</li>
  *   <li>Termination reason (if terminated early)</li>
@@ -23,16 +27,19 @@ import org.javai.punit.model.TerminationReason;
  */
 public class SampleResultAggregator {
 
-    private final int totalSamples;
+    private int totalSamples;
     private final int maxExampleFailures;
     private final long startTimeMs;
 
     private int successes = 0;
     private int failures = 0;
+    private int timeouts = 0;
     private final List<Throwable> exampleFailures = new ArrayList<>();
     private TerminationReason terminationReason = null;
     private String terminationDetails = null;
     private boolean forcedFailure = false;
+    private StratifiedSampler stratifiedSampler = null;
+    private InputOutcomeTracker inputOutcomeTracker = null;
 
     /**
      * Creates a new aggregator for the specified number of samples.
@@ -55,11 +62,33 @@ public class SampleResultAggregator {
         this(totalSamples, 5);
     }
 
+    /**
+     * Changes the number of planned samples.
+     *
+     * <p>Used when the sample count is sized from a baseline, which is selected
+     * just before the first sample runs.
+     *
+     * @param totalSamples the new number of planned samples
+     * @throws IllegalStateException if samples have already been recorded
+     */
+    public void resize(int totalSamples) {
+        if (getSamplesExecuted() > 0) {
+            throw new IllegalStateException("Cannot resize after samples have been recorded");
+        }
+        this.totalSamples = totalSamples;
+    }
+
     /**
      * Records a successful sample execution.
      */
     public void recordSuccess() {
         successes++;
+        if (stratifiedSampler != null) {
+            stratifiedSampler.recordOutcome(true);
+        }
+        if (inputOutcomeTracker != null) {
+            inputOutcomeTracker.recordOutcome(true);
+        }
     }
 
     /**
@@ -69,11 +98,30 @@ public class SampleResultAggregator {
      */
     public void recordFailure(Throwable cause) {
         failures++;
+        if (stratifiedSampler != null) {
+            stratifiedSampler.recordOutcome(false);
+        }
+        if (inputOutcomeTracker != null) {
+            inputOutcomeTracker.recordOutcome(false);
+        }
         if (cause != null && exampleFailures.size() < maxExampleFailures) {
             exampleFailures.add(cause);
         }
     }
 
+    /**
+     * Records a sample that exceeded the per-sample timeout.
+     *
+     * <p>A timeout counts as a failed sample and is additionally tracked
+     * under the timeout failure category.
+     *
+     * @param cause the timeout exception (may be null)
+     */
+    public void recordTimeout(Throwable cause) {
+        timeouts++;
+        recordFailure(cause);
+    }
+
     /**
      * Returns the number of successful samples.
      *
@@ -92,6 +140,15 @@ public class SampleResultAggregator {
         return failures;
     }
 
+    /**
+     * Returns the number of failed samples that exceeded the per-sample timeout.
+     *
+     * @return timeout count (included in {@link #getFailures()})
+     */
+    public int getTimeouts() {
+        return timeouts;
+    }
+
     /**
      * Returns the total number of samples executed so far.
      *
@@ -123,6 +180,62 @@ public class SampleResultAggregator {
         return (double) successes / executed;
     }
 
+    /**
+     * Returns the pass rate used for the verdict.
+     *
+     * <p>For stratified sampling this is the stratified estimate, which weights each
+     * stratum by its share of the inputs rather than by how many samples it received.
+     * Otherwise it is the {@linkplain #getObservedPassRate() observed pass rate}.
+     *
+     * @return the estimated pass rate, or 0.0 if no samples executed
+     */
+    public double getEstimatedPassRate() {
+        if (stratifiedSampler != null) {
+            StratifiedProportionEstimator.StratifiedEstimate estimate =
+                    stratifiedSampler.estimate(StatisticalDefaults.DEFAULT_CONFIDENCE);
+            if (estimate != null) {
+                return estimate.pointEstimate();
+            }
+        }
+        return getObservedPassRate();
+    }
+
+    /**
+     * Attaches a stratified sampler, which then receives the outcome of every sample.
+     *
+     * @param stratifiedSampler the sampler choosing this test's inputs
+     */
+    public void setStratifiedSampler(StratifiedSampler stratifiedSampler) {
+        this.stratifiedSampler = stratifiedSampler;
+    }
+
+    /**
+     * Returns the stratified sampler, if the test samples inputs by stratum.
+     *
+     * @return the sampler, or empty for ordinary sampling
+     */
+    public Optional<StratifiedSampler> getStratifiedSampler() {
+        return Optional.ofNullable(stratifiedSampler);
+    }
+
+    /**
+     * Returns true if the test samples inputs by stratum.
+     *
+     * @return true if a stratified sampler is attached
+     */
+    public boolean isStratified() {
+        return stratifiedSampler != null;
+    }
+
+    /**
+     * Attaches an input outcome tracker, which then receives the outcome of every sample.
+     *
+     * @param inputOutcomeTracker the tracker recording per-input history
+     */
+    public void setInputOutcomeTracker(InputOutcomeTracker inputOutcomeTracker) {
+        this.inputOutcomeTracker = inputOutcomeTracker;
+    }
+
     /**
      * Returns the elapsed time since this aggregator was created.
      *
@@ -0,0 +1,247 @@
+package org.javai.punit.ptest.bernoulli;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.javai.punit.statistics.StratifiedProportionEstimator;
+import org.javai.punit.statistics.StratifiedProportionEstimator.StratifiedEstimate;
+import org.javai.punit.statistics.StratifiedProportionEstimator.StratumCounts;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+
+/**
+ * Chooses the input for each sample of a stratified {@code @InputSource} test and
+ * tracks per-stratum outcomes.
+ *
+ * <h2>Allocation</h2>
+ * <ol>
+ *   <li><b>Pilot</b> - every stratum first receives {@value #PILOT_SAMPLES} samples,
+ *       so each has an initial rate estimate.</li>
+ *   <li><b>Neyman</b> - each further sample goes to the stratum furthest below its
+ *       Neyman share (see {@link StratifiedProportionEstimator#neymanShares}).</li>
+ * </ol>
+ * <p>Within a stratum, inputs are used in turn.
+ *
+ * <p>Samples run sequentially: {@link #nextInputIndex()} is called when a sample is
+ * created and {@link #recordOutcome(boolean)} when it completes, before the next one
+ * is created.
+ */
+public class StratifiedSampler {
+
+    /**
+     * Samples given to each stratum before Neyman allocation starts.
+     */
+    public static final int PILOT_SAMPLES = 2;
+
+    private final StratifiedProportionEstimator estimator = new StratifiedProportionEstimator();
+    private final List<Stratum> strata;
+    private Stratum pending;
+
+    private StratifiedSampler(List<Stratum> strata) {
+        this.strata = strata;
+    }
+
+    /**
+     * Creates a sampler with one stratum per input.
+     *
+     * @param inputs the resolved inputs
+     * @return the sampler
+     */
+    public static StratifiedSampler perInput(List<Object> inputs) {
+        List<Stratum> strata = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            Stratum stratum = new Stratum("input " + (i + 1), 1.0 / inputs.size());
+            stratum.inputIndices.add(i);
+            strata.add(stratum);
+        }
+        return new StratifiedSampler(strata);
+    }
+
+    /**
+     * Creates a sampler grouping inputs by the value of a named property.
+     *
+     * @param inputs the resolved inputs
+     * @param stratumKey the property identifying each input's stratum
+     * @return the sampler
+     * @throws ExtensionConfigurationException if the property cannot be read from an input
+     */
+    public static StratifiedSampler byKey(List<Object> inputs, String stratumKey) {
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            String key = String.valueOf(readProperty(inputs.get(i), stratumKey));
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+        }
+        List<Stratum> strata = new ArrayList<>();
+        groups.forEach((key, indices) -> {
+            Stratum stratum = new Stratum(key, (double) indices.size() / inputs.size());
+            stratum.inputIndices.addAll(indices);
+            strata.add(stratum);
+        });
+        return new StratifiedSampler(strata);
+    }
+
+    /**
+     * Chooses the stratum for the next sample and returns the input to use.
+     *
+     * @return the index of the input in the input source
+     */
+    public synchronized int nextInputIndex() {
+        Stratum chosen = null;
+        for (Stratum stratum : strata) {
+            if (stratum.assigned < PILOT_SAMPLES) {
+                chosen = stratum;
+                break;
+            }
+        }
+        if (chosen == null) {
+            chosen = mostUnderAllocated();
+        }
+        pending = chosen;
+        return chosen.nextInput();
+    }
+
+    /**
+     * Records the outcome of the sample most recently handed out.
+     *
+     * @param success whether the sample passed
+     */
+    public synchronized void recordOutcome(boolean success) {
+        if (pending == null) {
+            return;
+        }
+        pending.trials++;
+        if (success) {
+            pending.successes++;
+        }
+        pending = null;
+    }
+
+    /**
+     * Computes the stratified pass-rate estimate from the outcomes recorded so far.
+     *
+     * @param confidenceLevel the confidence level for the interval
+     * @return the estimate, or null if no outcome has been recorded
+     */
+    public synchronized StratifiedEstimate estimate(double confidenceLevel) {
+        if (strata.stream().allMatch(s -> s.trials == 0)) {
+            return null;
+        }
+        return estimator.estimate(counts(), confidenceLevel);
+    }
+
+    /**
+     * @return the number of strata
+     */
+    public int getStrataCount() {
+        return strata.size();
+    }
+
+    /**
+     * Returns the fewest samples that give every stratum its pilot samples.
+     *
+     * <p>With fewer, some strata would never be sampled and the estimate would
+     * silently describe only part of the population.
+     *
+     * @return {@value #PILOT_SAMPLES} samples per stratum
+     */
+    public int getMinimumSamples() {
+        return PILOT_SAMPLES * strata.size();
+    }
+
+    private Stratum mostUnderAllocated() {
+        double[] shares = estimator.neymanShares(counts());
+        int totalAssigned = strata.stream().mapToInt(s -> s.assigned).sum() + 1;
+        Stratum best = strata.get(0);
+        double bestDeficit = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < strata.size(); i++) {
+            double deficit = shares[i] * totalAssigned - strata.get(i).assigned;
+            if (deficit > bestDeficit) {
+                bestDeficit = deficit;
+                best = strata.get(i);
+            }
+        }
+        return best;
+    }
+
+    private List<StratumCounts> counts() {
+        return strata.stream()
+                .map(s -> new StratumCounts(s.key, s.weight, s.successes, s.trials))
+                .toList();
+    }
+
+    private static Object readProperty(Object input, String name) {
+        if (input instanceof Map<?, ?> map) {
+            if (!map.containsKey(name)) {
+                throw missingProperty(input, name);
+            }
+            return map.get(name);
+        }
+        Class<?> type = input.getClass();
+        try {
+            if (type.isRecord()) {
+                for (RecordComponent component : type.getRecordComponents()) {
+                    if (component.getName().equals(name)) {
+                        Method accessor = component.getAccessor();
+                        accessor.setAccessible(true);
+                        return accessor.invoke(input);
+                    }
+                }
+            }
+            for (String methodName : List.of(name, "get" + Character.toUpperCase(name.charAt(0)) + name.substring(1))) {
+                try {
+                    Method method = type.getMethod(methodName);
+                    return method.invoke(input);
+                } catch (NoSuchMethodException e) {
+                    // Try the next form
+                }
+            }
+            for (Class<?> t = type; t != null && t != Object.class; t = t.getSuperclass()) {
+                try {
+                    Field field = t.getDeclaredField(name);
+                    field.setAccessible(true);
+                    return field.get(input);
+                } catch (NoSuchFieldException e) {
+                    // Try the superclass
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new ExtensionConfigurationException(
+                    "Cannot read stratum key '" + name + "' from input " + input + ": " + e.getMessage(), e);
+        }
+        throw missingProperty(input, name);
+    }
+
+    private static ExtensionConfigurationException missingProperty(Object input, String name) {
+        return new ExtensionConfigurationException(
+                "@InputSource stratumKey '" + name + "' not found on input of type " +
+                input.getClass().getSimpleName());
+    }
+
+    /**
+     * Mutable per-stratum allocation and outcome state.
+     */
+    private static final class Stratum {
+        private final String key;
+        private final double weight;
+        private final List<Integer> inputIndices = new ArrayList<>();
+        private int cursor;
+        private int assigned;
+        private int successes;
+        private int trials;
+
+        Stratum(String key, double weight) {
+            this.key = key;
+            this.weight = weight;
+        }
+
+        int nextInput() {
+            assigned++;
+            int index = inputIndices.get(cursor);
+            cursor = (cursor + 1) % inputIndices.size();
+            return index;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import org.javai.punit.api.ProbabilisticTest;
 import org.javai.punit.api.TestIntent;
 import org.javai.punit.api.ThresholdOrigin;
 import org.javai.punit.api.UseCaseProvider;
+import org.javai.punit.controls.timeout.SampleTimeoutResolver;
 import org.javai.punit.spec.model.ExecutionSpecification;
 import org.javai.punit.spec.registry.SpecificationIntegrityException;
 import org.javai.punit.spec.registry.SpecificationNotFoundException;
@@ -42,6 +43,7 @@ public class ConfigurationResolver {
     public static final String PROP_TIME_BUDGET_MS = "punit.timeBudgetMs";
     public static final String PROP_TOKEN_CHARGE = "punit.tokenCharge";
     public static final String PROP_TOKEN_BUDGET = "punit.tokenBudget";
+    public static final String PROP_SAMPLE_TIMEOUT_MS = SampleTimeoutResolver.PROP_SAMPLE_TIMEOUT_MS;
 
     // Environment variable names
     public static final String ENV_SAMPLES = "PUNIT_SAMPLES";
@@ -50,6 +52,7 @@ public class ConfigurationResolver {
     public static final String ENV_TIME_BUDGET_MS = "PUNIT_TIME_BUDGET_MS";
     public static final String ENV_TOKEN_CHARGE = "PUNIT_TOKEN_CHARGE";
     public static final String ENV_TOKEN_BUDGET = "PUNIT_TOKEN_BUDGET";
+    public static final String ENV_SAMPLE_TIMEOUT_MS = SampleTimeoutResolver.ENV_SAMPLE_TIMEOUT_MS;
 
     // Framework defaults
     public static final int DEFAULT_SAMPLES = 100;
@@ -57,6 +60,7 @@ public class ConfigurationResolver {
     public static final long DEFAULT_TIME_BUDGET_MS = 0;
     public static final int DEFAULT_TOKEN_CHARGE = 0;
     public static final long DEFAULT_TOKEN_BUDGET = 0;
+    public static final long DEFAULT_SAMPLE_TIMEOUT_MS = SampleTimeoutResolver.DEFAULT_SAMPLE_TIMEOUT_MS;
     public static final double DEFAULT_THRESHOLD_CONFIDENCE = StatisticalDefaults.DEFAULT_CONFIDENCE;
 
     /**
@@ -174,6 +178,9 @@ public class ConfigurationResolver {
         // Validate budget parameters
         validateBudgets(timeBudgetMs, tokenCharge, tokenBudget, contextName);
 
+        // Resolve per-sample timeout
+        long sampleTimeoutMs = sampleTimeoutResolver().resolve(annotation.sampleTimeoutMs(), contextName);
+
         // Get other annotation values (no overrides for these)
         BudgetExhaustedBehavior onBudgetExhausted = annotation.onBudgetExhausted();
         ExceptionHandling onException = annotation.onException();
@@ -212,7 +219,8 @@ public class ConfigurationResolver {
                 thresholdOrigin,
                 contractRef,
                 intent,
-                resolvedConfidence
+                resolvedConfidence,
+                sampleTimeoutMs
         );
     }
 
@@ -370,6 +378,19 @@ public class ConfigurationResolver {
         }
     }
 
+    /**
+     * Returns the shared per-sample timeout resolver, reading environment variables
+     * through this resolver so that tests can substitute them.
+     */
+    private SampleTimeoutResolver sampleTimeoutResolver() {
+        return new SampleTimeoutResolver() {
+            @Override
+            protected String getEnvironmentVariable(String name) {
+                return ConfigurationResolver.this.getEnvironmentVariable(name);
+            }
+        };
+    }
+
     /**
      * Holds the resolved configuration values.
      */
@@ -393,8 +414,38 @@ public class ConfigurationResolver {
             String contractRef,
             // Intent declaration
             TestIntent intent,
-            double resolvedConfidence
+            double resolvedConfidence,
+            // Per-sample deadline (0 = none)
+            long sampleTimeoutMs
     ) {
+        /**
+         * Constructor for backward compatibility - creates configuration without a per-sample timeout.
+         */
+        public ResolvedConfiguration(
+                int samples,
+                double minPassRate,
+                double appliedMultiplier,
+                long timeBudgetMs,
+                int tokenCharge,
+                long tokenBudget,
+                BudgetExhaustedBehavior onBudgetExhausted,
+                ExceptionHandling onException,
+                int maxExampleFailures,
+                Double confidence,
+                Double baselineRate,
+                Integer baselineSamples,
+                String specId,
+                ThresholdOrigin thresholdOrigin,
+                String contractRef,
+                TestIntent intent,
+                double resolvedConfidence) {
+            this(samples, minPassRate, appliedMultiplier, timeBudgetMs, tokenCharge, tokenBudget,
+                    onBudgetExhausted, onException, maxExampleFailures,
+                    confidence, baselineRate, baselineSamples, specId,
+                    thresholdOrigin, contractRef, intent, resolvedConfidence,
+                    DEFAULT_SAMPLE_TIMEOUT_MS);
+        }
+
         /**
          * Constructor for backward compatibility - creates configuration without statistical context or provenance.
          */
@@ -450,6 +501,13 @@ public class ConfigurationResolver {
             return tokenBudget > 0;
         }
 
+        /**
+         * Returns true if a per-sample timeout is configured.
+         */
+        public boolean hasSampleTimeout() {
+            return sampleTimeoutMs > 0;
+        }
+
         /**
          * Returns true if static token charging is configured.
          */
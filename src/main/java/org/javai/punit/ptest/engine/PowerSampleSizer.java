@@ -0,0 +1,121 @@
+package org.javai.punit.ptest.engine;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.javai.punit.api.ProbabilisticTest;
+import org.javai.punit.spec.model.ExecutionSpecification;
+import org.javai.punit.statistics.SampleSizeCalculator;
+import org.javai.punit.statistics.SampleSizeRequirement;
+
+/**
+ * Sizes a Confidence-First test from its baseline by power analysis.
+ *
+ * <p>A test that declares {@code confidence}, {@code minDetectableEffect} and
+ * {@code power} (instead of a sample count) runs the smallest number of samples
+ * that detects a drop of {@code minDetectableEffect} below the baseline's observed
+ * rate with the declared power. See {@link SampleSizeCalculator#calculateForPower}.
+ *
+ * <p>Requirements are cached per baseline and target for the lifetime of the JVM,
+ * so the tests of a use case that share a spec are sized once. The key includes
+ * the baseline's counts, so a re-measured baseline is sized afresh.
+ *
+ * <p>Package-private: internal implementation detail of the test extension.
+ */
+class PowerSampleSizer {
+
+    private static final Map<Key, SampleSizeRequirement> CACHE = new ConcurrentHashMap<>();
+
+    private final SampleSizeCalculator calculator;
+
+    PowerSampleSizer() {
+        this(new SampleSizeCalculator());
+    }
+
+    PowerSampleSizer(SampleSizeCalculator calculator) {
+        this.calculator = calculator;
+    }
+
+    private record Key(
+            String useCaseId,
+            int baselineSamples,
+            int baselineSuccesses,
+            double minDetectableEffect,
+            double confidence,
+            double power
+    ) {
+    }
+
+    /**
+     * Returns true if the test declares power targets instead of a sample count.
+     */
+    static boolean isPowerSized(ProbabilisticTest annotation) {
+        return !Double.isNaN(annotation.confidence())
+                && !Double.isNaN(annotation.minDetectableEffect())
+                && !Double.isNaN(annotation.power());
+    }
+
+    /**
+     * Computes (or recalls) the sample size the test needs against a baseline.
+     *
+     * @param annotation the Confidence-First test annotation
+     * @param baseline the baseline to size against
+     * @return the requirement, or null if the baseline has no empirical data
+     * @throws IllegalArgumentException if the targets are invalid for the baseline
+     *         (e.g. the effect exceeds the baseline rate)
+     */
+    SampleSizeRequirement size(ProbabilisticTest annotation, ExecutionSpecification baseline) {
+        if (baseline == null || baseline.getBaselineSamples() <= 0) {
+            return null;
+        }
+        Key key = new Key(
+                baseline.getUseCaseId(),
+                baseline.getBaselineSamples(),
+                baseline.getBaselineSuccesses(),
+                annotation.minDetectableEffect(),
+                annotation.confidence(),
+                annotation.power());
+        return CACHE.computeIfAbsent(key, k -> calculator.calculateForPower(
+                (double) k.baselineSuccesses() / k.baselineSamples(),
+                k.minDetectableEffect(),
+                k.confidence(),
+                k.power()));
+    }
+
+    /**
+     * Returns the largest sample size any of the candidate baselines would require.
+     *
+     * <p>Used to bound the sample stream before covariate-aware selection has chosen
+     * the baseline; the stream is trimmed to the exact size once it has.
+     *
+     * @return the largest requirement, or 0 if no candidate has empirical data
+     */
+    int upperBound(ProbabilisticTest annotation, Collection<ExecutionSpecification> candidates) {
+        int bound = 0;
+        for (ExecutionSpecification candidate : candidates) {
+            try {
+                SampleSizeRequirement requirement = size(annotation, candidate);
+                if (requirement != null) {
+                    bound = Math.max(bound, requirement.requiredSamples());
+                }
+            } catch (IllegalArgumentException e) {
+                // This candidate cannot be sized; it is reported if it is selected
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * Applies the samples multiplier to a power-derived sample count.
+     */
+    static int applyMultiplier(int requiredSamples, double multiplier) {
+        return Math.max(1, (int) Math.round(requiredSamples * multiplier));
+    }
+
+    /**
+     * Clears the cache. Intended for tests.
+     */
+    static void clearCache() {
+        CACHE.clear();
+    }
+}
@@ -5,6 +5,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
@@ -19,23 +20,39 @@ import org.javai.punit.controls.budget.ProbabilisticTestBudgetExtension;
 import org.javai.punit.controls.budget.SharedBudgetMonitor;
 import org.javai.punit.controls.budget.SuiteBudgetManager;
 import org.javai.punit.controls.pacing.PacingConfiguration;
+import org.javai.punit.controls.pacing.PacingPool;
+import org.javai.punit.controls.pacing.PacingPoolRegistry;
 import org.javai.punit.controls.pacing.PacingReporter;
 import org.javai.punit.controls.pacing.PacingResolver;
+import org.javai.punit.experiment.engine.batch.BatchOutcomeParameterResolver;
 import org.javai.punit.ptest.bernoulli.BernoulliTrialsConfig;
 import org.javai.punit.ptest.bernoulli.BernoulliTrialsStrategy;
 import org.javai.punit.ptest.bernoulli.EarlyTerminationEvaluator;
 import org.javai.punit.ptest.bernoulli.SampleResultAggregator;
+import org.javai.punit.ptest.bernoulli.StratifiedSampler;
 import org.javai.punit.ptest.strategy.InterceptResult;
 import org.javai.punit.ptest.strategy.ProbabilisticTestStrategy;
 import org.javai.punit.ptest.strategy.SampleExecutionContext;
 import org.javai.punit.reporting.PUnitReporter;
+import org.javai.punit.reporting.PhaseTimings;
+import org.javai.punit.reporting.PhaseTimings.Phase;
+import org.javai.punit.reporting.SampleTimer;
+import org.javai.punit.reporting.jfr.BaselineSelectionEvent;
+import org.javai.punit.reporting.jfr.PacingWaitEvent;
+import org.javai.punit.reporting.jfr.SampleEvent;
+import org.javai.punit.reporting.metrics.MetricsRegistry;
+import org.javai.punit.reporting.stream.RunEvent;
+import org.javai.punit.reporting.stream.RunStream;
 import org.javai.punit.spec.baseline.BaselineRepository;
+import org.javai.punit.spec.baseline.BaselineSelectionTypes.BaselineCandidate;
 import org.javai.punit.spec.baseline.BaselineSelectionTypes.SelectionResult;
 import org.javai.punit.spec.baseline.BaselineSelector;
 import org.javai.punit.spec.baseline.FootprintComputer;
 import org.javai.punit.spec.baseline.covariate.CovariateProfileResolver;
+import org.javai.punit.spec.baseline.covariate.CovariateResolutionCache;
 import org.javai.punit.spec.baseline.covariate.UseCaseCovariateExtractor;
 import org.javai.punit.spec.model.ExecutionSpecification;
+import org.javai.punit.statistics.SampleSizeRequirement;
 import org.javai.punit.statistics.VerificationFeasibilityEvaluator;
 import org.javai.punit.statistics.transparent.BaselineData;
 import org.javai.punit.statistics.transparent.StatisticalExplanationBuilder;
@@ -87,6 +104,7 @@ public class ProbabilisticTestExtension implements
 	private static final String TOKEN_RECORDER_KEY = "tokenRecorder";
 	private static final String TERMINATED_KEY = "terminated";
 	private static final String PACING_KEY = "pacing";
+	private static final String PACING_POOL_REPORT_KEY = "pacingPoolReport";
 	private static final String SAMPLE_COUNTER_KEY = "sampleCounter";
 	private static final String LAST_SAMPLE_TIME_KEY = "lastSampleTime";
 	private static final String SPEC_KEY = "spec";
@@ -94,6 +112,8 @@ public class ProbabilisticTestExtension implements
 	private static final String PENDING_SELECTION_KEY = "pendingSelection";
 	private static final String STRATEGY_CONFIG_KEY = "strategyConfig";
 	private static final String THRESHOLD_DERIVED_KEY = "thresholdDerived";
+	private static final String SAMPLE_SIZING_KEY = "sampleSizing";
+	private static final String PHASE_TIMINGS_KEY = "phaseTimings";
 
 	// Strategy for test execution (currently only Bernoulli trials supported)
 	private final ProbabilisticTestStrategy strategy;
@@ -107,13 +127,15 @@ public class ProbabilisticTestExtension implements
 	private final PacingResolver pacingResolver;
 	private final PacingReporter pacingReporter;
 	private final BaselineSelectionOrchestrator baselineOrchestrator;
+	private final PowerSampleSizer sampleSizer = new PowerSampleSizer();
 
 	/**
 	 * Default constructor using standard configuration resolver.
 	 */
 	public ProbabilisticTestExtension() {
 		this(new ConfigurationResolver(), new PacingResolver(), new PacingReporter(),
-			 new BaselineRepository(), new BaselineSelector(), new CovariateProfileResolver(),
+			 new BaselineRepository(), new BaselineSelector(),
+			 new CovariateProfileResolver(CovariateResolutionCache.shared()),
 			 new FootprintComputer(), new UseCaseCovariateExtractor(),
 			 new BernoulliTrialsStrategy());
 	}
@@ -179,6 +201,7 @@ public class ProbabilisticTestExtension implements
 	public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(
 			ExtensionContext context) {
 
+		long setupStart = System.nanoTime();
 		Method testMethod = context.getRequiredTestMethod();
 		ProbabilisticTest annotation = testMethod.getAnnotation(ProbabilisticTest.class);
 
@@ -186,6 +209,15 @@ public class ProbabilisticTestExtension implements
 		BernoulliTrialsConfig strategyConfig = (BernoulliTrialsConfig) strategy.parseConfig(
 				annotation, testMethod, configResolver);
 
+		// Prepare baseline selection data (selection is resolved lazily during first sample)
+		ExtensionContext.Store store = context.getStore(NAMESPACE);
+		PhaseTimings phaseTimings = new PhaseTimings();
+		store.put(PHASE_TIMINGS_KEY, phaseTimings);
+		prepareBaselineSelection(annotation, strategyConfig.specId(), store, context);
+
+		// Power-sized tests provisionally plan for the largest candidate baseline
+		strategyConfig = planPowerSizedSamples(annotation, strategyConfig, store);
+
 		// Create method-level budget monitor
 		CostBudgetMonitor budgetMonitor = new CostBudgetMonitor(
 				strategyConfig.timeBudgetMs(),
@@ -201,7 +233,6 @@ public class ProbabilisticTestExtension implements
 				: null;
 
 		// Store configuration and create components
-		ExtensionContext.Store store = context.getStore(NAMESPACE);
 		SampleResultAggregator aggregator = new SampleResultAggregator(
 				strategyConfig.samples(), strategyConfig.maxExampleFailures());
 		EarlyTerminationEvaluator evaluator = new EarlyTerminationEvaluator(
@@ -223,17 +254,25 @@ public class ProbabilisticTestExtension implements
 			store.put(TOKEN_RECORDER_KEY, tokenRecorder);
 		}
 
-		// Prepare baseline selection data (selection is resolved lazily during first sample)
-		prepareBaselineSelection(annotation, strategyConfig.specId(), store, context);
+		RunStream runStream = RunStream.shared();
+		if (runStream.isEnabled()) {
+			runStream.emit(new RunEvent.Started(Instant.now(), "TEST",
+					context.getRequiredTestClass().getName(), testMethod.getName(),
+					strategyConfig.samples(), strategyConfig.minPassRate()));
+		}
 
-		// Print pre-flight report if pacing is configured
+		// Join the shared pacing pool, if any, before reporting so the plan shows its members
+		if (strategyConfig.pacing().hasPool()) {
+			joinPacingPool(testMethod, strategyConfig.pacing(), store);
+		}
+
+		Instant startTime = Instant.now();
 		if (strategyConfig.hasPacing()) {
-			Instant startTime = Instant.now();
 			store.put(LAST_SAMPLE_TIME_KEY, startTime);
-			pacingReporter.printPreFlightReport(testMethod.getName(), strategyConfig.samples(),
-					strategyConfig.pacing(), startTime);
-			pacingReporter.printFeasibilityWarning(strategyConfig.pacing(),
-					strategyConfig.timeBudgetMs(), strategyConfig.samples());
+		}
+		// A power-sized test reports its plan once its baseline has fixed the sample count
+		if (!PowerSampleSizer.isPowerSized(annotation)) {
+			printExecutionPlan(testMethod, strategyConfig, startTime);
 		}
 
 		// Validate factor source consistency if applicable
@@ -247,7 +286,10 @@ public class ProbabilisticTestExtension implements
 		}
 
 		// Delegate sample stream generation to strategy
-		return strategy.provideInvocationContexts(strategyConfig, context, store);
+		Stream<TestTemplateInvocationContext> invocations =
+				strategy.provideInvocationContexts(strategyConfig, context, store);
+		phaseTimings.addSince(Phase.SETUP, setupStart);
+		return invocations;
 	}
 
 	/**
@@ -285,9 +327,11 @@ public class ProbabilisticTestExtension implements
 											ReflectiveInvocationContext<Method> invocationContext,
 											ExtensionContext extensionContext) throws Throwable {
 
+		SampleTimer timer = SampleTimer.start(getPhaseTimings(extensionContext));
+
 		// Ensure baseline selection is resolved lazily before first sample.
 		// This must happen BEFORE getting config, as it may derive minPassRate from baseline.
-		ensureBaselineSelected(extensionContext);
+		ensureBaselineSelected(extensionContext, timer);
 
 		// Get components from store
 		BernoulliTrialsConfig strategyConfig = getStrategyConfig(extensionContext);
@@ -310,7 +354,17 @@ public class ProbabilisticTestExtension implements
 		}
 
 		// Apply pacing delay if configured (skip for first sample)
-		applyPacingDelay(extensionContext, config);
+		long pacingStart = System.nanoTime();
+		PacingPool pacingPool = applyPacingDelay(extensionContext, config);
+		long pacingNanos = System.nanoTime() - pacingStart;
+		timer.add(Phase.PACING, pacingNanos);
+		MetricsRegistry metrics = MetricsRegistry.shared();
+		if (metrics.isEnabled()) {
+			if (config.hasPacing()) {
+				metrics.recordPacingWait("TEST", metricsUseCase(extensionContext, strategyConfig), pacingNanos);
+			}
+			trackBudgets(metrics, extensionContext, classBudgetMonitor, suiteBudgetMonitor);
+		}
 
 		// Build execution context and delegate to strategy
 		SampleExecutionContext executionContext = new SampleExecutionContext(
@@ -318,7 +372,25 @@ public class ProbabilisticTestExtension implements
 				classBudgetMonitor, suiteBudgetMonitor, tokenRecorder,
 				terminated, extensionContext);
 
-		InterceptResult result = strategy.intercept(invocation, executionContext);
+		// A failed batch call surfaces as a failure of the sample body
+		Invocation<Void> sample = timer.timeUseCase(
+				BatchOutcomeParameterResolver.guard(invocation, extensionContext));
+		SampleEvent sampleEvent = SampleEvent.start();
+		int successesBefore = aggregator.getSuccesses();
+		int failuresBefore = aggregator.getFailures();
+		long tokensBefore = budgetMonitor.getTokensConsumed();
+		InterceptResult result;
+		try {
+			result = strategy.intercept(sample, executionContext);
+		} finally {
+			if (pacingPool != null) {
+				pacingPool.release();
+			}
+			reportSample(sampleEvent, extensionContext, strategyConfig, aggregator, budgetMonitor,
+					successesBefore, failuresBefore, tokensBefore, timer.nanos(Phase.USE_CASE));
+			// Whatever this sample's time was not spent on is PUnit's own work
+			timer.finish();
+		}
 
 		// Handle the result
 		if (result.shouldAbort()) {
@@ -342,6 +414,66 @@ public class ProbabilisticTestExtension implements
 		}
 	}
 
+	/**
+	 * Reports a finished sample to the flight recorder, the run stream and the metrics
+	 * registry, where each is enabled.
+	 */
+	private void reportSample(SampleEvent sampleEvent, ExtensionContext context,
+							  BernoulliTrialsConfig strategyConfig, SampleResultAggregator aggregator,
+							  CostBudgetMonitor budgetMonitor, int successesBefore, int failuresBefore,
+							  long tokensBefore, long useCaseNanos) {
+		RunStream runStream = RunStream.shared();
+		MetricsRegistry metrics = MetricsRegistry.shared();
+		if (!sampleEvent.isEnabled() && !runStream.isEnabled() && !metrics.isEnabled()) {
+			return;
+		}
+		int successesAdded = aggregator.getSuccesses() - successesBefore;
+		int failuresAdded = aggregator.getFailures() - failuresBefore;
+		String outcome = SampleEvent.outcome(successesAdded, failuresAdded);
+		long tokens = budgetMonitor.getTokensConsumed() - tokensBefore;
+		int sampleNumber = successesBefore + failuresBefore + 1;
+		String method = context.getRequiredTestMethod().getName();
+
+		if (sampleEvent.isEnabled()) {
+			sampleEvent.complete("TEST", context.getRequiredTestClass(), method, sampleNumber, outcome, tokens);
+		}
+		if (runStream.isEnabled()) {
+			runStream.emit(new RunEvent.Sample(Instant.now(), "TEST",
+					context.getRequiredTestClass().getName(), method, sampleNumber, outcome,
+					aggregator.getSuccesses(), aggregator.getFailures(), aggregator.getTotalSamples(),
+					TimeUnit.NANOSECONDS.toMillis(useCaseNanos), tokens, budgetMonitor.getTokensConsumed(),
+					aggregator.getElapsedMs()));
+		}
+		if (metrics.isEnabled()) {
+			Boolean succeeded = successesAdded > 0 ? Boolean.TRUE : failuresAdded > 0 ? Boolean.FALSE : null;
+			metrics.recordSample("TEST", metricsUseCase(context, strategyConfig), succeeded, useCaseNanos, tokens);
+		}
+	}
+
+	/**
+	 * Returns the use case label of a test's metrics: its use case id, or the test
+	 * class name if it has none.
+	 */
+	private static String metricsUseCase(ExtensionContext context, BernoulliTrialsConfig strategyConfig) {
+		String specId = strategyConfig.specId();
+		return specId != null && !specId.isEmpty() ? specId : context.getRequiredTestClass().getSimpleName();
+	}
+
+	/**
+	 * Registers the class and suite budgets of a test with the metrics registry.
+	 */
+	private static void trackBudgets(MetricsRegistry metrics, ExtensionContext context,
+									 SharedBudgetMonitor classBudget, SharedBudgetMonitor suiteBudget) {
+		if (classBudget != null && classBudget.hasBudget()) {
+			metrics.trackBudget("class", context.getRequiredTestClass().getName(),
+					classBudget::getRemainingTokenBudget, classBudget::getRemainingTimeMs);
+		}
+		if (suiteBudget != null && suiteBudget.hasBudget()) {
+			metrics.trackBudget("suite", "",
+					suiteBudget::getRemainingTokenBudget, suiteBudget::getRemainingTimeMs);
+		}
+	}
+
 	/**
 	 * Re-throws sample failures so they appear as ❌ in the IDE.
 	 */
@@ -367,6 +499,15 @@ public class ProbabilisticTestExtension implements
 		BernoulliTrialsConfig strategyConfig = getStrategyConfig(context);
 		boolean passed = strategy.computeVerdict(aggregator, strategyConfig);
 
+		RunStream runStream = RunStream.shared();
+		if (runStream.isEnabled()) {
+			runStream.emit(new RunEvent.Finished(Instant.now(), "TEST",
+					context.getRequiredTestClass().getName(), context.getRequiredTestMethod().getName(),
+					passed ? "PASS" : "FAIL", aggregator.getSuccesses(), aggregator.getFailures(),
+					aggregator.getTotalSamples(), aggregator.getElapsedMs(), methodBudget.getTokensConsumed(),
+					aggregator.getTerminationReason().map(Enum::name).orElse(null)));
+		}
+
 		// Publish structured results via TestReporter
 		publishResults(context, aggregator, config, methodBudget, classBudget, suiteBudget, passed);
 
@@ -434,7 +575,13 @@ public class ProbabilisticTestExtension implements
 				misalignments,
 				baselineFilename,
 				config.intent(),
-				config.resolvedConfidence()
+				config.resolvedConfidence(),
+				aggregator.getTimeouts(),
+				aggregator.getStratifiedSampler()
+						.map(sampler -> sampler.estimate(config.resolvedConfidence()))
+						.orElse(null),
+				getMethodStore(context).get(SAMPLE_SIZING_KEY, SampleSizeRequirement.class),
+				getPhaseTimings(context)
 		);
 
 		// Print console summary
@@ -554,6 +701,11 @@ public class ProbabilisticTestExtension implements
 				.orElse(null);
 	}
 
+	private PhaseTimings getPhaseTimings(ExtensionContext context) {
+		PhaseTimings phaseTimings = getMethodStore(context).get(PHASE_TIMINGS_KEY, PhaseTimings.class);
+		return phaseTimings != null ? phaseTimings : new PhaseTimings();
+	}
+
 	private ExtensionContext.Store getMethodStore(ExtensionContext context) {
 		return context.getParent()
 				.map(parent -> parent.getStore(NAMESPACE))
@@ -609,7 +761,7 @@ public class ProbabilisticTestExtension implements
 	 * To avoid repeating the same failure N times, we mark resolution complete and
 	 * signal termination so remaining invocations are skipped.
 	 */
-	private void ensureBaselineSelected(ExtensionContext context) {
+	private void ensureBaselineSelected(ExtensionContext context, SampleTimer timer) {
 		ExtensionContext.Store store = getMethodStore(context);
 
 		// Check if we've already processed baseline selection (with or without a baseline)
@@ -618,6 +770,7 @@ public class ProbabilisticTestExtension implements
 			return;
 		}
 
+		long setupStart = System.nanoTime();
 		try {
 			resolveBaseline(context, store);
 		} catch (RuntimeException ex) {
@@ -630,6 +783,8 @@ public class ProbabilisticTestExtension implements
 				terminated.set(true);
 			}
 			throw ex;
+		} finally {
+			timer.addSince(Phase.SETUP, setupStart);
 		}
 	}
 
@@ -637,8 +792,14 @@ public class ProbabilisticTestExtension implements
 		BaselineSelectionOrchestrator.PendingSelection pending =
 				store.get(PENDING_SELECTION_KEY, BaselineSelectionOrchestrator.PendingSelection.class);
 		if (pending == null) {
-			// No pending selection - validate without baseline
-			validateTestConfiguration(context, null);
+			// No pending selection - validate without baseline, unless a power-sized
+			// test has a spec to size against (its targets require one)
+			ExecutionSpecification spec = isPowerSized(context) ? getSpec(context) : null;
+			validateTestConfiguration(context, spec);
+			if (spec != null) {
+				sizeSamplesFromBaseline(context, store, spec);
+				deriveMinPassRateFromBaseline(store, spec);
+			}
 			// Log configuration for explicit threshold mode
 			logFinalConfiguration(context);
 			// Enforce verification feasibility gate (Req 5)
@@ -658,7 +819,16 @@ public class ProbabilisticTestExtension implements
 					.orElse(null);
 
 			// Perform baseline selection
-			SelectionResult result = baselineOrchestrator.performSelection(pending, useCaseInstance);
+			BaselineSelectionEvent selectionEvent = BaselineSelectionEvent.start();
+			SelectionResult result;
+			try {
+				result = baselineOrchestrator.performSelection(pending, useCaseInstance);
+			} catch (RuntimeException e) {
+				selectionEvent.complete(pending.specId(), null, pending.candidates().size(), false);
+				throw e;
+			}
+			selectionEvent.complete(pending.specId(), result.selected().filename(),
+					result.candidateCount(), result.ambiguous());
 			ExecutionSpecification baseline = result.selected().spec();
 
 			// Store the selected spec and selection result
@@ -667,6 +837,10 @@ public class ProbabilisticTestExtension implements
 			// Validate test configuration now that we have the selected baseline
 			validateTestConfiguration(context, baseline);
 
+			// Size power-sized tests from the selected baseline (before deriving the threshold,
+			// so the early termination evaluator is rebuilt for the final sample count)
+			sizeSamplesFromBaseline(context, store, baseline);
+
 			// Derive minPassRate from baseline if not explicitly specified
 			deriveMinPassRateFromBaseline(store, baseline);
 
@@ -717,6 +891,118 @@ public class ProbabilisticTestExtension implements
 		configurationLogger.log(testName, configData);
 	}
 
+	private boolean isPowerSized(ExtensionContext context) {
+		ProbabilisticTest annotation = context.getRequiredTestMethod().getAnnotation(ProbabilisticTest.class);
+		return annotation != null && PowerSampleSizer.isPowerSized(annotation);
+	}
+
+	/**
+	 * Plans the sample stream of a power-sized test before its baseline is selected.
+	 *
+	 * <p>The exact count depends on which baseline covariate-aware selection picks,
+	 * and that happens during the first sample. Until then the stream is bounded by
+	 * the largest count any candidate baseline requires, and it is trimmed to the
+	 * exact count by {@link #sizeSamplesFromBaseline}.
+	 */
+	private BernoulliTrialsConfig planPowerSizedSamples(
+			ProbabilisticTest annotation,
+			BernoulliTrialsConfig strategyConfig,
+			ExtensionContext.Store store) {
+
+		if (!PowerSampleSizer.isPowerSized(annotation)) {
+			return strategyConfig;
+		}
+		if (strategyConfig.isBatched()) {
+			throw new ExtensionConfigurationException(
+					"batchSize cannot be combined with power-sized samples (confidence, minDetectableEffect " +
+					"and power), because batches are formed before the baseline that sizes the run is selected");
+		}
+
+		List<ExecutionSpecification> candidates;
+		BaselineSelectionOrchestrator.PendingSelection pending =
+				store.get(PENDING_SELECTION_KEY, BaselineSelectionOrchestrator.PendingSelection.class);
+		ExecutionSpecification spec = store.get(SPEC_KEY, ExecutionSpecification.class);
+		if (pending != null) {
+			candidates = pending.candidates().stream().map(BaselineCandidate::spec).toList();
+		} else if (spec != null) {
+			candidates = List.of(spec);
+		} else {
+			// No baseline: validation reports the missing baseline on the first sample
+			return strategyConfig;
+		}
+
+		int bound = sampleSizer.upperBound(annotation, candidates);
+		if (bound == 0) {
+			return strategyConfig;
+		}
+		return strategyConfig.withSamples(
+				PowerSampleSizer.applyMultiplier(bound, strategyConfig.appliedMultiplier()));
+	}
+
+	/**
+	 * Sizes a power-sized test from its selected baseline.
+	 *
+	 * <p>Updates the stored configurations, the aggregator, the early termination
+	 * evaluator and the planned sample count the invocation stream is bounded by,
+	 * then prints the execution plan for the sized count.
+	 */
+	private void sizeSamplesFromBaseline(ExtensionContext context, ExtensionContext.Store store,
+										 ExecutionSpecification baseline) {
+		ProbabilisticTest annotation = context.getRequiredTestMethod().getAnnotation(ProbabilisticTest.class);
+		if (annotation == null || !PowerSampleSizer.isPowerSized(annotation)) {
+			return;
+		}
+
+		SampleSizeRequirement requirement;
+		try {
+			requirement = sampleSizer.size(annotation, baseline);
+		} catch (IllegalArgumentException e) {
+			throw new ExtensionConfigurationException(
+					"Cannot size samples from the baseline for use case '" + baseline.getUseCaseId() +
+					"': " + e.getMessage());
+		}
+		if (requirement == null) {
+			throw new ExtensionConfigurationException(
+					"Baseline for use case '" + baseline.getUseCaseId() + "' has no baseline samples to size " +
+					"the test from. Run a MEASURE experiment to establish baseline data.");
+		}
+
+		BernoulliTrialsConfig strategyConfig = store.get(STRATEGY_CONFIG_KEY, BernoulliTrialsConfig.class);
+		TestConfiguration config = store.get(CONFIG_KEY, TestConfiguration.class);
+		// The stream was bounded by the largest candidate, so the selected baseline fits within it
+		int samples = Math.min(strategyConfig.samples(),
+				PowerSampleSizer.applyMultiplier(requirement.requiredSamples(), strategyConfig.appliedMultiplier()));
+		// Stratified sampling needs its pilot samples in every stratum
+		SampleResultAggregator aggregator = store.get(AGGREGATOR_KEY, SampleResultAggregator.class);
+		int stratifiedMinimum = aggregator.getStratifiedSampler()
+				.map(StratifiedSampler::getMinimumSamples)
+				.orElse(0);
+		samples = Math.max(samples, Math.min(strategyConfig.samples(), stratifiedMinimum));
+
+		store.put(STRATEGY_CONFIG_KEY, strategyConfig.withSamples(samples));
+		store.put(CONFIG_KEY, config.withSamples(samples));
+		aggregator.resize(samples);
+		store.put(EVALUATOR_KEY, new EarlyTerminationEvaluator(samples, config.minPassRate()));
+		AtomicInteger planned = store.get(BernoulliTrialsStrategy.PLANNED_SAMPLES_KEY, AtomicInteger.class);
+		if (planned != null) {
+			planned.set(samples);
+		}
+		store.put(SAMPLE_SIZING_KEY, requirement);
+		printExecutionPlan(context.getRequiredTestMethod(), strategyConfig.withSamples(samples), Instant.now());
+	}
+
+	/**
+	 * Prints the pre-flight report (the pacing plan, if any, and the projected token
+	 * cost) and warns if the plan cannot finish within the time budget.
+	 */
+	private void printExecutionPlan(Method testMethod, BernoulliTrialsConfig strategyConfig, Instant startTime) {
+		pacingReporter.printPreFlightReport(testMethod.getName(), strategyConfig.samples(),
+				strategyConfig.pacing(), startTime,
+				projectedTokens(strategyConfig), strategyConfig.tokenBudget());
+		pacingReporter.printFeasibilityWarning(strategyConfig.pacing(),
+				strategyConfig.timeBudgetMs(), strategyConfig.samples());
+	}
+
 	/**
 	 * Derives minPassRate from baseline and updates stored configuration if needed.
 	 *
@@ -744,6 +1030,12 @@ public class ProbabilisticTestExtension implements
 		store.put(CONFIG_KEY, updatedConfig);
 		store.put(THRESHOLD_DERIVED_KEY, Boolean.TRUE);
 
+		// The verdict is computed from the strategy configuration
+		BernoulliTrialsConfig strategyConfig = store.get(STRATEGY_CONFIG_KEY, BernoulliTrialsConfig.class);
+		if (strategyConfig != null) {
+			store.put(STRATEGY_CONFIG_KEY, strategyConfig.withMinPassRate(derivedMinPassRate));
+		}
+
 		// Update EarlyTerminationEvaluator with derived minPassRate
 		EarlyTerminationEvaluator oldEvaluator = store.get(EVALUATOR_KEY, EarlyTerminationEvaluator.class);
 		if (oldEvaluator != null) {
@@ -818,24 +1110,70 @@ public class ProbabilisticTestExtension implements
 		}
 	}
 
+	/**
+	 * Projects the run's total token cost for the pre-flight report.
+	 *
+	 * <p>Only static charging can be projected before any sample has run; in dynamic
+	 * mode the cost is forecast from observed samples as the run proceeds.
+	 */
+	private long projectedTokens(BernoulliTrialsConfig strategyConfig) {
+		if (strategyConfig.tokenMode() != CostBudgetMonitor.TokenMode.STATIC) {
+			return 0;
+		}
+		return (long) strategyConfig.tokenCharge() * strategyConfig.samples();
+	}
+
+	/**
+	 * Registers the test with its shared pacing pool.
+	 *
+	 * <p>The pool's utilisation is reported when the test's context closes.
+	 */
+	private void joinPacingPool(Method testMethod, PacingConfiguration pacing, ExtensionContext.Store store) {
+		PacingPool pool = PacingPoolRegistry.pool(pacing.pool());
+		pool.register(testMethod.getDeclaringClass().getSimpleName() + "." + testMethod.getName(),
+				pacing.effectiveMinDelayMs(), pacing.maxConcurrentRequests());
+		store.put(PACING_POOL_REPORT_KEY,
+				(AutoCloseable) () -> pacingReporter.printPoolUtilisation(pool.snapshot()));
+	}
+
 	/**
 	 * Applies pacing delay before sample execution if pacing is configured.
 	 *
 	 * <p>The delay is applied between samples (not before the first sample) to
-	 * maintain the configured rate limit.
+	 * maintain the configured rate limit. When the test belongs to a shared pool,
+	 * the pool decides the delay, since other members draw from the same slots.
 	 *
 	 * @param context the extension context
 	 * @param config the test configuration
+	 * @return the pool whose concurrency permit the sample holds, to be released when
+	 *         the sample finishes; null if the test is not in a pool or its wait
+	 *         was interrupted
 	 */
-	private void applyPacingDelay(ExtensionContext context, TestConfiguration config) {
+	private PacingPool applyPacingDelay(ExtensionContext context, TestConfiguration config) {
 		if (!config.hasPacing()) {
-			return;
+			return null;
 		}
 
 		PacingConfiguration pacing = config.pacing();
+		if (pacing.hasPool()) {
+			PacingPool pool = PacingPoolRegistry.pool(pacing.pool());
+			PacingWaitEvent event = PacingWaitEvent.start();
+			try {
+				pool.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				logger.warn("Pacing pool wait interrupted");
+				// The interrupted wait took no permit, so there is nothing to release
+				return null;
+			} finally {
+				event.complete(pacing.pool(), pacing.effectiveMinDelayMs());
+			}
+			return pool;
+		}
+
 		long delayMs = pacing.effectiveMinDelayMs();
 		if (delayMs <= 0) {
-			return;
+			return null;
 		}
 
 		AtomicInteger sampleCounter = getSampleCounter(context);
@@ -843,9 +1181,10 @@ public class ProbabilisticTestExtension implements
 
 		// Skip delay for first sample
 		if (currentSample <= 1) {
-			return;
+			return null;
 		}
 
+		PacingWaitEvent event = PacingWaitEvent.start();
 		try {
 			Thread.sleep(delayMs);
 		} catch (InterruptedException e) {
@@ -853,6 +1192,8 @@ public class ProbabilisticTestExtension implements
 			// Don't fail the test, just log and continue
 			logger.warn("Pacing delay interrupted");
 		}
+		event.complete(null, delayMs);
+		return null;
 	}
 
 	private <T> T getFromStoreOrParent(ExtensionContext context, String key, Class<T> type) {
@@ -4,12 +4,14 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.javai.punit.api.TestIntent;
 import org.javai.punit.controls.budget.CostBudgetMonitor;
 import org.javai.punit.controls.budget.SharedBudgetMonitor;
 import org.javai.punit.model.ExpirationStatus;
 import org.javai.punit.model.TerminationReason;
 import org.javai.punit.reporting.PUnitReporter;
+import org.javai.punit.reporting.PhaseTimings;
 import org.javai.punit.reporting.RateFormat;
 import org.javai.punit.spec.expiration.ExpirationEvaluator;
 import org.javai.punit.spec.expiration.ExpirationReportPublisher;
@@ -17,6 +19,9 @@ import org.javai.punit.spec.expiration.ExpirationWarningRenderer;
 import org.javai.punit.spec.expiration.WarningLevel;
 import org.javai.punit.spec.model.ExecutionSpecification;
 import org.javai.punit.statistics.ComplianceEvidenceEvaluator;
+import org.javai.punit.statistics.SampleSizeRequirement;
+import org.javai.punit.statistics.StratifiedProportionEstimator.StratifiedEstimate;
+import org.javai.punit.statistics.StratifiedProportionEstimator.StratumCounts;
 import org.javai.punit.statistics.VerificationFeasibilityEvaluator;
 import org.javai.punit.statistics.transparent.BaselineData;
 import org.javai.punit.statistics.transparent.TextExplanationRenderer;
@@ -78,8 +83,114 @@ class ResultPublisher {
             List<CovariateMisalignment> misalignments,
             String baselineFilename,
             TestIntent intent,
-            double resolvedConfidence
+            double resolvedConfidence,
+            int timeouts,
+            StratifiedEstimate stratifiedEstimate,
+            SampleSizeRequirement sampleSizing,
+            PhaseTimings phaseTimings
     ) {
+        /**
+         * Backward-compatible constructor for runs without a phase timing breakdown.
+         */
+        PublishContext(
+                String testName, int plannedSamples, int samplesExecuted,
+                int successes, int failures, double minPassRate, double observedPassRate,
+                boolean passed, Optional<TerminationReason> terminationReason,
+                String terminationDetails, long elapsedMs, boolean hasMultiplier,
+                double appliedMultiplier, long timeBudgetMs, long tokenBudget,
+                long methodTokensConsumed, CostBudgetMonitor.TokenMode tokenMode,
+                SharedBudgetMonitor classBudget, SharedBudgetMonitor suiteBudget,
+                ExecutionSpecification spec, TransparentStatsConfig transparentStats,
+                org.javai.punit.api.ThresholdOrigin thresholdOrigin, String contractRef,
+                Double confidence, BaselineData baseline,
+                List<CovariateMisalignment> misalignments, String baselineFilename,
+                TestIntent intent, double resolvedConfidence, int timeouts,
+                StratifiedEstimate stratifiedEstimate, SampleSizeRequirement sampleSizing) {
+            this(testName, plannedSamples, samplesExecuted, successes, failures,
+                    minPassRate, observedPassRate, passed, terminationReason,
+                    terminationDetails, elapsedMs, hasMultiplier, appliedMultiplier,
+                    timeBudgetMs, tokenBudget, methodTokensConsumed, tokenMode,
+                    classBudget, suiteBudget, spec, transparentStats, thresholdOrigin,
+                    contractRef, confidence, baseline, misalignments, baselineFilename,
+                    intent, resolvedConfidence, timeouts, stratifiedEstimate, sampleSizing, null);
+        }
+
+        /**
+         * Backward-compatible constructor for runs whose sample count was not power-sized.
+         */
+        PublishContext(
+                String testName, int plannedSamples, int samplesExecuted,
+                int successes, int failures, double minPassRate, double observedPassRate,
+                boolean passed, Optional<TerminationReason> terminationReason,
+                String terminationDetails, long elapsedMs, boolean hasMultiplier,
+                double appliedMultiplier, long timeBudgetMs, long tokenBudget,
+                long methodTokensConsumed, CostBudgetMonitor.TokenMode tokenMode,
+                SharedBudgetMonitor classBudget, SharedBudgetMonitor suiteBudget,
+                ExecutionSpecification spec, TransparentStatsConfig transparentStats,
+                org.javai.punit.api.ThresholdOrigin thresholdOrigin, String contractRef,
+                Double confidence, BaselineData baseline,
+                List<CovariateMisalignment> misalignments, String baselineFilename,
+                TestIntent intent, double resolvedConfidence, int timeouts,
+                StratifiedEstimate stratifiedEstimate) {
+            this(testName, plannedSamples, samplesExecuted, successes, failures,
+                    minPassRate, observedPassRate, passed, terminationReason,
+                    terminationDetails, elapsedMs, hasMultiplier, appliedMultiplier,
+                    timeBudgetMs, tokenBudget, methodTokensConsumed, tokenMode,
+                    classBudget, suiteBudget, spec, transparentStats, thresholdOrigin,
+                    contractRef, confidence, baseline, misalignments, baselineFilename,
+                    intent, resolvedConfidence, timeouts, stratifiedEstimate, null, null);
+        }
+
+        /**
+         * Backward-compatible constructor for runs without stratified sampling.
+         */
+        PublishContext(
+                String testName, int plannedSamples, int samplesExecuted,
+                int successes, int failures, double minPassRate, double observedPassRate,
+                boolean passed, Optional<TerminationReason> terminationReason,
+                String terminationDetails, long elapsedMs, boolean hasMultiplier,
+                double appliedMultiplier, long timeBudgetMs, long tokenBudget,
+                long methodTokensConsumed, CostBudgetMonitor.TokenMode tokenMode,
+                SharedBudgetMonitor classBudget, SharedBudgetMonitor suiteBudget,
+                ExecutionSpecification spec, TransparentStatsConfig transparentStats,
+                org.javai.punit.api.ThresholdOrigin thresholdOrigin, String contractRef,
+                Double confidence, BaselineData baseline,
+                List<CovariateMisalignment> misalignments, String baselineFilename,
+                TestIntent intent, double resolvedConfidence, int timeouts) {
+            this(testName, plannedSamples, samplesExecuted, successes, failures,
+                    minPassRate, observedPassRate, passed, terminationReason,
+                    terminationDetails, elapsedMs, hasMultiplier, appliedMultiplier,
+                    timeBudgetMs, tokenBudget, methodTokensConsumed, tokenMode,
+                    classBudget, suiteBudget, spec, transparentStats, thresholdOrigin,
+                    contractRef, confidence, baseline, misalignments, baselineFilename,
+                    intent, resolvedConfidence, timeouts, null, null, null);
+        }
+
+        /**
+         * Backward-compatible constructor for runs without per-sample timeouts.
+         */
+        PublishContext(
+                String testName, int plannedSamples, int samplesExecuted,
+                int successes, int failures, double minPassRate, double observedPassRate,
+                boolean passed, Optional<TerminationReason> terminationReason,
+                String terminationDetails, long elapsedMs, boolean hasMultiplier,
+                double appliedMultiplier, long timeBudgetMs, long tokenBudget,
+                long methodTokensConsumed, CostBudgetMonitor.TokenMode tokenMode,
+                SharedBudgetMonitor classBudget, SharedBudgetMonitor suiteBudget,
+                ExecutionSpecification spec, TransparentStatsConfig transparentStats,
+                org.javai.punit.api.ThresholdOrigin thresholdOrigin, String contractRef,
+                Double confidence, BaselineData baseline,
+                List<CovariateMisalignment> misalignments, String baselineFilename,
+                TestIntent intent, double resolvedConfidence) {
+            this(testName, plannedSamples, samplesExecuted, successes, failures,
+                    minPassRate, observedPassRate, passed, terminationReason,
+                    terminationDetails, elapsedMs, hasMultiplier, appliedMultiplier,
+                    timeBudgetMs, tokenBudget, methodTokensConsumed, tokenMode,
+                    classBudget, suiteBudget, spec, transparentStats, thresholdOrigin,
+                    contractRef, confidence, baseline, misalignments, baselineFilename,
+                    intent, resolvedConfidence, 0, null, null, null);
+        }
+
         /**
          * Backward-compatible constructor that defaults to VERIFICATION intent and 0.95 confidence.
          */
@@ -101,7 +212,23 @@ class ResultPublisher {
                     timeBudgetMs, tokenBudget, methodTokensConsumed, tokenMode,
                     classBudget, suiteBudget, spec, transparentStats, thresholdOrigin,
                     contractRef, confidence, baseline, misalignments, baselineFilename,
-                    TestIntent.VERIFICATION, 0.95);
+                    TestIntent.VERIFICATION, 0.95, 0, null, null, null);
+        }
+
+        boolean hasTimeouts() {
+            return timeouts > 0;
+        }
+
+        boolean isStratified() {
+            return stratifiedEstimate != null;
+        }
+
+        boolean isPowerSized() {
+            return sampleSizing != null;
+        }
+
+        boolean hasPhaseTimings() {
+            return phaseTimings != null;
         }
 
         boolean hasTimeBudget() {
@@ -151,11 +278,35 @@ class ResultPublisher {
         entries.put("punit.samplesExecuted", String.valueOf(ctx.samplesExecuted()));
         entries.put("punit.successes", String.valueOf(ctx.successes()));
         entries.put("punit.failures", String.valueOf(ctx.failures()));
+        if (ctx.hasTimeouts()) {
+            entries.put("punit.timeouts", String.valueOf(ctx.timeouts()));
+        }
         entries.put("punit.minPassRate", String.format("%.4f", ctx.minPassRate()));
         entries.put("punit.observedPassRate", String.format("%.4f", ctx.observedPassRate()));
+        if (ctx.isStratified()) {
+            StratifiedEstimate estimate = ctx.stratifiedEstimate();
+            entries.put("punit.stratified.estimate", String.format("%.4f", estimate.pointEstimate()));
+            entries.put("punit.stratified.lowerBound", String.format("%.4f", estimate.lowerBound()));
+            entries.put("punit.stratified.upperBound", String.format("%.4f", estimate.upperBound()));
+            entries.put("punit.stratified.strata", String.valueOf(estimate.strata().size()));
+            if (!estimate.unsampledStrata().isEmpty()) {
+                entries.put("punit.stratified.unsampled", estimate.unsampledStrata().stream()
+                        .map(StratumCounts::key)
+                        .collect(Collectors.joining(",")));
+            }
+        }
+        if (ctx.isPowerSized()) {
+            SampleSizeRequirement sizing = ctx.sampleSizing();
+            entries.put("punit.sizing.requiredSamples", String.valueOf(sizing.requiredSamples()));
+            entries.put("punit.sizing.power", String.format("%.4f", sizing.power()));
+            entries.put("punit.sizing.minDetectableEffect", String.format("%.4f", sizing.minDetectableEffect()));
+        }
         entries.put("punit.verdict", ctx.passed() ? "PASS" : "FAIL");
         entries.put("punit.terminationReason", terminationReasonStr);
         entries.put("punit.elapsedMs", String.valueOf(ctx.elapsedMs()));
+        if (ctx.hasPhaseTimings()) {
+            entries.putAll(ctx.phaseTimings().reportEntries("punit.time"));
+        }
 
         // Include multiplier info if one was applied
         if (ctx.hasMultiplier()) {
@@ -254,6 +405,16 @@ class ResultPublisher {
                             RateFormat.format(ctx.minPassRate()))));
         }
 
+        if (ctx.hasTimeouts()) {
+            sb.append(PUnitReporter.labelValueLn("Timeouts:",
+                    String.format("%d of %d samples exceeded the per-sample timeout",
+                            ctx.timeouts(), ctx.samplesExecuted())));
+        }
+
+        if (ctx.isStratified()) {
+            appendStratifiedEstimate(sb, ctx.stratifiedEstimate());
+        }
+
         // Append provenance if configured
         appendProvenance(sb, ctx);
 
@@ -275,7 +436,12 @@ class ResultPublisher {
                     }
                 });
 
-        sb.append(PUnitReporter.labelValue("Elapsed:", ctx.elapsedMs() + "ms"));
+        if (ctx.hasPhaseTimings()) {
+            sb.append(PUnitReporter.labelValueLn("Elapsed:", ctx.elapsedMs() + "ms"));
+            sb.append(PUnitReporter.labelValue("Time spent:", ctx.phaseTimings().summary()));
+        } else {
+            sb.append(PUnitReporter.labelValue("Elapsed:", ctx.elapsedMs() + "ms"));
+        }
 
         // Append notes (with blank line separator)
         StringBuilder notes = new StringBuilder();
@@ -292,6 +458,79 @@ class ResultPublisher {
                 ? ctx.transparentStats().detailLevel()
                 : TransparentStatsConfig.DetailLevel.VERBOSE;
         printExpirationWarning(ctx.spec(), detailLevel);
+        printUnsampledStrataWarning(ctx);
+    }
+
+    /**
+     * Appends the stratified estimate and the per-stratum counts it was computed from.
+     */
+    void appendStratifiedEstimate(StringBuilder sb, StratifiedEstimate estimate) {
+        sb.append(PUnitReporter.labelValueLn("Stratified estimate:",
+                String.format("%s (%.0f%% CI %s to %s)",
+                        RateFormat.format(estimate.pointEstimate()),
+                        estimate.confidenceLevel() * 100,
+                        RateFormat.format(estimate.lowerBound()),
+                        RateFormat.format(estimate.upperBound()))));
+        for (StratumCounts stratum : estimate.strata()) {
+            sb.append(PUnitReporter.labelValueLn("  " + stratum.key() + ":",
+                    String.format("%d/%d (weight %.2f)",
+                            stratum.successes(), stratum.trials(), stratum.weight())));
+        }
+    }
+
+    /**
+     * Appends the power analysis a power-sized test's sample count was derived from.
+     */
+    void appendSampleSizing(StringBuilder sb, PublishContext ctx) {
+        SampleSizeRequirement sizing = ctx.sampleSizing();
+        boolean unicode = TransparentStatsConfig.supportsUnicode();
+        String p0 = unicode ? "p\u2080" : "p0";
+        String p1 = unicode ? "p\u2081" : "p1";
+        String alpha = unicode ? "\u03b1" : "alpha";
+        String beta = unicode ? "\u03b2" : "beta";
+        String formula = unicode
+                ? "n = \u2308((z\u03b1\u00b7\u03c3\u2080 + z\u03b2\u00b7\u03c3\u2081) / \u03b4)\u00b2\u2309"
+                : "n = ceil(((z_alpha*sigma0 + z_beta*sigma1) / delta)^2)";
+
+        sb.append("SAMPLE SIZING\n");
+        sb.append(sizingLine("Baseline rate (" + p0 + "):", RateFormat.format(sizing.nullRate())));
+        sb.append(sizingLine("Detectable rate (" + p1 + "):",
+                String.format("%s (%s - %s)", RateFormat.format(sizing.alternativeRate()), p0,
+                        RateFormat.format(sizing.minDetectableEffect()))));
+        sb.append(sizingLine("Confidence (1 - " + alpha + "):", String.format("%.1f%%", sizing.confidence() * 100)));
+        sb.append(sizingLine("Power (1 - " + beta + "):", String.format("%.1f%%", sizing.power() * 100)));
+        sb.append(sizingLine("Formula:", formula));
+        String samples = String.valueOf(sizing.requiredSamples());
+        if (ctx.hasMultiplier()) {
+            samples += String.format(" (multiplier %.2f applied: %d)", ctx.appliedMultiplier(), ctx.plannedSamples());
+        }
+        sb.append(sizingLine("Required samples:", samples));
+    }
+
+    private static String sizingLine(String label, String value) {
+        return "  " + PUnitReporter.labelValueLn(label, value, PUnitReporter.DETAIL_LABEL_WIDTH);
+    }
+
+    /**
+     * Warns when a stratified test ended with strata that were never sampled.
+     *
+     * <p>The stratified estimate then covers only the sampled strata, so the verdict
+     * says nothing about the rest of the inputs.
+     */
+    void printUnsampledStrataWarning(PublishContext ctx) {
+        if (!ctx.isStratified() || ctx.stratifiedEstimate().unsampledStrata().isEmpty()) {
+            return;
+        }
+        StratifiedEstimate estimate = ctx.stratifiedEstimate();
+        String keys = estimate.unsampledStrata().stream()
+                .map(StratumCounts::key)
+                .collect(Collectors.joining(", "));
+        reporter.reportWarn("UNSAMPLED STRATA - " + ctx.testName(), String.format(
+                "%d of %d strata were never sampled: %s\n"
+                        + "The stratified estimate covers only %.0f%% of the inputs.\n"
+                        + "Increase samples or the budget so every stratum is sampled.",
+                estimate.unsampledStrata().size(), estimate.strata().size(), keys,
+                (1.0 - estimate.unsampledWeight()) * 100));
     }
 
     /**
@@ -437,10 +676,17 @@ class ResultPublisher {
         // Render and print
         TextExplanationRenderer renderer = new TextExplanationRenderer(ctx.transparentStats());
         var rendered = renderer.renderForReporter(explanation);
-        reporter.reportInfo(rendered.title(), rendered.body());
+        String body = rendered.body();
+        if (ctx.isPowerSized()) {
+            StringBuilder sb = new StringBuilder(body.stripTrailing()).append("\n\n");
+            appendSampleSizing(sb, ctx);
+            body = sb.toString().stripTrailing();
+        }
+        reporter.reportInfo(rendered.title(), body);
 
         // Print expiration warning respecting the configured detail level
         printExpirationWarning(ctx.spec(), ctx.transparentStats().detailLevel());
+        printUnsampledStrataWarning(ctx);
     }
 }
 
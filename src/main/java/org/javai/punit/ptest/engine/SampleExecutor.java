@@ -1,6 +1,8 @@
 package org.javai.punit.ptest.engine;
 
 import org.javai.punit.api.ExceptionHandling;
+import org.javai.punit.controls.timeout.SampleTimeoutException;
+import org.javai.punit.controls.timeout.SampleWatchdog;
 import org.javai.punit.model.TerminationReason;
 import org.javai.punit.ptest.bernoulli.SampleResultAggregator;
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
  *   <li>Capturing success or failure</li>
  *   <li>Recording results to the aggregator</li>
  *   <li>Applying exception handling policy (ABORT_TEST vs FAIL_SAMPLE)</li>
+ *   <li>Enforcing the per-sample timeout, if configured</li>
  * </ul>
  *
  * <p>The executor returns a {@link SampleResult} that allows the caller
@@ -73,11 +76,36 @@ public class SampleExecutor {
             Invocation<Void> invocation,
             SampleResultAggregator aggregator,
             ExceptionHandling exceptionPolicy) throws Throwable {
+        return execute(invocation, aggregator, exceptionPolicy, 0);
+    }
+
+    /**
+     * Executes a single sample invocation under a per-sample deadline.
+     *
+     * <p>A sample that exceeds the deadline is interrupted and recorded as a
+     * timeout failure. Timeouts never trigger the ABORT_TEST policy: the test
+     * continues with the next sample.
+     *
+     * @param invocation the JUnit invocation to execute
+     * @param aggregator the result aggregator to record to
+     * @param exceptionPolicy how to handle non-assertion exceptions
+     * @param sampleTimeoutMs the per-sample deadline in milliseconds (0 for none)
+     * @return the result of the sample execution
+     * @throws Throwable if the sample should abort and rethrow immediately
+     */
+    public SampleResult execute(
+            Invocation<Void> invocation,
+            SampleResultAggregator aggregator,
+            ExceptionHandling exceptionPolicy,
+            long sampleTimeoutMs) throws Throwable {
 
         try {
-            invocation.proceed();
+            new SampleWatchdog(sampleTimeoutMs).run(invocation::proceed);
             aggregator.recordSuccess();
             return SampleResult.ofSuccess();
+        } catch (SampleTimeoutException e) {
+            aggregator.recordTimeout(e);
+            return SampleResult.ofFailure(e);
         } catch (AssertionError e) {
             aggregator.recordFailure(e);
             return SampleResult.ofFailure(e);
@@ -0,0 +1,167 @@
+package org.javai.punit.ptest.engine;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.javai.punit.api.ProbabilisticTest;
+import org.javai.punit.api.UseCaseProvider;
+import org.javai.punit.spec.baseline.BaselineRepository;
+import org.javai.punit.spec.registry.SpecificationCache;
+import org.javai.punit.spec.registry.SpecificationRegistry;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Loads the specs of all probabilistic tests in a test plan in the background.
+ *
+ * <p>Without preloading, each test loads its baselines on its first sample, which
+ * puts YAML parsing, schema validation and fingerprint verification on the critical
+ * path of the test. Once discovery has finished, this listener collects the use case
+ * IDs referenced by {@code @ProbabilisticTest} methods in the plan and loads their
+ * specs in parallel on daemon threads, into the {@link SpecificationCache} that the
+ * tests load from. A test that reaches a spec still being loaded waits for that load
+ * rather than repeating it.
+ *
+ * <p>Preloading only warms the cache: load failures are ignored here and reported by
+ * the test that needs the spec, as before.
+ *
+ * <p>Registered through {@code META-INF/services}; disable with
+ * {@code -Dpunit.specs.preload=false}.
+ */
+public final class SpecPreloadingListener implements TestExecutionListener {
+
+    /** System property to disable spec preloading. */
+    public static final String PROP_PRELOAD = "punit.specs.preload";
+
+    private static final Logger logger = LogManager.getLogger(SpecPreloadingListener.class);
+
+    private final Consumer<String> loader;
+    private ExecutorService executor;
+
+    /**
+     * Creates a listener that preloads into the shared {@link SpecificationCache}.
+     */
+    public SpecPreloadingListener() {
+        this(SpecPreloadingListener::loadSpecs);
+    }
+
+    /**
+     * Constructor for testing with a custom loader.
+     */
+    SpecPreloadingListener(Consumer<String> loader) {
+        this.loader = loader;
+    }
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        if ("false".equalsIgnoreCase(System.getProperty(PROP_PRELOAD))) {
+            return;
+        }
+        List<Method> methods = new ArrayList<>();
+        for (TestIdentifier root : testPlan.getRoots()) {
+            for (TestIdentifier identifier : testPlan.getDescendants(root)) {
+                javaMethod(identifier).ifPresent(methods::add);
+            }
+        }
+        preload(referencedUseCaseIds(methods));
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Loads the specs of the given use cases in parallel.
+     *
+     * @param useCaseIds the use case IDs
+     * @return a future that completes when all loads have finished
+     */
+    CompletableFuture<Void> preload(Collection<String> useCaseIds) {
+        if (useCaseIds.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        int threads = Math.min(useCaseIds.size(), Runtime.getRuntime().availableProcessors());
+        executor = Executors.newFixedThreadPool(threads, daemonThreads());
+        logger.debug("Preloading specs for {} use case(s) on {} thread(s)", useCaseIds.size(), threads);
+
+        CompletableFuture<?>[] loads = useCaseIds.stream()
+                .map(id -> CompletableFuture.runAsync(() -> loadQuietly(id), executor))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(loads);
+    }
+
+    /**
+     * Returns the distinct use case IDs referenced by {@code @ProbabilisticTest} methods.
+     */
+    static Set<String> referencedUseCaseIds(Collection<Method> methods) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (Method method : methods) {
+            AnnotationSupport.findAnnotation(method, ProbabilisticTest.class)
+                    .map(ProbabilisticTest::useCase)
+                    .filter(useCase -> useCase != Void.class)
+                    .map(UseCaseProvider::resolveId)
+                    .ifPresent(ids::add);
+        }
+        return ids;
+    }
+
+    private void loadQuietly(String useCaseId) {
+        try {
+            loader.accept(useCaseId);
+        } catch (RuntimeException e) {
+            // The test that needs this spec reports the failure
+            logger.debug("Preloading spec for {} failed: {}", useCaseId, e.getMessage());
+        }
+    }
+
+    private static void loadSpecs(String useCaseId) {
+        // Covariate-aware baselines: every spec file of the use case
+        new BaselineRepository().findAllCandidates(useCaseId);
+        // Flat spec: {useCaseId}.yaml, which the repository's file matching may miss
+        SpecificationRegistry registry = new SpecificationRegistry();
+        if (registry.exists(useCaseId)) {
+            registry.resolve(useCaseId);
+        }
+    }
+
+    private static Optional<Method> javaMethod(TestIdentifier identifier) {
+        return identifier.getSource()
+                .filter(MethodSource.class::isInstance)
+                .map(MethodSource.class::cast)
+                .flatMap(source -> {
+                    try {
+                        return Optional.of(source.getJavaMethod());
+                    } catch (RuntimeException | LinkageError e) {
+                        return Optional.empty();
+                    }
+                });
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "punit-spec-preload-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
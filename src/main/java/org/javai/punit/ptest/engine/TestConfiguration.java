@@ -143,6 +143,22 @@ record TestConfiguration(
         );
     }
 
+    /**
+     * Creates a copy of this configuration with an updated sample count.
+     *
+     * <p>Used when the sample count is sized from a baseline by power analysis.
+     */
+    TestConfiguration withSamples(int newSamples) {
+        return new TestConfiguration(
+                newSamples, minPassRate, appliedMultiplier, timeBudgetMs, tokenCharge, tokenBudget,
+                tokenMode, onBudgetExhausted, onException, maxExampleFailures,
+                confidence, baselineRate, baselineSamples, specId,
+                pacing != null ? pacing.withSamples(newSamples) : null,
+                transparentStats, thresholdOrigin, contractRef,
+                intent, resolvedConfidence
+        );
+    }
+
     /**
      * Builds the statistical context for failure messages.
      */
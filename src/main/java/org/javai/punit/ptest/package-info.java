@@ -26,6 +26,7 @@
  *   <li>{@code engine/} - Core extension and shared infrastructure</li>
  *   <li>{@code strategy/} - Strategy interface and common types</li>
  *   <li>{@code bernoulli/} - Bernoulli trials strategy implementation</li>
+ *   <li>{@code simulation/} - Simulated operating characteristics of a project's tests</li>
  * </ul>
  *
  * @see org.javai.punit.api.ProbabilisticTest
@@ -0,0 +1,192 @@
+package org.javai.punit.ptest.shard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.javai.punit.api.ProbabilisticTest;
+import org.javai.punit.controls.pacing.PacingConfiguration;
+import org.javai.punit.controls.pacing.PacingResolver;
+import org.javai.punit.ptest.engine.ConfigurationResolver;
+import org.javai.punit.ptest.engine.ConfigurationResolver.ResolvedConfiguration;
+import org.javai.punit.spec.model.ExecutionSpecification;
+import org.javai.punit.spec.model.ExecutionSpecification.ExtendedStatistics;
+
+/**
+ * Estimates how long the probabilistic tests of each test class take to run.
+ *
+ * <p>A test's cost is its sample count times the time per sample recorded in its
+ * baseline spec ({@code cost.avgTimePerSampleMs}), or a default when it has no spec.
+ * Pacing can only slow a test down, so the pacing plan's estimated duration is a floor;
+ * a time budget is a ceiling. A class's cost is the sum over its
+ * {@code @ProbabilisticTest} methods, including those of its nested classes, which
+ * are counted towards the top-level class because they run in the same fork.
+ */
+public class ShardCostEstimator {
+
+    /** Time per sample assumed for tests without a baseline, in milliseconds. */
+    public static final long DEFAULT_SAMPLE_MS = 100;
+
+    private final ConfigurationResolver resolver;
+    private final PacingResolver pacingResolver;
+    private final long defaultSampleMs;
+
+    /**
+     * Creates an estimator.
+     *
+     * @param defaultSampleMs the time per sample assumed for tests without a baseline
+     */
+    public ShardCostEstimator(long defaultSampleMs) {
+        this(new ConfigurationResolver(), new PacingResolver(), defaultSampleMs);
+    }
+
+    ShardCostEstimator(ConfigurationResolver resolver, PacingResolver pacingResolver, long defaultSampleMs) {
+        if (defaultSampleMs < 0) {
+            throw new IllegalArgumentException("Default sample time must not be negative, got: " + defaultSampleMs);
+        }
+        this.resolver = resolver;
+        this.pacingResolver = pacingResolver;
+        this.defaultSampleMs = defaultSampleMs;
+    }
+
+    /**
+     * The estimated cost of one top-level test class.
+     *
+     * @param className the fully qualified name of the top-level class
+     * @param tests the number of probabilistic test methods
+     * @param estimatedMs the estimated run time of those tests
+     */
+    public record ClassCost(String className, int tests, long estimatedMs) {
+    }
+
+    /**
+     * Estimates the cost of every test class in the given compiled class directories
+     * that declares probabilistic tests.
+     *
+     * @param classDirectories directories of compiled test classes
+     * @param loader the class loader to load test classes with
+     * @return one cost per top-level class, most expensive first
+     */
+    public List<ClassCost> estimate(List<Path> classDirectories, ClassLoader loader) {
+        Map<String, ClassCost> costs = new LinkedHashMap<>();
+        for (Path directory : classDirectories) {
+            for (String className : classNames(directory)) {
+                Class<?> testClass;
+                try {
+                    testClass = Class.forName(className, false, loader);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    continue;
+                }
+                estimate(testClass).ifPresent(cost -> costs.merge(cost.className(), cost,
+                        (a, b) -> new ClassCost(a.className(), a.tests() + b.tests(),
+                                a.estimatedMs() + b.estimatedMs())));
+            }
+        }
+        List<ClassCost> result = new ArrayList<>(costs.values());
+        result.sort(Comparator.comparingLong(ClassCost::estimatedMs).reversed()
+                .thenComparing(ClassCost::className));
+        return result;
+    }
+
+    /**
+     * Estimates the cost of the probabilistic tests declared directly by a class.
+     *
+     * @param testClass the test class
+     * @return the cost, attributed to the class's top-level class; empty if the class
+     *         declares no probabilistic tests
+     */
+    public Optional<ClassCost> estimate(Class<?> testClass) {
+        Method[] methods;
+        try {
+            methods = testClass.getDeclaredMethods();
+        } catch (LinkageError e) {
+            return Optional.empty();
+        }
+        int tests = 0;
+        long estimatedMs = 0;
+        for (Method method : methods) {
+            if (method.isAnnotationPresent(ProbabilisticTest.class)) {
+                tests++;
+                estimatedMs += estimate(method);
+            }
+        }
+        if (tests == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new ClassCost(topLevelName(testClass.getName()), tests, estimatedMs));
+    }
+
+    /**
+     * Estimates the run time of a single test method.
+     *
+     * @param testMethod the {@code @ProbabilisticTest} method
+     * @return the estimated run time in milliseconds; the default cost if the test's
+     *         configuration cannot be resolved
+     */
+    public long estimate(Method testMethod) {
+        ProbabilisticTest annotation = testMethod.getAnnotation(ProbabilisticTest.class);
+        ResolvedConfiguration config;
+        Optional<ExecutionSpecification> spec;
+        try {
+            config = resolver.resolve(testMethod);
+            spec = resolver.resolveSpecIdFromAnnotation(annotation).flatMap(resolver::loadSpec);
+        } catch (RuntimeException e) {
+            return (long) annotation.samples() * defaultSampleMs;
+        }
+
+        int samples = config.samples();
+        long sampleMs = spec.map(ExecutionSpecification::getExtendedStatistics)
+                .map(ExtendedStatistics::avgTimePerSampleMs)
+                .filter(ms -> ms > 0)
+                .orElse(defaultSampleMs);
+
+        PacingConfiguration pacing = pacingResolver.resolve(testMethod, samples, sampleMs);
+        long estimatedMs = samples * sampleMs / Math.max(1, pacing.effectiveConcurrency());
+        if (pacing.hasPacing()) {
+            estimatedMs = Math.max(estimatedMs, pacing.estimatedDurationMs());
+        }
+        if (config.timeBudgetMs() > 0) {
+            estimatedMs = Math.min(estimatedMs, config.timeBudgetMs());
+        }
+        return estimatedMs;
+    }
+
+    /**
+     * Returns the top-level class that a (possibly nested) class belongs to.
+     *
+     * @param className a binary class name
+     * @return the name up to the first {@code $}
+     */
+    static String topLevelName(String className) {
+        int nested = className.indexOf('$');
+        return nested < 0 ? className : className.substring(0, nested);
+    }
+
+    private static List<String> classNames(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files
+                    .filter(f -> f.getFileName().toString().endsWith(".class"))
+                    .map(f -> toClassName(directory.relativize(f)))
+                    .filter(name -> !name.endsWith("package-info") && !name.endsWith("module-info"))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan " + directory, e);
+        }
+    }
+
+    private static String toClassName(Path relativeClassFile) {
+        String path = relativeClassFile.toString().replace(relativeClassFile.getFileSystem().getSeparator(), ".");
+        return path.substring(0, path.length() - ".class".length());
+    }
+}
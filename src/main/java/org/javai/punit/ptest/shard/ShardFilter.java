@@ -0,0 +1,92 @@
+package org.javai.punit.ptest.shard;
+
+import java.nio.file.Path;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * Restricts a test run to the classes of one shard of a {@link ShardPlan}.
+ *
+ * <p>Gradle hands test classes to its forks in discovery order, so a single test task
+ * cannot be told which classes belong together. Instead, each shard runs as its own
+ * test task over all test classes, and this filter removes the classes that belong to
+ * other shards. It is active when {@code -Dpunit.shard.plan} names a plan file and
+ * {@code -Dpunit.shard.index} selects a shard (from 1); otherwise every test runs.
+ *
+ * <p>Registered through {@code META-INF/services}.
+ */
+public final class ShardFilter implements PostDiscoveryFilter {
+
+    /** System property naming the plan file. */
+    public static final String PROP_PLAN = "punit.shard.plan";
+
+    /** System property selecting the shard to run, from 1. */
+    public static final String PROP_INDEX = "punit.shard.index";
+
+    private static final Logger logger = LogManager.getLogger(ShardFilter.class);
+
+    private final ShardPlan plan;
+    private final int index;
+
+    /**
+     * Creates a filter configured from system properties.
+     */
+    public ShardFilter() {
+        String planFile = System.getProperty(PROP_PLAN);
+        String shard = System.getProperty(PROP_INDEX);
+        if (planFile == null || planFile.isBlank() || shard == null || shard.isBlank()) {
+            this.plan = null;
+            this.index = 0;
+            return;
+        }
+        this.plan = ShardPlan.read(Path.of(planFile.trim()));
+        this.index = Integer.parseInt(shard.trim());
+        if (index < 1 || index > plan.shards()) {
+            throw new IllegalArgumentException(
+                    PROP_INDEX + " must be between 1 and " + plan.shards() + ", got: " + index);
+        }
+        logger.info("Running shard {} of {} ({} planned classes)", index, plan.shards(), plan.assignments().size());
+    }
+
+    /**
+     * Constructor for testing with a given plan.
+     *
+     * @param plan the plan, or {@code null} to run every test
+     * @param index the shard to run, from 1
+     */
+    ShardFilter(ShardPlan plan, int index) {
+        this.plan = plan;
+        this.index = index;
+    }
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (plan == null) {
+            return FilterResult.included("sharding disabled");
+        }
+        String className = className(descriptor.getSource().orElse(null));
+        if (className == null) {
+            return FilterResult.included("no class source");
+        }
+        int shard = plan.shardOf(className);
+        return shard == index
+                ? FilterResult.included("in shard " + index)
+                : FilterResult.excluded("in shard " + shard);
+    }
+
+    private static String className(TestSource source) {
+        if (source instanceof ClassSource classSource) {
+            return classSource.getClassName();
+        }
+        if (source instanceof MethodSource methodSource) {
+            return methodSource.getClassName();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,175 @@
+package org.javai.punit.ptest.shard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.javai.punit.ptest.shard.ShardCostEstimator.ClassCost;
+
+/**
+ * An assignment of test classes to shards, balanced by estimated cost.
+ *
+ * <p>{@link #balance} uses the longest-processing-time-first rule: classes are taken
+ * from most to least expensive and each goes to the shard with the least estimated
+ * work so far. The busiest shard is then at most 4/3 of the best possible, and in
+ * practice close to it, because the expensive classes are spread first and the cheap
+ * ones fill the gaps.
+ *
+ * <p>Classes the plan does not know (tests without probabilistic methods, or written
+ * after the plan) are spread by a hash of their name, so every class runs in exactly
+ * one shard.
+ *
+ * <p>The plan file is plain text: a {@value #HEADER} line with the shard count, then
+ * one {@code shard<TAB>class<TAB>estimatedMs} line per class, shards numbered from 1.
+ */
+public final class ShardPlan {
+
+    /** First token of the plan file's header line. */
+    public static final String HEADER = "# punit-shard-plan-1";
+
+    private final int shards;
+    private final Map<String, Integer> assignments;
+    private final Map<String, Long> estimates;
+    private final long[] loads;
+
+    private ShardPlan(int shards, Map<String, Integer> assignments, Map<String, Long> estimates) {
+        this.shards = shards;
+        this.assignments = Collections.unmodifiableMap(assignments);
+        this.estimates = estimates;
+        this.loads = new long[shards];
+        assignments.forEach((className, shard) -> loads[shard - 1] += estimates.getOrDefault(className, 0L));
+    }
+
+    /**
+     * Assigns classes to shards so that the estimated work of the busiest shard is small.
+     *
+     * @param costs the estimated class costs
+     * @param shards the number of shards
+     * @return the plan
+     */
+    public static ShardPlan balance(List<ClassCost> costs, int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1, got: " + shards);
+        }
+        List<ClassCost> ordered = new ArrayList<>(costs);
+        ordered.sort(Comparator.comparingLong(ClassCost::estimatedMs).reversed()
+                .thenComparing(ClassCost::className));
+        Map<String, Integer> assignments = new LinkedHashMap<>();
+        Map<String, Long> estimates = new LinkedHashMap<>();
+        long[] loads = new long[shards];
+        for (ClassCost cost : ordered) {
+            int lightest = 0;
+            for (int shard = 1; shard < shards; shard++) {
+                if (loads[shard] < loads[lightest]) {
+                    lightest = shard;
+                }
+            }
+            loads[lightest] += cost.estimatedMs();
+            assignments.put(cost.className(), lightest + 1);
+            estimates.put(cost.className(), cost.estimatedMs());
+        }
+        return new ShardPlan(shards, assignments, estimates);
+    }
+
+    /**
+     * @return the number of shards
+     */
+    public int shards() {
+        return shards;
+    }
+
+    /**
+     * @return the planned classes and their shards, most expensive first
+     */
+    public Map<String, Integer> assignments() {
+        return assignments;
+    }
+
+    /**
+     * Returns the estimated work assigned to a shard.
+     *
+     * @param shard the shard, from 1
+     * @return the estimated run time in milliseconds
+     */
+    public long load(int shard) {
+        return loads[shard - 1];
+    }
+
+    /**
+     * Returns the shard a test class runs in.
+     *
+     * @param className the binary name of the class; nested classes run with their
+     *                  top-level class
+     * @return the shard, from 1
+     */
+    public int shardOf(String className) {
+        String topLevel = ShardCostEstimator.topLevelName(className);
+        Integer planned = assignments.get(topLevel);
+        return planned != null ? planned : Math.floorMod(topLevel.hashCode(), shards) + 1;
+    }
+
+    /**
+     * Writes the plan to a file, replacing it.
+     *
+     * @param path the plan file
+     * @throws IOException if writing fails
+     */
+    public void write(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER + " shards=" + shards);
+        for (Map.Entry<String, Integer> entry : assignments.entrySet()) {
+            lines.add(entry.getValue() + "\t" + entry.getKey() + "\t" + estimates.getOrDefault(entry.getKey(), 0L));
+        }
+        Files.write(path, lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a plan written by {@link #write}.
+     *
+     * @param path the plan file
+     * @return the plan
+     * @throws UncheckedIOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a shard plan
+     */
+    public static ShardPlan read(Path path) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read shard plan " + path, e);
+        }
+        if (lines.isEmpty() || !lines.get(0).startsWith(HEADER + " shards=")) {
+            throw new IllegalArgumentException("Not a shard plan: " + path);
+        }
+        int shards = Integer.parseInt(lines.get(0).substring((HEADER + " shards=").length()).trim());
+        Map<String, Integer> assignments = new LinkedHashMap<>();
+        Map<String, Long> estimates = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\t");
+            if (fields.length != 3) {
+                throw new IllegalArgumentException("Malformed shard plan line in " + path + ": " + line);
+            }
+            int shard = Integer.parseInt(fields[0].trim());
+            if (shard < 1 || shard > shards) {
+                throw new IllegalArgumentException("Shard " + shard + " out of range in " + path);
+            }
+            assignments.put(fields[1].trim(), shard);
+            estimates.put(fields[1].trim(), Long.parseLong(fields[2].trim()));
+        }
+        return new ShardPlan(shards, assignments, estimates);
+    }
+}
@@ -0,0 +1,110 @@
+package org.javai.punit.ptest.shard;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.javai.punit.ptest.shard.ShardCostEstimator.ClassCost;
+
+/**
+ * Command-line entry point that estimates test class costs and writes a {@link ShardPlan}.
+ *
+ * <pre>
+ * java org.javai.punit.ptest.shard.ShardPlanCli \
+ *     --shards N --output &lt;planFile&gt; [--default-sample-ms MS] \
+ *     [--exclude-package NAME]... &lt;classDir&gt;...
+ * </pre>
+ *
+ * <p>{@code --exclude-package} leaves out classes with a package segment of that name,
+ * mirroring a test task's exclude patterns so that they do not distort the balance.
+ *
+ * <p>Test classes are loaded from the current class path, so it must contain the
+ * compiled tests and their dependencies. The Gradle plugin's {@code planTestShards}
+ * task sets this up.
+ */
+public final class ShardPlanCli {
+
+    private ShardPlanCli() {
+    }
+
+    public static void main(String[] args) {
+        try {
+            run(args, System.out);
+        } catch (IllegalArgumentException e) {
+            System.err.println("error: " + e.getMessage());
+            System.err.println("usage: ShardPlanCli --shards N --output <planFile> [--default-sample-ms MS] "
+                    + "[--exclude-package NAME]... <classDir>...");
+            System.exit(2);
+        }
+    }
+
+    static void run(String[] args, PrintStream out) {
+        int shards = 0;
+        Path output = null;
+        long defaultSampleMs = ShardCostEstimator.DEFAULT_SAMPLE_MS;
+        List<String> excludedPackages = new ArrayList<>();
+        List<Path> classDirectories = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--shards" -> shards = Integer.parseInt(value(args, ++i, "--shards"));
+                case "--output" -> output = Path.of(value(args, ++i, "--output"));
+                case "--default-sample-ms" -> defaultSampleMs = Long.parseLong(value(args, ++i, "--default-sample-ms"));
+                case "--exclude-package" -> excludedPackages.add(value(args, ++i, "--exclude-package"));
+                default -> classDirectories.add(Path.of(args[i]));
+            }
+        }
+        if (shards < 1) {
+            throw new IllegalArgumentException("--shards must be at least 1");
+        }
+        if (output == null) {
+            throw new IllegalArgumentException("no --output file given");
+        }
+        if (classDirectories.isEmpty()) {
+            throw new IllegalArgumentException("no class directories given");
+        }
+
+        List<ClassCost> costs = new ShardCostEstimator(defaultSampleMs)
+                .estimate(classDirectories, Thread.currentThread().getContextClassLoader())
+                .stream()
+                .filter(cost -> !inExcludedPackage(cost.className(), excludedPackages))
+                .toList();
+        ShardPlan plan = ShardPlan.balance(costs, shards);
+        try {
+            plan.write(output);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write shard plan " + output, e);
+        }
+        print(plan, costs, out);
+    }
+
+    static void print(ShardPlan plan, List<ClassCost> costs, PrintStream out) {
+        long total = costs.stream().mapToLong(ClassCost::estimatedMs).sum();
+        out.printf("Shard plan: %d probabilistic test classes, %s estimated, %d shards%n%n",
+                costs.size(), formatMs(total), plan.shards());
+        out.printf("%-6s %8s %12s%n", "Shard", "Classes", "Estimated");
+        for (int shard = 1; shard <= plan.shards(); shard++) {
+            int target = shard;
+            long classes = plan.assignments().values().stream().filter(s -> s == target).count();
+            out.printf("%-6d %8d %12s%n", shard, classes, formatMs(plan.load(shard)));
+        }
+    }
+
+    private static boolean inExcludedPackage(String className, List<String> excludedPackages) {
+        String qualified = "." + className;
+        return excludedPackages.stream().anyMatch(name -> qualified.contains("." + name + "."));
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(option + " requires a value");
+        }
+        return args[index];
+    }
+
+    private static String formatMs(long ms) {
+        return ms < 1000 ? ms + "ms" : String.format("%.1fs", ms / 1000.0);
+    }
+}
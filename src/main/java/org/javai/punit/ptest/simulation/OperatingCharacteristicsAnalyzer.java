@@ -0,0 +1,195 @@
+package org.javai.punit.ptest.simulation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.javai.punit.api.ProbabilisticTest;
+import org.javai.punit.ptest.engine.ConfigurationResolver;
+import org.javai.punit.ptest.engine.ConfigurationResolver.ResolvedConfiguration;
+import org.javai.punit.spec.model.ExecutionSpecification;
+import org.javai.punit.statistics.OperatingCharacteristicsSimulator;
+import org.javai.punit.statistics.OperatingCharacteristicsSimulator.OperatingCharacteristics;
+import org.javai.punit.statistics.OperatingCharacteristicsSimulator.TestDesign;
+
+/**
+ * Simulates the operating characteristics of every {@code @ProbabilisticTest} in a project.
+ *
+ * <p>Each test's configuration is resolved the way the test engine resolves it
+ * (system properties, environment, annotation, baseline spec) and turned into a
+ * {@link TestDesign}:
+ * <ul>
+ *   <li>An explicit {@code minPassRate} becomes a fixed threshold. The acceptable rate
+ *       is the spec's observed rate when a spec exists, otherwise the threshold itself.</li>
+ *   <li>A threshold derived from a baseline spec is simulated with the baseline
+ *       redrawn on every run, at the spec's observed rate and size.</li>
+ * </ul>
+ * <p>Early termination is always modelled, as the engine always applies it.
+ *
+ * <p>Tests whose threshold cannot be resolved (no {@code minPassRate} and no spec)
+ * are reported as skipped rather than failing the analysis.
+ */
+public class OperatingCharacteristicsAnalyzer {
+
+    private final ConfigurationResolver resolver;
+    private final OperatingCharacteristicsSimulator simulator;
+    private final double degradation;
+    private final long runs;
+    private final long seed;
+
+    /**
+     * Creates an analyzer.
+     *
+     * @param degradation the drop in pass rate that counts as degraded (e.g. 0.05)
+     * @param runs the number of simulated runs per rate
+     * @param seed the random seed
+     */
+    public OperatingCharacteristicsAnalyzer(double degradation, long runs, long seed) {
+        this(new ConfigurationResolver(), new OperatingCharacteristicsSimulator(), degradation, runs, seed);
+    }
+
+    OperatingCharacteristicsAnalyzer(ConfigurationResolver resolver, OperatingCharacteristicsSimulator simulator,
+                                     double degradation, long runs, long seed) {
+        if (degradation <= 0.0 || degradation >= 1.0) {
+            throw new IllegalArgumentException("Degradation must be in (0, 1), got: " + degradation);
+        }
+        if (runs < 1) {
+            throw new IllegalArgumentException("Runs must be at least 1, got: " + runs);
+        }
+        this.resolver = resolver;
+        this.simulator = simulator;
+        this.degradation = degradation;
+        this.runs = runs;
+        this.seed = seed;
+    }
+
+    /**
+     * The analysis of one test method.
+     *
+     * @param testName {@code ClassName.methodName}
+     * @param characteristics the simulated characteristics, or null if skipped
+     * @param skipReason why the test was not simulated, or null
+     */
+    public record TestCharacteristics(
+            String testName,
+            OperatingCharacteristics characteristics,
+            String skipReason
+    ) {
+
+        /**
+         * @return true if the test was not simulated
+         */
+        public boolean isSkipped() {
+            return characteristics == null;
+        }
+    }
+
+    /**
+     * Analyzes every probabilistic test in the given compiled class directories.
+     *
+     * @param classDirectories directories of compiled test classes
+     * @param loader the class loader to load test classes with
+     * @return one result per test method, ordered by name
+     */
+    public List<TestCharacteristics> analyze(List<Path> classDirectories, ClassLoader loader) {
+        List<TestCharacteristics> results = new ArrayList<>();
+        for (Path directory : classDirectories) {
+            for (String className : classNames(directory)) {
+                Class<?> testClass;
+                try {
+                    testClass = Class.forName(className, false, loader);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    continue;
+                }
+                results.addAll(analyze(testClass));
+            }
+        }
+        results.sort(Comparator.comparing(TestCharacteristics::testName));
+        return results;
+    }
+
+    /**
+     * Analyzes the probabilistic tests declared by a class.
+     *
+     * @param testClass the test class
+     * @return one result per {@code @ProbabilisticTest} method
+     */
+    public List<TestCharacteristics> analyze(Class<?> testClass) {
+        Method[] methods;
+        try {
+            methods = testClass.getDeclaredMethods();
+        } catch (LinkageError e) {
+            return List.of();
+        }
+        List<TestCharacteristics> results = new ArrayList<>();
+        for (Method method : methods) {
+            if (method.isAnnotationPresent(ProbabilisticTest.class)) {
+                results.add(analyze(method));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Analyzes a single test method.
+     *
+     * @param testMethod the {@code @ProbabilisticTest} method
+     * @return the result
+     */
+    public TestCharacteristics analyze(Method testMethod) {
+        String testName = testMethod.getDeclaringClass().getSimpleName() + "." + testMethod.getName();
+        ProbabilisticTest annotation = testMethod.getAnnotation(ProbabilisticTest.class);
+
+        ResolvedConfiguration config;
+        Optional<ExecutionSpecification> spec;
+        try {
+            config = resolver.resolve(testMethod);
+            spec = resolver.resolveSpecIdFromAnnotation(annotation).flatMap(resolver::loadSpec);
+        } catch (RuntimeException e) {
+            return new TestCharacteristics(testName, null, e.getMessage());
+        }
+
+        TestDesign design;
+        double acceptableRate;
+        if (!Double.isNaN(config.minPassRate())) {
+            design = TestDesign.fixedThreshold(config.samples(), config.minPassRate(), true);
+            acceptableRate = spec.map(ExecutionSpecification::getObservedRate).orElse(config.minPassRate());
+        } else if (spec.isPresent() && spec.get().getBaselineSamples() > 0) {
+            design = TestDesign.derivedFromBaseline(spec.get().getBaselineSamples(), config.samples(),
+                    config.resolvedConfidence(), true);
+            acceptableRate = spec.get().getObservedRate();
+        } else {
+            return new TestCharacteristics(testName, null, "no minPassRate and no baseline spec");
+        }
+
+        double degradedRate = Math.max(0.0, acceptableRate - degradation);
+        return new TestCharacteristics(testName,
+                simulator.characterise(design, acceptableRate, degradedRate, runs, seed), null);
+    }
+
+    private static List<String> classNames(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files
+                    .filter(f -> f.getFileName().toString().endsWith(".class"))
+                    .map(f -> toClassName(directory.relativize(f)))
+                    .filter(name -> !name.endsWith("package-info") && !name.endsWith("module-info"))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan " + directory, e);
+        }
+    }
+
+    static String toClassName(Path relativeClassFile) {
+        String path = relativeClassFile.toString().replace(relativeClassFile.getFileSystem().getSeparator(), ".");
+        return path.substring(0, path.length() - ".class".length());
+    }
+}
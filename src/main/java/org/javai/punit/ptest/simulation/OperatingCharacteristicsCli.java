@@ -0,0 +1,101 @@
+package org.javai.punit.ptest.simulation;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.javai.punit.ptest.simulation.OperatingCharacteristicsAnalyzer.TestCharacteristics;
+import org.javai.punit.statistics.OperatingCharacteristicsSimulator;
+import org.javai.punit.statistics.OperatingCharacteristicsSimulator.OperatingCharacteristics;
+
+/**
+ * Command-line entry point for {@link OperatingCharacteristicsAnalyzer}.
+ *
+ * <pre>
+ * java org.javai.punit.ptest.simulation.OperatingCharacteristicsCli \
+ *     [--runs N] [--degradation D] [--seed S] &lt;classDir&gt;...
+ * </pre>
+ *
+ * <p>Test classes are loaded from the current class path, so it must contain the
+ * compiled tests and their dependencies. The Gradle plugin's
+ * {@code operatingCharacteristics} task sets this up.
+ */
+public final class OperatingCharacteristicsCli {
+
+    static final long DEFAULT_RUNS = 1_000_000;
+    static final double DEFAULT_DEGRADATION = 0.05;
+
+    private OperatingCharacteristicsCli() {
+    }
+
+    public static void main(String[] args) {
+        try {
+            run(args, System.out);
+        } catch (IllegalArgumentException e) {
+            System.err.println("error: " + e.getMessage());
+            System.err.println("usage: OperatingCharacteristicsCli [--runs N] [--degradation D] [--seed S] <classDir>...");
+            System.exit(2);
+        }
+    }
+
+    static void run(String[] args, PrintStream out) {
+        long runs = DEFAULT_RUNS;
+        double degradation = DEFAULT_DEGRADATION;
+        long seed = OperatingCharacteristicsSimulator.DEFAULT_SEED;
+        List<Path> classDirectories = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--runs" -> runs = Long.parseLong(value(args, ++i, "--runs"));
+                case "--degradation" -> degradation = Double.parseDouble(value(args, ++i, "--degradation"));
+                case "--seed" -> seed = Long.parseLong(value(args, ++i, "--seed"));
+                default -> classDirectories.add(Path.of(args[i]));
+            }
+        }
+        if (classDirectories.isEmpty()) {
+            throw new IllegalArgumentException("no class directories given");
+        }
+
+        OperatingCharacteristicsAnalyzer analyzer = new OperatingCharacteristicsAnalyzer(degradation, runs, seed);
+        List<TestCharacteristics> results = analyzer.analyze(classDirectories,
+                Thread.currentThread().getContextClassLoader());
+        print(results, runs, degradation, out);
+    }
+
+    static void print(List<TestCharacteristics> results, long runs, double degradation, PrintStream out) {
+        out.printf("Operating characteristics (%,d runs per rate, degraded = acceptable - %.2f%%)%n%n",
+                runs, degradation * 100);
+        out.printf("%-48s %7s %9s %9s %9s %10s %10s%n",
+                "Test", "n", "p(ok)", "FP rate", "FN rate", "E[n | ok]", "E[n | bad]");
+
+        for (TestCharacteristics result : results) {
+            if (result.isSkipped()) {
+                out.printf("%-48s skipped: %s%n", truncate(result.testName()), result.skipReason());
+                continue;
+            }
+            OperatingCharacteristics oc = result.characteristics();
+            out.printf("%-48s %7d %8.2f%% %8.2f%% %8.2f%% %10.1f %10.1f%n",
+                    truncate(result.testName()),
+                    oc.design().samples(),
+                    oc.acceptable().trueRate() * 100,
+                    oc.falsePositiveRate() * 100,
+                    oc.falseNegativeRate() * 100,
+                    oc.acceptable().meanSamples(),
+                    oc.degraded().meanSamples());
+        }
+        if (results.isEmpty()) {
+            out.println("No @ProbabilisticTest methods found.");
+        }
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(option + " requires a value");
+        }
+        return args[index];
+    }
+
+    private static String truncate(String name) {
+        return name.length() <= 48 ? name : "..." + name.substring(name.length() - 45);
+    }
+}
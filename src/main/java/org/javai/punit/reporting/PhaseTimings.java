@@ -0,0 +1,143 @@
+package org.javai.punit.reporting;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulates where the time of a test or experiment run went.
+ *
+ * <p>The elapsed time of a run alone cannot say how much of it was avoidable. The
+ * extensions split it into four phases:
+ * <ul>
+ *   <li>{@link Phase#USE_CASE} — the sample bodies, i.e. the calls to the system under test</li>
+ *   <li>{@link Phase#PACING} — waiting for pacing delays and pacing pool slots</li>
+ *   <li>{@link Phase#FRAMEWORK} — PUnit's own per-sample work: budget checks, contract
+ *       evaluation, result aggregation and early termination</li>
+ *   <li>{@link Phase#SETUP} — configuration, spec loading and baseline selection</li>
+ * </ul>
+ *
+ * <p>Timings are added from whichever thread runs a sample.
+ */
+public final class PhaseTimings {
+
+    /**
+     * A phase of a run.
+     */
+    public enum Phase {
+        USE_CASE("useCase", "use case"),
+        PACING("pacing", "pacing"),
+        FRAMEWORK("framework", "framework"),
+        SETUP("setup", "setup");
+
+        private final String key;
+        private final String label;
+
+        Phase(String key, String label) {
+            this.key = key;
+            this.label = label;
+        }
+
+        /**
+         * @return the key of the phase in report entries, e.g. {@code useCase}
+         */
+        public String key() {
+            return key;
+        }
+    }
+
+    private final LongAdder[] nanos = new LongAdder[Phase.values().length];
+
+    public PhaseTimings() {
+        for (int i = 0; i < nanos.length; i++) {
+            nanos[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Adds time to a phase.
+     *
+     * @param phase the phase
+     * @param elapsedNanos the time spent, in nanoseconds; negative values are ignored
+     */
+    public void add(Phase phase, long elapsedNanos) {
+        if (elapsedNanos > 0) {
+            nanos[phase.ordinal()].add(elapsedNanos);
+        }
+    }
+
+    /**
+     * Adds the time since a {@link System#nanoTime()} reading to a phase.
+     *
+     * @param phase the phase
+     * @param startNanos the reading taken when the phase began
+     */
+    public void addSince(Phase phase, long startNanos) {
+        add(phase, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns the time spent in a phase.
+     *
+     * @param phase the phase
+     * @return the time in milliseconds
+     */
+    public long millis(Phase phase) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos(phase));
+    }
+
+    /**
+     * Returns the time spent in a phase.
+     *
+     * @param phase the phase
+     * @return the time in nanoseconds
+     */
+    public long nanos(Phase phase) {
+        return nanos[phase.ordinal()].sum();
+    }
+
+    /**
+     * Returns the time spent in all phases.
+     *
+     * @return the total time in nanoseconds
+     */
+    public long totalNanos() {
+        long total = 0;
+        for (LongAdder phase : nanos) {
+            total += phase.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Builds report entries for the phases, named {@code <prefix>.<phase>Ms}.
+     *
+     * @param prefix the entry name prefix, e.g. {@code punit.time}
+     * @return the entries, in phase order
+     */
+    public Map<String, String> reportEntries(String prefix) {
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (Phase phase : Phase.values()) {
+            entries.put(prefix + "." + phase.key() + "Ms", String.valueOf(millis(phase)));
+        }
+        return entries;
+    }
+
+    /**
+     * Formats the phases for the console, with each phase's share of the total.
+     *
+     * @return e.g. {@code "use case 1200ms (60%), pacing 760ms (38%), framework 25ms (1%), setup 15ms (1%)"}
+     */
+    public String summary() {
+        long total = totalNanos();
+        StringJoiner joiner = new StringJoiner(", ");
+        for (Phase phase : Phase.values()) {
+            long phaseNanos = nanos[phase.ordinal()].sum();
+            long share = total == 0 ? 0 : Math.round(100.0 * phaseNanos / total);
+            joiner.add(phase.label + " " + millis(phase) + "ms (" + share + "%)");
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,112 @@
+package org.javai.punit.reporting;
+
+import org.javai.punit.reporting.PhaseTimings.Phase;
+import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
+
+/**
+ * Splits the time of one sample into {@link PhaseTimings phases}.
+ *
+ * <p>The extensions record the sample's pacing wait, its body and any setup it
+ * triggers through the timer, which adds them to the run's timings and keeps its
+ * own tally. {@link #finish()} attributes the rest of the sample's elapsed time to
+ * {@link Phase#FRAMEWORK}. Because the tally is the sample's own, time that
+ * concurrent samples add to the shared timings is never subtracted from it.
+ *
+ * <p>A timer belongs to the thread that runs its sample.
+ */
+public final class SampleTimer {
+
+    private final PhaseTimings timings;
+    private final long startNanos;
+    private final long[] accounted = new long[Phase.values().length];
+
+    private SampleTimer(PhaseTimings timings) {
+        this.timings = timings;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts timing a sample.
+     *
+     * @param timings the run's timings
+     * @return the timer
+     */
+    public static SampleTimer start(PhaseTimings timings) {
+        return new SampleTimer(timings);
+    }
+
+    /**
+     * Adds time this sample spent in a phase.
+     *
+     * @param phase the phase
+     * @param elapsedNanos the time spent, in nanoseconds; negative values are ignored
+     */
+    public void add(Phase phase, long elapsedNanos) {
+        if (elapsedNanos > 0) {
+            accounted[phase.ordinal()] += elapsedNanos;
+            timings.add(phase, elapsedNanos);
+        }
+    }
+
+    /**
+     * Adds the time since a {@link System#nanoTime()} reading to a phase.
+     *
+     * @param phase the phase
+     * @param startNanos the reading taken when the phase began
+     */
+    public void addSince(Phase phase, long startNanos) {
+        add(phase, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns the time this sample has spent in a phase so far.
+     *
+     * @param phase the phase
+     * @return the time in nanoseconds
+     */
+    public long nanos(Phase phase) {
+        return accounted[phase.ordinal()];
+    }
+
+    /**
+     * Wraps a sample so the time spent in its body is counted as use case time.
+     *
+     * @param sample the sample invocation
+     * @return the timed invocation
+     */
+    public Invocation<Void> timeUseCase(Invocation<Void> sample) {
+        return new Invocation<>() {
+            @Override
+            public Void proceed() throws Throwable {
+                long start = System.nanoTime();
+                try {
+                    return sample.proceed();
+                } finally {
+                    addSince(Phase.USE_CASE, start);
+                }
+            }
+
+            @Override
+            public void skip() {
+                sample.skip();
+            }
+        };
+    }
+
+    /**
+     * Ends the sample, attributing the time not spent in another phase to
+     * {@link Phase#FRAMEWORK}.
+     *
+     * @return the framework time, in nanoseconds (never negative)
+     */
+    public long finish() {
+        long elapsed = System.nanoTime() - startNanos;
+        long other = 0;
+        for (long nanos : accounted) {
+            other += nanos;
+        }
+        long framework = Math.max(0, elapsed - other);
+        add(Phase.FRAMEWORK, framework);
+        return framework;
+    }
+}
@@ -0,0 +1,62 @@
+package org.javai.punit.reporting.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Scanning the specs directory and loading the baseline candidates of a use case.
+ */
+@Name(BaselineLoadEvent.NAME)
+@Label("Baseline Load")
+@Category({"PUnit", "Baselines"})
+@Description("Scanning for and loading the baseline candidates of a use case")
+@StackTrace(false)
+public final class BaselineLoadEvent extends Event {
+
+    static final String NAME = "org.javai.punit.BaselineLoad";
+
+    @Label("Use Case")
+    String useCaseId;
+
+    @Label("Footprint")
+    @Description("The footprint candidates had to match, if any")
+    String footprint;
+
+    @Label("Candidates")
+    int candidates;
+
+    private BaselineLoadEvent() {
+    }
+
+    /**
+     * Starts timing a baseline load.
+     *
+     * @return the started event
+     */
+    public static BaselineLoadEvent start() {
+        BaselineLoadEvent event = new BaselineLoadEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the load and commits the event if it is being recorded.
+     *
+     * @param useCaseId the use case whose baselines were loaded
+     * @param footprint the footprint candidates had to match, or null
+     * @param candidates the number of candidates found
+     */
+    public void complete(String useCaseId, String footprint, int candidates) {
+        end();
+        if (shouldCommit()) {
+            this.useCaseId = useCaseId;
+            this.footprint = footprint;
+            this.candidates = candidates;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.javai.punit.reporting.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Resolving a test's covariates and selecting the baseline it is tested against.
+ */
+@Name(BaselineSelectionEvent.NAME)
+@Label("Baseline Selection")
+@Category({"PUnit", "Baselines"})
+@Description("Resolving covariates and selecting a baseline for a probabilistic test")
+@StackTrace(false)
+public final class BaselineSelectionEvent extends Event {
+
+    static final String NAME = "org.javai.punit.BaselineSelection";
+
+    @Label("Spec")
+    String specId;
+
+    @Label("Selected")
+    @Description("File name of the selected baseline; empty if none was selected")
+    String selected;
+
+    @Label("Candidates")
+    int candidates;
+
+    @Label("Ambiguous")
+    boolean ambiguous;
+
+    private BaselineSelectionEvent() {
+    }
+
+    /**
+     * Starts timing a baseline selection.
+     *
+     * @return the started event
+     */
+    public static BaselineSelectionEvent start() {
+        BaselineSelectionEvent event = new BaselineSelectionEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the selection and commits the event if it is being recorded.
+     *
+     * @param specId the spec a baseline was selected for
+     * @param selected the selected baseline's file name, or null if none was selected
+     * @param candidates the number of candidates considered
+     * @param ambiguous whether several candidates were equally suitable
+     */
+    public void complete(String specId, String selected, int candidates, boolean ambiguous) {
+        end();
+        if (shouldCommit()) {
+            this.specId = specId;
+            this.selected = selected != null ? selected : "";
+            this.candidates = candidates;
+            this.ambiguous = ambiguous;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.javai.punit.reporting.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A check of the suite, class and method budgets around a sample.
+ */
+@Name(BudgetCheckEvent.NAME)
+@Label("Budget Check")
+@Category({"PUnit", "Budgets"})
+@Description("A budget check before or after a sample, and the budget it found exhausted, if any")
+@StackTrace(false)
+public final class BudgetCheckEvent extends Event {
+
+    static final String NAME = "org.javai.punit.BudgetCheck";
+
+    /** Phase of a check made before a sample runs. */
+    public static final String BEFORE_SAMPLE = "before-sample";
+
+    /** Phase of a check made after a sample has recorded its tokens. */
+    public static final String AFTER_SAMPLE = "after-sample";
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Policy")
+    String policy;
+
+    @Label("Elapsed")
+    @Description("Time elapsed against the method's time budget")
+    @Timespan(Timespan.MILLISECONDS)
+    long elapsed;
+
+    @Label("Tokens Consumed")
+    @Description("Tokens consumed against the method's token budget")
+    long tokensConsumed;
+
+    @Label("Exhausted")
+    boolean exhausted;
+
+    @Label("Termination Reason")
+    String terminationReason;
+
+    private BudgetCheckEvent() {
+    }
+
+    /**
+     * Starts timing a budget check.
+     *
+     * @return the started event
+     */
+    public static BudgetCheckEvent start() {
+        BudgetCheckEvent event = new BudgetCheckEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the check and commits the event if it is being recorded.
+     *
+     * @param phase {@link #BEFORE_SAMPLE} or {@link #AFTER_SAMPLE}
+     * @param policy the budget policy in effect
+     * @param elapsedMs time elapsed against the method's time budget
+     * @param tokensConsumed tokens consumed against the method's token budget
+     * @param terminationReason the exhausted budget's termination reason, or null
+     */
+    public void complete(String phase, String policy, long elapsedMs, long tokensConsumed,
+            String terminationReason) {
+        end();
+        if (shouldCommit()) {
+            this.phase = phase;
+            this.policy = policy;
+            this.elapsed = elapsedMs;
+            this.tokensConsumed = tokensConsumed;
+            this.exhausted = terminationReason != null;
+            this.terminationReason = terminationReason;
+            commit();
+        }
+    }
+}
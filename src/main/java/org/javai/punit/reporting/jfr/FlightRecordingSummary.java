@@ -0,0 +1,181 @@
+package org.javai.punit.reporting.jfr;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Summarises the PUnit events of a flight recording.
+ *
+ * <p>For each event type the summary gives the number of events and the total, 95th
+ * percentile and maximum duration, which shows at a glance whether a slow run spent
+ * its time sampling, pacing, loading baselines or writing output. It also counts
+ * sample outcomes and tokens, and lists the budgets that were exhausted.
+ *
+ * <p>Events of other types in the recording are ignored.
+ */
+public final class FlightRecordingSummary {
+
+    private static final String PREFIX = "org.javai.punit.";
+
+    private final Map<String, Timings> timings = new TreeMap<>();
+    private final Map<String, Integer> outcomes = new TreeMap<>();
+    private final Map<String, Integer> exhaustions = new TreeMap<>();
+    private long tokens;
+
+    private FlightRecordingSummary() {
+    }
+
+    /**
+     * Reads the PUnit events of a recording.
+     *
+     * @param recording the recording file
+     * @return the summary
+     * @throws IOException if the recording cannot be read
+     */
+    public static FlightRecordingSummary read(Path recording) throws IOException {
+        FlightRecordingSummary summary = new FlightRecordingSummary();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                summary.add(file.readEvent());
+            }
+        }
+        return summary;
+    }
+
+    private void add(RecordedEvent event) {
+        String name = event.getEventType().getName();
+        if (!name.startsWith(PREFIX)) {
+            return;
+        }
+        timings.computeIfAbsent(name.substring(PREFIX.length()), key -> new Timings())
+                .add(event.getDuration());
+        switch (name) {
+            case SampleEvent.NAME -> {
+                outcomes.merge(event.getString("outcome"), 1, Integer::sum);
+                tokens += event.getLong("tokens");
+            }
+            case BudgetCheckEvent.NAME -> {
+                if (event.getBoolean("exhausted")) {
+                    exhaustions.merge(event.getString("terminationReason"), 1, Integer::sum);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Returns the number of events of a type.
+     *
+     * @param type the event name without the {@code org.javai.punit.} prefix, e.g. {@code Sample}
+     * @return the number of events
+     */
+    public int count(String type) {
+        Timings timing = timings.get(type);
+        return timing != null ? timing.durations.size() : 0;
+    }
+
+    /**
+     * Returns the total duration of the events of a type.
+     *
+     * @param type the event name without the {@code org.javai.punit.} prefix
+     * @return the total duration
+     */
+    public Duration total(String type) {
+        Timings timing = timings.get(type);
+        return timing != null ? timing.total : Duration.ZERO;
+    }
+
+    /**
+     * Returns the number of samples with each outcome.
+     *
+     * @return outcomes and their counts
+     */
+    public Map<String, Integer> sampleOutcomes() {
+        return Collections.unmodifiableMap(outcomes);
+    }
+
+    /**
+     * Returns the tokens consumed by all samples.
+     *
+     * @return the total tokens
+     */
+    public long sampleTokens() {
+        return tokens;
+    }
+
+    /**
+     * Returns the number of budget checks that found a budget exhausted, by termination reason.
+     *
+     * @return termination reasons and their counts
+     */
+    public Map<String, Integer> budgetExhaustions() {
+        return Collections.unmodifiableMap(exhaustions);
+    }
+
+    /**
+     * Prints the summary.
+     *
+     * @param out the stream to print to
+     */
+    public void print(PrintStream out) {
+        if (timings.isEmpty()) {
+            out.println("No PUnit events in the recording.");
+            return;
+        }
+        out.printf("%-20s %8s %12s %12s %12s%n", "Event", "Count", "Total ms", "p95 ms", "Max ms");
+        timings.forEach((type, timing) -> out.printf("%-20s %8d %12.1f %12.1f %12.1f%n",
+                type, timing.durations.size(), millis(timing.total),
+                millis(timing.percentile(0.95)), millis(timing.max())));
+
+        if (!outcomes.isEmpty()) {
+            out.println();
+            Map<String, Object> samples = new LinkedHashMap<>(outcomes);
+            samples.put("tokens", tokens);
+            out.println("Samples: " + samples);
+        }
+        if (!exhaustions.isEmpty()) {
+            out.println("Budgets exhausted: " + exhaustions);
+        }
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    /**
+     * Durations of the events of one type.
+     */
+    private static final class Timings {
+
+        private final List<Duration> durations = new ArrayList<>();
+        private Duration total = Duration.ZERO;
+
+        void add(Duration duration) {
+            durations.add(duration);
+            total = total.plus(duration);
+        }
+
+        Duration percentile(double p) {
+            Duration[] sorted = durations.toArray(Duration[]::new);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(p * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+
+        Duration max() {
+            return Collections.max(durations);
+        }
+    }
+}
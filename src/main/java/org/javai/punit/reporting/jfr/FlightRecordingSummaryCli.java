@@ -0,0 +1,49 @@
+package org.javai.punit.reporting.jfr;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Command-line entry point for {@link FlightRecordingSummary}.
+ *
+ * <pre>
+ * java org.javai.punit.reporting.jfr.FlightRecordingSummaryCli &lt;recording.jfr&gt;...
+ * </pre>
+ *
+ * <p>Prints a summary of each recording, for instance one written by a CI test run
+ * started with {@code -XX:StartFlightRecording=filename=punit.jfr}.
+ */
+public final class FlightRecordingSummaryCli {
+
+    private FlightRecordingSummaryCli() {
+    }
+
+    public static void main(String[] args) {
+        try {
+            run(args, System.out);
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            System.err.println("error: " + e.getMessage());
+            System.err.println("usage: FlightRecordingSummaryCli <recording.jfr>...");
+            System.exit(2);
+        }
+    }
+
+    static void run(String[] args, PrintStream out) {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("no recordings given");
+        }
+        for (String arg : args) {
+            Path recording = Path.of(arg);
+            if (args.length > 1) {
+                out.println("== " + recording);
+            }
+            try {
+                FlightRecordingSummary.read(recording).print(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException("cannot read " + recording + ": " + e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.javai.punit.reporting.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Time a sample spent waiting for pacing before it ran.
+ */
+@Name(PacingWaitEvent.NAME)
+@Label("Pacing Wait")
+@Category({"PUnit", "Pacing"})
+@Description("Time spent waiting for a pacing delay or a pacing pool slot")
+@StackTrace(false)
+public final class PacingWaitEvent extends Event {
+
+    static final String NAME = "org.javai.punit.PacingWait";
+
+    @Label("Pool")
+    @Description("The shared pacing pool, if the wait was for a pool slot")
+    String pool;
+
+    @Label("Configured Delay")
+    @Timespan(Timespan.MILLISECONDS)
+    long configuredDelay;
+
+    private PacingWaitEvent() {
+    }
+
+    /**
+     * Starts timing a pacing wait.
+     *
+     * @return the started event
+     */
+    public static PacingWaitEvent start() {
+        PacingWaitEvent event = new PacingWaitEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the wait and commits the event if it is being recorded.
+     *
+     * @param pool the pacing pool waited on, or null for a per-test delay
+     * @param configuredDelayMs the configured minimum delay between samples
+     */
+    public void complete(String pool, long configuredDelayMs) {
+        end();
+        if (shouldCommit()) {
+            this.pool = pool;
+            this.configuredDelay = configuredDelayMs;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.javai.punit.reporting.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One sample of a probabilistic test or experiment.
+ *
+ * <p>The event's duration covers the sample body and PUnit's bookkeeping for it
+ * (budget checks, result recording, early termination), but not the pacing wait
+ * before it, which is a {@link PacingWaitEvent}.
+ */
+@Name(SampleEvent.NAME)
+@Label("Sample")
+@Category({"PUnit", "Samples"})
+@Description("One sample of a probabilistic test or experiment")
+@StackTrace(false)
+public final class SampleEvent extends Event {
+
+    static final String NAME = "org.javai.punit.Sample";
+
+    /** Outcome of a sample that was recorded as a success. */
+    public static final String SUCCESS = "success";
+
+    /** Outcome of a sample that was recorded as a failure. */
+    public static final String FAILURE = "failure";
+
+    /** Outcome of a sample that ran but was not recorded, such as one refused by a budget. */
+    public static final String NOT_RECORDED = "not-recorded";
+
+    @Label("Mode")
+    @Description("TEST, MEASURE, EXPLORE, OPTIMIZE or COMPARE")
+    String mode;
+
+    @Label("Test Class")
+    Class<?> testClass;
+
+    @Label("Test Method")
+    String testMethod;
+
+    @Label("Sample Index")
+    int sampleIndex;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Tokens")
+    @Description("Tokens consumed by the sample")
+    long tokens;
+
+    private SampleEvent() {
+    }
+
+    /**
+     * Starts timing a sample.
+     *
+     * @return the started event
+     */
+    public static SampleEvent start() {
+        SampleEvent event = new SampleEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the sample and commits the event if it is being recorded.
+     *
+     * @param mode the execution mode
+     * @param testClass the class declaring the test or experiment
+     * @param testMethod the test or experiment method name
+     * @param sampleIndex the 1-based index of the sample
+     * @param outcome {@link #SUCCESS}, {@link #FAILURE} or {@link #NOT_RECORDED}
+     * @param tokens the tokens the sample consumed
+     */
+    public void complete(String mode, Class<?> testClass, String testMethod,
+            int sampleIndex, String outcome, long tokens) {
+        end();
+        if (shouldCommit()) {
+            this.mode = mode;
+            this.testClass = testClass;
+            this.testMethod = testMethod;
+            this.sampleIndex = sampleIndex;
+            this.outcome = outcome;
+            this.tokens = tokens;
+            commit();
+        }
+    }
+
+    /**
+     * Classifies a sample by how it changed its run's success and failure counts.
+     *
+     * @param successesAdded successes recorded by the sample
+     * @param failuresAdded failures recorded by the sample
+     * @return the sample's outcome
+     */
+    public static String outcome(int successesAdded, int failuresAdded) {
+        if (successesAdded > 0) {
+            return SUCCESS;
+        }
+        return failuresAdded > 0 ? FAILURE : NOT_RECORDED;
+    }
+}
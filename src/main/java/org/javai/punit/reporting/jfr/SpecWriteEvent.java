@@ -0,0 +1,63 @@
+package org.javai.punit.reporting.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Writing a spec or other experiment output file.
+ */
+@Name(SpecWriteEvent.NAME)
+@Label("Spec Write")
+@Category({"PUnit", "Output"})
+@Description("Writing a spec, sidecar or other experiment output file")
+@StackTrace(false)
+public final class SpecWriteEvent extends Event {
+
+    static final String NAME = "org.javai.punit.SpecWrite";
+
+    @Label("Path")
+    String path;
+
+    @Label("Size")
+    @DataAmount
+    long size;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    private SpecWriteEvent() {
+    }
+
+    /**
+     * Starts timing a write.
+     *
+     * @return the started event
+     */
+    public static SpecWriteEvent start() {
+        SpecWriteEvent event = new SpecWriteEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the write and commits the event if it is being recorded.
+     *
+     * @param path the file written
+     * @param size the size of the file written, in bytes
+     * @param succeeded whether the file was written
+     */
+    public void complete(String path, long size, boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.path = path;
+            this.size = size;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
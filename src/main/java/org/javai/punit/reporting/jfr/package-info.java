@@ -0,0 +1,23 @@
+/**
+ * JDK Flight Recorder events for PUnit runs.
+ *
+ * <p>A slow probabilistic suite may spend its time in the use case, in pacing
+ * waits, in loading and selecting baselines or in writing specs. These events
+ * let a flight recording answer which:
+ * <ul>
+ *   <li>{@link SampleEvent} - One sample of a test or experiment, with its outcome and tokens</li>
+ *   <li>{@link PacingWaitEvent} - Time spent waiting for a pacing delay or pool slot</li>
+ *   <li>{@link BudgetCheckEvent} - A budget check, and whether it exhausted a budget</li>
+ *   <li>{@link BaselineLoadEvent} - Scanning and loading the baseline candidates of a use case</li>
+ *   <li>{@link BaselineSelectionEvent} - Resolving covariates and selecting a baseline</li>
+ *   <li>{@link SpecWriteEvent} - Writing an output file</li>
+ * </ul>
+ *
+ * <p>The events are disabled unless a recording enables them, and cost little when
+ * enabled, so they can be left on in CI:
+ * <pre>
+ * -XX:StartFlightRecording=filename=punit.jfr,settings=profile
+ * </pre>
+ * {@link FlightRecordingSummaryCli} summarises a recording's PUnit events.
+ */
+package org.javai.punit.reporting.jfr;
@@ -0,0 +1,62 @@
+package org.javai.punit.reporting.metrics;
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A cumulative histogram of durations, in seconds, with fixed bucket bounds.
+ */
+final class Histogram {
+
+    /** Upper bounds of the buckets, in seconds; a final {@code +Inf} bucket is implied. */
+    static final double[] BOUNDS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60};
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS.length];
+    private final LongAdder count = new LongAdder();
+    private final DoubleAdder sum = new DoubleAdder();
+
+    Histogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    void observe(long nanos) {
+        double seconds = nanos / 1e9;
+        for (int i = 0; i < BOUNDS.length; i++) {
+            if (seconds <= BOUNDS[i]) {
+                buckets[i].increment();
+                break;
+            }
+        }
+        count.increment();
+        sum.add(seconds);
+    }
+
+    /**
+     * Returns the number of observations at or below a bucket's bound.
+     *
+     * @param bucket the bucket index into {@link #BOUNDS}
+     * @return the cumulative count
+     */
+    long cumulativeCount(int bucket) {
+        long total = 0;
+        for (int i = 0; i <= bucket; i++) {
+            total += buckets[i].sum();
+        }
+        return total;
+    }
+
+    long count() {
+        return count.sum();
+    }
+
+    double sum() {
+        return sum.sum();
+    }
+}
@@ -0,0 +1,369 @@
+package org.javai.punit.reporting.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Collects run metrics and writes them periodically as a Prometheus text file.
+ *
+ * <p>Intended for the node-exporter textfile collector, so that throughput, cost
+ * burn-rate and provider latency can be tracked across builds without parsing logs.
+ * The registry keeps, per kind of run ({@code TEST}, {@code MEASURE}, ...) and use case:
+ * <ul>
+ *   <li>counters of samples, successes, failures and tokens</li>
+ *   <li>histograms of sample latency and pacing wait</li>
+ * </ul>
+ * and gauges of the remaining token and time budget of each class and suite budget.
+ *
+ * <p>Metrics are collected only when {@code -Dpunit.metrics.file} (or
+ * {@code PUNIT_METRICS_FILE}) names a file. The file is rewritten atomically every
+ * {@code punit.metrics.intervalMs} milliseconds (default {@value #DEFAULT_INTERVAL_MS})
+ * and once more when the JVM exits. A {@code {pid}} in the name is replaced with the
+ * process id, and every series then carries a {@code pid} label so that the files of
+ * forked test JVMs can be collected side by side.
+ */
+public final class MetricsRegistry {
+
+    /** System property naming the metrics file. */
+    public static final String PROP_FILE = "punit.metrics.file";
+
+    /** Environment variable naming the metrics file. */
+    public static final String ENV_FILE = "PUNIT_METRICS_FILE";
+
+    /** System property for the interval between writes. */
+    public static final String PROP_INTERVAL = "punit.metrics.intervalMs";
+
+    static final long DEFAULT_INTERVAL_MS = 15_000;
+
+    private static final Logger logger = LogManager.getLogger(MetricsRegistry.class);
+    private static final MetricsRegistry DISABLED = new MetricsRegistry(false, null);
+
+    private static volatile MetricsRegistry shared;
+
+    private final boolean enabled;
+    private final String pid;
+    private final Map<Series, SeriesMetrics> series = new ConcurrentSkipListMap<>();
+    private final Map<Budget, BudgetGauges> budgets = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for testing.
+     *
+     * @param enabled whether metrics are collected
+     * @param pid the value of the {@code pid} label, or {@code null} for none
+     */
+    MetricsRegistry(boolean enabled, String pid) {
+        this.enabled = enabled;
+        this.pid = pid;
+    }
+
+    /**
+     * Returns the JVM-wide registry, starting its file writer on first use if a file
+     * is configured.
+     *
+     * @return the shared registry; disabled if no file is configured
+     */
+    public static MetricsRegistry shared() {
+        MetricsRegistry registry = shared;
+        if (registry == null) {
+            synchronized (MetricsRegistry.class) {
+                registry = shared;
+                if (registry == null) {
+                    registry = open();
+                    shared = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    private static MetricsRegistry open() {
+        String name = System.getProperty(PROP_FILE);
+        if (name == null || name.isBlank()) {
+            name = System.getenv(ENV_FILE);
+        }
+        if (name == null || name.isBlank()) {
+            return DISABLED;
+        }
+        String processId = String.valueOf(ProcessHandle.current().pid());
+        boolean perProcess = name.contains("{pid}");
+        Path file = Path.of(name.trim().replace("{pid}", processId));
+        MetricsRegistry registry = new MetricsRegistry(true, perProcess ? processId : null);
+
+        long intervalMs = resolveInterval();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "punit-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> registry.writeQuietly(file),
+                intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            scheduler.shutdownNow();
+            registry.writeQuietly(file);
+        }, "punit-metrics-final-write"));
+        return registry;
+    }
+
+    private static long resolveInterval() {
+        String value = System.getProperty(PROP_INTERVAL);
+        if (value == null || value.isBlank()) {
+            return DEFAULT_INTERVAL_MS;
+        }
+        try {
+            return Math.max(100, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            logger.warn("Ignoring invalid {}: {}", PROP_INTERVAL, value);
+            return DEFAULT_INTERVAL_MS;
+        }
+    }
+
+    /**
+     * Returns whether metrics are collected.
+     *
+     * @return true if a metrics file is configured
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records a sample.
+     *
+     * @param kind {@code TEST}, {@code MEASURE}, {@code EXPLORE}, {@code OPTIMIZE} or {@code COMPARE}
+     * @param useCase the use case id
+     * @param succeeded true if the sample succeeded, false if it failed, {@code null} if it was not recorded
+     * @param latencyNanos the time spent in the sample body
+     * @param tokens the tokens the sample consumed
+     */
+    public void recordSample(String kind, String useCase, Boolean succeeded, long latencyNanos, long tokens) {
+        if (!enabled) {
+            return;
+        }
+        SeriesMetrics metrics = metrics(kind, useCase);
+        metrics.samples.increment();
+        if (succeeded != null) {
+            (succeeded ? metrics.successes : metrics.failures).increment();
+        }
+        if (tokens > 0) {
+            metrics.tokens.add(tokens);
+        }
+        metrics.latency.observe(latencyNanos);
+    }
+
+    /**
+     * Records a wait for pacing before a sample.
+     *
+     * @param kind the kind of run, as for {@link #recordSample}
+     * @param useCase the use case id
+     * @param waitNanos the time waited
+     */
+    public void recordPacingWait(String kind, String useCase, long waitNanos) {
+        if (!enabled) {
+            return;
+        }
+        metrics(kind, useCase).pacingWait.observe(waitNanos);
+    }
+
+    /**
+     * Tracks the remaining amount of a budget.
+     *
+     * <p>The suppliers are read each time the file is written. Either may return
+     * {@link Long#MAX_VALUE} for a budget without that limit, which is not reported.
+     * Tracking the same budget again has no effect.
+     *
+     * @param scope {@code class} or {@code suite}
+     * @param owner the class owning a class budget; empty for the suite
+     * @param remainingTokens the remaining token budget
+     * @param remainingTimeMs the remaining time budget, in milliseconds
+     */
+    public void trackBudget(String scope, String owner, LongSupplier remainingTokens, LongSupplier remainingTimeMs) {
+        if (!enabled) {
+            return;
+        }
+        budgets.putIfAbsent(new Budget(scope, owner), new BudgetGauges(remainingTokens, remainingTimeMs));
+    }
+
+    /**
+     * Renders the metrics in the Prometheus text exposition format, ending with
+     * {@code # EOF}.
+     *
+     * @return the exposition text
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder();
+        counter(out, "punit_samples_total", "Samples run.", m -> m.samples);
+        counter(out, "punit_sample_successes_total", "Samples that succeeded.", m -> m.successes);
+        counter(out, "punit_sample_failures_total", "Samples that failed.", m -> m.failures);
+        counter(out, "punit_tokens_total", "Tokens consumed by samples.", m -> m.tokens);
+        histogram(out, "punit_sample_latency_seconds", "Time spent in sample bodies.", m -> m.latency);
+        histogram(out, "punit_pacing_wait_seconds", "Time spent waiting for pacing before samples.",
+                m -> m.pacingWait);
+        gauge(out, "punit_budget_remaining_tokens", "Remaining token budget.", 1, BudgetGauges::remainingTokens);
+        gauge(out, "punit_budget_remaining_seconds", "Remaining time budget.", 1000, BudgetGauges::remainingTimeMs);
+        out.append("# EOF\n");
+        return out.toString();
+    }
+
+    /**
+     * Writes the metrics to a file, replacing it atomically.
+     *
+     * @param file the metrics file
+     * @throws IOException if writing fails
+     */
+    public void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + "." + ProcessHandle.current().pid() + ".tmp");
+        Files.writeString(temp, scrape(), StandardCharsets.UTF_8);
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void writeQuietly(Path file) {
+        try {
+            write(file);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Metrics file {} could not be written: {}", file, e.getMessage());
+        }
+    }
+
+    private SeriesMetrics metrics(String kind, String useCase) {
+        return series.computeIfAbsent(new Series(kind, useCase != null ? useCase : ""), key -> new SeriesMetrics());
+    }
+
+    private void counter(StringBuilder out, String name, String help,
+                         Function<SeriesMetrics, LongAdder> value) {
+        header(out, name, help, "counter");
+        series.forEach((key, metrics) ->
+                out.append(name).append(labels(key, null)).append(' ').append(value.apply(metrics).sum()).append('\n'));
+    }
+
+    private void histogram(StringBuilder out, String name, String help,
+                           Function<SeriesMetrics, Histogram> value) {
+        header(out, name, help, "histogram");
+        series.forEach((key, metrics) -> {
+            Histogram histogram = value.apply(metrics);
+            long count = histogram.count();
+            if (count == 0) {
+                return;
+            }
+            for (int i = 0; i < Histogram.BOUNDS.length; i++) {
+                out.append(name).append("_bucket").append(labels(key, String.valueOf(Histogram.BOUNDS[i])))
+                        .append(' ').append(Math.min(count, histogram.cumulativeCount(i))).append('\n');
+            }
+            out.append(name).append("_bucket").append(labels(key, "+Inf")).append(' ').append(count).append('\n');
+            out.append(name).append("_sum").append(labels(key, null)).append(' ')
+                    .append(format(histogram.sum())).append('\n');
+            out.append(name).append("_count").append(labels(key, null)).append(' ').append(count).append('\n');
+        });
+    }
+
+    private void gauge(StringBuilder out, String name, String help, long divisor,
+                       ToLongFunction<BudgetGauges> value) {
+        header(out, name, help, "gauge");
+        budgets.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    long remaining = value.applyAsLong(entry.getValue());
+                    if (remaining == Long.MAX_VALUE) {
+                        return;
+                    }
+                    Budget budget = entry.getKey();
+                    out.append(name).append('{');
+                    appendPid(out);
+                    out.append("scope=\"").append(escape(budget.scope()))
+                            .append("\",owner=\"").append(escape(budget.owner())).append("\"} ")
+                            .append(divisor == 1 ? String.valueOf(remaining) : format((double) remaining / divisor))
+                            .append('\n');
+                });
+    }
+
+    private static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private String labels(Series key, String le) {
+        StringBuilder labels = new StringBuilder("{");
+        appendPid(labels);
+        labels.append("kind=\"").append(escape(key.kind()))
+                .append("\",use_case=\"").append(escape(key.useCase())).append('"');
+        if (le != null) {
+            labels.append(",le=\"").append(le).append('"');
+        }
+        return labels.append('}').toString();
+    }
+
+    private void appendPid(StringBuilder out) {
+        if (pid != null) {
+            out.append("pid=\"").append(pid).append("\",");
+        }
+    }
+
+    static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String format(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return String.valueOf((long) value);
+        }
+        return String.valueOf(value);
+    }
+
+    private record Series(String kind, String useCase) implements Comparable<Series> {
+        @Override
+        public int compareTo(Series other) {
+            int byKind = kind.compareTo(other.kind);
+            return byKind != 0 ? byKind : useCase.compareTo(other.useCase);
+        }
+    }
+
+    private record Budget(String scope, String owner) implements Comparable<Budget> {
+        @Override
+        public int compareTo(Budget other) {
+            int byScope = scope.compareTo(other.scope);
+            return byScope != 0 ? byScope : owner.compareTo(other.owner);
+        }
+    }
+
+    private record BudgetGauges(LongSupplier tokens, LongSupplier timeMs) {
+        long remainingTokens() {
+            return tokens.getAsLong();
+        }
+
+        long remainingTimeMs() {
+            return timeMs.getAsLong();
+        }
+    }
+
+    private static final class SeriesMetrics {
+        final LongAdder samples = new LongAdder();
+        final LongAdder successes = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder tokens = new LongAdder();
+        final Histogram latency = new Histogram();
+        final Histogram pacingWait = new Histogram();
+    }
+}
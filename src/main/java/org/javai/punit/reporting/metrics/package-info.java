@@ -0,0 +1,9 @@
+/**
+ * Run metrics in the Prometheus text exposition format.
+ *
+ * <p>{@link MetricsRegistry} counts samples, successes, failures and tokens per use
+ * case, keeps histograms of sample latency and pacing wait, reads the remaining class
+ * and suite budgets, and periodically writes all of it to the file named by
+ * {@code -Dpunit.metrics.file} for the node-exporter textfile collector.
+ */
+package org.javai.punit.reporting.metrics;
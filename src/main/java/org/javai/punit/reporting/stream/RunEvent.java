@@ -0,0 +1,167 @@
+package org.javai.punit.reporting.stream;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.javai.punit.statistics.BinomialProportionEstimator;
+import org.javai.punit.statistics.ProportionEstimate;
+
+/**
+ * An event of a probabilistic test or experiment, written to the {@link RunStream}.
+ *
+ * <p>Each event becomes one JSON object on one line. Field names and their order are
+ * part of the stream's schema ({@value RunStream#SCHEMA}); fields without a value are
+ * omitted. Derived values (pass rate, confidence bounds, projected completion) are
+ * computed when the event is written, off the thread that ran the sample.
+ */
+public sealed interface RunEvent permits RunEvent.Started, RunEvent.Sample, RunEvent.Finished {
+
+    /** Confidence level of the {@code ciLower}/{@code ciUpper} bounds. */
+    double CONFIDENCE = 0.95;
+
+    /**
+     * @return when the event happened
+     */
+    Instant timestamp();
+
+    /**
+     * Returns the event's fields in schema order.
+     *
+     * @return the fields, starting with {@code event} and {@code ts}
+     */
+    Map<String, Object> fields();
+
+    /**
+     * A test or experiment started.
+     *
+     * @param timestamp when it started
+     * @param kind {@code TEST}, {@code MEASURE}, {@code EXPLORE}, {@code OPTIMIZE} or {@code COMPARE}
+     * @param testClass the test class name
+     * @param method the test method name
+     * @param samplesPlanned the number of samples planned
+     * @param minPassRate the required pass rate, or {@code NaN} if there is none
+     */
+    record Started(Instant timestamp, String kind, String testClass, String method,
+                   int samplesPlanned, double minPassRate) implements RunEvent {
+
+        @Override
+        public Map<String, Object> fields() {
+            Map<String, Object> fields = header("started", timestamp, kind, testClass, method);
+            fields.put("samplesPlanned", samplesPlanned);
+            putRate(fields, "minPassRate", minPassRate);
+            return fields;
+        }
+    }
+
+    /**
+     * A sample finished.
+     *
+     * @param timestamp when it finished
+     * @param kind the kind of run, as for {@link Started}
+     * @param testClass the test class name
+     * @param method the test method name
+     * @param sample the sample's 1-based number
+     * @param outcome {@code success}, {@code failure} or {@code not-recorded}
+     * @param successes the successes recorded so far
+     * @param failures the failures recorded so far
+     * @param samplesPlanned the number of samples planned
+     * @param latencyMs the time spent in the sample body
+     * @param tokens the tokens the sample consumed
+     * @param totalTokens the tokens consumed so far
+     * @param elapsedMs the time since the run started
+     */
+    record Sample(Instant timestamp, String kind, String testClass, String method,
+                  int sample, String outcome, int successes, int failures, int samplesPlanned,
+                  long latencyMs, long tokens, long totalTokens, long elapsedMs) implements RunEvent {
+
+        @Override
+        public Map<String, Object> fields() {
+            Map<String, Object> fields = header("sample", timestamp, kind, testClass, method);
+            fields.put("sample", sample);
+            fields.put("outcome", outcome);
+            fields.put("successes", successes);
+            fields.put("failures", failures);
+            fields.put("samplesPlanned", samplesPlanned);
+            putEstimate(fields, successes, failures);
+            fields.put("latencyMs", latencyMs);
+            fields.put("tokens", tokens);
+            fields.put("totalTokens", totalTokens);
+            fields.put("elapsedMs", elapsedMs);
+            int executed = successes + failures;
+            int remaining = samplesPlanned - executed;
+            if (executed > 0 && remaining > 0) {
+                long remainingMs = Math.round((double) elapsedMs / executed * remaining);
+                fields.put("projectedCompletion", timestamp.plus(Duration.ofMillis(remainingMs)).toString());
+            }
+            return fields;
+        }
+    }
+
+    /**
+     * A test or experiment finished.
+     *
+     * @param timestamp when it finished
+     * @param kind the kind of run, as for {@link Started}
+     * @param testClass the test class name
+     * @param method the test method name
+     * @param verdict {@code PASS} or {@code FAIL} for tests; {@code null} for experiments
+     * @param successes the successes recorded
+     * @param failures the failures recorded
+     * @param samplesPlanned the number of samples planned
+     * @param elapsedMs the duration of the run
+     * @param totalTokens the tokens consumed
+     * @param terminationReason why the run ended, or {@code null}
+     */
+    record Finished(Instant timestamp, String kind, String testClass, String method,
+                    String verdict, int successes, int failures, int samplesPlanned,
+                    long elapsedMs, long totalTokens, String terminationReason) implements RunEvent {
+
+        @Override
+        public Map<String, Object> fields() {
+            Map<String, Object> fields = header("finished", timestamp, kind, testClass, method);
+            if (verdict != null) {
+                fields.put("verdict", verdict);
+            }
+            fields.put("samplesExecuted", successes + failures);
+            fields.put("successes", successes);
+            fields.put("failures", failures);
+            fields.put("samplesPlanned", samplesPlanned);
+            putEstimate(fields, successes, failures);
+            fields.put("elapsedMs", elapsedMs);
+            fields.put("totalTokens", totalTokens);
+            if (terminationReason != null) {
+                fields.put("terminationReason", terminationReason);
+            }
+            return fields;
+        }
+    }
+
+    private static Map<String, Object> header(String event, Instant timestamp, String kind,
+                                              String testClass, String method) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("event", event);
+        fields.put("ts", timestamp.toString());
+        fields.put("kind", kind);
+        fields.put("class", testClass);
+        fields.put("method", method);
+        return fields;
+    }
+
+    private static void putEstimate(Map<String, Object> fields, int successes, int failures) {
+        int trials = successes + failures;
+        if (trials == 0) {
+            return;
+        }
+        ProportionEstimate estimate = new BinomialProportionEstimator().estimate(successes, trials, CONFIDENCE);
+        putRate(fields, "passRate", estimate.pointEstimate());
+        putRate(fields, "ciLower", estimate.lowerBound());
+        putRate(fields, "ciUpper", estimate.upperBound());
+    }
+
+    private static void putRate(Map<String, Object> fields, String name, double rate) {
+        if (!Double.isNaN(rate)) {
+            fields.put(name, Math.round(rate * 10_000) / 10_000.0);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package org.javai.punit.reporting.stream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Appends the events of a run to a newline-delimited JSON file as they happen.
+ *
+ * <p>Results otherwise surface only when a test or experiment ends. The stream lets a
+ * dashboard or CI step follow a long suite: each test and experiment writes a
+ * {@code started} line, one {@code sample} line per sample (with the pass rate and
+ * confidence bounds so far, tokens, latency and projected completion) and a
+ * {@code finished} line. See {@link RunEvent} for the fields.
+ *
+ * <p>The stream is off unless {@code -Dpunit.stream.file} (or {@code PUNIT_STREAM_FILE})
+ * names a file. A {@code {pid}} in the name is replaced with the process id, giving each
+ * forked test JVM its own file. Lines are appended to an existing file.
+ *
+ * <p>{@link #emit} never blocks the sample thread: events are queued and a single
+ * background thread formats and writes them, flushing whenever the queue runs empty.
+ * When the queue is full, events are dropped and counted; the writer reports the
+ * count in a {@code dropped} line.
+ */
+public final class RunStream implements AutoCloseable {
+
+    /** System property naming the stream file. */
+    public static final String PROP_FILE = "punit.stream.file";
+
+    /** Environment variable naming the stream file. */
+    public static final String ENV_FILE = "PUNIT_STREAM_FILE";
+
+    /** Schema identifier written in the first line of each stream. */
+    public static final String SCHEMA = "punit-stream-1";
+
+    static final int DEFAULT_CAPACITY = 8192;
+
+    private static final Logger logger = LogManager.getLogger(RunStream.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final RunStream DISABLED = new RunStream(null, 1);
+
+    private static volatile RunStream shared;
+
+    private final Path file;
+    private final BlockingQueue<RunEvent> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean closed;
+
+    /**
+     * Constructor for testing with a custom file and capacity.
+     *
+     * @param file the stream file, or {@code null} for a disabled stream
+     * @param capacity the maximum number of queued events
+     */
+    RunStream(Path file, int capacity) {
+        this.file = file;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        if (file == null) {
+            this.writer = null;
+            return;
+        }
+        this.writer = new Thread(this::drain, "punit-run-stream");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Returns the JVM-wide stream, opening it on first use if one is configured.
+     *
+     * @return the shared stream; disabled if no file is configured
+     */
+    public static RunStream shared() {
+        RunStream stream = shared;
+        if (stream == null) {
+            synchronized (RunStream.class) {
+                stream = shared;
+                if (stream == null) {
+                    stream = open();
+                    shared = stream;
+                }
+            }
+        }
+        return stream;
+    }
+
+    private static RunStream open() {
+        String name = System.getProperty(PROP_FILE);
+        if (name == null || name.isBlank()) {
+            name = System.getenv(ENV_FILE);
+        }
+        if (name == null || name.isBlank()) {
+            return DISABLED;
+        }
+        Path file = Path.of(name.trim().replace("{pid}", String.valueOf(ProcessHandle.current().pid())));
+        RunStream stream = new RunStream(file, DEFAULT_CAPACITY);
+        Runtime.getRuntime().addShutdownHook(new Thread(stream::close, "punit-run-stream-close"));
+        return stream;
+    }
+
+    /**
+     * Returns whether events are written.
+     *
+     * <p>Callers check this before building an event so a disabled stream costs nothing.
+     *
+     * @return true if the stream writes to a file
+     */
+    public boolean isEnabled() {
+        return writer != null && !closed;
+    }
+
+    /**
+     * Queues an event for writing, without blocking.
+     *
+     * @param event the event
+     */
+    public void emit(RunEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (!queue.offer(event)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return the number of events dropped because the queue was full
+     */
+    public long droppedEvents() {
+        return dropped.get();
+    }
+
+    /**
+     * Stops accepting events and waits briefly for the queued ones to be written.
+     */
+    @Override
+    public void close() {
+        if (writer == null || closed) {
+            return;
+        }
+        closed = true;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writeLine(out, streamHeader());
+                out.flush();
+                List<RunEvent> batch = new ArrayList<>();
+                long reportedDrops = 0;
+                while (!closed || !queue.isEmpty()) {
+                    RunEvent first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first != null) {
+                        batch.add(first);
+                        queue.drainTo(batch);
+                        for (RunEvent event : batch) {
+                            writeLine(out, event.fields());
+                        }
+                        batch.clear();
+                    }
+                    long drops = dropped.get();
+                    if (drops > reportedDrops) {
+                        writeLine(out, droppedLine(drops - reportedDrops));
+                        reportedDrops = drops;
+                    }
+                    if (queue.isEmpty()) {
+                        out.flush();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Run stream {} could not be written: {}", file, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closed = true;
+            queue.clear();
+        }
+    }
+
+    private static void writeLine(BufferedWriter out, Map<String, Object> fields) throws IOException {
+        try {
+            out.write(MAPPER.writeValueAsString(fields));
+        } catch (JsonProcessingException e) {
+            throw new IOException(e);
+        }
+        out.write('\n');
+    }
+
+    private static Map<String, Object> streamHeader() {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("event", "stream");
+        fields.put("ts", Instant.now().toString());
+        fields.put("schema", SCHEMA);
+        fields.put("pid", ProcessHandle.current().pid());
+        return fields;
+    }
+
+    private static Map<String, Object> droppedLine(long count) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("event", "dropped");
+        fields.put("ts", Instant.now().toString());
+        fields.put("count", count);
+        return fields;
+    }
+}
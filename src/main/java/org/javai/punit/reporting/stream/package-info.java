@@ -0,0 +1,9 @@
+/**
+ * A live, newline-delimited JSON stream of run events.
+ *
+ * <p>{@link RunStream} appends a line for each test and experiment start, each sample
+ * and each finish to the file named by {@code -Dpunit.stream.file}, so that a dashboard
+ * or CI step can follow a long suite while it runs. {@link RunEvent} defines the
+ * events and their fields.
+ */
+package org.javai.punit.reporting.stream;
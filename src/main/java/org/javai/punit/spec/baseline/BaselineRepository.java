@@ -11,15 +11,17 @@ import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.javai.punit.model.CovariateProfile;
+import org.javai.punit.reporting.jfr.BaselineLoadEvent;
 import org.javai.punit.spec.baseline.BaselineSelectionTypes.BaselineCandidate;
 import org.javai.punit.spec.model.ExecutionSpecification;
-import org.javai.punit.spec.registry.SpecificationLoader;
+import org.javai.punit.spec.registry.SpecificationCache;
 
 /**
  * Repository for finding and loading baseline specification files.
  *
  * <p>This repository scans the specs directory for all baseline files
- * matching a use case and filters by footprint.
+ * matching a use case and filters by footprint. Each scan is recorded as a
+ * {@link BaselineLoadEvent} in flight recordings.
  */
 public final class BaselineRepository {
 
@@ -79,6 +81,13 @@ public final class BaselineRepository {
     public List<BaselineCandidate> findCandidates(String useCaseId, String expectedFootprint) {
         Objects.requireNonNull(useCaseId, "useCaseId must not be null");
 
+        BaselineLoadEvent event = BaselineLoadEvent.start();
+        List<BaselineCandidate> candidates = scanCandidates(useCaseId, expectedFootprint);
+        event.complete(useCaseId, expectedFootprint, candidates.size());
+        return candidates;
+    }
+
+    private List<BaselineCandidate> scanCandidates(String useCaseId, String expectedFootprint) {
         List<BaselineCandidate> candidates = new ArrayList<>();
 
         if (!Files.isDirectory(specsRoot)) {
@@ -140,7 +149,7 @@ public final class BaselineRepository {
 
     private void loadCandidate(Path path, String expectedFootprint, List<BaselineCandidate> candidates) {
         try {
-            ExecutionSpecification spec = SpecificationLoader.load(path);
+            ExecutionSpecification spec = SpecificationCache.shared().load(path);
             
             String footprint = spec.getFootprint();
             CovariateProfile profile = spec.getCovariateProfile();
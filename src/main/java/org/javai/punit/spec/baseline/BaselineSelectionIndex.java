@@ -0,0 +1,260 @@
+package org.javai.punit.spec.baseline;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import org.javai.punit.model.CovariateDeclaration;
+import org.javai.punit.model.CovariateProfile;
+import org.javai.punit.model.CovariateValue;
+import org.javai.punit.spec.baseline.BaselineSelectionTypes.BaselineCandidate;
+import org.javai.punit.spec.baseline.BaselineSelectionTypes.CovariateScore;
+import org.javai.punit.spec.baseline.BaselineSelectionTypes.ScoredCandidate;
+import org.javai.punit.spec.baseline.BaselineSelectionTypes.SelectionResult;
+import org.javai.punit.spec.baseline.covariate.CovariateMatcher;
+import org.javai.punit.spec.baseline.covariate.CovariateMatcherRegistry;
+
+/**
+ * Precomputed selection structure over a use case's baseline candidates.
+ *
+ * <p>Candidates are bucketed by the match keys of their hard-gate covariates, so
+ * phase 1 of selection is a hash lookup of the test's hard-gate tuple. Within a
+ * bucket, candidates with identical declared covariate values form a group that is
+ * scored once per test and whose members are pre-sorted by recency, so phase 2
+ * scans one entry per distinct covariate combination rather than sorting every
+ * candidate.
+ *
+ * <p>If a hard-gate covariate's matcher does not {@link CovariateMatcher#supportsMatchKeys
+ * support match keys}, the groups are filtered with the matcher instead of looked up.
+ *
+ * <p>The index stores candidate positions, not candidates, so it can serve any
+ * candidate list with the same {@link #keyOf key}, such as a reload of the same
+ * spec files. The key summarises the candidates by a hash, so before an index is
+ * reused, {@link #serves} confirms the candidates are the ones it was built for.
+ *
+ * <p>Package-private: internal implementation detail of {@link BaselineSelector}.
+ */
+final class BaselineSelectionIndex {
+
+    /** Stands in for a covariate a baseline does not record. */
+    private static final String ABSENT = "\u0000";
+
+    /**
+     * Identifies the candidate set and declaration an index was built for.
+     *
+     * @param declaration the covariate declaration
+     * @param size the number of candidates
+     * @param hash a 64-bit hash of the parts of each candidate that selection depends on
+     */
+    record Key(CovariateDeclaration declaration, int size, long hash) {
+    }
+
+    /**
+     * Candidates with identical declared covariate values, most recent first.
+     */
+    private record Group(CovariateProfile profile, int[] positions) {
+    }
+
+    private final CovariateDeclaration declaration;
+    private final List<BaselineCandidate> builtFrom;
+    private final List<String> hardGateKeys;
+    private final boolean hashed;
+    private final Map<List<String>, List<Group>> buckets;
+
+    private BaselineSelectionIndex(
+            CovariateDeclaration declaration,
+            List<BaselineCandidate> builtFrom,
+            List<String> hardGateKeys,
+            boolean hashed,
+            Map<List<String>, List<Group>> buckets) {
+        this.declaration = declaration;
+        this.builtFrom = builtFrom;
+        this.hardGateKeys = hardGateKeys;
+        this.hashed = hashed;
+        this.buckets = buckets;
+    }
+
+    /**
+     * Returns the key that identifies the index for a candidate list.
+     *
+     * <p>A single pass over the candidates, allocating nothing per candidate.
+     */
+    static Key keyOf(List<BaselineCandidate> candidates, CovariateDeclaration declaration) {
+        long hash = 1;
+        for (BaselineCandidate candidate : candidates) {
+            long h = Objects.hashCode(candidate.filename());
+            h = 31 * h + Objects.hashCode(candidate.footprint());
+            h = 31 * h + Objects.hashCode(candidate.covariateProfile());
+            h = 31 * h + Objects.hashCode(candidate.generatedAt());
+            hash = hash * 0x9E3779B97F4A7C15L + h;
+        }
+        return new Key(declaration, candidates.size(), hash);
+    }
+
+    /**
+     * Returns true if this index was built for candidates with the same selection-relevant
+     * parts as the given list, in the same order.
+     */
+    boolean serves(List<BaselineCandidate> candidates) {
+        if (candidates.size() != builtFrom.size()) {
+            return false;
+        }
+        for (int i = 0; i < candidates.size(); i++) {
+            BaselineCandidate a = candidates.get(i);
+            BaselineCandidate b = builtFrom.get(i);
+            if (a != b && !(Objects.equals(a.filename(), b.filename())
+                    && Objects.equals(a.footprint(), b.footprint())
+                    && Objects.equals(a.covariateProfile(), b.covariateProfile())
+                    && Objects.equals(a.generatedAt(), b.generatedAt()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds the index for a candidate list.
+     */
+    static BaselineSelectionIndex build(
+            List<BaselineCandidate> candidates,
+            CovariateDeclaration declaration,
+            CovariateMatcherRegistry matcherRegistry) {
+
+        List<String> hardGateKeys = declaration.allKeys().stream()
+                .filter(key -> declaration.getCategory(key).isHardGate())
+                .toList();
+        boolean hashed = hardGateKeys.stream()
+                .allMatch(key -> matcherRegistry.getMatcher(key).supportsMatchKeys());
+
+        // Bucket -> declared covariate values -> positions, in order of first appearance
+        Map<List<String>, Map<List<String>, List<Integer>>> grouped = new LinkedHashMap<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            CovariateProfile profile = candidates.get(i).covariateProfile();
+            List<String> bucketKey = hashed ? hardGateTuple(profile, hardGateKeys, matcherRegistry) : List.of();
+            if (bucketKey == null) {
+                // A hard-gate value that never conforms; no test can select this candidate
+                continue;
+            }
+            grouped.computeIfAbsent(bucketKey, k -> new LinkedHashMap<>())
+                    .computeIfAbsent(declaredValues(profile, declaration), k -> new ArrayList<>())
+                    .add(i);
+        }
+
+        Comparator<Integer> mostRecentFirst = Comparator.comparing(
+                (Integer i) -> candidates.get(i).generatedAt(),
+                Comparator.nullsLast(Comparator.reverseOrder()));
+
+        Map<List<String>, List<Group>> buckets = new LinkedHashMap<>();
+        grouped.forEach((bucketKey, groups) -> {
+            List<Group> bucket = new ArrayList<>(groups.size());
+            for (List<Integer> positions : groups.values()) {
+                positions.sort(mostRecentFirst);
+                bucket.add(new Group(
+                        candidates.get(positions.get(0)).covariateProfile(),
+                        positions.stream().mapToInt(Integer::intValue).toArray()));
+            }
+            buckets.put(bucketKey, List.copyOf(bucket));
+        });
+
+        return new BaselineSelectionIndex(declaration, List.copyOf(candidates), hardGateKeys, hashed, buckets);
+    }
+
+    /**
+     * Selects the best candidate for a test profile.
+     *
+     * @param candidates the candidate list, with the same key the index was built for
+     * @param testProfile the test's current covariate profile
+     * @param selector the selector providing matching, scoring and ranking
+     * @return the selection result
+     * @throws NoCompatibleBaselineException if no candidate passes the hard gates
+     */
+    SelectionResult select(List<BaselineCandidate> candidates, CovariateProfile testProfile, BaselineSelector selector) {
+        List<Group> groups = matchingGroups(testProfile, selector);
+        if (groups.isEmpty()) {
+            throw selector.buildConfigurationMismatchException(candidates, testProfile, hardGateKeys);
+        }
+
+        // Phase 2: score each group once; a group's best candidate is its most recent
+        List<ScoredCandidate> heads = new ArrayList<>(groups.size());
+        int best = 0;
+        int candidateCount = 0;
+        for (int g = 0; g < groups.size(); g++) {
+            Group group = groups.get(g);
+            CovariateScore score = selector.score(group.profile(), testProfile, declaration);
+            heads.add(new ScoredCandidate(candidates.get(group.positions()[0]), score));
+            candidateCount += group.positions().length;
+            if (g > 0 && isBetter(heads.get(g), group.positions()[0], heads.get(best),
+                    groups.get(best).positions()[0], selector)) {
+                best = g;
+            }
+        }
+
+        ScoredCandidate selected = heads.get(best);
+        boolean ambiguous = false;
+        int[] bestPositions = groups.get(best).positions();
+        if (bestPositions.length > 1) {
+            ScoredCandidate runnerUp = new ScoredCandidate(candidates.get(bestPositions[1]), selected.score());
+            ambiguous = selector.compareScores(selected, runnerUp) == 0;
+        }
+        for (int g = 0; g < heads.size() && !ambiguous; g++) {
+            ambiguous = g != best && selector.compareScores(selected, heads.get(g)) == 0;
+        }
+
+        return new SelectionResult(
+                selected.candidate(),
+                selected.score().conformanceDetails(),
+                ambiguous,
+                candidateCount);
+    }
+
+    private List<Group> matchingGroups(CovariateProfile testProfile, BaselineSelector selector) {
+        if (hardGateKeys.isEmpty()) {
+            return buckets.getOrDefault(List.<String>of(), List.of());
+        }
+        if (hashed) {
+            List<String> testTuple = hardGateTuple(testProfile, hardGateKeys, selector.matcherRegistry());
+            return testTuple != null ? buckets.getOrDefault(testTuple, List.of()) : List.of();
+        }
+        return buckets.getOrDefault(List.<String>of(), List.of()).stream()
+                .filter(group -> selector.matchesConfigurationCovariates(group.profile(), testProfile, hardGateKeys))
+                .toList();
+    }
+
+    /**
+     * Ranks like a stable sort of all candidates: ties go to the earlier candidate.
+     */
+    private static boolean isBetter(ScoredCandidate a, int aPosition, ScoredCandidate b, int bPosition,
+            BaselineSelector selector) {
+        int cmp = selector.compareScores(a, b);
+        return cmp < 0 || (cmp == 0 && aPosition < bPosition);
+    }
+
+    private static List<String> hardGateTuple(
+            CovariateProfile profile, List<String> hardGateKeys, CovariateMatcherRegistry matcherRegistry) {
+        List<String> tuple = new ArrayList<>(hardGateKeys.size());
+        for (String key : hardGateKeys) {
+            CovariateValue value = profile.get(key);
+            if (value == null) {
+                return null;
+            }
+            Optional<String> matchKey = matcherRegistry.getMatcher(key).matchKey(value);
+            if (matchKey.isEmpty()) {
+                return null;
+            }
+            tuple.add(matchKey.get());
+        }
+        return tuple;
+    }
+
+    private static List<String> declaredValues(CovariateProfile profile, CovariateDeclaration declaration) {
+        List<String> values = new ArrayList<>();
+        for (String key : declaration.allKeys()) {
+            CovariateValue value = profile.get(key);
+            values.add(value != null ? value.toCanonicalString() : ABSENT);
+        }
+        return values;
+    }
+}
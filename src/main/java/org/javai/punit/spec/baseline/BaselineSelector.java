@@ -1,7 +1,10 @@
 package org.javai.punit.spec.baseline;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.javai.punit.model.CovariateDeclaration;
 import org.javai.punit.model.CovariateProfile;
@@ -30,16 +33,38 @@ import org.javai.punit.spec.baseline.covariate.CovariateMatcherRegistry;
  *   <li>Rank by match count (more matches is better)</li>
  *   <li>Break ties using category priority, declaration order, recency</li>
  * </ol>
+ *
+ * <p>Both phases run against a {@link BaselineSelectionIndex} built once per candidate
+ * set: hard gates are a hash lookup, and soft matching scores each distinct covariate
+ * combination once rather than sorting every candidate.
  */
 public final class BaselineSelector {
 
+    private static final CovariateMatcherRegistry DEFAULT_MATCHERS = CovariateMatcherRegistry.withDefaultMatchers();
+
+    /**
+     * Most selection indexes kept for reuse; the least recently used is dropped first.
+     */
+    static final int MAX_CACHED_INDEXES = 64;
+
+    private static final Map<IndexKey, BaselineSelectionIndex> INDEXES = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<IndexKey, BaselineSelectionIndex> eldest) {
+                    return size() > MAX_CACHED_INDEXES;
+                }
+            });
+
     private final CovariateMatcherRegistry matcherRegistry;
 
+    private record IndexKey(CovariateMatcherRegistry matcherRegistry, BaselineSelectionIndex.Key candidates) {
+    }
+
     /**
      * Creates a selector with the standard matcher registry.
      */
     public BaselineSelector() {
-        this(CovariateMatcherRegistry.withDefaultMatchers());
+        this(DEFAULT_MATCHERS);
     }
 
     /**
@@ -73,42 +98,46 @@ public final class BaselineSelector {
             return SelectionResult.noMatch();
         }
 
-        // Phase 1: Hard gate - filter by hard-gate covariates
-        var configKeys = declaration.allKeys().stream()
-            .filter(key -> declaration.getCategory(key).isHardGate())
-            .toList();
-        
-        List<BaselineCandidate> configMatches = candidates;
-        if (!configKeys.isEmpty()) {
-            configMatches = candidates.stream()
-                .filter(c -> matchesConfigurationCovariates(c.covariateProfile(), testProfile, configKeys))
-                .toList();
-            
-            if (configMatches.isEmpty()) {
-                // Find what CONFIGURATION values are available for error message
-                throw buildConfigurationMismatchException(candidates, testProfile, configKeys);
-            }
+        return indexFor(candidates, declaration).select(candidates, testProfile, this);
+    }
+
+    /**
+     * Returns the selection index for a candidate list, building it on first use.
+     *
+     * <p>Indexes are shared across selectors with the same matcher registry, so the
+     * tests of a use case that see the same baseline files build the index once. At
+     * most {@value #MAX_CACHED_INDEXES} indexes are kept.
+     */
+    private BaselineSelectionIndex indexFor(List<BaselineCandidate> candidates, CovariateDeclaration declaration) {
+        var key = new IndexKey(matcherRegistry, BaselineSelectionIndex.keyOf(candidates, declaration));
+        BaselineSelectionIndex index = INDEXES.computeIfAbsent(key,
+            k -> BaselineSelectionIndex.build(candidates, declaration, matcherRegistry));
+        if (!index.serves(candidates)) {
+            // A different candidate set with the same hash: build one for this selection only
+            return BaselineSelectionIndex.build(candidates, declaration, matcherRegistry);
         }
+        return index;
+    }
+
+    /**
+     * Clears the shared index cache. Intended for tests.
+     */
+    static void clearIndexCache() {
+        INDEXES.clear();
+    }
+
+    /**
+     * Returns the number of cached indexes. Intended for tests.
+     */
+    static int indexCacheSize() {
+        return INDEXES.size();
+    }
 
-        // Phase 2: Soft matching - score by remaining covariates
-        var scored = configMatches.stream()
-            .map(c -> new ScoredCandidate(c, score(c.covariateProfile(), testProfile, declaration)))
-            .sorted(this::compareScores)
-            .toList();
-
-        var best = scored.get(0);
-        var ambiguous = scored.size() > 1 &&
-            compareScores(scored.get(0), scored.get(1)) == 0;
-
-        return new SelectionResult(
-            best.candidate(),
-            best.score().conformanceDetails(),
-            ambiguous,
-            scored.size()
-        );
+    CovariateMatcherRegistry matcherRegistry() {
+        return matcherRegistry;
     }
 
-    private boolean matchesConfigurationCovariates(
+    boolean matchesConfigurationCovariates(
             CovariateProfile baseline, 
             CovariateProfile test, 
             List<String> configKeys) {
@@ -129,7 +158,7 @@ public final class BaselineSelector {
         return true;
     }
 
-    private NoCompatibleBaselineException buildConfigurationMismatchException(
+    NoCompatibleBaselineException buildConfigurationMismatchException(
             List<BaselineCandidate> candidates,
             CovariateProfile testProfile,
             List<String> configKeys) {
@@ -165,7 +194,7 @@ public final class BaselineSelector {
             availableFootprints);
     }
 
-    private CovariateScore score(CovariateProfile baseline, CovariateProfile test, CovariateDeclaration declaration) {
+    CovariateScore score(CovariateProfile baseline, CovariateProfile test, CovariateDeclaration declaration) {
         var details = new ArrayList<ConformanceDetail>();
         int matchCount = 0;
 
@@ -209,7 +238,7 @@ public final class BaselineSelector {
         return new CovariateScore(matchCount, details);
     }
 
-    private int compareScores(ScoredCandidate a, ScoredCandidate b) {
+    int compareScores(ScoredCandidate a, ScoredCandidate b) {
         // Primary: more matches is better
         int matchDiff = Integer.compare(b.score().matchCount(), a.score().matchCount());
         if (matchDiff != 0) return matchDiff;
@@ -1,5 +1,6 @@
 package org.javai.punit.spec.baseline.covariate;
 
+import java.util.Optional;
 import org.javai.punit.model.CovariateValue;
 
 /**
@@ -23,6 +24,30 @@ public interface CovariateMatcher {
      */
     MatchResult match(CovariateValue baselineValue, CovariateValue testValue);
 
+    /**
+     * Returns a key under which values can be matched by equality.
+     *
+     * <p>A matcher that returns keys guarantees that two values conform exactly when
+     * their keys are equal, which lets baseline selection look up hard-gate matches
+     * in an index instead of calling {@link #match} per candidate. An empty result
+     * means the value never conforms, or the matcher cannot be expressed as equality.
+     *
+     * @param value the covariate value
+     * @return the match key, or empty if the value cannot be matched by key
+     */
+    default Optional<String> matchKey(CovariateValue value) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true if this matcher provides {@link #matchKey match keys}.
+     *
+     * @return true if values can be matched by key equality
+     */
+    default boolean supportsMatchKeys() {
+        return false;
+    }
+
     /**
      * Result of a covariate match.
      */
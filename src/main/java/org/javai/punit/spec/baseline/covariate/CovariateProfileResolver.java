@@ -1,12 +1,10 @@
 package org.javai.punit.spec.baseline.covariate;
 
-import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.lang.invoke.MethodHandle;
+import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import org.javai.punit.api.CovariateSource;
-import org.javai.punit.api.FactorAnnotations;
 import org.javai.punit.model.CovariateDeclaration;
 import org.javai.punit.model.CovariateProfile;
 import org.javai.punit.model.CovariateValue;
@@ -23,16 +21,32 @@ import org.javai.punit.model.CovariateValue;
  *   <li>Environment variable: {@code ORG_JAVAI_PUNIT_COVARIATE_<KEY>}</li>
  *   <li>Default resolver (built from declaration data for standard keys, or custom resolver)</li>
  * </ol>
+ *
+ * <p>{@code @CovariateSource} methods are discovered and compiled once per use case class.
+ * A resolver created with a {@link CovariateResolutionCache} reuses values from the
+ * other sources for as long as their {@link CovariateValidity} allows.
  */
 public final class CovariateProfileResolver {
 
     private static final String SYS_PROP_PREFIX = "org.javai.punit.covariate.";
     private static final String ENV_VAR_PREFIX = "ORG_JAVAI_PUNIT_COVARIATE_";
 
+    private final CovariateResolutionCache cache;
+
     /**
-     * Creates a resolver.
+     * Creates a resolver that resolves every covariate on every call.
      */
     public CovariateProfileResolver() {
+        this(null);
+    }
+
+    /**
+     * Creates a resolver that reuses still-valid values from a cache.
+     *
+     * @param cache the cache, or null to resolve every covariate on every call
+     */
+    public CovariateProfileResolver(CovariateResolutionCache cache) {
+        this.cache = cache;
     }
 
     /**
@@ -50,73 +64,66 @@ public final class CovariateProfileResolver {
             return CovariateProfile.empty();
         }
 
-        // Build map of @CovariateSource methods from use case instance
-        Map<String, Method> sourceMethods = discoverCovariateSourceMethods(context);
+        Map<String, MethodHandle> sourceAccessors = context.getUseCaseInstance()
+                .map(instance -> CovariateSourceAccessors.forClass(instance.getClass()))
+                .orElse(Map.of());
 
         var builder = CovariateProfile.builder();
 
         for (String key : declaration.allKeys()) {
-            var value = resolveValue(key, declaration, context, sourceMethods);
+            var value = resolveValue(key, declaration, context, sourceAccessors);
             builder.put(key, value);
         }
 
         return builder.build();
     }
 
-    private Map<String, Method> discoverCovariateSourceMethods(CovariateResolutionContext context) {
-        Map<String, Method> methods = new HashMap<>();
-
-        Optional<Object> instanceOpt = context.getUseCaseInstance();
-        if (instanceOpt.isEmpty()) {
-            return methods;
-        }
-
-        Object instance = instanceOpt.get();
-        for (Method method : instance.getClass().getMethods()) {
-            CovariateSource annotation = method.getAnnotation(CovariateSource.class);
-            if (annotation != null) {
-                String key = FactorAnnotations.resolveCovariateSourceKey(method, annotation);
-                methods.put(key, method);
-            }
-        }
-
-        return methods;
-    }
-
     private CovariateValue resolveValue(
             String key,
             CovariateDeclaration declaration,
             CovariateResolutionContext context,
-            Map<String, Method> sourceMethods) {
+            Map<String, MethodHandle> sourceAccessors) {
 
         // 1. Try @CovariateSource method
-        Method sourceMethod = sourceMethods.get(key);
-        if (sourceMethod != null) {
+        MethodHandle sourceAccessor = sourceAccessors.get(key);
+        if (sourceAccessor != null) {
             var instanceOpt = context.getUseCaseInstance();
             if (instanceOpt.isPresent()) {
                 try {
-                    Object result = sourceMethod.invoke(instanceOpt.get());
+                    Object result = (Object) sourceAccessor.invokeExact(instanceOpt.get());
                     if (result != null) {
                         return toCovariateValue(result);
                     }
-                } catch (Exception e) {
+                } catch (Throwable e) {
+                    if (e instanceof Error error) {
+                        throw error;
+                    }
                     // Fall through to other resolution methods
                 }
             }
         }
 
+        if (cache != null) {
+            Optional<CovariateValue> cached = cache.get(declaration, key, context);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
         // 2. Try system property
         String sysPropKey = SYS_PROP_PREFIX + key;
         Optional<String> sysPropValue = context.getSystemProperty(sysPropKey);
         if (sysPropValue.isPresent()) {
-            return new CovariateValue.StringValue(sysPropValue.get());
+            return remember(declaration, key, context, new CovariateValue.StringValue(sysPropValue.get()),
+                    CovariateValidity.JVM_LIFETIME, null);
         }
 
         // 3. Try environment variable
         String envVarKey = ENV_VAR_PREFIX + key.toUpperCase().replace('-', '_');
         Optional<String> envVarValue = context.getEnvironmentVariable(envVarKey);
         if (envVarValue.isPresent()) {
-            return new CovariateValue.StringValue(envVarValue.get());
+            return remember(declaration, key, context, new CovariateValue.StringValue(envVarValue.get()),
+                    CovariateValidity.JVM_LIFETIME, null);
         }
 
         // 4. Build resolver from declaration data for standard keys
@@ -127,7 +134,18 @@ public final class CovariateProfileResolver {
             case CovariateDeclaration.KEY_TIMEZONE -> new TimezoneResolver();
             default -> new CustomCovariateResolver(key);
         };
-        return resolver.resolve(context);
+        CovariateValue value = resolver.resolve(context);
+        CovariateValidity validity = resolver.validity();
+        return remember(declaration, key, context, value, validity,
+                validity == CovariateValidity.UNTIL_NEXT_BOUNDARY ? resolver.nextBoundary(context) : null);
+    }
+
+    private CovariateValue remember(CovariateDeclaration declaration, String key, CovariateResolutionContext context,
+                                    CovariateValue value, CovariateValidity validity, Instant nextBoundary) {
+        if (cache != null) {
+            cache.put(declaration, key, context, value, validity, nextBoundary);
+        }
+        return value;
     }
 
     private CovariateValue toCovariateValue(Object result) {
@@ -0,0 +1,112 @@
+package org.javai.punit.spec.baseline.covariate;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.javai.punit.model.CovariateDeclaration;
+import org.javai.punit.model.CovariateValue;
+
+/**
+ * Caches resolved covariate values for as long as they remain valid.
+ *
+ * <p>Values are kept according to their {@link CovariateValidity}: system property
+ * and environment overrides, region, timezone and custom covariates for the life of
+ * the JVM; day-of-week and time-of-day until their next boundary. Values from
+ * {@code @CovariateSource} methods and resolvers without a declared validity are
+ * never cached.
+ *
+ * <p>Entries are keyed by the declaration, covariate key, timezone and PUnit
+ * environment of the resolution context. Values are cached only for contexts whose
+ * PUnit environment is known, i.e. {@link DefaultCovariateResolutionContext}.
+ *
+ * <p>Because JVM-lifetime values are not re-read, system properties or environment
+ * variables that change after first resolution are not observed. Use an uncached
+ * {@link CovariateProfileResolver} where that matters.
+ */
+public final class CovariateResolutionCache {
+
+    private static final CovariateResolutionCache SHARED = new CovariateResolutionCache();
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Key(CovariateDeclaration declaration, String covariateKey, ZoneId zone,
+                       Map<String, String> punitEnvironment) {
+    }
+
+    private record Entry(CovariateValue value, Instant resolvedAt, Instant validUntil) {
+
+        boolean isValidAt(Instant now) {
+            return !now.isBefore(resolvedAt) && now.isBefore(validUntil);
+        }
+    }
+
+    /**
+     * Creates an empty cache.
+     */
+    public CovariateResolutionCache() {
+    }
+
+    /**
+     * Returns the JVM-wide cache used by the probabilistic test extension.
+     *
+     * @return the shared cache
+     */
+    public static CovariateResolutionCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the cached value of a covariate, if one is valid in the context.
+     *
+     * @param declaration the covariate declaration
+     * @param covariateKey the covariate key
+     * @param context the resolution context
+     * @return the cached value, or empty if it must be resolved
+     */
+    public Optional<CovariateValue> get(
+            CovariateDeclaration declaration, String covariateKey, CovariateResolutionContext context) {
+        Key key = keyFor(declaration, covariateKey, context);
+        if (key == null) {
+            return Optional.empty();
+        }
+        Entry entry = entries.get(key);
+        return entry != null && entry.isValidAt(context.now()) ? Optional.of(entry.value()) : Optional.empty();
+    }
+
+    /**
+     * Caches a resolved covariate value for as long as its validity allows.
+     *
+     * @param declaration the covariate declaration
+     * @param covariateKey the covariate key
+     * @param context the context the value was resolved in
+     * @param value the resolved value
+     * @param validity how long the value remains valid
+     * @param nextBoundary the instant the value expires, for
+     *        {@link CovariateValidity#UNTIL_NEXT_BOUNDARY}; ignored otherwise
+     */
+    public void put(CovariateDeclaration declaration, String covariateKey, CovariateResolutionContext context,
+                    CovariateValue value, CovariateValidity validity, Instant nextBoundary) {
+        Key key = keyFor(declaration, covariateKey, context);
+        if (key == null || validity == CovariateValidity.PER_CALL) {
+            return;
+        }
+        Instant validUntil = validity == CovariateValidity.JVM_LIFETIME ? Instant.MAX : nextBoundary;
+        entries.put(key, new Entry(value, context.now(), validUntil));
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    private static Key keyFor(CovariateDeclaration declaration, String covariateKey, CovariateResolutionContext context) {
+        if (!(context instanceof DefaultCovariateResolutionContext defaultContext)) {
+            return null;
+        }
+        return new Key(declaration, covariateKey, context.systemTimezone(), defaultContext.punitEnvironment());
+    }
+}
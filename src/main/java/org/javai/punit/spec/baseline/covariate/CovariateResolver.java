@@ -1,5 +1,6 @@
 package org.javai.punit.spec.baseline.covariate;
 
+import java.time.Instant;
 import org.javai.punit.model.CovariateValue;
 
 /**
@@ -19,5 +20,28 @@ public interface CovariateResolver {
      * @throws IllegalStateException if required context is missing
      */
     CovariateValue resolve(CovariateResolutionContext context);
+
+    /**
+     * Returns how long a value resolved by this resolver remains valid.
+     *
+     * <p>Resolvers that do not declare a validity are resolved on every call.
+     *
+     * @return the validity of resolved values
+     */
+    default CovariateValidity validity() {
+        return CovariateValidity.PER_CALL;
+    }
+
+    /**
+     * Returns the instant from which a value resolved in the given context may differ.
+     *
+     * <p>Only consulted when {@link #validity()} is {@link CovariateValidity#UNTIL_NEXT_BOUNDARY}.
+     *
+     * @param context the context the value was resolved in
+     * @return the first instant at which the value must be resolved again
+     */
+    default Instant nextBoundary(CovariateResolutionContext context) {
+        return context.now();
+    }
 }
 
@@ -0,0 +1,60 @@
+package org.javai.punit.spec.baseline.covariate;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import org.javai.punit.api.CovariateSource;
+import org.javai.punit.api.FactorAnnotations;
+
+/**
+ * Compiled {@code @CovariateSource} accessors, discovered once per use case class.
+ *
+ * <p>Each accessor is a method handle of type {@code (Object)Object}. Methods that
+ * cannot be accessed are left out, so their covariates resolve from the other
+ * sources, as they would after a failed reflective call.
+ *
+ * <p>Package-private: internal implementation detail of {@link CovariateProfileResolver}.
+ */
+final class CovariateSourceAccessors {
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Map<String, MethodHandle>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private CovariateSourceAccessors() {
+    }
+
+    /**
+     * Returns the accessors of a use case class, keyed by covariate key.
+     */
+    static Map<String, MethodHandle> forClass(Class<?> useCaseClass) {
+        return ACCESSORS.get(useCaseClass);
+    }
+
+    private static Map<String, MethodHandle> compile(Class<?> type) {
+        Map<String, MethodHandle> accessors = new HashMap<>();
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        for (Method method : type.getMethods()) {
+            CovariateSource annotation = method.getAnnotation(CovariateSource.class);
+            if (annotation == null) {
+                continue;
+            }
+            String key = FactorAnnotations.resolveCovariateSourceKey(method, annotation);
+            try {
+                accessors.put(key, lookup.unreflect(method).asType(ACCESSOR_TYPE));
+            } catch (IllegalAccessException | RuntimeException e) {
+                // Not invocable (inaccessible class or parameters); resolve from other sources
+                accessors.remove(key);
+            }
+        }
+        return Map.copyOf(accessors);
+    }
+}
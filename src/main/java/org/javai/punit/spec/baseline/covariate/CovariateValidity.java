@@ -0,0 +1,19 @@
+package org.javai.punit.spec.baseline.covariate;
+
+/**
+ * How long a resolved covariate value remains valid.
+ *
+ * <p>Used by {@link CovariateResolutionCache} to decide when a covariate must be
+ * resolved again.
+ */
+public enum CovariateValidity {
+
+    /** Constant for the JVM: system properties, environment variables, region, timezone. */
+    JVM_LIFETIME,
+
+    /** Constant until a known instant, such as midnight or the next time-period boundary. */
+    UNTIL_NEXT_BOUNDARY,
+
+    /** May change between any two calls; always resolved afresh. */
+    PER_CALL
+}
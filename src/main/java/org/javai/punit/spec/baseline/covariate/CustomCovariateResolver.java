@@ -49,6 +49,11 @@ public final class CustomCovariateResolver implements CovariateResolver {
         return new CovariateValue.StringValue(value);
     }
 
+    @Override
+    public CovariateValidity validity() {
+        return CovariateValidity.JVM_LIFETIME;
+    }
+
     /**
      * Converts a covariate key to environment variable format.
      *
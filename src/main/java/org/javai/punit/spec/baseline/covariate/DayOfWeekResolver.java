@@ -1,6 +1,8 @@
 package org.javai.punit.spec.baseline.covariate;
 
 import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
@@ -39,6 +41,20 @@ public final class DayOfWeekResolver implements CovariateResolver {
         return new CovariateValue.StringValue(remainderLabel);
     }
 
+    @Override
+    public CovariateValidity validity() {
+        return CovariateValidity.UNTIL_NEXT_BOUNDARY;
+    }
+
+    /**
+     * Returns the next midnight in the context's timezone.
+     */
+    @Override
+    public Instant nextBoundary(CovariateResolutionContext context) {
+        ZoneId zone = context.systemTimezone();
+        return context.now().atZone(zone).toLocalDate().plusDays(1).atStartOfDay(zone).toInstant();
+    }
+
     private static String computeRemainderLabel(List<DayGroupDefinition> groups) {
         var declaredDays = EnumSet.noneOf(DayOfWeek.class);
         for (DayGroupDefinition group : groups) {
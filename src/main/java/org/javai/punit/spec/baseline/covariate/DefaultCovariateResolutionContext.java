@@ -85,6 +85,13 @@ public final class DefaultCovariateResolutionContext implements CovariateResolut
         return Optional.ofNullable(punitEnvironment.get(key));
     }
 
+    /**
+     * Returns the whole PUnit environment map, for cache keying.
+     */
+    Map<String, String> punitEnvironment() {
+        return punitEnvironment;
+    }
+
     @Override
     public Optional<Object> getUseCaseInstance() {
         return Optional.ofNullable(useCaseInstance);
@@ -1,5 +1,6 @@
 package org.javai.punit.spec.baseline.covariate;
 
+import java.util.Optional;
 import org.javai.punit.model.CovariateProfile;
 import org.javai.punit.model.CovariateValue;
 
@@ -46,5 +47,25 @@ public final class ExactStringMatcher implements CovariateMatcher {
 
         return matches ? MatchResult.CONFORMS : MatchResult.DOES_NOT_CONFORM;
     }
+
+    @Override
+    public Optional<String> matchKey(CovariateValue value) {
+        String str = value.toCanonicalString();
+        if (CovariateProfile.UNDEFINED.equals(str)) {
+            return Optional.empty();
+        }
+        if (caseSensitive) {
+            return Optional.of(str);
+        }
+        // Fold each code point the way equalsIgnoreCase compares them
+        StringBuilder folded = new StringBuilder(str.length());
+        str.codePoints().forEach(cp -> folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(cp))));
+        return Optional.of(folded.toString());
+    }
+
+    @Override
+    public boolean supportsMatchKeys() {
+        return true;
+    }
 }
 
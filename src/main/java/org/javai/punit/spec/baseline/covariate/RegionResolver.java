@@ -58,4 +58,9 @@ public final class RegionResolver implements CovariateResolver {
 
         return new CovariateValue.StringValue(REMAINDER_LABEL);
     }
+
+    @Override
+    public CovariateValidity validity() {
+        return CovariateValidity.JVM_LIFETIME;
+    }
 }
@@ -1,7 +1,11 @@
 package org.javai.punit.spec.baseline.covariate;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -41,6 +45,36 @@ public final class TimeOfDayResolver implements CovariateResolver {
         return new CovariateValue.StringValue(remainderLabel);
     }
 
+    @Override
+    public CovariateValidity validity() {
+        return CovariateValidity.UNTIL_NEXT_BOUNDARY;
+    }
+
+    /**
+     * Returns the next period start or end in the context's timezone, or the next
+     * midnight if no period boundary remains today.
+     */
+    @Override
+    public Instant nextBoundary(CovariateResolutionContext context) {
+        ZoneId zone = context.systemTimezone();
+        ZonedDateTime current = context.now().atZone(zone);
+        LocalTime currentTime = current.toLocalTime();
+
+        LocalTime next = null;
+        for (TimePeriodDefinition period : periods) {
+            for (LocalTime boundary : List.of(period.start(), period.end())) {
+                if (boundary.isAfter(currentTime) && (next == null || boundary.isBefore(next))) {
+                    next = boundary;
+                }
+            }
+        }
+
+        LocalDate today = current.toLocalDate();
+        return next != null
+                ? today.atTime(next).atZone(zone).toInstant()
+                : today.plusDays(1).atStartOfDay(zone).toInstant();
+    }
+
     private static String computeRemainderLabel(List<TimePeriodDefinition> periods) {
         if (periods.isEmpty()) {
             return "00:00/24h";
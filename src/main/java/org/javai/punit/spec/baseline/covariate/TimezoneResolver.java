@@ -13,5 +13,10 @@ public final class TimezoneResolver implements CovariateResolver {
     public CovariateValue resolve(CovariateResolutionContext context) {
         return new CovariateValue.StringValue(context.systemTimezone().getId());
     }
+
+    @Override
+    public CovariateValidity validity() {
+        return CovariateValidity.JVM_LIFETIME;
+    }
 }
 
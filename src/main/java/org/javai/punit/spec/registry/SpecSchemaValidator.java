@@ -60,15 +60,36 @@ public final class SpecSchemaValidator {
      * @return validation result with any errors found
      */
     public static ValidationResult validate(String content) {
-        List<String> errors = new ArrayList<>();
-        
         if (content == null || content.isBlank()) {
-            errors.add("Spec content is null or empty");
-            return new ValidationResult(false, errors);
+            return new ValidationResult(false, List.of("Spec content is null or empty"));
+        }
+        SpecificationReader reader;
+        try {
+            reader = SpecificationReader.read(content);
+        } catch (SpecificationIntegrityException e) {
+            return new ValidationResult(false, List.of(e.getMessage()));
         }
+        return validate(reader);
+    }
+    
+    /**
+     * Validates spec content and throws if invalid.
+     *
+     * @param content the YAML content to validate
+     * @throws SpecificationIntegrityException if validation fails
+     */
+    public static void validateOrThrow(String content) {
+        throwIfInvalid(validate(content));
+    }
+
+    /**
+     * Validates the fields collected by a spec reader.
+     */
+    static ValidationResult validate(SpecificationReader spec) {
+        List<String> errors = new ArrayList<>();
         
         // Schema version
-        String schemaVersion = extractField(content, "schemaVersion");
+        String schemaVersion = spec.field("schemaVersion");
         if (schemaVersion == null || schemaVersion.isEmpty()) {
             errors.add("Missing required field: schemaVersion");
         } else if (!SUPPORTED_SCHEMA_VERSIONS.contains(schemaVersion)) {
@@ -77,13 +98,13 @@ public final class SpecSchemaValidator {
         }
         
         // Use case ID
-        String useCaseId = extractField(content, "useCaseId");
+        String useCaseId = spec.field("useCaseId");
         if (useCaseId == null || useCaseId.isEmpty()) {
             errors.add("Missing required field: useCaseId");
         }
         
         // Generated timestamp
-        String generatedAt = extractField(content, "generatedAt");
+        String generatedAt = spec.field("generatedAt");
         if (generatedAt == null || generatedAt.isEmpty()) {
             errors.add("Missing required field: generatedAt");
         } else if (!ISO_TIMESTAMP_PATTERN.matcher(generatedAt).matches()) {
@@ -91,16 +112,16 @@ public final class SpecSchemaValidator {
         }
         
         // Execution section
-        validateExecutionSection(content, errors);
+        validateExecutionSection(spec, errors);
         
         // Statistics section
-        validateStatisticsSection(content, errors);
+        validateStatisticsSection(spec, errors);
         
         // Cost section
-        validateCostSection(content, errors);
+        validateCostSection(spec, errors);
         
         // Content fingerprint
-        String fingerprint = extractField(content, "contentFingerprint");
+        String fingerprint = spec.field("contentFingerprint");
         if (fingerprint == null || fingerprint.isEmpty()) {
             errors.add("Missing required field: contentFingerprint");
         } else if (!HEX_64_PATTERN.matcher(fingerprint).matches()) {
@@ -110,42 +131,42 @@ public final class SpecSchemaValidator {
         
         return new ValidationResult(errors.isEmpty(), errors);
     }
-    
+
     /**
-     * Validates spec content and throws if invalid.
-     *
-     * @param content the YAML content to validate
-     * @throws SpecificationIntegrityException if validation fails
+     * Validates the fields collected by a spec reader and throws if invalid.
      */
-    public static void validateOrThrow(String content) {
-        ValidationResult result = validate(content);
+    static void validateOrThrow(SpecificationReader spec) {
+        throwIfInvalid(validate(spec));
+    }
+
+    private static void throwIfInvalid(ValidationResult result) {
         if (!result.isValid()) {
             throw new SpecificationIntegrityException(
                 "Spec schema validation failed:\n  - " + String.join("\n  - ", result.errors()));
         }
     }
     
-    private static void validateExecutionSection(String content, List<String> errors) {
-        if (!content.contains("execution:")) {
+    private static void validateExecutionSection(SpecificationReader spec, List<String> errors) {
+        if (!spec.hasSection("execution")) {
             errors.add("Missing required section: execution");
             return;
         }
         
-        String samplesPlanned = extractNestedField(content, "execution", "samplesPlanned");
+        String samplesPlanned = spec.field("execution.samplesPlanned");
         if (samplesPlanned == null) {
             errors.add("Missing required field: execution.samplesPlanned");
         } else if (!isPositiveInteger(samplesPlanned)) {
             errors.add("execution.samplesPlanned must be a positive integer, got: " + samplesPlanned);
         }
         
-        String samplesExecuted = extractNestedField(content, "execution", "samplesExecuted");
+        String samplesExecuted = spec.field("execution.samplesExecuted");
         if (samplesExecuted == null) {
             errors.add("Missing required field: execution.samplesExecuted");
         } else if (!isNonNegativeInteger(samplesExecuted)) {
             errors.add("execution.samplesExecuted must be a non-negative integer, got: " + samplesExecuted);
         }
         
-        String terminationReason = extractNestedField(content, "execution", "terminationReason");
+        String terminationReason = spec.field("execution.terminationReason");
         if (terminationReason == null) {
             errors.add("Missing required field: execution.terminationReason");
         } else if (!VALID_TERMINATION_REASONS.contains(terminationReason)) {
@@ -154,24 +175,24 @@ public final class SpecSchemaValidator {
         }
     }
     
-    private static void validateStatisticsSection(String content, List<String> errors) {
-        if (!content.contains("statistics:")) {
+    private static void validateStatisticsSection(SpecificationReader spec, List<String> errors) {
+        if (!spec.hasSection("statistics")) {
             errors.add("Missing required section: statistics");
             return;
         }
         
         // Success rate subsection
-        if (!content.contains("successRate:")) {
+        if (!spec.hasSection("statistics.successRate")) {
             errors.add("Missing required section: statistics.successRate");
         } else {
-            String observed = extractDeepNestedField(content, "statistics", "successRate", "observed");
+            String observed = spec.field("statistics.successRate.observed");
             if (observed == null) {
                 errors.add("Missing required field: statistics.successRate.observed");
             } else if (!isValidProportion(observed)) {
                 errors.add("statistics.successRate.observed must be a number in [0, 1], got: " + observed);
             }
             
-            String standardError = extractDeepNestedField(content, "statistics", "successRate", "standardError");
+            String standardError = spec.field("statistics.successRate.standardError");
             if (standardError == null) {
                 errors.add("Missing required field: statistics.successRate.standardError");
             } else if (!isNonNegativeNumber(standardError)) {
@@ -179,19 +200,19 @@ public final class SpecSchemaValidator {
             }
             
             // Confidence interval check (simplified - just check it exists)
-            if (!content.contains("confidenceInterval95:")) {
+            if (!spec.hasSection("statistics.successRate.confidenceInterval95")) {
                 errors.add("Missing required field: statistics.successRate.confidenceInterval95");
             }
         }
         
-        String successes = extractNestedField(content, "statistics", "successes");
+        String successes = spec.field("statistics.successes");
         if (successes == null) {
             errors.add("Missing required field: statistics.successes");
         } else if (!isNonNegativeInteger(successes)) {
             errors.add("statistics.successes must be a non-negative integer, got: " + successes);
         }
         
-        String failures = extractNestedField(content, "statistics", "failures");
+        String failures = spec.field("statistics.failures");
         if (failures == null) {
             errors.add("Missing required field: statistics.failures");
         } else if (!isNonNegativeInteger(failures)) {
@@ -199,20 +220,20 @@ public final class SpecSchemaValidator {
         }
     }
     
-    private static void validateCostSection(String content, List<String> errors) {
-        if (!content.contains("cost:")) {
+    private static void validateCostSection(SpecificationReader spec, List<String> errors) {
+        if (!spec.hasSection("cost")) {
             errors.add("Missing required section: cost");
             return;
         }
         
-        String totalTimeMs = extractNestedField(content, "cost", "totalTimeMs");
+        String totalTimeMs = spec.field("cost.totalTimeMs");
         if (totalTimeMs == null) {
             errors.add("Missing required field: cost.totalTimeMs");
         } else if (!isNonNegativeInteger(totalTimeMs)) {
             errors.add("cost.totalTimeMs must be a non-negative integer, got: " + totalTimeMs);
         }
         
-        String totalTokens = extractNestedField(content, "cost", "totalTokens");
+        String totalTokens = spec.field("cost.totalTokens");
         if (totalTokens == null) {
             errors.add("Missing required field: cost.totalTokens");
         } else if (!isNonNegativeInteger(totalTokens)) {
@@ -220,82 +241,6 @@ public final class SpecSchemaValidator {
         }
     }
     
-    // ═══════════════════════════════════════════════════════════════════════════
-    // FIELD EXTRACTION HELPERS
-    // ═══════════════════════════════════════════════════════════════════════════
-    
-    private static String extractField(String content, String fieldName) {
-        String prefix = fieldName + ":";
-        int idx = content.indexOf("\n" + prefix);
-        if (idx < 0) {
-            // Check if it's at the start
-            if (content.startsWith(prefix)) {
-                idx = -1; // Will become 0 after +1
-            } else {
-                return null;
-            }
-        }
-        idx++; // Skip the newline
-        
-        int lineEnd = content.indexOf('\n', idx + prefix.length());
-        if (lineEnd < 0) lineEnd = content.length();
-        
-        String value = content.substring(idx + prefix.length(), lineEnd).trim();
-        // Remove quotes if present
-        if (value.startsWith("\"") && value.endsWith("\"")) {
-            value = value.substring(1, value.length() - 1);
-        }
-        return value;
-    }
-    
-    private static String extractNestedField(String content, String section, String field) {
-        int sectionIdx = content.indexOf(section + ":");
-        if (sectionIdx < 0) return null;
-        
-        // Find the next top-level section (line starting without spaces)
-        int sectionEnd = findNextTopLevelSection(content, sectionIdx + section.length());
-        String sectionContent = content.substring(sectionIdx, sectionEnd);
-        
-        String prefix = "  " + field + ":";
-        int fieldIdx = sectionContent.indexOf(prefix);
-        if (fieldIdx < 0) return null;
-        
-        int lineEnd = sectionContent.indexOf('\n', fieldIdx + prefix.length());
-        if (lineEnd < 0) lineEnd = sectionContent.length();
-        
-        return sectionContent.substring(fieldIdx + prefix.length(), lineEnd).trim();
-    }
-    
-    private static String extractDeepNestedField(String content, String section, String subsection, String field) {
-        int sectionIdx = content.indexOf(section + ":");
-        if (sectionIdx < 0) return null;
-        
-        int subsectionIdx = content.indexOf("  " + subsection + ":", sectionIdx);
-        if (subsectionIdx < 0) return null;
-        
-        // Find the field within the subsection
-        String prefix = "    " + field + ":";
-        int fieldIdx = content.indexOf(prefix, subsectionIdx);
-        if (fieldIdx < 0) return null;
-        
-        int lineEnd = content.indexOf('\n', fieldIdx + prefix.length());
-        if (lineEnd < 0) lineEnd = content.length();
-        
-        return content.substring(fieldIdx + prefix.length(), lineEnd).trim();
-    }
-    
-    private static int findNextTopLevelSection(String content, int startIdx) {
-        String[] lines = content.substring(startIdx).split("\n");
-        int offset = startIdx;
-        for (int i = 1; i < lines.length; i++) { // Skip first line (current section)
-            offset += lines[i - 1].length() + 1;
-            if (!lines[i].isEmpty() && !lines[i].startsWith(" ") && !lines[i].startsWith("#")) {
-                return offset;
-            }
-        }
-        return content.length();
-    }
-    
     // ═══════════════════════════════════════════════════════════════════════════
     // VALUE VALIDATION HELPERS
     // ═══════════════════════════════════════════════════════════════════════════
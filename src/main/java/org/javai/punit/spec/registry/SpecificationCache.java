@@ -0,0 +1,136 @@
+package org.javai.punit.spec.registry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.javai.punit.spec.model.ExecutionSpecification;
+
+/**
+ * JVM-wide cache of loaded and validated specification files.
+ *
+ * <p>Loading a spec reads the file, validates its schema and verifies its content
+ * fingerprint; the cache does this once per file version. A cached spec is reused
+ * while the file's size and modification time are unchanged, so a re-measured
+ * baseline is loaded afresh.
+ *
+ * <p>Concurrent loads of the same file share one load: a test that needs a spec
+ * being preloaded in the background waits for that load instead of repeating it.
+ * Failed loads are not cached, so the failure is reported again by the next caller.
+ */
+public final class SpecificationCache {
+
+	private static final SpecificationCache SHARED = new SpecificationCache();
+
+	private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+
+	private record Entry(long size, FileTime lastModified, CompletableFuture<ExecutionSpecification> spec) {
+
+		boolean isCurrent(BasicFileAttributes attributes) {
+			return size == attributes.size() && lastModified.equals(attributes.lastModifiedTime());
+		}
+	}
+
+	/**
+	 * Creates an empty cache.
+	 */
+	public SpecificationCache() {
+	}
+
+	/**
+	 * Returns the JVM-wide cache.
+	 *
+	 * @return the shared cache
+	 */
+	public static SpecificationCache shared() {
+		return SHARED;
+	}
+
+	/**
+	 * Loads a specification, reusing the cached result if the file is unchanged.
+	 *
+	 * @param path the spec file
+	 * @return the loaded specification
+	 * @throws IOException if the file cannot be read
+	 * @throws SpecificationIntegrityException if validation fails
+	 * @see SpecificationLoader#load(Path)
+	 */
+	public ExecutionSpecification load(Path path) throws IOException {
+		Path key = path.toAbsolutePath().normalize();
+		BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+
+		CompletableFuture<ExecutionSpecification> created = new CompletableFuture<>();
+		Entry entry = entries.compute(key, (k, existing) ->
+				existing != null && existing.isCurrent(attributes)
+						? existing
+						: new Entry(attributes.size(), attributes.lastModifiedTime(), created));
+
+		if (entry.spec() == created) {
+			try {
+				created.complete(SpecificationLoader.load(path));
+			} catch (IOException | RuntimeException | Error e) {
+				entries.remove(key, entry);
+				created.completeExceptionally(e);
+			}
+		}
+		return await(entry.spec());
+	}
+
+	/**
+	 * Returns true if a current, successfully loaded version of the file is cached.
+	 *
+	 * @param path the spec file
+	 * @return true if loading the file would not read it again
+	 */
+	public boolean isCached(Path path) {
+		Path key = path.toAbsolutePath().normalize();
+		Entry entry = entries.get(key);
+		if (entry == null || !entry.spec().isDone() || entry.spec().isCompletedExceptionally()) {
+			return false;
+		}
+		try {
+			return entry.isCurrent(Files.readAttributes(key, BasicFileAttributes.class));
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Removes a file's cached specification, if any.
+	 *
+	 * @param path the spec file
+	 */
+	public void invalidate(Path path) {
+		entries.remove(path.toAbsolutePath().normalize());
+	}
+
+	/**
+	 * Removes all cached specifications.
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	private static ExecutionSpecification await(CompletableFuture<ExecutionSpecification> spec) throws IOException {
+		try {
+			return spec.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException io) {
+				throw io;
+			}
+			if (cause instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,593 @@
+package org.javai.punit.spec.registry;
+
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.javai.punit.model.CovariateProfile;
+import org.javai.punit.model.CovariateValue;
+import org.javai.punit.model.ExpirationPolicy;
+import org.javai.punit.spec.model.ExecutionSpecification;
+import org.yaml.snakeyaml.DumperOptions.ScalarStyle;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+
+/**
+ * Reader for spec YAML that parses each section once, without building a node tree.
+ *
+ * <p>Reading takes two passes over the content. First, a scan of the line starts finds
+ * where each top-level section begins: top-level keys start in column 0, so no other
+ * characters need to be looked at. The scan records the position of the
+ * {@code contentFingerprint} key, which bounds the fingerprinted content, and marks
+ * the {@code resultProjection} section, which holds sample output for diagnostics and
+ * is most of a large spec, to bypass the YAML parser: it is fingerprinted but not
+ * parsed.
+ *
+ * <p>Then the remaining ranges are read as one stream of SnakeYAML parser events. This
+ * pass collects the fields the {@link ExecutionSpecification} is built from and the
+ * fields checked by {@link SpecSchemaValidator}.
+ *
+ * <p>Package-private: internal implementation detail of {@link SpecificationLoader}.
+ */
+final class SpecificationReader {
+
+	/** Field name for content fingerprint. */
+	static final String FINGERPRINT_FIELD = "contentFingerprint";
+
+	/** Field name for schema version. */
+	static final String SCHEMA_VERSION_FIELD = "schemaVersion";
+
+	/** Top-level sections that are not part of the spec, skipped before parsing. */
+	private static final Set<String> SKIPPED_SECTIONS = Set.of("resultProjection");
+
+	/** Sections whose keys and fields are kept by path for schema validation. */
+	private static final Set<String> VALIDATED_SECTIONS = Set.of("execution", "statistics", "cost");
+
+	private static final int FINGERPRINT_CHUNK_BYTES = 8192;
+
+	private final String content;
+
+	// Fields for schema validation: top-level scalars and validated section fields, by dotted path
+	private final Map<String, String> fields = new HashMap<>();
+	private final Set<String> sections = new HashSet<>();
+	private int fingerprintOffset = -1;
+
+	// Specification fields
+	private final ExecutionSpecification.Builder builder = ExecutionSpecification.builder();
+	private final Map<String, Object> executionContext = new LinkedHashMap<>();
+	private final List<String> sourceBaselines = new ArrayList<>();
+	private final CovariateProfile.Builder covariateProfileBuilder = CovariateProfile.builder();
+	private final Map<String, Integer> failureDistribution = new LinkedHashMap<>();
+	private double minPassRate = 1.0;
+	private String successCriteria = "";
+	private long maxTimePerSampleMs;
+	private long maxTokensPerSample;
+	private long totalTokenBudget;
+	private int basisSamples;
+	private int basisSuccesses;
+	private Instant basisGeneratedAt;
+	private int executedSamples;
+	private int statisticsSuccesses;
+	private double standardError;
+	private double ciLower;
+	private double ciUpper;
+	private long totalTimeMs;
+	private long avgTimePerSampleMs;
+	private long totalTokens;
+	private long avgTokensPerSample;
+	private int expiresInDays;
+	private Instant baselineEndTime;
+	private String footprint;
+
+	/**
+	 * A mapping or sequence being read. A mapping's key is set between reading a key
+	 * and finishing its value.
+	 */
+	private static final class Frame {
+		final boolean mapping;
+		String key;
+
+		Frame(boolean mapping) {
+			this.mapping = mapping;
+		}
+	}
+
+	private SpecificationReader(String content) {
+		this.content = content;
+	}
+
+	/**
+	 * Reads spec content in a single pass.
+	 *
+	 * @param content the YAML content
+	 * @return the reader holding the collected fields
+	 * @throws SpecificationIntegrityException if the content is not well-formed YAML
+	 */
+	static SpecificationReader read(String content) {
+		SpecificationReader reader = new SpecificationReader(content);
+		try {
+			reader.readEvents();
+		} catch (YAMLException e) {
+			throw new SpecificationIntegrityException("Spec file is not well-formed YAML: " + e.getMessage(), e);
+		}
+		return reader;
+	}
+
+	/**
+	 * Returns a top-level field, or a field of the execution, statistics or cost
+	 * section by dotted path (e.g. {@code statistics.successRate.observed}).
+	 */
+	String field(String path) {
+		return fields.get(path);
+	}
+
+	/**
+	 * Returns true if the document has the given top-level key, or the given key of
+	 * the execution, statistics or cost section by dotted path.
+	 */
+	boolean hasSection(String path) {
+		return sections.contains(path);
+	}
+
+	/**
+	 * Validates schema version and content integrity.
+	 *
+	 * <p>The fingerprint covers all content before the top-level
+	 * {@code contentFingerprint} key.
+	 *
+	 * @param supportedSchemaVersions the schema versions to accept
+	 * @throws SpecificationIntegrityException if validation fails
+	 */
+	void verifyIntegrity(Set<String> supportedSchemaVersions) {
+		String schemaVersion = fields.get(SCHEMA_VERSION_FIELD);
+		String storedFingerprint = fields.get(FINGERPRINT_FIELD);
+
+		if (schemaVersion == null || schemaVersion.isEmpty()) {
+			throw new SpecificationIntegrityException(
+					"Missing schemaVersion field. Spec files must include schemaVersion.");
+		}
+		if (!supportedSchemaVersions.contains(schemaVersion)) {
+			throw new SpecificationIntegrityException(
+					"Unsupported schema version: " + schemaVersion +
+							". Supported versions: " + supportedSchemaVersions);
+		}
+
+		if (storedFingerprint == null || storedFingerprint.isEmpty()) {
+			throw new SpecificationIntegrityException(
+					"Missing contentFingerprint field. Spec files must include a content fingerprint.");
+		}
+
+		String computedFingerprint = computeFingerprint(content, fingerprintOffset);
+		if (!storedFingerprint.equals(computedFingerprint)) {
+			throw new SpecificationIntegrityException(
+					"Content fingerprint mismatch. The spec file may have been modified outside " +
+							"the approval workflow. Expected: " + computedFingerprint +
+							", Found: " + storedFingerprint);
+		}
+	}
+
+	/**
+	 * Builds the specification from the collected fields.
+	 */
+	ExecutionSpecification toSpecification() {
+		builder.executionContext(executionContext);
+		builder.sourceBaselines(sourceBaselines);
+		builder.requirements(minPassRate, successCriteria);
+		builder.costEnvelope(maxTimePerSampleMs, maxTokensPerSample, totalTokenBudget);
+
+		// MEASURE output has no empirical basis section; its execution and statistics stand in
+		int samples = basisSamples != 0 ? basisSamples : executedSamples;
+		int successes = basisSuccesses != 0 ? basisSuccesses : statisticsSuccesses;
+		if (samples > 0) {
+			builder.empiricalBasis(samples, successes, basisGeneratedAt);
+		}
+
+		if (standardError > 0 || !failureDistribution.isEmpty() || totalTimeMs > 0) {
+			builder.extendedStatistics(new ExecutionSpecification.ExtendedStatistics(
+					standardError, ciLower, ciUpper, failureDistribution,
+					totalTimeMs, avgTimePerSampleMs, totalTokens, avgTokensPerSample
+			));
+		}
+
+		if (expiresInDays > 0) {
+			// Use baselineEndTime if available, otherwise fall back to basisGeneratedAt
+			Instant endTime = baselineEndTime != null ? baselineEndTime : basisGeneratedAt;
+			if (endTime != null) {
+				builder.expirationPolicy(ExpirationPolicy.of(expiresInDays, endTime));
+			}
+		}
+
+		CovariateProfile covariateProfile = covariateProfileBuilder.build();
+		if (!covariateProfile.isEmpty()) {
+			builder.covariateProfile(covariateProfile);
+		}
+		if (footprint != null && !footprint.isEmpty()) {
+			builder.footprint(footprint);
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * Computes the SHA-256 fingerprint of the content before an offset, encoding it
+	 * to UTF-8 in chunks rather than copying it.
+	 *
+	 * @param content the content
+	 * @param end the end offset, or -1 for all content
+	 */
+	static String computeFingerprint(CharSequence content, int end) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 algorithm not available", e);
+		}
+		// Replace unpaired surrogates like String.getBytes does
+		CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		CharBuffer in = CharBuffer.wrap(content, 0, end < 0 ? content.length() : end);
+		ByteBuffer out = ByteBuffer.allocate(FINGERPRINT_CHUNK_BYTES);
+		CoderResult result;
+		do {
+			result = encoder.encode(in, out, true);
+			digest.update(out.flip());
+			out.clear();
+		} while (result.isOverflow());
+		do {
+			result = encoder.flush(out);
+			digest.update(out.flip());
+			out.clear();
+		} while (result.isOverflow());
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	// ═══════════════════════════════════════════════════════════════════════════
+	// EVENT TRAVERSAL
+	// ═══════════════════════════════════════════════════════════════════════════
+
+	private void readEvents() {
+		LoaderOptions options = new LoaderOptions();
+		// Spec size is bounded by the sections that are parsed, not by SnakeYAML's input limit
+		options.setCodePointLimit(Integer.MAX_VALUE);
+		Parser parser = new ParserImpl(new StreamReader(new RangeReader(content, parsedRanges())), options);
+		Deque<Frame> collections = new ArrayDeque<>();
+		List<String> path = new ArrayList<>();
+		int sequenceDepth = 0;
+
+		while (parser.peekEvent() != null) {
+			Event event = parser.getEvent();
+			switch (event.getEventId()) {
+				case MappingStart, SequenceStart -> {
+					Frame parent = collections.peek();
+					if (parent != null && parent.mapping && parent.key == null) {
+						throw new SpecificationIntegrityException("Spec file uses an unsupported complex mapping key");
+					}
+					boolean mapping = event.is(Event.ID.MappingStart);
+					collections.push(new Frame(mapping));
+					if (!mapping) {
+						sequenceDepth++;
+					}
+				}
+				case MappingEnd, SequenceEnd -> {
+					if (!collections.pop().mapping) {
+						sequenceDepth--;
+					}
+					valueDone(collections, path);
+				}
+				case Scalar -> {
+					ScalarEvent scalar = (ScalarEvent) event;
+					Frame current = collections.peek();
+					if (current != null && current.mapping && current.key == null) {
+						current.key = scalar.getValue();
+						path.add(current.key);
+						if (path.size() == 1) {
+							topLevelKey(scalar);
+						} else if (path.size() <= 3 && VALIDATED_SECTIONS.contains(path.get(0))) {
+							sections.add(String.join(".", path));
+						}
+					} else {
+						if (!path.isEmpty()) {
+							value(path, scalar.getValue(), scalar.getScalarStyle() == ScalarStyle.PLAIN,
+									sequenceDepth > 0);
+						}
+						valueDone(collections, path);
+					}
+				}
+				case Alias -> valueDone(collections, path);
+				default -> {
+					// Stream and document boundaries
+				}
+			}
+		}
+	}
+
+	private static void valueDone(Deque<Frame> collections, List<String> path) {
+		Frame current = collections.peek();
+		if (current != null && current.mapping && current.key != null) {
+			current.key = null;
+			path.remove(path.size() - 1);
+		}
+	}
+
+	/**
+	 * Scans the line starts for top-level keys, recording the fingerprint boundary and
+	 * returning the character ranges to parse as start/end pairs.
+	 */
+	private int[] parsedRanges() {
+		int[] ranges = new int[4];
+		int count = 0;
+		int keptFrom = 0;
+		boolean skipping = false;
+		int length = content.length();
+
+		int lineStart = 0;
+		while (lineStart < length) {
+			char first = content.charAt(lineStart);
+			if (first != ' ' && first != '\t' && first != '#' && first != '\r' && first != '\n') {
+				if (fingerprintOffset < 0 && isKeyAt(lineStart, FINGERPRINT_FIELD)) {
+					fingerprintOffset = lineStart;
+				}
+				boolean skipped = isSkippedSectionAt(lineStart);
+				if (skipped != skipping) {
+					if (skipped) {
+						ranges = append(ranges, count++, keptFrom, lineStart);
+					} else {
+						keptFrom = lineStart;
+					}
+					skipping = skipped;
+				}
+			}
+			int lineEnd = content.indexOf('\n', lineStart);
+			lineStart = lineEnd < 0 ? length : lineEnd + 1;
+		}
+		if (!skipping) {
+			ranges = append(ranges, count++, keptFrom, length);
+		}
+		return Arrays.copyOf(ranges, count * 2);
+	}
+
+	private boolean isSkippedSectionAt(int offset) {
+		for (String section : SKIPPED_SECTIONS) {
+			if (isKeyAt(offset, section)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isKeyAt(int offset, String key) {
+		int colon = offset + key.length();
+		return content.startsWith(key, offset) && colon < content.length() && content.charAt(colon) == ':';
+	}
+
+	private static int[] append(int[] ranges, int index, int start, int end) {
+		int[] result = ranges.length < (index + 1) * 2 ? Arrays.copyOf(ranges, ranges.length * 2) : ranges;
+		result[index * 2] = start;
+		result[index * 2 + 1] = end;
+		return result;
+	}
+
+	private void topLevelKey(ScalarEvent key) {
+		sections.add(key.getValue());
+	}
+
+	private void value(List<String> path, String value, boolean plain, boolean inSequence) {
+		int depth = path.size();
+		String section = path.get(0);
+		String key = path.get(depth - 1);
+
+		if (depth == 1) {
+			if (inSequence) {
+				if (section.equals("sourceBaselines")) {
+					sourceBaselines.add(value);
+				}
+			} else {
+				fields.put(key, value);
+				topLevelValue(key, value);
+			}
+			return;
+		}
+		if (inSequence) {
+			// Lists within sections (postconditions, accumulated runs) are not part of the spec
+			return;
+		}
+		if (depth <= 3 && VALIDATED_SECTIONS.contains(section)) {
+			fields.put(String.join(".", path), value);
+		}
+
+		switch (section) {
+			case "executionContext", "configuration" -> {
+				if (!(plain && value.isEmpty())) {
+					executionContext.put(key, parseValue(value, plain));
+				}
+			}
+			case "requirements" -> {
+				if (key.equals("minPassRate")) {
+					minPassRate = Double.parseDouble(value);
+				} else if (key.equals("successCriteria")) {
+					successCriteria = value;
+				}
+			}
+			case "costEnvelope", "cost" -> {
+				switch (key) {
+					case "maxTimePerSampleMs" -> maxTimePerSampleMs = Long.parseLong(value);
+					case "maxTokensPerSample" -> maxTokensPerSample = Long.parseLong(value);
+					case "totalTokenBudget" -> totalTokenBudget = Long.parseLong(value);
+					default -> {
+					}
+				}
+			}
+			case "baselineData", "empiricalBasis" -> {
+				switch (key) {
+					case "samples" -> basisSamples = Integer.parseInt(value);
+					case "successes" -> basisSuccesses = Integer.parseInt(value);
+					case "generatedAt" -> basisGeneratedAt = parseInstant(value);
+					default -> {
+					}
+				}
+			}
+			case "extendedStatistics" -> {
+				if (depth == 3 && path.get(1).equals("failureDistribution")) {
+					putFailureCount(key, value);
+					return;
+				}
+				switch (key) {
+					case "standardError" -> standardError = Double.parseDouble(value);
+					case "confidenceIntervalLower" -> ciLower = Double.parseDouble(value);
+					case "confidenceIntervalUpper" -> ciUpper = Double.parseDouble(value);
+					case "totalTimeMs" -> totalTimeMs = Long.parseLong(value);
+					case "avgTimePerSampleMs" -> avgTimePerSampleMs = Long.parseLong(value);
+					case "totalTokens" -> totalTokens = Long.parseLong(value);
+					case "avgTokensPerSample" -> avgTokensPerSample = Long.parseLong(value);
+					default -> {
+					}
+				}
+			}
+			case "expiration" -> {
+				// expirationDate is computed, no need to parse
+				if (key.equals("expiresInDays")) {
+					expiresInDays = Integer.parseInt(value);
+				} else if (key.equals("baselineEndTime")) {
+					baselineEndTime = parseInstant(value);
+				}
+			}
+			case "covariates" -> {
+				if (depth == 2 && !(plain && value.isEmpty())) {
+					covariateProfileBuilder.put(key, new CovariateValue.StringValue(value));
+				}
+			}
+			case "execution" -> {
+				// MEASURE output: execution.samplesExecuted → empirical basis samples
+				if (key.equals("samplesExecuted")) {
+					executedSamples = Integer.parseInt(value);
+				}
+			}
+			case "statistics" -> {
+				// MEASURE output: statistics section → empirical basis + extended stats
+				if (depth == 3 && path.get(1).equals("failureDistribution")) {
+					putFailureCount(key, value);
+				} else if (depth == 2 && key.equals("successes")) {
+					statisticsSuccesses = Integer.parseInt(value);
+				} else if (key.equals("standardError")) {
+					standardError = Double.parseDouble(value);
+				}
+			}
+			default -> {
+				// Not part of the spec (e.g. resultProjection, postconditions)
+			}
+		}
+	}
+
+	private void topLevelValue(String key, String value) {
+		switch (key) {
+			// Both specId (legacy) and useCaseId map to useCaseId
+			case "specId", "useCaseId" -> builder.useCaseId(value);
+			case "version" -> builder.version(Integer.parseInt(value));
+			case "generatedAt" -> builder.generatedAt(parseInstant(value));
+			case "approvedAt" -> builder.approvedAt(parseInstant(value));
+			case "approvedBy" -> builder.approvedBy(value);
+			case "approvalNotes" -> builder.approvalNotes(value);
+			case "footprint" -> footprint = value;
+			default -> {
+				// schemaVersion and contentFingerprint are validated separately
+			}
+		}
+	}
+
+	/**
+	 * Reads the given character ranges of a string in order, as one stream.
+	 */
+	private static final class RangeReader extends Reader {
+
+		private final String content;
+		private final int[] ranges;
+		private int range;
+		private int position;
+
+		RangeReader(String content, int[] ranges) {
+			this.content = content;
+			this.ranges = ranges;
+			this.position = ranges.length > 0 ? ranges[0] : 0;
+		}
+
+		@Override
+		public int read(char[] buffer, int offset, int length) {
+			while (range * 2 < ranges.length && position >= ranges[range * 2 + 1]) {
+				range++;
+				if (range * 2 < ranges.length) {
+					position = ranges[range * 2];
+				}
+			}
+			if (range * 2 >= ranges.length) {
+				return -1;
+			}
+			int count = Math.min(length, ranges[range * 2 + 1] - position);
+			content.getChars(position, position + count, buffer, offset);
+			position += count;
+			return count;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	private void putFailureCount(String category, String value) {
+		try {
+			failureDistribution.put(category, Integer.parseInt(value.trim()));
+		} catch (NumberFormatException e) {
+			// Skip non-integer values
+		}
+	}
+
+	private static Object parseValue(String value, boolean plain) {
+		if (!plain) {
+			return value;
+		}
+
+		if ("true".equalsIgnoreCase(value)) return true;
+		if ("false".equalsIgnoreCase(value)) return false;
+
+		try {
+			if (value.contains(".")) {
+				return Double.parseDouble(value);
+			}
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			return value;
+		}
+	}
+
+	private static Instant parseInstant(String value) {
+		if (value == null || value.isEmpty()) return null;
+		try {
+			return Instant.parse(value);
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+}
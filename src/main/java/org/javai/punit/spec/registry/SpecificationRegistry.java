@@ -93,7 +93,7 @@ public class SpecificationRegistry {
 		}
 
 		try {
-			ExecutionSpecification spec = SpecificationLoader.load(specPathOpt.get());
+			ExecutionSpecification spec = SpecificationCache.shared().load(specPathOpt.get());
 			spec.validate();
 			return spec;
 		} catch (IOException e) {
@@ -130,8 +130,14 @@ public class SpecificationRegistry {
 
 	/**
 	 * Clears the specification cache.
+	 *
+	 * <p>The cached specs are also evicted from the shared {@link SpecificationCache},
+	 * so the next resolution reads them from disk again.
 	 */
 	public void clearCache() {
+		for (String useCaseId : cache.keySet()) {
+			resolveSpecPath(useCaseId).ifPresent(SpecificationCache.shared()::invalidate);
+		}
 		cache.clear();
 	}
 
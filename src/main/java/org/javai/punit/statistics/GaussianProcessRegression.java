@@ -0,0 +1,262 @@
+package org.javai.punit.statistics;
+
+import org.apache.commons.statistics.distribution.NormalDistribution;
+
+/**
+ * Gaussian process regression over one input dimension, for model-based search.
+ *
+ * <h2>Model</h2>
+ * <p>Observed scores y at inputs x are modelled as a smooth function plus noise. The
+ * function has a squared-exponential kernel
+ * <pre>
+ *   k(a, b) = exp(-(a - b)² / (2ℓ²))
+ * </pre>
+ * over inputs scaled to [0, 1], and the scores are standardised to mean 0 and unit
+ * variance before fitting. The length scale ℓ and the noise variance are chosen from a
+ * small grid by maximising the log marginal likelihood, so a few noisy observations
+ * give a smooth model and many consistent ones a tight one.
+ *
+ * <h2>Prediction</h2>
+ * <p>The posterior at x has mean k*ᵀ(K + σ²I)⁻¹y and variance k(x, x) − k*ᵀ(K + σ²I)⁻¹k*,
+ * computed through a Cholesky factorisation. The variance is that of the underlying
+ * function, without the observation noise.
+ *
+ * <h2>Expected Improvement</h2>
+ * <p>{@link #expectedImprovement} scores a candidate by how much it is expected to
+ * exceed the best score so far:
+ * <pre>
+ *   EI = (μ − best − ξ)·Φ(z) + σ·φ(z),   z = (μ − best − ξ) / σ
+ * </pre>
+ * which is large where the model predicts a high score (exploitation) or is uncertain
+ * (exploration).
+ *
+ * @see <a href="https://gaussianprocess.org/gpml/chapters/RW2.pdf">Rasmussen &amp; Williams, GPML, Chapter 2</a>
+ */
+public final class GaussianProcessRegression {
+
+    /** Length scales tried when fitting, relative to the input range. */
+    static final double[] LENGTH_SCALES = {0.05, 0.1, 0.2, 0.35, 0.5, 1.0};
+
+    /** Noise variances tried when fitting, relative to the score variance. */
+    static final double[] NOISE_VARIANCES = {1e-4, 1e-3, 1e-2, 1e-1, 0.3};
+
+    private static final NormalDistribution STANDARD_NORMAL = NormalDistribution.of(0, 1);
+
+    private final double[] x;
+    private final double lengthScale;
+    private final double noiseVariance;
+    private final double yMean;
+    private final double yScale;
+    private final double[][] cholesky;
+    private final double[] alpha;
+
+    private GaussianProcessRegression(double[] x, double lengthScale, double noiseVariance,
+                                      double yMean, double yScale, double[][] cholesky, double[] alpha) {
+        this.x = x;
+        this.lengthScale = lengthScale;
+        this.noiseVariance = noiseVariance;
+        this.yMean = yMean;
+        this.yScale = yScale;
+        this.cholesky = cholesky;
+        this.alpha = alpha;
+    }
+
+    /**
+     * A posterior prediction.
+     *
+     * @param mean the expected score
+     * @param standardDeviation the uncertainty of the expected score
+     */
+    public record Prediction(double mean, double standardDeviation) {
+    }
+
+    /**
+     * Fits a model to observations.
+     *
+     * @param x the inputs, scaled to [0, 1]
+     * @param y the observed scores
+     * @return the model with the most likely length scale and noise variance
+     * @throws IllegalArgumentException if there are no observations or the arrays differ in length
+     */
+    public static GaussianProcessRegression fit(double[] x, double[] y) {
+        if (x.length == 0 || x.length != y.length) {
+            throw new IllegalArgumentException(
+                    "Need the same positive number of inputs and scores, got " + x.length + " and " + y.length);
+        }
+        int n = x.length;
+        double mean = 0;
+        for (double value : y) {
+            mean += value;
+        }
+        mean /= n;
+        double variance = 0;
+        for (double value : y) {
+            variance += (value - mean) * (value - mean);
+        }
+        double scale = n > 1 ? Math.sqrt(variance / (n - 1)) : 0;
+        if (scale < 1e-12) {
+            scale = 1;
+        }
+        double[] standardised = new double[n];
+        for (int i = 0; i < n; i++) {
+            standardised[i] = (y[i] - mean) / scale;
+        }
+
+        GaussianProcessRegression best = null;
+        double bestLikelihood = Double.NEGATIVE_INFINITY;
+        for (double lengthScale : LENGTH_SCALES) {
+            for (double noiseVariance : NOISE_VARIANCES) {
+                double[][] l = cholesky(covariance(x, lengthScale, noiseVariance));
+                if (l == null) {
+                    continue;
+                }
+                double[] alpha = solveTransposed(l, solve(l, standardised));
+                double likelihood = logMarginalLikelihood(l, standardised, alpha);
+                if (likelihood > bestLikelihood) {
+                    bestLikelihood = likelihood;
+                    best = new GaussianProcessRegression(x.clone(), lengthScale, noiseVariance,
+                            mean, scale, l, alpha);
+                }
+            }
+        }
+        if (best == null) {
+            throw new IllegalStateException("Covariance matrix is not positive definite for any noise level");
+        }
+        return best;
+    }
+
+    /**
+     * Predicts the score at an input.
+     *
+     * @param input the input, scaled to [0, 1]
+     * @return the posterior mean and standard deviation, in score units
+     */
+    public Prediction predict(double input) {
+        double[] k = new double[x.length];
+        double mean = 0;
+        for (int i = 0; i < x.length; i++) {
+            k[i] = kernel(input, x[i], lengthScale);
+            mean += k[i] * alpha[i];
+        }
+        double[] v = solve(cholesky, k);
+        double variance = 1.0;
+        for (double value : v) {
+            variance -= value * value;
+        }
+        return new Prediction(yMean + mean * yScale, Math.sqrt(Math.max(variance, 0)) * yScale);
+    }
+
+    /**
+     * Computes the expected improvement of a prediction over the best score so far,
+     * for a score that is to be maximised.
+     *
+     * @param prediction the prediction at a candidate input
+     * @param best the best score observed
+     * @param exploration the margin ξ by which a candidate must improve, in score units
+     * @return the expected improvement, never negative
+     */
+    public static double expectedImprovement(Prediction prediction, double best, double exploration) {
+        double improvement = prediction.mean() - best - exploration;
+        double sd = prediction.standardDeviation();
+        if (sd <= 1e-12) {
+            return Math.max(improvement, 0);
+        }
+        double z = improvement / sd;
+        return Math.max(0, improvement * STANDARD_NORMAL.cumulativeProbability(z) + sd * STANDARD_NORMAL.density(z));
+    }
+
+    /**
+     * @return the fitted length scale, relative to the input range
+     */
+    public double lengthScale() {
+        return lengthScale;
+    }
+
+    /**
+     * @return the fitted noise variance, relative to the score variance
+     */
+    public double noiseVariance() {
+        return noiseVariance;
+    }
+
+    private static double kernel(double a, double b, double lengthScale) {
+        double d = a - b;
+        return Math.exp(-d * d / (2 * lengthScale * lengthScale));
+    }
+
+    private static double[][] covariance(double[] x, double lengthScale, double noiseVariance) {
+        int n = x.length;
+        double[][] k = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++) {
+                k[i][j] = kernel(x[i], x[j], lengthScale);
+                k[j][i] = k[i][j];
+            }
+            k[i][i] += noiseVariance;
+        }
+        return k;
+    }
+
+    /**
+     * Returns the lower-triangular L with LLᵀ = a, or null if a is not positive definite.
+     */
+    private static double[][] cholesky(double[][] a) {
+        int n = a.length;
+        double[][] l = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++) {
+                double sum = a[i][j];
+                for (int k = 0; k < j; k++) {
+                    sum -= l[i][k] * l[j][k];
+                }
+                if (i == j) {
+                    if (sum <= 0) {
+                        return null;
+                    }
+                    l[i][i] = Math.sqrt(sum);
+                } else {
+                    l[i][j] = sum / l[j][j];
+                }
+            }
+        }
+        return l;
+    }
+
+    /** Solves Lz = b by forward substitution. */
+    private static double[] solve(double[][] l, double[] b) {
+        int n = b.length;
+        double[] z = new double[n];
+        for (int i = 0; i < n; i++) {
+            double sum = b[i];
+            for (int k = 0; k < i; k++) {
+                sum -= l[i][k] * z[k];
+            }
+            z[i] = sum / l[i][i];
+        }
+        return z;
+    }
+
+    /** Solves Lᵀz = b by back substitution. */
+    private static double[] solveTransposed(double[][] l, double[] b) {
+        int n = b.length;
+        double[] z = new double[n];
+        for (int i = n - 1; i >= 0; i--) {
+            double sum = b[i];
+            for (int k = i + 1; k < n; k++) {
+                sum -= l[k][i] * z[k];
+            }
+            z[i] = sum / l[i][i];
+        }
+        return z;
+    }
+
+    private static double logMarginalLikelihood(double[][] l, double[] y, double[] alpha) {
+        double fit = 0;
+        double logDeterminant = 0;
+        for (int i = 0; i < y.length; i++) {
+            fit += y[i] * alpha[i];
+            logDeterminant += Math.log(l[i][i]);
+        }
+        return -0.5 * fit - logDeterminant - 0.5 * y.length * Math.log(2 * Math.PI);
+    }
+}
@@ -0,0 +1,433 @@
+package org.javai.punit.statistics;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import org.apache.commons.statistics.distribution.BinomialDistribution;
+
+/**
+ * Estimates the operating characteristics of a probabilistic test by simulation.
+ *
+ * <p>{@link SampleSizeCalculator} and {@link VerificationFeasibilityEvaluator} answer
+ * sizing questions with normal approximations. This simulator instead replays the
+ * test's actual decision rule on synthetic Bernoulli runs and counts how often it
+ * reaches each verdict, which also captures effects the approximations ignore:
+ * <ul>
+ *   <li>the discreteness of {@code required = ⌈n × minPassRate⌉}</li>
+ *   <li>early termination (success guaranteed / impossibility), which changes the
+ *       number of samples run but not the verdict</li>
+ *   <li>the sampling noise of the baseline a threshold was derived from</li>
+ * </ul>
+ *
+ * <h2>Error Rates</h2>
+ * <p>Following {@link DerivedThreshold}, a <em>false positive</em> is the test failing
+ * when the system is fine, and a <em>false negative</em> is the test passing when the
+ * system has degraded:
+ * <pre>
+ *   false positive rate = 1 − P(pass | true rate = acceptable rate)
+ *   false negative rate =     P(pass | true rate = degraded rate)
+ * </pre>
+ *
+ * <h2>Derived Thresholds</h2>
+ * <p>For a threshold derived from a baseline, each simulated run first draws the
+ * baseline's successes k<sub>b</sub> ~ Binomial(n<sub>b</sub>, p<sub>baseline</sub>),
+ * then applies the threshold {@link ThresholdDeriver#deriveSampleSizeFirst} would
+ * derive from it. The required successes for every possible k<sub>b</sub> are
+ * tabulated once, and k<sub>b</sub> is drawn by inverse-CDF lookup.
+ *
+ * <h2>Execution</h2>
+ * <p>Runs are split across a fork-join pool. The inner loop works on primitives
+ * only and allocates nothing: random numbers come from an inlined SplitMix64
+ * generator whose state is a local {@code long}. Every run starts from a state
+ * determined by the seed and its index, so results are reproducible for a given
+ * seed regardless of how the work is scheduled, and a design with and without
+ * early termination sees identical samples run for run.
+ */
+public class OperatingCharacteristicsSimulator {
+
+    /**
+     * Default seed, so repeated runs report identical figures.
+     */
+    public static final long DEFAULT_SEED = 0x5EED_C0FFEEL;
+
+    /**
+     * Maximum number of runs simulated by a single leaf task.
+     */
+    static final int LEAF_RUNS = 8_192;
+
+    /**
+     * Increment between successive SplitMix64 states.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+
+    /**
+     * Spacing between the starting states of successive runs; no run draws more
+     * values than this, so run streams never overlap.
+     */
+    private static final long RUN_STRIDE = 1L << 32;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a simulator that uses the common fork-join pool.
+     */
+    public OperatingCharacteristicsSimulator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a simulator that uses the given pool.
+     *
+     * @param pool the pool to run simulations on
+     */
+    public OperatingCharacteristicsSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * The decision rule of a probabilistic test.
+     *
+     * @param samples the planned number of samples (n)
+     * @param baselineSamples baseline trials the threshold is derived from (0 = fixed threshold)
+     * @param requiredSuccesses required successes, indexed by baseline successes
+     *                          (a single entry for a fixed threshold)
+     * @param earlyTermination whether the test stops once the verdict is decided
+     */
+    public record TestDesign(
+            int samples,
+            int baselineSamples,
+            int[] requiredSuccesses,
+            boolean earlyTermination
+    ) {
+
+        public TestDesign {
+            if (samples < 1) {
+                throw new IllegalArgumentException("Samples must be at least 1, got: " + samples);
+            }
+            if (baselineSamples < 0) {
+                throw new IllegalArgumentException(
+                        "Baseline samples must not be negative, got: " + baselineSamples);
+            }
+            if (requiredSuccesses.length != baselineSamples + 1) {
+                throw new IllegalArgumentException(
+                        "Expected " + (baselineSamples + 1) + " required-success entries, got: "
+                                + requiredSuccesses.length);
+            }
+            requiredSuccesses = requiredSuccesses.clone();
+        }
+
+        /**
+         * A test with an explicit minimum pass rate.
+         *
+         * @param samples the number of samples
+         * @param minPassRate the minimum pass rate
+         * @param earlyTermination whether early termination is enabled
+         * @return the design
+         */
+        public static TestDesign fixedThreshold(int samples, double minPassRate, boolean earlyTermination) {
+            if (minPassRate < 0.0 || minPassRate > 1.0) {
+                throw new IllegalArgumentException("Min pass rate must be in [0, 1], got: " + minPassRate);
+            }
+            return new TestDesign(samples, 0,
+                    new int[] {requiredSuccesses(samples, minPassRate)}, earlyTermination);
+        }
+
+        /**
+         * A test whose threshold is the Wilson lower bound of a baseline of the given size.
+         *
+         * @param baselineSamples the number of baseline trials
+         * @param samples the number of test samples
+         * @param thresholdConfidence the confidence used to derive the threshold
+         * @param earlyTermination whether early termination is enabled
+         * @return the design
+         */
+        public static TestDesign derivedFromBaseline(int baselineSamples, int samples,
+                                                     double thresholdConfidence, boolean earlyTermination) {
+            if (baselineSamples < 1) {
+                throw new IllegalArgumentException(
+                        "Baseline samples must be at least 1, got: " + baselineSamples);
+            }
+            ThresholdDeriver deriver = new ThresholdDeriver();
+            int[] required = new int[baselineSamples + 1];
+            for (int k = 0; k <= baselineSamples; k++) {
+                double threshold = deriver.deriveSampleSizeFirst(
+                        baselineSamples, k, samples, thresholdConfidence).value();
+                required[k] = requiredSuccesses(samples, threshold);
+            }
+            return new TestDesign(samples, baselineSamples, required, earlyTermination);
+        }
+
+        /**
+         * @return true if the threshold is derived from a simulated baseline
+         */
+        public boolean isDerived() {
+            return baselineSamples > 0;
+        }
+
+        @Override
+        public int[] requiredSuccesses() {
+            return requiredSuccesses.clone();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TestDesign other
+                    && samples == other.samples
+                    && baselineSamples == other.baselineSamples
+                    && earlyTermination == other.earlyTermination
+                    && Arrays.equals(requiredSuccesses, other.requiredSuccesses);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * (31 * samples + baselineSamples) + Boolean.hashCode(earlyTermination))
+                    + Arrays.hashCode(requiredSuccesses);
+        }
+
+        @Override
+        public String toString() {
+            return "TestDesign[samples=" + samples + ", baselineSamples=" + baselineSamples
+                    + ", earlyTermination=" + earlyTermination + "]";
+        }
+
+        private static int requiredSuccesses(int samples, double minPassRate) {
+            // Same rule as the test engine: the threshold must be met, not approached
+            return (int) Math.ceil(samples * minPassRate);
+        }
+    }
+
+    /**
+     * Pass frequency and sample usage at one true pass rate.
+     *
+     * @param baselineRate the true rate the baseline was drawn from (NaN for a fixed threshold)
+     * @param trueRate the true pass rate of the system under test
+     * @param runs the number of simulated runs
+     * @param passes the number of runs that passed
+     * @param samplesExecuted the total number of samples executed across all runs
+     */
+    public record SimulationResult(
+            double baselineRate,
+            double trueRate,
+            long runs,
+            long passes,
+            long samplesExecuted
+    ) {
+
+        /**
+         * @return the fraction of runs that passed
+         */
+        public double passRate() {
+            return runs == 0 ? 0.0 : (double) passes / runs;
+        }
+
+        /**
+         * @return the Monte Carlo standard error of {@link #passRate()}
+         */
+        public double standardError() {
+            double p = passRate();
+            return runs == 0 ? 0.0 : Math.sqrt(p * (1.0 - p) / runs);
+        }
+
+        /**
+         * @return the mean number of samples executed per run
+         */
+        public double meanSamples() {
+            return runs == 0 ? 0.0 : (double) samplesExecuted / runs;
+        }
+    }
+
+    /**
+     * The error rates of a test design at an acceptable and a degraded pass rate.
+     *
+     * @param design the simulated design
+     * @param acceptable results when the system performs at the acceptable rate
+     * @param degraded results when the system has degraded
+     */
+    public record OperatingCharacteristics(
+            TestDesign design,
+            SimulationResult acceptable,
+            SimulationResult degraded
+    ) {
+
+        /**
+         * @return the probability that the test fails a system performing at the acceptable rate
+         */
+        public double falsePositiveRate() {
+            return 1.0 - acceptable.passRate();
+        }
+
+        /**
+         * @return the probability that the test passes a degraded system
+         */
+        public double falseNegativeRate() {
+            return degraded.passRate();
+        }
+    }
+
+    /**
+     * Simulates a design at an acceptable and a degraded rate.
+     *
+     * <p>For a derived design the baseline is always drawn at the acceptable rate:
+     * the baseline was measured while the system was fine.
+     *
+     * @param design the test design
+     * @param acceptableRate the true pass rate of a healthy system
+     * @param degradedRate the true pass rate of a degraded system
+     * @param runs the number of runs to simulate at each rate
+     * @param seed the random seed
+     * @return the operating characteristics
+     */
+    public OperatingCharacteristics characterise(TestDesign design, double acceptableRate,
+                                                 double degradedRate, long runs, long seed) {
+        SimulationResult acceptable = simulate(design, acceptableRate, acceptableRate, runs, seed);
+        SimulationResult degraded = simulate(design, acceptableRate, degradedRate, runs, seed + 1);
+        return new OperatingCharacteristics(design, acceptable, degraded);
+    }
+
+    /**
+     * Simulates runs of a test design.
+     *
+     * @param design the test design
+     * @param baselineRate the true rate the baseline is drawn from (ignored for a fixed threshold)
+     * @param trueRate the true pass rate of the system under test
+     * @param runs the number of runs
+     * @param seed the random seed
+     * @return the simulation result
+     */
+    public SimulationResult simulate(TestDesign design, double baselineRate, double trueRate,
+                                     long runs, long seed) {
+        validateRate(trueRate, "True rate");
+        if (design.isDerived()) {
+            validateRate(baselineRate, "Baseline rate");
+        }
+        if (runs < 1) {
+            throw new IllegalArgumentException("Runs must be at least 1, got: " + runs);
+        }
+
+        double[] baselineCdf = design.isDerived()
+                ? cumulative(design.baselineSamples(), baselineRate)
+                : null;
+        long[] totals = pool.invoke(new SimulationTask(
+                design.samples(), design.requiredSuccesses, baselineCdf,
+                design.earlyTermination(), trueRate, seed, 0, runs));
+
+        return new SimulationResult(design.isDerived() ? baselineRate : Double.NaN,
+                trueRate, runs, totals[0], totals[1]);
+    }
+
+    private static double[] cumulative(int trials, double rate) {
+        BinomialDistribution distribution = BinomialDistribution.of(trials, rate);
+        double[] cdf = new double[trials + 1];
+        for (int k = 0; k <= trials; k++) {
+            cdf[k] = distribution.cumulativeProbability(k);
+        }
+        cdf[trials] = 1.0;
+        return cdf;
+    }
+
+    private static void validateRate(double rate, String name) {
+        if (!(rate >= 0.0 && rate <= 1.0)) {
+            throw new IllegalArgumentException(name + " must be in [0, 1], got: " + rate);
+        }
+    }
+
+    /**
+     * Simulates a contiguous range of runs, splitting it until each piece is small
+     * enough to run directly.
+     */
+    private static final class SimulationTask extends RecursiveTask<long[]> {
+
+        private final int samples;
+        private final int[] requiredSuccesses;
+        private final double[] baselineCdf;
+        private final boolean earlyTermination;
+        private final double trueRate;
+        private final long seed;
+        private final long from;
+        private final long to;
+
+        SimulationTask(int samples, int[] requiredSuccesses, double[] baselineCdf,
+                       boolean earlyTermination, double trueRate, long seed, long from, long to) {
+            this.samples = samples;
+            this.requiredSuccesses = requiredSuccesses;
+            this.baselineCdf = baselineCdf;
+            this.earlyTermination = earlyTermination;
+            this.trueRate = trueRate;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= LEAF_RUNS) {
+                return simulateRange();
+            }
+            long mid = from + Math.max(1, (to - from) / LEAF_RUNS / 2) * LEAF_RUNS;
+            SimulationTask left = new SimulationTask(samples, requiredSuccesses, baselineCdf,
+                    earlyTermination, trueRate, seed, from, mid);
+            SimulationTask right = new SimulationTask(samples, requiredSuccesses, baselineCdf,
+                    earlyTermination, trueRate, seed, mid, to);
+            left.fork();
+            long[] r = right.compute();
+            long[] l = left.join();
+            r[0] += l[0];
+            r[1] += l[1];
+            return r;
+        }
+
+        private long[] simulateRange() {
+            long passes = 0;
+            long executed = 0;
+            for (long run = from; run < to; run++) {
+                // Each run has its own stream, so its verdict does not depend on how
+                // many samples earlier runs consumed
+                long state = seed + run * RUN_STRIDE * GOLDEN_GAMMA;
+                int required;
+                if (baselineCdf == null) {
+                    required = requiredSuccesses[0];
+                } else {
+                    state += GOLDEN_GAMMA;
+                    required = requiredSuccesses[drawBaseline(toUnit(mix(state)))];
+                }
+                int successes = 0;
+                int n = 0;
+                while (n < samples) {
+                    state += GOLDEN_GAMMA;
+                    if (toUnit(mix(state)) < trueRate) {
+                        successes++;
+                    }
+                    n++;
+                    if (earlyTermination
+                            && (successes >= required || successes + (samples - n) < required)) {
+                        break;
+                    }
+                }
+                if (successes >= required) {
+                    passes++;
+                }
+                executed += n;
+            }
+            return new long[] {passes, executed};
+        }
+
+        private int drawBaseline(double u) {
+            int index = Arrays.binarySearch(baselineCdf, u);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        /**
+         * SplitMix64 finaliser, the generator behind {@link java.util.SplittableRandom},
+         * inlined so the state stays in a local {@code long}.
+         */
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+            return z ^ (z >>> 31);
+        }
+
+        private static double toUnit(long bits) {
+            return (bits >>> 11) * 0x1.0p-53;
+        }
+    }
+}
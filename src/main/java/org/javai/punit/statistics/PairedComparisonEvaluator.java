@@ -0,0 +1,285 @@
+package org.javai.punit.statistics;
+
+import org.apache.commons.statistics.distribution.BinomialDistribution;
+import org.apache.commons.statistics.distribution.NormalDistribution;
+
+/**
+ * Sequentially compares two configurations run on the same inputs.
+ *
+ * <h2>Paired Outcomes</h2>
+ * <p>Each pair runs the baseline and the candidate on one input. Pairs where both
+ * pass or both fail carry no information about which configuration is better; only
+ * the discordant pairs do:
+ * <pre>
+ *   b = baseline passed, candidate failed
+ *   c = baseline failed, candidate passed
+ * </pre>
+ * Because both arms see the same input, the variation in input difficulty cancels
+ * out, which is why a paired comparison needs far fewer samples than two separate
+ * measurements.
+ *
+ * <h2>Difference: Exact McNemar Test</h2>
+ * <p>Under the null hypothesis of equal pass rates, each discordant pair is equally
+ * likely to favour either arm, so b ~ Binomial(b + c, ½). The two-sided p-value is:
+ * <pre>
+ *   p = min(1, 2 × P(X ≤ min(b, c)))     X ~ Binomial(b + c, ½)
+ * </pre>
+ *
+ * <h2>Equivalence: Paired Difference Interval</h2>
+ * <p>The difference in pass rates d = p_candidate − p_baseline = (c − b) / n is estimated
+ * with the Agresti–Min interval, which adds ½ to each of the four cells:
+ * <pre>
+ *   d̃ = (c − b) / (n + 2)
+ *   Var(d̃) = ((b + c + 1) − (c − b)² / (n + 2)) / (n + 2)²
+ * </pre>
+ * The arms are declared equivalent (two one-sided tests) when the interval at
+ * 1 − 2α' lies entirely within ±margin.
+ *
+ * <h2>Sequential Looks</h2>
+ * <p>The data are examined every {@link #lookInterval()} pairs rather than after every
+ * pair. To keep the overall error rate at α despite repeated looks, each look is
+ * tested at α' = α / K, where K is the number of planned looks (Bonferroni). This is
+ * conservative: the realised error rate is below α.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/McNemar%27s_test">McNemar's Test</a>
+ */
+public class PairedComparisonEvaluator {
+
+    /**
+     * Smallest number of pairs between looks.
+     */
+    public static final int MIN_LOOK_INTERVAL = 10;
+
+    private static final NormalDistribution STANDARD_NORMAL = NormalDistribution.of(0, 1);
+
+    private final double confidenceLevel;
+    private final double margin;
+    private final int maxPairs;
+    private final int lookInterval;
+    private final int looks;
+
+    /**
+     * Creates an evaluator.
+     *
+     * @param confidenceLevel the overall confidence level (1-α), e.g. 0.95
+     * @param margin the equivalence margin on the pass-rate difference (0 = no equivalence test)
+     * @param maxPairs the maximum number of pairs to run
+     */
+    public PairedComparisonEvaluator(double confidenceLevel, double margin, int maxPairs) {
+        if (confidenceLevel <= 0.0 || confidenceLevel >= 1.0) {
+            throw new IllegalArgumentException(
+                    "Confidence level must be in (0, 1), got: " + confidenceLevel);
+        }
+        if (margin < 0.0 || margin >= 1.0) {
+            throw new IllegalArgumentException("Margin must be in [0, 1), got: " + margin);
+        }
+        if (maxPairs < 1) {
+            throw new IllegalArgumentException("Max pairs must be at least 1, got: " + maxPairs);
+        }
+        this.confidenceLevel = confidenceLevel;
+        this.margin = margin;
+        this.maxPairs = maxPairs;
+        this.lookInterval = Math.min(maxPairs,
+                Math.max(MIN_LOOK_INTERVAL, (int) Math.ceil(maxPairs / 10.0)));
+        this.looks = (int) Math.ceil((double) maxPairs / lookInterval);
+    }
+
+    /**
+     * Paired outcome counts.
+     *
+     * @param bothPassed pairs where both arms passed
+     * @param baselineOnly pairs where only the baseline passed (b)
+     * @param candidateOnly pairs where only the candidate passed (c)
+     * @param bothFailed pairs where both arms failed
+     */
+    public record PairedCounts(int bothPassed, int baselineOnly, int candidateOnly, int bothFailed) {
+
+        public PairedCounts {
+            if (bothPassed < 0 || baselineOnly < 0 || candidateOnly < 0 || bothFailed < 0) {
+                throw new IllegalArgumentException("Counts must not be negative");
+            }
+        }
+
+        /**
+         * @return the number of pairs
+         */
+        public int pairs() {
+            return bothPassed + baselineOnly + candidateOnly + bothFailed;
+        }
+
+        /**
+         * @return the number of pairs where the arms disagreed
+         */
+        public int discordant() {
+            return baselineOnly + candidateOnly;
+        }
+
+        /**
+         * @return the baseline's observed pass rate, or 0 if there are no pairs
+         */
+        public double baselineRate() {
+            return pairs() == 0 ? 0.0 : (double) (bothPassed + baselineOnly) / pairs();
+        }
+
+        /**
+         * @return the candidate's observed pass rate, or 0 if there are no pairs
+         */
+        public double candidateRate() {
+            return pairs() == 0 ? 0.0 : (double) (bothPassed + candidateOnly) / pairs();
+        }
+
+        /**
+         * @return the observed difference, candidate minus baseline
+         */
+        public double difference() {
+            return pairs() == 0 ? 0.0 : (double) (candidateOnly - baselineOnly) / pairs();
+        }
+    }
+
+    /**
+     * Outcome of a comparison.
+     */
+    public enum Verdict {
+        /** The candidate passes significantly more often than the baseline. */
+        CANDIDATE_BETTER,
+        /** The candidate passes significantly less often than the baseline. */
+        CANDIDATE_WORSE,
+        /** The pass rates differ by less than the margin. */
+        EQUIVALENT,
+        /** Neither a difference nor equivalence has been established. */
+        INCONCLUSIVE
+    }
+
+    /**
+     * The result of evaluating the counts at a look.
+     *
+     * @param verdict the verdict so far
+     * @param stop whether the comparison should stop (a verdict was reached or the pairs are used up)
+     * @param counts the counts evaluated
+     * @param pValue the exact McNemar p-value
+     * @param lowerBound lower bound of the difference interval at the per-look level
+     * @param upperBound upper bound of the difference interval at the per-look level
+     * @param perLookAlpha the significance level applied at each look (α')
+     */
+    public record PairedDecision(
+            Verdict verdict,
+            boolean stop,
+            PairedCounts counts,
+            double pValue,
+            double lowerBound,
+            double upperBound,
+            double perLookAlpha
+    ) {
+    }
+
+    /**
+     * @return the number of pairs between looks
+     */
+    public int lookInterval() {
+        return lookInterval;
+    }
+
+    /**
+     * @return the number of planned looks (K)
+     */
+    public int looks() {
+        return looks;
+    }
+
+    /**
+     * @return the significance level applied at each look (α / K)
+     */
+    public double perLookAlpha() {
+        return (1.0 - confidenceLevel) / looks;
+    }
+
+    /**
+     * @return the maximum number of pairs
+     */
+    public int maxPairs() {
+        return maxPairs;
+    }
+
+    /**
+     * @return the equivalence margin (0 = no equivalence test)
+     */
+    public double margin() {
+        return margin;
+    }
+
+    /**
+     * @param pairs the number of completed pairs
+     * @return true if the counts should be evaluated after this many pairs
+     */
+    public boolean isLook(int pairs) {
+        return pairs > 0 && (pairs % lookInterval == 0 || pairs >= maxPairs);
+    }
+
+    /**
+     * Evaluates the counts at a look.
+     *
+     * @param counts the paired counts so far
+     * @return the decision
+     */
+    public PairedDecision evaluate(PairedCounts counts) {
+        double alpha = perLookAlpha();
+        double pValue = mcnemarPValue(counts.baselineOnly(), counts.candidateOnly());
+        double[] reported = differenceInterval(counts, 1.0 - alpha);
+        boolean exhausted = counts.pairs() >= maxPairs;
+
+        if (counts.discordant() > 0 && pValue < alpha) {
+            Verdict verdict = counts.candidateOnly() > counts.baselineOnly()
+                    ? Verdict.CANDIDATE_BETTER
+                    : Verdict.CANDIDATE_WORSE;
+            return new PairedDecision(verdict, true, counts, pValue, reported[0], reported[1], alpha);
+        }
+
+        if (margin > 0.0 && counts.pairs() > 0) {
+            double[] tost = differenceInterval(counts, 1.0 - 2.0 * alpha);
+            if (tost[0] > -margin && tost[1] < margin) {
+                return new PairedDecision(Verdict.EQUIVALENT, true, counts, pValue,
+                        reported[0], reported[1], alpha);
+            }
+        }
+
+        return new PairedDecision(Verdict.INCONCLUSIVE, exhausted, counts, pValue,
+                reported[0], reported[1], alpha);
+    }
+
+    /**
+     * Computes the exact two-sided McNemar p-value.
+     *
+     * @param baselineOnly pairs where only the baseline passed (b)
+     * @param candidateOnly pairs where only the candidate passed (c)
+     * @return the p-value (1 if there are no discordant pairs)
+     */
+    public static double mcnemarPValue(int baselineOnly, int candidateOnly) {
+        int discordant = baselineOnly + candidateOnly;
+        if (discordant == 0) {
+            return 1.0;
+        }
+        BinomialDistribution underNull = BinomialDistribution.of(discordant, 0.5);
+        return Math.min(1.0, 2.0 * underNull.cumulativeProbability(Math.min(baselineOnly, candidateOnly)));
+    }
+
+    /**
+     * Computes the Agresti–Min interval for the difference in pass rates.
+     *
+     * @param counts the paired counts
+     * @param confidenceLevel the two-sided confidence level
+     * @return {lower, upper}, clipped to [-1, 1]
+     */
+    public static double[] differenceInterval(PairedCounts counts, double confidenceLevel) {
+        double n = counts.pairs() + 2.0;
+        double b = counts.baselineOnly();
+        double c = counts.candidateOnly();
+        double estimate = (c - b) / n;
+        double variance = Math.max(0.0, ((b + c + 1.0) - (c - b) * (c - b) / n) / (n * n));
+        double z = STANDARD_NORMAL.inverseCumulativeProbability(1.0 - (1.0 - confidenceLevel) / 2.0);
+        double halfWidth = z * Math.sqrt(variance);
+        return new double[] {
+                Math.max(-1.0, estimate - halfWidth),
+                Math.min(1.0, estimate + halfWidth)
+        };
+    }
+}
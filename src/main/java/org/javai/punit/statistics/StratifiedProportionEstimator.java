@@ -0,0 +1,196 @@
+package org.javai.punit.statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.statistics.distribution.NormalDistribution;
+
+/**
+ * Estimates a population pass rate from samples drawn within strata, and
+ * allocates further samples across those strata.
+ *
+ * <h2>Statistical Background</h2>
+ * <p>The population is divided into strata h with weights W<sub>h</sub> (summing to 1).
+ * Given k<sub>h</sub> successes in n<sub>h</sub> trials within each stratum, the
+ * stratified estimator of the population proportion is:
+ * <pre>
+ *   p̂_st = Σ W_h × p̂_h          where p̂_h = k_h / n_h
+ *   Var(p̂_st) = Σ W_h² × p̃_h(1-p̃_h) / n_h
+ * </pre>
+ *
+ * <p>The variance uses the add-one smoothed rate p̃<sub>h</sub> = (k<sub>h</sub>+1)/(n<sub>h</sub>+2),
+ * so a stratum that has only passed (or only failed) so far still contributes
+ * uncertainty. The confidence interval is the normal approximation
+ * p̂<sub>st</sub> ± z × SE, clipped to [0, 1].
+ *
+ * <h2>Neyman Allocation</h2>
+ * <p>For a fixed number of samples, the variance of p̂<sub>st</sub> is minimised by
+ * allocating samples in proportion to W<sub>h</sub> × S<sub>h</sub>, where
+ * S<sub>h</sub> = √(p<sub>h</sub>(1-p<sub>h</sub>)) is the stratum's standard deviation.
+ * Strata that always pass (or always fail) need few samples; strata whose outcome
+ * is uncertain need many. {@link #neymanShares} computes these shares from the
+ * smoothed rates observed so far.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Stratified_sampling">Stratified Sampling</a>
+ * @see <a href="https://en.wikipedia.org/wiki/Neyman_allocation">Neyman Allocation</a>
+ */
+public class StratifiedProportionEstimator {
+
+    private static final NormalDistribution STANDARD_NORMAL = NormalDistribution.of(0, 1);
+
+    /**
+     * Observed counts for one stratum.
+     *
+     * @param key the stratum key
+     * @param weight the stratum's share of the population (0 to 1)
+     * @param successes the number of successful trials
+     * @param trials the number of trials
+     */
+    public record StratumCounts(String key, double weight, int successes, int trials) {
+
+        public StratumCounts {
+            if (weight < 0.0 || weight > 1.0) {
+                throw new IllegalArgumentException("Weight must be in [0, 1], got: " + weight);
+            }
+            if (successes < 0 || trials < 0 || successes > trials) {
+                throw new IllegalArgumentException(
+                        "Invalid counts: " + successes + " successes in " + trials + " trials");
+            }
+        }
+
+        /**
+         * @return the observed pass rate, or 0 if the stratum has no trials
+         */
+        public double passRate() {
+            return trials == 0 ? 0.0 : (double) successes / trials;
+        }
+
+        double smoothedRate() {
+            return (successes + 1.0) / (trials + 2.0);
+        }
+    }
+
+    /**
+     * Computes the stratified estimate and its confidence interval.
+     *
+     * <p>Strata without trials are excluded and the remaining weights renormalised,
+     * so the estimate then describes only the sampled part of the population. Callers
+     * should report {@link StratifiedEstimate#unsampledStrata()} when it is not empty.
+     *
+     * @param strata the per-stratum counts
+     * @param confidenceLevel the confidence level (1-α), e.g. 0.95
+     * @return the stratified estimate
+     * @throws IllegalArgumentException if no stratum has any trials
+     */
+    public StratifiedEstimate estimate(List<StratumCounts> strata, double confidenceLevel) {
+        if (confidenceLevel <= 0.0 || confidenceLevel >= 1.0) {
+            throw new IllegalArgumentException(
+                    "Confidence level must be in (0, 1), got: " + confidenceLevel);
+        }
+
+        double observedWeight = strata.stream()
+                .filter(s -> s.trials() > 0)
+                .mapToDouble(StratumCounts::weight)
+                .sum();
+        if (observedWeight <= 0.0) {
+            throw new IllegalArgumentException("At least one stratum must have trials");
+        }
+
+        double pointEstimate = 0.0;
+        double variance = 0.0;
+        int totalTrials = 0;
+        for (StratumCounts stratum : strata) {
+            if (stratum.trials() == 0) {
+                continue;
+            }
+            double w = stratum.weight() / observedWeight;
+            double smoothed = stratum.smoothedRate();
+            pointEstimate += w * stratum.passRate();
+            variance += w * w * smoothed * (1.0 - smoothed) / stratum.trials();
+            totalTrials += stratum.trials();
+        }
+
+        double standardError = Math.sqrt(variance);
+        double z = STANDARD_NORMAL.inverseCumulativeProbability(1.0 - (1.0 - confidenceLevel) / 2.0);
+        double lower = Math.max(0.0, pointEstimate - z * standardError);
+        double upper = Math.min(1.0, pointEstimate + z * standardError);
+
+        return new StratifiedEstimate(pointEstimate, standardError, lower, upper,
+                confidenceLevel, totalTrials, List.copyOf(strata));
+    }
+
+    /**
+     * Computes the Neyman allocation shares for the next samples.
+     *
+     * @param strata the per-stratum counts observed so far
+     * @return the share of samples each stratum should receive, in input order (sums to 1)
+     */
+    public double[] neymanShares(List<StratumCounts> strata) {
+        double[] shares = new double[strata.size()];
+        double total = 0.0;
+        for (int i = 0; i < strata.size(); i++) {
+            StratumCounts stratum = strata.get(i);
+            double smoothed = stratum.smoothedRate();
+            shares[i] = stratum.weight() * Math.sqrt(smoothed * (1.0 - smoothed));
+            total += shares[i];
+        }
+        for (int i = 0; i < shares.length; i++) {
+            shares[i] = total > 0.0 ? shares[i] / total : 1.0 / shares.length;
+        }
+        return shares;
+    }
+
+    /**
+     * A stratified pass-rate estimate with its confidence interval.
+     *
+     * @param pointEstimate the stratified estimate p̂_st
+     * @param standardError the standard error of the estimate
+     * @param lowerBound the lower bound of the confidence interval
+     * @param upperBound the upper bound of the confidence interval
+     * @param confidenceLevel the confidence level of the interval
+     * @param totalTrials the number of trials across all strata
+     * @param strata the per-stratum counts the estimate was computed from
+     */
+    public record StratifiedEstimate(
+            double pointEstimate,
+            double standardError,
+            double lowerBound,
+            double upperBound,
+            double confidenceLevel,
+            int totalTrials,
+            List<StratumCounts> strata
+    ) {
+
+        /**
+         * @return the strata that received at least one trial
+         */
+        public List<StratumCounts> sampledStrata() {
+            List<StratumCounts> sampled = new ArrayList<>();
+            for (StratumCounts stratum : strata) {
+                if (stratum.trials() > 0) {
+                    sampled.add(stratum);
+                }
+            }
+            return sampled;
+        }
+
+        /**
+         * @return the strata that received no trials and are missing from the estimate
+         */
+        public List<StratumCounts> unsampledStrata() {
+            List<StratumCounts> unsampled = new ArrayList<>();
+            for (StratumCounts stratum : strata) {
+                if (stratum.trials() == 0) {
+                    unsampled.add(stratum);
+                }
+            }
+            return unsampled;
+        }
+
+        /**
+         * @return the combined weight of the unsampled strata (0 when every stratum was sampled)
+         */
+        public double unsampledWeight() {
+            return unsampledStrata().stream().mapToDouble(StratumCounts::weight).sum();
+        }
+    }
+}
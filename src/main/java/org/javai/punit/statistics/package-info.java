@@ -45,6 +45,8 @@
  *       Confidence-First approach</li>
  *   <li>{@link org.javai.punit.statistics.TestVerdictEvaluator} - Evaluates test results
  *       and generates qualified verdicts</li>
+ *   <li>{@link org.javai.punit.statistics.OperatingCharacteristicsSimulator} - Monte Carlo
+ *       false positive/negative rates and expected sample counts of a test design</li>
  * </ul>
  * 
  * <h2>The Three Operational Approaches</h2>
@@ -21,7 +21,7 @@ import org.junit.jupiter.api.Test;
  * </ul>
  *
  * <p>These pillars should not have cross-dependencies except through shared
- * infrastructure in {@code api/}, {@code model/}, or {@code controls/} (pacing, budget).
+ * infrastructure in {@code api/}, {@code model/}, or {@code controls/} (pacing, budget, timeout).
  *
  * <p>Additional rules enforce:
  * <ul>
@@ -106,6 +106,17 @@ class ArchitectureTest {
 
             rule.check(classes);
         }
+
+        @Test
+        @DisplayName("controls.timeout should not depend on experiment or ptest")
+        void controlsTimeoutShouldBeIndependent() {
+            ArchRule rule = noClasses()
+                    .that().resideInAPackage("..controls.timeout..")
+                    .should().dependOnClassesThat()
+                    .resideInAnyPackage("..experiment..", "..ptest..");
+
+            rule.check(classes);
+        }
     }
 
     @Nested
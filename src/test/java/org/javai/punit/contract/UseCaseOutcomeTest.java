@@ -703,4 +703,112 @@ class UseCaseOutcomeTest {
             assertThat(outcome.matchesExpected()).isTrue();
         }
     }
+
+    @Nested
+    @DisplayName("batch builder")
+    class BatchBuilderTests {
+
+        private final List<TestInput> inputs = List.of(
+                new TestInput("a", 1), new TestInput("b", 2), new TestInput("c", 3));
+
+        @Test
+        @DisplayName("produces one outcome per input in order")
+        void producesOneOutcomePerInputInOrder() {
+            List<UseCaseOutcome<String>> outcomes = UseCaseOutcome
+                    .withContract(CONTRACT)
+                    .inputs(inputs)
+                    .executeBatch(batch -> batch.stream().map(TestInput::value).toList())
+                    .build();
+
+            assertThat(outcomes).extracting(UseCaseOutcome::result)
+                    .containsExactly("a", "b", "c");
+            assertThat(outcomes).allSatisfy(outcome ->
+                    assertThat(outcome.metadata()).containsEntry("batchSize", 3));
+        }
+
+        @Test
+        @DisplayName("divides batch time evenly across items")
+        void dividesBatchTimeEvenlyAcrossItems() {
+            List<UseCaseOutcome<String>> outcomes = UseCaseOutcome
+                    .withContract(CONTRACT)
+                    .inputs(inputs)
+                    .executeBatch(batch -> {
+                        sleep(30);
+                        return batch.stream().map(TestInput::value).toList();
+                    })
+                    .build();
+
+            Duration first = outcomes.get(0).executionTime();
+            assertThat(first).isGreaterThanOrEqualTo(Duration.ofMillis(10));
+            assertThat(outcomes).extracting(UseCaseOutcome::executionTime).containsOnly(first);
+        }
+
+        @Test
+        @DisplayName("attributes totals with remainder to earliest items")
+        void attributesTotalsWithRemainderToEarliestItems() {
+            List<UseCaseOutcome<String>> outcomes = UseCaseOutcome
+                    .withContract(CONTRACT)
+                    .inputs(inputs)
+                    .executeBatch(batch -> batch.stream().map(TestInput::value).toList())
+                    .attribute("tokensUsed", 100)
+                    .meta("model", "m1")
+                    .build();
+
+            assertThat(outcomes).extracting(o -> o.getMetadataLong("tokensUsed").orElseThrow())
+                    .containsExactly(34L, 33L, 33L);
+            assertThat(outcomes).allSatisfy(outcome ->
+                    assertThat(outcome.metadata()).containsEntry("model", "m1"));
+        }
+
+        @Test
+        @DisplayName("withResult extracts per-item metadata")
+        void withResultExtractsPerItemMetadata() {
+            List<UseCaseOutcome<String>> outcomes = UseCaseOutcome
+                    .withContract(CONTRACT)
+                    .inputs(inputs)
+                    .executeBatch(batch -> batch.stream().map(TestInput::value).toList())
+                    .withResult((result, meta) -> meta.meta("value", result))
+                    .build();
+
+            assertThat(outcomes).extracting(o -> o.metadata().get("value"))
+                    .containsExactly("a", "b", "c");
+        }
+
+        @Test
+        @DisplayName("throws when result count does not match input count")
+        void throwsWhenResultCountDoesNotMatch() {
+            assertThatThrownBy(() -> UseCaseOutcome
+                    .withContract(CONTRACT)
+                    .inputs(inputs)
+                    .executeBatch(batch -> List.of("only one")))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("1 results for 3 inputs");
+        }
+
+        @Test
+        @DisplayName("throws when inputs are empty")
+        void throwsWhenInputsAreEmpty() {
+            assertThatThrownBy(() -> UseCaseOutcome.withContract(CONTRACT).inputs(List.of()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("throws when attributed total is negative")
+        void throwsWhenAttributedTotalIsNegative() {
+            assertThatThrownBy(() -> UseCaseOutcome
+                    .withContract(CONTRACT)
+                    .inputs(inputs)
+                    .executeBatch(batch -> batch.stream().map(TestInput::value).toList())
+                    .attribute("tokensUsed", -1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        private void sleep(long ms) {
+            try {
+                Thread.sleep(ms);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
 }
@@ -131,6 +131,37 @@ class BudgetMessageFormatterTest {
             assertThat(message).contains("300 budget");
         }
 
+        @Test
+        @DisplayName("formats forecast token exhaustion with projection")
+        void formatsForecastTokenExhaustion() {
+            CostBudgetMonitor methodBudget = new CostBudgetMonitor(
+                    0, 300, 0, CostBudgetMonitor.TokenMode.DYNAMIC, BudgetExhaustedBehavior.FAIL);
+            methodBudget.recordDynamicTokens(250);
+            methodBudget.recordSampleCost(250, 10);
+
+            String message = formatter.buildExhaustionMessage(
+                    TerminationReason.METHOD_TOKEN_BUDGET_EXHAUSTED,
+                    methodBudget, null, null);
+
+            assertThat(message).isEqualTo(
+                    "Method token budget exhausted: 250 tokens + ~250 projected for next sample > 300 budget");
+        }
+
+        @Test
+        @DisplayName("formats forecast class time exhaustion with projection")
+        void formatsForecastClassTimeExhaustion() {
+            SharedBudgetMonitor classBudget = new SharedBudgetMonitor(
+                    SharedBudgetMonitor.Scope.CLASS, 60_000, 0, BudgetExhaustedBehavior.FAIL);
+            classBudget.recordSampleCost(0, 90_000);
+
+            String message = formatter.buildExhaustionMessage(
+                    TerminationReason.CLASS_TIME_BUDGET_EXHAUSTED,
+                    unlimitedMethodBudget(), classBudget, null);
+
+            assertThat(message).contains("Class time budget exhausted");
+            assertThat(message).contains("~90000ms projected for next sample > 60000ms budget");
+        }
+
         @Test
         @DisplayName("returns description for unrecognised reason")
         void returnsDescriptionForUnrecognisedReason() {
@@ -138,6 +138,71 @@ class BudgetOrchestratorTest {
         }
     }
 
+    @Nested
+    @DisplayName("checkBeforeSample with FORECAST policy")
+    class CheckBeforeSampleForecast {
+
+        private final BudgetOrchestrator forecasting = new BudgetOrchestrator(BudgetPolicy.FORECAST);
+
+        private CostBudgetMonitor dynamicMethodBudget(long budget, long consumedPerSample, int samples) {
+            CostBudgetMonitor monitor = new CostBudgetMonitor(0, budget, 0,
+                    CostBudgetMonitor.TokenMode.DYNAMIC, BudgetExhaustedBehavior.FAIL);
+            for (int i = 0; i < samples; i++) {
+                monitor.recordDynamicTokens(consumedPerSample);
+                monitor.recordSampleCost(consumedPerSample, 1);
+            }
+            return monitor;
+        }
+
+        @Test
+        @DisplayName("refuses a sample projected to exceed the method budget")
+        void refusesSampleProjectedToExceedMethodBudget() {
+            CostBudgetMonitor methodBudget = dynamicMethodBudget(1000, 300, 3);
+
+            BudgetCheckResult result = forecasting.checkBeforeSample(null, null, methodBudget);
+
+            assertThat(result.terminationReason()).contains(TerminationReason.METHOD_TOKEN_BUDGET_EXHAUSTED);
+        }
+
+        @Test
+        @DisplayName("reactive policy lets the same sample run")
+        void reactivePolicyLetsSampleRun() {
+            CostBudgetMonitor methodBudget = dynamicMethodBudget(1000, 300, 3);
+
+            BudgetCheckResult result = new BudgetOrchestrator(BudgetPolicy.REACTIVE)
+                    .checkBeforeSample(null, null, methodBudget);
+
+            assertThat(result.shouldTerminate()).isFalse();
+        }
+
+        @Test
+        @DisplayName("refuses a sample projected to exceed the class budget")
+        void refusesSampleProjectedToExceedClassBudget() {
+            SharedBudgetMonitor classBudget = tokenLimitedSharedBudget(SharedBudgetMonitor.Scope.CLASS, 500);
+            CostBudgetMonitor methodBudget = unlimitedMethodBudget();
+            forecasting.recordSampleCost(200, 1, methodBudget, classBudget, null);
+            classBudget.addTokens(400);
+
+            BudgetCheckResult result = forecasting.checkBeforeSample(null, classBudget, methodBudget);
+
+            assertThat(result.terminationReason()).contains(TerminationReason.CLASS_TOKEN_BUDGET_EXHAUSTED);
+        }
+
+        @Test
+        @DisplayName("records sample cost at every active scope")
+        void recordsSampleCostAtEveryScope() {
+            SharedBudgetMonitor suiteBudget = unlimitedSharedBudget(SharedBudgetMonitor.Scope.SUITE);
+            SharedBudgetMonitor classBudget = unlimitedSharedBudget(SharedBudgetMonitor.Scope.CLASS);
+            CostBudgetMonitor methodBudget = unlimitedMethodBudget();
+
+            forecasting.recordSampleCost(100, 20, methodBudget, classBudget, suiteBudget);
+
+            assertThat(methodBudget.getSampleCosts().getCount()).isEqualTo(1);
+            assertThat(classBudget.getSampleCosts().getCount()).isEqualTo(1);
+            assertThat(suiteBudget.getSampleCosts().getCount()).isEqualTo(1);
+        }
+    }
+
     @Nested
     @DisplayName("checkAfterSample")
     class CheckAfterSample {
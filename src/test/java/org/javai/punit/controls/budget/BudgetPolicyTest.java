@@ -0,0 +1,43 @@
+package org.javai.punit.controls.budget;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BudgetPolicy}.
+ */
+class BudgetPolicyTest {
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(BudgetPolicy.PROP_BUDGET_POLICY);
+    }
+
+    @Test
+    @DisplayName("Defaults to REACTIVE when nothing is configured")
+    void defaultsToReactive() {
+        assertThat(BudgetPolicy.resolve()).isEqualTo(BudgetPolicy.REACTIVE);
+    }
+
+    @Test
+    @DisplayName("Reads the system property, ignoring case and whitespace")
+    void readsSystemProperty() {
+        System.setProperty(BudgetPolicy.PROP_BUDGET_POLICY, " forecast ");
+
+        assertThat(BudgetPolicy.resolve()).isEqualTo(BudgetPolicy.FORECAST);
+    }
+
+    @Test
+    @DisplayName("Rejects an unknown policy, naming the property and the value")
+    void rejectsUnknownPolicy() {
+        System.setProperty(BudgetPolicy.PROP_BUDGET_POLICY, "FORCAST");
+
+        assertThatThrownBy(BudgetPolicy::resolve)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(BudgetPolicy.PROP_BUDGET_POLICY)
+                .hasMessageContaining("FORCAST");
+    }
+}
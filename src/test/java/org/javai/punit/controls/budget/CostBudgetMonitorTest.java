@@ -127,5 +127,50 @@ class CostBudgetMonitorTest {
         assertThat(monitor.hasTimeBudget()).isTrue();
         assertThat(monitor.hasTokenBudget()).isTrue();
     }
-}
 
+    @Test
+    void forecastRequiresObservations() {
+        CostBudgetMonitor monitor = new CostBudgetMonitor(
+                0, 100, 0, CostBudgetMonitor.TokenMode.DYNAMIC, BudgetExhaustedBehavior.FAIL);
+
+        assertThat(monitor.checkForecastBeforeSample()).isEmpty();
+    }
+
+    @Test
+    void forecastRefusesSampleProjectedToExceedTokenBudget() {
+        CostBudgetMonitor monitor = new CostBudgetMonitor(
+                0, 1000, 0, CostBudgetMonitor.TokenMode.DYNAMIC, BudgetExhaustedBehavior.FAIL);
+
+        // Two samples of 400 tokens: 800 consumed, next projected at 400
+        for (int i = 0; i < 2; i++) {
+            monitor.recordDynamicTokens(400);
+            monitor.recordSampleCost(400, 1);
+        }
+
+        // Reactive check still passes: the budget has not been reached
+        assertThat(monitor.checkTokenBudgetAfterSample()).isEmpty();
+        assertThat(monitor.checkForecastBeforeSample())
+                .contains(TerminationReason.METHOD_TOKEN_BUDGET_EXHAUSTED);
+    }
+
+    @Test
+    void forecastAllowsSampleWithinRemainingTokenBudget() {
+        CostBudgetMonitor monitor = new CostBudgetMonitor(
+                0, 1000, 0, CostBudgetMonitor.TokenMode.DYNAMIC, BudgetExhaustedBehavior.FAIL);
+        monitor.recordDynamicTokens(100);
+        monitor.recordSampleCost(100, 1);
+
+        assertThat(monitor.checkForecastBeforeSample()).isEmpty();
+    }
+
+    @Test
+    void forecastRefusesSampleProjectedToExceedTimeBudget() {
+        CostBudgetMonitor monitor = new CostBudgetMonitor(
+                60_000, 0, 0, CostBudgetMonitor.TokenMode.NONE, BudgetExhaustedBehavior.FAIL);
+        monitor.recordSampleCost(0, 90_000);
+
+        assertThat(monitor.checkTimeBudget()).isEmpty();
+        assertThat(monitor.checkForecastBeforeSample())
+                .contains(TerminationReason.METHOD_TIME_BUDGET_EXHAUSTED);
+    }
+}
@@ -0,0 +1,68 @@
+package org.javai.punit.controls.budget;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SampleCostStatistics")
+class SampleCostStatisticsTest {
+
+    @Test
+    @DisplayName("projects nothing before any sample is recorded")
+    void projectsNothingWhenEmpty() {
+        SampleCostStatistics stats = new SampleCostStatistics();
+
+        assertThat(stats.hasObservations()).isFalse();
+        assertThat(stats.projectedTokens()).isZero();
+        assertThat(stats.projectedTimeMs()).isZero();
+    }
+
+    @Test
+    @DisplayName("projects the single observation after one sample")
+    void projectsSingleObservation() {
+        SampleCostStatistics stats = new SampleCostStatistics();
+        stats.record(120, 40);
+
+        assertThat(stats.getCount()).isEqualTo(1);
+        assertThat(stats.projectedTokens()).isEqualTo(120);
+        assertThat(stats.projectedTimeMs()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("tracks the mean of recorded costs")
+    void tracksMean() {
+        SampleCostStatistics stats = new SampleCostStatistics();
+        stats.record(100, 10);
+        stats.record(200, 20);
+        stats.record(300, 30);
+
+        assertThat(stats.getMeanTokens()).isEqualTo(200.0);
+        assertThat(stats.getMeanTimeMs()).isEqualTo(20.0);
+    }
+
+    @Test
+    @DisplayName("projects mean plus two standard deviations")
+    void projectsTailEstimate() {
+        SampleCostStatistics stats = new SampleCostStatistics();
+        stats.record(100, 10);
+        stats.record(200, 20);
+        stats.record(300, 30);
+
+        // sample standard deviation of {100, 200, 300} is 100
+        assertThat(stats.projectedTokens()).isEqualTo(400);
+        assertThat(stats.projectedTimeMs()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("projects the constant cost when samples do not vary")
+    void projectsConstantCost() {
+        SampleCostStatistics stats = new SampleCostStatistics();
+        for (int i = 0; i < 10; i++) {
+            stats.record(50, 5);
+        }
+
+        assertThat(stats.projectedTokens()).isEqualTo(50);
+        assertThat(stats.projectedTimeMs()).isEqualTo(5);
+    }
+}
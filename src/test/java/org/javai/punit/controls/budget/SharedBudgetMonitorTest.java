@@ -134,5 +134,26 @@ class SharedBudgetMonitorTest {
         monitor.addTokens(700);
         assertThat(monitor.getRemainingTokenBudget()).isEqualTo(0);
     }
-}
 
+    @Test
+    void forecastRefusesSampleProjectedToExceedTokenBudget() {
+        SharedBudgetMonitor monitor = new SharedBudgetMonitor(
+                SharedBudgetMonitor.Scope.SUITE, 0, 1000, BudgetExhaustedBehavior.FAIL);
+
+        monitor.addTokens(700);
+        monitor.recordSampleCost(350, 1);
+        monitor.recordSampleCost(350, 1);
+
+        assertThat(monitor.checkTokenBudget()).isEmpty();
+        assertThat(monitor.checkForecast()).contains(TerminationReason.SUITE_TOKEN_BUDGET_EXHAUSTED);
+    }
+
+    @Test
+    void forecastRequiresObservations() {
+        SharedBudgetMonitor monitor = new SharedBudgetMonitor(
+                SharedBudgetMonitor.Scope.CLASS, 0, 1000, BudgetExhaustedBehavior.FAIL);
+        monitor.addTokens(999);
+
+        assertThat(monitor.checkForecast()).isEmpty();
+    }
+}
@@ -358,6 +358,11 @@ class PacingCalculatorTest {
             public long minMsPerSample() {
                 return minMs;
             }
+
+            @Override
+            public String pool() {
+                return "";
+            }
         };
     }
 }
@@ -84,6 +84,30 @@ class PacingConfigurationTest {
         }
     }
 
+    @Nested
+    @DisplayName("withSamples()")
+    class WithSamplesTests {
+
+        @Test
+        @DisplayName("Recomputes the estimated duration for the new sample count")
+        void recomputesDuration() {
+            PacingConfiguration config = new PacingConfiguration(
+                    2.0, 0, 0, 0, 0, 500, 1, 50000, 2.0).withPool("shared");
+
+            PacingConfiguration resized = config.withSamples(40);
+
+            assertThat(resized.estimatedDurationMs()).isEqualTo(20000);
+            assertThat(resized.effectiveMinDelayMs()).isEqualTo(500);
+            assertThat(resized.pool()).isEqualTo("shared");
+        }
+
+        @Test
+        @DisplayName("Keeps an unpaced configuration at zero duration")
+        void unpacedStaysZero() {
+            assertThat(PacingConfiguration.noPacing().withSamples(40).estimatedDurationMs()).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("PacingReporter.formattedDuration()")
     class FormattedDurationTests {
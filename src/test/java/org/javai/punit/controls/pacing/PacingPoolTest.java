@@ -0,0 +1,303 @@
+package org.javai.punit.controls.pacing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link PacingPool} and {@link PacingPoolRegistry}.
+ */
+class PacingPoolTest {
+
+    @AfterEach
+    void tearDown() {
+        PacingPoolRegistry.reset();
+        System.clearProperty(PacingPoolRegistry.PROP_POOL_DIR);
+    }
+
+    @Nested
+    @DisplayName("Interval")
+    class IntervalTests {
+
+        @Test
+        @DisplayName("Most restrictive member delay wins")
+        void mostRestrictiveMemberWins() {
+            PacingPool pool = new PacingPool("p");
+            pool.register("A.fast", 100);
+            pool.register("B.slow", 400);
+            pool.register("C.medium", 200);
+
+            assertThat(pool.getIntervalMs()).isEqualTo(400);
+            assertThat(pool.snapshot().members()).containsExactly("A.fast", "B.slow", "C.medium");
+        }
+    }
+
+    @Nested
+    @DisplayName("Acquisition")
+    class AcquisitionTests {
+
+        @Test
+        @DisplayName("First acquisition does not wait")
+        void firstAcquisitionIsImmediate() throws InterruptedException {
+            PacingPool pool = new PacingPool("p");
+            pool.register("A.test", 50);
+
+            assertThat(pool.acquire()).isZero();
+        }
+
+        @Test
+        @DisplayName("Concurrent members are spaced by the pool interval")
+        void concurrentMembersShareSlots() throws InterruptedException {
+            PacingPool pool = new PacingPool("p");
+            pool.register("A.test", 40);
+            pool.register("B.test", 40);
+
+            int threads = 4;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Long> acquiredAt = new ArrayList<>();
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Thread worker = new Thread(() -> {
+                    try {
+                        start.await();
+                        pool.acquire();
+                        synchronized (acquiredAt) {
+                            acquiredAt.add(System.currentTimeMillis());
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                workers.add(worker);
+                worker.start();
+            }
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+
+            List<Long> sorted = acquiredAt.stream().sorted().toList();
+            // Four slots 40ms apart span at least 120ms (allowing for timer granularity)
+            assertThat(sorted.get(threads - 1) - sorted.get(0)).isGreaterThanOrEqualTo(110);
+            assertThat(pool.snapshot().acquisitions()).isEqualTo(threads);
+            assertThat(pool.snapshot().totalWaitMs()).isGreaterThan(0);
+        }
+
+        @Test
+        @DisplayName("First slot of concurrent acquirers is recorded once")
+        void firstSlotRecordedOnce() throws InterruptedException {
+            PacingPool pool = new PacingPool("p");
+            pool.register("A.test", 30);
+
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                Thread worker = new Thread(() -> {
+                    try {
+                        pool.acquire();
+                        pool.release();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                workers.add(worker);
+                worker.start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+
+            // Three slots 30ms apart: the active span runs from the first slot to the last
+            assertThat(pool.snapshot().activeMs()).isGreaterThanOrEqualTo(55);
+        }
+
+        @Test
+        @DisplayName("In-flight samples never exceed the lowest member concurrency limit")
+        void enforcesConcurrencyLimit() throws InterruptedException {
+            PacingPool pool = new PacingPool("p");
+            pool.register("A.test", 0, 3);
+            pool.register("B.test", 0, 2);
+            pool.register("C.test", 0);
+
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < 6; t++) {
+                Thread worker = new Thread(() -> {
+                    try {
+                        pool.acquire();
+                        try {
+                            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                            Thread.sleep(30);
+                            inFlight.decrementAndGet();
+                        } finally {
+                            pool.release();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                workers.add(worker);
+                worker.start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+
+            assertThat(pool.getMaxConcurrentRequests()).isEqualTo(2);
+            assertThat(maxInFlight.get()).isEqualTo(2);
+            assertThat(pool.snapshot().acquisitions()).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("A sample interrupted while waiting for a permit holds none")
+        void interruptedPermitWait() throws InterruptedException {
+            PacingPool pool = new PacingPool("p");
+            pool.register("A.test", 0, 1);
+            pool.acquire();
+
+            AtomicBoolean interrupted = new AtomicBoolean();
+            Thread waiter = new Thread(() -> {
+                try {
+                    pool.acquire();
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+            });
+            waiter.start();
+            awaitWaiting(waiter);
+            waiter.interrupt();
+            waiter.join();
+
+            assertThat(interrupted).isTrue();
+            assertThat(pool.inFlight()).isEqualTo(1);
+            pool.release();
+            assertThat(pool.inFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("A sample interrupted while waiting for its slot returns its permit")
+        void interruptedSlotWait() throws InterruptedException {
+            PacingPool pool = new PacingPool("p");
+            pool.register("A.test", 60_000, 2);
+            pool.acquire();
+            pool.release();
+
+            AtomicBoolean interrupted = new AtomicBoolean();
+            Thread waiter = new Thread(() -> {
+                try {
+                    pool.acquire();
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+            });
+            waiter.start();
+            awaitWaiting(waiter);
+            waiter.interrupt();
+            waiter.join();
+
+            assertThat(interrupted).isTrue();
+            assertThat(pool.inFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("Pools sharing a slot file space slots by the strictest interval of any process")
+        void slotFileKeepsStrictestInterval(@TempDir Path dir) throws InterruptedException {
+            Path slotFile = dir.resolve("shared.pacing");
+            PacingPool loose = new PacingPool("shared", slotFile);
+            PacingPool strict = new PacingPool("shared", slotFile);
+            loose.register("A.test", 10);
+            strict.register("B.test", 200);
+
+            strict.acquire();
+            loose.acquire();
+            long strictWait = strict.acquire();
+
+            // The loose process must not let the strict one follow it after only 10ms
+            assertThat(strictWait).isGreaterThanOrEqualTo(150);
+        }
+
+        @Test
+        @DisplayName("Pools sharing a slot file share the limiter")
+        void slotFileIsShared(@TempDir Path dir) throws InterruptedException {
+            Path slotFile = dir.resolve("shared.pacing");
+            PacingPool first = new PacingPool("shared", slotFile);
+            PacingPool second = new PacingPool("shared", slotFile);
+            first.register("A.test", 200);
+            second.register("B.test", 200);
+
+            long firstWait = first.acquire();
+            long secondWait = second.acquire();
+
+            assertThat(firstWait).isZero();
+            assertThat(secondWait).isGreaterThanOrEqualTo(150);
+            assertThat(second.isCrossProcess()).isTrue();
+        }
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("Utilisation")
+    class UtilisationTests {
+
+        @Test
+        @DisplayName("Derives limit and observed rate")
+        void derivesRates() {
+            PacingPool.Utilisation utilisation = new PacingPool.Utilisation(
+                    "p", List.of("A.test"), 500, 11, 0, 10_000, false);
+
+            assertThat(utilisation.limitRps()).isEqualTo(2.0);
+            assertThat(utilisation.observedRps()).isEqualTo(1.0);
+            assertThat(utilisation.utilisation()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("Observed rate is zero with fewer than two acquisitions")
+        void tooFewAcquisitions() {
+            PacingPool.Utilisation utilisation = new PacingPool.Utilisation(
+                    "p", List.of("A.test"), 500, 1, 0, 0, false);
+
+            assertThat(utilisation.observedRps()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Registry")
+    class RegistryTests {
+
+        @Test
+        @DisplayName("Returns the same pool for the same name")
+        void samePoolForSameName() {
+            assertThat(PacingPoolRegistry.pool("x")).isSameAs(PacingPoolRegistry.pool("x"));
+            assertThat(PacingPoolRegistry.pool("x")).isNotSameAs(PacingPoolRegistry.pool("y"));
+            assertThat(PacingPoolRegistry.pools()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("Creates cross-process pools when a pool directory is configured")
+        void usesPoolDirectory(@TempDir Path dir) {
+            System.setProperty(PacingPoolRegistry.PROP_POOL_DIR, dir.toString());
+
+            assertThat(PacingPoolRegistry.pool("openai/gpt-4").isCrossProcess()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Find returns empty for unknown pools")
+        void findUnknownPool() {
+            assertThat(PacingPoolRegistry.find("unknown")).isEmpty();
+        }
+    }
+}
@@ -237,6 +237,54 @@ class PacingReporterTest {
             assertThat(output).contains("═ EXECUTION PLAN");
             assertThat(output).contains("PUnit ═");
         }
+
+        @Test
+        @DisplayName("Includes projected tokens when known")
+        void includesProjectedTokens() {
+            PacingConfiguration pacing = new PacingConfiguration(
+                    0, 60, 0, 0, 0, 1000, 1, 200000, 1.0);
+
+            reporter.printPreFlightReport("testMethod", 200, pacing, Instant.now(), 20000, 0);
+
+            String output = getLoggedContent();
+            assertThat(output).contains("Projected tokens:");
+            assertThat(output).contains("20,000");
+            assertThat(output).doesNotContain("exceeds token budget");
+        }
+
+        @Test
+        @DisplayName("Flags projected tokens above the token budget")
+        void flagsProjectedTokensAboveBudget() {
+            PacingConfiguration pacing = new PacingConfiguration(
+                    0, 60, 0, 0, 0, 1000, 1, 200000, 1.0);
+
+            reporter.printPreFlightReport("testMethod", 200, pacing, Instant.now(), 20000, 5000);
+
+            assertThat(getLoggedContent()).contains("exceeds token budget of 5,000");
+        }
+
+        @Test
+        @DisplayName("Reports projected tokens without pacing")
+        void reportsProjectedTokensWithoutPacing() {
+            reporter.printPreFlightReport("testMethod", 200, PacingConfiguration.noPacing(),
+                    Instant.now(), 20000, 5000);
+
+            String output = getLoggedContent();
+            assertThat(output).contains("Projected tokens:");
+            assertThat(output).contains("exceeds token budget of 5,000");
+            assertThat(output).doesNotContain("PACING CONSTRAINTS");
+        }
+
+        @Test
+        @DisplayName("Omits projected tokens when unknown")
+        void omitsProjectedTokensWhenUnknown() {
+            PacingConfiguration pacing = new PacingConfiguration(
+                    0, 60, 0, 0, 0, 1000, 1, 200000, 1.0);
+
+            reporter.printPreFlightReport("testMethod", 200, pacing, Instant.now());
+
+            assertThat(getLoggedContent()).doesNotContain("Projected tokens:");
+        }
     }
 
     @Nested
@@ -327,6 +375,40 @@ class PacingReporterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Pool Utilisation")
+    class PoolUtilisationTests {
+
+        @Test
+        @DisplayName("Reports members, interval and utilisation")
+        void reportsPoolUtilisation() {
+            PacingPool.Utilisation utilisation = new PacingPool.Utilisation(
+                    "openai-gpt4", List.of("A.first", "B.second"), 1000, 11, 4000, 10000, false);
+
+            reporter.printPoolUtilisation(utilisation);
+
+            assertThat(getInfoEvents()).hasSize(1);
+            String output = getLoggedContent();
+            assertThat(output).contains("PACING POOL");
+            assertThat(output).contains("openai-gpt4");
+            assertThat(output).contains("A.first");
+            assertThat(output).contains("B.second");
+            assertThat(output).contains("1000ms");
+            assertThat(output).contains("60.0 samples/min (100%)");
+        }
+
+        @Test
+        @DisplayName("Reports unlimited pool without utilisation")
+        void reportsUnlimitedPool() {
+            PacingPool.Utilisation utilisation = new PacingPool.Utilisation(
+                    "free", List.of("A.first"), 0, 5, 0, 100, false);
+
+            reporter.printPoolUtilisation(utilisation);
+
+            assertThat(getLoggedContent()).contains("unlimited");
+        }
+    }
+
     private static final class TestAppender extends AbstractAppender {
 
         private final List<org.apache.logging.log4j.core.LogEvent> events = new ArrayList<>();
@@ -35,6 +35,7 @@ class PacingResolverTest {
         System.clearProperty(PacingResolver.PROP_MAX_RPH);
         System.clearProperty(PacingResolver.PROP_MAX_CONCURRENT);
         System.clearProperty(PacingResolver.PROP_MIN_MS_PER_SAMPLE);
+        System.clearProperty(PacingResolver.PROP_POOL);
     }
 
     @Nested
@@ -276,6 +277,60 @@ class PacingResolverTest {
         }
     }
 
+    @Nested
+    @DisplayName("Shared Pool")
+    class SharedPoolTests {
+
+        @Test
+        @DisplayName("No pool when annotation does not name one")
+        void noPoolByDefault() {
+            PacingConfiguration config = resolver.resolve(createPacing(0, 60, 0, 0, 0), 100, 0);
+
+            assertThat(config.hasPool()).isFalse();
+            assertThat(config.pool()).isNull();
+        }
+
+        @Test
+        @DisplayName("Resolves pool name from annotation")
+        void resolvesPoolFromAnnotation() {
+            PacingConfiguration config = resolver.resolve(
+                    createPacing(0, 60, 0, 0, 0, "openai-gpt4"), 100, 0);
+
+            assertThat(config.pool()).isEqualTo("openai-gpt4");
+            assertThat(config.effectiveMinDelayMs()).isEqualTo(1000);
+        }
+
+        @Test
+        @DisplayName("Pool alone counts as pacing")
+        void poolAloneCountsAsPacing() {
+            PacingConfiguration config = resolver.resolve(
+                    createPacing(0, 0, 0, 0, 0, "shared"), 100, 0);
+
+            assertThat(config.hasPacing()).isTrue();
+        }
+
+        @Test
+        @DisplayName("System property overrides annotation pool")
+        void systemPropertyOverridesPool() {
+            System.setProperty(PacingResolver.PROP_POOL, "ci-pool");
+
+            PacingConfiguration config = resolver.resolve(
+                    createPacing(0, 60, 0, 0, 0, "openai-gpt4"), 100, 0);
+
+            assertThat(config.pool()).isEqualTo("ci-pool");
+        }
+
+        @Test
+        @DisplayName("Environment variable assigns pool when annotation has none")
+        void envVarAssignsPool() {
+            envVars.put(PacingResolver.ENV_POOL, "env-pool");
+
+            PacingConfiguration config = resolver.resolve(createPacing(0, 60, 0, 0, 0), 100, 0);
+
+            assertThat(config.pool()).isEqualTo("env-pool");
+        }
+    }
+
     // Test class with annotated methods
     public static class TestClass {
         @Pacing(maxRequestsPerMinute = 60)
@@ -300,6 +355,10 @@ class PacingResolverTest {
 
     // Helper to create a Pacing annotation instance
     private Pacing createPacing(double rps, double rpm, double rph, int concurrent, long minMs) {
+        return createPacing(rps, rpm, rph, concurrent, minMs, "");
+    }
+
+    private Pacing createPacing(double rps, double rpm, double rph, int concurrent, long minMs, String pool) {
         return new Pacing() {
             @Override
             public Class<? extends Annotation> annotationType() {
@@ -330,6 +389,11 @@ class PacingResolverTest {
             public long minMsPerSample() {
                 return minMs;
             }
+
+            @Override
+            public String pool() {
+                return pool;
+            }
         };
     }
 }
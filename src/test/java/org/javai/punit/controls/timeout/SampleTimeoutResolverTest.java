@@ -0,0 +1,67 @@
+package org.javai.punit.controls.timeout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SampleTimeoutResolver}.
+ */
+class SampleTimeoutResolverTest {
+
+    private final Map<String, String> env = new HashMap<>();
+
+    private final SampleTimeoutResolver resolver = new SampleTimeoutResolver() {
+        @Override
+        protected String getEnvironmentVariable(String name) {
+            return env.get(name);
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(SampleTimeoutResolver.PROP_SAMPLE_TIMEOUT_MS);
+    }
+
+    @Test
+    @DisplayName("Uses the annotation value when no override is set")
+    void usesAnnotationValue() {
+        assertThat(resolver.resolve(2_000, "test")).isEqualTo(2_000);
+        assertThat(resolver.resolve(0, "test")).isZero();
+    }
+
+    @Test
+    @DisplayName("System property overrides environment variable and annotation")
+    void systemPropertyWins() {
+        env.put(SampleTimeoutResolver.ENV_SAMPLE_TIMEOUT_MS, "3000");
+        System.setProperty(SampleTimeoutResolver.PROP_SAMPLE_TIMEOUT_MS, "500");
+
+        assertThat(resolver.resolve(2_000, "test")).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("Environment variable overrides annotation")
+    void environmentVariableOverridesAnnotation() {
+        env.put(SampleTimeoutResolver.ENV_SAMPLE_TIMEOUT_MS, "3000");
+
+        assertThat(resolver.resolve(2_000, "test")).isEqualTo(3_000);
+    }
+
+    @Test
+    @DisplayName("Rejects negative and non-numeric values")
+    void rejectsInvalidValues() {
+        assertThatThrownBy(() -> resolver.resolve(-1, "myTest"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("myTest")
+                .hasMessageContaining("sampleTimeoutMs must be >= 0");
+
+        System.setProperty(SampleTimeoutResolver.PROP_SAMPLE_TIMEOUT_MS, "soon");
+        assertThatThrownBy(() -> resolver.resolve(0, "myTest"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(SampleTimeoutResolver.PROP_SAMPLE_TIMEOUT_MS);
+    }
+}
@@ -0,0 +1,161 @@
+package org.javai.punit.controls.timeout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SampleWatchdog}.
+ */
+class SampleWatchdogTest {
+
+    @Nested
+    @DisplayName("Disabled")
+    class DisabledTests {
+
+        @Test
+        @DisplayName("Zero timeout runs the body on the calling thread")
+        void zeroTimeoutRunsInline() throws Throwable {
+            SampleWatchdog watchdog = new SampleWatchdog(0);
+            AtomicReference<Thread> bodyThread = new AtomicReference<>();
+
+            watchdog.run(() -> bodyThread.set(Thread.currentThread()));
+
+            assertThat(watchdog.isEnabled()).isFalse();
+            assertThat(bodyThread.get()).isSameAs(Thread.currentThread());
+        }
+    }
+
+    @Nested
+    @DisplayName("Within deadline")
+    class WithinDeadlineTests {
+
+        @Test
+        @DisplayName("Completes normally when the body finishes in time")
+        void completesNormally() throws Throwable {
+            SampleWatchdog watchdog = new SampleWatchdog(1_000);
+            AtomicBoolean ran = new AtomicBoolean();
+
+            watchdog.run(() -> ran.set(true));
+
+            assertThat(ran).isTrue();
+        }
+
+        @Test
+        @DisplayName("Runs the body on the calling thread so thread-bound state carries over")
+        void runsOnCallingThread() throws Throwable {
+            SampleWatchdog watchdog = new SampleWatchdog(1_000);
+            ThreadLocal<String> context = ThreadLocal.withInitial(() -> "none");
+            context.set("trace-42");
+            AtomicReference<Thread> bodyThread = new AtomicReference<>();
+            AtomicReference<String> seen = new AtomicReference<>();
+
+            watchdog.run(() -> {
+                bodyThread.set(Thread.currentThread());
+                seen.set(context.get());
+            });
+
+            assertThat(bodyThread.get()).isSameAs(Thread.currentThread());
+            assertThat(seen.get()).isEqualTo("trace-42");
+        }
+
+        @Test
+        @DisplayName("Rethrows the body's own failure unchanged")
+        void rethrowsBodyFailure() {
+            SampleWatchdog watchdog = new SampleWatchdog(1_000);
+            AssertionError failure = new AssertionError("expected");
+
+            assertThatThrownBy(() -> watchdog.run(() -> { throw failure; }))
+                    .isSameAs(failure);
+        }
+    }
+
+    @Nested
+    @DisplayName("Deadline exceeded")
+    class DeadlineExceededTests {
+
+        @Test
+        @DisplayName("Interrupts the body and throws SampleTimeoutException")
+        void interruptsAndThrows() throws InterruptedException {
+            SampleWatchdog watchdog = new SampleWatchdog(50);
+            AtomicBoolean interrupted = new AtomicBoolean();
+
+            long start = System.currentTimeMillis();
+            assertThatThrownBy(() -> watchdog.run(() -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    throw e;
+                }
+            }))
+                    .isInstanceOf(SampleTimeoutException.class)
+                    .satisfies(e -> {
+                        SampleTimeoutException timeout = (SampleTimeoutException) e;
+                        assertThat(timeout.getTimeoutMs()).isEqualTo(50);
+                        assertThat(timeout.getElapsedMs()).isGreaterThanOrEqualTo(50);
+                        assertThat(timeout.getCause()).isInstanceOf(InterruptedException.class);
+                    });
+
+            assertThat(System.currentTimeMillis() - start).isLessThan(5_000);
+            assertThat(interrupted).isTrue();
+            assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Closes registered resources so uninterruptible calls unblock")
+        void closesRegisteredResources() {
+            SampleWatchdog watchdog = new SampleWatchdog(30);
+            CountDownLatch closed = new CountDownLatch(1);
+
+            assertThatThrownBy(() -> watchdog.run(() -> {
+                SampleWatchdog.closeOnTimeout(closed::countDown);
+                // Stands in for a blocking read that only a close can end
+                while (closed.getCount() > 0) {
+                    Thread.onSpinWait();
+                }
+            })).isInstanceOf(SampleTimeoutException.class);
+
+            assertThat(closed.getCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Does not close registered resources when the body finishes in time")
+        void keepsResourcesOpenWithinDeadline() throws Throwable {
+            SampleWatchdog watchdog = new SampleWatchdog(1_000);
+            AtomicBoolean closed = new AtomicBoolean();
+
+            watchdog.run(() -> SampleWatchdog.closeOnTimeout(() -> closed.set(true)));
+            Thread.sleep(50);
+
+            assertThat(closed).isFalse();
+            assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Waits for a body that ignores interruption instead of running alongside it")
+        void waitsForUncooperativeBody() {
+            SampleWatchdog watchdog = new SampleWatchdog(20);
+            AtomicBoolean finished = new AtomicBoolean();
+            long start = System.nanoTime();
+
+            assertThatThrownBy(() -> watchdog.run(() -> {
+                while (System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(150)) {
+                    Thread.onSpinWait();
+                }
+                finished.set(true);
+            }))
+                    .isInstanceOf(SampleTimeoutException.class)
+                    .satisfies(e -> assertThat(((SampleTimeoutException) e).getElapsedMs()).isGreaterThanOrEqualTo(100));
+
+            assertThat(finished).isTrue();
+            assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.javai.punit.experiment.compare;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.javai.punit.testsubjects.CompareExperimentSubjects;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+/**
+ * Integration tests for {@code @CompareExperiment}.
+ */
+@DisplayName("CompareExperiment")
+class CompareExperimentIntegrationTest {
+
+    @TempDir
+    Path outputDir;
+
+    @BeforeEach
+    void useTemporaryOutputDir() {
+        System.setProperty("punit.comparisons.outputDir", outputDir.toString());
+    }
+
+    @AfterEach
+    void clearOutputDirProperty() {
+        System.clearProperty("punit.comparisons.outputDir");
+    }
+
+    @Test
+    @DisplayName("stops at the first look once the candidate is significantly better")
+    void stopsEarlyWhenCandidateBetter() throws IOException {
+        CompareExperimentSubjects.CandidateBetter.invocations.clear();
+
+        EngineExecutionResults results = run(CompareExperimentSubjects.CandidateBetter.class);
+
+        // 200 pairs allowed, first look after 20 pairs: 10 discordant pairs all favour the candidate
+        assertThat(CompareExperimentSubjects.CandidateBetter.invocations).hasSize(40);
+        assertThat(reportValues(results, "punit.comparison.verdict")).containsExactly("CANDIDATE_BETTER");
+        assertThat(writtenReport()).contains("verdict: CANDIDATE_BETTER", "candidateOnly: 10");
+    }
+
+    @Test
+    @DisplayName("interleaves baseline and candidate")
+    void interleavesArms() {
+        CompareExperimentSubjects.CandidateBetter.invocations.clear();
+
+        run(CompareExperimentSubjects.CandidateBetter.class);
+
+        assertThat(CompareExperimentSubjects.CandidateBetter.invocations.subList(0, 4))
+                .containsExactly("old", "new", "old", "new");
+    }
+
+    @Test
+    @DisplayName("stops once the arms are shown to be equivalent within the margin")
+    void stopsWhenEquivalent() {
+        CompareExperimentSubjects.Equivalent.invocations.clear();
+
+        EngineExecutionResults results = run(CompareExperimentSubjects.Equivalent.class);
+
+        assertThat(reportValues(results, "punit.comparison.verdict")).containsExactly("EQUIVALENT");
+        assertThat(CompareExperimentSubjects.Equivalent.invocations).hasSizeLessThan(400);
+    }
+
+    @Test
+    @DisplayName("runs every pair and reports INCONCLUSIVE when no verdict is reached")
+    void inconclusiveAfterAllPairs() {
+        CompareExperimentSubjects.Inconclusive.invocations.clear();
+
+        EngineExecutionResults results = run(CompareExperimentSubjects.Inconclusive.class);
+
+        assertThat(CompareExperimentSubjects.Inconclusive.invocations).hasSize(20);
+        assertThat(reportValues(results, "punit.comparison.verdict")).containsExactly("INCONCLUSIVE");
+        results.testEvents().failed().assertThatEvents().isEmpty();
+    }
+
+    @Test
+    @DisplayName("gives both arms of a pair the same input")
+    void pairsShareInput() {
+        CompareExperimentSubjects.WithInputs.invocations.clear();
+
+        run(CompareExperimentSubjects.WithInputs.class);
+
+        assertThat(CompareExperimentSubjects.WithInputs.invocations.subList(0, 6))
+                .containsExactly("old:a", "new:a", "old:b", "new:b", "old:c", "new:c");
+    }
+
+    @Test
+    @DisplayName("rejects a factor source without exactly two configurations")
+    void rejectsSingleConfiguration() {
+        EngineExecutionResults results = run(CompareExperimentSubjects.SingleConfiguration.class);
+
+        assertThat(results.allEvents().failed().stream()
+                .map(event -> event.getPayload(TestExecutionResult.class)
+                        .flatMap(TestExecutionResult::getThrowable)
+                        .map(Throwable::getMessage)
+                        .orElse(""))
+                .toList())
+                .anyMatch(message -> message.contains("exactly 2 configurations"));
+    }
+
+    private EngineExecutionResults run(Class<?> subject) {
+        return EngineTestKit
+                .engine("junit-jupiter")
+                .selectors(DiscoverySelectors.selectClass(subject))
+                .execute();
+    }
+
+    private List<String> reportValues(EngineExecutionResults results, String key) {
+        return results.allEvents().reportingEntryPublished().stream()
+                .map(event -> event.getRequiredPayload(ReportEntry.class))
+                .map(entry -> entry.getKeyValuePairs().get(key))
+                .filter(value -> value != null)
+                .toList();
+    }
+
+    private String writtenReport() throws IOException {
+        try (Stream<Path> files = Files.walk(outputDir)) {
+            Path report = files.filter(p -> p.toString().endsWith(".yaml")).findFirst().orElseThrow();
+            return Files.readString(report);
+        }
+    }
+}
@@ -2,6 +2,12 @@ package org.javai.punit.experiment.engine;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -92,4 +98,82 @@ class YamlBuilderTest {
             assertThat(yaml).contains("# divider");
         }
     }
+
+    @Nested
+    @DisplayName("streaming()")
+    class Streaming {
+
+        @Test
+        @DisplayName("writes the same text as build()")
+        void writesSameTextAsBuild() {
+            Consumer<YamlBuilder> document = builder -> {
+                Map<String, Object> nested = new LinkedHashMap<>();
+                nested.put("key", "value: with colon");
+                nested.put("items", List.of("a", "b"));
+                builder.comment("Header")
+                    .blankLine()
+                    .field("name", "test")
+                    .field("count", 3)
+                    .field("rate", 0.9512, "%.4f")
+                    .field("flag", true)
+                    .field("empty", (Object) null)
+                    .formattedInlineArray("interval", "%.4f", 0.1, 0.2)
+                    .startObject("outer")
+                        .startObject("inner")
+                            .field("deep", 1L)
+                        .endObject()
+                        .startList("entries")
+                            .startListItem()
+                                .field("first", "x")
+                                .startObject("details")
+                                    .field("a", 1)
+                                .endObject()
+                                .field("second", "y")
+                            .endListItem()
+                            .listItem("plain")
+                        .endList()
+                    .endObject()
+                    .startObject("samples")
+                        .rawLine("# anchor")
+                        .blockScalar("content", "line 1\nline 2")
+                    .endObject()
+                    .objectField("map", nested);
+            };
+
+            YamlBuilder tree = YamlBuilder.create();
+            document.accept(tree);
+            StringBuilder streamed = new StringBuilder();
+            YamlBuilder streaming = YamlBuilder.streaming(streamed);
+            document.accept(streaming);
+            streaming.finish();
+
+            assertThat(streamed.toString()).isEqualTo(tree.build());
+        }
+
+        @Test
+        @DisplayName("writes the comment separator for a document without content")
+        void writesSeparatorWithoutContent() {
+            StringBuilder streamed = new StringBuilder();
+            YamlBuilder streaming = YamlBuilder.streaming(streamed).comment("only");
+            streaming.finish();
+
+            assertThat(streamed.toString()).isEqualTo(YamlBuilder.create().comment("only").build());
+        }
+
+        @Test
+        @DisplayName("rejects comments after content")
+        void rejectsCommentsAfterContent() {
+            YamlBuilder streaming = YamlBuilder.streaming(new StringBuilder()).field("a", 1);
+
+            assertThatThrownBy(() -> streaming.comment("late"))
+                .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("cannot build a streaming document")
+        void cannotBuild() {
+            assertThatThrownBy(() -> YamlBuilder.streaming(new StringBuilder()).build())
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
 }
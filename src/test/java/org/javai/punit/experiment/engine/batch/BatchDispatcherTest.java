@@ -0,0 +1,182 @@
+package org.javai.punit.experiment.engine.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.javai.punit.api.BatchInvocation;
+import org.javai.punit.contract.ServiceContract;
+import org.javai.punit.contract.UseCaseOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+
+@DisplayName("BatchDispatcher")
+class BatchDispatcherTest {
+
+    private static final ServiceContract<String, String> CONTRACT = ServiceContract
+            .<String, String>define()
+            .build();
+
+    static class EchoUseCase {
+        final List<List<String>> calls = new ArrayList<>();
+
+        @BatchInvocation
+        public List<UseCaseOutcome<String>> echoAll(List<String> inputs) {
+            calls.add(List.copyOf(inputs));
+            return UseCaseOutcome.withContract(CONTRACT)
+                    .inputs(inputs)
+                    .executeBatch(batch -> batch.stream().map(String::toUpperCase).toList())
+                    .build();
+        }
+    }
+
+    static class CappedUseCase {
+        @BatchInvocation(maxBatchSize = 2)
+        public List<UseCaseOutcome<String>> echoAll(List<String> inputs) {
+            return List.of();
+        }
+    }
+
+    static class FailingUseCase {
+        @BatchInvocation
+        public List<UseCaseOutcome<String>> echoAll(List<String> inputs) {
+            throw new IllegalStateException("provider unavailable");
+        }
+    }
+
+    static class ShortUseCase {
+        @BatchInvocation
+        public List<UseCaseOutcome<String>> echoAll(List<String> inputs) {
+            return List.of();
+        }
+    }
+
+    static class NoBatchUseCase {
+        public String echo(String input) {
+            return input;
+        }
+    }
+
+    static class BadSignatureUseCase {
+        @BatchInvocation
+        public String echoAll(String input) {
+            return input;
+        }
+    }
+
+    @Nested
+    @DisplayName("windowing")
+    class WindowingTests {
+
+        private EchoUseCase useCase;
+        private BatchDispatcher dispatcher;
+
+        @BeforeEach
+        void setUp() {
+            useCase = new EchoUseCase();
+            dispatcher = BatchDispatcher.create(EchoUseCase.class, 2, List.of("a", "b", "c"), 5);
+        }
+
+        @Test
+        @DisplayName("makes one call per window of consecutive samples")
+        void makesOneCallPerWindow() {
+            for (int sample = 1; sample <= 5; sample++) {
+                dispatcher.slotFor(sample, () -> useCase);
+            }
+
+            assertThat(dispatcher.getBatchesDispatched()).isEqualTo(3);
+            assertThat(useCase.calls).containsExactly(
+                    List.of("a", "b"), List.of("c", "a"), List.of("b"));
+        }
+
+        @Test
+        @DisplayName("serves each sample the outcome for its planned input")
+        void servesEachSampleItsOutcome() {
+            List<Object> results = new ArrayList<>();
+            for (int sample = 1; sample <= 5; sample++) {
+                results.add(dispatcher.slotFor(sample, () -> useCase).outcome().result());
+            }
+
+            assertThat(results).containsExactly("A", "B", "C", "A", "B");
+        }
+
+        @Test
+        @DisplayName("records batch size on each outcome")
+        void recordsBatchSizeOnEachOutcome() {
+            BatchDispatcher.Slot slot = dispatcher.slotFor(1, () -> useCase);
+
+            assertThat(slot.outcome().metadata()).containsEntry("batchSize", 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("configuration")
+    class ConfigurationTests {
+
+        @Test
+        @DisplayName("caps batch size at the method's maximum")
+        void capsBatchSizeAtMaximum() {
+            BatchDispatcher dispatcher = BatchDispatcher.create(CappedUseCase.class, 10, List.of("a"), 10);
+
+            assertThat(dispatcher.getBatchSize()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("rejects a use case without a batch method")
+        void rejectsUseCaseWithoutBatchMethod() {
+            assertThatThrownBy(() -> BatchDispatcher.create(NoBatchUseCase.class, 2, List.of("a"), 2))
+                    .isInstanceOf(ExtensionConfigurationException.class)
+                    .hasMessageContaining("@BatchInvocation");
+        }
+
+        @Test
+        @DisplayName("rejects a batch method with the wrong signature")
+        void rejectsBadSignature() {
+            assertThatThrownBy(() -> BatchDispatcher.create(BadSignatureUseCase.class, 2, List.of("a"), 2))
+                    .isInstanceOf(ExtensionConfigurationException.class)
+                    .hasMessageContaining("must take a single List");
+        }
+
+        @Test
+        @DisplayName("rejects a missing use case class")
+        void rejectsMissingUseCase() {
+            assertThatThrownBy(() -> BatchDispatcher.create(Void.class, 2, List.of("a"), 2))
+                    .isInstanceOf(ExtensionConfigurationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("failures")
+    class FailureTests {
+
+        @Test
+        @DisplayName("gives every sample in the window the batch failure")
+        void givesEverySampleTheFailure() {
+            BatchDispatcher dispatcher = BatchDispatcher.create(FailingUseCase.class, 3, List.of("a"), 3);
+            FailingUseCase useCase = new FailingUseCase();
+
+            for (int sample = 1; sample <= 3; sample++) {
+                BatchDispatcher.Slot slot = dispatcher.slotFor(sample, () -> useCase);
+                assertThat(slot.isFailure()).isTrue();
+                assertThat(slot.failure()).hasMessage("provider unavailable");
+            }
+            assertThat(dispatcher.getBatchesDispatched()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("fails the window when the method returns too few outcomes")
+        void failsWhenTooFewOutcomes() {
+            BatchDispatcher dispatcher = BatchDispatcher.create(ShortUseCase.class, 2, List.of("a"), 2);
+
+            BatchDispatcher.Slot slot = dispatcher.slotFor(1, ShortUseCase::new);
+
+            assertThat(slot.failure())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("returned 0 outcomes for 2 inputs");
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.javai.punit.experiment.engine.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.javai.outcome.Outcome;
+import org.javai.punit.api.BatchInvocation;
+import org.javai.punit.api.InputSource;
+import org.javai.punit.api.MeasureExperiment;
+import org.javai.punit.api.OutcomeCaptor;
+import org.javai.punit.api.ProbabilisticTest;
+import org.javai.punit.api.UseCase;
+import org.javai.punit.contract.ServiceContract;
+import org.javai.punit.contract.UseCaseOutcome;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+/**
+ * Integration tests for batched use case invocation.
+ *
+ * <p>Uses JUnit TestKit to verify that samples are grouped into batch calls
+ * while still being executed and counted individually.
+ */
+@DisplayName("Batch Invocation Integration")
+class BatchInvocationIntegrationTest {
+
+    @Nested
+    @DisplayName("MeasureExperiment with batchSize")
+    class MeasureExperimentTests {
+
+        @Test
+        @DisplayName("groups samples into batch calls")
+        void groupsSamplesIntoBatchCalls() {
+            BatchUseCase.batchCalls.clear();
+            MeasureSubject.capturedResults.clear();
+            EngineExecutionResults results = EngineTestKit
+                    .engine("junit-jupiter")
+                    .selectors(DiscoverySelectors.selectClass(MeasureSubject.class))
+                    .execute();
+
+            results.testEvents().assertStatistics(stats ->
+                    stats.started(6).succeeded(6).failed(0));
+
+            assertThat(BatchUseCase.batchCalls).containsExactly(
+                    List.of("add milk", "remove bread", "clear cart", "add milk"),
+                    List.of("remove bread", "clear cart"));
+            assertThat(MeasureSubject.capturedResults).containsExactly(
+                    "ADD MILK", "REMOVE BREAD", "CLEAR CART", "ADD MILK", "REMOVE BREAD", "CLEAR CART");
+        }
+
+        @Test
+        @DisplayName("fails each sample of a failed batch without aborting the experiment")
+        void failsEachSampleOfFailedBatch() {
+            EngineExecutionResults results = EngineTestKit
+                    .engine("junit-jupiter")
+                    .selectors(DiscoverySelectors.selectClass(FailingMeasureSubject.class))
+                    .execute();
+
+            results.testEvents().assertStatistics(stats -> stats.started(4));
+            assertThat(FailingMeasureSubject.bodyInvocations).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("ProbabilisticTest with batchSize")
+    class ProbabilisticTestTests {
+
+        @Test
+        @DisplayName("injects batched outcomes into samples")
+        void injectsBatchedOutcomes() {
+            BatchUseCase.batchCalls.clear();
+            ProbabilisticTestSubject.capturedResults.clear();
+            EngineExecutionResults results = EngineTestKit
+                    .engine("junit-jupiter")
+                    .selectors(DiscoverySelectors.selectClass(ProbabilisticTestSubject.class))
+                    .execute();
+
+            results.testEvents().assertStatistics(stats -> stats.failed(0));
+
+            assertThat(ProbabilisticTestSubject.capturedResults).hasSizeGreaterThanOrEqualTo(3);
+            assertThat(ProbabilisticTestSubject.capturedResults.subList(0, 3))
+                    .containsExactly("ADD MILK", "REMOVE BREAD", "CLEAR CART");
+            assertThat(BatchUseCase.batchCalls.get(0)).hasSize(3);
+        }
+    }
+
+    // ========== Test Subjects ==========
+
+    private static final ServiceContract<String, String> CONTRACT = ServiceContract
+            .<String, String>define()
+            .ensure("Not empty", s -> s.isEmpty() ? Outcome.fail("check", "was empty") : Outcome.ok())
+            .build();
+
+    static Stream<String> instructions() {
+        return Stream.of("add milk", "remove bread", "clear cart");
+    }
+
+    @UseCase("batch-use-case")
+    static class BatchUseCase {
+        static final List<List<String>> batchCalls = new ArrayList<>();
+
+        @BatchInvocation
+        public List<UseCaseOutcome<String>> processAll(List<String> inputs) {
+            batchCalls.add(List.copyOf(inputs));
+            return UseCaseOutcome
+                    .withContract(CONTRACT)
+                    .inputs(inputs)
+                    .executeBatch(batch -> batch.stream().map(String::toUpperCase).toList())
+                    .attribute("tokensUsed", 100)
+                    .build();
+        }
+    }
+
+    @UseCase("failing-batch-use-case")
+    static class FailingBatchUseCase {
+        @BatchInvocation
+        public List<UseCaseOutcome<String>> processAll(List<String> inputs) {
+            throw new IllegalStateException("batch endpoint unavailable");
+        }
+    }
+
+    public static class MeasureSubject {
+        static final List<String> capturedResults = new ArrayList<>();
+
+        static Stream<String> testInputs() {
+            return instructions();
+        }
+
+        @MeasureExperiment(useCase = BatchUseCase.class, samples = 6, batchSize = 4)
+        @InputSource("testInputs")
+        void measureBatched(OutcomeCaptor captor, String input, UseCaseOutcome<String> outcome) {
+            capturedResults.add(outcome.result());
+            captor.record(outcome);
+        }
+    }
+
+    public static class FailingMeasureSubject {
+        static int bodyInvocations;
+
+        static Stream<String> testInputs() {
+            return instructions();
+        }
+
+        @MeasureExperiment(useCase = FailingBatchUseCase.class, samples = 4, batchSize = 2)
+        @InputSource("testInputs")
+        void measureBatched(OutcomeCaptor captor, String input, UseCaseOutcome<String> outcome) {
+            bodyInvocations++;
+            captor.record(outcome);
+        }
+    }
+
+    public static class ProbabilisticTestSubject {
+        static final List<String> capturedResults = new ArrayList<>();
+
+        static Stream<String> testInputs() {
+            return instructions();
+        }
+
+        @ProbabilisticTest(useCase = BatchUseCase.class, samples = 6, minPassRate = 0.5, batchSize = 3)
+        @InputSource("testInputs")
+        void testBatched(String input, UseCaseOutcome<String> outcome) {
+            capturedResults.add(outcome.result());
+            outcome.assertAll();
+        }
+    }
+}
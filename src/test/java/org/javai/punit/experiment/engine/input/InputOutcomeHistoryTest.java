@@ -0,0 +1,157 @@
+package org.javai.punit.experiment.engine.input;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link InputOutcomeHistory}.
+ */
+@DisplayName("InputOutcomeHistory")
+class InputOutcomeHistoryTest {
+
+    record Instruction(String text, int priority) {}
+
+    @TempDir
+    Path directory;
+
+    @Nested
+    @DisplayName("Input hashing")
+    class InputHashing {
+
+        @Test
+        @DisplayName("is equal for inputs with equal content")
+        void equalForEqualContent() {
+            assertThat(InputOutcomeHistory.hashInput(new Instruction("add milk", 1)))
+                    .isEqualTo(InputOutcomeHistory.hashInput(new Instruction("add milk", 1)));
+        }
+
+        @Test
+        @DisplayName("differs for inputs with different content")
+        void differsForDifferentContent() {
+            assertThat(InputOutcomeHistory.hashInput(new Instruction("add milk", 1)))
+                    .isNotEqualTo(InputOutcomeHistory.hashInput(new Instruction("add milk", 2)));
+            assertThat(InputOutcomeHistory.hashInput("add milk"))
+                    .isNotEqualTo(InputOutcomeHistory.hashInput("remove bread"));
+        }
+
+        @Test
+        @DisplayName("ignores map iteration order")
+        void ignoresMapOrder() {
+            Map<String, Object> inserted = new LinkedHashMap<>();
+            inserted.put("b", 2);
+            inserted.put("a", 1);
+            Map<String, Object> sorted = new TreeMap<>(inserted);
+
+            assertThat(InputOutcomeHistory.hashInput(inserted))
+                    .isEqualTo(InputOutcomeHistory.hashInput(sorted))
+                    .hasSize(16);
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure rates")
+    class FailureRates {
+
+        @Test
+        @DisplayName("treats inputs without history as a coin flip")
+        void unknownInputIsCoinFlip() {
+            InputOutcomeHistory history = InputOutcomeHistory.load(directory, "uc");
+
+            assertThat(history.failureRate("unknown")).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("smooths observed failures: (f+1)/(n+2)")
+        void smoothsObservedFailures() {
+            InputOutcomeHistory history = InputOutcomeHistory.load(directory, "uc");
+            history.record("h", false);
+            history.record("h", false);
+            history.record("h", true);
+
+            assertThat(history.failureRate("h")).isCloseTo(3.0 / 5.0, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("orders failure-prone inputs first, keeping declared order for ties")
+        void ordersFailuresFirst() {
+            InputOutcomeHistory history = InputOutcomeHistory.load(directory, "uc");
+            for (int i = 0; i < 10; i++) {
+                history.record("reliable", true);
+                history.record("flaky", i % 2 == 0);
+                history.record("broken", false);
+            }
+
+            assertThat(history.failuresFirst(List.of("reliable", "new-1", "flaky", "broken", "new-2")))
+                    .containsExactly(3, 1, 2, 4, 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Persistence")
+    class Persistence {
+
+        @Test
+        @DisplayName("round-trips recorded counts")
+        void roundTrips() {
+            InputOutcomeHistory history = InputOutcomeHistory.load(directory, "shopping.search");
+            history.record("h", false);
+            history.record("h", true);
+            history.save();
+
+            InputOutcomeHistory reloaded = InputOutcomeHistory.load(directory, "shopping.search");
+
+            assertThat(reloaded.getFile()).exists();
+            assertThat(reloaded.failureRate("h")).isCloseTo(2.0 / 4.0, within(1e-9));
+            assertThat(reloaded.hasRecordedOutcomes()).isFalse();
+        }
+
+        @Test
+        @DisplayName("merges with updates saved by another run")
+        void mergesConcurrentUpdates() {
+            InputOutcomeHistory first = InputOutcomeHistory.load(directory, "uc");
+            InputOutcomeHistory second = InputOutcomeHistory.load(directory, "uc");
+            first.record("h", false);
+            second.record("h", false);
+            second.record("h", false);
+
+            first.save();
+            second.save();
+
+            // 3 failures in 3 trials
+            assertThat(InputOutcomeHistory.load(directory, "uc").failureRate("h"))
+                    .isCloseTo(4.0 / 5.0, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("skips malformed lines")
+        void skipsMalformedLines() throws IOException {
+            Files.writeString(directory.resolve("uc.history"),
+                    "# punit input history: uc\nnot a line\nh x 3\ng 0 4\n");
+
+            InputOutcomeHistory history = InputOutcomeHistory.load(directory, "uc");
+
+            assertThat(history.failureRate("h")).isEqualTo(0.5);
+            assertThat(history.failureRate("g")).isCloseTo(5.0 / 6.0, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("does not create a file when nothing was recorded")
+        void noFileWithoutOutcomes() {
+            InputOutcomeHistory history = InputOutcomeHistory.load(directory, "uc");
+            history.save();
+
+            assertThat(history.getFile()).doesNotExist();
+        }
+    }
+}
@@ -2,12 +2,16 @@ package org.javai.punit.experiment.engine.input;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
 import org.javai.outcome.Outcome;
 import org.javai.punit.api.ExploreExperiment;
+import org.javai.punit.api.InputOrder;
 import org.javai.punit.api.InputSource;
 import org.javai.punit.api.MeasureExperiment;
 import org.javai.punit.api.OutcomeCaptor;
@@ -15,9 +19,13 @@ import org.javai.punit.api.ProbabilisticTest;
 import org.javai.punit.api.UseCase;
 import org.javai.punit.contract.ServiceContract;
 import org.javai.punit.contract.UseCaseOutcome;
+import org.javai.punit.testsubjects.StratifiedSamplingSubjects;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.testkit.engine.EngineExecutionResults;
 import org.junit.platform.testkit.engine.EngineTestKit;
@@ -150,6 +158,119 @@ class InputSourceIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Stratified @InputSource")
+    class StratifiedTests {
+
+        @Test
+        @DisplayName("runs every sample and favours the uncertain stratum")
+        void runsAllSamplesAndFavoursUncertainStratum() {
+            StratifiedSamplingSubjects.StratifiedTest.capturedInputs.clear();
+            EngineTestKit
+                    .engine("junit-jupiter")
+                    .selectors(DiscoverySelectors.selectClass(StratifiedSamplingSubjects.StratifiedTest.class))
+                    .execute();
+
+            // Count-based early termination is disabled, so all samples run
+            assertThat(StratifiedSamplingSubjects.StratifiedTest.capturedInputs).hasSize(20);
+            long easy = StratifiedSamplingSubjects.StratifiedTest.capturedInputs.stream()
+                    .filter(input -> input.category().equals("easy")).count();
+            long hard = StratifiedSamplingSubjects.StratifiedTest.capturedInputs.stream()
+                    .filter(input -> input.category().equals("hard")).count();
+            assertThat(hard).isGreaterThan(easy);
+        }
+
+        @Test
+        @DisplayName("rejects fewer samples than the strata need")
+        void rejectsTooFewSamples() {
+            EngineExecutionResults results = EngineTestKit
+                    .engine("junit-jupiter")
+                    .selectors(DiscoverySelectors.selectClass(
+                            StratifiedSamplingSubjects.UnderSampledStratifiedTest.class))
+                    .execute();
+
+            assertThat(results.allEvents().failed().stream()
+                    .map(event -> event.getPayload(org.junit.platform.engine.TestExecutionResult.class)
+                            .flatMap(org.junit.platform.engine.TestExecutionResult::getThrowable)
+                            .map(Throwable::getMessage)
+                            .orElse(""))
+                    .toList())
+                    .anyMatch(message -> message.contains("2 strata require samples >= 4"));
+        }
+
+        @Test
+        @DisplayName("is rejected by MeasureExperiment")
+        void rejectedByMeasureExperiment() {
+            EngineExecutionResults results = EngineTestKit
+                    .engine("junit-jupiter")
+                    .selectors(DiscoverySelectors.selectClass(StratifiedSamplingSubjects.StratifiedMeasure.class))
+                    .execute();
+
+            assertThat(results.allEvents().failed().stream()
+                    .map(event -> event.getPayload(org.junit.platform.engine.TestExecutionResult.class)
+                            .flatMap(org.junit.platform.engine.TestExecutionResult::getThrowable)
+                            .map(Throwable::getMessage)
+                            .orElse(""))
+                    .toList())
+                    .anyMatch(message -> message.contains("@ProbabilisticTest only"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure-first ordering")
+    class FailureFirstTests {
+
+        @TempDir
+        Path historyDir;
+
+        @BeforeEach
+        void useTemporaryHistory() {
+            System.setProperty(InputOutcomeHistory.PROP_HISTORY_DIR, historyDir.toString());
+        }
+
+        @AfterEach
+        void clearHistoryProperty() {
+            System.clearProperty(InputOutcomeHistory.PROP_HISTORY_DIR);
+        }
+
+        @Test
+        @DisplayName("runs historically failing inputs first and records the run")
+        void runsFailingInputsFirst() throws IOException {
+            Files.writeString(historyDir.resolve("test-use-case.history"),
+                    InputOutcomeHistory.hashInput("clear cart") + " 1 10\n"
+                    + InputOutcomeHistory.hashInput("add milk") + " 10 10\n");
+            FailuresFirstTestSubject.capturedInputs.clear();
+
+            EngineTestKit
+                    .engine("junit-jupiter")
+                    .selectors(DiscoverySelectors.selectClass(FailuresFirstTestSubject.class))
+                    .execute();
+
+            // clear cart (mostly failing) first, remove bread (no history) next, add milk last
+            assertThat(FailuresFirstTestSubject.capturedInputs.subList(0, 3))
+                    .containsExactly("clear cart", "remove bread", "add milk");
+            assertThat(InputOutcomeHistory.load(historyDir, "test-use-case")
+                    .failureRate(InputOutcomeHistory.hashInput("remove bread")))
+                    .isLessThan(0.5);
+        }
+
+        @Test
+        @DisplayName("MEASURE records per-input outcomes for the use case")
+        void measureRecordsHistory() {
+            MethodSourceTestSubject.capturedInputs.clear();
+
+            EngineTestKit
+                    .engine("junit-jupiter")
+                    .selectors(DiscoverySelectors.selectClass(MethodSourceTestSubject.class))
+                    .execute();
+
+            assertThat(historyDir.resolve("test-use-case.history")).exists();
+            assertThat(InputOutcomeHistory.load(historyDir, "test-use-case")
+                    .failureRate(InputOutcomeHistory.hashInput("add milk")))
+                    .isCloseTo(1.0 / 4.0, org.assertj.core.api.Assertions.within(1e-9));
+        }
+    }
+
     // ========== Test Subjects ==========
 
     private static final ServiceContract<String, String> CONTRACT = ServiceContract
@@ -265,4 +386,21 @@ class InputSourceIntegrationTest {
             }
         }
     }
+
+    /**
+     * Test subject for failure-first input ordering.
+     */
+    public static class FailuresFirstTestSubject {
+        static List<String> capturedInputs = new ArrayList<>();
+
+        static Stream<String> testInputs() {
+            return Stream.of("add milk", "remove bread", "clear cart");
+        }
+
+        @ProbabilisticTest(useCase = TestUseCase.class, samples = 6, minPassRate = 0.5)
+        @InputSource(value = "testInputs", order = InputOrder.FAILURES_FIRST)
+        void testWithOrderedInputs(String input) {
+            capturedInputs.add(input);
+        }
+    }
 }
@@ -299,6 +299,21 @@ class InputSourceResolverTest {
             public String file() {
                 return file;
             }
+
+            @Override
+            public boolean stratified() {
+                return false;
+            }
+
+            @Override
+            public String stratumKey() {
+                return "";
+            }
+
+            @Override
+            public org.javai.punit.api.InputOrder order() {
+                return org.javai.punit.api.InputOrder.DECLARED;
+            }
         };
     }
 }
@@ -3,6 +3,7 @@ package org.javai.punit.experiment.engine.output;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Random;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -50,6 +51,16 @@ class DiffAnchorGeneratorTest {
             assertThat(DiffAnchorGenerator.anchorFor(4)).isEqualTo("17610c9a");
         }
 
+        @Test
+        @DisplayName("matches the Random sequence it is defined by")
+        void matchesRandomSequence() {
+            Random rng = new Random(42L);
+            for (int i = 0; i < 5000; i++) {
+                assertThat(DiffAnchorGenerator.anchorFor(i))
+                    .isEqualTo(String.format("%08x", (int) rng.nextLong()));
+            }
+        }
+
         @Test
         @DisplayName("rejects negative index")
         void rejectsNegativeIndex() {
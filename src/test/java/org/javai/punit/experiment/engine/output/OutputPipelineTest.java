@@ -0,0 +1,148 @@
+package org.javai.punit.experiment.engine.output;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OutputPipeline")
+class OutputPipelineTest {
+
+    private static final Path DIR_A = Path.of("build/tmp/pipeline/a");
+    private static final Path DIR_B = Path.of("build/tmp/pipeline/b");
+
+    @Test
+    @DisplayName("writes in submission order within a directory")
+    void writesInSubmissionOrderWithinDirectory() {
+        OutputPipeline pipeline = new OutputPipeline(16, true);
+        List<Integer> written = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            int index = i;
+            pipeline.submit(DIR_A, () -> written.add(index));
+        }
+        pipeline.flush();
+
+        assertThat(written).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    @DisplayName("writes off the submitting thread")
+    void writesOffSubmittingThread() {
+        OutputPipeline pipeline = new OutputPipeline(16, true);
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        pipeline.submit(DIR_A, () -> threads.add(Thread.currentThread()));
+        pipeline.flush();
+
+        assertThat(threads).hasSize(1);
+        assertThat(threads.get(0)).isNotSameAs(Thread.currentThread());
+        assertThat(threads.get(0).getName()).startsWith("punit-output-");
+    }
+
+    @Test
+    @DisplayName("a slow directory does not hold up another")
+    void slowDirectoryDoesNotHoldUpAnother() throws Exception {
+        OutputPipeline pipeline = new OutputPipeline(16, true);
+        CountDownLatch release = new CountDownLatch(1);
+
+        pipeline.submit(DIR_A, () -> await(release));
+        CompletableFuture<Void> other = pipeline.submit(DIR_B, () -> { });
+
+        other.get(5, TimeUnit.SECONDS);
+        release.countDown();
+        pipeline.flush();
+    }
+
+    @Test
+    @DisplayName("blocks submissions while at capacity")
+    void blocksSubmissionsAtCapacity() throws Exception {
+        OutputPipeline pipeline = new OutputPipeline(1, true);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean secondSubmitted = new AtomicBoolean();
+
+        pipeline.submit(DIR_A, () -> await(release));
+        Thread submitter = new Thread(() -> {
+            pipeline.submit(DIR_B, () -> { });
+            secondSubmitted.set(true);
+        });
+        submitter.start();
+
+        submitter.join(200);
+        assertThat(secondSubmitted).isFalse();
+
+        release.countDown();
+        submitter.join(5000);
+        assertThat(secondSubmitted).isTrue();
+        pipeline.flush();
+    }
+
+    @Test
+    @DisplayName("flush waits for outstanding writes")
+    void flushWaitsForOutstandingWrites() {
+        OutputPipeline pipeline = new OutputPipeline(16, true);
+        AtomicBoolean done = new AtomicBoolean();
+
+        pipeline.submit(DIR_A, () -> {
+            sleep(100);
+            done.set(true);
+        });
+        pipeline.flush();
+
+        assertThat(done).isTrue();
+    }
+
+    @Test
+    @DisplayName("a failed write completes its future exceptionally and does not break flush")
+    void failedWriteCompletesExceptionally() {
+        OutputPipeline pipeline = new OutputPipeline(16, true);
+        List<Integer> written = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Void> failed = pipeline.submit(DIR_A, () -> {
+            throw new IOException("disk full");
+        });
+        pipeline.submit(DIR_A, () -> written.add(1));
+        pipeline.flush();
+
+        assertThatThrownBy(failed::join).hasRootCauseMessage("disk full");
+        assertThat(written).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("writes on the submitting thread when not asynchronous")
+    void writesInlineWhenNotAsync() {
+        OutputPipeline pipeline = new OutputPipeline(16, false);
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Void> future = pipeline.submit(DIR_A, () -> threads.add(Thread.currentThread()));
+
+        assertThat(future).isDone();
+        assertThat(threads).containsExactly(Thread.currentThread());
+    }
+
+    private static void await(CountDownLatch latch) throws IOException {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package org.javai.punit.experiment.engine.output;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import org.javai.punit.experiment.engine.YamlBuilder;
 import org.javai.punit.experiment.engine.output.OutputUtilities.OutputHeader;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 @DisplayName("OutputUtilities")
 class OutputUtilitiesTest {
@@ -149,4 +154,73 @@ class OutputUtilitiesTest {
                 .doesNotContain("experimentMethod");
         }
     }
+
+    @Nested
+    @DisplayName("writeWithFingerprint()")
+    class WriteWithFingerprint {
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        @DisplayName("should write the document followed by its fingerprint")
+        void shouldWriteDocumentAndFingerprint() throws IOException {
+            Path file = tempDir.resolve("out.yaml");
+
+            OutputUtilities.writeWithFingerprint(file, builder -> builder
+                .comment("Header \u2500 with non-ASCII")
+                .field("useCaseId", "test")
+                .startObject("statistics")
+                    .field("observed", 0.9, "%.4f")
+                .endObject());
+
+            String expected = OutputUtilities.appendFingerprint(YamlBuilder.create()
+                .comment("Header \u2500 with non-ASCII")
+                .field("useCaseId", "test")
+                .startObject("statistics")
+                    .field("observed", 0.9, "%.4f")
+                .endObject()
+                .build());
+            assertThat(Files.readString(file)).isEqualTo(expected);
+        }
+    }
+
+    @Nested
+    @DisplayName("replaceAtomically()")
+    class ReplaceAtomically {
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        @DisplayName("should replace the file and leave no temporary file")
+        void shouldReplaceFile() throws IOException {
+            Path file = tempDir.resolve("out.yaml");
+            Files.writeString(file, "old");
+
+            OutputUtilities.replaceAtomically(file, temp -> Files.writeString(temp, "new"));
+
+            assertThat(Files.readString(file)).isEqualTo("new");
+            try (var files = Files.list(tempDir)) {
+                assertThat(files).containsExactly(file);
+            }
+        }
+
+        @Test
+        @DisplayName("should keep the previous file when writing fails")
+        void shouldKeepPreviousFileOnFailure() throws IOException {
+            Path file = tempDir.resolve("out.yaml");
+            Files.writeString(file, "old");
+
+            assertThatThrownBy(() -> OutputUtilities.replaceAtomically(file, temp -> {
+                Files.writeString(temp, "partial");
+                throw new IOException("disk full");
+            })).isInstanceOf(IOException.class);
+
+            assertThat(Files.readString(file)).isEqualTo("old");
+            try (var files = Files.list(tempDir)) {
+                assertThat(files).containsExactly(file);
+            }
+        }
+    }
 }
@@ -2,6 +2,9 @@ package org.javai.punit.experiment.explore;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -16,6 +19,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Tests for ExploreOutputWriter.
@@ -230,6 +234,23 @@ class ExploreOutputWriterTest {
     @DisplayName("Diff Anchors")
     class DiffAnchors {
 
+        @TempDir
+        Path tempDir;
+
+        @Test
+        @DisplayName("written file is identical to toYaml()")
+        void writtenFileIsIdenticalToToYaml() throws IOException {
+            EmpiricalBaseline baseline = createBaselineWithProjections(
+                new ResultProjection(0, "input: zero", Map.of("check", "passed"), 10, "line1\nline2", null),
+                new ResultProjection(1, "input-one", Map.of("check", "failed"), 20, null, "error-one")
+            );
+            Path file = tempDir.resolve("explore.yaml");
+
+            writer.write(baseline, file);
+
+            assertThat(Files.readString(file)).isEqualTo(writer.toYaml(baseline));
+        }
+
         @Test
         @DisplayName("emits anchor line before each sample block")
         void emitsAnchorLineBeforeEachSampleBlock() {
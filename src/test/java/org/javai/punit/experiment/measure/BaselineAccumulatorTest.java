@@ -0,0 +1,327 @@
+package org.javai.punit.experiment.measure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.javai.punit.experiment.measure.BaselineAccumulator.PriorBaseline;
+import org.javai.punit.experiment.model.EmpiricalBaseline;
+import org.javai.punit.experiment.model.EmpiricalBaseline.AccumulatedRun;
+import org.javai.punit.experiment.model.EmpiricalBaseline.CostSummary;
+import org.javai.punit.experiment.model.EmpiricalBaseline.ExecutionSummary;
+import org.javai.punit.experiment.model.EmpiricalBaseline.PostconditionCounts;
+import org.javai.punit.experiment.model.EmpiricalBaseline.StatisticsSummary;
+import org.javai.punit.experiment.model.ResultProjection;
+import org.javai.punit.model.CovariateProfile;
+import org.javai.punit.spec.baseline.BaselineFileNamer;
+import org.javai.punit.spec.baseline.BaselineRepository;
+import org.javai.punit.spec.registry.SpecSchemaValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("BaselineAccumulator")
+class BaselineAccumulatorTest {
+
+    private static final Instant FIRST_RUN = Instant.parse("2026-02-02T10:00:00Z");
+    private static final Instant SECOND_RUN = Instant.parse("2026-02-03T10:00:00Z");
+    private static final Instant THIRD_RUN = Instant.parse("2026-02-04T10:00:00Z");
+
+    private final MeasureOutputWriter writer = new MeasureOutputWriter();
+
+    @Nested
+    @DisplayName("merge")
+    class Merge {
+
+        @Test
+        @DisplayName("sums counts and recomputes the statistics from the merged counts")
+        void sumsCountsAndRecomputesStatistics() {
+            EmpiricalBaseline prior = baseline("UseCase", FIRST_RUN, 1000, 950, Map.of("timeout", 50), null, null);
+            EmpiricalBaseline run = baseline("UseCase", SECOND_RUN, 4000, 3700,
+                    Map.of("timeout", 200, "malformed", 100), null, null);
+
+            EmpiricalBaseline merged = BaselineAccumulator.merge(BaselineAccumulator.read(writer.toYaml(prior)), run);
+
+            StatisticsSummary stats = merged.getStatistics();
+            double rate = 4650.0 / 5000;
+            double se = Math.sqrt(rate * (1 - rate) / 5000);
+            assertThat(merged.getExecution().samplesPlanned()).isEqualTo(5000);
+            assertThat(merged.getExecution().samplesExecuted()).isEqualTo(5000);
+            assertThat(stats.successes()).isEqualTo(4650);
+            assertThat(stats.failures()).isEqualTo(350);
+            assertThat(stats.observedSuccessRate()).isCloseTo(rate, within(1e-12));
+            assertThat(stats.standardError()).isCloseTo(se, within(1e-12));
+            assertThat(stats.confidenceIntervalLower()).isCloseTo(rate - 1.96 * se, within(1e-12));
+            assertThat(stats.confidenceIntervalUpper()).isCloseTo(rate + 1.96 * se, within(1e-12));
+            assertThat(stats.failureDistribution())
+                    .containsExactly(Map.entry("timeout", 250), Map.entry("malformed", 100));
+        }
+
+        @Test
+        @DisplayName("sums cost totals and derives averages over all samples")
+        void sumsCost() {
+            EmpiricalBaseline prior = baseline("UseCase", FIRST_RUN, 100, 90, Map.of(), null, null);
+            EmpiricalBaseline run = baseline("UseCase", SECOND_RUN, 300, 270, Map.of(), null, null);
+
+            EmpiricalBaseline merged = BaselineAccumulator.merge(BaselineAccumulator.read(writer.toYaml(prior)), run);
+
+            CostSummary cost = merged.getCost();
+            assertThat(cost.totalTimeMs()).isEqualTo(4000);
+            assertThat(cost.avgTimePerSampleMs()).isEqualTo(10);
+            assertThat(cost.totalTokens()).isEqualTo(400_000);
+            assertThat(cost.avgTokensPerSample()).isEqualTo(1000);
+        }
+
+        @Test
+        @DisplayName("sums the use case and pacing time split")
+        void sumsPhaseTimes() {
+            EmpiricalBaseline prior = withCost(baseline("UseCase", FIRST_RUN, 100, 90, Map.of(), null, null),
+                    new CostSummary(1000, 10, 0, 0, 600, 300));
+            EmpiricalBaseline run = withCost(baseline("UseCase", SECOND_RUN, 300, 270, Map.of(), null, null),
+                    new CostSummary(3000, 10, 0, 0, 2000, 900));
+
+            EmpiricalBaseline merged = BaselineAccumulator.merge(BaselineAccumulator.read(writer.toYaml(prior)), run);
+
+            CostSummary cost = merged.getCost();
+            assertThat(cost.useCaseTimeMs()).isEqualTo(2600);
+            assertThat(cost.pacingWaitMs()).isEqualTo(1200);
+        }
+
+        @Test
+        @DisplayName("sums postcondition counts and derives pass rates from them")
+        void sumsPostconditionCounts() {
+            EmpiricalBaseline prior = withPostconditions(
+                    baseline("UseCase", FIRST_RUN, 100, 90, Map.of(), null, null),
+                    Map.of("Has content", new PostconditionCounts(95, 5, 0)));
+            EmpiricalBaseline run = withPostconditions(
+                    baseline("UseCase", SECOND_RUN, 100, 90, Map.of(), null, null),
+                    Map.of("Has content", new PostconditionCounts(85, 10, 5)));
+
+            EmpiricalBaseline merged = BaselineAccumulator.merge(BaselineAccumulator.read(writer.toYaml(prior)), run);
+
+            assertThat(merged.getPostconditionCounts())
+                    .containsEntry("Has content", new PostconditionCounts(180, 15, 5));
+            assertThat(merged.getStatistics().criteriaPassRates()).containsEntry("Has content", 0.9);
+        }
+
+        @Test
+        @DisplayName("records the prior baseline and the new run as accumulated runs")
+        void recordsAccumulatedRuns() {
+            EmpiricalBaseline prior = baseline("UseCase", FIRST_RUN, 100, 92, Map.of(), null, null);
+            EmpiricalBaseline second = baseline("UseCase", SECOND_RUN, 100, 88, Map.of(), null, null);
+            EmpiricalBaseline third = baseline("UseCase", THIRD_RUN, 200, 180, Map.of(), null, null);
+
+            EmpiricalBaseline once = BaselineAccumulator.merge(BaselineAccumulator.read(writer.toYaml(prior)), second);
+            EmpiricalBaseline twice = BaselineAccumulator.merge(BaselineAccumulator.read(writer.toYaml(once)), third);
+
+            assertThat(once.getAccumulatedRuns()).containsExactly(
+                    new AccumulatedRun(FIRST_RUN, 100, 92),
+                    new AccumulatedRun(SECOND_RUN, 100, 88));
+            assertThat(twice.getAccumulatedRuns()).containsExactly(
+                    new AccumulatedRun(FIRST_RUN, 100, 92),
+                    new AccumulatedRun(SECOND_RUN, 100, 88),
+                    new AccumulatedRun(THIRD_RUN, 200, 180));
+            assertThat(twice.getGeneratedAt()).isEqualTo(THIRD_RUN);
+            assertThat(twice.getStatistics().successes()).isEqualTo(360);
+        }
+
+        @Test
+        @DisplayName("merged baseline is written as a valid spec")
+        void mergedBaselineIsValidSpec() {
+            EmpiricalBaseline prior = baseline("UseCase", FIRST_RUN, 100, 90, Map.of(), null, null);
+            EmpiricalBaseline run = baseline("UseCase", SECOND_RUN, 100, 80, Map.of(), null, null);
+
+            String yaml = writer.toYaml(
+                    BaselineAccumulator.merge(BaselineAccumulator.read(writer.toYaml(prior)), run));
+
+            assertThat(SpecSchemaValidator.validate(yaml).isValid()).isTrue();
+            assertThat(yaml).contains("accumulatedRuns:").contains("samplesExecuted: 200");
+        }
+    }
+
+    @Nested
+    @DisplayName("read")
+    class Read {
+
+        @Test
+        @DisplayName("reads the counts written by MeasureOutputWriter")
+        void readsWrittenCounts() {
+            EmpiricalBaseline baseline = baseline("UseCase", FIRST_RUN, 500, 450, Map.of("timeout", 50), null, null);
+
+            PriorBaseline prior = BaselineAccumulator.read(writer.toYaml(baseline));
+
+            assertThat(prior.generatedAt()).isEqualTo(FIRST_RUN);
+            assertThat(prior.samplesExecuted()).isEqualTo(500);
+            assertThat(prior.successes()).isEqualTo(450);
+            assertThat(prior.failures()).isEqualTo(50);
+            assertThat(prior.failureDistribution()).containsEntry("timeout", 50);
+            assertThat(prior.totalTimeMs()).isEqualTo(5000);
+            assertThat(prior.totalTokens()).isEqualTo(500_000);
+            assertThat(prior.accumulatedRuns()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("findCompatible")
+    class FindCompatible {
+
+        @TempDir
+        Path specsDir;
+
+        @Test
+        @DisplayName("finds the baseline with the same footprint and covariate profile")
+        void findsMatchingBaseline() throws IOException {
+            CovariateProfile eu = profile("EU");
+            Path existing = write(baseline("UseCase", FIRST_RUN, 100, 90, Map.of(), "abcd1234", eu));
+            Path output = specsDir.resolve(filename("UseCase", "abcd1234", eu));
+
+            BaselineAccumulator accumulator = new BaselineAccumulator(new BaselineRepository(specsDir));
+
+            assertThat(accumulator.findCompatible(
+                    baseline("UseCase", SECOND_RUN, 100, 90, Map.of(), "abcd1234", eu), output))
+                    .contains(existing);
+        }
+
+        @Test
+        @DisplayName("ignores baselines with a different covariate profile or footprint")
+        void ignoresIncompatibleBaselines() throws IOException {
+            write(baseline("UseCase", FIRST_RUN, 100, 90, Map.of(), "abcd1234", profile("EU")));
+            write(baseline("UseCase", FIRST_RUN, 100, 90, Map.of(), "ffff0000", profile("US")));
+            CovariateProfile us = profile("US");
+            Path output = specsDir.resolve(filename("UseCase", "abcd1234", us));
+
+            BaselineAccumulator accumulator = new BaselineAccumulator(new BaselineRepository(specsDir));
+
+            assertThat(accumulator.findCompatible(
+                    baseline("UseCase", SECOND_RUN, 100, 90, Map.of(), "abcd1234", us), output))
+                    .isEmpty();
+        }
+
+        @Test
+        @DisplayName("finds a baseline without footprint at the run's own output path")
+        void findsBaselineAtOutputPath() throws IOException {
+            Path output = specsDir.resolve("shopping-search.yaml");
+            writer.write(baseline("shopping.search", FIRST_RUN, 100, 90, Map.of(), null, null), output);
+
+            BaselineAccumulator accumulator = new BaselineAccumulator(new BaselineRepository(specsDir));
+
+            assertThat(accumulator.findCompatible(
+                    baseline("shopping.search", SECOND_RUN, 100, 90, Map.of(), null, null), output))
+                    .contains(output);
+        }
+
+        @Test
+        @DisplayName("accumulates into the compatible baseline on disk")
+        void accumulatesFromDisk() throws IOException {
+            Path existing = write(baseline("UseCase", FIRST_RUN, 1000, 950, Map.of(), "abcd1234", profile("EU")));
+
+            EmpiricalBaseline merged = new BaselineAccumulator(new BaselineRepository(specsDir)).accumulate(
+                    baseline("UseCase", SECOND_RUN, 4000, 3800, Map.of(), "abcd1234", profile("EU")), existing);
+
+            assertThat(merged.getExecution().samplesExecuted()).isEqualTo(5000);
+            assertThat(merged.getStatistics().successes()).isEqualTo(4750);
+            assertThat(merged.getFootprint()).isEqualTo("abcd1234");
+        }
+
+        @Test
+        @DisplayName("keeps the existing projections and numbers the new run's samples after them")
+        void carriesProjectionsForward() throws IOException {
+            Path existing = write(withProjections(
+                    baseline("UseCase", FIRST_RUN, 2, 2, Map.of(), "abcd1234", profile("EU")), "first"));
+
+            EmpiricalBaseline merged = new BaselineAccumulator(new BaselineRepository(specsDir)).accumulate(
+                    withProjections(baseline("UseCase", SECOND_RUN, 3, 3, Map.of(), "abcd1234", profile("EU")),
+                            "second"),
+                    existing);
+            writer.write(merged, existing);
+
+            assertThat(ResultProjectionSidecar.load(existing))
+                    .extracting(ResultProjection::sampleIndex, ResultProjection::input)
+                    .containsExactly(
+                            tuple(0, "first 0"), tuple(1, "first 1"),
+                            tuple(2, "second 0"), tuple(3, "second 1"), tuple(4, "second 2"));
+        }
+
+        private Path write(EmpiricalBaseline baseline) throws IOException {
+            Path path = specsDir.resolve(
+                    filename(baseline.getUseCaseId(), baseline.getFootprint(), baseline.getCovariateProfile()));
+            writer.write(baseline, path);
+            return path;
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // HELPERS
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private static EmpiricalBaseline baseline(String useCaseId, Instant generatedAt, int samples, int successes,
+            Map<String, Integer> failureDistribution, String footprint, CovariateProfile profile) {
+        int failures = samples - successes;
+        double rate = (double) successes / samples;
+        double se = Math.sqrt(rate * (1 - rate) / samples);
+        return EmpiricalBaseline.builder()
+                .useCaseId(useCaseId)
+                .generatedAt(generatedAt)
+                .execution(new ExecutionSummary(samples, samples, "COMPLETED", null))
+                .statistics(new StatisticsSummary(rate, se, Math.max(0, rate - 1.96 * se),
+                        Math.min(1, rate + 1.96 * se), successes, failures, failureDistribution))
+                .cost(new CostSummary(samples * 10L, 10, samples * 1000L, 1000))
+                .footprint(footprint)
+                .covariateProfile(profile)
+                .build();
+    }
+
+    private static EmpiricalBaseline withProjections(EmpiricalBaseline baseline, String run) {
+        List<ResultProjection> projections = new ArrayList<>();
+        for (int i = 0; i < baseline.getExecution().samplesExecuted(); i++) {
+            projections.add(new ResultProjection(i, run + " " + i, Map.of(), 10, "ok", null));
+        }
+        return EmpiricalBaseline.builder()
+                .useCaseId(baseline.getUseCaseId())
+                .generatedAt(baseline.getGeneratedAt())
+                .execution(baseline.getExecution())
+                .statistics(baseline.getStatistics())
+                .cost(baseline.getCost())
+                .footprint(baseline.getFootprint())
+                .covariateProfile(baseline.getCovariateProfile())
+                .resultProjections(projections)
+                .build();
+    }
+
+    private static EmpiricalBaseline withPostconditions(EmpiricalBaseline baseline,
+            Map<String, PostconditionCounts> counts) {
+        return EmpiricalBaseline.builder()
+                .useCaseId(baseline.getUseCaseId())
+                .generatedAt(baseline.getGeneratedAt())
+                .execution(baseline.getExecution())
+                .statistics(baseline.getStatistics())
+                .cost(baseline.getCost())
+                .postconditionCounts(counts)
+                .build();
+    }
+
+    private static EmpiricalBaseline withCost(EmpiricalBaseline baseline, CostSummary cost) {
+        return EmpiricalBaseline.builder()
+                .useCaseId(baseline.getUseCaseId())
+                .generatedAt(baseline.getGeneratedAt())
+                .execution(baseline.getExecution())
+                .statistics(baseline.getStatistics())
+                .cost(cost)
+                .build();
+    }
+
+    private static CovariateProfile profile(String region) {
+        return CovariateProfile.builder().put("region", region).build();
+    }
+
+    private static String filename(String useCaseId, String footprint, CovariateProfile profile) {
+        return new BaselineFileNamer().generateFilename(useCaseId, footprint, profile);
+    }
+}
@@ -4,10 +4,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Instant;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import org.javai.punit.experiment.model.EmpiricalBaseline;
+import org.javai.punit.experiment.model.EmpiricalBaseline.AccumulatedRun;
 import org.javai.punit.experiment.model.EmpiricalBaseline.CostSummary;
 import org.javai.punit.experiment.model.EmpiricalBaseline.ExecutionSummary;
+import org.javai.punit.experiment.model.EmpiricalBaseline.PostconditionCounts;
 import org.javai.punit.experiment.model.EmpiricalBaseline.StatisticsSummary;
 import org.javai.punit.spec.registry.SpecSchemaValidator;
 import org.javai.punit.spec.registry.SpecSchemaValidator.ValidationResult;
@@ -194,6 +197,33 @@ class MeasureOutputWriterTest {
                 .contains("totalTokens:");
         }
 
+        @Test
+        @DisplayName("should include the use case and pacing time split when measured")
+        void shouldIncludePhaseTimes() {
+            EmpiricalBaseline baseline = EmpiricalBaseline.builder()
+                .useCaseId("TestUseCase")
+                .generatedAt(Instant.parse("2026-02-02T10:00:00Z"))
+                .execution(new ExecutionSummary(100, 100, "COMPLETED", null))
+                .statistics(new StatisticsSummary(0.9, 0.03, 0.84, 0.96, 90, 10, Map.of()))
+                .cost(new CostSummary(5000, 50, 0, 0, 3000, 1800))
+                .build();
+
+            String yaml = writer.toYaml(baseline);
+
+            assertThat(yaml)
+                .contains("useCaseTimeMs: 3000")
+                .contains("pacingWaitMs: 1800");
+            assertThat(SpecSchemaValidator.validate(yaml).isValid()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should omit the time split when it was not measured")
+        void shouldOmitPhaseTimesWhenNotMeasured() {
+            String yaml = writer.toYaml(createMeasureBaseline(0.90, 900, 100));
+
+            assertThat(yaml).doesNotContain("useCaseTimeMs:").doesNotContain("pacingWaitMs:");
+        }
+
         @Test
         @DisplayName("should include contentFingerprint")
         void shouldIncludeContentFingerprint() {
@@ -205,6 +235,65 @@ class MeasureOutputWriterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Accumulation Sections")
+    class AccumulationSections {
+
+        @Test
+        @DisplayName("should include postcondition counts when present")
+        void shouldIncludePostconditionCounts() {
+            EmpiricalBaseline baseline = EmpiricalBaseline.builder()
+                .useCaseId("TestUseCase")
+                .generatedAt(Instant.parse("2026-02-02T10:00:00Z"))
+                .execution(new ExecutionSummary(100, 100, "COMPLETED", null))
+                .statistics(new StatisticsSummary(0.9, 0.03, 0.84, 0.96, 90, 10, Map.of()))
+                .cost(new CostSummary(500, 5, 0, 0))
+                .postconditionCounts(Map.of("Response has content", new PostconditionCounts(90, 10, 0)))
+                .build();
+
+            String yaml = writer.toYaml(baseline);
+
+            assertThat(yaml)
+                .contains("postconditions:")
+                .contains("description: Response has content")
+                .contains("passed: 90")
+                .contains("failed: 10")
+                .contains("passRate: 0.9000");
+        }
+
+        @Test
+        @DisplayName("should include accumulated runs when present")
+        void shouldIncludeAccumulatedRuns() {
+            EmpiricalBaseline baseline = EmpiricalBaseline.builder()
+                .useCaseId("TestUseCase")
+                .generatedAt(Instant.parse("2026-02-03T10:00:00Z"))
+                .execution(new ExecutionSummary(200, 200, "COMPLETED", null))
+                .statistics(new StatisticsSummary(0.9, 0.02, 0.86, 0.94, 180, 20, Map.of()))
+                .cost(new CostSummary(1000, 5, 0, 0))
+                .accumulatedRuns(List.of(
+                    new AccumulatedRun(Instant.parse("2026-02-02T10:00:00Z"), 100, 92),
+                    new AccumulatedRun(Instant.parse("2026-02-03T10:00:00Z"), 100, 88)))
+                .build();
+
+            String yaml = writer.toYaml(baseline);
+
+            assertThat(yaml)
+                .contains("accumulatedRuns:")
+                .contains("generatedAt: 2026-02-02T10:00:00Z")
+                .contains("successes: 92")
+                .contains("successes: 88");
+            assertThat(SpecSchemaValidator.validate(yaml).isValid()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should omit both sections for a single run without postconditions")
+        void shouldOmitSectionsByDefault() {
+            String yaml = writer.toYaml(createMeasureBaseline(0.90, 900, 100));
+
+            assertThat(yaml).doesNotContain("postconditions:").doesNotContain("accumulatedRuns:");
+        }
+    }
+
     @Nested
     @DisplayName("Schema Validation")
     class SchemaValidation {
@@ -0,0 +1,109 @@
+package org.javai.punit.experiment.measure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.javai.punit.experiment.engine.output.OutputPipeline;
+import org.javai.punit.experiment.measure.MeasureShardMerger.MergedSpec;
+import org.javai.punit.spec.model.ExecutionSpecification;
+import org.javai.punit.spec.registry.SpecificationLoader;
+import org.javai.punit.testsubjects.MeasureShardSubjects;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+/**
+ * Integration tests for running a {@code @MeasureExperiment} in shards and merging them.
+ */
+@DisplayName("Sharded MEASURE runs")
+class MeasureShardIntegrationTest {
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void reset() {
+        MeasureShardSubjects.Measure.inputs.clear();
+        System.setProperty(MeasureShard.PROP_DIRECTORY, tempDir.resolve("shards").toString());
+    }
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty("punit.specs.outputDir");
+        System.clearProperty(MeasureShard.PROP_SHARD);
+        System.clearProperty(MeasureShard.PROP_DIRECTORY);
+        System.clearProperty(MeasureStrategy.PROP_APPEND);
+    }
+
+    @Test
+    @DisplayName("each shard runs its block of samples, keeping the input cycle")
+    void shardRunsItsBlock() {
+        System.setProperty(MeasureShard.PROP_SHARD, "2/2");
+
+        run().testEvents().assertStatistics(stats -> stats.started(3));
+
+        assertThat(MeasureShardSubjects.Measure.inputs).containsExactly("remove bread", "", "add milk");
+        assertThat(tempDir.resolve("shards/ShardedUseCase.shard-2-of-2.yaml")).exists();
+    }
+
+    @Test
+    @DisplayName("merged shards give the spec a single process writes")
+    void mergedShardsMatchSingleProcess() throws IOException {
+        Path singleDir = tempDir.resolve("single");
+        System.setProperty("punit.specs.outputDir", singleDir.toString());
+        run();
+        List<String> singleInputs = List.copyOf(MeasureShardSubjects.Measure.inputs);
+        MeasureShardSubjects.Measure.inputs.clear();
+
+        Path shardedDir = tempDir.resolve("sharded");
+        System.setProperty("punit.specs.outputDir", shardedDir.toString());
+        for (String shard : List.of("2/3", "1/3", "3/3")) {
+            System.setProperty(MeasureShard.PROP_SHARD, shard);
+            run();
+        }
+        List<MergedSpec> merged = new MeasureShardMerger(tempDir.resolve("shards"), shardedDir).mergeAll();
+
+        assertThat(merged).singleElement().satisfies(spec -> assertThat(spec.shards()).isEqualTo(3));
+        assertThat(MeasureShardSubjects.Measure.inputs).containsExactlyInAnyOrderElementsOf(singleInputs);
+
+        ExecutionSpecification single = SpecificationLoader.load(singleDir.resolve("ShardedUseCase.yaml"));
+        ExecutionSpecification sharded = SpecificationLoader.load(shardedDir.resolve("ShardedUseCase.yaml"));
+        assertThat(sharded.getBaselineSamples()).isEqualTo(single.getBaselineSamples()).isEqualTo(7);
+        assertThat(sharded.getBaselineSuccesses()).isEqualTo(single.getBaselineSuccesses()).isEqualTo(5);
+        assertThat(sharded.getMinPassRate()).isEqualTo(single.getMinPassRate());
+        assertThat(sharded.getExtendedStatistics().standardError())
+                .isEqualTo(single.getExtendedStatistics().standardError());
+        assertThat(sharded.getExtendedStatistics().failureDistribution())
+                .isEqualTo(single.getExtendedStatistics().failureDistribution());
+        try (Stream<Path> left = Files.list(tempDir.resolve("shards"))) {
+            assertThat(left).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("rejects append in a sharded run")
+    void rejectsAppend() {
+        System.setProperty(MeasureShard.PROP_SHARD, "1/2");
+        System.setProperty(MeasureStrategy.PROP_APPEND, "true");
+
+        run().containerEvents().assertStatistics(stats -> stats.failed(1));
+
+        assertThat(MeasureShardSubjects.Measure.inputs).isEmpty();
+    }
+
+    private static EngineExecutionResults run() {
+        EngineExecutionResults results = EngineTestKit.engine("junit-jupiter")
+                .selectors(DiscoverySelectors.selectClass(MeasureShardSubjects.Measure.class))
+                .execute();
+        OutputPipeline.shared().flush();
+        return results;
+    }
+}
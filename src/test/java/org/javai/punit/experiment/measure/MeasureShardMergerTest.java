@@ -0,0 +1,286 @@
+package org.javai.punit.experiment.measure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.javai.punit.experiment.measure.MeasureShardMerger.MergedSpec;
+import org.javai.punit.experiment.model.EmpiricalBaseline;
+import org.javai.punit.experiment.model.EmpiricalBaseline.CostSummary;
+import org.javai.punit.experiment.model.EmpiricalBaseline.ExecutionSummary;
+import org.javai.punit.experiment.model.EmpiricalBaseline.StatisticsSummary;
+import org.javai.punit.experiment.model.ResultProjection;
+import org.javai.punit.model.CovariateProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("MeasureShardMerger")
+class MeasureShardMergerTest {
+
+    private static final Instant FIRST_END = Instant.parse("2026-03-01T10:00:00Z");
+    private static final Instant LAST_END = Instant.parse("2026-03-01T10:05:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    private final MeasureOutputWriter writer = new MeasureOutputWriter();
+
+    @Nested
+    @DisplayName("mergeAll")
+    class MergeAll {
+
+        @Test
+        @DisplayName("sums the shards' counts and recomputes the statistics")
+        void sumsCounts() throws IOException {
+            writeShard(1, 2, baseline(500, 480, Map.of("timeout", 20), "COMPLETED", LAST_END));
+            writeShard(2, 2, baseline(500, 470, Map.of("malformed", 10, "timeout", 20), "COMPLETED", FIRST_END));
+
+            List<MergedSpec> merged = merger().mergeAll();
+
+            assertThat(merged).singleElement().satisfies(spec -> {
+                assertThat(spec.spec()).isEqualTo(specsDir().resolve("ShoppingUseCase.yaml")).exists();
+                assertThat(spec.shards()).isEqualTo(2);
+            });
+            EmpiricalBaseline baseline = merged.get(0).baseline();
+            StatisticsSummary stats = baseline.getStatistics();
+            double rate = 950.0 / 1000;
+            assertThat(baseline.getExecution().samplesPlanned()).isEqualTo(1000);
+            assertThat(baseline.getExecution().samplesExecuted()).isEqualTo(1000);
+            assertThat(baseline.getExecution().terminationReason()).isEqualTo("COMPLETED");
+            assertThat(stats.successes()).isEqualTo(950);
+            assertThat(stats.observedSuccessRate()).isCloseTo(rate, within(1e-12));
+            assertThat(stats.standardError()).isCloseTo(Math.sqrt(rate * (1 - rate) / 1000), within(1e-12));
+            assertThat(stats.failureDistribution())
+                    .containsExactly(Map.entry("timeout", 40), Map.entry("malformed", 10));
+            assertThat(baseline.getCost().totalTimeMs()).isEqualTo(10_000);
+            assertThat(baseline.getCost().avgTimePerSampleMs()).isEqualTo(10);
+            assertThat(baseline.getGeneratedAt()).isEqualTo(LAST_END);
+            assertThat(baseline.getExpirationPolicy().baselineEndTime()).isEqualTo(LAST_END);
+            assertThat(baseline.getCovariateProfile().get("region").toCanonicalString()).isEqualTo("EU");
+        }
+
+        @Test
+        @DisplayName("writes the same spec whatever order the shards finished in")
+        void deterministic() throws IOException {
+            writeShard(1, 2, baseline(500, 480, Map.of("timeout", 20), "COMPLETED", FIRST_END));
+            writeShard(2, 2, baseline(500, 470, Map.of("malformed", 30), "COMPLETED", LAST_END));
+            merger().mergeAll();
+            String first = Files.readString(specsDir().resolve("ShoppingUseCase.yaml"));
+
+            writeShard(2, 2, baseline(500, 470, Map.of("malformed", 30), "COMPLETED", LAST_END));
+            writeShard(1, 2, baseline(500, 480, Map.of("timeout", 20), "COMPLETED", FIRST_END));
+            merger().mergeAll();
+
+            assertThat(Files.readString(specsDir().resolve("ShoppingUseCase.yaml"))).isEqualTo(first);
+        }
+
+        @Test
+        @DisplayName("reports the first shard that stopped early")
+        void firstStoppedShard() throws IOException {
+            writeShard(1, 3, baseline(300, 290, Map.of(), "COMPLETED", FIRST_END));
+            writeShard(2, 3, baseline(120, 110, Map.of(), "TIME_BUDGET_EXHAUSTED", FIRST_END));
+            writeShard(3, 3, baseline(100, 95, Map.of(), "TOKEN_BUDGET_EXHAUSTED", FIRST_END));
+
+            ExecutionSummary execution = merger().mergeAll().get(0).baseline().getExecution();
+
+            assertThat(execution.samplesExecuted()).isEqualTo(520);
+            assertThat(execution.terminationReason()).isEqualTo("TIME_BUDGET_EXHAUSTED");
+            assertThat(execution.terminationDetails()).startsWith("shard 2/3: ");
+        }
+
+        @Test
+        @DisplayName("deletes the merged partials")
+        void deletesPartials() throws IOException {
+            writeShard(1, 2, baseline(10, 10, Map.of(), "COMPLETED", FIRST_END));
+            writeShard(2, 2, baseline(10, 10, Map.of(), "COMPLETED", FIRST_END));
+
+            merger().mergeAll();
+
+            assertThat(shardDir().resolve("ShoppingUseCase.shard-1-of-2.yaml")).doesNotExist();
+            assertThat(shardDir().resolve("ShoppingUseCase.shard-2-of-2.yaml")).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("concatenates the shards' result projections and deletes their sidecars")
+        void mergesProjections() throws IOException {
+            writeShard(1, 2, withProjections(0, 2, FIRST_END));
+            writeShard(2, 2, withProjections(2, 2, LAST_END));
+
+            MergedSpec merged = merger().mergeAll().get(0);
+
+            assertThat(merged.baseline().getResultProjections())
+                    .extracting(ResultProjection::sampleIndex)
+                    .containsExactly(0, 1, 2, 3);
+            assertThat(ResultProjectionSidecar.load(merged.spec()))
+                    .extracting(ResultProjection::input)
+                    .containsExactly("input 0", "input 1", "input 2", "input 3");
+            assertThat(shardDir().resolve("ShoppingUseCase.shard-1-of-2.projections.jsonl.gz")).doesNotExist();
+            assertThat(shardDir().resolve("ShoppingUseCase.shard-2-of-2.projections.jsonl.gz")).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("writes nothing if a shard is missing")
+        void missingShard() throws IOException {
+            writeShard(1, 3, baseline(10, 10, Map.of(), "COMPLETED", FIRST_END));
+            writeShard(3, 3, baseline(10, 10, Map.of(), "COMPLETED", FIRST_END));
+
+            assertThatThrownBy(() -> merger().mergeAll())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("shards [2] of 3 are missing");
+            assertThat(specsDir().resolve("ShoppingUseCase.yaml")).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("rejects partials from runs with different shard counts")
+        void mixedShardCounts() throws IOException {
+            writeShard(1, 2, baseline(10, 10, Map.of(), "COMPLETED", FIRST_END));
+            writeShard(2, 3, baseline(10, 10, Map.of(), "COMPLETED", FIRST_END));
+
+            assertThatThrownBy(() -> merger().mergeAll())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("2 and 3 shards");
+        }
+
+        @Test
+        @DisplayName("reports shards that resolved different covariates")
+        void differentCovariates() {
+            writeShard(1, 2, "ShoppingUseCase-eu.yaml", builder(10, 10, Map.of(), "COMPLETED", FIRST_END).build());
+            writeShard(2, 2, "ShoppingUseCase-us.yaml", builder(10, 10, Map.of(), "COMPLETED", LAST_END)
+                    .covariateProfile(CovariateProfile.builder().put("region", "US").build())
+                    .build());
+
+            assertThatThrownBy(() -> merger().mergeAll())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("resolved different covariates")
+                    .hasMessageNotContaining("missing");
+            assertThat(specsDir()).doesNotExist();
+            assertThat(shardDir().resolve("ShoppingUseCase-eu.shard-1-of-2.yaml")).exists();
+        }
+
+        @Test
+        @DisplayName("reports shards written by different experiments")
+        void differentExperiments() {
+            writeShard(1, 2, builder(10, 10, Map.of(), "COMPLETED", FIRST_END).experimentId("search-v1").build());
+            writeShard(2, 2, builder(10, 10, Map.of(), "COMPLETED", FIRST_END).experimentId("search-v2").build());
+
+            assertThatThrownBy(() -> merger().mergeAll())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("different experiments")
+                    .hasMessageContaining("search-v2");
+        }
+
+        @Test
+        @DisplayName("keeps every partial if a spec cannot be written")
+        void keepsPartialsOnWriteFailure() throws IOException {
+            writeShard(1, 2, baseline(10, 10, Map.of(), "COMPLETED", FIRST_END));
+            writeShard(2, 2, baseline(10, 10, Map.of(), "COMPLETED", FIRST_END));
+            writeShard(1, 2, "SearchUseCase.yaml",
+                    builder(10, 10, Map.of(), "COMPLETED", FIRST_END).useCaseId("SearchUseCase").build());
+            writeShard(2, 2, "SearchUseCase.yaml",
+                    builder(10, 10, Map.of(), "COMPLETED", FIRST_END).useCaseId("SearchUseCase").build());
+            // A directory where the spec should go makes its write fail
+            Files.createDirectories(specsDir().resolve("SearchUseCase.yaml").resolve("blocked"));
+
+            assertThatThrownBy(() -> merger().mergeAll()).isInstanceOf(IOException.class);
+            assertThat(shardDir().resolve("ShoppingUseCase.shard-1-of-2.yaml")).exists();
+            assertThat(shardDir().resolve("SearchUseCase.shard-2-of-2.yaml")).exists();
+        }
+
+        @Test
+        @DisplayName("has nothing to do without a shard directory")
+        void noShards() throws IOException {
+            assertThat(merger().mergeAll()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("MeasureShardMergeCli")
+    class Cli {
+
+        @Test
+        @DisplayName("prints each merged spec")
+        void printsMergedSpecs() {
+            writeShard(1, 2, baseline(10, 9, Map.of(), "COMPLETED", FIRST_END));
+            writeShard(2, 2, baseline(10, 7, Map.of(), "COMPLETED", FIRST_END));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            MeasureShardMergeCli.run(new String[] {
+                    "--shard-dir", shardDir().toString(), "--specs-dir", specsDir().toString()},
+                    new PrintStream(out, true, StandardCharsets.UTF_8));
+
+            assertThat(out.toString(StandardCharsets.UTF_8))
+                    .contains("Merged 2 shards into")
+                    .contains("20 samples, success rate 0.8000, COMPLETED");
+        }
+    }
+
+    private MeasureShardMerger merger() {
+        return new MeasureShardMerger(shardDir(), specsDir());
+    }
+
+    private Path shardDir() {
+        return tempDir.resolve("shards");
+    }
+
+    private Path specsDir() {
+        return tempDir.resolve("specs");
+    }
+
+    private void writeShard(int index, int count, EmpiricalBaseline baseline) {
+        writeShard(index, count, "ShoppingUseCase.yaml", baseline);
+    }
+
+    private void writeShard(int index, int count, String specFileName, EmpiricalBaseline baseline) {
+        try {
+            writer.write(baseline, shardDir().resolve(new MeasureShard(index, count).partialFileName(specFileName)));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static EmpiricalBaseline withProjections(int firstSample, int samples, Instant endTime) {
+        List<ResultProjection> projections = new ArrayList<>();
+        for (int sample = firstSample; sample < firstSample + samples; sample++) {
+            projections.add(new ResultProjection(sample, "input " + sample, Map.of(), 10, "ok", null));
+        }
+        return builder(samples, samples, Map.of(), "COMPLETED", endTime)
+                .resultProjections(projections)
+                .build();
+    }
+
+    private static EmpiricalBaseline baseline(int samples, int successes, Map<String, Integer> failureDistribution,
+            String terminationReason, Instant endTime) {
+        return builder(samples, successes, failureDistribution, terminationReason, endTime).build();
+    }
+
+    private static EmpiricalBaseline.Builder builder(int samples, int successes,
+            Map<String, Integer> failureDistribution, String terminationReason, Instant endTime) {
+        int failures = samples - successes;
+        double rate = (double) successes / samples;
+        double se = Math.sqrt(rate * (1 - rate) / samples);
+        return EmpiricalBaseline.builder()
+                .useCaseId("ShoppingUseCase")
+                .generatedAt(endTime)
+                .experimentClass("org.example.ShoppingExperiment")
+                .experimentMethod("measureSearch")
+                .execution(new ExecutionSummary(samples, samples, terminationReason,
+                        "COMPLETED".equals(terminationReason) ? null : "budget exceeded"))
+                .statistics(new StatisticsSummary(rate, se, Math.max(0, rate - 1.96 * se),
+                        Math.min(1, rate + 1.96 * se), successes, failures, failureDistribution))
+                .cost(new CostSummary(samples * 10L, 10, samples * 1000L, 1000))
+                .expirationPolicy(30, endTime)
+                .covariateProfile(CovariateProfile.builder().put("region", "EU").build());
+    }
+}
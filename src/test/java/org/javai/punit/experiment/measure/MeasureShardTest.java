@@ -0,0 +1,101 @@
+package org.javai.punit.experiment.measure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.stream.IntStream;
+import org.javai.punit.controls.pacing.PacingCalculator;
+import org.javai.punit.controls.pacing.PacingConfiguration;
+import org.javai.punit.experiment.measure.MeasureShard.Slice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MeasureShard")
+class MeasureShardTest {
+
+    @Nested
+    @DisplayName("slice")
+    class SliceTests {
+
+        @Test
+        @DisplayName("splits samples into contiguous blocks, earlier shards taking the remainder")
+        void contiguousBlocks() {
+            assertThat(new MeasureShard(1, 3).slice(10, 1)).isEqualTo(new Slice(1, 4));
+            assertThat(new MeasureShard(2, 3).slice(10, 1)).isEqualTo(new Slice(5, 3));
+            assertThat(new MeasureShard(3, 3).slice(10, 1)).isEqualTo(new Slice(8, 3));
+        }
+
+        @Test
+        @DisplayName("covers every sample exactly once")
+        void coversEverySample() {
+            for (int shards = 1; shards <= 7; shards++) {
+                int count = shards;
+                int covered = IntStream.rangeClosed(1, count)
+                        .mapToObj(index -> new MeasureShard(index, count).slice(1000, 1))
+                        .mapToInt(Slice::samples)
+                        .sum();
+                assertThat(covered).isEqualTo(1000);
+                assertThat(new MeasureShard(count, count).slice(1000, 1).lastSample()).isEqualTo(1000);
+            }
+        }
+
+        @Test
+        @DisplayName("keeps batches together")
+        void keepsBatchesTogether() {
+            assertThat(new MeasureShard(1, 2).slice(25, 10)).isEqualTo(new Slice(1, 20));
+            assertThat(new MeasureShard(2, 2).slice(25, 10)).isEqualTo(new Slice(21, 5));
+        }
+
+        @Test
+        @DisplayName("is empty when there are fewer samples than shards")
+        void emptyWhenTooFewSamples() {
+            assertThat(new MeasureShard(3, 3).slice(2, 1).samples()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("parses k/K")
+    void parses() {
+        assertThat(MeasureShard.parse(" 2 / 4 ")).isEqualTo(new MeasureShard(2, 4));
+        assertThatThrownBy(() -> MeasureShard.parse("2"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("k/K");
+        assertThatThrownBy(() -> MeasureShard.parse("5/4"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("splits the token budget")
+    void splitsTokenBudget() {
+        assertThat(new MeasureShard(1, 3).tokenBudget(1000)).isEqualTo(334);
+        assertThat(new MeasureShard(1, 3).tokenBudget(0)).isZero();
+    }
+
+    @Test
+    @DisplayName("shares the rate limits between shards")
+    void sharesPacing() {
+        PacingConfiguration pacing = new PacingCalculator().compute(100, 10, 0, 0, 4, 50, 0).withPool("llm");
+
+        PacingConfiguration share = new MeasureShard(1, 2).share(pacing, 50);
+
+        assertThat(share.maxRequestsPerSecond()).isEqualTo(5.0);
+        assertThat(share.maxConcurrentRequests()).isEqualTo(2);
+        assertThat(share.minMsPerSample()).isEqualTo(100);
+        assertThat(share.effectiveMinDelayMs()).isEqualTo(200);
+        assertThat(share.pool()).isEqualTo("llm");
+        assertThat(new MeasureShard(1, 2).share(PacingConfiguration.noPacing(), 50).hasPacing()).isFalse();
+    }
+
+    @Test
+    @DisplayName("names partial baselines after the spec")
+    void partialFileNames() {
+        String name = new MeasureShard(2, 4).partialFileName("ShoppingUseCase-ab12.yaml");
+
+        assertThat(name).isEqualTo("ShoppingUseCase-ab12.shard-2-of-4.yaml");
+        assertThat(MeasureShard.parsePartialFileName(name)).hasValueSatisfying(partial -> {
+            assertThat(partial.specFileName()).isEqualTo("ShoppingUseCase-ab12.yaml");
+            assertThat(partial.shard()).isEqualTo(new MeasureShard(2, 4));
+        });
+        assertThat(MeasureShard.parsePartialFileName("ShoppingUseCase.yaml")).isEmpty();
+    }
+}
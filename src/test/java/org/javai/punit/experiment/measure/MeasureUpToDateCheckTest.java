@@ -0,0 +1,125 @@
+package org.javai.punit.experiment.measure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import org.javai.punit.experiment.model.EmpiricalBaseline;
+import org.javai.punit.experiment.model.EmpiricalBaseline.CostSummary;
+import org.javai.punit.experiment.model.EmpiricalBaseline.ExecutionSummary;
+import org.javai.punit.experiment.model.EmpiricalBaseline.StatisticsSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("MeasureUpToDateCheck")
+class MeasureUpToDateCheckTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T12:00:00Z");
+
+    @TempDir
+    Path specsDir;
+
+    private MeasureConfig config(int samples, boolean append) {
+        return new MeasureConfig(Void.class, "shopping.search", samples, 0, 0, 0, "", 0, 0, append, null);
+    }
+
+    private void writeBaseline(int samples, Instant generatedAt, int expiresInDays) throws IOException {
+        EmpiricalBaseline.Builder builder = EmpiricalBaseline.builder()
+                .useCaseId("shopping.search")
+                .generatedAt(generatedAt)
+                .execution(new ExecutionSummary(samples, samples, "COMPLETED", null))
+                .statistics(new StatisticsSummary(0.9, 0.03, 0.84, 0.96,
+                        samples * 9 / 10, samples - samples * 9 / 10, Map.of()))
+                .cost(new CostSummary(1000, 1, 0, 0));
+        if (expiresInDays > 0) {
+            builder.expirationPolicy(expiresInDays, generatedAt);
+        }
+        new MeasureOutputWriter().write(builder.build(), specsDir.resolve("shopping-search.yaml"));
+    }
+
+    private MeasureUpToDateCheck check() {
+        return new MeasureUpToDateCheck(specsDir);
+    }
+
+    @Nested
+    @DisplayName("up to date")
+    class UpToDate {
+
+        @Test
+        @DisplayName("when the baseline exists, holds enough samples and does not expire")
+        void existingBaseline() throws IOException {
+            writeBaseline(1000, NOW.minus(Duration.ofDays(3)), 0);
+
+            assertThat(check().check(config(1000, false), NOW))
+                    .hasValueSatisfying(reason -> assertThat(reason)
+                            .contains("shopping-search.yaml", "1000 samples", "3 days ago", "-Prerun"));
+        }
+
+        @Test
+        @DisplayName("when the baseline is well within its validity period")
+        void validBaseline() throws IOException {
+            writeBaseline(1000, NOW.minus(Duration.ofDays(2)), 30);
+
+            assertThat(check().check(config(500, false), NOW))
+                    .hasValueSatisfying(reason -> assertThat(reason).contains("expires in 28 days"));
+        }
+    }
+
+    @Nested
+    @DisplayName("not up to date")
+    class NotUpToDate {
+
+        @Test
+        @DisplayName("when there is no baseline")
+        void noBaseline() {
+            assertThat(check().check(config(1000, false), NOW)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("when the experiment now plans more samples than the baseline holds")
+        void moreSamples() throws IOException {
+            writeBaseline(500, NOW.minus(Duration.ofDays(1)), 0);
+
+            assertThat(check().check(config(1000, false), NOW)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("when the baseline is near expiry")
+        void nearExpiry() throws IOException {
+            writeBaseline(1000, NOW.minus(Duration.ofDays(28)), 30);
+
+            assertThat(check().check(config(1000, false), NOW)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("when the baseline has expired")
+        void expired() throws IOException {
+            writeBaseline(1000, NOW.minus(Duration.ofDays(40)), 30);
+
+            assertThat(check().check(config(1000, false), NOW)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("when the experiment appends to its baseline")
+        void appending() throws IOException {
+            writeBaseline(1000, NOW.minus(Duration.ofDays(1)), 0);
+
+            assertThat(check().check(config(1000, true), NOW)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("when the baseline has been edited")
+        void tampered() throws IOException {
+            writeBaseline(1000, NOW.minus(Duration.ofDays(1)), 0);
+            Path spec = specsDir.resolve("shopping-search.yaml");
+            Files.writeString(spec, Files.readString(spec).replace("successes: 900", "successes: 990"));
+
+            assertThat(check().check(config(1000, false), NOW)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.javai.punit.experiment.measure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.javai.punit.testsubjects.MeasureUpToDateSubjects;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+/**
+ * Integration tests for skipping {@code @MeasureExperiment}s whose baseline is up to date.
+ */
+@DisplayName("MEASURE up-to-date checking")
+class MeasureUpToDateIntegrationTest {
+
+    @TempDir
+    Path specsDir;
+
+    @BeforeEach
+    void useTemporarySpecsDir() {
+        System.setProperty("punit.specs.outputDir", specsDir.toString());
+        MeasureUpToDateSubjects.Measure.samples.set(0);
+    }
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty("punit.specs.outputDir");
+        System.clearProperty(MeasureUpToDateCheck.PROP_SKIP_UP_TO_DATE);
+    }
+
+    @Test
+    @DisplayName("skips an experiment whose baseline was just written")
+    void skipsUpToDateExperiment() {
+        System.setProperty(MeasureUpToDateCheck.PROP_SKIP_UP_TO_DATE, "true");
+
+        run();
+        assertThat(MeasureUpToDateSubjects.Measure.samples).hasValue(3);
+        assertThat(Files.exists(specsDir.resolve("UpToDateUseCase.yaml"))).isTrue();
+
+        EngineExecutionResults second = run();
+
+        assertThat(MeasureUpToDateSubjects.Measure.samples).hasValue(3);
+        second.containerEvents().skipped().assertThatEvents().hasSize(1);
+        assertThat(second.containerEvents().skipped().list().get(0).getPayload(String.class))
+                .hasValueSatisfying(reason -> assertThat(reason).contains("UpToDateUseCase.yaml is up to date"));
+    }
+
+    @Test
+    @DisplayName("runs every time when the check is off")
+    void runsWithoutCheck() {
+        run();
+        run();
+
+        assertThat(MeasureUpToDateSubjects.Measure.samples).hasValue(6);
+    }
+
+    private static EngineExecutionResults run() {
+        return EngineTestKit.engine("junit-jupiter")
+                .selectors(DiscoverySelectors.selectClass(MeasureUpToDateSubjects.Measure.class))
+                .execute();
+    }
+}
@@ -0,0 +1,163 @@
+package org.javai.punit.experiment.measure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import org.javai.punit.experiment.model.EmpiricalBaseline;
+import org.javai.punit.experiment.model.EmpiricalBaseline.CostSummary;
+import org.javai.punit.experiment.model.EmpiricalBaseline.ExecutionSummary;
+import org.javai.punit.experiment.model.EmpiricalBaseline.StatisticsSummary;
+import org.javai.punit.experiment.model.ResultProjection;
+import org.javai.punit.spec.registry.SpecificationIntegrityException;
+import org.javai.punit.spec.registry.SpecificationLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ResultProjectionSidecar")
+class ResultProjectionSidecarTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final MeasureOutputWriter writer = new MeasureOutputWriter();
+
+    @Test
+    @DisplayName("should name the sidecar after the spec")
+    void shouldNameSidecarAfterSpec() {
+        Path spec = tempDir.resolve("ShoppingUseCase.yaml");
+
+        assertThat(ResultProjectionSidecar.pathFor(spec))
+            .isEqualTo(tempDir.resolve("ShoppingUseCase.projections.jsonl.gz"));
+    }
+
+    @Nested
+    @DisplayName("Writing")
+    class Writing {
+
+        @Test
+        @DisplayName("spec should reference the sidecar instead of holding projections")
+        void specShouldReferenceSidecar() throws IOException {
+            Path spec = tempDir.resolve("TestUseCase.yaml");
+
+            writer.write(baselineWith(projections()), spec);
+
+            String yaml = Files.readString(spec);
+            assertThat(yaml)
+                .contains("sidecar: TestUseCase.projections.jsonl.gz")
+                .containsPattern("sha256: [a-f0-9]{64}")
+                .contains("samples: 2")
+                .doesNotContain("sample[0]")
+                .doesNotContain("Paris");
+            assertThat(ResultProjectionSidecar.pathFor(spec)).isRegularFile();
+        }
+
+        @Test
+        @DisplayName("spec with a sidecar reference should load")
+        void specWithSidecarShouldLoad() throws IOException {
+            Path spec = tempDir.resolve("TestUseCase.yaml");
+
+            writer.write(baselineWith(projections()), spec);
+
+            assertThat(SpecificationLoader.load(spec).getUseCaseId()).isEqualTo("TestUseCase");
+        }
+
+        @Test
+        @DisplayName("should not write a sidecar without projections and remove a stale one")
+        void shouldRemoveStaleSidecar() throws IOException {
+            Path spec = tempDir.resolve("TestUseCase.yaml");
+            writer.write(baselineWith(projections()), spec);
+
+            writer.write(baselineWith(List.of()), spec);
+
+            assertThat(ResultProjectionSidecar.pathFor(spec)).doesNotExist();
+            assertThat(Files.readString(spec)).doesNotContain("resultProjection:");
+            assertThat(ResultProjectionSidecar.load(spec)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Loading")
+    class Loading {
+
+        @Test
+        @DisplayName("should round-trip projections through the sidecar")
+        void shouldRoundTrip() throws IOException {
+            Path spec = tempDir.resolve("TestUseCase.yaml");
+            writer.write(baselineWith(projections()), spec);
+
+            assertThat(ResultProjectionSidecar.load(spec)).containsExactlyElementsOf(projections());
+        }
+
+        @Test
+        @DisplayName("should reject a sidecar that does not match the spec")
+        void shouldRejectTamperedSidecar() throws IOException {
+            Path spec = tempDir.resolve("TestUseCase.yaml");
+            writer.write(baselineWith(projections()), spec);
+            try (OutputStream out = new GZIPOutputStream(
+                    Files.newOutputStream(ResultProjectionSidecar.pathFor(spec)))) {
+                out.write("{\"sampleIndex\":0,\"postconditions\":{},\"executionTimeMs\":1}\n"
+                    .getBytes(StandardCharsets.UTF_8));
+            }
+
+            assertThatThrownBy(() -> ResultProjectionSidecar.load(spec))
+                .isInstanceOf(SpecificationIntegrityException.class)
+                .hasMessageContaining("does not match its spec");
+        }
+
+        @Test
+        @DisplayName("should reject a missing sidecar")
+        void shouldRejectMissingSidecar() throws IOException {
+            Path spec = tempDir.resolve("TestUseCase.yaml");
+            writer.write(baselineWith(projections()), spec);
+            Files.delete(ResultProjectionSidecar.pathFor(spec));
+
+            assertThatThrownBy(() -> ResultProjectionSidecar.load(spec))
+                .isInstanceOf(SpecificationIntegrityException.class)
+                .hasMessageContaining("sidecar not found");
+        }
+
+        @Test
+        @DisplayName("should read projections written inline by earlier versions")
+        void shouldReadInlineProjections() throws IOException {
+            Path spec = tempDir.resolve("TestUseCase.yaml");
+            Files.writeString(spec, writer.toYaml(baselineWith(projections())));
+
+            List<ResultProjection> loaded = ResultProjectionSidecar.load(spec);
+
+            assertThat(loaded).extracting(ResultProjection::sampleIndex).containsExactly(0, 1);
+            assertThat(loaded.get(0)).isEqualTo(projections().get(0));
+            assertThat(loaded.get(1).failureDetail()).isEqualTo("empty response");
+            assertThat(loaded.get(1).success()).isFalse();
+        }
+    }
+
+    private static List<ResultProjection> projections() {
+        return List.of(
+            new ResultProjection(0, "capital of France",
+                Map.of("Response not empty", ResultProjection.PASSED), 120, "Paris", null),
+            new ResultProjection(1, "capital of Peru",
+                Map.of("Response not empty", ResultProjection.FAILED), 95, "", "empty response"));
+    }
+
+    private static EmpiricalBaseline baselineWith(List<ResultProjection> projections) {
+        return EmpiricalBaseline.builder()
+            .useCaseId("TestUseCase")
+            .generatedAt(Instant.parse("2026-02-02T10:00:00Z"))
+            .execution(new ExecutionSummary(2, 2, "COMPLETED", null))
+            .statistics(new StatisticsSummary(0.5, 0.35, 0.0, 1.0, 1, 1, Map.of()))
+            .cost(new CostSummary(215, 107, 0, 0))
+            .resultProjections(projections)
+            .build();
+    }
+}
@@ -0,0 +1,172 @@
+package org.javai.punit.experiment.optimize;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.DoubleUnaryOperator;
+import org.javai.punit.experiment.model.FactorSuit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link BayesianNumericFactorMutator}.
+ */
+class BayesianNumericFactorMutatorTest {
+
+    private OptimizationRecord createIteration(int iterationNumber, Object value, double score) {
+        FactorSuit factorSuit = FactorSuit.of("temperature", value);
+        OptimizeStatistics stats = OptimizeStatistics.fromCounts(100, 50, 10000, 100.0);
+        Instant start = Instant.now().minusSeconds(10);
+        OptimizationIterationAggregate aggregate = new OptimizationIterationAggregate(
+                iterationNumber, factorSuit, "temperature", stats, start, start.plusSeconds(5)
+        );
+        return OptimizationRecord.success(aggregate, score);
+    }
+
+    private OptimizeHistory.Builder history(OptimizationObjective objective) {
+        return OptimizeHistory.builder()
+                .useCaseId("test")
+                .controlFactorName("temperature")
+                .objective(objective)
+                .startTime(Instant.now());
+    }
+
+    /**
+     * Runs the mutator against a score function, as the orchestrator would, and
+     * returns the best value found.
+     */
+    private <F extends Number> F optimise(BayesianNumericFactorMutator<F> mutator, F initial,
+                                          DoubleUnaryOperator score, OptimizationObjective objective,
+                                          int iterations) throws MutationException {
+        OptimizeHistory.Builder builder = history(objective);
+        F value = initial;
+        for (int i = 0; i < iterations; i++) {
+            builder.addIteration(createIteration(i, value, score.applyAsDouble(value.doubleValue())));
+            value = mutator.mutate(value, builder.buildPartial());
+            mutator.validate(value);
+        }
+        return builder.buildPartial().<F>bestFactorValue().orElseThrow();
+    }
+
+    @Test
+    void shouldFindMaximumOfSmoothScore() throws MutationException {
+        BayesianNumericFactorMutator<Double> mutator = BayesianNumericFactorMutator.forDouble(0.0, 1.0);
+
+        double best = optimise(mutator, 1.0, x -> 0.9 - (x - 0.3) * (x - 0.3),
+                OptimizationObjective.MAXIMIZE, 8);
+
+        assertEquals(0.3, best, 0.05);
+    }
+
+    @Test
+    void shouldFindMinimumWhenMinimizing() throws MutationException {
+        BayesianNumericFactorMutator<Double> mutator = BayesianNumericFactorMutator.forDouble(0.0, 2.0);
+
+        double best = optimise(mutator, 0.0, x -> 100 + 50 * (x - 1.4) * (x - 1.4),
+                OptimizationObjective.MINIMIZE, 8);
+
+        assertEquals(1.4, best, 0.1);
+    }
+
+    @Test
+    void shouldProposeDistinctIntegersWithinRange() throws MutationException {
+        BayesianNumericFactorMutator<Integer> mutator = BayesianNumericFactorMutator.forInteger(1, 20);
+
+        int best = optimise(mutator, 1, k -> -Math.abs(k - 7), OptimizationObjective.MAXIMIZE, 10);
+
+        assertEquals(7, best);
+    }
+
+    @Test
+    void shouldProbeFarEndFirst() throws MutationException {
+        BayesianNumericFactorMutator<Double> mutator = BayesianNumericFactorMutator.forDouble(0.0, 1.5);
+        OptimizeHistory history = history(OptimizationObjective.MAXIMIZE)
+                .addIteration(createIteration(0, 0.2, 0.7))
+                .buildPartial();
+
+        assertEquals(1.5, mutator.mutate(0.2, history), 1e-9);
+    }
+
+    @Test
+    void shouldProbeFromCurrentValueWithEmptyHistory() throws MutationException {
+        BayesianNumericFactorMutator<Double> mutator = BayesianNumericFactorMutator.forDouble(0.0, 1.0);
+
+        assertEquals(0.0, mutator.mutate(0.9, history(OptimizationObjective.MAXIMIZE).buildPartial()), 1e-9);
+    }
+
+    @Test
+    void shouldNotRepeatAnObservedValueWhileUncertain() throws MutationException {
+        BayesianNumericFactorMutator<Double> mutator = BayesianNumericFactorMutator.forDouble(0.0, 1.0);
+        OptimizeHistory history = history(OptimizationObjective.MAXIMIZE)
+                .addIteration(createIteration(0, 0.0, 0.5))
+                .addIteration(createIteration(1, 1.0, 0.6))
+                .buildPartial();
+
+        double next = mutator.mutate(1.0, history);
+
+        assertTrue(next > 0.0 && next < 1.0, "expected an interior value, got " + next);
+    }
+
+    @Test
+    void shouldIgnoreFailedIterations() throws MutationException {
+        BayesianNumericFactorMutator<Double> mutator = BayesianNumericFactorMutator.forDouble(0.0, 1.0);
+        OptimizationRecord failed = OptimizationRecord.executionFailed(
+                createIteration(1, 1.0, 0).aggregate(), "boom");
+        OptimizeHistory history = history(OptimizationObjective.MAXIMIZE)
+                .addIteration(createIteration(0, 0.0, 0.5))
+                .addIteration(failed)
+                .buildPartial();
+
+        // Only 0.0 was scored, so the model is not fitted; the failed 1.0 is still avoided
+        assertEquals(0.5, mutator.mutate(1.0, history), 1e-9);
+    }
+
+    @Test
+    void shouldRejectNonNumericFactor() {
+        BayesianNumericFactorMutator<Double> mutator = BayesianNumericFactorMutator.forDouble(0.0, 1.0);
+        OptimizeHistory history = history(OptimizationObjective.MAXIMIZE)
+                .addIteration(createIteration(0, "warm", 0.5))
+                .buildPartial();
+
+        assertThrows(MutationException.class, () -> mutator.mutate(0.5, history));
+    }
+
+    @Test
+    void shouldValidateBounds() {
+        BayesianNumericFactorMutator<Double> mutator = BayesianNumericFactorMutator.forDouble(0.0, 1.0);
+
+        assertThrows(MutationException.class, () -> mutator.validate(1.1));
+        assertThrows(MutationException.class, () -> mutator.validate(-0.1));
+        assertThrows(MutationException.class, () -> mutator.validate(null));
+    }
+
+    @Test
+    void shouldRejectEmptyRange() {
+        assertThrows(IllegalArgumentException.class, () -> BayesianNumericFactorMutator.forDouble(1.0, 1.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BayesianNumericFactorMutator<>(0.0, 1.0, Double::valueOf, 1));
+    }
+
+    @Test
+    void shouldDeduplicateRoundedCandidates() throws MutationException {
+        BayesianNumericFactorMutator<Integer> mutator = BayesianNumericFactorMutator.forInteger(1, 4);
+        OptimizeHistory.Builder builder = history(OptimizationObjective.MAXIMIZE);
+        Set<Integer> proposed = new HashSet<>();
+        int value = 1;
+        for (int i = 0; i < 4; i++) {
+            builder.addIteration(createIteration(i, value, value == 3 ? 0.9 : 0.5));
+            value = mutator.mutate(value, builder.buildPartial());
+            proposed.add(value);
+        }
+
+        assertTrue(proposed.stream().allMatch(k -> k >= 1 && k <= 4), "proposed " + proposed);
+    }
+
+    @Test
+    void shouldDescribeRange() {
+        assertEquals("Gaussian-process expected improvement over [0.0, 1.5]",
+                BayesianNumericFactorMutator.forDouble(0.0, 1.5).description());
+    }
+}
@@ -1,6 +1,9 @@
 package org.javai.punit.ptest.bernoulli;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import java.util.List;
+import java.util.Map;
 import org.javai.punit.model.TerminationReason;
 import org.junit.jupiter.api.Test;
 
@@ -44,6 +47,19 @@ class SampleResultAggregatorTest {
         assertThat(aggregator.getSamplesExecuted()).isEqualTo(2);
     }
 
+    @Test
+    void recordTimeoutCountsAsFailureAndTimeout() {
+        SampleResultAggregator aggregator = new SampleResultAggregator(10);
+
+        aggregator.recordFailure(new AssertionError("test"));
+        aggregator.recordTimeout(new RuntimeException("timed out"));
+
+        assertThat(aggregator.getFailures()).isEqualTo(2);
+        assertThat(aggregator.getTimeouts()).isEqualTo(1);
+        assertThat(aggregator.getSamplesExecuted()).isEqualTo(2);
+        assertThat(aggregator.getExampleFailures()).hasSize(2);
+    }
+
     @Test
     void observedPassRateCalculatedCorrectly() {
         SampleResultAggregator aggregator = new SampleResultAggregator(100);
@@ -185,5 +201,38 @@ class SampleResultAggregatorTest {
         assertThat(aggregator.getTerminationReason())
                 .hasValueSatisfying(r -> assertThat(r.isBudgetExhaustion()).isTrue());
     }
-}
 
+    @Test
+    void estimatedPassRateEqualsObservedRateWithoutStratification() {
+        SampleResultAggregator aggregator = new SampleResultAggregator(10);
+
+        aggregator.recordSuccess();
+        aggregator.recordFailure(new AssertionError("test"));
+
+        assertThat(aggregator.isStratified()).isFalse();
+        assertThat(aggregator.getEstimatedPassRate()).isEqualTo(aggregator.getObservedPassRate());
+    }
+
+    @Test
+    void estimatedPassRateUsesStratumWeightsWhenStratified() {
+        // Two of three inputs are "ok" (weight 2/3) and always pass; the "bad" input always fails.
+        // The pilot samples both strata equally, so the raw rate under-represents "ok".
+        SampleResultAggregator aggregator = new SampleResultAggregator(10);
+        List<Object> inputs = List.of(Map.of("kind", "ok"), Map.of("kind", "ok"), Map.of("kind", "bad"));
+        StratifiedSampler sampler = StratifiedSampler.byKey(inputs, "kind");
+        aggregator.setStratifiedSampler(sampler);
+
+        for (int i = 0; i < 4; i++) {
+            int index = sampler.nextInputIndex();
+            if (index == 2) {
+                aggregator.recordFailure(new AssertionError("fails"));
+            } else {
+                aggregator.recordSuccess();
+            }
+        }
+
+        assertThat(aggregator.isStratified()).isTrue();
+        assertThat(aggregator.getObservedPassRate()).isEqualTo(0.5);
+        assertThat(aggregator.getEstimatedPassRate()).isCloseTo(2.0 / 3.0, within(1e-9));
+    }
+}
@@ -0,0 +1,162 @@
+package org.javai.punit.ptest.bernoulli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.javai.punit.statistics.StratifiedProportionEstimator.StratifiedEstimate;
+import org.javai.punit.statistics.StratifiedProportionEstimator.StratumCounts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+
+/**
+ * Unit tests for {@link StratifiedSampler}.
+ */
+@DisplayName("StratifiedSampler")
+class StratifiedSamplerTest {
+
+    record Case(String category, String text) {}
+
+    @Nested
+    @DisplayName("Allocation")
+    class Allocation {
+
+        @Test
+        @DisplayName("gives every stratum its pilot samples first")
+        void pilotCoversEveryStratum() {
+            StratifiedSampler sampler = StratifiedSampler.perInput(List.of("a", "b", "c"));
+
+            List<Integer> chosen = new ArrayList<>();
+            for (int i = 0; i < 3 * StratifiedSampler.PILOT_SAMPLES; i++) {
+                chosen.add(sampler.nextInputIndex());
+                sampler.recordOutcome(true);
+            }
+
+            assertThat(chosen).containsExactly(0, 0, 1, 1, 2, 2);
+        }
+
+        @Test
+        @DisplayName("steers samples towards the stratum with uncertain outcomes")
+        void steersTowardsUncertainStratum() {
+            StratifiedSampler sampler = StratifiedSampler.perInput(List.of("stable", "flaky"));
+
+            int[] counts = new int[2];
+            boolean flakyPasses = false;
+            for (int i = 0; i < 40; i++) {
+                int index = sampler.nextInputIndex();
+                counts[index]++;
+                if (index == 0) {
+                    sampler.recordOutcome(true);
+                } else {
+                    flakyPasses = !flakyPasses;
+                    sampler.recordOutcome(flakyPasses);
+                }
+            }
+
+            assertThat(counts[1]).isGreaterThan(counts[0]);
+        }
+
+        @Test
+        @DisplayName("cycles through inputs within a stratum")
+        void cyclesWithinStratum() {
+            List<Object> inputs = List.of(
+                    new Case("x", "one"), new Case("x", "two"), new Case("y", "three"));
+            StratifiedSampler sampler = StratifiedSampler.byKey(inputs, "category");
+
+            List<Integer> chosen = new ArrayList<>();
+            for (int i = 0; i < 2 * StratifiedSampler.PILOT_SAMPLES; i++) {
+                chosen.add(sampler.nextInputIndex());
+                sampler.recordOutcome(true);
+            }
+
+            assertThat(chosen).containsExactly(0, 1, 2, 2);
+        }
+
+        @Test
+        @DisplayName("needs the pilot samples of every stratum")
+        void minimumCoversEveryPilot() {
+            List<Object> inputs = List.of(
+                    new Case("x", "one"), new Case("x", "two"), new Case("y", "three"));
+
+            assertThat(StratifiedSampler.byKey(inputs, "category").getMinimumSamples())
+                    .isEqualTo(2 * StratifiedSampler.PILOT_SAMPLES);
+            assertThat(StratifiedSampler.perInput(inputs).getMinimumSamples())
+                    .isEqualTo(3 * StratifiedSampler.PILOT_SAMPLES);
+        }
+    }
+
+    @Nested
+    @DisplayName("Stratum keys")
+    class StratumKeys {
+
+        @Test
+        @DisplayName("groups record inputs by component and weights by share of inputs")
+        void groupsRecordsByComponent() {
+            List<Object> inputs = List.of(
+                    new Case("easy", "a"), new Case("easy", "b"),
+                    new Case("easy", "c"), new Case("hard", "d"));
+            StratifiedSampler sampler = StratifiedSampler.byKey(inputs, "category");
+
+            for (int i = 0; i < 4; i++) {
+                sampler.nextInputIndex();
+                sampler.recordOutcome(true);
+            }
+            StratifiedEstimate estimate = sampler.estimate(0.95);
+
+            assertThat(sampler.getStrataCount()).isEqualTo(2);
+            assertThat(estimate.strata()).extracting(StratumCounts::key).containsExactly("easy", "hard");
+            assertThat(estimate.strata().get(0).weight()).isCloseTo(0.75, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("reads keys from map inputs")
+        void readsMapKeys() {
+            List<Object> inputs = List.of(Map.of("lang", "en"), Map.of("lang", "de"), Map.of("lang", "en"));
+
+            assertThat(StratifiedSampler.byKey(inputs, "lang").getStrataCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("rejects a key the inputs do not have")
+        void rejectsMissingKey() {
+            List<Object> inputs = List.of(new Case("easy", "a"));
+
+            assertThatThrownBy(() -> StratifiedSampler.byKey(inputs, "difficulty"))
+                    .isInstanceOf(ExtensionConfigurationException.class)
+                    .hasMessageContaining("difficulty");
+        }
+    }
+
+    @Nested
+    @DisplayName("Estimate")
+    class Estimate {
+
+        @Test
+        @DisplayName("is null before any outcome is recorded")
+        void nullBeforeOutcomes() {
+            StratifiedSampler sampler = StratifiedSampler.perInput(List.of("a", "b"));
+
+            assertThat(sampler.estimate(0.95)).isNull();
+        }
+
+        @Test
+        @DisplayName("attributes each outcome to the stratum of its input")
+        void attributesOutcomes() {
+            StratifiedSampler sampler = StratifiedSampler.perInput(List.of("a", "b"));
+
+            for (int i = 0; i < 4; i++) {
+                int index = sampler.nextInputIndex();
+                sampler.recordOutcome(index == 0);
+            }
+            StratifiedEstimate estimate = sampler.estimate(0.95);
+
+            assertThat(estimate.strata().get(0).successes()).isEqualTo(2);
+            assertThat(estimate.strata().get(1).successes()).isZero();
+            assertThat(estimate.pointEstimate()).isCloseTo(0.5, within(1e-9));
+        }
+    }
+}
@@ -227,6 +227,20 @@ class ConfigurationResolverTest {
                 return 0;
             }
 
+            @Override
+            public long sampleTimeoutMs() {
+                return 0;
+            }
+
+
+            @Override
+
+            public int batchSize() {
+
+                return 0;
+
+            }
+
             @Override
             public int tokenCharge() {
                 return 0;
@@ -336,6 +350,20 @@ class ConfigurationResolverTest {
                 return 0;
             }
 
+            @Override
+            public long sampleTimeoutMs() {
+                return 0;
+            }
+
+
+            @Override
+
+            public int batchSize() {
+
+                return 0;
+
+            }
+
             @Override
             public int tokenCharge() {
                 return 0;
@@ -451,6 +479,8 @@ class ConfigurationResolverTest {
             @Override public int samples() { return samples; }
             @Override public double minPassRate() { return minPassRate; }
             @Override public long timeBudgetMs() { return 0; }
+            @Override public long sampleTimeoutMs() { return 0; }
+            @Override public int batchSize() { return 0; }
             @Override public int tokenCharge() { return 0; }
             @Override public long tokenBudget() { return 0; }
             @Override public BudgetExhaustedBehavior onBudgetExhausted() { return BudgetExhaustedBehavior.FAIL; }
@@ -477,6 +507,8 @@ class ConfigurationResolverTest {
             @Override public int samples() { return samples; }
             @Override public double minPassRate() { return minPassRate; }
             @Override public long timeBudgetMs() { return 0; }
+            @Override public long sampleTimeoutMs() { return 0; }
+            @Override public int batchSize() { return 0; }
             @Override public int tokenCharge() { return 0; }
             @Override public long tokenBudget() { return 0; }
             @Override public BudgetExhaustedBehavior onBudgetExhausted() { return BudgetExhaustedBehavior.FAIL; }
@@ -568,6 +600,8 @@ class ConfigurationResolverTest {
             @Override public int samples() { return samples; }
             @Override public double minPassRate() { return minPassRate; }
             @Override public long timeBudgetMs() { return 0; }
+            @Override public long sampleTimeoutMs() { return 0; }
+            @Override public int batchSize() { return 0; }
             @Override public int tokenCharge() { return 0; }
             @Override public long tokenBudget() { return 0; }
             @Override public BudgetExhaustedBehavior onBudgetExhausted() { return BudgetExhaustedBehavior.FAIL; }
@@ -345,6 +345,8 @@ class OperationalApproachResolverTest {
             @Override public double minDetectableEffect() { return minDetectableEffect; }
             @Override public double power() { return power; }
             @Override public long timeBudgetMs() { return 0; }
+            @Override public long sampleTimeoutMs() { return 0; }
+            @Override public int batchSize() { return 0; }
             @Override public int tokenCharge() { return 0; }
             @Override public long tokenBudget() { return 0; }
             @Override public org.javai.punit.api.BudgetExhaustedBehavior onBudgetExhausted() {
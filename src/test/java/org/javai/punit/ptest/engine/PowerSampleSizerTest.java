@@ -0,0 +1,162 @@
+package org.javai.punit.ptest.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.Instant;
+import java.util.List;
+import org.javai.punit.api.ProbabilisticTest;
+import org.javai.punit.spec.model.ExecutionSpecification;
+import org.javai.punit.statistics.SampleSizeCalculator;
+import org.javai.punit.statistics.SampleSizeRequirement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PowerSampleSizer")
+class PowerSampleSizerTest {
+
+    private final PowerSampleSizer sizer = new PowerSampleSizer();
+
+    @BeforeEach
+    void setUp() {
+        PowerSampleSizer.clearCache();
+    }
+
+    @Nested
+    @DisplayName("isPowerSized")
+    class IsPowerSized {
+
+        @Test
+        @DisplayName("true when confidence, minDetectableEffect and power are all declared")
+        void trueWhenAllTargetsDeclared() throws Exception {
+            assertThat(PowerSampleSizer.isPowerSized(annotation("powerSized"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("false when any target is missing")
+        void falseWhenTargetMissing() throws Exception {
+            assertThat(PowerSampleSizer.isPowerSized(annotation("missingPower"))).isFalse();
+            assertThat(PowerSampleSizer.isPowerSized(annotation("fixedSamples"))).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("size")
+    class Size {
+
+        @Test
+        @DisplayName("matches the power calculation at the baseline's observed rate")
+        void matchesPowerCalculation() throws Exception {
+            SampleSizeRequirement requirement = sizer.size(annotation("powerSized"), spec("UseCase", 1000, 950));
+
+            SampleSizeRequirement expected = new SampleSizeCalculator().calculateForPower(0.95, 0.05, 0.95, 0.80);
+            assertThat(requirement).isEqualTo(expected);
+            assertThat(requirement.nullRate()).isEqualTo(0.95);
+        }
+
+        @Test
+        @DisplayName("caches the requirement per baseline and target")
+        void cachesRequirement() throws Exception {
+            ProbabilisticTest annotation = annotation("powerSized");
+
+            SampleSizeRequirement first = sizer.size(annotation, spec("UseCase", 1000, 950));
+            SampleSizeRequirement second = new PowerSampleSizer().size(annotation, spec("UseCase", 1000, 950));
+
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("sizes a re-measured baseline afresh")
+        void remeasuredBaselineSizedAfresh() throws Exception {
+            ProbabilisticTest annotation = annotation("powerSized");
+
+            SampleSizeRequirement before = sizer.size(annotation, spec("UseCase", 1000, 950));
+            SampleSizeRequirement after = sizer.size(annotation, spec("UseCase", 1000, 900));
+
+            assertThat(after.nullRate()).isEqualTo(0.90);
+            assertThat(after.requiredSamples()).isGreaterThan(before.requiredSamples());
+        }
+
+        @Test
+        @DisplayName("returns null when the baseline has no empirical data")
+        void nullWithoutEmpiricalData() throws Exception {
+            assertThat(sizer.size(annotation("powerSized"), spec("UseCase", 0, 0))).isNull();
+            assertThat(sizer.size(annotation("powerSized"), null)).isNull();
+        }
+
+        @Test
+        @DisplayName("rejects an effect larger than the baseline rate")
+        void rejectsOversizedEffect() throws Exception {
+            assertThatThrownBy(() -> sizer.size(annotation("powerSized"), spec("UseCase", 100, 2)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("upperBound")
+    class UpperBound {
+
+        @Test
+        @DisplayName("returns the largest requirement among the candidates")
+        void returnsLargestRequirement() throws Exception {
+            ProbabilisticTest annotation = annotation("powerSized");
+            ExecutionSpecification strong = spec("UseCase", 1000, 990);
+            ExecutionSpecification weak = spec("UseCase", 1000, 800);
+
+            int bound = sizer.upperBound(annotation, List.of(strong, weak));
+
+            assertThat(bound).isEqualTo(sizer.size(annotation, weak).requiredSamples());
+            assertThat(bound).isGreaterThan(sizer.size(annotation, strong).requiredSamples());
+        }
+
+        @Test
+        @DisplayName("ignores candidates that cannot be sized")
+        void ignoresUnsizeableCandidates() throws Exception {
+            ProbabilisticTest annotation = annotation("powerSized");
+            ExecutionSpecification sizeable = spec("UseCase", 1000, 950);
+
+            int bound = sizer.upperBound(annotation,
+                    List.of(spec("UseCase", 100, 2), spec("UseCase", 0, 0), sizeable));
+
+            assertThat(bound).isEqualTo(sizer.size(annotation, sizeable).requiredSamples());
+            assertThat(sizer.upperBound(annotation, List.of(spec("UseCase", 0, 0)))).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("applyMultiplier rounds and never goes below one sample")
+    void applyMultiplier() {
+        assertThat(PowerSampleSizer.applyMultiplier(100, 1.0)).isEqualTo(100);
+        assertThat(PowerSampleSizer.applyMultiplier(100, 0.25)).isEqualTo(25);
+        assertThat(PowerSampleSizer.applyMultiplier(3, 0.1)).isEqualTo(1);
+    }
+
+    private static ExecutionSpecification spec(String useCaseId, int samples, int successes) {
+        return ExecutionSpecification.builder()
+                .useCaseId(useCaseId)
+                .approvedAt(Instant.now())
+                .approvedBy("tester")
+                .empiricalBasis(samples, successes)
+                .build();
+    }
+
+    private static ProbabilisticTest annotation(String methodName) throws NoSuchMethodException {
+        return Subjects.class.getDeclaredMethod(methodName).getAnnotation(ProbabilisticTest.class);
+    }
+
+    private static class Subjects {
+
+        @ProbabilisticTest(confidence = 0.95, minDetectableEffect = 0.05, power = 0.80)
+        void powerSized() {
+        }
+
+        @ProbabilisticTest(confidence = 0.95, minDetectableEffect = 0.05)
+        void missingPower() {
+        }
+
+        @ProbabilisticTest(samples = 50)
+        void fixedSamples() {
+        }
+    }
+}
@@ -500,6 +500,20 @@ class ProbabilisticTestValidatorTest {
                 return 0;
             }
 
+            @Override
+            public long sampleTimeoutMs() {
+                return 0;
+            }
+
+
+            @Override
+
+            public int batchSize() {
+
+                return 0;
+
+            }
+
             @Override
             public int tokenCharge() {
                 return 0;
@@ -602,6 +616,20 @@ class ProbabilisticTestValidatorTest {
                 return 0;
             }
 
+            @Override
+            public long sampleTimeoutMs() {
+                return 0;
+            }
+
+
+            @Override
+
+            public int batchSize() {
+
+                return 0;
+
+            }
+
             @Override
             public int tokenCharge() {
                 return 0;
@@ -12,7 +12,14 @@ import org.javai.punit.controls.budget.SharedBudgetMonitor;
 import org.javai.punit.model.TerminationReason;
 import org.javai.punit.ptest.engine.ResultPublisher.PublishContext;
 import org.javai.punit.reporting.PUnitReporter;
+import org.javai.punit.reporting.PhaseTimings;
+import org.javai.punit.reporting.PhaseTimings.Phase;
 import org.javai.punit.statistics.ComplianceEvidenceEvaluator;
+import org.javai.punit.statistics.SampleSizeCalculator;
+import org.javai.punit.statistics.SampleSizeRequirement;
+import org.javai.punit.statistics.StratifiedProportionEstimator;
+import org.javai.punit.statistics.StratifiedProportionEstimator.StratifiedEstimate;
+import org.javai.punit.statistics.StratifiedProportionEstimator.StratumCounts;
 import org.javai.punit.statistics.transparent.BaselineData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -120,6 +127,25 @@ class ResultPublisherTest {
             assertThat(entries).containsEntry("punit.verdict", "PASS");
         }
 
+        @Test
+        @DisplayName("includes timeout count only when samples timed out")
+        void includesTimeoutCountWhenPresent() {
+            assertThat(publisher.buildReportEntries(createContext(false)))
+                    .doesNotContainKey("punit.timeouts");
+
+            PublishContext ctx = new PublishContext(
+                    "testMethod", 100, 100, 80, 20, 0.9, 0.80, false,
+                    Optional.empty(), null,
+                    1000, false, 1.0, 0, 0, 0,
+                    CostBudgetMonitor.TokenMode.NONE,
+                    null, null, null, null, null, null, null,
+                    BaselineData.empty(), List.of(), null,
+                    TestIntent.VERIFICATION, 0.95, 3
+            );
+
+            assertThat(publisher.buildReportEntries(ctx)).containsEntry("punit.timeouts", "3");
+        }
+
         @Test
         @DisplayName("includes FAIL verdict for failed test")
         void includesFailVerdictForFailedTest() {
@@ -525,6 +551,160 @@ class ResultPublisherTest {
         }
     }
 
+    @Nested
+    @DisplayName("Power-sized samples")
+    class PowerSizedSamples {
+
+        private final SampleSizeRequirement sizing =
+                new SampleSizeCalculator().calculateForPower(0.95, 0.05, 0.95, 0.80);
+
+        @Test
+        @DisplayName("report entries include the sizing targets")
+        void reportEntriesIncludeSizing() {
+            Map<String, String> entries = publisher.buildReportEntries(createSizedContext(false, 1.0));
+
+            assertThat(entries)
+                    .containsEntry("punit.sizing.requiredSamples", String.valueOf(sizing.requiredSamples()))
+                    .containsEntry("punit.sizing.power", "0.8000")
+                    .containsEntry("punit.sizing.minDetectableEffect", "0.0500");
+        }
+
+        @Test
+        @DisplayName("report entries omit sizing for tests with a declared sample count")
+        void reportEntriesOmitSizingWhenNotPowerSized() {
+            Map<String, String> entries = publisher.buildReportEntries(createContext(true));
+
+            assertThat(entries).doesNotContainKey("punit.sizing.requiredSamples");
+        }
+
+        @Test
+        @DisplayName("sizing section explains the power analysis")
+        void sizingSectionExplainsPowerAnalysis() {
+            StringBuilder sb = new StringBuilder();
+
+            publisher.appendSampleSizing(sb, createSizedContext(false, 1.0));
+
+            assertThat(sb.toString())
+                    .startsWith("SAMPLE SIZING")
+                    .contains("Power (1 - ")
+                    .contains("80.0%")
+                    .contains("Required samples:")
+                    .contains(String.valueOf(sizing.requiredSamples()))
+                    .doesNotContain("multiplier");
+        }
+
+        @Test
+        @DisplayName("sizing section shows the multiplied sample count")
+        void sizingSectionShowsMultiplier() {
+            StringBuilder sb = new StringBuilder();
+
+            publisher.appendSampleSizing(sb, createSizedContext(true, 0.5));
+
+            int planned = PowerSampleSizer.applyMultiplier(sizing.requiredSamples(), 0.5);
+            assertThat(sb.toString()).contains("multiplier 0.50 applied: " + planned);
+        }
+
+        private PublishContext createSizedContext(boolean hasMultiplier, double multiplier) {
+            int planned = PowerSampleSizer.applyMultiplier(sizing.requiredSamples(), multiplier);
+            return new PublishContext(
+                    "testMethod", planned, planned, planned, 0,
+                    0.9, 1.0, true,
+                    Optional.empty(), null, 1000, hasMultiplier, multiplier, 0, 0, 0,
+                    CostBudgetMonitor.TokenMode.NONE, null, null, null, null,
+                    ThresholdOrigin.EMPIRICAL, null, 0.95,
+                    BaselineData.empty(), List.of(), null,
+                    TestIntent.VERIFICATION, 0.95, 0, null, sizing
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Stratified estimate")
+    class StratifiedEstimateEntries {
+
+        @Test
+        @DisplayName("report entries name the strata that were never sampled")
+        void reportEntriesNameUnsampledStrata() {
+            StratifiedEstimate estimate = new StratifiedProportionEstimator().estimate(List.of(
+                    new StratumCounts("easy", 0.5, 2, 2),
+                    new StratumCounts("hard", 0.5, 0, 0)
+            ), 0.95);
+
+            Map<String, String> entries = publisher.buildReportEntries(createStratifiedContext(estimate));
+
+            assertThat(entries)
+                    .containsEntry("punit.stratified.strata", "2")
+                    .containsEntry("punit.stratified.unsampled", "hard");
+        }
+
+        @Test
+        @DisplayName("report entries omit unsampled strata when every stratum was sampled")
+        void reportEntriesOmitUnsampledWhenCovered() {
+            StratifiedEstimate estimate = new StratifiedProportionEstimator().estimate(List.of(
+                    new StratumCounts("easy", 0.5, 2, 2),
+                    new StratumCounts("hard", 0.5, 1, 2)
+            ), 0.95);
+
+            assertThat(publisher.buildReportEntries(createStratifiedContext(estimate)))
+                    .doesNotContainKey("punit.stratified.unsampled");
+        }
+
+        private PublishContext createStratifiedContext(StratifiedEstimate estimate) {
+            return new PublishContext(
+                    "testMethod", 4, 2, 2, 0,
+                    0.9, 1.0, true,
+                    Optional.empty(), null, 1000, false, 1.0, 0, 0, 0,
+                    CostBudgetMonitor.TokenMode.NONE, null, null, null, null,
+                    ThresholdOrigin.EMPIRICAL, null, 0.95,
+                    BaselineData.empty(), List.of(), null,
+                    TestIntent.VERIFICATION, 0.95, 0, estimate, null
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Phase timings")
+    class PhaseTimingEntries {
+
+        @Test
+        @DisplayName("report entries include the time spent in each phase")
+        void reportEntriesIncludePhases() {
+            PhaseTimings timings = new PhaseTimings();
+            timings.add(Phase.USE_CASE, 900_000_000L);
+            timings.add(Phase.PACING, 500_000_000L);
+            timings.add(Phase.FRAMEWORK, 20_000_000L);
+            timings.add(Phase.SETUP, 80_000_000L);
+
+            Map<String, String> entries = publisher.buildReportEntries(createTimedContext(timings));
+
+            assertThat(entries)
+                    .containsEntry("punit.time.useCaseMs", "900")
+                    .containsEntry("punit.time.pacingMs", "500")
+                    .containsEntry("punit.time.frameworkMs", "20")
+                    .containsEntry("punit.time.setupMs", "80");
+        }
+
+        @Test
+        @DisplayName("report entries omit phases when they were not measured")
+        void reportEntriesOmitPhasesWhenNotMeasured() {
+            Map<String, String> entries = publisher.buildReportEntries(createContext(true));
+
+            assertThat(entries).doesNotContainKey("punit.time.useCaseMs");
+        }
+
+        private PublishContext createTimedContext(PhaseTimings timings) {
+            return new PublishContext(
+                    "testMethod", 100, 100, 95, 5,
+                    0.9, 0.95, true,
+                    Optional.empty(), null, 1500, false, 1.0, 0, 0, 0,
+                    CostBudgetMonitor.TokenMode.NONE, null, null, null, null,
+                    ThresholdOrigin.EMPIRICAL, null, 0.95,
+                    BaselineData.empty(), List.of(), null,
+                    TestIntent.VERIFICATION, 0.95, 0, null, null, timings
+            );
+        }
+    }
+
     // ========== Helper for intent-aware tests ==========
 
     private PublishContext createIntentContext(boolean passed, TestIntent intent,
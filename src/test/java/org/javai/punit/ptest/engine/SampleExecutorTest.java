@@ -2,6 +2,7 @@ package org.javai.punit.ptest.engine;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import org.javai.punit.api.ExceptionHandling;
+import org.javai.punit.controls.timeout.SampleTimeoutException;
 import org.javai.punit.model.TerminationReason;
 import org.javai.punit.ptest.bernoulli.SampleResultAggregator;
 import org.javai.punit.ptest.engine.SampleExecutor.SampleResult;
@@ -162,6 +163,56 @@ class SampleExecutorTest {
         }
     }
 
+    @Nested
+    @DisplayName("execute() with sample timeout")
+    class ExecuteWithTimeout {
+
+        @Test
+        @DisplayName("records a timeout failure when the sample exceeds its deadline")
+        void recordsTimeoutFailure() throws Throwable {
+            Invocation<Void> hangingInvocation = () -> {
+                Thread.sleep(10_000);
+                return null;
+            };
+
+            SampleResult result = executor.execute(
+                    hangingInvocation, aggregator, ExceptionHandling.FAIL_SAMPLE, 50);
+
+            assertThat(result.passed()).isFalse();
+            assertThat(result.failure()).isInstanceOf(SampleTimeoutException.class);
+            assertThat(result.shouldAbort()).isFalse();
+            assertThat(aggregator.getFailures()).isEqualTo(1);
+            assertThat(aggregator.getTimeouts()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("does not abort on timeout even with ABORT_TEST policy")
+        void doesNotAbortOnTimeoutWithAbortPolicy() throws Throwable {
+            Invocation<Void> hangingInvocation = () -> {
+                Thread.sleep(10_000);
+                return null;
+            };
+
+            SampleResult result = executor.execute(
+                    hangingInvocation, aggregator, ExceptionHandling.ABORT_TEST, 50);
+
+            assertThat(result.shouldAbort()).isFalse();
+            assertThat(aggregator.getTimeouts()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("records success and assertion failures normally within the deadline")
+        void recordsOutcomesWithinDeadline() throws Throwable {
+            executor.execute(() -> null, aggregator, ExceptionHandling.FAIL_SAMPLE, 1_000);
+            executor.execute(() -> { throw new AssertionError("fail"); },
+                    aggregator, ExceptionHandling.FAIL_SAMPLE, 1_000);
+
+            assertThat(aggregator.getSuccesses()).isEqualTo(1);
+            assertThat(aggregator.getFailures()).isEqualTo(1);
+            assertThat(aggregator.getTimeouts()).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("prepareForAbort()")
     class PrepareForAbort {
@@ -0,0 +1,119 @@
+package org.javai.punit.ptest.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.javai.punit.api.ProbabilisticTest;
+import org.javai.punit.api.UseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SpecPreloadingListener")
+class SpecPreloadingListenerTest {
+
+    @UseCase("preload.named")
+    private static class NamedUseCase {
+    }
+
+    private static class PlainUseCase {
+    }
+
+    private static class Subjects {
+
+        @ProbabilisticTest(useCase = NamedUseCase.class, samples = 10)
+        void named() {
+        }
+
+        @ProbabilisticTest(useCase = NamedUseCase.class, samples = 20)
+        void namedAgain() {
+        }
+
+        @ProbabilisticTest(useCase = PlainUseCase.class, samples = 10)
+        void plain() {
+        }
+
+        @ProbabilisticTest(samples = 10, minPassRate = 0.9)
+        void inline() {
+        }
+
+        void notProbabilistic() {
+        }
+    }
+
+    private static List<Method> subjectMethods() {
+        return List.of(Subjects.class.getDeclaredMethods());
+    }
+
+    @Nested
+    @DisplayName("referencedUseCaseIds")
+    class ReferencedUseCaseIds {
+
+        @Test
+        @DisplayName("collects each referenced use case once")
+        void collectsDistinctIds() {
+            Set<String> ids = SpecPreloadingListener.referencedUseCaseIds(subjectMethods());
+
+            assertThat(ids).containsExactlyInAnyOrder("preload.named", "PlainUseCase");
+        }
+
+        @Test
+        @DisplayName("ignores tests without a use case")
+        void ignoresTestsWithoutUseCase() throws NoSuchMethodException {
+            Set<String> ids = SpecPreloadingListener.referencedUseCaseIds(List.of(
+                    Subjects.class.getDeclaredMethod("inline"),
+                    Subjects.class.getDeclaredMethod("notProbabilistic")));
+
+            assertThat(ids).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("preload")
+    class Preload {
+
+        @Test
+        @DisplayName("loads each use case on a background thread")
+        void loadsEachUseCase() throws Exception {
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            Set<String> loaded = ConcurrentHashMap.newKeySet();
+            SpecPreloadingListener listener = new SpecPreloadingListener(id -> {
+                threads.add(Thread.currentThread().getName());
+                loaded.add(id);
+            });
+
+            listener.preload(List.of("a", "b", "c")).get(10, TimeUnit.SECONDS);
+
+            assertThat(loaded).containsExactlyInAnyOrder("a", "b", "c");
+            assertThat(threads).allMatch(name -> name.startsWith("punit-spec-preload-"));
+        }
+
+        @Test
+        @DisplayName("ignores load failures")
+        void ignoresFailures() throws Exception {
+            AtomicInteger attempts = new AtomicInteger();
+            SpecPreloadingListener listener = new SpecPreloadingListener(id -> {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("broken spec: " + id);
+            });
+
+            listener.preload(List.of("a", "b")).get(10, TimeUnit.SECONDS);
+
+            assertThat(attempts).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("does nothing without use cases")
+        void noUseCases() {
+            SpecPreloadingListener listener = new SpecPreloadingListener(id -> {
+                throw new AssertionError("unexpected load");
+            });
+
+            assertThat(listener.preload(List.of())).isCompleted();
+        }
+    }
+}
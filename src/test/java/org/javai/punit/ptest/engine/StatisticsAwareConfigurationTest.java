@@ -277,6 +277,8 @@ class StatisticsAwareConfigurationTest {
             @Override public double minDetectableEffect() { return minDetectableEffect; }
             @Override public double power() { return power; }
             @Override public long timeBudgetMs() { return 0; }
+            @Override public long sampleTimeoutMs() { return 0; }
+            @Override public int batchSize() { return 0; }
             @Override public int tokenCharge() { return 0; }
             @Override public long tokenBudget() { return 0; }
             @Override public BudgetExhaustedBehavior onBudgetExhausted() { return BudgetExhaustedBehavior.FAIL; }
@@ -0,0 +1,73 @@
+package org.javai.punit.ptest.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.javai.punit.ptest.shard.ShardCostEstimator.ClassCost;
+import org.javai.punit.testsubjects.ShardSubjects;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ShardCostEstimator")
+class ShardCostEstimatorTest {
+
+    private final ShardCostEstimator estimator = new ShardCostEstimator(10);
+
+    @Nested
+    @DisplayName("estimate")
+    class Estimate {
+
+        @Test
+        @DisplayName("sums samples times the default sample time over the class's tests")
+        void sumsTests() {
+            ClassCost cost = estimator.estimate(ShardSubjects.Unpaced.class).orElseThrow();
+
+            assertThat(cost.tests()).isEqualTo(2);
+            assertThat(cost.estimatedMs()).isEqualTo((20 + 30) * 10);
+        }
+
+        @Test
+        @DisplayName("attributes nested classes to their top-level class")
+        void attributesToTopLevelClass() {
+            ClassCost cost = estimator.estimate(ShardSubjects.Unpaced.class).orElseThrow();
+
+            assertThat(cost.className()).isEqualTo(ShardSubjects.class.getName());
+        }
+
+        @Test
+        @DisplayName("uses the pacing plan as a floor")
+        void pacingIsFloor() {
+            ClassCost cost = estimator.estimate(ShardSubjects.Paced.class).orElseThrow();
+
+            assertThat(cost.estimatedMs()).isGreaterThanOrEqualTo(9 * 500L);
+        }
+
+        @Test
+        @DisplayName("uses the time budget as a ceiling")
+        void timeBudgetIsCeiling() {
+            ClassCost cost = estimator.estimate(ShardSubjects.Budgeted.class).orElseThrow();
+
+            assertThat(cost.estimatedMs()).isEqualTo(2000);
+        }
+
+        @Test
+        @DisplayName("skips classes without probabilistic tests")
+        void skipsPlainClasses() {
+            assertThat(estimator.estimate(ShardSubjects.NoProbabilisticTests.class)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("rejects a negative default sample time")
+        void rejectsNegativeDefault() {
+            assertThatThrownBy(() -> new ShardCostEstimator(-1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("topLevelName strips nested class names")
+    void topLevelName() {
+        assertThat(ShardCostEstimator.topLevelName("a.b.Outer$Inner$Deeper")).isEqualTo("a.b.Outer");
+        assertThat(ShardCostEstimator.topLevelName("a.b.Outer")).isEqualTo("a.b.Outer");
+    }
+}
@@ -0,0 +1,64 @@
+package org.javai.punit.ptest.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.List;
+import org.javai.punit.ptest.shard.ShardCostEstimator.ClassCost;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+
+@DisplayName("ShardFilter")
+class ShardFilterTest {
+
+    private final ShardPlan plan = ShardPlan.balance(List.of(
+            new ClassCost("a.Slow", 1, 1000), new ClassCost("a.Fast", 1, 10)), 2);
+
+    @Test
+    @DisplayName("includes classes assigned to its shard and excludes the others")
+    void filtersByShard() {
+        int slowShard = plan.shardOf("a.Slow");
+        ShardFilter filter = new ShardFilter(plan, slowShard);
+
+        assertThat(filter.apply(descriptor(ClassSource.from("a.Slow"))).included()).isTrue();
+        assertThat(filter.apply(descriptor(ClassSource.from("a.Fast"))).excluded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("filters methods and nested classes by their top-level class")
+    void filtersMethodsByClass() {
+        ShardFilter filter = new ShardFilter(plan, plan.shardOf("a.Fast"));
+
+        assertThat(filter.apply(descriptor(MethodSource.from("a.Fast", "test"))).included()).isTrue();
+        assertThat(filter.apply(descriptor(ClassSource.from("a.Slow$Inner"))).excluded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("includes descriptors without a class source")
+    void includesEngineDescriptors() {
+        ShardFilter filter = new ShardFilter(plan, 1);
+
+        assertThat(filter.apply(descriptor(null)).included()).isTrue();
+    }
+
+    @Test
+    @DisplayName("includes everything when sharding is disabled")
+    void disabledWithoutPlan() {
+        ShardFilter filter = new ShardFilter(null, 0);
+
+        assertThat(filter.apply(descriptor(ClassSource.from("a.Slow"))).included()).isTrue();
+    }
+
+    private static TestDescriptor descriptor(TestSource source) {
+        return new AbstractTestDescriptor(UniqueId.forEngine("test"), "descriptor", source) {
+            @Override
+            public Type getType() {
+                return Type.CONTAINER;
+            }
+        };
+    }
+}
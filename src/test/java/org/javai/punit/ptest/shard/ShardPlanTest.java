@@ -0,0 +1,178 @@
+package org.javai.punit.ptest.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.javai.punit.ptest.shard.ShardCostEstimator.ClassCost;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ShardPlan")
+class ShardPlanTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static ClassCost cost(String className, long ms) {
+        return new ClassCost(className, 1, ms);
+    }
+
+    @Nested
+    @DisplayName("balance")
+    class Balance {
+
+        @Test
+        @DisplayName("spreads the expensive classes before filling in the cheap ones")
+        void spreadsExpensiveClasses() {
+            List<ClassCost> costs = List.of(
+                    cost("A", 100), cost("B", 90), cost("C", 60), cost("D", 40), cost("E", 10));
+
+            ShardPlan plan = ShardPlan.balance(costs, 2);
+
+            assertThat(plan.shardOf("A")).isNotEqualTo(plan.shardOf("B"));
+            assertThat(plan.load(1) + plan.load(2)).isEqualTo(300);
+            assertThat(Math.max(plan.load(1), plan.load(2))).isEqualTo(150);
+        }
+
+        @Test
+        @DisplayName("keeps the busiest shard within 4/3 of the optimum")
+        void boundsBusiestShard() {
+            List<ClassCost> costs = IntStream.rangeClosed(1, 40)
+                    .mapToObj(i -> cost("C" + i, (i * 37L) % 101 + 1))
+                    .toList();
+            long total = costs.stream().mapToLong(ClassCost::estimatedMs).sum();
+
+            ShardPlan plan = ShardPlan.balance(costs, 4);
+
+            long busiest = IntStream.rangeClosed(1, 4).mapToLong(plan::load).max().orElseThrow();
+            assertThat(busiest).isLessThanOrEqualTo(total / 4 * 4 / 3 + 101);
+        }
+
+        @Test
+        @DisplayName("rejects fewer than one shard")
+        void rejectsZeroShards() {
+            assertThatThrownBy(() -> ShardPlan.balance(List.of(), 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("shardOf")
+    class ShardOf {
+
+        @Test
+        @DisplayName("runs nested classes with their top-level class")
+        void nestedClasses() {
+            ShardPlan plan = ShardPlan.balance(List.of(cost("a.Outer", 10), cost("a.Other", 20)), 2);
+
+            assertThat(plan.shardOf("a.Outer$Inner")).isEqualTo(plan.shardOf("a.Outer"));
+        }
+
+        @Test
+        @DisplayName("assigns every unplanned class to exactly one valid shard")
+        void unplannedClasses() {
+            ShardPlan plan = ShardPlan.balance(List.of(), 3);
+
+            for (int i = 0; i < 50; i++) {
+                assertThat(plan.shardOf("x.Plain" + i)).isBetween(1, 3);
+            }
+            assertThat(plan.shardOf("x.Plain7")).isEqualTo(plan.shardOf("x.Plain7$Nested"));
+        }
+    }
+
+    @Nested
+    @DisplayName("plan file")
+    class PlanFile {
+
+        @Test
+        @DisplayName("round-trips through write and read")
+        void roundTrips() throws IOException {
+            ShardPlan plan = ShardPlan.balance(List.of(cost("A", 100), cost("B", 50), cost("C", 40)), 2);
+            Path file = tempDir.resolve("build/shard-plan.txt");
+
+            plan.write(file);
+            ShardPlan read = ShardPlan.read(file);
+
+            assertThat(read.shards()).isEqualTo(2);
+            assertThat(read.assignments()).isEqualTo(plan.assignments());
+            assertThat(read.load(1)).isEqualTo(plan.load(1));
+            assertThat(read.load(2)).isEqualTo(plan.load(2));
+            assertThat(Files.readAllLines(file).get(0)).isEqualTo(ShardPlan.HEADER + " shards=2");
+        }
+
+        @Test
+        @DisplayName("rejects a file that is not a shard plan")
+        void rejectsForeignFile() throws IOException {
+            Path file = tempDir.resolve("other.txt");
+            Files.writeString(file, "hello\n");
+
+            assertThatThrownBy(() -> ShardPlan.read(file))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Not a shard plan");
+        }
+
+        @Test
+        @DisplayName("rejects shards outside the plan's range")
+        void rejectsOutOfRangeShard() throws IOException {
+            Path file = tempDir.resolve("bad.txt");
+            Files.writeString(file, ShardPlan.HEADER + " shards=2\n3\tA\t10\n");
+
+            assertThatThrownBy(() -> ShardPlan.read(file))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("out of range");
+        }
+    }
+
+    @Nested
+    @DisplayName("ShardPlanCli")
+    class Cli {
+
+        @Test
+        @DisplayName("writes a plan for the given class directories and prints the shard loads")
+        void writesPlan() {
+            Path output = tempDir.resolve("plan.txt");
+            Path classes = Path.of(ShardPlanTest.class.getProtectionDomain().getCodeSource().getLocation().getPath());
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+            ShardPlanCli.run(new String[] {"--shards", "3", "--output", output.toString(), classes.toString()},
+                    new PrintStream(buffer, true, StandardCharsets.UTF_8));
+
+            ShardPlan plan = ShardPlan.read(output);
+            assertThat(plan.shards()).isEqualTo(3);
+            assertThat(plan.assignments()).containsKey("org.javai.punit.testsubjects.ShardSubjects");
+            assertThat(buffer.toString(StandardCharsets.UTF_8)).contains("Shard plan:", "Estimated");
+        }
+
+        @Test
+        @DisplayName("leaves out excluded packages")
+        void excludesPackages() {
+            Path output = tempDir.resolve("plan.txt");
+            Path classes = Path.of(ShardPlanTest.class.getProtectionDomain().getCodeSource().getLocation().getPath());
+
+            ShardPlanCli.run(new String[] {"--shards", "2", "--output", output.toString(),
+                    "--exclude-package", "testsubjects", classes.toString()},
+                    new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+
+            assertThat(ShardPlan.read(output).assignments().keySet())
+                    .noneMatch(name -> name.contains(".testsubjects."));
+        }
+
+        @Test
+        @DisplayName("rejects a missing shard count")
+        void rejectsMissingShards() {
+            assertThatThrownBy(() -> ShardPlanCli.run(
+                    new String[] {"--output", "x.txt", "classes"}, System.out))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("--shards");
+        }
+    }
+}
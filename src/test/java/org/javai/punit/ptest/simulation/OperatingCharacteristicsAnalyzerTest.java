@@ -0,0 +1,104 @@
+package org.javai.punit.ptest.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import org.javai.punit.ptest.simulation.OperatingCharacteristicsAnalyzer.TestCharacteristics;
+import org.javai.punit.statistics.OperatingCharacteristicsSimulator.OperatingCharacteristics;
+import org.javai.punit.testsubjects.OperatingCharacteristicsSubjects;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OperatingCharacteristicsAnalyzer")
+class OperatingCharacteristicsAnalyzerTest {
+
+    private final OperatingCharacteristicsAnalyzer analyzer =
+            new OperatingCharacteristicsAnalyzer(0.1, 20_000, 1L);
+
+    @Nested
+    @DisplayName("analyze")
+    class Analyze {
+
+        @Test
+        @DisplayName("simulates tests with an explicit threshold at that threshold")
+        void simulatesFixedThreshold() {
+            List<TestCharacteristics> results = analyzer.analyze(OperatingCharacteristicsSubjects.Mixed.class);
+
+            TestCharacteristics fixed = find(results, "Mixed.fixedThreshold");
+            assertThat(fixed.isSkipped()).isFalse();
+            OperatingCharacteristics oc = fixed.characteristics();
+            assertThat(oc.design().samples()).isEqualTo(100);
+            assertThat(oc.acceptable().trueRate()).isEqualTo(0.9);
+            assertThat(oc.degraded().trueRate()).isCloseTo(0.8, within(1e-9));
+            // Testing exactly at the threshold fails a large share of healthy runs
+            assertThat(oc.falsePositiveRate()).isGreaterThan(0.3);
+            assertThat(oc.falseNegativeRate()).isLessThan(0.01);
+        }
+
+        @Test
+        @DisplayName("skips tests without a threshold or baseline spec")
+        void skipsUnresolvableTests() {
+            List<TestCharacteristics> results = analyzer.analyze(OperatingCharacteristicsSubjects.Mixed.class);
+
+            assertThat(results).hasSize(2);
+            TestCharacteristics skipped = find(results, "Mixed.noThreshold");
+            assertThat(skipped.isSkipped()).isTrue();
+            assertThat(skipped.skipReason()).contains("no minPassRate");
+        }
+
+        @Test
+        @DisplayName("rejects an invalid degradation")
+        void rejectsInvalidDegradation() {
+            assertThatThrownBy(() -> new OperatingCharacteristicsAnalyzer(0.0, 100, 1L))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("CLI")
+    class Cli {
+
+        @Test
+        @DisplayName("derives class names from class file paths")
+        void derivesClassNames() {
+            assertThat(OperatingCharacteristicsAnalyzer.toClassName(Path.of("org", "acme", "Foo$Bar.class")))
+                    .isEqualTo("org.acme.Foo$Bar");
+        }
+
+        @Test
+        @DisplayName("prints a row per test and the skip reason for skipped tests")
+        void printsTable() {
+            List<TestCharacteristics> results = analyzer.analyze(OperatingCharacteristicsSubjects.Mixed.class);
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+            OperatingCharacteristicsCli.print(results, 20_000, 0.1,
+                    new PrintStream(buffer, true, StandardCharsets.UTF_8));
+
+            String output = buffer.toString(StandardCharsets.UTF_8);
+            assertThat(output).contains("FP rate", "FN rate");
+            assertThat(output).contains("Mixed.fixedThreshold");
+            assertThat(output).contains("Mixed.noThreshold", "skipped: no minPassRate");
+        }
+
+        @Test
+        @DisplayName("requires at least one class directory")
+        void requiresClassDirectory() {
+            assertThatThrownBy(() -> OperatingCharacteristicsCli.run(new String[] {"--runs", "10"}, System.out))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("no class directories");
+        }
+    }
+
+    private static TestCharacteristics find(List<TestCharacteristics> results, String name) {
+        return results.stream()
+                .filter(r -> r.testName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,61 @@
+package org.javai.punit.reporting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.javai.punit.reporting.PhaseTimings.Phase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PhaseTimings")
+class PhaseTimingsTest {
+
+    @Test
+    @DisplayName("accumulates time per phase")
+    void accumulatesPerPhase() {
+        PhaseTimings timings = new PhaseTimings();
+
+        timings.add(Phase.USE_CASE, 1_500_000L);
+        timings.add(Phase.USE_CASE, 2_500_000L);
+        timings.add(Phase.PACING, 7_000_000L);
+
+        assertThat(timings.millis(Phase.USE_CASE)).isEqualTo(4);
+        assertThat(timings.millis(Phase.PACING)).isEqualTo(7);
+        assertThat(timings.millis(Phase.FRAMEWORK)).isZero();
+        assertThat(timings.totalNanos()).isEqualTo(11_000_000L);
+    }
+
+    @Test
+    @DisplayName("ignores negative durations")
+    void ignoresNegativeDurations() {
+        PhaseTimings timings = new PhaseTimings();
+
+        timings.add(Phase.FRAMEWORK, -5);
+
+        assertThat(timings.totalNanos()).isZero();
+    }
+
+    @Test
+    @DisplayName("builds report entries in phase order")
+    void buildsReportEntries() {
+        PhaseTimings timings = new PhaseTimings();
+        timings.add(Phase.SETUP, 3_000_000L);
+
+        assertThat(timings.reportEntries("punit.time")).containsExactly(
+                java.util.Map.entry("punit.time.useCaseMs", "0"),
+                java.util.Map.entry("punit.time.pacingMs", "0"),
+                java.util.Map.entry("punit.time.frameworkMs", "0"),
+                java.util.Map.entry("punit.time.setupMs", "3"));
+    }
+
+    @Test
+    @DisplayName("summarises each phase with its share of the total")
+    void summarisesShares() {
+        PhaseTimings timings = new PhaseTimings();
+        timings.add(Phase.USE_CASE, 600_000_000L);
+        timings.add(Phase.PACING, 380_000_000L);
+        timings.add(Phase.FRAMEWORK, 10_000_000L);
+        timings.add(Phase.SETUP, 10_000_000L);
+
+        assertThat(timings.summary()).isEqualTo(
+                "use case 600ms (60%), pacing 380ms (38%), framework 10ms (1%), setup 10ms (1%)");
+    }
+}
@@ -0,0 +1,74 @@
+package org.javai.punit.reporting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.javai.punit.reporting.PhaseTimings.Phase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
+
+@DisplayName("SampleTimer")
+class SampleTimerTest {
+
+    @Test
+    @DisplayName("counts the sample body as use case time")
+    void countsUseCaseTime() throws Throwable {
+        PhaseTimings timings = new PhaseTimings();
+        SampleTimer timer = SampleTimer.start(timings);
+
+        timer.timeUseCase(() -> {
+            Thread.sleep(5);
+            return null;
+        }).proceed();
+
+        assertThat(timer.nanos(Phase.USE_CASE)).isGreaterThanOrEqualTo(5_000_000L);
+        assertThat(timings.nanos(Phase.USE_CASE)).isEqualTo(timer.nanos(Phase.USE_CASE));
+    }
+
+    @Test
+    @DisplayName("delegates skips to the sample")
+    void delegatesSkip() {
+        AtomicBoolean skipped = new AtomicBoolean();
+        Invocation<Void> sample = new Invocation<>() {
+            @Override
+            public Void proceed() {
+                return null;
+            }
+
+            @Override
+            public void skip() {
+                skipped.set(true);
+            }
+        };
+
+        SampleTimer.start(new PhaseTimings()).timeUseCase(sample).skip();
+
+        assertThat(skipped).isTrue();
+    }
+
+    @Test
+    @DisplayName("never attributes negative framework time")
+    void frameworkTimeIsNeverNegative() {
+        PhaseTimings timings = new PhaseTimings();
+        SampleTimer timer = SampleTimer.start(timings);
+
+        // More time accounted than has elapsed, as a coarse clock could report
+        timer.add(Phase.PACING, 60_000_000_000L);
+
+        assertThat(timer.finish()).isZero();
+        assertThat(timings.nanos(Phase.FRAMEWORK)).isZero();
+    }
+
+    @Test
+    @DisplayName("ignores time other samples add to the shared timings")
+    void ignoresOtherSamples() throws InterruptedException {
+        PhaseTimings timings = new PhaseTimings();
+        SampleTimer timer = SampleTimer.start(timings);
+        SampleTimer concurrent = SampleTimer.start(timings);
+        Thread.sleep(5);
+
+        concurrent.add(Phase.USE_CASE, 60_000_000_000L);
+
+        assertThat(timer.finish()).isGreaterThanOrEqualTo(5_000_000L);
+    }
+}
@@ -0,0 +1,167 @@
+package org.javai.punit.reporting.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import jdk.jfr.Recording;
+import org.javai.punit.api.BudgetExhaustedBehavior;
+import org.javai.punit.controls.budget.BudgetOrchestrator;
+import org.javai.punit.controls.budget.BudgetPolicy;
+import org.javai.punit.controls.budget.CostBudgetMonitor;
+import org.javai.punit.controls.budget.CostBudgetMonitor.TokenMode;
+import org.javai.punit.experiment.engine.output.OutputUtilities;
+import org.javai.punit.spec.baseline.BaselineRepository;
+import org.javai.punit.testsubjects.ProbabilisticTestSubjects.AlwaysPassingTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+@DisplayName("FlightRecordingSummary")
+class FlightRecordingSummaryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("Events")
+    class Events {
+
+        @Test
+        @DisplayName("records each sample of a probabilistic test with its outcome")
+        void recordsSamples() throws Exception {
+            FlightRecordingSummary summary = record(() -> EngineTestKit.engine("junit-jupiter")
+                    .selectors(DiscoverySelectors.selectClass(AlwaysPassingTest.class))
+                    .execute());
+
+            // 8 of 10 samples guarantee success, after which the rest are skipped
+            assertThat(summary.count("Sample")).isEqualTo(8);
+            assertThat(summary.sampleOutcomes()).containsEntry(SampleEvent.SUCCESS, 8);
+            assertThat(summary.count("BudgetCheck")).isGreaterThanOrEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("records budget exhaustion with its termination reason")
+        void recordsBudgetExhaustion() throws Exception {
+            CostBudgetMonitor budget = new CostBudgetMonitor(0, 10, 10, TokenMode.STATIC,
+                    BudgetExhaustedBehavior.FAIL);
+            budget.recordStaticTokenCharge();
+
+            FlightRecordingSummary summary = record(() ->
+                    new BudgetOrchestrator(BudgetPolicy.REACTIVE).checkBeforeSample(null, null, budget));
+
+            assertThat(summary.count("BudgetCheck")).isEqualTo(1);
+            assertThat(summary.budgetExhaustions()).containsEntry("METHOD_TOKEN_BUDGET_EXHAUSTED", 1);
+        }
+
+        @Test
+        @DisplayName("records baseline loads and spec writes")
+        void recordsBaselineLoadsAndSpecWrites() throws Exception {
+            Path spec = tempDir.resolve("ShoppingUseCase.yaml");
+
+            FlightRecordingSummary summary = record(() -> {
+                OutputUtilities.replaceAtomically(spec, file -> Files.writeString(file, "useCaseId: x\n"));
+                new BaselineRepository(tempDir).findAllCandidates("ShoppingUseCase");
+            });
+
+            assertThat(summary.count("SpecWrite")).isEqualTo(1);
+            assertThat(summary.count("BaselineLoad")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("print()")
+    class Print {
+
+        @Test
+        @DisplayName("prints a line per event type and the sample outcomes")
+        void printsEventTypesAndOutcomes() throws Exception {
+            FlightRecordingSummary summary = record(() -> {
+                SampleEvent.start().complete("TEST", FlightRecordingSummaryTest.class, "sample",
+                        1, SampleEvent.SUCCESS, 40);
+                SampleEvent.start().complete("TEST", FlightRecordingSummaryTest.class, "sample",
+                        2, SampleEvent.FAILURE, 60);
+                PacingWaitEvent.start().complete(null, 100);
+            });
+
+            String output = print(summary);
+
+            assertThat(output)
+                    .contains("Event", "Count", "p95 ms")
+                    .containsPattern("PacingWait\\s+1 ")
+                    .containsPattern("Sample\\s+2 ")
+                    .contains("Samples: {failure=1, success=1, tokens=100}");
+        }
+
+        @Test
+        @DisplayName("reports a recording without PUnit events")
+        void reportsEmptyRecording() throws Exception {
+            FlightRecordingSummary summary = record(() -> { });
+
+            assertThat(print(summary)).contains("No PUnit events in the recording.");
+        }
+    }
+
+    @Nested
+    @DisplayName("FlightRecordingSummaryCli")
+    class Cli {
+
+        @Test
+        @DisplayName("prints the summary of a recording")
+        void printsSummary() throws Exception {
+            Path recording = recordTo(() -> PacingWaitEvent.start().complete("llm", 50));
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            FlightRecordingSummaryCli.run(new String[] {recording.toString()},
+                    new PrintStream(bytes, true, StandardCharsets.UTF_8));
+
+            assertThat(bytes.toString(StandardCharsets.UTF_8)).containsPattern("PacingWait\\s+1 ");
+        }
+
+        @Test
+        @DisplayName("rejects a missing recording argument")
+        void rejectsMissingArgument() {
+            assertThatThrownBy(() -> FlightRecordingSummaryCli.run(new String[0], System.out))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("no recordings");
+        }
+    }
+
+    @FunctionalInterface
+    private interface Recorded {
+        void run() throws Exception;
+    }
+
+    private FlightRecordingSummary record(Recorded action) throws Exception {
+        return FlightRecordingSummary.read(recordTo(action));
+    }
+
+    private Path recordTo(Recorded action) throws Exception {
+        Path file = Files.createTempFile(tempDir, "punit", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : new String[] {SampleEvent.NAME, PacingWaitEvent.NAME, BudgetCheckEvent.NAME,
+                    BaselineLoadEvent.NAME, BaselineSelectionEvent.NAME, SpecWriteEvent.NAME}) {
+                recording.enable(name).withoutThreshold();
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return file;
+    }
+
+    private static String print(FlightRecordingSummary summary) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        summary.print(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,133 @@
+package org.javai.punit.reporting.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("MetricsRegistry")
+class MetricsRegistryTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Nested
+    @DisplayName("counters")
+    class Counters {
+
+        @Test
+        @DisplayName("count samples, outcomes and tokens per kind and use case")
+        void countPerSeries() {
+            MetricsRegistry registry = new MetricsRegistry(true, null);
+
+            registry.recordSample("TEST", "Shopping", true, 10 * MS, 100);
+            registry.recordSample("TEST", "Shopping", false, 10 * MS, 50);
+            registry.recordSample("TEST", "Shopping", null, 10 * MS, 0);
+            registry.recordSample("MEASURE", "Shopping", true, 10 * MS, 25);
+
+            String text = registry.scrape();
+            assertThat(text)
+                    .contains("# TYPE punit_samples_total counter")
+                    .contains("punit_samples_total{kind=\"TEST\",use_case=\"Shopping\"} 3")
+                    .contains("punit_sample_successes_total{kind=\"TEST\",use_case=\"Shopping\"} 1")
+                    .contains("punit_sample_failures_total{kind=\"TEST\",use_case=\"Shopping\"} 1")
+                    .contains("punit_tokens_total{kind=\"TEST\",use_case=\"Shopping\"} 150")
+                    .contains("punit_samples_total{kind=\"MEASURE\",use_case=\"Shopping\"} 1");
+        }
+
+        @Test
+        @DisplayName("escape label values")
+        void escapeLabelValues() {
+            MetricsRegistry registry = new MetricsRegistry(true, null);
+
+            registry.recordSample("TEST", "say \"hi\"\\", true, MS, 0);
+
+            assertThat(registry.scrape()).contains("use_case=\"say \\\"hi\\\"\\\\\"");
+        }
+
+        @Test
+        @DisplayName("label every series with the process id when one is given")
+        void labelWithPid() {
+            MetricsRegistry registry = new MetricsRegistry(true, "4242");
+
+            registry.recordSample("TEST", "Shopping", true, MS, 0);
+
+            assertThat(registry.scrape())
+                    .contains("punit_samples_total{pid=\"4242\",kind=\"TEST\",use_case=\"Shopping\"} 1");
+        }
+    }
+
+    @Test
+    @DisplayName("histograms are cumulative and report sum and count in seconds")
+    void histogramsAreCumulative() {
+        MetricsRegistry registry = new MetricsRegistry(true, null);
+
+        registry.recordSample("TEST", "Shopping", true, 3 * MS, 0);
+        registry.recordSample("TEST", "Shopping", true, 200 * MS, 0);
+        registry.recordSample("TEST", "Shopping", true, 90_000 * MS, 0);
+
+        String text = registry.scrape();
+        String labels = "kind=\"TEST\",use_case=\"Shopping\"";
+        assertThat(text)
+                .contains("# TYPE punit_sample_latency_seconds histogram")
+                .contains("punit_sample_latency_seconds_bucket{" + labels + ",le=\"0.005\"} 1")
+                .contains("punit_sample_latency_seconds_bucket{" + labels + ",le=\"0.1\"} 1")
+                .contains("punit_sample_latency_seconds_bucket{" + labels + ",le=\"0.25\"} 2")
+                .contains("punit_sample_latency_seconds_bucket{" + labels + ",le=\"60.0\"} 2")
+                .contains("punit_sample_latency_seconds_bucket{" + labels + ",le=\"+Inf\"} 3")
+                .contains("punit_sample_latency_seconds_sum{" + labels + "} 90.203")
+                .contains("punit_sample_latency_seconds_count{" + labels + "} 3")
+                .doesNotContain("punit_pacing_wait_seconds_bucket");
+    }
+
+    @Test
+    @DisplayName("budget gauges read the remaining budget when scraped and omit unlimited budgets")
+    void budgetGauges() {
+        MetricsRegistry registry = new MetricsRegistry(true, null);
+        AtomicLong tokens = new AtomicLong(5000);
+
+        registry.trackBudget("suite", "", tokens::get, () -> Long.MAX_VALUE);
+        registry.trackBudget("class", "com.example.ShoppingTest", () -> Long.MAX_VALUE, () -> 90_500);
+        tokens.set(4200);
+
+        assertThat(registry.scrape())
+                .contains("punit_budget_remaining_tokens{scope=\"suite\",owner=\"\"} 4200")
+                .contains("punit_budget_remaining_seconds{scope=\"class\",owner=\"com.example.ShoppingTest\"} 90.5")
+                .doesNotContain("punit_budget_remaining_tokens{scope=\"class\"")
+                .doesNotContain("punit_budget_remaining_seconds{scope=\"suite\"");
+    }
+
+    @Test
+    @DisplayName("a disabled registry records nothing")
+    void disabledRecordsNothing() {
+        MetricsRegistry registry = new MetricsRegistry(false, null);
+
+        registry.recordSample("TEST", "Shopping", true, MS, 10);
+        registry.recordPacingWait("TEST", "Shopping", MS);
+
+        assertThat(registry.scrape()).doesNotContain("Shopping").endsWith("# EOF\n");
+    }
+
+    @Test
+    @DisplayName("writes the exposition text to a file, replacing the previous one")
+    void writesFile(@TempDir Path dir) throws IOException {
+        MetricsRegistry registry = new MetricsRegistry(true, null);
+        Path file = dir.resolve("punit.prom");
+        Files.writeString(file, "stale");
+
+        registry.recordPacingWait("TEST", "Shopping", 1_000 * MS);
+        registry.write(file);
+
+        assertThat(Files.readString(file))
+                .isEqualTo(registry.scrape())
+                .contains("punit_pacing_wait_seconds_count{kind=\"TEST\",use_case=\"Shopping\"} 1");
+        try (var files = Files.list(dir)) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.javai.punit.reporting.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("RunStream")
+class RunStreamTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Instant NOW = Instant.parse("2026-03-01T10:00:00Z");
+
+    @Nested
+    @DisplayName("writing")
+    class Writing {
+
+        @TempDir
+        Path dir;
+
+        @Test
+        @DisplayName("writes a header line and one line per event, in order")
+        void writesEventsInOrder() throws IOException {
+            Path file = dir.resolve("run.ndjson");
+            RunStream stream = new RunStream(file, 64);
+
+            stream.emit(new RunEvent.Started(NOW, "TEST", "com.example.ShoppingTest", "search", 3, 0.9));
+            stream.emit(sample(1, "success", 1, 0));
+            stream.emit(new RunEvent.Finished(NOW, "TEST", "com.example.ShoppingTest", "search",
+                    "PASS", 3, 0, 3, 300, 1200, "COMPLETED"));
+            stream.close();
+
+            List<Map<String, Object>> lines = read(file);
+            assertThat(lines).extracting(line -> line.get("event"))
+                    .containsExactly("stream", "started", "sample", "finished");
+            assertThat(lines.get(0)).containsEntry("schema", RunStream.SCHEMA);
+            assertThat(lines.get(3)).containsEntry("verdict", "PASS").containsEntry("samplesExecuted", 3);
+        }
+
+        @Test
+        @DisplayName("appends to an existing file")
+        void appendsToExistingFile() throws IOException {
+            Path file = dir.resolve("run.ndjson");
+            Files.writeString(file, "{\"event\":\"earlier\"}\n");
+            RunStream stream = new RunStream(file, 64);
+
+            stream.emit(sample(1, "success", 1, 0));
+            stream.close();
+
+            assertThat(read(file)).extracting(line -> line.get("event"))
+                    .containsExactly("earlier", "stream", "sample");
+        }
+
+        @Test
+        @DisplayName("ignores events once closed")
+        void ignoresEventsOnceClosed() throws IOException {
+            Path file = dir.resolve("run.ndjson");
+            RunStream stream = new RunStream(file, 64);
+            stream.close();
+
+            stream.emit(sample(1, "success", 1, 0));
+
+            assertThat(stream.isEnabled()).isFalse();
+            assertThat(read(file)).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("a stream without a file is disabled and accepts events")
+    void disabledWithoutFile() {
+        RunStream stream = new RunStream(null, 1);
+
+        stream.emit(sample(1, "success", 1, 0));
+        stream.close();
+
+        assertThat(stream.isEnabled()).isFalse();
+        assertThat(stream.droppedEvents()).isZero();
+    }
+
+    @Nested
+    @DisplayName("event fields")
+    class EventFields {
+
+        @Test
+        @DisplayName("a sample carries the pass rate and its 95% Wilson bounds so far")
+        void sampleCarriesEstimate() {
+            Map<String, Object> fields = sample(10, "failure", 8, 2).fields();
+
+            assertThat(fields.keySet()).startsWith("event", "ts", "kind", "class", "method");
+            assertThat(fields).containsEntry("passRate", 0.8)
+                    .containsEntry("ciLower", 0.4902)
+                    .containsEntry("ciUpper", 0.9433);
+        }
+
+        @Test
+        @DisplayName("a sample projects completion from the mean time per sample")
+        void sampleProjectsCompletion() {
+            Map<String, Object> fields = sample(10, "success", 10, 0).fields();
+
+            // 10 of 40 samples in 1000 ms leaves 30 samples, about 3000 ms
+            assertThat(fields).containsEntry("projectedCompletion", "2026-03-01T10:00:03Z");
+        }
+
+        @Test
+        @DisplayName("the last sample has no projected completion")
+        void lastSampleHasNoProjection() {
+            RunEvent.Sample last = new RunEvent.Sample(NOW, "MEASURE", "Exp", "measure",
+                    4, "success", 4, 0, 4, 100, 0, 0, 400);
+
+            assertThat(last.fields()).doesNotContainKey("projectedCompletion");
+        }
+
+        @Test
+        @DisplayName("an experiment start omits the pass rate it does not have")
+        void experimentStartOmitsMinPassRate() {
+            RunEvent.Started started = new RunEvent.Started(NOW, "MEASURE", "Exp", "measure", 1000, Double.NaN);
+
+            assertThat(started.fields()).doesNotContainKey("minPassRate").containsEntry("samplesPlanned", 1000);
+        }
+    }
+
+    private static RunEvent.Sample sample(int index, String outcome, int successes, int failures) {
+        return new RunEvent.Sample(NOW, "TEST", "com.example.ShoppingTest", "search",
+                index, outcome, successes, failures, 40, 95, 120, 1200, 1000);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> read(Path file) throws IOException {
+        List<Map<String, Object>> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            lines.add(MAPPER.readValue(line, Map.class));
+        }
+        return lines;
+    }
+}
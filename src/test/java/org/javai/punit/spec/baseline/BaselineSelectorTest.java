@@ -1,15 +1,19 @@
 package org.javai.punit.spec.baseline;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.javai.punit.api.CovariateCategory;
 import org.javai.punit.model.CovariateDeclaration;
 import org.javai.punit.model.CovariateProfile;
 import org.javai.punit.model.RegionGroupDefinition;
 import org.javai.punit.spec.baseline.BaselineSelectionTypes.BaselineCandidate;
+import org.javai.punit.spec.baseline.covariate.CovariateMatcher;
 import org.javai.punit.spec.baseline.covariate.CovariateMatcher.MatchResult;
+import org.javai.punit.spec.baseline.covariate.CovariateMatcherRegistry;
 import org.javai.punit.spec.model.ExecutionSpecification;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -255,6 +259,132 @@ class BaselineSelectorTest {
         }
     }
 
+    @Nested
+    @DisplayName("hard-gate index")
+    class HardGateIndexTests {
+
+        private CovariateDeclaration modelDeclaration() {
+            return new CovariateDeclaration(
+                    List.of(),
+                    List.of(),
+                    List.of(EU_REGION),
+                    false,
+                    Map.of("model", CovariateCategory.CONFIGURATION)
+            );
+        }
+
+        private CovariateProfile profile(String model, String region) {
+            return CovariateProfile.builder()
+                .put("region", region)
+                .put("model", model)
+                .build();
+        }
+
+        @Test
+        @DisplayName("should select only among candidates with the test's hard-gate values")
+        void shouldSelectWithinHardGateBucket() {
+            var now = Instant.parse("2026-01-10T00:00:00Z");
+            var candidates = List.of(
+                candidate("gpt-eu", profile("gpt", "EU"), now),
+                candidate("claude-us", profile("claude", "US"), now),
+                candidate("claude-eu-old", profile("claude", "EU"), now.minusSeconds(3600)),
+                candidate("claude-eu", profile("claude", "EU"), now));
+
+            var result = selector.select(candidates, profile("claude", "EU"), modelDeclaration());
+
+            assertThat(result.selected().filename()).isEqualTo("claude-eu.yaml");
+            assertThat(result.candidateCount()).isEqualTo(3);
+            assertThat(result.ambiguous()).isFalse();
+            assertThat(result.hasNonConformance()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should throw when no candidate has the test's hard-gate values")
+        void shouldThrowOnHardGateMismatch() {
+            var candidates = List.of(candidate("gpt-eu", profile("gpt", "EU"), Instant.now()));
+
+            assertThatThrownBy(() -> selector.select(candidates, profile("claude", "EU"), modelDeclaration()))
+                .isInstanceOf(NoCompatibleBaselineException.class);
+        }
+
+        @Test
+        @DisplayName("should never match an undefined hard-gate value")
+        void shouldNeverMatchUndefinedHardGate() {
+            var candidates = List.of(
+                candidate("undefined", profile(CovariateProfile.UNDEFINED, "EU"), Instant.now()));
+
+            assertThatThrownBy(() -> selector.select(
+                    candidates, profile(CovariateProfile.UNDEFINED, "EU"), modelDeclaration()))
+                .isInstanceOf(NoCompatibleBaselineException.class);
+        }
+
+        @Test
+        @DisplayName("should fall back to the matcher when it does not support match keys")
+        void shouldFallBackToMatcher() {
+            CovariateMatcher familyMatcher = (baseline, test) ->
+                baseline.toCanonicalString().startsWith(test.toCanonicalString())
+                    ? MatchResult.CONFORMS : MatchResult.DOES_NOT_CONFORM;
+            var customSelector = new BaselineSelector(CovariateMatcherRegistry.builder()
+                .register("model", familyMatcher)
+                .build());
+            var candidates = List.of(
+                candidate("gpt-4", profile("gpt-4", "EU"), Instant.now()),
+                candidate("claude-3", profile("claude-3", "EU"), Instant.now()));
+
+            var result = customSelector.select(candidates, profile("claude", "EU"), modelDeclaration());
+
+            assertThat(result.selected().filename()).isEqualTo("claude-3.yaml");
+            assertThat(result.candidateCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should select from the given list when reusing an index")
+        void shouldSelectFromGivenListWhenReusingIndex() {
+            var now = Instant.parse("2026-01-10T00:00:00Z");
+            var first = List.of(
+                candidate("claude-eu", profile("claude", "EU"), now),
+                candidate("gpt-eu", profile("gpt", "EU"), now));
+            var reloaded = List.of(
+                candidate("claude-eu", profile("claude", "EU"), now),
+                candidate("gpt-eu", profile("gpt", "EU"), now));
+
+            selector.select(first, profile("gpt", "EU"), modelDeclaration());
+            var result = selector.select(reloaded, profile("gpt", "EU"), modelDeclaration());
+
+            assertThat(result.selected()).isSameAs(reloaded.get(1));
+        }
+
+        @Test
+        @DisplayName("should not reuse an index for candidates that differ in recency")
+        void shouldNotReuseIndexForDifferentCandidates() {
+            var now = Instant.parse("2026-01-10T00:00:00Z");
+            var first = List.of(
+                candidate("claude-eu-a", profile("claude", "EU"), now),
+                candidate("claude-eu-b", profile("claude", "EU"), now.minusSeconds(60)));
+            var updated = List.of(
+                candidate("claude-eu-a", profile("claude", "EU"), now),
+                candidate("claude-eu-b", profile("claude", "EU"), now.plusSeconds(60)));
+
+            selector.select(first, profile("claude", "EU"), modelDeclaration());
+            var result = selector.select(updated, profile("claude", "EU"), modelDeclaration());
+
+            assertThat(result.selected().filename()).isEqualTo("claude-eu-b.yaml");
+        }
+
+        @Test
+        @DisplayName("should keep a bounded number of indexes")
+        void shouldBoundIndexCache() {
+            BaselineSelector.clearIndexCache();
+            var now = Instant.parse("2026-01-10T00:00:00Z");
+            for (int i = 0; i < BaselineSelector.MAX_CACHED_INDEXES + 10; i++) {
+                var candidates = List.of(candidate("claude-eu-" + i, profile("claude", "EU"), now));
+                selector.select(candidates, profile("claude", "EU"), modelDeclaration());
+            }
+
+            assertThat(BaselineSelector.indexCacheSize()).isEqualTo(BaselineSelector.MAX_CACHED_INDEXES);
+        }
+    }
+
     @Nested
     @DisplayName("empty declaration")
     class EmptyDeclarationTests {
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.javai.punit.api.CovariateCategory;
+import org.javai.punit.api.CovariateSource;
 import org.javai.punit.model.CovariateDeclaration;
 import org.javai.punit.model.DayGroupDefinition;
 import org.javai.punit.model.RegionGroupDefinition;
@@ -146,4 +147,83 @@ class CovariateProfileResolverTest {
             assertThat(profile.get("time_of_day").toCanonicalString()).isEqualTo("08:00/2h");
         }
     }
+
+    @Nested
+    @DisplayName("cached resolution")
+    class CachedResolutionTests {
+
+        private static final String MODEL_PROPERTY = "org.javai.punit.covariate.model";
+
+        private final CovariateResolutionCache cache = new CovariateResolutionCache();
+        private final CovariateProfileResolver cachedResolver = new CovariateProfileResolver(cache);
+
+        private final CovariateDeclaration modelDeclaration = new CovariateDeclaration(
+            List.of(), List.of(), List.of(), false, Map.of("model", CovariateCategory.CONFIGURATION));
+
+        @Test
+        @DisplayName("should keep JVM-lifetime values for the life of the cache")
+        void shouldKeepJvmLifetimeValues() {
+            try {
+                System.setProperty(MODEL_PROPERTY, "model-a");
+                var first = cachedResolver.resolve(modelDeclaration, DefaultCovariateResolutionContext.forNow());
+
+                System.setProperty(MODEL_PROPERTY, "model-b");
+                var second = cachedResolver.resolve(modelDeclaration, DefaultCovariateResolutionContext.forNow());
+                var uncached = resolver.resolve(modelDeclaration, DefaultCovariateResolutionContext.forNow());
+
+                assertThat(first.get("model").toCanonicalString()).isEqualTo("model-a");
+                assertThat(second.get("model").toCanonicalString()).isEqualTo("model-a");
+                assertThat(uncached.get("model").toCanonicalString()).isEqualTo("model-b");
+            } finally {
+                System.clearProperty(MODEL_PROPERTY);
+            }
+        }
+
+        @Test
+        @DisplayName("should resolve time-of-day again once its period boundary passes")
+        void shouldResolveTimeOfDayAgainAfterBoundary() {
+            var declaration = new CovariateDeclaration(
+                List.of(), List.of(new TimePeriodDefinition(LocalTime.of(8, 0), 120)), List.of(), false, Map.of());
+
+            var morning = cachedResolver.resolve(declaration, contextAt("2026-01-13T09:00:00Z"));
+
+            assertThat(morning.get("time_of_day").toCanonicalString()).isEqualTo("08:00/2h");
+            assertThat(cache.get(declaration, "time_of_day", contextAt("2026-01-13T09:59:59Z"))).isPresent();
+            assertThat(cache.get(declaration, "time_of_day", contextAt("2026-01-13T10:00:00Z"))).isEmpty();
+
+            var later = cachedResolver.resolve(declaration, contextAt("2026-01-13T10:30:00Z"));
+
+            assertThat(later.get("time_of_day").toCanonicalString()).isNotEqualTo("08:00/2h");
+        }
+
+        @Test
+        @DisplayName("should call @CovariateSource methods on every resolution")
+        void shouldCallCovariateSourceEveryTime() {
+            var useCase = new CountingUseCase();
+            var context = DefaultCovariateResolutionContext.builder().useCaseInstance(useCase).build();
+
+            var first = cachedResolver.resolve(modelDeclaration, context);
+            var second = cachedResolver.resolve(modelDeclaration, context);
+
+            assertThat(first.get("model").toCanonicalString()).isEqualTo("model-1");
+            assertThat(second.get("model").toCanonicalString()).isEqualTo("model-2");
+        }
+
+        private DefaultCovariateResolutionContext contextAt(String instant) {
+            return DefaultCovariateResolutionContext.builder()
+                .now(Instant.parse(instant))
+                .systemTimezone(ZoneId.of("UTC"))
+                .build();
+        }
+    }
+
+    public static class CountingUseCase {
+
+        private int calls;
+
+        @CovariateSource("model")
+        public String model() {
+            return "model-" + ++calls;
+        }
+    }
 }
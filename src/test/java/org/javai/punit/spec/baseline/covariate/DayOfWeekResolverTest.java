@@ -18,6 +18,20 @@ class DayOfWeekResolverTest {
 
     private static final ZoneId LONDON = ZoneId.of("Europe/London");
 
+    @Test
+    @DisplayName("is valid until the next local midnight")
+    void validUntilNextLocalMidnight() {
+        var resolver = new DayOfWeekResolver(List.of());
+        var context = DefaultCovariateResolutionContext.builder()
+                .now(Instant.parse("2026-07-10T22:30:00Z"))
+                .systemTimezone(LONDON)
+                .build();
+
+        assertThat(resolver.validity()).isEqualTo(CovariateValidity.UNTIL_NEXT_BOUNDARY);
+        // 23:30 BST on the 10th; midnight BST is 23:00Z
+        assertThat(resolver.nextBoundary(context)).isEqualTo(Instant.parse("2026-07-10T23:00:00Z"));
+    }
+
     @Nested
     @DisplayName("Group matching")
     class GroupMatchingTests {
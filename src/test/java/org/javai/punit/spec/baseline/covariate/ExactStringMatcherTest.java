@@ -116,6 +116,43 @@ class ExactStringMatcherTest {
         }
     }
 
+    @Nested
+    @DisplayName("match keys")
+    class MatchKeyTests {
+
+        @Test
+        @DisplayName("case-sensitive keys are the canonical value")
+        void caseSensitiveKeysAreCanonicalValue() {
+            var matcher = new ExactStringMatcher(true);
+
+            assertThat(matcher.supportsMatchKeys()).isTrue();
+            assertThat(matcher.matchKey(new CovariateValue.StringValue("EU"))).contains("EU");
+            assertThat(matcher.matchKey(new CovariateValue.StringValue("eu"))).contains("eu");
+        }
+
+        @Test
+        @DisplayName("case-insensitive keys are equal exactly when values conform")
+        void caseInsensitiveKeysEqualWhenConforming() {
+            var matcher = new ExactStringMatcher(false);
+            var upper = new CovariateValue.StringValue("EUROPE");
+            var mixed = new CovariateValue.StringValue("Europe");
+            var sharpS = new CovariateValue.StringValue("stra\u00dfe");
+            var doubleS = new CovariateValue.StringValue("strasse");
+
+            assertThat(matcher.matchKey(upper)).isEqualTo(matcher.matchKey(mixed));
+            assertThat(matcher.match(sharpS, doubleS)).isEqualTo(MatchResult.DOES_NOT_CONFORM);
+            assertThat(matcher.matchKey(sharpS)).isNotEqualTo(matcher.matchKey(doubleS));
+        }
+
+        @Test
+        @DisplayName("undefined values have no key")
+        void undefinedValuesHaveNoKey() {
+            var matcher = new ExactStringMatcher();
+
+            assertThat(matcher.matchKey(new CovariateValue.StringValue(CovariateProfile.UNDEFINED))).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("default constructor")
     class DefaultConstructorTests {
@@ -344,4 +344,43 @@ class TimeOfDayResolverTest {
             assertThat(result.toCanonicalString()).isEqualTo("00:00/24h");
         }
     }
+
+    @Nested
+    @DisplayName("next boundary")
+    class NextBoundary {
+
+        private final TimeOfDayResolver resolver = new TimeOfDayResolver(List.of(
+            new TimePeriodDefinition(LocalTime.of(8, 0), 120),
+            new TimePeriodDefinition(LocalTime.of(16, 0), 180)
+        ));
+
+        @Test
+        @DisplayName("is the end of the current period")
+        void isEndOfCurrentPeriod() {
+            assertThat(resolver.nextBoundary(contextAt("2026-01-10T09:00:00Z")))
+                .isEqualTo(Instant.parse("2026-01-10T10:00:00Z"));
+        }
+
+        @Test
+        @DisplayName("is the start of the next period when between periods")
+        void isStartOfNextPeriod() {
+            assertThat(resolver.nextBoundary(contextAt("2026-01-10T10:00:00Z")))
+                .isEqualTo(Instant.parse("2026-01-10T16:00:00Z"));
+        }
+
+        @Test
+        @DisplayName("is the next midnight after the last period")
+        void isNextMidnightAfterLastPeriod() {
+            assertThat(resolver.nextBoundary(contextAt("2026-01-10T20:00:00Z")))
+                .isEqualTo(Instant.parse("2026-01-11T00:00:00Z"));
+            assertThat(resolver.validity()).isEqualTo(CovariateValidity.UNTIL_NEXT_BOUNDARY);
+        }
+
+        private DefaultCovariateResolutionContext contextAt(String instant) {
+            return DefaultCovariateResolutionContext.builder()
+                .now(Instant.parse(instant))
+                .systemTimezone(ZoneId.of("UTC"))
+                .build();
+        }
+    }
 }
@@ -0,0 +1,144 @@
+package org.javai.punit.spec.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import org.javai.punit.spec.model.ExecutionSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("SpecificationCache")
+class SpecificationCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final SpecificationCache cache = new SpecificationCache();
+
+    private String createV2Yaml(String specId, int samples, int successes) {
+        double successRate = (double) successes / samples;
+        StringBuilder sb = new StringBuilder();
+        sb.append("schemaVersion: punit-spec-2\n");
+        sb.append("specId: ").append(specId).append("\n");
+        sb.append("useCaseId: ").append(specId).append("\n");
+        sb.append("generatedAt: 2026-01-09T10:00:00Z\n");
+        sb.append("\n");
+        sb.append("execution:\n");
+        sb.append("  samplesPlanned: ").append(samples).append("\n");
+        sb.append("  samplesExecuted: ").append(samples).append("\n");
+        sb.append("  terminationReason: COMPLETED\n");
+        sb.append("\n");
+        sb.append("statistics:\n");
+        sb.append("  successRate:\n");
+        sb.append("    observed: ").append(String.format("%.4f", successRate)).append("\n");
+        sb.append("    standardError: 0.01\n");
+        sb.append("    confidenceInterval95: [").append(String.format("%.4f", successRate - 0.02))
+                .append(", ").append(String.format("%.4f", successRate + 0.02)).append("]\n");
+        sb.append("  successes: ").append(successes).append("\n");
+        sb.append("  failures: ").append(samples - successes).append("\n");
+        sb.append("\n");
+        sb.append("cost:\n");
+        sb.append("  totalTimeMs: ").append(samples * 10).append("\n");
+        sb.append("  avgTimePerSampleMs: 10\n");
+        sb.append("  totalTokens: ").append(samples * 100).append("\n");
+        sb.append("  avgTokensPerSample: 100\n");
+        sb.append("\n");
+        sb.append("empiricalBasis:\n");
+        sb.append("  samples: ").append(samples).append("\n");
+        sb.append("  successes: ").append(successes).append("\n");
+        sb.append("  generatedAt: 2026-01-09T10:00:00Z\n");
+        sb.append("\n");
+        sb.append("requirements:\n");
+        sb.append("  minPassRate: 0.85\n");
+        String fingerprint = SpecificationLoader.computeFingerprint(sb.toString());
+        sb.append("contentFingerprint: ").append(fingerprint).append("\n");
+        return sb.toString();
+    }
+
+    private Path writeSpec(String specId, int samples, int successes) throws IOException {
+        Path path = tempDir.resolve(specId + ".yaml");
+        Files.writeString(path, createV2Yaml(specId, samples, successes));
+        return path;
+    }
+
+    @Test
+    @DisplayName("returns the cached spec while the file is unchanged")
+    void reusesCachedSpec() throws IOException {
+        Path path = writeSpec("CachedCase", 100, 90);
+
+        ExecutionSpecification first = cache.load(path);
+        ExecutionSpecification second = cache.load(path);
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.isCached(path)).isTrue();
+    }
+
+    @Test
+    @DisplayName("treats equivalent paths as the same file")
+    void normalizesPaths() throws IOException {
+        Path path = writeSpec("NormalizedCase", 100, 90);
+
+        ExecutionSpecification first = cache.load(path);
+        ExecutionSpecification second = cache.load(tempDir.resolve("sub/../NormalizedCase.yaml"));
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("reloads the spec after the file changes")
+    void reloadsModifiedSpec() throws IOException {
+        Path path = writeSpec("ChangedCase", 100, 90);
+        ExecutionSpecification first = cache.load(path);
+
+        writeSpec("ChangedCase", 200, 180);
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().plusSeconds(60)));
+        ExecutionSpecification second = cache.load(path);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getEmpiricalBasis().samples()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("does not cache a failed load")
+    void doesNotCacheFailures() throws IOException {
+        Path path = tempDir.resolve("BrokenCase.yaml");
+        Files.writeString(path, "schemaVersion: punit-spec-2\nuseCaseId: BrokenCase\n");
+
+        assertThatThrownBy(() -> cache.load(path)).isInstanceOf(SpecificationIntegrityException.class);
+        assertThat(cache.isCached(path)).isFalse();
+
+        writeSpec("BrokenCase", 100, 90);
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().plusSeconds(60)));
+        assertThat(cache.load(path).getUseCaseId()).isEqualTo("BrokenCase");
+    }
+
+    @Test
+    @DisplayName("invalidate forgets one file's spec")
+    void invalidateForgetsSpec() throws IOException {
+        Path path = writeSpec("InvalidatedCase", 100, 90);
+        Path other = writeSpec("KeptCase", 100, 90);
+        ExecutionSpecification first = cache.load(path);
+        cache.load(other);
+
+        cache.invalidate(path);
+
+        assertThat(cache.isCached(other)).isTrue();
+        assertThat(cache.load(path)).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("clear forgets all cached specs")
+    void clearForgetsSpecs() throws IOException {
+        Path path = writeSpec("ClearedCase", 100, 90);
+        cache.load(path);
+
+        cache.clear();
+
+        assertThat(cache.isCached(path)).isFalse();
+    }
+}
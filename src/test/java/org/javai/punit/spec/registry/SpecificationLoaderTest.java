@@ -699,4 +699,112 @@ class SpecificationLoaderTest {
                     .hasMessageContaining("invalid minPassRate");
         }
     }
+
+    @Nested
+    @DisplayName("YAML reading")
+    class YamlReading {
+
+        private String withFingerprint(String content) {
+            return content + "contentFingerprint: " + computeFingerprint(content) + "\n";
+        }
+
+        private String withResultProjection(String projectionContent) {
+            return createV2Yaml("TestCase", 100, 90).replaceFirst("contentFingerprint: .*\n", "")
+                    + "resultProjection:\n"
+                    + "  sample[0]:\n"
+                    + "    input: query\n"
+                    + "    content: |\n"
+                    + projectionContent.lines().map(line -> "      " + line + "\n").reduce("", String::concat);
+        }
+
+        @Test
+        @DisplayName("ignores inline comments after values")
+        void ignoresInlineComments() {
+            String yaml = withFingerprint("""
+                    schemaVersion: punit-spec-2
+                    useCaseId: TestCase
+                    requirements:
+                      minPassRate: 0.8814  # Derived from CI lower bound
+                    """);
+
+            ExecutionSpecification spec = SpecificationLoader.parseYaml(yaml);
+
+            assertThat(spec.getMinPassRate()).isEqualTo(0.8814);
+        }
+
+        @Test
+        @DisplayName("reads block scalar values in full")
+        void readsBlockScalars() {
+            String yaml = withFingerprint("""
+                    schemaVersion: punit-spec-1
+                    useCaseId: TestCase
+                    approvedBy: tester
+                    approvalNotes: |
+                      Reviewed against the
+                      March incident data
+                    requirements:
+                      minPassRate: 0.9
+                    """);
+
+            ExecutionSpecification spec = SpecificationLoader.parseYaml(yaml);
+
+            assertThat(spec.getApprovalNotes()).isEqualTo("Reviewed against the\nMarch incident data\n");
+        }
+
+        @Test
+        @DisplayName("reads covariate keys that are not identifiers")
+        void readsNonIdentifierCovariateKeys() {
+            String yaml = withFingerprint("""
+                    schemaVersion: punit-spec-2
+                    useCaseId: TestCase
+                    covariates:
+                      llm.model: "gpt-4o"
+                      time-of-day: "08:00/2h"
+                    requirements:
+                      minPassRate: 0.9
+                    """);
+
+            ExecutionSpecification spec = SpecificationLoader.parseYaml(yaml);
+
+            assertThat(spec.getCovariateProfile().get("llm.model").toCanonicalString()).isEqualTo("gpt-4o");
+            assertThat(spec.getCovariateProfile().get("time-of-day").toCanonicalString()).isEqualTo("08:00/2h");
+        }
+
+        @Test
+        @DisplayName("fingerprints result projections without interpreting their content")
+        void fingerprintsResultProjections() {
+            String yaml = withFingerprint(withResultProjection("""
+                    contentFingerprint: not-the-real-one
+                    - [unbalanced: {
+                    """));
+
+            ExecutionSpecification spec = SpecificationLoader.parseYaml(yaml);
+
+            assertThat(spec.getEmpiricalBasis().samples()).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("detects tampering in result projections")
+        void detectsTamperedResultProjections() {
+            String yaml = withFingerprint(withResultProjection("{\"price\": 10}"))
+                    .replace("\"price\": 10", "\"price\": 99");
+
+            assertThatThrownBy(() -> SpecificationLoader.parseYaml(yaml))
+                    .isInstanceOf(SpecificationIntegrityException.class)
+                    .hasMessageContaining("fingerprint mismatch");
+        }
+
+        @Test
+        @DisplayName("rejects content that is not well-formed YAML")
+        void rejectsMalformedYaml() {
+            String yaml = withFingerprint("""
+                    schemaVersion: punit-spec-2
+                    useCaseId: [TestCase
+                    """);
+
+            assertThatThrownBy(() -> SpecificationLoader.parseYaml(yaml))
+                    .isInstanceOf(SpecificationIntegrityException.class)
+                    .hasMessageContaining("not well-formed YAML");
+        }
+    }
 }
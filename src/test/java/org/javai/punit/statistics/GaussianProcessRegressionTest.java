@@ -0,0 +1,117 @@
+package org.javai.punit.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import org.javai.punit.statistics.GaussianProcessRegression.Prediction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link GaussianProcessRegression}.
+ */
+@DisplayName("GaussianProcessRegression")
+class GaussianProcessRegressionTest {
+
+    @Nested
+    @DisplayName("Fitting")
+    class Fitting {
+
+        @Test
+        @DisplayName("reproduces noiseless observations at the observed inputs")
+        void interpolatesObservations() {
+            double[] x = {0.0, 0.25, 0.5, 0.75, 1.0};
+            double[] y = new double[x.length];
+            for (int i = 0; i < x.length; i++) {
+                y[i] = Math.sin(3 * x[i]);
+            }
+
+            GaussianProcessRegression model = GaussianProcessRegression.fit(x, y);
+
+            for (int i = 0; i < x.length; i++) {
+                assertThat(model.predict(x[i]).mean()).isCloseTo(y[i], within(0.05));
+            }
+        }
+
+        @Test
+        @DisplayName("is less certain away from the observations")
+        void uncertaintyGrowsAwayFromData() {
+            GaussianProcessRegression model = GaussianProcessRegression.fit(
+                    new double[] {0.0, 0.1, 0.2}, new double[] {0.5, 0.6, 0.55});
+
+            double near = model.predict(0.1).standardDeviation();
+            double far = model.predict(0.9).standardDeviation();
+
+            assertThat(far).isGreaterThan(near);
+        }
+
+        @Test
+        @DisplayName("fits a single observation")
+        void fitsSingleObservation() {
+            GaussianProcessRegression model = GaussianProcessRegression.fit(new double[] {0.5}, new double[] {0.8});
+
+            assertThat(model.predict(0.5).mean()).isCloseTo(0.8, within(1e-6));
+        }
+
+        @Test
+        @DisplayName("accepts repeated inputs with different scores")
+        void toleratesRepeatedInputs() {
+            GaussianProcessRegression model = GaussianProcessRegression.fit(
+                    new double[] {0.3, 0.3, 0.7}, new double[] {0.6, 0.7, 0.2});
+
+            assertThat(model.predict(0.3).mean()).isBetween(0.55, 0.75);
+        }
+
+        @Test
+        @DisplayName("rejects mismatched inputs and scores")
+        void rejectsMismatchedArrays() {
+            assertThatThrownBy(() -> GaussianProcessRegression.fit(new double[] {0.1, 0.2}, new double[] {0.5}))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> GaussianProcessRegression.fit(new double[0], new double[0]))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Expected improvement")
+    class ExpectedImprovement {
+
+        @Test
+        @DisplayName("is the plain improvement when there is no uncertainty")
+        void certainPrediction() {
+            assertThat(GaussianProcessRegression.expectedImprovement(new Prediction(0.9, 0), 0.8, 0))
+                    .isCloseTo(0.1, within(1e-12));
+            assertThat(GaussianProcessRegression.expectedImprovement(new Prediction(0.7, 0), 0.8, 0))
+                    .isZero();
+        }
+
+        @Test
+        @DisplayName("is σ·φ(0) at the best score")
+        void atBestScore() {
+            double ei = GaussianProcessRegression.expectedImprovement(new Prediction(0.8, 0.1), 0.8, 0);
+
+            assertThat(ei).isCloseTo(0.1 / Math.sqrt(2 * Math.PI), within(1e-12));
+        }
+
+        @Test
+        @DisplayName("rewards uncertainty as well as a higher mean")
+        void rewardsUncertainty() {
+            double certain = GaussianProcessRegression.expectedImprovement(new Prediction(0.75, 0.01), 0.8, 0);
+            double uncertain = GaussianProcessRegression.expectedImprovement(new Prediction(0.75, 0.2), 0.8, 0);
+            double higher = GaussianProcessRegression.expectedImprovement(new Prediction(0.85, 0.01), 0.8, 0);
+
+            assertThat(uncertain).isGreaterThan(certain);
+            assertThat(higher).isGreaterThan(certain);
+        }
+
+        @Test
+        @DisplayName("shrinks as the exploration margin grows")
+        void explorationMargin() {
+            Prediction prediction = new Prediction(0.85, 0.05);
+
+            assertThat(GaussianProcessRegression.expectedImprovement(prediction, 0.8, 0.05))
+                    .isLessThan(GaussianProcessRegression.expectedImprovement(prediction, 0.8, 0));
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.javai.punit.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import java.util.concurrent.ForkJoinPool;
+import org.apache.commons.statistics.distribution.BinomialDistribution;
+import org.javai.punit.statistics.OperatingCharacteristicsSimulator.OperatingCharacteristics;
+import org.javai.punit.statistics.OperatingCharacteristicsSimulator.SimulationResult;
+import org.javai.punit.statistics.OperatingCharacteristicsSimulator.TestDesign;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OperatingCharacteristicsSimulator")
+class OperatingCharacteristicsSimulatorTest {
+
+    private final OperatingCharacteristicsSimulator simulator = new OperatingCharacteristicsSimulator();
+
+    @Nested
+    @DisplayName("TestDesign")
+    class Designs {
+
+        @Test
+        @DisplayName("fixed threshold requires the ceiling of n × minPassRate")
+        void fixedThresholdUsesCeiling() {
+            TestDesign design = TestDesign.fixedThreshold(100, 0.905, true);
+
+            assertThat(design.isDerived()).isFalse();
+            assertThat(design.requiredSuccesses()).containsExactly(91);
+        }
+
+        @Test
+        @DisplayName("derived threshold tabulates the Wilson lower bound for every baseline outcome")
+        void derivedThresholdTabulatesLowerBound() {
+            TestDesign design = TestDesign.derivedFromBaseline(200, 50, 0.95, false);
+            ThresholdDeriver deriver = new ThresholdDeriver();
+
+            int[] required = design.requiredSuccesses();
+            assertThat(required).hasSize(201);
+            double threshold = deriver.deriveSampleSizeFirst(200, 180, 50, 0.95).value();
+            assertThat(required[180]).isEqualTo((int) Math.ceil(50 * threshold));
+            for (int k = 1; k <= 200; k++) {
+                assertThat(required[k]).isGreaterThanOrEqualTo(required[k - 1]);
+            }
+        }
+
+        @Test
+        @DisplayName("rejects invalid parameters")
+        void rejectsInvalidParameters() {
+            assertThatThrownBy(() -> TestDesign.fixedThreshold(0, 0.9, true))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> TestDesign.fixedThreshold(100, 1.5, true))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> TestDesign.derivedFromBaseline(0, 100, 0.95, true))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("fixed threshold")
+    class FixedThreshold {
+
+        @Test
+        @DisplayName("pass rate matches the exact binomial tail")
+        void passRateMatchesBinomialTail() {
+            TestDesign design = TestDesign.fixedThreshold(50, 0.9, false);
+
+            SimulationResult result = simulator.simulate(design, Double.NaN, 0.92, 200_000, 7L);
+
+            // P(X >= 45) for X ~ Bin(50, 0.92)
+            double exact = BinomialDistribution.of(50, 0.92).survivalProbability(44);
+            assertThat(result.passRate()).isCloseTo(exact, within(5 * result.standardError()));
+            assertThat(result.meanSamples()).isEqualTo(50.0);
+        }
+
+        @Test
+        @DisplayName("early termination saves samples without changing the verdict")
+        void earlyTerminationIsLossless() {
+            TestDesign full = TestDesign.fixedThreshold(100, 0.8, false);
+            TestDesign early = TestDesign.fixedThreshold(100, 0.8, true);
+
+            SimulationResult withoutEarly = simulator.simulate(full, Double.NaN, 0.8, 100_000, 11L);
+            SimulationResult withEarly = simulator.simulate(early, Double.NaN, 0.8, 100_000, 11L);
+
+            assertThat(withEarly.passes()).isEqualTo(withoutEarly.passes());
+            assertThat(withEarly.meanSamples()).isLessThan(withoutEarly.meanSamples());
+        }
+
+        @Test
+        @DisplayName("degenerate rates always pass or always fail")
+        void degenerateRates() {
+            TestDesign design = TestDesign.fixedThreshold(20, 0.5, true);
+
+            assertThat(simulator.simulate(design, Double.NaN, 1.0, 1_000, 1L).passRate()).isEqualTo(1.0);
+            assertThat(simulator.simulate(design, Double.NaN, 0.0, 1_000, 1L).passRate()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("derived threshold")
+    class DerivedFromBaseline {
+
+        @Test
+        @DisplayName("pass rate matches the binomial tail averaged over baseline outcomes")
+        void passRateMatchesBaselineMixture() {
+            TestDesign design = TestDesign.derivedFromBaseline(1000, 100, 0.95, true);
+
+            OperatingCharacteristics oc = simulator.characterise(design, 0.95, 0.85, 100_000, 3L);
+
+            assertThat(oc.acceptable().passRate())
+                    .isCloseTo(exactPassRate(design, 0.95, 0.95), within(5 * oc.acceptable().standardError()));
+            assertThat(oc.degraded().passRate())
+                    .isCloseTo(exactPassRate(design, 0.95, 0.85), within(5 * oc.degraded().standardError()));
+        }
+
+        @Test
+        @DisplayName("reveals a false positive rate well above the threshold's nominal alpha")
+        void falsePositiveRateExceedsNominal() {
+            // The Wilson bound covers baseline uncertainty only; the test's own sampling
+            // noise adds to it, so a 95% threshold fails healthy systems far more than 5%
+            TestDesign design = TestDesign.derivedFromBaseline(1000, 100, 0.95, true);
+
+            OperatingCharacteristics oc = simulator.characterise(design, 0.95, 0.85, 100_000, 3L);
+
+            assertThat(oc.falsePositiveRate()).isGreaterThan(0.05);
+            assertThat(oc.falseNegativeRate()).isLessThan(0.05);
+            assertThat(oc.degraded().meanSamples()).isLessThan(oc.acceptable().meanSamples());
+        }
+
+        private double exactPassRate(TestDesign design, double baselineRate, double trueRate) {
+            BinomialDistribution baseline = BinomialDistribution.of(design.baselineSamples(), baselineRate);
+            BinomialDistribution test = BinomialDistribution.of(design.samples(), trueRate);
+            int[] required = design.requiredSuccesses();
+            double pass = 0.0;
+            for (int k = 0; k <= design.baselineSamples(); k++) {
+                pass += baseline.probability(k) * test.survivalProbability(required[k] - 1);
+            }
+            return pass;
+        }
+    }
+
+    @Nested
+    @DisplayName("execution")
+    class Execution {
+
+        @Test
+        @DisplayName("results are reproducible regardless of pool parallelism")
+        void reproducibleAcrossPools() {
+            TestDesign design = TestDesign.derivedFromBaseline(300, 80, 0.95, true);
+            long runs = 5 * OperatingCharacteristicsSimulator.LEAF_RUNS + 17;
+
+            ForkJoinPool single = new ForkJoinPool(1);
+            try {
+                SimulationResult serial = new OperatingCharacteristicsSimulator(single)
+                        .simulate(design, 0.9, 0.88, runs, 42L);
+                SimulationResult parallel = simulator.simulate(design, 0.9, 0.88, runs, 42L);
+
+                assertThat(parallel).isEqualTo(serial);
+                assertThat(parallel.runs()).isEqualTo(runs);
+            } finally {
+                single.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("rejects invalid rates and run counts")
+        void rejectsInvalidArguments() {
+            TestDesign design = TestDesign.fixedThreshold(10, 0.5, true);
+
+            assertThatThrownBy(() -> simulator.simulate(design, Double.NaN, 1.2, 10, 1L))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> simulator.simulate(design, Double.NaN, 0.5, 0, 1L))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
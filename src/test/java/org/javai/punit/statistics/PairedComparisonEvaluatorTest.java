@@ -0,0 +1,164 @@
+package org.javai.punit.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import org.javai.punit.statistics.PairedComparisonEvaluator.PairedCounts;
+import org.javai.punit.statistics.PairedComparisonEvaluator.PairedDecision;
+import org.javai.punit.statistics.PairedComparisonEvaluator.Verdict;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PairedComparisonEvaluator")
+class PairedComparisonEvaluatorTest {
+
+    @Nested
+    @DisplayName("McNemar p-value")
+    class McNemar {
+
+        @Test
+        @DisplayName("is 1 without discordant pairs")
+        void oneWithoutDiscordantPairs() {
+            assertThat(PairedComparisonEvaluator.mcnemarPValue(0, 0)).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("matches the exact binomial tail")
+        void matchesBinomialTail() {
+            // P(X <= 0) for X ~ Bin(10, 0.5) = 1/1024, doubled
+            assertThat(PairedComparisonEvaluator.mcnemarPValue(0, 10)).isCloseTo(2.0 / 1024, within(1e-12));
+            // P(X <= 1) for X ~ Bin(5, 0.5) = 6/32, doubled
+            assertThat(PairedComparisonEvaluator.mcnemarPValue(4, 1)).isCloseTo(12.0 / 32, within(1e-12));
+        }
+
+        @Test
+        @DisplayName("is symmetric and capped at 1")
+        void symmetricAndCapped() {
+            assertThat(PairedComparisonEvaluator.mcnemarPValue(3, 7))
+                    .isEqualTo(PairedComparisonEvaluator.mcnemarPValue(7, 3));
+            assertThat(PairedComparisonEvaluator.mcnemarPValue(5, 5)).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("looks")
+    class Looks {
+
+        @Test
+        @DisplayName("are spaced at a tenth of the maximum, at least ten pairs apart")
+        void spacing() {
+            PairedComparisonEvaluator evaluator = new PairedComparisonEvaluator(0.95, 0.0, 500);
+            assertThat(evaluator.lookInterval()).isEqualTo(50);
+            assertThat(evaluator.looks()).isEqualTo(10);
+            assertThat(evaluator.perLookAlpha()).isCloseTo(0.005, within(1e-12));
+
+            PairedComparisonEvaluator small = new PairedComparisonEvaluator(0.95, 0.0, 35);
+            assertThat(small.lookInterval()).isEqualTo(10);
+            assertThat(small.looks()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("include the final pair")
+        void includeFinalPair() {
+            PairedComparisonEvaluator evaluator = new PairedComparisonEvaluator(0.95, 0.0, 35);
+            assertThat(evaluator.isLook(9)).isFalse();
+            assertThat(evaluator.isLook(10)).isTrue();
+            assertThat(evaluator.isLook(35)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("evaluate")
+    class Evaluate {
+
+        @Test
+        @DisplayName("finds the candidate better when discordant pairs favour it")
+        void candidateBetter() {
+            PairedComparisonEvaluator evaluator = new PairedComparisonEvaluator(0.95, 0.0, 200);
+            PairedDecision decision = evaluator.evaluate(new PairedCounts(10, 0, 10, 0));
+
+            assertThat(decision.verdict()).isEqualTo(Verdict.CANDIDATE_BETTER);
+            assertThat(decision.stop()).isTrue();
+            assertThat(decision.lowerBound()).isPositive();
+        }
+
+        @Test
+        @DisplayName("finds the candidate worse when discordant pairs favour the baseline")
+        void candidateWorse() {
+            PairedComparisonEvaluator evaluator = new PairedComparisonEvaluator(0.95, 0.0, 200);
+            PairedDecision decision = evaluator.evaluate(new PairedCounts(5, 15, 0, 0));
+
+            assertThat(decision.verdict()).isEqualTo(Verdict.CANDIDATE_WORSE);
+            assertThat(decision.upperBound()).isNegative();
+        }
+
+        @Test
+        @DisplayName("continues when the evidence is weak")
+        void continuesWhenWeak() {
+            PairedComparisonEvaluator evaluator = new PairedComparisonEvaluator(0.95, 0.0, 200);
+            PairedDecision decision = evaluator.evaluate(new PairedCounts(15, 2, 3, 0));
+
+            assertThat(decision.verdict()).isEqualTo(Verdict.INCONCLUSIVE);
+            assertThat(decision.stop()).isFalse();
+        }
+
+        @Test
+        @DisplayName("declares equivalence only once the interval fits within the margin")
+        void equivalence() {
+            PairedComparisonEvaluator evaluator = new PairedComparisonEvaluator(0.95, 0.1, 200);
+
+            assertThat(evaluator.evaluate(new PairedCounts(20, 0, 0, 0)).verdict())
+                    .isEqualTo(Verdict.INCONCLUSIVE);
+            assertThat(evaluator.evaluate(new PairedCounts(40, 0, 0, 0)).verdict())
+                    .isEqualTo(Verdict.EQUIVALENT);
+        }
+
+        @Test
+        @DisplayName("does not test equivalence without a margin")
+        void noEquivalenceWithoutMargin() {
+            PairedComparisonEvaluator evaluator = new PairedComparisonEvaluator(0.95, 0.0, 200);
+            assertThat(evaluator.evaluate(new PairedCounts(200, 0, 0, 0)).verdict())
+                    .isEqualTo(Verdict.INCONCLUSIVE);
+        }
+
+        @Test
+        @DisplayName("stops without a verdict once all pairs have run")
+        void stopsAtMaximum() {
+            PairedComparisonEvaluator evaluator = new PairedComparisonEvaluator(0.95, 0.0, 20);
+            PairedDecision decision = evaluator.evaluate(new PairedCounts(18, 1, 1, 0));
+
+            assertThat(decision.verdict()).isEqualTo(Verdict.INCONCLUSIVE);
+            assertThat(decision.stop()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("PairedCounts")
+    class Counts {
+
+        @Test
+        @DisplayName("derives the arm pass rates and their difference")
+        void rates() {
+            PairedCounts counts = new PairedCounts(6, 1, 3, 0);
+            assertThat(counts.pairs()).isEqualTo(10);
+            assertThat(counts.baselineRate()).isCloseTo(0.7, within(1e-12));
+            assertThat(counts.candidateRate()).isCloseTo(0.9, within(1e-12));
+            assertThat(counts.difference()).isCloseTo(0.2, within(1e-12));
+        }
+
+        @Test
+        @DisplayName("rejects negative counts")
+        void rejectsNegative() {
+            assertThatThrownBy(() -> new PairedCounts(-1, 0, 0, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("rejects an invalid margin")
+    void rejectsInvalidMargin() {
+        assertThatThrownBy(() -> new PairedComparisonEvaluator(0.95, 1.0, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
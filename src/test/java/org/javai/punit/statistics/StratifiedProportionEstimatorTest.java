@@ -0,0 +1,175 @@
+package org.javai.punit.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import java.util.List;
+import org.javai.punit.statistics.StratifiedProportionEstimator.StratifiedEstimate;
+import org.javai.punit.statistics.StratifiedProportionEstimator.StratumCounts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link StratifiedProportionEstimator}.
+ */
+@DisplayName("StratifiedProportionEstimator")
+class StratifiedProportionEstimatorTest {
+
+    private final StratifiedProportionEstimator estimator = new StratifiedProportionEstimator();
+
+    @Nested
+    @DisplayName("Point estimate: p̂_st = Σ W_h × p̂_h")
+    class PointEstimate {
+
+        @Test
+        @DisplayName("weights stratum rates by population share, not by trials")
+        void weightsByPopulationShare() {
+            // 90% of inputs always pass, 10% always fail, but the failing stratum got most trials
+            StratifiedEstimate estimate = estimator.estimate(List.of(
+                    new StratumCounts("common", 0.9, 10, 10),
+                    new StratumCounts("rare", 0.1, 0, 90)
+            ), 0.95);
+
+            assertThat(estimate.pointEstimate()).isCloseTo(0.9, within(1e-9));
+            assertThat(estimate.totalTrials()).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("renormalises weights over strata with trials")
+        void renormalisesOverSampledStrata() {
+            StratifiedEstimate estimate = estimator.estimate(List.of(
+                    new StratumCounts("a", 0.25, 8, 10),
+                    new StratumCounts("b", 0.25, 4, 10),
+                    new StratumCounts("c", 0.5, 0, 0)
+            ), 0.95);
+
+            assertThat(estimate.pointEstimate()).isCloseTo(0.6, within(1e-9));
+            assertThat(estimate.sampledStrata()).extracting(StratumCounts::key)
+                    .containsExactly("a", "b");
+        }
+
+        @Test
+        @DisplayName("reports the strata it could not cover")
+        void reportsUnsampledStrata() {
+            StratifiedEstimate estimate = estimator.estimate(List.of(
+                    new StratumCounts("a", 0.25, 2, 2),
+                    new StratumCounts("b", 0.25, 0, 0),
+                    new StratumCounts("c", 0.5, 0, 0)
+            ), 0.95);
+
+            assertThat(estimate.unsampledStrata()).extracting(StratumCounts::key)
+                    .containsExactly("b", "c");
+            assertThat(estimate.unsampledWeight()).isCloseTo(0.75, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("matches the pooled rate for a single stratum")
+        void singleStratumMatchesPooledRate() {
+            StratifiedEstimate estimate = estimator.estimate(List.of(
+                    new StratumCounts("all", 1.0, 75, 100)
+            ), 0.95);
+
+            assertThat(estimate.pointEstimate()).isCloseTo(0.75, within(1e-9));
+        }
+    }
+
+    @Nested
+    @DisplayName("Confidence interval")
+    class ConfidenceInterval {
+
+        @Test
+        @DisplayName("brackets the point estimate")
+        void bracketsPointEstimate() {
+            StratifiedEstimate estimate = estimator.estimate(List.of(
+                    new StratumCounts("a", 0.5, 40, 50),
+                    new StratumCounts("b", 0.5, 30, 50)
+            ), 0.95);
+
+            assertThat(estimate.lowerBound()).isLessThan(estimate.pointEstimate());
+            assertThat(estimate.upperBound()).isGreaterThan(estimate.pointEstimate());
+            assertThat(estimate.confidenceLevel()).isEqualTo(0.95);
+        }
+
+        @Test
+        @DisplayName("keeps a non-zero width when every trial passed")
+        void nonZeroWidthAtPerfectRate() {
+            StratifiedEstimate estimate = estimator.estimate(List.of(
+                    new StratumCounts("a", 1.0, 20, 20)
+            ), 0.95);
+
+            assertThat(estimate.standardError()).isPositive();
+            assertThat(estimate.lowerBound()).isLessThan(1.0);
+            assertThat(estimate.upperBound()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("narrows as trials increase")
+        void narrowsWithMoreTrials() {
+            StratifiedEstimate small = estimator.estimate(List.of(
+                    new StratumCounts("a", 0.5, 8, 10), new StratumCounts("b", 0.5, 5, 10)), 0.95);
+            StratifiedEstimate large = estimator.estimate(List.of(
+                    new StratumCounts("a", 0.5, 80, 100), new StratumCounts("b", 0.5, 50, 100)), 0.95);
+
+            assertThat(large.upperBound() - large.lowerBound())
+                    .isLessThan(small.upperBound() - small.lowerBound());
+        }
+    }
+
+    @Nested
+    @DisplayName("Neyman allocation")
+    class NeymanAllocation {
+
+        @Test
+        @DisplayName("favours strata with uncertain outcomes")
+        void favoursUncertainStrata() {
+            double[] shares = estimator.neymanShares(List.of(
+                    new StratumCounts("stable", 0.5, 20, 20),
+                    new StratumCounts("flaky", 0.5, 10, 20)
+            ));
+
+            assertThat(shares[1]).isGreaterThan(shares[0]);
+            assertThat(shares[0] + shares[1]).isCloseTo(1.0, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("follows population weights when strata look alike")
+        void followsWeightsForSimilarStrata() {
+            double[] shares = estimator.neymanShares(List.of(
+                    new StratumCounts("a", 0.75, 5, 10),
+                    new StratumCounts("b", 0.25, 5, 10)
+            ));
+
+            assertThat(shares[0]).isCloseTo(0.75, within(1e-9));
+            assertThat(shares[1]).isCloseTo(0.25, within(1e-9));
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("rejects estimates without any trials")
+        void rejectsNoTrials() {
+            assertThatThrownBy(() -> estimator.estimate(List.of(
+                    new StratumCounts("a", 1.0, 0, 0)), 0.95))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("rejects invalid counts")
+        void rejectsInvalidCounts() {
+            assertThatThrownBy(() -> new StratumCounts("a", 0.5, 6, 5))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("rejects confidence levels outside (0, 1)")
+        void rejectsInvalidConfidence() {
+            assertThatThrownBy(() -> estimator.estimate(List.of(
+                    new StratumCounts("a", 1.0, 1, 2)), 1.0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.javai.punit.testsubjects;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.javai.outcome.Outcome;
+import org.javai.punit.api.CompareExperiment;
+import org.javai.punit.api.Factor;
+import org.javai.punit.api.FactorArguments;
+import org.javai.punit.api.FactorSource;
+import org.javai.punit.api.InputSource;
+import org.javai.punit.api.OutcomeCaptor;
+import org.javai.punit.contract.ServiceContract;
+import org.javai.punit.contract.UseCaseOutcome;
+
+/**
+ * Test subject classes for {@code @CompareExperiment}.
+ * These classes are used by CompareExperimentIntegrationTest via TestKit
+ * and are NOT meant to be run directly.
+ */
+public class CompareExperimentSubjects {
+
+    // Prevent instantiation
+    private CompareExperimentSubjects() {}
+
+    private static final ServiceContract<Void, String> NOT_NULL = ServiceContract
+            .<Void, String>define()
+            .ensure("Not null", s -> s != null ? Outcome.ok() : Outcome.fail("check", "was null"))
+            .build();
+
+    private static UseCaseOutcome<String> outcome(boolean pass) {
+        return new UseCaseOutcome<>(
+                pass ? "ok" : null,
+                Duration.ofMillis(1),
+                Instant.now(),
+                Map.of(),
+                NOT_NULL,
+                null,
+                null,
+                null
+        );
+    }
+
+    static Stream<FactorArguments> upgrade() {
+        return FactorArguments.configurations()
+                .names("model")
+                .values("old")
+                .values("new")
+                .stream();
+    }
+
+    /**
+     * The baseline fails every other pair; the candidate always passes.
+     */
+    public static class CandidateBetter {
+        public static final List<String> invocations = new ArrayList<>();
+
+        @CompareExperiment(samples = 200)
+        @FactorSource("org.javai.punit.testsubjects.CompareExperimentSubjects#upgrade")
+        void compare(@Factor("model") String model, OutcomeCaptor captor) {
+            invocations.add(model);
+            boolean pass = model.equals("new") || invocations.size() % 4 != 1;
+            captor.record(outcome(pass));
+        }
+    }
+
+    /**
+     * Both arms always pass.
+     */
+    public static class Equivalent {
+        public static final List<String> invocations = new ArrayList<>();
+
+        @CompareExperiment(samples = 200, margin = 0.1)
+        @FactorSource("org.javai.punit.testsubjects.CompareExperimentSubjects#upgrade")
+        void compare(@Factor("model") String model, OutcomeCaptor captor) {
+            invocations.add(model);
+            captor.record(outcome(true));
+        }
+    }
+
+    /**
+     * Both arms always pass and no margin is set, so no verdict can be reached.
+     */
+    public static class Inconclusive {
+        public static final List<String> invocations = new ArrayList<>();
+
+        @CompareExperiment(samples = 10)
+        @FactorSource("org.javai.punit.testsubjects.CompareExperimentSubjects#upgrade")
+        void compare(@Factor("model") String model, OutcomeCaptor captor) {
+            invocations.add(model);
+            captor.record(outcome(true));
+        }
+    }
+
+    /**
+     * Records which input each arm received.
+     */
+    public static class WithInputs {
+        public static final List<String> invocations = new ArrayList<>();
+
+        static Stream<String> queries() {
+            return Stream.of("a", "b", "c");
+        }
+
+        @CompareExperiment(samples = 10)
+        @FactorSource("org.javai.punit.testsubjects.CompareExperimentSubjects#upgrade")
+        @InputSource("queries")
+        void compare(@Factor("model") String model, String query, OutcomeCaptor captor) {
+            invocations.add(model + ":" + query);
+            captor.record(outcome(true));
+        }
+    }
+
+    /**
+     * Supplies only one configuration, which is not a comparison.
+     */
+    public static class SingleConfiguration {
+
+        static Stream<FactorArguments> onlyOne() {
+            return FactorArguments.configurations()
+                    .names("model")
+                    .values("old")
+                    .stream();
+        }
+
+        @CompareExperiment(samples = 10)
+        @FactorSource("onlyOne")
+        void compare(@Factor("model") String model, OutcomeCaptor captor) {
+            captor.record(outcome(true));
+        }
+    }
+}
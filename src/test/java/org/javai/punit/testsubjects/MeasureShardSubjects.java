@@ -0,0 +1,55 @@
+package org.javai.punit.testsubjects;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.javai.outcome.Outcome;
+import org.javai.punit.api.InputSource;
+import org.javai.punit.api.MeasureExperiment;
+import org.javai.punit.api.OutcomeCaptor;
+import org.javai.punit.api.UseCase;
+import org.javai.punit.contract.ServiceContract;
+import org.javai.punit.contract.UseCaseOutcome;
+
+/**
+ * Test subject classes for sharded {@code @MeasureExperiment}s.
+ * These classes are used by MeasureShardIntegrationTest via TestKit
+ * and are NOT meant to be run directly.
+ */
+public class MeasureShardSubjects {
+
+    // Prevent instantiation
+    private MeasureShardSubjects() {}
+
+    private static final ServiceContract<Void, String> NOT_EMPTY = ServiceContract
+            .<Void, String>define()
+            .ensure("Not empty", s -> !s.isEmpty() ? Outcome.ok() : Outcome.fail("check", "was empty"))
+            .build();
+
+    @UseCase("ShardedUseCase")
+    public static class ShardedUseCase {
+    }
+
+    /**
+     * Every third sample gets the empty input and fails, so the outcome of each sample
+     * is fixed by its number.
+     */
+    public static class Measure {
+        public static final List<String> inputs = new ArrayList<>();
+
+        static Stream<String> instructions() {
+            return Stream.of("add milk", "remove bread", "");
+        }
+
+        @MeasureExperiment(samples = 7, useCase = ShardedUseCase.class)
+        @InputSource("instructions")
+        void measure(OutcomeCaptor captor, String instruction) {
+            inputs.add(instruction);
+            captor.record(new UseCaseOutcome<>(
+                    instruction, Duration.ofMillis(1), Instant.now(), Map.of(), NOT_EMPTY, null, null, null));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.javai.punit.testsubjects;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.javai.outcome.Outcome;
+import org.javai.punit.api.MeasureExperiment;
+import org.javai.punit.api.OutcomeCaptor;
+import org.javai.punit.api.UseCase;
+import org.javai.punit.contract.ServiceContract;
+import org.javai.punit.contract.UseCaseOutcome;
+
+/**
+ * Test subject classes for skipping up-to-date {@code @MeasureExperiment}s.
+ * These classes are used by MeasureUpToDateIntegrationTest via TestKit
+ * and are NOT meant to be run directly.
+ */
+public class MeasureUpToDateSubjects {
+
+    // Prevent instantiation
+    private MeasureUpToDateSubjects() {}
+
+    private static final ServiceContract<Void, String> NOT_NULL = ServiceContract
+            .<Void, String>define()
+            .ensure("Not null", s -> s != null ? Outcome.ok() : Outcome.fail("check", "was null"))
+            .build();
+
+    @UseCase("UpToDateUseCase")
+    public static class UpToDateUseCase {
+    }
+
+    public static class Measure {
+        public static final AtomicInteger samples = new AtomicInteger();
+
+        @MeasureExperiment(samples = 3, useCase = UpToDateUseCase.class)
+        void measure(OutcomeCaptor captor) {
+            samples.incrementAndGet();
+            captor.record(new UseCaseOutcome<>(
+                    "ok", Duration.ofMillis(1), Instant.now(), Map.of(), NOT_NULL, null, null, null));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.javai.punit.testsubjects;
+
+import org.javai.punit.api.ProbabilisticTest;
+
+/**
+ * Test subject classes for OperatingCharacteristicsAnalyzerTest.
+ * These classes are only inspected, and are NOT meant to be run directly.
+ */
+public class OperatingCharacteristicsSubjects {
+
+    // Prevent instantiation
+    private OperatingCharacteristicsSubjects() {}
+
+    public static class Mixed {
+
+        @ProbabilisticTest(samples = 100, minPassRate = 0.9)
+        void fixedThreshold() {
+        }
+
+        @ProbabilisticTest(samples = 50)
+        void noThreshold() {
+        }
+
+        void notProbabilistic() {
+        }
+    }
+}
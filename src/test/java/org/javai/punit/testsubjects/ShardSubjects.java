@@ -0,0 +1,49 @@
+package org.javai.punit.testsubjects;
+
+import org.javai.punit.api.Pacing;
+import org.javai.punit.api.ProbabilisticTest;
+
+/**
+ * Test subject classes for ShardCostEstimatorTest.
+ * These classes are only inspected, and are NOT meant to be run directly.
+ */
+public class ShardSubjects {
+
+    // Prevent instantiation
+    private ShardSubjects() {}
+
+    public static class Unpaced {
+
+        @ProbabilisticTest(samples = 20, minPassRate = 0.9)
+        void first() {
+        }
+
+        @ProbabilisticTest(samples = 30, minPassRate = 0.9)
+        void second() {
+        }
+
+        void notProbabilistic() {
+        }
+    }
+
+    public static class Paced {
+
+        @ProbabilisticTest(samples = 10, minPassRate = 0.9)
+        @Pacing(minMsPerSample = 500)
+        void paced() {
+        }
+    }
+
+    public static class Budgeted {
+
+        @ProbabilisticTest(samples = 1000, minPassRate = 0.9, timeBudgetMs = 2000)
+        void budgeted() {
+        }
+    }
+
+    public static class NoProbabilisticTests {
+
+        void plain() {
+        }
+    }
+}
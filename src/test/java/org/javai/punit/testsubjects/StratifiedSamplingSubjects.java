@@ -0,0 +1,77 @@
+package org.javai.punit.testsubjects;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.javai.punit.api.InputSource;
+import org.javai.punit.api.MeasureExperiment;
+import org.javai.punit.api.OutcomeCaptor;
+import org.javai.punit.api.ProbabilisticTest;
+
+/**
+ * Test subject classes for stratified {@code @InputSource} sampling.
+ * These classes are used by InputSourceIntegrationTest via TestKit
+ * and are NOT meant to be run directly.
+ */
+public class StratifiedSamplingSubjects {
+
+    // Prevent instantiation
+    private StratifiedSamplingSubjects() {}
+
+    public record CategorisedInput(String category, String text) {}
+
+    /**
+     * "easy" inputs always pass; the "hard" stratum passes for one input and fails for the other.
+     */
+    public static class StratifiedTest {
+        public static final List<CategorisedInput> capturedInputs = new ArrayList<>();
+
+        static Stream<CategorisedInput> categorisedInputs() {
+            return Stream.of(
+                    new CategorisedInput("easy", "add milk"),
+                    new CategorisedInput("easy", "remove bread"),
+                    new CategorisedInput("hard", "clear cart"),
+                    new CategorisedInput("hard", "")
+            );
+        }
+
+        @ProbabilisticTest(samples = 20, minPassRate = 0.3)
+        @InputSource(value = "categorisedInputs", stratumKey = "category")
+        void testWithStrata(CategorisedInput input) {
+            capturedInputs.add(input);
+            if (input.text().isEmpty()) {
+                throw new AssertionError("Empty instruction");
+            }
+        }
+    }
+
+    /**
+     * Three samples cannot give two strata their pilot samples.
+     */
+    public static class UnderSampledStratifiedTest {
+
+        static Stream<CategorisedInput> categorisedInputs() {
+            return StratifiedTest.categorisedInputs();
+        }
+
+        @ProbabilisticTest(samples = 3, minPassRate = 0.3)
+        @InputSource(value = "categorisedInputs", stratumKey = "category")
+        void testWithTooFewSamples(CategorisedInput input) {
+        }
+    }
+
+    /**
+     * Stratified sampling in a MEASURE experiment, which is not supported.
+     */
+    public static class StratifiedMeasure {
+
+        static Stream<String> testInputs() {
+            return Stream.of("add milk", "remove bread");
+        }
+
+        @MeasureExperiment(samples = 4)
+        @InputSource(value = "testInputs", stratified = true)
+        void measureWithStrata(OutcomeCaptor captor, String input) {
+        }
+    }
+}